@@ -98,6 +98,30 @@ public interface SzBaseBulkLoadResult {
    */
   long trackFailedRecord(SzError error);
 
+  /**
+   * Gets the number of records that were not loaded because they were
+   * unchanged since they were last loaded.
+   *
+   * @return The number of records that were unchanged.
+   */
+  int getUnchangedRecordCount();
+
+  /**
+   * Sets the number of records that were not loaded because they were
+   * unchanged since they were last loaded.
+   *
+   * @param recordCount The number of records that were unchanged.
+   */
+  void setUnchangedRecordCount(int recordCount);
+
+  /**
+   * Increments the number of records that were not loaded because they were
+   * unchanged and returns the new count.
+   *
+   * @return The number of records that were unchanged after incrementing.
+   */
+  long incrementUnchangedRecordCount();
+
   /**
    * Gets the unmodifiable {@link List} of {@link SzBulkLoadError} instances
    * describing the top errors.
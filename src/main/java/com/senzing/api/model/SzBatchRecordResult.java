@@ -0,0 +1,225 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzBatchRecordResultImpl;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_DEFAULT;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes the result of writing a single record in a batch of record
+ * writes.
+ */
+@JsonDeserialize(using=SzBatchRecordResult.Factory.class)
+public interface SzBatchRecordResult {
+  /**
+   * Gets the zero-based index of the record in the batch.
+   *
+   * @return The zero-based index of the record in the batch.
+   */
+  int getIndex();
+
+  /**
+   * Sets the zero-based index of the record in the batch.
+   *
+   * @param index The zero-based index of the record in the batch.
+   */
+  void setIndex(int index);
+
+  /**
+   * Gets the {@link SzRecordOperation} that was performed on the record.
+   *
+   * @return The {@link SzRecordOperation} that was performed on the record.
+   */
+  @JsonInclude(NON_NULL)
+  SzRecordOperation getOperation();
+
+  /**
+   * Sets the {@link SzRecordOperation} that was performed on the record.
+   *
+   * @param operation The {@link SzRecordOperation} that was performed on the
+   *                  record.
+   */
+  void setOperation(SzRecordOperation operation);
+
+  /**
+   * Gets the data source code for the record.  This is <tt>null</tt> if the
+   * record did not specify a data source.
+   *
+   * @return The data source code for the record, or <tt>null</tt> if the
+   *         record did not specify a data source.
+   */
+  @JsonInclude(NON_NULL)
+  String getDataSource();
+
+  /**
+   * Sets the data source code for the record.
+   *
+   * @param dataSource The data source code for the record.
+   */
+  void setDataSource(String dataSource);
+
+  /**
+   * Gets the record ID of the record.  If the record ID was generated when
+   * the record was added then this is the generated record ID.  This is
+   * <tt>null</tt> if the record was not added and did not specify a record
+   * ID.
+   *
+   * @return The record ID of the record, or <tt>null</tt> if not known.
+   */
+  @JsonInclude(NON_NULL)
+  String getRecordId();
+
+  /**
+   * Sets the record ID of the record.
+   *
+   * @param recordId The record ID of the record.
+   */
+  void setRecordId(String recordId);
+
+  /**
+   * Gets the HTTP status code that would have been returned if the record
+   * had been written in its own request.
+   *
+   * @return The HTTP status code for the record.
+   */
+  int getHttpStatusCode();
+
+  /**
+   * Sets the HTTP status code that would have been returned if the record
+   * had been written in its own request.
+   *
+   * @param statusCode The HTTP status code for the record.
+   */
+  void setHttpStatusCode(int statusCode);
+
+  /**
+   * Checks if the record was not written because it is unchanged since it
+   * was last loaded.  Such a record succeeded but did not affect any
+   * entities.  This is omitted from the JSON if <tt>false</tt>.
+   *
+   * @return <tt>true</tt> if the record was skipped because it was
+   *         unchanged, otherwise <tt>false</tt>.
+   */
+  @JsonInclude(NON_DEFAULT)
+  boolean isUnchanged();
+
+  /**
+   * Sets whether the record was not written because it is unchanged since
+   * it was last loaded.
+   *
+   * @param unchanged <tt>true</tt> if the record was skipped because it was
+   *                  unchanged, otherwise <tt>false</tt>.
+   */
+  void setUnchanged(boolean unchanged);
+
+  /**
+   * Gets the error message describing why the record was not written.  This
+   * is <tt>null</tt> if the record was written successfully.
+   *
+   * @return The error message, or <tt>null</tt> if the record was written
+   *         successfully.
+   */
+  @JsonInclude(NON_NULL)
+  String getErrorMessage();
+
+  /**
+   * Sets the error message describing why the record was not written.
+   *
+   * @param errorMessage The error message, or <tt>null</tt> if the record was
+   *                     written successfully.
+   */
+  void setErrorMessage(String errorMessage);
+
+  /**
+   * Gets the {@link SzResolutionInfo} describing the resolution of the
+   * record.  This is <tt>null</tt> if the info was not requested or the
+   * record was not written.
+   *
+   * @return The {@link SzResolutionInfo} describing the resolution of the
+   *         record, or <tt>null</tt> if not available.
+   */
+  @JsonInclude(NON_NULL)
+  SzResolutionInfo getInfo();
+
+  /**
+   * Sets the {@link SzResolutionInfo} describing the resolution of the
+   * record.
+   *
+   * @param info The {@link SzResolutionInfo} describing the resolution of the
+   *             record, or <tt>null</tt> if not available.
+   */
+  void setInfo(SzResolutionInfo info);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzBatchRecordResult}.
+   */
+  interface Provider extends ModelProvider<SzBatchRecordResult> {
+    /**
+     * Creates a new uninitialized instance of {@link SzBatchRecordResult}.
+     *
+     * @return The new instance of {@link SzBatchRecordResult}.
+     */
+    SzBatchRecordResult create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzBatchRecordResult} that produces instances of {@link
+   * SzBatchRecordResultImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzBatchRecordResult>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzBatchRecordResult.class, SzBatchRecordResultImpl.class);
+    }
+
+    @Override
+    public SzBatchRecordResult create() {
+      return new SzBatchRecordResultImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzBatchRecordResult}.
+   */
+  class Factory extends ModelFactory<SzBatchRecordResult, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzBatchRecordResult.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzBatchRecordResult}.
+     *
+     * @return The new instance of {@link SzBatchRecordResult}.
+     */
+    public SzBatchRecordResult create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
@@ -60,6 +60,72 @@ public interface SzBulkDataAnalysis {
    */
   void setMediaType(String mediaType);
 
+  /**
+   * Gets the {@link SzBulkDataAnalysisMode} describing how the bulk data was
+   * analyzed.  This returns <tt>null</tt> if the analysis mode was not
+   * explicitly specified and the default of {@link
+   * SzBulkDataAnalysisMode#FULL} was used.
+   *
+   * @return The {@link SzBulkDataAnalysisMode} describing how the bulk data
+   *         was analyzed, or <tt>null</tt> if the default was used.
+   */
+  @JsonInclude(NON_NULL)
+  SzBulkDataAnalysisMode getAnalysisMode();
+
+  /**
+   * Sets the {@link SzBulkDataAnalysisMode} describing how the bulk data was
+   * analyzed.
+   *
+   * @param analysisMode The {@link SzBulkDataAnalysisMode} describing how the
+   *                     bulk data was analyzed.
+   */
+  void setAnalysisMode(SzBulkDataAnalysisMode analysisMode);
+
+  /**
+   * Gets the estimated (or known) total number of records in the bulk data
+   * when only a sample of the records was analyzed.  In that case the record
+   * counts of this instance describe only the sampled records.  This returns
+   * <tt>null</tt> if every record was analyzed.
+   *
+   * @return The estimated total number of records in the bulk data, or
+   *         <tt>null</tt> if every record was analyzed.
+   */
+  @JsonInclude(NON_NULL)
+  Long getEstimatedRecordCount();
+
+  /**
+   * Sets the estimated (or known) total number of records in the bulk data
+   * when only a sample of the records was analyzed.
+   *
+   * @param recordCount The estimated total number of records in the bulk
+   *                    data, or <tt>null</tt> if every record was analyzed.
+   */
+  void setEstimatedRecordCount(Long recordCount);
+
+  /**
+   * Gets the largest margin of error (at a 95% confidence level) for the
+   * proportion of records belonging to any one data source when only a
+   * sample of the records was analyzed.  The margin of error is expressed as
+   * a fraction between zero (0.0) and one (1.0).  This returns <tt>null</tt>
+   * if every record was analyzed.
+   *
+   * @return The largest margin of error for the data source proportions, or
+   *         <tt>null</tt> if every record was analyzed.
+   */
+  @JsonInclude(NON_NULL)
+  Double getMarginOfError();
+
+  /**
+   * Sets the largest margin of error (at a 95% confidence level) for the
+   * proportion of records belonging to any one data source when only a
+   * sample of the records was analyzed.
+   *
+   * @param marginOfError The largest margin of error for the data source
+   *                      proportions, or <tt>null</tt> if every record was
+   *                      analyzed.
+   */
+  void setMarginOfError(Double marginOfError);
+
   /**
    * Return the number of records in the bulk data set.
    *
@@ -216,6 +282,16 @@ public interface SzBulkDataAnalysis {
                     String   dataSource,
                     boolean  withRecordId);
 
+  /**
+   * Utility method for merging the record counts from the specified {@link
+   * SzBulkDataAnalysis} (typically describing a partition of the same bulk
+   * data) into this instance.  Only the record counts are merged.
+   *
+   * @param analysis The {@link SzBulkDataAnalysis} whose record counts should
+   *                 be merged into this instance.
+   */
+  void mergeAnalysis(SzBulkDataAnalysis analysis);
+
   /**
    * A {@link ModelProvider} for instances of {@link SzBulkDataAnalysis}.
    */
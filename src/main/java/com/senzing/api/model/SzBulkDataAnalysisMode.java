@@ -0,0 +1,46 @@
+package com.senzing.api.model;
+
+/**
+ * Enumerates the modes by which bulk data can be analyzed.
+ */
+public enum SzBulkDataAnalysisMode {
+  /**
+   * Every record in the bulk data is read and analyzed sequentially.  This is
+   * the default mode.
+   */
+  FULL,
+
+  /**
+   * Every record in the bulk data is analyzed, but JSON-lines and CSV data is
+   * partitioned into batches that are analyzed concurrently and then merged.
+   * JSON array data cannot be partitioned and is analyzed using {@link
+   * #FULL} mode instead.
+   */
+  PARALLEL,
+
+  /**
+   * Only the first records of the bulk data (up to the sample size) are
+   * analyzed and the total record count is estimated from the number of
+   * bytes occupied by those records.  This is the fastest mode, but the
+   * sample is biased towards the ordering of the bulk data so no margin of
+   * error is reported for it.
+   */
+  FIRST_RECORDS,
+
+  /**
+   * The records of JSON-lines and CSV data are scanned without being parsed
+   * and a uniform random sample (up to the sample size) is retained and then
+   * analyzed.  The total record count is exact.  JSON array data is analyzed
+   * using {@link #FULL} mode instead.
+   */
+  RESERVOIR,
+
+  /**
+   * The records of JSON-lines and CSV data are sampled from evenly spaced byte
+   * ranges of the bulk data and the total record count is estimated from the
+   * average number of bytes per sampled record.  JSON array data and data
+   * using a character encoding that is not ASCII-compatible are analyzed
+   * using {@link #FIRST_RECORDS} mode instead.
+   */
+  BYTE_RANGES;
+}
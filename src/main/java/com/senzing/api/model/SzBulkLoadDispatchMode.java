@@ -0,0 +1,25 @@
+package com.senzing.api.model;
+
+/**
+ * Enumerates the modes by which the records of a bulk load are dispatched to
+ * the threads that load them.
+ */
+public enum SzBulkLoadDispatchMode {
+  /**
+   * Each record is loaded by whichever thread is free.  This is the default
+   * mode and gives the best throughput when the records are unrelated.
+   */
+  ANY_WORKER,
+
+  /**
+   * Each record is dispatched to a fixed partition by hashing its affinity
+   * key, which is the combination of its <tt>"DATA_SOURCE"</tt> and
+   * <tt>"RECORD_ID"</tt> unless the client specifies a record property to use
+   * instead.  Records with the same key are loaded one at a time in the order
+   * they appear while records in different partitions are loaded in
+   * parallel, which avoids contention when the bulk data contains multiple
+   * versions of the same record or clusters of related records.  Records
+   * with no affinity key are spread evenly across the partitions.
+   */
+  PARTITIONED;
+}
@@ -0,0 +1,145 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzBulkLoadEntryResultImpl;
+
+/**
+ * Describes the result of loading the bulk data records from a single entry
+ * of an archive (e.g.: a file within a ZIP archive).
+ */
+@JsonDeserialize(using=SzBulkLoadEntryResult.Factory.class)
+public interface SzBulkLoadEntryResult {
+  /**
+   * Gets the name of the archive entry.
+   *
+   * @return The name of the archive entry.
+   */
+  String getEntryName();
+
+  /**
+   * Sets the name of the archive entry.
+   *
+   * @param entryName The name of the archive entry.
+   */
+  void setEntryName(String entryName);
+
+  /**
+   * Gets the {@link SzBulkLoadResult} describing the result of loading the
+   * records from the archive entry.
+   *
+   * @return The {@link SzBulkLoadResult} for the archive entry.
+   */
+  SzBulkLoadResult getResult();
+
+  /**
+   * Sets the {@link SzBulkLoadResult} describing the result of loading the
+   * records from the archive entry.
+   *
+   * @param result The {@link SzBulkLoadResult} for the archive entry.
+   */
+  void setResult(SzBulkLoadResult result);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzBulkLoadEntryResult}.
+   */
+  interface Provider extends ModelProvider<SzBulkLoadEntryResult> {
+    /**
+     * Creates a new instance of {@link SzBulkLoadEntryResult}.
+     *
+     * @return The new instance of {@link SzBulkLoadEntryResult}
+     */
+    SzBulkLoadEntryResult create();
+
+    /**
+     * Creates a new instance of {@link SzBulkLoadEntryResult} with the
+     * specified entry name and {@link SzBulkLoadResult}.
+     *
+     * @param entryName The name of the archive entry.
+     * @param result    The {@link SzBulkLoadResult} for the archive entry.
+     *
+     * @return The new instance of {@link SzBulkLoadEntryResult}
+     */
+    SzBulkLoadEntryResult create(String entryName, SzBulkLoadResult result);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzBulkLoadEntryResult} that produces instances of {@link
+   * SzBulkLoadEntryResultImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzBulkLoadEntryResult>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzBulkLoadEntryResult.class, SzBulkLoadEntryResultImpl.class);
+    }
+
+    @Override
+    public SzBulkLoadEntryResult create() {
+      return new SzBulkLoadEntryResultImpl();
+    }
+
+    @Override
+    public SzBulkLoadEntryResult create(String           entryName,
+                                        SzBulkLoadResult result)
+    {
+      return new SzBulkLoadEntryResultImpl(entryName, result);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzBulkLoadEntryResult}.
+   */
+  class Factory extends ModelFactory<SzBulkLoadEntryResult, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzBulkLoadEntryResult.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new instance of {@link SzBulkLoadEntryResult}.
+     *
+     * @return The new instance of {@link SzBulkLoadEntryResult}.
+     */
+    public SzBulkLoadEntryResult create() {
+      return this.getProvider().create();
+    }
+
+    /**
+     * Creates a new instance of {@link SzBulkLoadEntryResult} with the
+     * specified entry name and {@link SzBulkLoadResult}.
+     *
+     * @param entryName The name of the archive entry.
+     * @param result    The {@link SzBulkLoadResult} for the archive entry.
+     *
+     * @return The new instance of {@link SzBulkLoadEntryResult}.
+     */
+    public SzBulkLoadEntryResult create(String           entryName,
+                                        SzBulkLoadResult result)
+    {
+      return this.getProvider().create(entryName, result);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
@@ -0,0 +1,224 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzBulkLoadJobImpl;
+
+import java.util.Date;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes an asynchronous bulk-load job along with the {@link
+ * SzBulkLoadResult} describing its progress or its final result.
+ */
+@JsonDeserialize(using=SzBulkLoadJob.Factory.class)
+public interface SzBulkLoadJob {
+  /**
+   * Gets the unique ID identifying the job.
+   *
+   * @return The unique ID identifying the job.
+   */
+  String getJobId();
+
+  /**
+   * Sets the unique ID identifying the job.
+   *
+   * @param jobId The unique ID identifying the job.
+   */
+  void setJobId(String jobId);
+
+  /**
+   * Gets the load ID with which the records are loaded.
+   *
+   * @return The load ID with which the records are loaded.
+   */
+  String getLoadId();
+
+  /**
+   * Sets the load ID with which the records are loaded.
+   *
+   * @param loadId The load ID with which the records are loaded.
+   */
+  void setLoadId(String loadId);
+
+  /**
+   * Gets the {@link SzBulkLoadJobState} describing the state of the job.
+   *
+   * @return The {@link SzBulkLoadJobState} describing the state of the job.
+   */
+  SzBulkLoadJobState getState();
+
+  /**
+   * Sets the {@link SzBulkLoadJobState} describing the state of the job.
+   *
+   * @param state The {@link SzBulkLoadJobState} describing the state of the
+   *              job.
+   */
+  void setState(SzBulkLoadJobState state);
+
+  /**
+   * Gets the timestamp when the job was submitted.
+   *
+   * @return The timestamp when the job was submitted.
+   */
+  @JsonFormat(shape = JsonFormat.Shape.STRING,
+              pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+              locale = "en_GB")
+  Date getSubmittedOn();
+
+  /**
+   * Sets the timestamp when the job was submitted.
+   *
+   * @param timestamp The timestamp when the job was submitted.
+   */
+  void setSubmittedOn(Date timestamp);
+
+  /**
+   * Gets the timestamp when the job started running.  This returns
+   * <tt>null</tt> if the job has not yet started.
+   *
+   * @return The timestamp when the job started running, or <tt>null</tt> if
+   *         the job has not yet started.
+   */
+  @JsonInclude(NON_NULL)
+  @JsonFormat(shape = JsonFormat.Shape.STRING,
+              pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+              locale = "en_GB")
+  Date getStartedOn();
+
+  /**
+   * Sets the timestamp when the job started running.
+   *
+   * @param timestamp The timestamp when the job started running, or
+   *                  <tt>null</tt> if the job has not yet started.
+   */
+  void setStartedOn(Date timestamp);
+
+  /**
+   * Gets the timestamp when the job finished.  This returns <tt>null</tt> if
+   * the job has not yet finished.
+   *
+   * @return The timestamp when the job finished, or <tt>null</tt> if the job
+   *         has not yet finished.
+   */
+  @JsonInclude(NON_NULL)
+  @JsonFormat(shape = JsonFormat.Shape.STRING,
+              pattern = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'",
+              locale = "en_GB")
+  Date getFinishedOn();
+
+  /**
+   * Sets the timestamp when the job finished.
+   *
+   * @param timestamp The timestamp when the job finished, or <tt>null</tt> if
+   *                  the job has not yet finished.
+   */
+  void setFinishedOn(Date timestamp);
+
+  /**
+   * Gets the error message describing why the job was aborted if it could
+   * not be run to completion due to a failure.  This returns <tt>null</tt>
+   * if there was no such failure.
+   *
+   * @return The error message describing the failure, or <tt>null</tt> if
+   *         there was no failure.
+   */
+  @JsonInclude(NON_NULL)
+  String getErrorMessage();
+
+  /**
+   * Sets the error message describing why the job was aborted if it could
+   * not be run to completion due to a failure.
+   *
+   * @param errorMessage The error message describing the failure, or
+   *                     <tt>null</tt> if there was no failure.
+   */
+  void setErrorMessage(String errorMessage);
+
+  /**
+   * Gets the {@link SzBulkLoadResult} describing the progress of the job or
+   * its final result if the job has finished.
+   *
+   * @return The {@link SzBulkLoadResult} for the job.
+   */
+  SzBulkLoadResult getResult();
+
+  /**
+   * Sets the {@link SzBulkLoadResult} describing the progress of the job or
+   * its final result if the job has finished.
+   *
+   * @param result The {@link SzBulkLoadResult} for the job.
+   */
+  void setResult(SzBulkLoadResult result);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzBulkLoadJob}.
+   */
+  interface Provider extends ModelProvider<SzBulkLoadJob> {
+    /**
+     * Creates a new uninitialized instance of {@link SzBulkLoadJob}.
+     *
+     * @return The new instance of {@link SzBulkLoadJob}.
+     */
+    SzBulkLoadJob create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzBulkLoadJob} that produces instances of {@link SzBulkLoadJobImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzBulkLoadJob>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzBulkLoadJob.class, SzBulkLoadJobImpl.class);
+    }
+
+    @Override
+    public SzBulkLoadJob create() {
+      return new SzBulkLoadJobImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzBulkLoadJob}.
+   */
+  class Factory extends ModelFactory<SzBulkLoadJob, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzBulkLoadJob.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzBulkLoadJob}.
+     *
+     * @return The new instance of {@link SzBulkLoadJob}.
+     */
+    public SzBulkLoadJob create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
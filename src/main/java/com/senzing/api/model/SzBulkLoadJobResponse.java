@@ -0,0 +1,146 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzBulkLoadJobResponseImpl;
+
+/**
+ * A response object that describes an asynchronous bulk-load job.
+ */
+@JsonDeserialize(using = SzBulkLoadJobResponse.Factory.class)
+public interface SzBulkLoadJobResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzBulkLoadJob}.
+   *
+   * @return The data associated with this response.
+   */
+  SzBulkLoadJob getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzBulkLoadJob}.
+   *
+   * @param job   The {@link SzBulkLoadJob} describing the job.
+   */
+  void setData(SzBulkLoadJob job);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link
+   * SzBulkLoadJobResponse}.
+   */
+  interface Provider extends ModelProvider<SzBulkLoadJobResponse> {
+    /**
+     * Creates an instance of {@link SzBulkLoadJobResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzBulkLoadJobResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzBulkLoadJobResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzBulkLoadJob} describing the job.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     *
+     * @param job   The {@link SzBulkLoadJob} describing the job.
+     */
+    SzBulkLoadJobResponse create(SzMeta meta,
+        SzLinks links,
+        SzBulkLoadJob job);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzBulkLoadJobResponse} that produces instances of
+   * {@link SzBulkLoadJobResponseImpl}.
+   */
+  class DefaultProvider
+      extends AbstractModelProvider<SzBulkLoadJobResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzBulkLoadJobResponse.class,
+          SzBulkLoadJobResponseImpl.class);
+    }
+
+    @Override
+    public SzBulkLoadJobResponse create(SzMeta meta, SzLinks links) {
+      return new SzBulkLoadJobResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzBulkLoadJobResponse create(SzMeta meta,
+        SzLinks links,
+        SzBulkLoadJob job) {
+      return new SzBulkLoadJobResponseImpl(meta, links, job);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzBulkLoadJobResponse}.
+   */
+  class Factory extends ModelFactory<SzBulkLoadJobResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzBulkLoadJobResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzBulkLoadJobResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzBulkLoadJobResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzBulkLoadJobResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzBulkLoadJob} describing the job.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     *
+     * @param job   The {@link SzBulkLoadJob} describing the job.
+     */
+    public SzBulkLoadJobResponse create(SzMeta meta,
+        SzLinks links,
+        SzBulkLoadJob job) {
+      return this.getProvider().create(meta, links, job);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
@@ -0,0 +1,42 @@
+package com.senzing.api.model;
+
+/**
+ * The state of an asynchronous bulk-load job.
+ */
+public enum SzBulkLoadJobState {
+  /**
+   * The job has been submitted and is waiting to be run.
+   */
+  QUEUED,
+
+  /**
+   * The job is running.
+   */
+  RUNNING,
+
+  /**
+   * The job ran to completion.
+   */
+  COMPLETED,
+
+  /**
+   * The job was aborted because the maximum number of failures was reached
+   * or because the bulk data could not be read.
+   */
+  ABORTED,
+
+  /**
+   * The job was cancelled before it completed.
+   */
+  CANCELLED;
+
+  /**
+   * Checks if this state indicates the job has finished and will not change
+   * state again.
+   *
+   * @return <tt>true</tt> if the job has finished, otherwise <tt>false</tt>.
+   */
+  public boolean isFinished() {
+    return (this != QUEUED && this != RUNNING);
+  }
+}
@@ -0,0 +1,126 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzBulkLoadPartitionImpl;
+
+/**
+ * Describes the state of a single partition when the records of a bulk load
+ * are dispatched using {@link SzBulkLoadDispatchMode#PARTITIONED}.
+ */
+@JsonDeserialize(using=SzBulkLoadPartition.Factory.class)
+public interface SzBulkLoadPartition {
+  /**
+   * Gets the zero-based index of the partition.
+   *
+   * @return The zero-based index of the partition.
+   */
+  int getPartition();
+
+  /**
+   * Sets the zero-based index of the partition.
+   *
+   * @param partition The zero-based index of the partition.
+   */
+  void setPartition(int partition);
+
+  /**
+   * Gets the number of records dispatched to the partition.
+   *
+   * @return The number of records dispatched to the partition.
+   */
+  long getRecordCount();
+
+  /**
+   * Sets the number of records dispatched to the partition.
+   *
+   * @param recordCount The number of records dispatched to the partition.
+   */
+  void setRecordCount(long recordCount);
+
+  /**
+   * Gets the number of records dispatched to the partition that are waiting
+   * to be loaded.
+   *
+   * @return The number of records waiting to be loaded.
+   */
+  int getQueueDepth();
+
+  /**
+   * Sets the number of records dispatched to the partition that are waiting
+   * to be loaded.
+   *
+   * @param queueDepth The number of records waiting to be loaded.
+   */
+  void setQueueDepth(int queueDepth);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzBulkLoadPartition}.
+   */
+  interface Provider extends ModelProvider<SzBulkLoadPartition> {
+    /**
+     * Creates a new instance of {@link SzBulkLoadPartition}.
+     *
+     * @return The new instance of {@link SzBulkLoadPartition}
+     */
+    SzBulkLoadPartition create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzBulkLoadPartition} that produces instances of {@link
+   * SzBulkLoadPartitionImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzBulkLoadPartition>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzBulkLoadPartition.class, SzBulkLoadPartitionImpl.class);
+    }
+
+    @Override
+    public SzBulkLoadPartition create() {
+      return new SzBulkLoadPartitionImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzBulkLoadPartition}.
+   */
+  class Factory extends ModelFactory<SzBulkLoadPartition, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzBulkLoadPartition.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new instance of {@link SzBulkLoadPartition}.
+     *
+     * @return The new instance of {@link SzBulkLoadPartition}.
+     */
+    public SzBulkLoadPartition create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
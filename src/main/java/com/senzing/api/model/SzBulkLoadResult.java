@@ -1,10 +1,13 @@
 package com.senzing.api.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.senzing.api.model.impl.SzBulkLoadResultImpl;
 import com.senzing.g2.engine.G2Fallible;
 import java.util.*;
 
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_EMPTY;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
 import static com.senzing.api.model.SzBulkDataStatus.*;
 
 /**
@@ -73,6 +76,77 @@ public interface SzBulkLoadResult extends SzBaseBulkLoadResult {
    */
   List<SzDataSourceBulkLoadResult> getResultsByDataSource();
 
+  /**
+   * Gets the list of {@link SzBulkLoadEntryResult} instances describing the
+   * results for each entry when the bulk data is an archive (e.g.: a ZIP
+   * archive) of multiple files.  This is empty if the bulk data is not an
+   * archive.
+   *
+   * @return A {@link List} of {@link SzBulkLoadEntryResult} instances
+   *         describing the results for each archive entry.
+   */
+  @JsonInclude(NON_EMPTY)
+  List<SzBulkLoadEntryResult> getResultsByEntry();
+
+  /**
+   * Gets the list of {@link SzBulkLoadPartition} instances describing the
+   * state of each partition when the records are dispatched using {@link
+   * SzBulkLoadDispatchMode#PARTITIONED}.  This is empty for other dispatch
+   * modes.
+   *
+   * @return A {@link List} of {@link SzBulkLoadPartition} instances
+   *         describing the state of each partition.
+   */
+  @JsonInclude(NON_EMPTY)
+  List<SzBulkLoadPartition> getPartitions();
+
+  /**
+   * Gets the skew of the {@linkplain #getPartitions() partitions} as the
+   * ratio of the largest number of records dispatched to a partition to the
+   * average number of records dispatched to each partition.  A skew of
+   * <tt>1.0</tt> indicates the records are evenly spread.  This returns
+   * <tt>null</tt> if there are no partitions or no records have been
+   * dispatched.
+   *
+   * @return The skew of the partitions, or <tt>null</tt> if not applicable.
+   */
+  @JsonInclude(NON_NULL)
+  Double getPartitionSkew();
+
+  /**
+   * Gets the total number of milliseconds that records of the bulk load
+   * waited to be admitted by the configured load throttle budgets.  This
+   * returns <tt>null</tt> if writing records is not throttled.
+   *
+   * @return The total number of milliseconds spent waiting on the load
+   *         throttle, or <tt>null</tt> if not throttled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getThrottleWaitTime();
+
+  /**
+   * Gets the rate at which records of the bulk load have been handled, in
+   * records per second, measured since the previous progress update.  This
+   * returns <tt>null</tt> if writing records is not throttled.
+   *
+   * @return The current rate in records per second, or <tt>null</tt> if not
+   *         throttled.
+   */
+  @JsonInclude(NON_NULL)
+  Double getCurrentRate();
+
+  /**
+   * Gets the number of records that were read and dispatched but then
+   * discarded without being loaded because the bulk load was aborted.  These
+   * records are not included in any of the other record counts.  This
+   * returns <tt>null</tt> if no records were discarded.
+   *
+   * @return The number of records that were discarded, or <tt>null</tt> if
+   *         none.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getDiscardedRecordCount();
+
   /**
    * Utility method for tracking the successful loading of a record with the
    * specified non-null data source.
@@ -117,6 +191,16 @@ public interface SzBulkLoadResult extends SzBaseBulkLoadResult {
    */
   void trackFailedRecord(String dataSource, SzError error);
 
+  /**
+   * Utility method for tracking a record with the specified non-null data
+   * source that was not loaded because it was unchanged since it was last
+   * loaded.
+   *
+   * @param dataSource The non-null data source for the record.
+   * @throws NullPointerException If the specified parameter is <tt>null</tt>.
+   */
+  void trackUnchangedRecord(String dataSource);
+
   /**
    * Tracks the occurrence of an incomplete record.
    */
@@ -0,0 +1,145 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzEntityExportResponseImpl;
+
+/**
+ * A response object that describes the progress of an entity export.
+ */
+@JsonDeserialize(using = SzEntityExportResponse.Factory.class)
+public interface SzEntityExportResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzEntityExportStatus}.
+   *
+   * @return The data associated with this response.
+   */
+  SzEntityExportStatus getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzEntityExportStatus}.
+   *
+   * @param exportStatus The {@link SzEntityExportStatus} describing the export.
+   */
+  void setData(SzEntityExportStatus exportStatus);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzEntityExportResponse}.
+   */
+  interface Provider extends ModelProvider<SzEntityExportResponse> {
+    /**
+     * Creates an instance of {@link SzEntityExportResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzEntityExportResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzEntityExportResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzEntityExportStatus} describing the export.
+     *
+     * @param meta         The response meta data.
+     *
+     * @param links        The links for the response.
+     *
+     * @param exportStatus The {@link SzEntityExportStatus} describing the export.
+     */
+    SzEntityExportResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityExportStatus exportStatus);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzEntityExportResponse} that produces instances of
+   * {@link SzEntityExportResponseImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzEntityExportResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzEntityExportResponse.class,
+          SzEntityExportResponseImpl.class);
+    }
+
+    @Override
+    public SzEntityExportResponse create(SzMeta meta, SzLinks links) {
+      return new SzEntityExportResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzEntityExportResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityExportStatus exportStatus) {
+      return new SzEntityExportResponseImpl(meta, links, exportStatus);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzEntityExportResponse}.
+   */
+  class Factory extends ModelFactory<SzEntityExportResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzEntityExportResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzEntityExportResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzEntityExportResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzEntityExportResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzEntityExportStatus} describing the export.
+     *
+     * @param meta         The response meta data.
+     *
+     * @param links        The links for the response.
+     *
+     * @param exportStatus The {@link SzEntityExportStatus} describing the
+     *                     export.
+     */
+    public SzEntityExportResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityExportStatus exportStatus) {
+      return this.getProvider().create(meta, links, exportStatus);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
@@ -0,0 +1,178 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzEntityExportStatusImpl;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes the progress of an export of the resolved entities (or of a
+ * single partition of the resolved entities) along with the cursor from which
+ * the export can be resumed.
+ */
+@JsonDeserialize(using=SzEntityExportStatus.Factory.class)
+public interface SzEntityExportStatus {
+  /**
+   * Gets the {@linkplain SzBulkDataStatus status} of the export.
+   *
+   * @return The status of the export.
+   */
+  SzBulkDataStatus getStatus();
+
+  /**
+   * Sets the {@linkplain SzBulkDataStatus status} of the export.
+   *
+   * @param status The status of the export.
+   */
+  void setStatus(SzBulkDataStatus status);
+
+  /**
+   * Gets the zero-based index of the partition being exported.
+   *
+   * @return The zero-based index of the partition being exported.
+   */
+  int getPartition();
+
+  /**
+   * Sets the zero-based index of the partition being exported.
+   *
+   * @param partition The zero-based index of the partition being exported.
+   */
+  void setPartition(int partition);
+
+  /**
+   * Gets the total number of partitions into which the entities are divided.
+   * This is one (1) if the export is not partitioned.
+   *
+   * @return The total number of partitions.
+   */
+  int getPartitionCount();
+
+  /**
+   * Sets the total number of partitions into which the entities are divided.
+   *
+   * @param partitionCount The total number of partitions.
+   */
+  void setPartitionCount(int partitionCount);
+
+  /**
+   * Gets the number of entities that have been read from the export,
+   * including those that were skipped because they belong to another
+   * partition or precede the resume cursor.
+   *
+   * @return The number of entities read from the export.
+   */
+  long getScannedEntityCount();
+
+  /**
+   * Sets the number of entities that have been read from the export.
+   *
+   * @param count The number of entities read from the export.
+   */
+  void setScannedEntityCount(long count);
+
+  /**
+   * Gets the number of entities that have been sent to the client.
+   *
+   * @return The number of entities sent to the client.
+   */
+  long getExportedEntityCount();
+
+  /**
+   * Sets the number of entities that have been sent to the client.
+   *
+   * @param count The number of entities sent to the client.
+   */
+  void setExportedEntityCount(long count);
+
+  /**
+   * Gets the opaque cursor from which the export can be resumed after the
+   * last entity that was sent to the client.
+   *
+   * @return The opaque cursor from which the export can be resumed, or
+   *         <tt>null</tt> if not known.
+   */
+  @JsonInclude(NON_NULL)
+  String getCursor();
+
+  /**
+   * Sets the opaque cursor from which the export can be resumed after the
+   * last entity that was sent to the client.
+   *
+   * @param cursor The opaque cursor from which the export can be resumed.
+   */
+  void setCursor(String cursor);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzEntityExportStatus}.
+   */
+  interface Provider extends ModelProvider<SzEntityExportStatus> {
+    /**
+     * Creates a new instance of {@link SzEntityExportStatus}.
+     *
+     * @return The new instance of {@link SzEntityExportStatus}
+     */
+    SzEntityExportStatus create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzEntityExportStatus} that produces instances of {@link
+   * SzEntityExportStatusImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzEntityExportStatus>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzEntityExportStatus.class, SzEntityExportStatusImpl.class);
+    }
+
+    @Override
+    public SzEntityExportStatus create() {
+      return new SzEntityExportStatusImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzEntityExportStatus}.
+   */
+  class Factory extends ModelFactory<SzEntityExportStatus, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzEntityExportStatus.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new instance of {@link SzEntityExportStatus}.
+     *
+     * @return The new instance of {@link SzEntityExportStatus}.
+     */
+    public SzEntityExportStatus create()
+    {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
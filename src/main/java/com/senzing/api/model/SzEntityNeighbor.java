@@ -0,0 +1,162 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzEntityNeighborImpl;
+
+/**
+ * Describes an entity that is within a number of degrees of separation of
+ * another entity along with the relationship through which it was reached.
+ */
+@JsonDeserialize(using=SzEntityNeighbor.Factory.class)
+public interface SzEntityNeighbor {
+  /**
+   * Gets the entity ID of the neighboring entity.
+   *
+   * @return The entity ID of the neighboring entity.
+   */
+  Long getEntityId();
+
+  /**
+   * Sets the entity ID of the neighboring entity.
+   *
+   * @param entityId The entity ID of the neighboring entity.
+   */
+  void setEntityId(Long entityId);
+
+  /**
+   * Gets the number of degrees of separation between the neighboring entity
+   * and the subject entity.
+   *
+   * @return The number of degrees of separation.
+   */
+  int getDegrees();
+
+  /**
+   * Sets the number of degrees of separation between the neighboring entity
+   * and the subject entity.
+   *
+   * @param degrees The number of degrees of separation.
+   */
+  void setDegrees(int degrees);
+
+  /**
+   * Gets the entity ID of the entity through which the neighboring entity
+   * was reached.  This is the subject entity for first-degree neighbors.
+   *
+   * @return The entity ID of the entity through which the neighboring entity
+   *         was reached.
+   */
+  Long getViaEntityId();
+
+  /**
+   * Sets the entity ID of the entity through which the neighboring entity
+   * was reached.
+   *
+   * @param viaEntityId The entity ID of the entity through which the
+   *                    neighboring entity was reached.
+   */
+  void setViaEntityId(Long viaEntityId);
+
+  /**
+   * Gets the match level of the relationship through which the neighboring
+   * entity was reached.
+   *
+   * @return The match level of the relationship.
+   */
+  Integer getMatchLevel();
+
+  /**
+   * Sets the match level of the relationship through which the neighboring
+   * entity was reached.
+   *
+   * @param matchLevel The match level of the relationship.
+   */
+  void setMatchLevel(Integer matchLevel);
+
+  /**
+   * Gets the {@link SzRelationshipType} of the relationship through which the
+   * neighboring entity was reached.
+   *
+   * @return The {@link SzRelationshipType} of the relationship.
+   */
+  SzRelationshipType getRelationType();
+
+  /**
+   * Sets the {@link SzRelationshipType} of the relationship through which the
+   * neighboring entity was reached.
+   *
+   * @param relationType The {@link SzRelationshipType} of the relationship.
+   */
+  void setRelationType(SzRelationshipType relationType);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzEntityNeighbor}.
+   */
+  interface Provider extends ModelProvider<SzEntityNeighbor> {
+    /**
+     * Creates a new uninitialized instance of {@link SzEntityNeighbor}.
+     *
+     * @return The new instance of {@link SzEntityNeighbor}.
+     */
+    SzEntityNeighbor create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzEntityNeighbor} that produces instances of {@link
+   * SzEntityNeighborImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzEntityNeighbor>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzEntityNeighbor.class, SzEntityNeighborImpl.class);
+    }
+
+    @Override
+    public SzEntityNeighbor create() {
+      return new SzEntityNeighborImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzEntityNeighbor}.
+   */
+  class Factory extends ModelFactory<SzEntityNeighbor, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzEntityNeighbor.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzEntityNeighbor}.
+     *
+     * @return The new instance of {@link SzEntityNeighbor}.
+     */
+    public SzEntityNeighbor create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
@@ -0,0 +1,230 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzEntityNeighborhoodImpl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes the entities within a number of degrees of separation of a
+ * subject entity along with the number of entities found at each degree.
+ */
+@JsonDeserialize(using=SzEntityNeighborhood.Factory.class)
+public interface SzEntityNeighborhood {
+  /**
+   * Gets the entity ID of the subject entity.
+   *
+   * @return The entity ID of the subject entity.
+   */
+  Long getEntityId();
+
+  /**
+   * Sets the entity ID of the subject entity.
+   *
+   * @param entityId The entity ID of the subject entity.
+   */
+  void setEntityId(Long entityId);
+
+  /**
+   * Gets the maximum number of degrees of separation that were searched.
+   *
+   * @return The maximum number of degrees of separation that were searched.
+   */
+  int getMaxDegrees();
+
+  /**
+   * Sets the maximum number of degrees of separation that were searched.
+   *
+   * @param maxDegrees The maximum number of degrees of separation that were
+   *                   searched.
+   */
+  void setMaxDegrees(int maxDegrees);
+
+  /**
+   * Gets the unmodifiable {@link Map} of the number of degrees of separation
+   * to the number of entities found at that degree.
+   *
+   * @return The unmodifiable {@link Map} of the number of degrees of
+   *         separation to the number of entities found at that degree.
+   */
+  Map<Integer, Integer> getDegreeCounts();
+
+  /**
+   * Sets the number of entities found at the specified number of degrees of
+   * separation.
+   *
+   * @param degrees The number of degrees of separation.
+   * @param count The number of entities found at that degree.
+   */
+  void setDegreeCount(int degrees, int count);
+
+  /**
+   * Gets the unmodifiable {@link List} of {@link SzEntityNeighbor} instances
+   * describing the neighboring entities.  This is <tt>null</tt> if only the
+   * counts were requested.
+   *
+   * @return The unmodifiable {@link List} of {@link SzEntityNeighbor}
+   *         instances, or <tt>null</tt> if only the counts were requested.
+   */
+  @JsonInclude(NON_NULL)
+  List<SzEntityNeighbor> getNeighbors();
+
+  /**
+   * Sets the neighboring entities to those described by the {@link
+   * SzEntityNeighbor} instances in the specified {@link Collection}.
+   *
+   * @param neighbors The {@link Collection} of {@link SzEntityNeighbor}
+   *                  instances, or <tt>null</tt> if only the counts were
+   *                  requested.
+   */
+  void setNeighbors(Collection<? extends SzEntityNeighbor> neighbors);
+
+  /**
+   * Checks if the search was stopped before reaching the maximum number of
+   * degrees because the maximum number of entities was found.
+   *
+   * @return <tt>true</tt> if the search was truncated, otherwise
+   *         <tt>false</tt>.
+   */
+  boolean isTruncated();
+
+  /**
+   * Sets whether or not the search was stopped before reaching the maximum
+   * number of degrees because the maximum number of entities was found.
+   *
+   * @param truncated <tt>true</tt> if the search was truncated, otherwise
+   *                  <tt>false</tt>.
+   */
+  void setTruncated(boolean truncated);
+
+  /**
+   * Gets the number of entities whose relationships had to be retrieved from
+   * the entity repository because they were not found in the adjacency index.
+   *
+   * @return The number of entities whose relationships were retrieved from
+   *         the entity repository.
+   */
+  int getRetrievedCount();
+
+  /**
+   * Sets the number of entities whose relationships had to be retrieved from
+   * the entity repository because they were not found in the adjacency index.
+   *
+   * @param count The number of entities whose relationships were retrieved
+   *              from the entity repository.
+   */
+  void setRetrievedCount(int count);
+
+  /**
+   * Gets the number of entities in the adjacency index.  This is
+   * <tt>null</tt> if the adjacency index is not enabled.
+   *
+   * @return The number of entities in the adjacency index, or <tt>null</tt>
+   *         if the adjacency index is not enabled.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getIndexedEntityCount();
+
+  /**
+   * Sets the number of entities in the adjacency index.
+   *
+   * @param count The number of entities in the adjacency index, or
+   *              <tt>null</tt> if the adjacency index is not enabled.
+   */
+  void setIndexedEntityCount(Integer count);
+
+  /**
+   * Gets the estimated number of bytes of memory used by the adjacency index.
+   * This is <tt>null</tt> if the adjacency index is not enabled.
+   *
+   * @return The estimated number of bytes of memory used by the adjacency
+   *         index, or <tt>null</tt> if the adjacency index is not enabled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getIndexMemoryBytes();
+
+  /**
+   * Sets the estimated number of bytes of memory used by the adjacency index.
+   *
+   * @param bytes The estimated number of bytes of memory used by the
+   *              adjacency index, or <tt>null</tt> if the adjacency index is
+   *              not enabled.
+   */
+  void setIndexMemoryBytes(Long bytes);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzEntityNeighborhood}.
+   */
+  interface Provider extends ModelProvider<SzEntityNeighborhood> {
+    /**
+     * Creates a new uninitialized instance of {@link SzEntityNeighborhood}.
+     *
+     * @return The new instance of {@link SzEntityNeighborhood}.
+     */
+    SzEntityNeighborhood create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzEntityNeighborhood} that produces instances of {@link
+   * SzEntityNeighborhoodImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzEntityNeighborhood>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzEntityNeighborhood.class, SzEntityNeighborhoodImpl.class);
+    }
+
+    @Override
+    public SzEntityNeighborhood create() {
+      return new SzEntityNeighborhoodImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link
+   * SzEntityNeighborhood}.
+   */
+  class Factory extends ModelFactory<SzEntityNeighborhood, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzEntityNeighborhood.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzEntityNeighborhood}.
+     *
+     * @return The new instance of {@link SzEntityNeighborhood}.
+     */
+    public SzEntityNeighborhood create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
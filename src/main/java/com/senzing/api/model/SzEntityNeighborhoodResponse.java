@@ -0,0 +1,150 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzEntityNeighborhoodResponseImpl;
+
+/**
+ * A response object that describes the entities within a number of degrees of
+ * separation of an entity.
+ */
+@JsonDeserialize(using = SzEntityNeighborhoodResponse.Factory.class)
+public interface SzEntityNeighborhoodResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzEntityNeighborhood}.
+   *
+   * @return The data associated with this response.
+   */
+  SzEntityNeighborhood getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzEntityNeighborhood}.
+   *
+   * @param neighborhood The {@link SzEntityNeighborhood} describing the
+   *                     neighborhood.
+   */
+  void setData(SzEntityNeighborhood neighborhood);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link
+   * SzEntityNeighborhoodResponse}.
+   */
+  interface Provider extends ModelProvider<SzEntityNeighborhoodResponse> {
+    /**
+     * Creates an instance of {@link SzEntityNeighborhoodResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzEntityNeighborhoodResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzEntityNeighborhoodResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzEntityNeighborhood} describing the neighborhood.
+     *
+     * @param meta         The response meta data.
+     *
+     * @param links        The links for the response.
+     *
+     * @param neighborhood The {@link SzEntityNeighborhood} describing the
+   *                     neighborhood.
+     */
+    SzEntityNeighborhoodResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityNeighborhood neighborhood);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzEntityNeighborhoodResponse} that produces instances of
+   * {@link SzEntityNeighborhoodResponseImpl}.
+   */
+  class DefaultProvider
+      extends AbstractModelProvider<SzEntityNeighborhoodResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzEntityNeighborhoodResponse.class,
+          SzEntityNeighborhoodResponseImpl.class);
+    }
+
+    @Override
+    public SzEntityNeighborhoodResponse create(SzMeta meta, SzLinks links) {
+      return new SzEntityNeighborhoodResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzEntityNeighborhoodResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityNeighborhood neighborhood) {
+      return new SzEntityNeighborhoodResponseImpl(meta, links, neighborhood);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzEntityNeighborhoodResponse}.
+   */
+  class Factory extends ModelFactory<SzEntityNeighborhoodResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzEntityNeighborhoodResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzEntityNeighborhoodResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzEntityNeighborhoodResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzEntityNeighborhoodResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzEntityNeighborhood} describing the neighborhood.
+     *
+     * @param meta         The response meta data.
+     *
+     * @param links        The links for the response.
+     *
+     * @param neighborhood The {@link SzEntityNeighborhood} describing the
+     *                     neighborhood.
+     */
+    public SzEntityNeighborhoodResponse create(SzMeta meta,
+        SzLinks links,
+        SzEntityNeighborhood neighborhood) {
+      return this.getProvider().create(meta, links, neighborhood);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
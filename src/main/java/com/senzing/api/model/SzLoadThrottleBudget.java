@@ -0,0 +1,212 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzLoadThrottleBudgetImpl;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes the limits and the current state of a single load throttle
+ * budget, which applies either to a data source or to an authenticated client.
+ */
+@JsonDeserialize(using=SzLoadThrottleBudget.Factory.class)
+public interface SzLoadThrottleBudget {
+  /**
+   * Gets the {@link SzLoadThrottleScope} to which the budget applies.
+   *
+   * @return The {@link SzLoadThrottleScope} to which the budget applies.
+   */
+  SzLoadThrottleScope getScope();
+
+  /**
+   * Sets the {@link SzLoadThrottleScope} to which the budget applies.
+   *
+   * @param scope The {@link SzLoadThrottleScope} to which the budget applies.
+   */
+  void setScope(SzLoadThrottleScope scope);
+
+  /**
+   * Gets the data source code or client ID to which the budget applies.
+   *
+   * @return The data source code or client ID to which the budget
+   *         applies.
+   */
+  String getKey();
+
+  /**
+   * Sets the data source code or client ID to which the budget applies.
+   *
+   * @param key The data source code or client ID to which the budget
+   *            applies.
+   */
+  void setKey(String key);
+
+  /**
+   * Gets the maximum number of records per second permitted by the budget,
+   * or <tt>null</tt> if the rate is not limited.
+   *
+   * @return The maximum number of records per second, or
+   *         <tt>null</tt> if the rate is not limited.
+   */
+  @JsonInclude(NON_NULL)
+  Double getRateLimit();
+
+  /**
+   * Sets the maximum number of records per second permitted by the budget.
+   *
+   * @param rateLimit The maximum number of records per second, or
+   *                  <tt>null</tt> if the rate is not limited.
+   */
+  void setRateLimit(Double rateLimit);
+
+  /**
+   * Gets the maximum number of records that may be written concurrently
+   * under the budget, or <tt>null</tt> if the concurrency is not limited.
+   *
+   * @return The maximum number of concurrent records, or
+   *         <tt>null</tt> if the concurrency is not limited.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getConcurrencyLimit();
+
+  /**
+   * Sets the maximum number of records that may be written concurrently
+   * under the budget.
+   *
+   * @param concurrencyLimit The maximum number of concurrent records, or
+   *                         <tt>null</tt> if the concurrency is not limited.
+   */
+  void setConcurrencyLimit(Integer concurrencyLimit);
+
+  /**
+   * Gets the average number of records per second admitted under the budget
+   * over the most recent few seconds.
+   *
+   * @return The average number of records admitted per second.
+   */
+  double getCurrentRate();
+
+  /**
+   * Sets the average number of records per second admitted under the budget
+   * over the most recent few seconds.
+   *
+   * @param currentRate The average number of records admitted per second.
+   */
+  void setCurrentRate(double currentRate);
+
+  /**
+   * Gets the number of records currently being written under the budget.
+   *
+   * @return The number of records currently being written.
+   */
+  int getInFlightCount();
+
+  /**
+   * Sets the number of records currently being written under the budget.
+   *
+   * @param inFlightCount The number of records currently being written.
+   */
+  void setInFlightCount(int inFlightCount);
+
+  /**
+   * Gets the number of records that had to wait to be admitted under the
+   * budget since the API server was started.
+   *
+   * @return The number of records that had to wait.
+   */
+  long getThrottledCount();
+
+  /**
+   * Sets the number of records that had to wait to be admitted under the
+   * budget since the API server was started.
+   *
+   * @param throttledCount The number of records that had to wait.
+   */
+  void setThrottledCount(long throttledCount);
+
+  /**
+   * Gets the total number of milliseconds that records waited to be
+   * admitted under the budget since the API server was started.
+   *
+   * @return The total number of milliseconds waited.
+   */
+  long getThrottleWaitTime();
+
+  /**
+   * Sets the total number of milliseconds that records waited to be
+   * admitted under the budget since the API server was started.
+   *
+   * @param throttleWaitTime The total number of milliseconds waited.
+   */
+  void setThrottleWaitTime(long throttleWaitTime);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzLoadThrottleBudget}.
+   */
+  interface Provider extends ModelProvider<SzLoadThrottleBudget> {
+    /**
+     * Creates a new uninitialized instance of {@link SzLoadThrottleBudget}.
+     *
+     * @return The new instance of {@link SzLoadThrottleBudget}.
+     */
+    SzLoadThrottleBudget create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzLoadThrottleBudget} that produces instances of {@link SzLoadThrottleBudgetImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzLoadThrottleBudget>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzLoadThrottleBudget.class, SzLoadThrottleBudgetImpl.class);
+    }
+
+    @Override
+    public SzLoadThrottleBudget create() {
+      return new SzLoadThrottleBudgetImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzLoadThrottleBudget}.
+   */
+  class Factory extends ModelFactory<SzLoadThrottleBudget, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzLoadThrottleBudget.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzLoadThrottleBudget}.
+     *
+     * @return The new instance of {@link SzLoadThrottleBudget}.
+     */
+    public SzLoadThrottleBudget create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
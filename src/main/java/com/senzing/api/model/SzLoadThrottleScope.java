@@ -0,0 +1,17 @@
+package com.senzing.api.model;
+
+/**
+ * Enumerates the scopes for which a load throttle budget is enforced.
+ */
+public enum SzLoadThrottleScope {
+  /**
+   * The budget applies to the records written to a single data source.
+   */
+  DATA_SOURCE,
+
+  /**
+   * The budget applies to the records written by a single authenticated
+   * client, identified by its TLS client certificate or the client ID header.
+   */
+  CLIENT;
+}
@@ -0,0 +1,117 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzLoadThrottleStatusImpl;
+
+import java.util.List;
+
+/**
+ * Describes the load throttle budgets that are enforced by the API server
+ * for writing records (if enabled).
+ */
+@JsonDeserialize(using=SzLoadThrottleStatus.Factory.class)
+public interface SzLoadThrottleStatus {
+  /**
+   * Checks if the API server is throttling the records it writes.
+   *
+   * @return <tt>true</tt> if the API server is throttling the
+   *         records it writes, otherwise <tt>false</tt>.
+   */
+  boolean isEnabled();
+
+  /**
+   * Sets whether or not the API server is throttling the records it writes.
+   *
+   * @param enabled <tt>true</tt> if the API server is throttling the
+   *                records it writes, otherwise <tt>false</tt>.
+   */
+  void setEnabled(boolean enabled);
+
+  /**
+   * Gets the {@link List} of {@link SzLoadThrottleBudget} instances
+   * describing each budget that has been used since the API server was
+   * started.
+   *
+   * @return The {@link List} of {@link SzLoadThrottleBudget}
+   *         instances.
+   */
+  List<SzLoadThrottleBudget> getBudgets();
+
+  /**
+   * Sets the {@link List} of {@link SzLoadThrottleBudget} instances
+   * describing each budget.
+   *
+   * @param budgets The {@link List} of {@link SzLoadThrottleBudget}
+   *                instances.
+   */
+  void setBudgets(List<SzLoadThrottleBudget> budgets);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzLoadThrottleStatus}.
+   */
+  interface Provider extends ModelProvider<SzLoadThrottleStatus> {
+    /**
+     * Creates a new uninitialized instance of {@link SzLoadThrottleStatus}.
+     *
+     * @return The new instance of {@link SzLoadThrottleStatus}.
+     */
+    SzLoadThrottleStatus create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzLoadThrottleStatus} that produces instances of {@link SzLoadThrottleStatusImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzLoadThrottleStatus>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzLoadThrottleStatus.class, SzLoadThrottleStatusImpl.class);
+    }
+
+    @Override
+    public SzLoadThrottleStatus create() {
+      return new SzLoadThrottleStatusImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzLoadThrottleStatus}.
+   */
+  class Factory extends ModelFactory<SzLoadThrottleStatus, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzLoadThrottleStatus.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzLoadThrottleStatus}.
+     *
+     * @return The new instance of {@link SzLoadThrottleStatus}.
+     */
+    public SzLoadThrottleStatus create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
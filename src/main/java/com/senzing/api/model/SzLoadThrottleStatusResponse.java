@@ -0,0 +1,147 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzLoadThrottleStatusResponseImpl;
+
+/**
+ * A response object that describes the load throttle budgets enforced by the
+ * API server and the current state of each.
+ */
+@JsonDeserialize(using = SzLoadThrottleStatusResponse.Factory.class)
+public interface SzLoadThrottleStatusResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzLoadThrottleStatus}.
+   *
+   * @return The data associated with this response.
+   */
+  SzLoadThrottleStatus getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzLoadThrottleStatus}.
+   *
+   * @param status The {@link SzLoadThrottleStatus} describing the status.
+   */
+  void setData(SzLoadThrottleStatus status);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link
+   * SzLoadThrottleStatusResponse}.
+   */
+  interface Provider extends ModelProvider<SzLoadThrottleStatusResponse> {
+    /**
+     * Creates an instance of {@link SzLoadThrottleStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzLoadThrottleStatusResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzLoadThrottleStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzLoadThrottleStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzLoadThrottleStatus} describing the status.
+     */
+    SzLoadThrottleStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzLoadThrottleStatus status);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzLoadThrottleStatusResponse} that produces instances of
+   * {@link SzLoadThrottleStatusResponseImpl}.
+   */
+  class DefaultProvider
+      extends AbstractModelProvider<SzLoadThrottleStatusResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzLoadThrottleStatusResponse.class,
+          SzLoadThrottleStatusResponseImpl.class);
+    }
+
+    @Override
+    public SzLoadThrottleStatusResponse create(SzMeta meta, SzLinks links) {
+      return new SzLoadThrottleStatusResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzLoadThrottleStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzLoadThrottleStatus status) {
+      return new SzLoadThrottleStatusResponseImpl(meta, links, status);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzLoadThrottleStatusResponse}.
+   */
+  class Factory extends ModelFactory<SzLoadThrottleStatusResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzLoadThrottleStatusResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzLoadThrottleStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzLoadThrottleStatusResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzLoadThrottleStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzLoadThrottleStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzLoadThrottleStatus} describing the status.
+     */
+    public SzLoadThrottleStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzLoadThrottleStatus status) {
+      return this.getProvider().create(meta, links, status);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
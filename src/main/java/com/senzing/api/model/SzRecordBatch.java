@@ -0,0 +1,167 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzRecordBatchImpl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Describes the results of writing a batch of records along with the entities
+ * that were affected by the batch.
+ */
+@JsonDeserialize(using=SzRecordBatch.Factory.class)
+public interface SzRecordBatch {
+  /**
+   * Gets the number of records in the batch that were written successfully.
+   * This does not include the {@linkplain #getUnchangedCount() unchanged}
+   * records that were skipped.
+   *
+   * @return The number of records that were written successfully.
+   */
+  int getSucceededCount();
+
+  /**
+   * Sets the number of records in the batch that were written successfully.
+   *
+   * @param count The number of records that were written successfully.
+   */
+  void setSucceededCount(int count);
+
+  /**
+   * Gets the number of records in the batch that were not written because
+   * they are unchanged since they were last loaded.
+   *
+   * @return The number of records that were skipped as unchanged.
+   */
+  int getUnchangedCount();
+
+  /**
+   * Sets the number of records in the batch that were not written because
+   * they are unchanged since they were last loaded.
+   *
+   * @param count The number of records that were skipped as unchanged.
+   */
+  void setUnchangedCount(int count);
+
+  /**
+   * Gets the number of records in the batch that failed to be written.
+   *
+   * @return The number of records that failed to be written.
+   */
+  int getFailedCount();
+
+  /**
+   * Sets the number of records in the batch that failed to be written.
+   *
+   * @param count The number of records that failed to be written.
+   */
+  void setFailedCount(int count);
+
+  /**
+   * Gets the unmodifiable {@link List} of {@link SzBatchRecordResult}
+   * instances describing the result for each record in the order the records
+   * were specified.
+   *
+   * @return The unmodifiable {@link List} of {@link SzBatchRecordResult}
+   *         instances.
+   */
+  List<SzBatchRecordResult> getResults();
+
+  /**
+   * Sets the {@link SzBatchRecordResult} instances describing the result for
+   * each record in the order the records were specified.
+   *
+   * @param results The {@link Collection} of {@link SzBatchRecordResult}
+   *                instances.
+   */
+  void setResults(Collection<? extends SzBatchRecordResult> results);
+
+  /**
+   * Gets the unmodifiable {@link Set} of entity ID's for the entities that
+   * were affected by any of the records in the batch.
+   *
+   * @return The unmodifiable {@link Set} of entity ID's for the affected
+   *         entities.
+   */
+  Set<Long> getAffectedEntities();
+
+  /**
+   * Sets the entity ID's for the entities that were affected by any of the
+   * records in the batch.
+   *
+   * @param entityIds The {@link Collection} of entity ID's for the affected
+   *                  entities.
+   */
+  void setAffectedEntities(Collection<Long> entityIds);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzRecordBatch}.
+   */
+  interface Provider extends ModelProvider<SzRecordBatch> {
+    /**
+     * Creates a new uninitialized instance of {@link SzRecordBatch}.
+     *
+     * @return The new instance of {@link SzRecordBatch}.
+     */
+    SzRecordBatch create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzRecordBatch} that produces instances of {@link SzRecordBatchImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzRecordBatch>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzRecordBatch.class, SzRecordBatchImpl.class);
+    }
+
+    @Override
+    public SzRecordBatch create() {
+      return new SzRecordBatchImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzRecordBatch}.
+   */
+  class Factory extends ModelFactory<SzRecordBatch, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzRecordBatch.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzRecordBatch}.
+     *
+     * @return The new instance of {@link SzRecordBatch}.
+     */
+    public SzRecordBatch create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
@@ -0,0 +1,18 @@
+package com.senzing.api.model;
+
+/**
+ * Enumerates the operations that can be performed on a record in a batch of
+ * record writes.
+ */
+public enum SzRecordOperation {
+  /**
+   * The record is added if it does not exist, otherwise it is replaced.
+   */
+  UPSERT,
+
+  /**
+   * The record is deleted if it exists.  Deleting a record that does not
+   * exist is <b>not</b> an error.
+   */
+  DELETE;
+}
@@ -0,0 +1,175 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzRedoStatusImpl;
+
+/**
+ * Describes the backlog of redo records and the progress of the background
+ * redo processing within the API server (if enabled).
+ */
+@JsonDeserialize(using=SzRedoStatus.Factory.class)
+public interface SzRedoStatus {
+  /**
+   * Gets the number of redo records that are waiting to be processed.
+   *
+   * @return The number of redo records that are waiting to be processed.
+   */
+  long getRedoRecordCount();
+
+  /**
+   * Sets the number of redo records that are waiting to be processed.
+   *
+   * @param count The number of redo records that are waiting to be processed.
+   */
+  void setRedoRecordCount(long count);
+
+  /**
+   * Checks if the API server is processing redo records in the background.
+   *
+   * @return <tt>true</tt> if the API server is processing redo records in the
+   *         background, otherwise <tt>false</tt>.
+   */
+  boolean isProcessorEnabled();
+
+  /**
+   * Sets whether or not the API server is processing redo records in the
+   * background.
+   *
+   * @param enabled <tt>true</tt> if the API server is processing redo records
+   *                in the background, otherwise <tt>false</tt>.
+   */
+  void setProcessorEnabled(boolean enabled);
+
+  /**
+   * Gets the number of threads with which the API server is processing redo
+   * records in the background.  This is zero if not enabled.
+   *
+   * @return The number of threads processing redo records.
+   */
+  int getProcessorConcurrency();
+
+  /**
+   * Sets the number of threads with which the API server is processing redo
+   * records in the background.
+   *
+   * @param concurrency The number of threads processing redo records.
+   */
+  void setProcessorConcurrency(int concurrency);
+
+  /**
+   * Gets the number of redo records that have been processed in the
+   * background since the API server was started.
+   *
+   * @return The number of redo records that have been processed.
+   */
+  long getProcessedCount();
+
+  /**
+   * Sets the number of redo records that have been processed in the
+   * background since the API server was started.
+   *
+   * @param count The number of redo records that have been processed.
+   */
+  void setProcessedCount(long count);
+
+  /**
+   * Gets the number of redo records that failed to be processed in the
+   * background since the API server was started.
+   *
+   * @return The number of redo records that failed to be processed.
+   */
+  long getFailedCount();
+
+  /**
+   * Sets the number of redo records that failed to be processed in the
+   * background since the API server was started.
+   *
+   * @param count The number of redo records that failed to be processed.
+   */
+  void setFailedCount(long count);
+
+  /**
+   * Gets the average number of redo records processed per second in the
+   * background over the most recent minute.
+   *
+   * @return The average number of redo records processed per second.
+   */
+  double getDrainRate();
+
+  /**
+   * Sets the average number of redo records processed per second in the
+   * background over the most recent minute.
+   *
+   * @param rate The average number of redo records processed per second.
+   */
+  void setDrainRate(double rate);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzRedoStatus}.
+   */
+  interface Provider extends ModelProvider<SzRedoStatus> {
+    /**
+     * Creates a new uninitialized instance of {@link SzRedoStatus}.
+     *
+     * @return The new instance of {@link SzRedoStatus}.
+     */
+    SzRedoStatus create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzRedoStatus} that produces instances of {@link SzRedoStatusImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzRedoStatus>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzRedoStatus.class, SzRedoStatusImpl.class);
+    }
+
+    @Override
+    public SzRedoStatus create() {
+      return new SzRedoStatusImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzRedoStatus}.
+   */
+  class Factory extends ModelFactory<SzRedoStatus, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzRedoStatus.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzRedoStatus}.
+     *
+     * @return The new instance of {@link SzRedoStatus}.
+     */
+    public SzRedoStatus create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
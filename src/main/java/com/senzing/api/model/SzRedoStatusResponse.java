@@ -0,0 +1,147 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzRedoStatusResponseImpl;
+
+/**
+ * A response object that describes the backlog of redo records and the
+ * progress of the background redo processing.
+ */
+@JsonDeserialize(using = SzRedoStatusResponse.Factory.class)
+public interface SzRedoStatusResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzRedoStatus}.
+   *
+   * @return The data associated with this response.
+   */
+  SzRedoStatus getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzRedoStatus}.
+   *
+   * @param status The {@link SzRedoStatus} describing the status.
+   */
+  void setData(SzRedoStatus status);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link
+   * SzRedoStatusResponse}.
+   */
+  interface Provider extends ModelProvider<SzRedoStatusResponse> {
+    /**
+     * Creates an instance of {@link SzRedoStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzRedoStatusResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzRedoStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzRedoStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzRedoStatus} describing the status.
+     */
+    SzRedoStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzRedoStatus status);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzRedoStatusResponse} that produces instances of
+   * {@link SzRedoStatusResponseImpl}.
+   */
+  class DefaultProvider
+      extends AbstractModelProvider<SzRedoStatusResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzRedoStatusResponse.class,
+          SzRedoStatusResponseImpl.class);
+    }
+
+    @Override
+    public SzRedoStatusResponse create(SzMeta meta, SzLinks links) {
+      return new SzRedoStatusResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzRedoStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzRedoStatus status) {
+      return new SzRedoStatusResponseImpl(meta, links, status);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzRedoStatusResponse}.
+   */
+  class Factory extends ModelFactory<SzRedoStatusResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzRedoStatusResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzRedoStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzRedoStatusResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzRedoStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzRedoStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzRedoStatus} describing the status.
+     */
+    public SzRedoStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzRedoStatus status) {
+      return this.getProvider().create(meta, links, status);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
@@ -0,0 +1,331 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzWorkQueueStatusImpl;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * Describes the queue of tasks waiting for the engine worker threads along
+ * with the number of tasks that were discarded because their request's
+ * deadline passed or its connection was closed before they were executed.
+ * If adaptive concurrency limiting is enabled then this also describes the
+ * current concurrency limit, the latencies it is based on and the decisions
+ * made to adjust it.
+ */
+@JsonDeserialize(using=SzWorkQueueStatus.Factory.class)
+public interface SzWorkQueueStatus {
+  /**
+   * Gets the number of engine worker threads executing tasks.
+   *
+   * @return The number of engine worker threads.
+   */
+  int getConcurrency();
+
+  /**
+   * Sets the number of engine worker threads executing tasks.
+   *
+   * @param concurrency The number of engine worker threads.
+   */
+  void setConcurrency(int concurrency);
+
+  /**
+   * Gets the number of tasks that are executing or waiting to be executed
+   * by the engine worker threads.
+   *
+   * @return The number of pending tasks.
+   */
+  int getPendingTaskCount();
+
+  /**
+   * Sets the number of tasks that are executing or waiting to be executed
+   * by the engine worker threads.
+   *
+   * @param count The number of pending tasks.
+   */
+  void setPendingTaskCount(int count);
+
+  /**
+   * Gets the number of tasks that were discarded without being executed
+   * because the deadline of their request had passed before they reached
+   * an engine worker thread.
+   *
+   * @return The number of expired tasks.
+   */
+  long getExpiredTaskCount();
+
+  /**
+   * Sets the number of tasks that were discarded without being executed
+   * because the deadline of their request had passed before they reached
+   * an engine worker thread.
+   *
+   * @param count The number of expired tasks.
+   */
+  void setExpiredTaskCount(long count);
+
+  /**
+   * Gets the number of tasks that were discarded without being executed
+   * because the connection for their request was closed before they
+   * reached an engine worker thread.
+   *
+   * @return The number of cancelled tasks.
+   */
+  long getCancelledTaskCount();
+
+  /**
+   * Sets the number of tasks that were discarded without being executed
+   * because the connection for their request was closed before they
+   * reached an engine worker thread.
+   *
+   * @param count The number of cancelled tasks.
+   */
+  void setCancelledTaskCount(long count);
+
+  /**
+   * Gets the current limit on the number of tasks executing concurrently as
+   * adapted to the observed task latency.  This returns <tt>null</tt> if
+   * adaptive concurrency limiting is disabled.
+   *
+   * @return The current concurrency limit, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getConcurrencyLimit();
+
+  /**
+   * Sets the current limit on the number of tasks executing concurrently as
+   * adapted to the observed task latency.
+   *
+   * @param limit The current concurrency limit, or <tt>null</tt> if adaptive
+   *              concurrency limiting is disabled.
+   */
+  void setConcurrencyLimit(Integer limit);
+
+  /**
+   * Gets the minimum to which the concurrency limit can be lowered.  This
+   * returns <tt>null</tt> if adaptive concurrency limiting is disabled.
+   *
+   * @return The minimum concurrency limit, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getMinConcurrency();
+
+  /**
+   * Sets the minimum to which the concurrency limit can be lowered.
+   *
+   * @param minConcurrency The minimum concurrency limit, or <tt>null</tt> if
+   *                       adaptive concurrency limiting is disabled.
+   */
+  void setMinConcurrency(Integer minConcurrency);
+
+  /**
+   * Gets the number of tasks currently holding a permit from the concurrency
+   * limiter.  This returns <tt>null</tt> if adaptive concurrency limiting is
+   * disabled.
+   *
+   * @return The number of active tasks, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Integer getActiveTaskCount();
+
+  /**
+   * Sets the number of tasks currently holding a permit from the concurrency
+   * limiter.
+   *
+   * @param count The number of active tasks, or <tt>null</tt> if adaptive
+   *              concurrency limiting is disabled.
+   */
+  void setActiveTaskCount(Integer count);
+
+  /**
+   * Gets the average latency in milliseconds of the tasks completed in the most
+   * recent sampling window of the concurrency limiter.  This returns
+   * <tt>null</tt> if adaptive concurrency limiting is disabled.
+   *
+   * @return The recent task latency in milliseconds, or <tt>null</tt> if
+   *         adaptive concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Double getRecentLatency();
+
+  /**
+   * Sets the average latency in milliseconds of the tasks completed in the most
+   * recent sampling window of the concurrency limiter.
+   *
+   * @param latency The recent task latency in milliseconds, or <tt>null</tt> if
+   *                adaptive concurrency limiting is disabled.
+   */
+  void setRecentLatency(Double latency);
+
+  /**
+   * Gets the baseline task latency in milliseconds against which the
+   * concurrency limiter compares the recent latency.  This returns
+   * <tt>null</tt> if adaptive concurrency limiting is disabled.
+   *
+   * @return The baseline task latency in milliseconds, or <tt>null</tt> if
+   *         adaptive concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Double getBaselineLatency();
+
+  /**
+   * Sets the baseline task latency in milliseconds against which the
+   * concurrency limiter compares the recent latency.
+   *
+   * @param latency The baseline task latency in milliseconds, or <tt>null</tt>
+   *                if adaptive concurrency limiting is disabled.
+   */
+  void setBaselineLatency(Double latency);
+
+  /**
+   * Gets the number of times the concurrency limiter raised the concurrency
+   * limit.  This returns <tt>null</tt> if adaptive concurrency limiting is
+   * disabled.
+   *
+   * @return The number of limit increases, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getLimitIncreaseCount();
+
+  /**
+   * Sets the number of times the concurrency limiter raised the concurrency
+   * limit.
+   *
+   * @param count The number of limit increases, or <tt>null</tt> if adaptive
+   *              concurrency limiting is disabled.
+   */
+  void setLimitIncreaseCount(Long count);
+
+  /**
+   * Gets the number of times the concurrency limiter lowered the concurrency
+   * limit.  This returns <tt>null</tt> if adaptive concurrency limiting is
+   * disabled.
+   *
+   * @return The number of limit decreases, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getLimitDecreaseCount();
+
+  /**
+   * Sets the number of times the concurrency limiter lowered the concurrency
+   * limit.
+   *
+   * @param count The number of limit decreases, or <tt>null</tt> if adaptive
+   *              concurrency limiting is disabled.
+   */
+  void setLimitDecreaseCount(Long count);
+
+  /**
+   * Gets the number of tasks that had to wait for a permit from the concurrency
+   * limiter.  This returns <tt>null</tt> if adaptive concurrency limiting is
+   * disabled.
+   *
+   * @return The number of tasks that waited for a permit, or <tt>null</tt> if
+   *         adaptive concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getLimiterWaitCount();
+
+  /**
+   * Sets the number of tasks that had to wait for a permit from the concurrency
+   * limiter.
+   *
+   * @param count The number of tasks that waited for a permit, or <tt>null</tt>
+   *              if adaptive concurrency limiting is disabled.
+   */
+  void setLimiterWaitCount(Long count);
+
+  /**
+   * Gets the total number of milliseconds that tasks spent waiting for a permit
+   * from the concurrency limiter.  This returns <tt>null</tt> if adaptive
+   * concurrency limiting is disabled.
+   *
+   * @return The total wait time in milliseconds, or <tt>null</tt> if adaptive
+   *         concurrency limiting is disabled.
+   */
+  @JsonInclude(NON_NULL)
+  Long getLimiterWaitTime();
+
+  /**
+   * Sets the total number of milliseconds that tasks spent waiting for a permit
+   * from the concurrency limiter.
+   *
+   * @param time The total wait time in milliseconds, or <tt>null</tt> if
+   *             adaptive concurrency limiting is disabled.
+   */
+  void setLimiterWaitTime(Long time);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link SzWorkQueueStatus}.
+   */
+  interface Provider extends ModelProvider<SzWorkQueueStatus> {
+    /**
+     * Creates a new uninitialized instance of {@link SzWorkQueueStatus}.
+     *
+     * @return The new instance of {@link SzWorkQueueStatus}.
+     */
+    SzWorkQueueStatus create();
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzWorkQueueStatus} that produces instances of {@link SzWorkQueueStatusImpl}.
+   */
+  class DefaultProvider extends AbstractModelProvider<SzWorkQueueStatus>
+      implements Provider
+  {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzWorkQueueStatus.class, SzWorkQueueStatusImpl.class);
+    }
+
+    @Override
+    public SzWorkQueueStatus create() {
+      return new SzWorkQueueStatusImpl();
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for {@link SzWorkQueueStatus}.
+   */
+  class Factory extends ModelFactory<SzWorkQueueStatus, Provider> {
+    /**
+     * Default constructor.  This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzWorkQueueStatus.class);
+    }
+
+    /**
+     * Constructs with the default provider.  This constructor is private and
+     * is used for the master singleton instance.
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates a new uninitialized instance of {@link SzWorkQueueStatus}.
+     *
+     * @return The new instance of {@link SzWorkQueueStatus}.
+     */
+    public SzWorkQueueStatus create() {
+      return this.getProvider().create();
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+}
@@ -0,0 +1,147 @@
+package com.senzing.api.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.impl.SzWorkQueueStatusResponseImpl;
+
+/**
+ * A response object that describes the queue of tasks waiting for the
+ * engine worker threads and the tasks discarded from it.
+ */
+@JsonDeserialize(using = SzWorkQueueStatusResponse.Factory.class)
+public interface SzWorkQueueStatusResponse extends SzBasicResponse {
+  /**
+   * Returns the data associated with this response which is an
+   * {@link SzWorkQueueStatus}.
+   *
+   * @return The data associated with this response.
+   */
+  SzWorkQueueStatus getData();
+
+  /**
+   * Sets the data associated with this response with an {@link
+   * SzWorkQueueStatus}.
+   *
+   * @param status The {@link SzWorkQueueStatus} describing the status.
+   */
+  void setData(SzWorkQueueStatus status);
+
+  /**
+   * A {@link ModelProvider} for instances of {@link
+   * SzWorkQueueStatusResponse}.
+   */
+  interface Provider extends ModelProvider<SzWorkQueueStatusResponse> {
+    /**
+     * Creates an instance of {@link SzWorkQueueStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    SzWorkQueueStatusResponse create(SzMeta meta, SzLinks links);
+
+    /**
+     * Creates an instance of {@link SzWorkQueueStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzWorkQueueStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzWorkQueueStatus} describing the status.
+     */
+    SzWorkQueueStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzWorkQueueStatus status);
+  }
+
+  /**
+   * Provides a default {@link Provider} implementation for {@link
+   * SzWorkQueueStatusResponse} that produces instances of
+   * {@link SzWorkQueueStatusResponseImpl}.
+   */
+  class DefaultProvider
+      extends AbstractModelProvider<SzWorkQueueStatusResponse>
+      implements Provider {
+    /**
+     * Default constructor.
+     */
+    public DefaultProvider() {
+      super(SzWorkQueueStatusResponse.class,
+          SzWorkQueueStatusResponseImpl.class);
+    }
+
+    @Override
+    public SzWorkQueueStatusResponse create(SzMeta meta, SzLinks links) {
+      return new SzWorkQueueStatusResponseImpl(meta, links);
+    }
+
+    @Override
+    public SzWorkQueueStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzWorkQueueStatus status) {
+      return new SzWorkQueueStatusResponseImpl(meta, links, status);
+    }
+  }
+
+  /**
+   * Provides a {@link ModelFactory} implementation for
+   * {@link SzWorkQueueStatusResponse}.
+   */
+  class Factory extends ModelFactory<SzWorkQueueStatusResponse, Provider> {
+    /**
+     * Default constructor. This is public and can only be called after the
+     * singleton master instance is created as it inherits the same state from
+     * the master instance.
+     */
+    public Factory() {
+      super(SzWorkQueueStatusResponse.class);
+    }
+
+    /**
+     * Constructs with the default provider. This constructor is private and
+     * is used for the master singleton instance.
+     * 
+     * @param defaultProvider The default provider.
+     */
+    private Factory(Provider defaultProvider) {
+      super(defaultProvider);
+    }
+
+    /**
+     * Creates an instance of {@link SzWorkQueueStatusResponse} with the
+     * specified {@link SzMeta} and {@link SzLinks}.
+     *
+     * @param meta  The response meta data.
+     *
+     * @param links The links for the response.
+     */
+    public SzWorkQueueStatusResponse create(SzMeta meta, SzLinks links) {
+      return this.getProvider().create(meta, links);
+    }
+
+    /**
+     * Creates an instance of {@link SzWorkQueueStatusResponse} with the
+     * specified {@link SzMeta}, {@link SzLinks} and the specified {@link
+     * SzWorkQueueStatus} describing the status.
+     *
+     * @param meta   The response meta data.
+     *
+     * @param links  The links for the response.
+     *
+     * @param status The {@link SzWorkQueueStatus} describing the status.
+     */
+    public SzWorkQueueStatusResponse create(SzMeta meta,
+        SzLinks links,
+        SzWorkQueueStatus status) {
+      return this.getProvider().create(meta, links, status);
+    }
+  }
+
+  /**
+   * The {@link Factory} instance for this interface.
+   */
+  Factory FACTORY = new Factory(new DefaultProvider());
+
+}
@@ -33,6 +33,11 @@ public abstract class SzBaseBulkLoadResultImpl
    */
   private int failedRecordCount;
 
+  /**
+   * The number of records that were unchanged since last loaded.
+   */
+  private int unchangedRecordCount;
+
   /**
    * The tracker for instances of {@link SzBulkLoadError}.
    */
@@ -46,6 +51,7 @@ public abstract class SzBaseBulkLoadResultImpl
     this.loadedRecordCount      = 0;
     this.incompleteRecordCount  = 0;
     this.failedRecordCount      = 0;
+    this.unchangedRecordCount   = 0;
     this.errorTracker           = new SzBulkLoadErrorTracker();
   }
 
@@ -175,6 +181,39 @@ public abstract class SzBaseBulkLoadResultImpl
     return ++this.failedRecordCount;
   }
 
+  /**
+   * Gets the number of records that were not loaded because they were
+   * unchanged since they were last loaded.
+   *
+   * @return The number of records that were unchanged.
+   */
+  @Override
+  public int getUnchangedRecordCount() {
+    return this.unchangedRecordCount;
+  }
+
+  /**
+   * Sets the number of records that were not loaded because they were
+   * unchanged since they were last loaded.
+   *
+   * @param recordCount The number of records that were unchanged.
+   */
+  @Override
+  public void setUnchangedRecordCount(int recordCount) {
+    this.unchangedRecordCount = recordCount;
+  }
+
+  /**
+   * Increments the number of records that were not loaded because they were
+   * unchanged and returns the new count.
+   *
+   * @return The number of records that were unchanged after incrementing.
+   */
+  @Override
+  public long incrementUnchangedRecordCount() {
+    return ++this.unchangedRecordCount;
+  }
+
   /**
    * Gets the unmodifiable {@link List} of {@link SzBulkLoadError} instances
    * describing the top errors.
@@ -205,6 +244,7 @@ public abstract class SzBaseBulkLoadResultImpl
         ", loadedRecordCount=" + this.getLoadedRecordCount() +
         ", incompleteRecordCount=" + this.getIncompleteRecordCount() +
         ", failedRecordCount=" + this.getFailedRecordCount() +
+        ", unchangedRecordCount=" + this.getUnchangedRecordCount() +
         ", topErrors=[ " + this.getTopErrors() +
         " ]}";
   }
@@ -0,0 +1,208 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzBatchRecordResult;
+import com.senzing.api.model.SzRecordOperation;
+import com.senzing.api.model.SzResolutionInfo;
+
+/**
+ * Provides a default implementation of {@link SzBatchRecordResult}.
+ */
+@JsonDeserialize
+public class SzBatchRecordResultImpl implements SzBatchRecordResult {
+  /**
+   * The zero-based index of the record in the batch.
+   */
+  private int index;
+
+  /**
+   * The operation that was performed on the record.
+   */
+  private SzRecordOperation operation;
+
+  /**
+   * The data source code for the record.
+   */
+  private String dataSource;
+
+  /**
+   * The record ID of the record.
+   */
+  private String recordId;
+
+  /**
+   * The HTTP status code for the record.
+   */
+  private int httpStatusCode;
+
+  /**
+   * Whether the record was skipped because it was unchanged.
+   */
+  private boolean unchanged;
+
+  /**
+   * The error message if the record was not written.
+   */
+  private String errorMessage;
+
+  /**
+   * The {@link SzResolutionInfo} describing the resolution of the record.
+   */
+  private SzResolutionInfo info;
+
+  /**
+   * Default constructor.
+   */
+  public SzBatchRecordResultImpl() {
+    this.index          = 0;
+    this.operation      = null;
+    this.dataSource     = null;
+    this.recordId       = null;
+    this.httpStatusCode = 200;
+    this.unchanged      = false;
+    this.errorMessage   = null;
+    this.info           = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getIndex() {
+    return this.index;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setIndex(int index) {
+    this.index = index;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzRecordOperation getOperation() {
+    return this.operation;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setOperation(SzRecordOperation operation) {
+    this.operation = operation;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getDataSource() {
+    return this.dataSource;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setDataSource(String dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getRecordId() {
+    return this.recordId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setRecordId(String recordId) {
+    this.recordId = recordId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getHttpStatusCode() {
+    return this.httpStatusCode;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setHttpStatusCode(int statusCode) {
+    this.httpStatusCode = statusCode;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isUnchanged() {
+    return this.unchanged;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setUnchanged(boolean unchanged) {
+    this.unchanged = unchanged;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getErrorMessage() {
+    return this.errorMessage;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzResolutionInfo getInfo() {
+    return this.info;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setInfo(SzResolutionInfo info) {
+    this.info = info;
+  }
+
+  @Override
+  public String toString() {
+    return "SzBatchRecordResult{" +
+        "index=" + this.index +
+        ", operation=" + this.operation +
+        ", dataSource='" + this.dataSource + '\'' +
+        ", recordId='" + this.recordId + '\'' +
+        ", httpStatusCode=" + this.httpStatusCode +
+        ", unchanged=" + this.unchanged +
+        ", errorMessage='" + this.errorMessage + '\'' +
+        ", info=" + this.info +
+        '}';
+  }
+}
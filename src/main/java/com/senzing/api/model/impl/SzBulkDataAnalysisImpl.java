@@ -31,6 +31,22 @@ public class SzBulkDataAnalysisImpl implements SzBulkDataAnalysis {
    */
   private String mediaType;
 
+  /**
+   * The mode by which the bulk data was analyzed.
+   */
+  private SzBulkDataAnalysisMode analysisMode;
+
+  /**
+   * The estimated total number of records when the records were sampled.
+   */
+  private Long estimatedRecordCount;
+
+  /**
+   * The largest margin of error for the data source proportions when the
+   * records were sampled.
+   */
+  private Double marginOfError;
+
   /**
    * The number of records discovered.
    */
@@ -60,6 +76,9 @@ public class SzBulkDataAnalysisImpl implements SzBulkDataAnalysis {
     this.dataSourceCount  = 0;
     this.analysisByDataSource = new HashMap<>();
     this.status = NOT_STARTED;
+    this.analysisMode = null;
+    this.estimatedRecordCount = null;
+    this.marginOfError = null;
   }
 
   /**
@@ -123,6 +142,82 @@ public class SzBulkDataAnalysisImpl implements SzBulkDataAnalysis {
     this.mediaType = mediaType;
   }
 
+  /**
+   * Gets the {@link SzBulkDataAnalysisMode} describing how the bulk data was
+   * analyzed.
+   *
+   * @return The {@link SzBulkDataAnalysisMode} describing how the bulk data
+   *         was analyzed, or <tt>null</tt> if the default was used.
+   */
+  @JsonInclude(NON_NULL)
+  @Override
+  public SzBulkDataAnalysisMode getAnalysisMode() {
+    return this.analysisMode;
+  }
+
+  /**
+   * Sets the {@link SzBulkDataAnalysisMode} describing how the bulk data was
+   * analyzed.
+   *
+   * @param analysisMode The {@link SzBulkDataAnalysisMode} describing how the
+   *                     bulk data was analyzed.
+   */
+  @Override
+  public void setAnalysisMode(SzBulkDataAnalysisMode analysisMode) {
+    this.analysisMode = analysisMode;
+  }
+
+  /**
+   * Gets the estimated total number of records in the bulk data when only a
+   * sample of the records was analyzed.
+   *
+   * @return The estimated total number of records in the bulk data, or
+   *         <tt>null</tt> if every record was analyzed.
+   */
+  @JsonInclude(NON_NULL)
+  @Override
+  public Long getEstimatedRecordCount() {
+    return this.estimatedRecordCount;
+  }
+
+  /**
+   * Sets the estimated total number of records in the bulk data when only a
+   * sample of the records was analyzed.
+   *
+   * @param recordCount The estimated total number of records in the bulk
+   *                    data, or <tt>null</tt> if every record was analyzed.
+   */
+  @Override
+  public void setEstimatedRecordCount(Long recordCount) {
+    this.estimatedRecordCount = recordCount;
+  }
+
+  /**
+   * Gets the largest margin of error (at a 95% confidence level) for the
+   * proportion of records belonging to any one data source.
+   *
+   * @return The largest margin of error for the data source proportions, or
+   *         <tt>null</tt> if every record was analyzed.
+   */
+  @JsonInclude(NON_NULL)
+  @Override
+  public Double getMarginOfError() {
+    return this.marginOfError;
+  }
+
+  /**
+   * Sets the largest margin of error (at a 95% confidence level) for the
+   * proportion of records belonging to any one data source.
+   *
+   * @param marginOfError The largest margin of error for the data source
+   *                      proportions, or <tt>null</tt> if every record was
+   *                      analyzed.
+   */
+  @Override
+  public void setMarginOfError(Double marginOfError) {
+    this.marginOfError = marginOfError;
+  }
+
   /**
    * Return the number of records in the bulk data set.
    *
@@ -403,4 +498,24 @@ public class SzBulkDataAnalysisImpl implements SzBulkDataAnalysis {
     if (this.status == NOT_STARTED) this.status = IN_PROGRESS;
   }
 
+  /**
+   * Utility method for merging the record counts from the specified {@link
+   * SzBulkDataAnalysis} into this instance.
+   *
+   * @param analysis The {@link SzBulkDataAnalysis} whose record counts should
+   *                 be merged into this instance.
+   */
+  @Override
+  public void mergeAnalysis(SzBulkDataAnalysis analysis)
+  {
+    for (SzDataSourceRecordAnalysis dsrc : analysis.getAnalysisByDataSource()) {
+      String  dataSource    = dsrc.getDataSource();
+      int     withIdCount   = dsrc.getRecordsWithRecordIdCount();
+      int     noIdCount     = dsrc.getRecordCount() - withIdCount;
+
+      this.trackRecords(withIdCount, dataSource, true);
+      this.trackRecords(noIdCount, dataSource, false);
+    }
+  }
+
 }
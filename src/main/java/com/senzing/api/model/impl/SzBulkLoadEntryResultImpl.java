@@ -0,0 +1,67 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzBulkLoadEntryResult;
+import com.senzing.api.model.SzBulkLoadResult;
+
+/**
+ * Provides a default implementation of {@link SzBulkLoadEntryResult}.
+ */
+@JsonDeserialize
+public class SzBulkLoadEntryResultImpl implements SzBulkLoadEntryResult {
+  /**
+   * The name of the archive entry.
+   */
+  private String entryName;
+
+  /**
+   * The {@link SzBulkLoadResult} for the archive entry.
+   */
+  private SzBulkLoadResult result;
+
+  /**
+   * Default constructor.
+   */
+  public SzBulkLoadEntryResultImpl() {
+    this(null, null);
+  }
+
+  /**
+   * Constructs with the specified entry name and {@link SzBulkLoadResult}.
+   *
+   * @param entryName The name of the archive entry.
+   * @param result    The {@link SzBulkLoadResult} for the archive entry.
+   */
+  public SzBulkLoadEntryResultImpl(String entryName, SzBulkLoadResult result) {
+    this.entryName  = entryName;
+    this.result     = result;
+  }
+
+  @Override
+  public String getEntryName() {
+    return this.entryName;
+  }
+
+  @Override
+  public void setEntryName(String entryName) {
+    this.entryName = entryName;
+  }
+
+  @Override
+  public SzBulkLoadResult getResult() {
+    return this.result;
+  }
+
+  @Override
+  public void setResult(SzBulkLoadResult result) {
+    this.result = result;
+  }
+
+  @Override
+  public String toString() {
+    return "SzBulkLoadEntryResult{" +
+        "entryName='" + this.entryName + '\'' +
+        ", result=" + this.result +
+        '}';
+  }
+}
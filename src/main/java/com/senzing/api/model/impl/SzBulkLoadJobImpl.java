@@ -0,0 +1,210 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzBulkLoadJob;
+import com.senzing.api.model.SzBulkLoadJobState;
+import com.senzing.api.model.SzBulkLoadResult;
+
+import java.util.Date;
+
+/**
+ * Provides a default implementation of {@link SzBulkLoadJob}.
+ */
+@JsonDeserialize
+public class SzBulkLoadJobImpl implements SzBulkLoadJob {
+  /**
+   * The unique ID identifying the job.
+   */
+  private String jobId;
+
+  /**
+   * The load ID with which the records are loaded.
+   */
+  private String loadId;
+
+  /**
+   * The state of the job.
+   */
+  private SzBulkLoadJobState state;
+
+  /**
+   * The timestamp when the job was submitted.
+   */
+  private Date submittedOn;
+
+  /**
+   * The timestamp when the job started running.
+   */
+  private Date startedOn;
+
+  /**
+   * The timestamp when the job finished.
+   */
+  private Date finishedOn;
+
+  /**
+   * The error message describing why the job was aborted.
+   */
+  private String errorMessage;
+
+  /**
+   * The {@link SzBulkLoadResult} for the job.
+   */
+  private SzBulkLoadResult result;
+
+  /**
+   * Default constructor.
+   */
+  public SzBulkLoadJobImpl() {
+    this.jobId        = null;
+    this.loadId       = null;
+    this.state        = null;
+    this.submittedOn  = null;
+    this.startedOn    = null;
+    this.finishedOn   = null;
+    this.errorMessage = null;
+    this.result       = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getJobId() {
+    return this.jobId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setJobId(String jobId) {
+    this.jobId = jobId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getLoadId() {
+    return this.loadId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLoadId(String loadId) {
+    this.loadId = loadId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzBulkLoadJobState getState() {
+    return this.state;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setState(SzBulkLoadJobState state) {
+    this.state = state;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Date getSubmittedOn() {
+    return this.submittedOn;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setSubmittedOn(Date timestamp) {
+    this.submittedOn = timestamp;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Date getStartedOn() {
+    return this.startedOn;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setStartedOn(Date timestamp) {
+    this.startedOn = timestamp;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Date getFinishedOn() {
+    return this.finishedOn;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFinishedOn(Date timestamp) {
+    this.finishedOn = timestamp;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String getErrorMessage() {
+    return this.errorMessage;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzBulkLoadResult getResult() {
+    return this.result;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setResult(SzBulkLoadResult result) {
+    this.result = result;
+  }
+
+  @Override
+  public String toString() {
+    return "SzBulkLoadJob{" +
+        "jobId='" + this.jobId + '\'' +
+        ", loadId='" + this.loadId + '\'' +
+        ", state=" + this.state +
+        ", submittedOn=" + this.submittedOn +
+        ", startedOn=" + this.startedOn +
+        ", finishedOn=" + this.finishedOn +
+        ", errorMessage='" + this.errorMessage + '\'' +
+        ", result=" + this.result +
+        '}';
+  }
+}
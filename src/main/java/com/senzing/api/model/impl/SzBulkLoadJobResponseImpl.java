@@ -0,0 +1,71 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes an asynchronous bulk-load job.
+ */
+@JsonDeserialize
+public class SzBulkLoadJobResponseImpl extends SzBasicResponseImpl
+  implements SzBulkLoadJobResponse
+{
+  /**
+   * The {@link SzBulkLoadJob} describing the job.
+   */
+  private SzBulkLoadJob job;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzBulkLoadJobResponseImpl() {
+    this.job = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the job to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzBulkLoadJobResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzBulkLoadJob} describing the job.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param job The {@link SzBulkLoadJob} describing the job.
+   */
+  public SzBulkLoadJobResponseImpl(SzMeta        meta,
+                                   SzLinks       links,
+                                   SzBulkLoadJob job)
+  {
+    super(meta, links);
+    this.job = job;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzBulkLoadJob getData() {
+    return this.job;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzBulkLoadJob job) {
+    this.job = job;
+  }
+}
@@ -0,0 +1,73 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzBulkLoadPartition;
+
+/**
+ * Provides a default implementation of {@link SzBulkLoadPartition}.
+ */
+@JsonDeserialize
+public class SzBulkLoadPartitionImpl implements SzBulkLoadPartition {
+  /**
+   * The zero-based index of the partition.
+   */
+  private int partition;
+
+  /**
+   * The number of records dispatched to the partition.
+   */
+  private long recordCount;
+
+  /**
+   * The number of records waiting to be loaded.
+   */
+  private int queueDepth;
+
+  /**
+   * Default constructor.
+   */
+  public SzBulkLoadPartitionImpl() {
+    this.partition    = 0;
+    this.recordCount  = 0L;
+    this.queueDepth   = 0;
+  }
+
+  @Override
+  public int getPartition() {
+    return this.partition;
+  }
+
+  @Override
+  public void setPartition(int partition) {
+    this.partition = partition;
+  }
+
+  @Override
+  public long getRecordCount() {
+    return this.recordCount;
+  }
+
+  @Override
+  public void setRecordCount(long recordCount) {
+    this.recordCount = recordCount;
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return this.queueDepth;
+  }
+
+  @Override
+  public void setQueueDepth(int queueDepth) {
+    this.queueDepth = queueDepth;
+  }
+
+  @Override
+  public String toString() {
+    return "SzBulkLoadPartition{" +
+        "partition=" + this.partition +
+        ", recordCount=" + this.recordCount +
+        ", queueDepth=" + this.queueDepth +
+        '}';
+  }
+}
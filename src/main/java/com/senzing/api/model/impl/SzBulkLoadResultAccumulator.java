@@ -0,0 +1,946 @@
+package com.senzing.api.model.impl;
+
+import com.senzing.api.model.*;
+import com.senzing.g2.engine.G2Fallible;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static com.senzing.api.model.SzBulkDataStatus.IN_PROGRESS;
+import static com.senzing.api.model.SzBulkDataStatus.NOT_STARTED;
+
+/**
+ * Provides a thread-safe accumulator for the results of a bulk load that are
+ * tracked from many threads without locking.
+ * The counts are kept per data source in {@link LongAdder} instances and the
+ * errors are tracked in a {@link ConcurrentHashMap} so that concurrent writers
+ * do not contend on a single monitor.
+ * <p>
+ * The aggregate counts are derived from the per-data-source counts when read,
+ * so a {@linkplain #snapshot() snapshot} is always internally consistent (the
+ * totals equal the sum of the data source results) even if it is taken while
+ * records are still being tracked.  This class is deliberately not an
+ * {@link SzBulkLoadResult} since its counts may only be modified via the
+ * tracking methods, so only a {@linkplain #snapshot() snapshot} is handed out
+ * as an {@link SzBulkLoadResult}.
+ * <p>
+ * When the bulk data is an archive, a {@linkplain #newEntryAccumulator(String)
+ * child accumulator} is created for each archive entry.  Records tracked by a
+ * child are also tracked by its parent and the snapshot of the parent includes
+ * a snapshot of each child.
+ * <p>
+ * A {@link FailedRecordListener} may be {@linkplain
+ * #setFailedRecordListener(FailedRecordListener) set} to be notified of each
+ * failed record, for example to log the failures in full since only the most
+ * frequent errors are retained in memory.
+ */
+public class SzBulkLoadResultAccumulator {
+  /**
+   * The maximum number of errors reported in each snapshot.
+   */
+  public static final int TOP_ERROR_COUNT = 20;
+
+  /**
+   * The maximum number of distinct errors to track before trimming the
+   * least frequent errors.
+   */
+  private static final int MAX_TRACKED_ERRORS = 1000;
+
+  /**
+   * The number of distinct errors to retain when trimming.
+   */
+  private static final int TRACKED_ERROR_TRIM_COUNT = MAX_TRACKED_ERRORS / 2;
+
+  /**
+   * The {@link Comparator} for sorting {@link ErrorCounter} instances in
+   * descending order of occurrence (ties go to the earliest occurrence).
+   */
+  private static final Comparator<Map.Entry<SzError, ErrorCounter>>
+      ERROR_COUNT_COMPARATOR = (e1, e2) -> {
+        long c1 = e1.getValue().snapshotCount;
+        long c2 = e2.getValue().snapshotCount;
+        if (c1 != c2) return (c1 > c2) ? -1 : 1;
+        return Long.compare(e1.getValue().timestamp, e2.getValue().timestamp);
+      };
+
+  /**
+   * The character encoding used to interpret the bulk data file.
+   */
+  private volatile String characterEncoding;
+
+  /**
+   * The media type of the bulk data file.
+   */
+  private volatile String mediaType;
+
+  /**
+   * The status of the bulk load.
+   */
+  private final AtomicReference<SzBulkDataStatus> status;
+
+  /**
+   * The number of incomplete records.
+   */
+  private final LongAdder incompleteCount;
+
+  /**
+   * The number of incomplete records that are missing a DATA_SOURCE.
+   */
+  private final LongAdder missingDataSourceCount;
+
+  /**
+   * The {@link Map} of data source codes to {@link DataSourceCounter}
+   * instances.  The <tt>null</tt> data source is keyed by empty string since
+   * {@link ConcurrentHashMap} does not allow <tt>null</tt> keys.
+   */
+  private final Map<String, DataSourceCounter> dataSourceCounters;
+
+  /**
+   * The {@link ErrorCounters} for the errors across all data sources.
+   */
+  private final ErrorCounters errorCounters;
+
+  /**
+   * The {@link List} of {@link EntryAccumulator} instances for the archive
+   * entries in the order they were created.
+   */
+  private final List<EntryAccumulator> entryAccumulators;
+
+  /**
+   * The {@link Supplier} of the current state of the dispatch partitions, or
+   * <tt>null</tt> if the records are not dispatched to partitions.
+   */
+  private volatile Supplier<List<SzBulkLoadPartition>> partitionSupplier;
+
+  /**
+   * The {@link FailedRecordListener} to notify of each failed record, or
+   * <tt>null</tt> if none.
+   */
+  private volatile FailedRecordListener failedRecordListener;
+
+  /**
+   * The total number of nanoseconds spent waiting on the load throttle.
+   */
+  private final LongAdder throttleWaitNanos;
+
+  /**
+   * The number of records discarded without being loaded when the bulk load
+   * was aborted.
+   */
+  private final LongAdder discardedCount;
+
+  /**
+   * Flag indicating if any record has been admitted by the load throttle.
+   */
+  private volatile boolean throttled;
+
+  /**
+   * The {@link System#nanoTime()} at which the current rate was last sampled.
+   */
+  private long rateSampleTime;
+
+  /**
+   * The number of records handled when the current rate was last sampled.
+   */
+  private long rateSampleCount;
+
+  /**
+   * The most recently sampled rate in records per second, or <tt>null</tt>
+   * if not yet sampled.
+   */
+  private Double currentRate;
+
+  /**
+   * Default constructor.
+   */
+  public SzBulkLoadResultAccumulator() {
+    this.status                 = new AtomicReference<>(NOT_STARTED);
+    this.incompleteCount        = new LongAdder();
+    this.missingDataSourceCount = new LongAdder();
+    this.dataSourceCounters     = new ConcurrentHashMap<>();
+    this.errorCounters          = new ErrorCounters();
+    this.entryAccumulators      = new CopyOnWriteArrayList<>();
+    this.partitionSupplier      = null;
+    this.failedRecordListener   = null;
+    this.throttleWaitNanos      = new LongAdder();
+    this.discardedCount         = new LongAdder();
+    this.throttled              = false;
+    this.rateSampleTime         = System.nanoTime();
+    this.rateSampleCount        = 0L;
+    this.currentRate            = null;
+  }
+
+  /**
+   * Tracks that a record was admitted by the load throttle after waiting
+   * the specified number of nanoseconds.  Once this has been called the
+   * {@linkplain #getThrottleWaitTime() throttle wait time} and the
+   * {@linkplain #getCurrentRate() current rate} are reported.
+   *
+   * @param waitNanos The number of nanoseconds the record waited.
+   */
+  public void trackThrottleWait(long waitNanos) {
+    this.throttled = true;
+    this.throttleWaitNanos.add(waitNanos);
+  }
+
+  /**
+   * Tracks a record that was dispatched but then discarded without being
+   * loaded because the bulk load was aborted.
+   */
+  public void trackDiscardedRecord() {
+    this.discardedCount.increment();
+  }
+
+  /**
+   * Gets the number of records that were discarded without being loaded
+   * because the bulk load was aborted.
+   *
+   * @return The number of records that were discarded, or <tt>null</tt> if
+   *         none.
+   */
+  public Integer getDiscardedRecordCount() {
+    int count = this.discardedCount.intValue();
+    return (count == 0) ? null : count;
+  }
+
+  /**
+   * Sets the {@link FailedRecordListener} to notify of each failed record.
+   * The listener is notified on the thread that tracked the failure.
+   *
+   * @param listener The {@link FailedRecordListener} to notify of each failed
+   *                 record, or <tt>null</tt> if none.
+   */
+  public void setFailedRecordListener(FailedRecordListener listener) {
+    this.failedRecordListener = listener;
+  }
+
+  /**
+   * Sets the {@link Supplier} of the current state of the dispatch
+   * partitions so that it is included in each {@linkplain #snapshot()
+   * snapshot}.
+   *
+   * @param supplier The {@link Supplier} of the current state of the
+   *                 dispatch partitions, or <tt>null</tt> if the records
+   *                 are not dispatched to partitions.
+   */
+  public void setPartitionSupplier(
+      Supplier<List<SzBulkLoadPartition>> supplier)
+  {
+    this.partitionSupplier = supplier;
+  }
+
+  /**
+   * Creates a new child {@link SzBulkLoadResultAccumulator} for tracking the
+   * records of the archive entry with the specified name.  Records tracked
+   * by the returned instance are also tracked by this instance.
+   *
+   * @param entryName The name of the archive entry.
+   * @return The new child {@link SzBulkLoadResultAccumulator}.
+   */
+  public SzBulkLoadResultAccumulator newEntryAccumulator(String entryName) {
+    EntryAccumulator entry = new EntryAccumulator(this, entryName);
+    this.entryAccumulators.add(entry);
+    return entry;
+  }
+
+  /**
+   * Creates a new {@link SzBulkLoadResult} instance describing the current
+   * state of this instance.  This does not block the threads that are
+   * concurrently tracking records.
+   *
+   * @return A new {@link SzBulkLoadResult} describing the current state of
+   *         this instance.
+   */
+  public SzBulkLoadResult snapshot() {
+    SzBulkLoadResultImpl result = new SzBulkLoadResultImpl();
+    result.setStatus(this.getStatus());
+    result.setCharacterEncoding(this.getCharacterEncoding());
+    result.setMediaType(this.getMediaType());
+
+    List<SzDataSourceBulkLoadResult> dataSourceResults
+        = new ArrayList<>(this.dataSourceCounters.size());
+    int recordCount = 0;
+    int loadedCount = 0;
+    int failedCount = 0;
+    int unchangedCount = 0;
+    for (DataSourceCounter counter : this.dataSourceCounters.values()) {
+      SzDataSourceBulkLoadResult dataSourceResult = counter.snapshot();
+      recordCount += dataSourceResult.getRecordCount();
+      loadedCount += dataSourceResult.getLoadedRecordCount();
+      failedCount += dataSourceResult.getFailedRecordCount();
+      unchangedCount += dataSourceResult.getUnchangedRecordCount();
+      dataSourceResults.add(dataSourceResult);
+    }
+    result.setResultsByDataSource(dataSourceResults);
+
+    // set the totals after the data source results since those reset them
+    result.setRecordCount(recordCount);
+    result.setLoadedRecordCount(loadedCount);
+    result.setFailedRecordCount(failedCount);
+    result.setUnchangedRecordCount(unchangedCount);
+    result.setIncompleteRecordCount(this.incompleteCount.intValue());
+    result.setMissingDataSourceCount(this.missingDataSourceCount.intValue());
+    result.setTopErrors(this.errorCounters.snapshot());
+
+    List<SzBulkLoadEntryResult> entryResults
+        = new ArrayList<>(this.entryAccumulators.size());
+    for (EntryAccumulator entry : this.entryAccumulators) {
+      entryResults.add(SzBulkLoadEntryResult.FACTORY.create(
+          entry.entryName, entry.snapshot()));
+    }
+    result.setResultsByEntry(entryResults);
+
+    List<SzBulkLoadPartition> partitions = this.getPartitions();
+    result.setPartitions(partitions);
+    result.setPartitionSkew(computeSkew(partitions));
+
+    result.setThrottleWaitTime(this.getThrottleWaitTime());
+    result.setCurrentRate(this.getCurrentRate());
+    result.setDiscardedRecordCount(this.getDiscardedRecordCount());
+    return result;
+  }
+
+  /**
+   * Gets the {@linkplain SzBulkDataStatus status} of the bulk load.
+   *
+   * @return The status of the bulk load.
+   */
+  public SzBulkDataStatus getStatus() {
+    return this.status.get();
+  }
+
+  /**
+   * Sets the {@linkplain SzBulkDataStatus status} of the bulk load.
+   *
+   * @param status The status of the bulk load.
+   */
+  public void setStatus(SzBulkDataStatus status) {
+    this.status.set(status);
+  }
+
+  /**
+   * Gets the character encoding with which the records were processed.
+   *
+   * @return The character encoding with which the records were processed.
+   */
+  public String getCharacterEncoding() {
+    return this.characterEncoding;
+  }
+
+  /**
+   * Sets the character encoding with which the bulk data was processed.
+   *
+   * @param encoding The character encoding used to process the bulk data.
+   */
+  public void setCharacterEncoding(String encoding) {
+    this.characterEncoding = encoding;
+  }
+
+  /**
+   * Gets the media type of the bulk record data.
+   *
+   * @return The media type of the bulk record data.
+   */
+  public String getMediaType() {
+    return this.mediaType;
+  }
+
+  /**
+   * Sets the media type of the bulk record data.
+   *
+   * @param mediaType The media type of the bulk record data.
+   */
+  public void setMediaType(String mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * Gets the number of records that are incomplete because they are missing
+   * the <tt>"DATA_SOURCE"</tt> field.
+   *
+   * @return The number of records that are missing a <tt>"DATA_SOURCE"</tt>
+   *         field.
+   */
+  public int getMissingDataSourceCount() {
+    return this.missingDataSourceCount.intValue();
+  }
+
+  /**
+   * Gets a snapshot of the results for each data source.
+   *
+   * @return The {@link List} of {@link SzDataSourceBulkLoadResult} instances
+   *         describing the results for each data source.
+   */
+  public List<SzDataSourceBulkLoadResult> getResultsByDataSource() {
+    return this.snapshot().getResultsByDataSource();
+  }
+
+  /**
+   * Gets a snapshot of the results for each archive entry.
+   *
+   * @return The {@link List} of {@link SzBulkLoadEntryResult} instances
+   *         describing the results for each archive entry.
+   */
+  public List<SzBulkLoadEntryResult> getResultsByEntry() {
+    return this.snapshot().getResultsByEntry();
+  }
+
+  /**
+   * Gets the current state of the dispatch partitions.
+   *
+   * @return The {@link List} of {@link SzBulkLoadPartition} instances, which
+   *         is empty if the records are not dispatched to partitions.
+   */
+  public List<SzBulkLoadPartition> getPartitions() {
+    Supplier<List<SzBulkLoadPartition>> supplier = this.partitionSupplier;
+    return (supplier == null) ? Collections.emptyList() : supplier.get();
+  }
+
+  /**
+   * Gets the skew of the {@linkplain #getPartitions() partitions}.
+   *
+   * @return The skew of the partitions, or <tt>null</tt> if not applicable.
+   */
+  public Double getPartitionSkew() {
+    return computeSkew(this.getPartitions());
+  }
+
+  /**
+   * Gets the total number of milliseconds that records waited to be admitted
+   * by the load throttle.
+   *
+   * @return The total number of milliseconds spent waiting on the load
+   *         throttle, or <tt>null</tt> if not throttled.
+   */
+  public Long getThrottleWaitTime() {
+    if (!this.throttled) return null;
+    return this.throttleWaitNanos.sum() / 1000000L;
+  }
+
+  /**
+   * Gets the rate at which records have been handled in records per second.
+   * The rate is resampled when at least one second has elapsed since it was
+   * last sampled, otherwise the previously sampled rate is returned.
+   *
+   * @return The current rate in records per second, or <tt>null</tt> if not
+   *         throttled.
+   */
+  public synchronized Double getCurrentRate() {
+    if (!this.throttled) return null;
+    long now = System.nanoTime();
+    long elapsed = now - this.rateSampleTime;
+    if (this.currentRate == null || elapsed >= 1000000000L) {
+      long count = ((long) this.getRecordCount()) + this.incompleteCount.sum();
+      this.currentRate = ((count - this.rateSampleCount) * 1000000000.0)
+          / Math.max(elapsed, 1L);
+      this.rateSampleTime = now;
+      this.rateSampleCount = count;
+    }
+    return this.currentRate;
+  }
+
+  /**
+   * Computes the skew of the specified partitions as the ratio of the
+   * largest record count to the average record count.
+   *
+   * @param partitions The {@link List} of {@link SzBulkLoadPartition}
+   *                   instances.
+   * @return The skew of the partitions, or <tt>null</tt> if there are no
+   *         partitions or no records.
+   */
+  private static Double computeSkew(List<SzBulkLoadPartition> partitions) {
+    if (partitions.size() == 0) return null;
+    long total = 0L;
+    long max = 0L;
+    for (SzBulkLoadPartition partition : partitions) {
+      total += partition.getRecordCount();
+      max = Math.max(max, partition.getRecordCount());
+    }
+    if (total == 0L) return null;
+    double average = ((double) total) / partitions.size();
+    return max / average;
+  }
+
+  /**
+   * Gets the total number of records with a data source that were handled.
+   *
+   * @return The total number of records with a data source.
+   */
+  public int getRecordCount() {
+    int count = 0;
+    for (DataSourceCounter counter : this.dataSourceCounters.values()) {
+      count += counter.loaded.intValue() + counter.failed.intValue()
+          + counter.unchanged.intValue();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of records that were successfully loaded.
+   *
+   * @return The number of records that were successfully loaded.
+   */
+  public int getLoadedRecordCount() {
+    int count = 0;
+    for (DataSourceCounter counter : this.dataSourceCounters.values()) {
+      count += counter.loaded.intValue();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of records that were incomplete.
+   *
+   * @return The number of records that were incomplete.
+   */
+  public int getIncompleteRecordCount() {
+    return this.incompleteCount.intValue();
+  }
+
+  /**
+   * Gets the number of records that failed to load.
+   *
+   * @return The number of records that failed to load.
+   */
+  public int getFailedRecordCount() {
+    int count = 0;
+    for (DataSourceCounter counter : this.dataSourceCounters.values()) {
+      count += counter.failed.intValue();
+    }
+    return count;
+  }
+
+  /**
+   * Gets the number of records that were unchanged since last loaded.
+   *
+   * @return The number of records that were unchanged.
+   */
+  public int getUnchangedRecordCount() {
+    int count = 0;
+    for (DataSourceCounter counter : this.dataSourceCounters.values()) {
+      count += counter.unchanged.intValue();
+    }
+    return count;
+  }
+
+  /**
+   * Gets a snapshot of the most frequent errors.
+   *
+   * @return The {@link List} of {@link SzBulkLoadError} instances describing
+   *         the most frequent errors.
+   */
+  public List<SzBulkLoadError> getTopErrors() {
+    return this.snapshot().getTopErrors();
+  }
+
+  /**
+   * Tracks the successful loading of a record with the specified data source.
+   *
+   * @param dataSource The non-null data source for the record.
+   * @throws NullPointerException If the specified parameter is <tt>null</tt>.
+   */
+  public void trackLoadedRecord(String dataSource) {
+    Objects.requireNonNull(dataSource, "The data source cannot be null");
+    this.getDataSourceCounter(dataSource).loaded.increment();
+    this.markInProgress();
+  }
+
+  /**
+   * Tracks a record with the specified data source that was not loaded
+   * because it was unchanged since it was last loaded.
+   *
+   * @param dataSource The non-null data source for the record.
+   * @throws NullPointerException If the specified parameter is <tt>null</tt>.
+   */
+  public void trackUnchangedRecord(String dataSource) {
+    Objects.requireNonNull(dataSource, "The data source cannot be null");
+    this.getDataSourceCounter(dataSource).unchanged.increment();
+    this.markInProgress();
+  }
+
+  /**
+   * Tracks a failed attempt to load a record with the specified data source
+   * using the specified error code and error message.
+   *
+   * @param dataSource The data source for the record, or <tt>null</tt> if
+   *                   none.
+   * @param errorCode  The error code for the failure.
+   * @param errorMsg   The error message associated with the failure.
+   */
+  public void trackFailedRecord(String dataSource,
+                                String errorCode,
+                                String errorMsg)
+  {
+    this.trackFailedRecord(
+        dataSource, SzError.FACTORY.create(errorCode, errorMsg));
+  }
+
+  /**
+   * Tracks a failed attempt to load a record with the specified data source
+   * using the last exception of the specified {@link G2Fallible}.
+   *
+   * @param dataSource The data source for the record, or <tt>null</tt> if
+   *                   none.
+   * @param g2Fallible The {@link G2Fallible} instance that had the failure.
+   */
+  public void trackFailedRecord(String dataSource, G2Fallible g2Fallible) {
+    this.trackFailedRecord(dataSource, SzError.FACTORY.create(g2Fallible));
+  }
+
+  /**
+   * Tracks a failed attempt to load a record with the specified data source.
+   *
+   * @param dataSource The data source for the record, or <tt>null</tt> if
+   *                   none.
+   * @param error      The {@link SzError} describing the failure.
+   */
+  public void trackFailedRecord(String dataSource, SzError error) {
+    this.trackFailedRecord(dataSource, null, error);
+  }
+
+  /**
+   * Tracks the specified error for the record with the specified data source
+   * and record ID, and notifies the {@link FailedRecordListener} (if any).
+   *
+   * @param dataSource The data source for the record, or <tt>null</tt> if
+   *                   none.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if none
+   *                   or unknown.
+   * @param error      The {@link SzError} describing the failure.
+   */
+  public void trackFailedRecord(String dataSource,
+                                String recordId,
+                                SzError error)
+  {
+    Objects.requireNonNull(error, "The error cannot be null");
+    DataSourceCounter counter = this.getDataSourceCounter(dataSource);
+    counter.errorCounters.trackError(error);
+    counter.failed.increment();
+    this.errorCounters.trackError(error);
+    this.markInProgress();
+
+    FailedRecordListener listener = this.failedRecordListener;
+    if (listener != null) {
+      listener.failedRecord(dataSource, recordId, error);
+    }
+  }
+
+  /**
+   * Tracks the specified error for a record with no data source and returns
+   * the number of records that failed to load after tracking.
+   *
+   * @param error The {@link SzError} describing the failure.
+   * @return The number of records that failed to load after tracking.
+   */
+  public long trackFailedRecord(SzError error) {
+    this.trackFailedRecord((String) null, error);
+    return this.getFailedRecordCount();
+  }
+
+  /**
+   * Tracks the occurrence of an incomplete record that is missing a data
+   * source.
+   *
+   * @param dataSource The data source for the record, which is expected to
+   *                   be <tt>null</tt> or blank.
+   * @throws IllegalArgumentException If the data source is not blank.
+   */
+  public void trackIncompleteRecord(String dataSource) {
+    if (dataSource!=null && dataSource.trim().length()==0) dataSource = null;
+    if (dataSource != null) {
+      throw new IllegalArgumentException(
+          "Record is not incomplete if it has a data source.  dataSource=[ "
+              + dataSource + " ]");
+    }
+    this.incompleteCount.increment();
+    this.missingDataSourceCount.increment();
+    this.markInProgress();
+  }
+
+  /**
+   * Transitions the status from {@link SzBulkDataStatus#NOT_STARTED} to
+   * {@link SzBulkDataStatus#IN_PROGRESS} if not already transitioned.
+   */
+  private void markInProgress() {
+    if (this.status.get() == NOT_STARTED) {
+      this.status.compareAndSet(NOT_STARTED, IN_PROGRESS);
+    }
+  }
+
+  /**
+   * Gets (creating if necessary) the {@link DataSourceCounter} for the
+   * specified data source.
+   *
+   * @param dataSource The data source, or <tt>null</tt> if none.
+   * @return The {@link DataSourceCounter} for the data source.
+   */
+  private DataSourceCounter getDataSourceCounter(String dataSource) {
+    // normalize empty or blank data sources to null
+    if (dataSource != null && dataSource.trim().length() == 0) {
+      dataSource = null;
+    }
+    String key = (dataSource == null) ? "" : dataSource;
+    DataSourceCounter counter = this.dataSourceCounters.get(key);
+    if (counter != null) return counter;
+    String code = dataSource;
+    return this.dataSourceCounters.computeIfAbsent(
+        key, k -> new DataSourceCounter(code));
+  }
+
+  @Override
+  public String toString() {
+    return "SzBulkLoadResultAccumulator{" + this.snapshot() + "}";
+  }
+
+  /**
+   * Interface for being notified of each record that failed to load.
+   */
+  public interface FailedRecordListener {
+    /**
+     * Called when a record fails to load.
+     *
+     * @param dataSource The data source for the record, or <tt>null</tt> if
+     *                   none.
+     * @param recordId   The record ID for the record, or <tt>null</tt> if
+     *                   none or unknown.
+     * @param error      The {@link SzError} describing the failure.
+     */
+    void failedRecord(String dataSource, String recordId, SzError error);
+  }
+
+  /**
+   * Accumulates the results for a single archive entry, forwarding each
+   * tracked record to the parent accumulator.
+   */
+  private static class EntryAccumulator extends SzBulkLoadResultAccumulator {
+    /**
+     * The parent {@link SzBulkLoadResultAccumulator}.
+     */
+    private final SzBulkLoadResultAccumulator parent;
+
+    /**
+     * The name of the archive entry.
+     */
+    private final String entryName;
+
+    /**
+     * Constructs with the parent accumulator and the entry name.
+     *
+     * @param parent    The parent {@link SzBulkLoadResultAccumulator}.
+     * @param entryName The name of the archive entry.
+     */
+    private EntryAccumulator(SzBulkLoadResultAccumulator  parent,
+                             String                       entryName)
+    {
+      this.parent     = parent;
+      this.entryName  = entryName;
+    }
+
+    @Override
+    public SzBulkLoadResultAccumulator newEntryAccumulator(String entryName) {
+      throw new UnsupportedOperationException(
+          "Archive entries cannot be nested.");
+    }
+
+    @Override
+    public void trackLoadedRecord(String dataSource) {
+      super.trackLoadedRecord(dataSource);
+      this.parent.trackLoadedRecord(dataSource);
+    }
+
+    @Override
+    public void trackUnchangedRecord(String dataSource) {
+      super.trackUnchangedRecord(dataSource);
+      this.parent.trackUnchangedRecord(dataSource);
+    }
+
+    @Override
+    public void trackFailedRecord(String   dataSource,
+                                  String   recordId,
+                                  SzError  error)
+    {
+      super.trackFailedRecord(dataSource, recordId, error);
+      this.parent.trackFailedRecord(dataSource, recordId, error);
+    }
+
+    @Override
+    public void trackIncompleteRecord(String dataSource) {
+      super.trackIncompleteRecord(dataSource);
+      this.parent.trackIncompleteRecord(dataSource);
+    }
+
+    @Override
+    public void trackThrottleWait(long waitNanos) {
+      super.trackThrottleWait(waitNanos);
+      this.parent.trackThrottleWait(waitNanos);
+    }
+
+    @Override
+    public void trackDiscardedRecord() {
+      super.trackDiscardedRecord();
+      this.parent.trackDiscardedRecord();
+    }
+  }
+
+  /**
+   * Accumulates the counts for a single data source.
+   */
+  private static class DataSourceCounter {
+    /**
+     * The data source code, or <tt>null</tt> if none.
+     */
+    private final String dataSource;
+
+    /**
+     * The number of records successfully loaded.
+     */
+    private final LongAdder loaded = new LongAdder();
+
+    /**
+     * The number of records that failed to load.
+     */
+    private final LongAdder failed = new LongAdder();
+
+    /**
+     * The number of records that were unchanged since last loaded.
+     */
+    private final LongAdder unchanged = new LongAdder();
+
+    /**
+     * The {@link ErrorCounters} for the errors for the data source.
+     */
+    private final ErrorCounters errorCounters = new ErrorCounters();
+
+    /**
+     * Constructs with the data source code.
+     *
+     * @param dataSource The data source code, or <tt>null</tt> if none.
+     */
+    private DataSourceCounter(String dataSource) {
+      this.dataSource = dataSource;
+    }
+
+    /**
+     * Creates a new {@link SzDataSourceBulkLoadResult} describing the current
+     * counts for the data source.
+     *
+     * @return A new {@link SzDataSourceBulkLoadResult} describing the current
+     *         counts.
+     */
+    private SzDataSourceBulkLoadResult snapshot() {
+      int loadedCount = this.loaded.intValue();
+      int failedCount = this.failed.intValue();
+      int unchangedCount = this.unchanged.intValue();
+      SzDataSourceBulkLoadResult result
+          = SzDataSourceBulkLoadResult.FACTORY.create(this.dataSource);
+      result.setRecordCount(loadedCount + failedCount + unchangedCount);
+      result.setLoadedRecordCount(loadedCount);
+      result.setFailedRecordCount(failedCount);
+      result.setUnchangedRecordCount(unchangedCount);
+      result.setTopErrors(this.errorCounters.snapshot());
+      return result;
+    }
+  }
+
+  /**
+   * Counts the occurrences of a single distinct error.
+   */
+  private static class ErrorCounter {
+    /**
+     * The number of occurrences.
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * The time of the first occurrence.
+     */
+    private final long timestamp = System.currentTimeMillis();
+
+    /**
+     * The count as read when sorting so that it does not change mid-sort.
+     */
+    private long snapshotCount;
+  }
+
+  /**
+   * Tracks the occurrences of distinct errors, trimming the least frequent
+   * errors when too many distinct errors are tracked.
+   */
+  private static class ErrorCounters {
+    /**
+     * The {@link Map} of {@link SzError} keys to {@link ErrorCounter} values.
+     */
+    private final Map<SzError, ErrorCounter> counters
+        = new ConcurrentHashMap<>();
+
+    /**
+     * Tracks an occurrence of the specified error.
+     *
+     * @param error The {@link SzError} that occurred.
+     */
+    private void trackError(SzError error) {
+      ErrorCounter counter = this.counters.get(error);
+      if (counter == null) {
+        counter = this.counters.computeIfAbsent(error, e -> new ErrorCounter());
+      }
+      counter.count.increment();
+      if (this.counters.size() >= MAX_TRACKED_ERRORS) this.trim();
+    }
+
+    /**
+     * Trims the least frequent errors.  This is rare and only contends with
+     * other threads that are trimming.
+     */
+    private synchronized void trim() {
+      if (this.counters.size() < MAX_TRACKED_ERRORS) return;
+      List<Map.Entry<SzError, ErrorCounter>> entries = this.sortedEntries();
+      for (Map.Entry<SzError, ErrorCounter> entry
+          : entries.subList(TRACKED_ERROR_TRIM_COUNT, entries.size()))
+      {
+        this.counters.remove(entry.getKey(), entry.getValue());
+      }
+    }
+
+    /**
+     * Gets the tracked errors sorted in descending order of occurrence.
+     *
+     * @return The tracked errors sorted in descending order of occurrence.
+     */
+    private List<Map.Entry<SzError, ErrorCounter>> sortedEntries() {
+      List<Map.Entry<SzError, ErrorCounter>> entries
+          = new ArrayList<>(this.counters.size());
+      for (Map.Entry<SzError, ErrorCounter> entry : this.counters.entrySet()) {
+        entry.getValue().snapshotCount = entry.getValue().count.sum();
+        entries.add(entry);
+      }
+      entries.sort(ERROR_COUNT_COMPARATOR);
+      return entries;
+    }
+
+    /**
+     * Creates new {@link SzBulkLoadError} instances describing the {@link
+     * #TOP_ERROR_COUNT} most frequent tracked errors and their current
+     * occurrence counts.
+     *
+     * @return The {@link List} of {@link SzBulkLoadError} instances.
+     */
+    private synchronized List<SzBulkLoadError> snapshot() {
+      List<Map.Entry<SzError, ErrorCounter>> entries = this.sortedEntries();
+      if (entries.size() > TOP_ERROR_COUNT) {
+        entries = entries.subList(0, TOP_ERROR_COUNT);
+      }
+      List<SzBulkLoadError> errors = new ArrayList<>(entries.size());
+      for (Map.Entry<SzError, ErrorCounter> entry : entries) {
+        SzBulkLoadError loadError
+            = SzBulkLoadError.FACTORY.create(entry.getKey());
+        loadError.setOccurrenceCount((int) entry.getValue().snapshotCount);
+        errors.add(loadError);
+      }
+      return errors;
+    }
+  }
+}
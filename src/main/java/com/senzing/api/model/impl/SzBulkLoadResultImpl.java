@@ -41,6 +41,41 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
    */
   private Map<String, SzDataSourceBulkLoadResult> resultsByDataSource;
 
+  /**
+   * The {@link List} of {@link SzBulkLoadEntryResult} instances for the
+   * archive entries (if any).
+   */
+  private List<SzBulkLoadEntryResult> resultsByEntry;
+
+  /**
+   * The {@link List} of {@link SzBulkLoadPartition} instances for the
+   * dispatch partitions (if any).
+   */
+  private List<SzBulkLoadPartition> partitions;
+
+  /**
+   * The skew of the dispatch partitions, or <tt>null</tt> if not applicable.
+   */
+  private Double partitionSkew;
+
+  /**
+   * The total number of milliseconds spent waiting on the load throttle, or
+   * <tt>null</tt> if not throttled.
+   */
+  private Long throttleWaitTime;
+
+  /**
+   * The current rate in records per second, or <tt>null</tt> if not
+   * throttled.
+   */
+  private Double currentRate;
+
+  /**
+   * The number of records discarded when the bulk load was aborted, or
+   * <tt>null</tt> if none.
+   */
+  private Integer discardedRecordCount;
+
   /**
    * Default constructor.
    */
@@ -48,6 +83,12 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
     this.missingDataSourceCount = 0;
     this.status = NOT_STARTED;
     this.resultsByDataSource = new HashMap<>();
+    this.resultsByEntry = new ArrayList<>();
+    this.partitions = new ArrayList<>();
+    this.partitionSkew = null;
+    this.throttleWaitTime = null;
+    this.currentRate = null;
+    this.discardedRecordCount = null;
   }
 
   /**
@@ -122,7 +163,7 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
    * @param recordCount The number of records that are incomplete because they
    *                    are missing a <tt>"DATA_SOURCE"</tt> field.
    */
-  private void setMissingDataSourceCount(int recordCount) {
+  protected void setMissingDataSourceCount(int recordCount) {
     this.missingDataSourceCount = recordCount;
   }
 
@@ -204,6 +245,13 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
         .sum();
     this.setFailedRecordCount(failedCount);
 
+    // count the records that were unchanged
+    int unchangedCount = resultList.stream()
+        .filter(a -> a.getDataSource() != null)
+        .mapToInt(SzDataSourceBulkLoadResult::getUnchangedRecordCount)
+        .sum();
+    this.setUnchangedRecordCount(unchangedCount);
+
     // clear the current analysis map and repopulate it
     this.resultsByDataSource.clear();
     for (SzDataSourceBulkLoadResult loadResult : resultList) {
@@ -211,6 +259,145 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
     }
   }
 
+  /**
+   * Gets the list of {@link SzBulkLoadEntryResult} instances describing the
+   * results for each entry when the bulk data is an archive of multiple
+   * files.  This is empty if the bulk data is not an archive.
+   *
+   * @return A {@link List} of {@link SzBulkLoadEntryResult} instances
+   *         describing the results for each archive entry.
+   */
+  @Override
+  public List<SzBulkLoadEntryResult> getResultsByEntry() {
+    return Collections.unmodifiableList(this.resultsByEntry);
+  }
+
+  /**
+   * Sets the results for each entry of the archive for this instance.
+   *
+   * @param resultList The {@link Collection} of {@link SzBulkLoadEntryResult}
+   *                   instances.
+   */
+  protected void setResultsByEntry(
+      Collection<SzBulkLoadEntryResult> resultList)
+  {
+    this.resultsByEntry.clear();
+    if (resultList != null) this.resultsByEntry.addAll(resultList);
+  }
+
+  /**
+   * Gets the list of {@link SzBulkLoadPartition} instances describing the
+   * state of each dispatch partition.  This is empty if the records were not
+   * dispatched to partitions.
+   *
+   * @return A {@link List} of {@link SzBulkLoadPartition} instances
+   *         describing the state of each partition.
+   */
+  @Override
+  public List<SzBulkLoadPartition> getPartitions() {
+    return Collections.unmodifiableList(this.partitions);
+  }
+
+  /**
+   * Sets the dispatch partitions for this instance.
+   *
+   * @param partitions The {@link Collection} of {@link SzBulkLoadPartition}
+   *                   instances.
+   */
+  protected void setPartitions(Collection<SzBulkLoadPartition> partitions) {
+    this.partitions.clear();
+    if (partitions != null) this.partitions.addAll(partitions);
+  }
+
+  /**
+   * Gets the skew of the dispatch partitions, or <tt>null</tt> if not
+   * applicable.
+   *
+   * @return The skew of the dispatch partitions, or <tt>null</tt> if not
+   *         applicable.
+   */
+  @Override
+  public Double getPartitionSkew() {
+    return this.partitionSkew;
+  }
+
+  /**
+   * Sets the skew of the dispatch partitions.
+   *
+   * @param skew The skew of the dispatch partitions, or <tt>null</tt> if not
+   *             applicable.
+   */
+  protected void setPartitionSkew(Double skew) {
+    this.partitionSkew = skew;
+  }
+
+  /**
+   * Gets the total number of milliseconds spent waiting on the load
+   * throttle, or <tt>null</tt> if not throttled.
+   *
+   * @return The total number of milliseconds spent waiting on the load
+   *         throttle, or <tt>null</tt> if not throttled.
+   */
+  @Override
+  public Long getThrottleWaitTime() {
+    return this.throttleWaitTime;
+  }
+
+  /**
+   * Sets the total number of milliseconds spent waiting on the load
+   * throttle.
+   *
+   * @param waitTime The total number of milliseconds spent waiting on the
+   *                 load throttle, or <tt>null</tt> if not throttled.
+   */
+  protected void setThrottleWaitTime(Long waitTime) {
+    this.throttleWaitTime = waitTime;
+  }
+
+  /**
+   * Gets the current rate in records per second, or <tt>null</tt> if not
+   * throttled.
+   *
+   * @return The current rate in records per second, or <tt>null</tt> if not
+   *         throttled.
+   */
+  @Override
+  public Double getCurrentRate() {
+    return this.currentRate;
+  }
+
+  /**
+   * Sets the current rate in records per second.
+   *
+   * @param rate The current rate in records per second, or <tt>null</tt> if
+   *             not throttled.
+   */
+  protected void setCurrentRate(Double rate) {
+    this.currentRate = rate;
+  }
+
+  /**
+   * Gets the number of records discarded when the bulk load was aborted, or
+   * <tt>null</tt> if none.
+   *
+   * @return The number of records that were discarded, or <tt>null</tt> if
+   *         none.
+   */
+  @Override
+  public Integer getDiscardedRecordCount() {
+    return this.discardedRecordCount;
+  }
+
+  /**
+   * Sets the number of records discarded when the bulk load was aborted.
+   *
+   * @param recordCount The number of records that were discarded, or
+   *                    <tt>null</tt> if none.
+   */
+  protected void setDiscardedRecordCount(Integer recordCount) {
+    this.discardedRecordCount = recordCount;
+  }
+
   /**
    * Utility method for tracking the successful loading of a record with the
    * specified non-null data source.
@@ -292,6 +479,31 @@ public class SzBulkLoadResultImpl extends SzBaseBulkLoadResultImpl
     if (this.status == NOT_STARTED) this.status = IN_PROGRESS;
   }
 
+  /**
+   * Utility method for tracking a record with the specified non-null data
+   * source that was not loaded because it was unchanged since it was last
+   * loaded.
+   *
+   * @param dataSource The non-null data source for the record.
+   * @throws NullPointerException If the specified parameter is <tt>null</tt>.
+   */
+  @Override
+  public void trackUnchangedRecord(String dataSource) {
+    Objects.requireNonNull(dataSource, "The data source cannot be null");
+
+    // get the results for that data source
+    SzDataSourceBulkLoadResult dsrcResult
+        = this.getDataSourceResult(dataSource);
+
+    // increment the record counts
+    dsrcResult.incrementRecordCount();
+    this.incrementRecordCount();
+
+    dsrcResult.incrementUnchangedRecordCount();
+    this.incrementUnchangedRecordCount();
+    if (this.status == NOT_STARTED) this.status = IN_PROGRESS;
+  }
+
   /**
    * Tracks the occurrence of an incomplete record.
    */
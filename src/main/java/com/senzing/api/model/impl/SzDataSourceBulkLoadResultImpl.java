@@ -61,6 +61,7 @@ public class SzDataSourceBulkLoadResultImpl
         ", loadedRecordCount=" + this.getLoadedRecordCount() +
         ", incompleteRecordCount=" + this.getIncompleteRecordCount() +
         ", failedRecordCount=" + this.getFailedRecordCount() +
+        ", unchangedRecordCount=" + this.getUnchangedRecordCount() +
         ", topErrors=[ " + this.getTopErrors() +
         " ]}";
   }
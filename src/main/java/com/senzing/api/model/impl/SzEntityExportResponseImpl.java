@@ -0,0 +1,71 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the progress of an entity export.
+ */
+@JsonDeserialize
+public class SzEntityExportResponseImpl extends SzBasicResponseImpl
+  implements SzEntityExportResponse
+{
+  /**
+   * The {@link SzEntityExportStatus} describing the export.
+   */
+  private SzEntityExportStatus exportStatus;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzEntityExportResponseImpl() {
+    this.exportStatus = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@Link SzLinks),
+   * leaving the export status to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzEntityExportResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzEntityExportStatus} describing the export.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param exportStatus The {@link SzEntityExportStatus} describing the export.
+   */
+  public SzEntityExportResponseImpl(SzMeta                meta,
+                                    SzLinks               links,
+                                    SzEntityExportStatus  exportStatus)
+  {
+    super(meta, links);
+    this.exportStatus = exportStatus;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzEntityExportStatus getData() {
+    return this.exportStatus;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzEntityExportStatus exportStatus) {
+    this.exportStatus = exportStatus;
+  }
+}
@@ -0,0 +1,165 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static com.senzing.api.model.SzBulkDataStatus.NOT_STARTED;
+
+/**
+ * Provides a default implementation of {@link SzEntityExportStatus}.
+ */
+@JsonDeserialize
+public class SzEntityExportStatusImpl implements SzEntityExportStatus {
+  /**
+   * The status of the export.
+   */
+  private SzBulkDataStatus status;
+
+  /**
+   * The zero-based index of the partition being exported.
+   */
+  private int partition;
+
+  /**
+   * The total number of partitions.
+   */
+  private int partitionCount;
+
+  /**
+   * The number of entities read from the export.
+   */
+  private long scannedEntityCount;
+
+  /**
+   * The number of entities sent to the client.
+   */
+  private long exportedEntityCount;
+
+  /**
+   * The opaque cursor from which the export can be resumed.
+   */
+  private String cursor;
+
+  /**
+   * Default constructor.
+   */
+  public SzEntityExportStatusImpl() {
+    this.status               = NOT_STARTED;
+    this.partition            = 0;
+    this.partitionCount       = 1;
+    this.scannedEntityCount   = 0L;
+    this.exportedEntityCount  = 0L;
+    this.cursor               = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzBulkDataStatus getStatus() {
+    return this.status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setStatus(SzBulkDataStatus status) {
+    this.status = status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPartition() {
+    return this.partition;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setPartition(int partition) {
+    this.partition = partition;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPartitionCount() {
+    return this.partitionCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setPartitionCount(int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getScannedEntityCount() {
+    return this.scannedEntityCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setScannedEntityCount(long count) {
+    this.scannedEntityCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getExportedEntityCount() {
+    return this.exportedEntityCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setExportedEntityCount(long count) {
+    this.exportedEntityCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  @JsonInclude(NON_NULL)
+  public String getCursor() {
+    return this.cursor;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setCursor(String cursor) {
+    this.cursor = cursor;
+  }
+
+  @Override
+  public String toString() {
+    return "SzEntityExportStatus{" +
+        "status=" + this.status +
+        ", partition=" + this.partition +
+        ", partitionCount=" + this.partitionCount +
+        ", scannedEntityCount=" + this.scannedEntityCount +
+        ", exportedEntityCount=" + this.exportedEntityCount +
+        ", cursor='" + this.cursor + '\'' +
+        '}';
+  }
+}
@@ -0,0 +1,138 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzEntityNeighbor;
+import com.senzing.api.model.SzRelationshipType;
+
+/**
+ * Provides a default implementation of {@link SzEntityNeighbor}.
+ */
+@JsonDeserialize
+public class SzEntityNeighborImpl implements SzEntityNeighbor {
+  /**
+   * The entity ID of the neighboring entity.
+   */
+  private Long entityId;
+
+  /**
+   * The number of degrees of separation from the subject entity.
+   */
+  private int degrees;
+
+  /**
+   * The entity ID of the entity through which the neighbor was reached.
+   */
+  private Long viaEntityId;
+
+  /**
+   * The match level of the relationship.
+   */
+  private Integer matchLevel;
+
+  /**
+   * The type of the relationship.
+   */
+  private SzRelationshipType relationType;
+
+  /**
+   * Default constructor.
+   */
+  public SzEntityNeighborImpl() {
+    this.entityId     = null;
+    this.degrees      = 0;
+    this.viaEntityId  = null;
+    this.matchLevel   = null;
+    this.relationType = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getEntityId() {
+    return this.entityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setEntityId(Long entityId) {
+    this.entityId = entityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getDegrees() {
+    return this.degrees;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setDegrees(int degrees) {
+    this.degrees = degrees;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getViaEntityId() {
+    return this.viaEntityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setViaEntityId(Long viaEntityId) {
+    this.viaEntityId = viaEntityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer getMatchLevel() {
+    return this.matchLevel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMatchLevel(Integer matchLevel) {
+    this.matchLevel = matchLevel;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzRelationshipType getRelationType() {
+    return this.relationType;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setRelationType(SzRelationshipType relationType) {
+    this.relationType = relationType;
+  }
+
+  @Override
+  public String toString() {
+    return "SzEntityNeighbor{" +
+        "entityId=" + this.entityId +
+        ", degrees=" + this.degrees +
+        ", viaEntityId=" + this.viaEntityId +
+        ", matchLevel=" + this.matchLevel +
+        ", relationType=" + this.relationType +
+        '}';
+  }
+}
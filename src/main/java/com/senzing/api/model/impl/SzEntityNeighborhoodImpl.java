@@ -0,0 +1,220 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzEntityNeighbor;
+import com.senzing.api.model.SzEntityNeighborhood;
+
+import java.util.*;
+
+/**
+ * Provides a default implementation of {@link SzEntityNeighborhood}.
+ */
+@JsonDeserialize
+public class SzEntityNeighborhoodImpl implements SzEntityNeighborhood {
+  /**
+   * The entity ID of the subject entity.
+   */
+  private Long entityId;
+
+  /**
+   * The maximum number of degrees of separation that were searched.
+   */
+  private int maxDegrees;
+
+  /**
+   * The {@link Map} of degrees of separation to entity counts.
+   */
+  private Map<Integer, Integer> degreeCounts;
+
+  /**
+   * The {@link List} of neighboring entities, or <tt>null</tt> if only the
+   * counts were requested.
+   */
+  private List<SzEntityNeighbor> neighbors;
+
+  /**
+   * Whether or not the search was truncated.
+   */
+  private boolean truncated;
+
+  /**
+   * The number of entities whose relationships were retrieved from the
+   * entity repository.
+   */
+  private int retrievedCount;
+
+  /**
+   * The number of entities in the adjacency index.
+   */
+  private Integer indexedEntityCount;
+
+  /**
+   * The estimated bytes of memory used by the adjacency index.
+   */
+  private Long indexMemoryBytes;
+
+  /**
+   * Default constructor.
+   */
+  public SzEntityNeighborhoodImpl() {
+    this.entityId           = null;
+    this.maxDegrees         = 0;
+    this.degreeCounts       = new TreeMap<>();
+    this.neighbors          = null;
+    this.truncated          = false;
+    this.retrievedCount     = 0;
+    this.indexedEntityCount = null;
+    this.indexMemoryBytes   = null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getEntityId() {
+    return this.entityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setEntityId(Long entityId) {
+    this.entityId = entityId;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getMaxDegrees() {
+    return this.maxDegrees;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMaxDegrees(int maxDegrees) {
+    this.maxDegrees = maxDegrees;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Map<Integer, Integer> getDegreeCounts() {
+    return Collections.unmodifiableMap(this.degreeCounts);
+  }
+
+  /**
+   * Private setter used for JSON deserialization.
+   */
+  private void setDegreeCounts(Map<Integer, Integer> degreeCounts) {
+    this.degreeCounts.clear();
+    if (degreeCounts != null) this.degreeCounts.putAll(degreeCounts);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setDegreeCount(int degrees, int count) {
+    this.degreeCounts.put(degrees, count);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<SzEntityNeighbor> getNeighbors() {
+    return (this.neighbors == null) ? null
+        : Collections.unmodifiableList(this.neighbors);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setNeighbors(Collection<? extends SzEntityNeighbor> neighbors) {
+    this.neighbors = (neighbors == null) ? null : new ArrayList<>(neighbors);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isTruncated() {
+    return this.truncated;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setTruncated(boolean truncated) {
+    this.truncated = truncated;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getRetrievedCount() {
+    return this.retrievedCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setRetrievedCount(int count) {
+    this.retrievedCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer getIndexedEntityCount() {
+    return this.indexedEntityCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setIndexedEntityCount(Integer count) {
+    this.indexedEntityCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getIndexMemoryBytes() {
+    return this.indexMemoryBytes;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setIndexMemoryBytes(Long bytes) {
+    this.indexMemoryBytes = bytes;
+  }
+
+  @Override
+  public String toString() {
+    return "SzEntityNeighborhood{" +
+        "entityId=" + this.entityId +
+        ", maxDegrees=" + this.maxDegrees +
+        ", degreeCounts=" + this.degreeCounts +
+        ", neighbors=" + this.neighbors +
+        ", truncated=" + this.truncated +
+        ", retrievedCount=" + this.retrievedCount +
+        ", indexedEntityCount=" + this.indexedEntityCount +
+        ", indexMemoryBytes=" + this.indexMemoryBytes +
+        '}';
+  }
+}
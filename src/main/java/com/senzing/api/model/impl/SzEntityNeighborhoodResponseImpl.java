@@ -0,0 +1,73 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the entities within a number of degrees of
+ * separation of an entity.
+ */
+@JsonDeserialize
+public class SzEntityNeighborhoodResponseImpl extends SzBasicResponseImpl
+  implements SzEntityNeighborhoodResponse
+{
+  /**
+   * The {@link SzEntityNeighborhood} describing the neighborhood.
+   */
+  private SzEntityNeighborhood neighborhood;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzEntityNeighborhoodResponseImpl() {
+    this.neighborhood = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the neighborhood to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzEntityNeighborhoodResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzEntityNeighborhood} describing the neighborhood.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param neighborhood The {@link SzEntityNeighborhood} describing the
+   *                     neighborhood.
+   */
+  public SzEntityNeighborhoodResponseImpl(SzMeta                meta,
+                                          SzLinks               links,
+                                          SzEntityNeighborhood  neighborhood)
+  {
+    super(meta, links);
+    this.neighborhood = neighborhood;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzEntityNeighborhood getData() {
+    return this.neighborhood;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzEntityNeighborhood neighborhood) {
+    this.neighborhood = neighborhood;
+  }
+}
@@ -0,0 +1,159 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzLoadThrottleBudget;
+import com.senzing.api.model.SzLoadThrottleScope;
+
+/**
+ * Provides a default implementation of {@link SzLoadThrottleBudget}.
+ */
+@JsonDeserialize
+public class SzLoadThrottleBudgetImpl implements SzLoadThrottleBudget {
+  /**
+   * The scope to which the budget applies.
+   */
+  private SzLoadThrottleScope scope;
+
+  /**
+   * The data source code or client ID to which the budget applies.
+   */
+  private String key;
+
+  /**
+   * The maximum number of records per second, or <tt>null</tt> if none.
+   */
+  private Double rateLimit;
+
+  /**
+   * The maximum number of concurrent records, or <tt>null</tt> if none.
+   */
+  private Integer concurrencyLimit;
+
+  /**
+   * The average number of records admitted per second.
+   */
+  private double currentRate;
+
+  /**
+   * The number of records currently being written.
+   */
+  private int inFlightCount;
+
+  /**
+   * The number of records that had to wait to be admitted.
+   */
+  private long throttledCount;
+
+  /**
+   * The total number of milliseconds that records waited to be admitted.
+   */
+  private long throttleWaitTime;
+
+  /**
+   * Default constructor.
+   */
+  public SzLoadThrottleBudgetImpl() {
+    this.scope            = null;
+    this.key              = null;
+    this.rateLimit        = null;
+    this.concurrencyLimit = null;
+    this.currentRate      = 0.0;
+    this.inFlightCount    = 0;
+    this.throttledCount   = 0L;
+    this.throttleWaitTime = 0L;
+  }
+
+  @Override
+  public SzLoadThrottleScope getScope() {
+    return this.scope;
+  }
+
+  @Override
+  public void setScope(SzLoadThrottleScope scope) {
+    this.scope = scope;
+  }
+
+  @Override
+  public String getKey() {
+    return this.key;
+  }
+
+  @Override
+  public void setKey(String key) {
+    this.key = key;
+  }
+
+  @Override
+  public Double getRateLimit() {
+    return this.rateLimit;
+  }
+
+  @Override
+  public void setRateLimit(Double rateLimit) {
+    this.rateLimit = rateLimit;
+  }
+
+  @Override
+  public Integer getConcurrencyLimit() {
+    return this.concurrencyLimit;
+  }
+
+  @Override
+  public void setConcurrencyLimit(Integer concurrencyLimit) {
+    this.concurrencyLimit = concurrencyLimit;
+  }
+
+  @Override
+  public double getCurrentRate() {
+    return this.currentRate;
+  }
+
+  @Override
+  public void setCurrentRate(double currentRate) {
+    this.currentRate = currentRate;
+  }
+
+  @Override
+  public int getInFlightCount() {
+    return this.inFlightCount;
+  }
+
+  @Override
+  public void setInFlightCount(int inFlightCount) {
+    this.inFlightCount = inFlightCount;
+  }
+
+  @Override
+  public long getThrottledCount() {
+    return this.throttledCount;
+  }
+
+  @Override
+  public void setThrottledCount(long throttledCount) {
+    this.throttledCount = throttledCount;
+  }
+
+  @Override
+  public long getThrottleWaitTime() {
+    return this.throttleWaitTime;
+  }
+
+  @Override
+  public void setThrottleWaitTime(long throttleWaitTime) {
+    this.throttleWaitTime = throttleWaitTime;
+  }
+
+  @Override
+  public String toString() {
+    return "SzLoadThrottleBudget{" +
+        "scope=" + this.scope +
+        ", key='" + this.key + '\'' +
+        ", rateLimit=" + this.rateLimit +
+        ", concurrencyLimit=" + this.concurrencyLimit +
+        ", currentRate=" + this.currentRate +
+        ", inFlightCount=" + this.inFlightCount +
+        ", throttledCount=" + this.throttledCount +
+        ", throttleWaitTime=" + this.throttleWaitTime +
+        '}';
+  }
+}
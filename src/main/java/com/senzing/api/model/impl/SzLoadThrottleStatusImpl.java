@@ -0,0 +1,62 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzLoadThrottleBudget;
+import com.senzing.api.model.SzLoadThrottleStatus;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Provides a default implementation of {@link SzLoadThrottleStatus}.
+ */
+@JsonDeserialize
+public class SzLoadThrottleStatusImpl implements SzLoadThrottleStatus {
+  /**
+   * Whether or not the API server is throttling the records it writes.
+   */
+  private boolean enabled;
+
+  /**
+   * The {@link List} of {@link SzLoadThrottleBudget} instances.
+   */
+  private List<SzLoadThrottleBudget> budgets;
+
+  /**
+   * Default constructor.
+   */
+  public SzLoadThrottleStatusImpl() {
+    this.enabled = false;
+    this.budgets = new ArrayList<>();
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return this.enabled;
+  }
+
+  @Override
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  @Override
+  public List<SzLoadThrottleBudget> getBudgets() {
+    return Collections.unmodifiableList(this.budgets);
+  }
+
+  @Override
+  public void setBudgets(List<SzLoadThrottleBudget> budgets) {
+    this.budgets.clear();
+    if (budgets != null) this.budgets.addAll(budgets);
+  }
+
+  @Override
+  public String toString() {
+    return "SzLoadThrottleStatus{" +
+        "enabled=" + this.enabled +
+        ", budgets=" + this.budgets +
+        '}';
+  }
+}
@@ -0,0 +1,72 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the load throttle budgets enforced by the
+ * API server and the current state of each.
+ */
+@JsonDeserialize
+public class SzLoadThrottleStatusResponseImpl extends SzBasicResponseImpl
+  implements SzLoadThrottleStatusResponse
+{
+  /**
+   * The {@link SzLoadThrottleStatus} describing the status.
+   */
+  private SzLoadThrottleStatus status;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzLoadThrottleStatusResponseImpl() {
+    this.status = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the status to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzLoadThrottleStatusResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzLoadThrottleStatus} describing the status.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param status The {@link SzLoadThrottleStatus} describing the status.
+   */
+  public SzLoadThrottleStatusResponseImpl(SzMeta                meta,
+                                          SzLinks               links,
+                                          SzLoadThrottleStatus  status)
+  {
+    super(meta, links);
+    this.status = status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzLoadThrottleStatus getData() {
+    return this.status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzLoadThrottleStatus status) {
+    this.status = status;
+  }
+}
@@ -0,0 +1,142 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzBatchRecordResult;
+import com.senzing.api.model.SzRecordBatch;
+
+import java.util.*;
+
+/**
+ * Provides a default implementation of {@link SzRecordBatch}.
+ */
+@JsonDeserialize
+public class SzRecordBatchImpl implements SzRecordBatch {
+  /**
+   * The number of records that were written successfully.
+   */
+  private int succeededCount;
+
+  /**
+   * The number of records that were skipped as unchanged.
+   */
+  private int unchangedCount;
+
+  /**
+   * The number of records that failed to be written.
+   */
+  private int failedCount;
+
+  /**
+   * The {@link List} of {@link SzBatchRecordResult} instances.
+   */
+  private List<SzBatchRecordResult> results;
+
+  /**
+   * The {@link SortedSet} of entity ID's for the affected entities.
+   */
+  private SortedSet<Long> affectedEntities;
+
+  /**
+   * Default constructor.
+   */
+  public SzRecordBatchImpl() {
+    this.succeededCount   = 0;
+    this.unchangedCount   = 0;
+    this.failedCount      = 0;
+    this.results          = new ArrayList<>();
+    this.affectedEntities = new TreeSet<>();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getSucceededCount() {
+    return this.succeededCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setSucceededCount(int count) {
+    this.succeededCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getUnchangedCount() {
+    return this.unchangedCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setUnchangedCount(int count) {
+    this.unchangedCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getFailedCount() {
+    return this.failedCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFailedCount(int count) {
+    this.failedCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<SzBatchRecordResult> getResults() {
+    return Collections.unmodifiableList(this.results);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setResults(Collection<? extends SzBatchRecordResult> results) {
+    this.results.clear();
+    if (results != null) this.results.addAll(results);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Long> getAffectedEntities() {
+    return Collections.unmodifiableSet(this.affectedEntities);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setAffectedEntities(Collection<Long> entityIds) {
+    this.affectedEntities.clear();
+    if (entityIds != null) this.affectedEntities.addAll(entityIds);
+  }
+
+  @Override
+  public String toString() {
+    return "SzRecordBatch{" +
+        "succeededCount=" + this.succeededCount +
+        ", unchangedCount=" + this.unchangedCount +
+        ", failedCount=" + this.failedCount +
+        ", results=" + this.results +
+        ", affectedEntities=" + this.affectedEntities +
+        '}';
+  }
+}
@@ -0,0 +1,72 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the results of writing a batch of
+ * records.
+ */
+@JsonDeserialize
+public class SzRecordBatchResponseImpl extends SzBasicResponseImpl
+  implements SzRecordBatchResponse
+{
+  /**
+   * The {@link SzRecordBatch} describing the batch.
+   */
+  private SzRecordBatch batch;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzRecordBatchResponseImpl() {
+    this.batch = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the batch to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzRecordBatchResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzRecordBatch} describing the batch.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param batch The {@link SzRecordBatch} describing the batch.
+   */
+  public SzRecordBatchResponseImpl(SzMeta        meta,
+                                   SzLinks       links,
+                                   SzRecordBatch batch)
+  {
+    super(meta, links);
+    this.batch = batch;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzRecordBatch getData() {
+    return this.batch;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzRecordBatch batch) {
+    this.batch = batch;
+  }
+}
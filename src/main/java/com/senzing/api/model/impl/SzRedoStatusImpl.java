@@ -0,0 +1,160 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzRedoStatus;
+
+/**
+ * Provides a default implementation of {@link SzRedoStatus}.
+ */
+@JsonDeserialize
+public class SzRedoStatusImpl implements SzRedoStatus {
+  /**
+   * The number of redo records waiting to be processed.
+   */
+  private long redoRecordCount;
+
+  /**
+   * Whether or not redo records are being processed in the background.
+   */
+  private boolean processorEnabled;
+
+  /**
+   * The number of threads processing redo records.
+   */
+  private int processorConcurrency;
+
+  /**
+   * The number of redo records that have been processed.
+   */
+  private long processedCount;
+
+  /**
+   * The number of redo records that failed to be processed.
+   */
+  private long failedCount;
+
+  /**
+   * The average number of redo records processed per second.
+   */
+  private double drainRate;
+
+  /**
+   * Default constructor.
+   */
+  public SzRedoStatusImpl() {
+    this.redoRecordCount      = 0L;
+    this.processorEnabled     = false;
+    this.processorConcurrency = 0;
+    this.processedCount       = 0L;
+    this.failedCount          = 0L;
+    this.drainRate            = 0.0;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getRedoRecordCount() {
+    return this.redoRecordCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setRedoRecordCount(long count) {
+    this.redoRecordCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isProcessorEnabled() {
+    return this.processorEnabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setProcessorEnabled(boolean enabled) {
+    this.processorEnabled = enabled;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getProcessorConcurrency() {
+    return this.processorConcurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setProcessorConcurrency(int concurrency) {
+    this.processorConcurrency = concurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getProcessedCount() {
+    return this.processedCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setProcessedCount(long count) {
+    this.processedCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getFailedCount() {
+    return this.failedCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setFailedCount(long count) {
+    this.failedCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public double getDrainRate() {
+    return this.drainRate;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setDrainRate(double rate) {
+    this.drainRate = rate;
+  }
+
+  @Override
+  public String toString() {
+    return "SzRedoStatus{" +
+        "redoRecordCount=" + this.redoRecordCount +
+        ", processorEnabled=" + this.processorEnabled +
+        ", processorConcurrency=" + this.processorConcurrency +
+        ", processedCount=" + this.processedCount +
+        ", failedCount=" + this.failedCount +
+        ", drainRate=" + this.drainRate +
+        '}';
+  }
+}
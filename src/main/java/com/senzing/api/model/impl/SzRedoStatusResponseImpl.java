@@ -0,0 +1,72 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the backlog of redo records and the
+ * progress of the background redo processing.
+ */
+@JsonDeserialize
+public class SzRedoStatusResponseImpl extends SzBasicResponseImpl
+  implements SzRedoStatusResponse
+{
+  /**
+   * The {@link SzRedoStatus} describing the status.
+   */
+  private SzRedoStatus status;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzRedoStatusResponseImpl() {
+    this.status = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the status to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzRedoStatusResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzRedoStatus} describing the status.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param status The {@link SzRedoStatus} describing the status.
+   */
+  public SzRedoStatusResponseImpl(SzMeta        meta,
+                                  SzLinks       links,
+                                  SzRedoStatus  status)
+  {
+    super(meta, links);
+    this.status = status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzRedoStatus getData() {
+    return this.status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzRedoStatus status) {
+    this.status = status;
+  }
+}
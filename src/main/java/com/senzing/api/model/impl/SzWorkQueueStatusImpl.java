@@ -0,0 +1,322 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.SzWorkQueueStatus;
+
+/**
+ * Provides a default implementation of {@link SzWorkQueueStatus}.
+ */
+@JsonDeserialize
+public class SzWorkQueueStatusImpl implements SzWorkQueueStatus {
+  /**
+   * The number of engine worker threads.
+   */
+  private int concurrency;
+
+  /**
+   * The number of tasks executing or waiting to execute.
+   */
+  private int pendingTaskCount;
+
+  /**
+   * The number of tasks discarded because their deadline passed.
+   */
+  private long expiredTaskCount;
+
+  /**
+   * The number of tasks discarded because their connection was closed.
+   */
+  private long cancelledTaskCount;
+
+  /**
+   * The current limit on the number of tasks executing concurrently as adapted
+   * to the observed task latency, or <tt>null</tt> if none.
+   */
+  private Integer concurrencyLimit = null;
+
+  /**
+   * The minimum to which the concurrency limit can be lowered, or <tt>null</tt>
+   * if none.
+   */
+  private Integer minConcurrency = null;
+
+  /**
+   * The number of tasks currently holding a permit from the concurrency
+   * limiter, or <tt>null</tt> if none.
+   */
+  private Integer activeTaskCount = null;
+
+  /**
+   * The average latency in milliseconds of the tasks completed in the most
+   * recent sampling window of the concurrency limiter, or <tt>null</tt> if
+   * none.
+   */
+  private Double recentLatency = null;
+
+  /**
+   * The baseline task latency in milliseconds against which the concurrency
+   * limiter compares the recent latency, or <tt>null</tt> if none.
+   */
+  private Double baselineLatency = null;
+
+  /**
+   * The number of times the concurrency limiter raised the concurrency limit,
+   * or <tt>null</tt> if none.
+   */
+  private Long limitIncreaseCount = null;
+
+  /**
+   * The number of times the concurrency limiter lowered the concurrency limit,
+   * or <tt>null</tt> if none.
+   */
+  private Long limitDecreaseCount = null;
+
+  /**
+   * The number of tasks that had to wait for a permit from the concurrency
+   * limiter, or <tt>null</tt> if none.
+   */
+  private Long limiterWaitCount = null;
+
+  /**
+   * The total number of milliseconds that tasks spent waiting for a permit from
+   * the concurrency limiter, or <tt>null</tt> if none.
+   */
+  private Long limiterWaitTime = null;
+
+  /**
+   * Default constructor.
+   */
+  public SzWorkQueueStatusImpl() {
+    this.concurrency        = 0;
+    this.pendingTaskCount   = 0;
+    this.expiredTaskCount   = 0L;
+    this.cancelledTaskCount = 0L;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getConcurrency() {
+    return this.concurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setConcurrency(int concurrency) {
+    this.concurrency = concurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPendingTaskCount() {
+    return this.pendingTaskCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setPendingTaskCount(int count) {
+    this.pendingTaskCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getExpiredTaskCount() {
+    return this.expiredTaskCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setExpiredTaskCount(long count) {
+    this.expiredTaskCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public long getCancelledTaskCount() {
+    return this.cancelledTaskCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setCancelledTaskCount(long count) {
+    this.cancelledTaskCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer getConcurrencyLimit() {
+    return this.concurrencyLimit;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setConcurrencyLimit(Integer limit) {
+    this.concurrencyLimit = limit;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer getMinConcurrency() {
+    return this.minConcurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setMinConcurrency(Integer minConcurrency) {
+    this.minConcurrency = minConcurrency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Integer getActiveTaskCount() {
+    return this.activeTaskCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setActiveTaskCount(Integer count) {
+    this.activeTaskCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Double getRecentLatency() {
+    return this.recentLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setRecentLatency(Double latency) {
+    this.recentLatency = latency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Double getBaselineLatency() {
+    return this.baselineLatency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setBaselineLatency(Double latency) {
+    this.baselineLatency = latency;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getLimitIncreaseCount() {
+    return this.limitIncreaseCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLimitIncreaseCount(Long count) {
+    this.limitIncreaseCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getLimitDecreaseCount() {
+    return this.limitDecreaseCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLimitDecreaseCount(Long count) {
+    this.limitDecreaseCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getLimiterWaitCount() {
+    return this.limiterWaitCount;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLimiterWaitCount(Long count) {
+    this.limiterWaitCount = count;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Long getLimiterWaitTime() {
+    return this.limiterWaitTime;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setLimiterWaitTime(Long time) {
+    this.limiterWaitTime = time;
+  }
+
+  @Override
+  public String toString() {
+    return "SzWorkQueueStatus{" +
+        "concurrency=" + this.concurrency +
+        ", pendingTaskCount=" + this.pendingTaskCount +
+        ", expiredTaskCount=" + this.expiredTaskCount +
+        ", cancelledTaskCount=" + this.cancelledTaskCount +
+        ", concurrencyLimit=" + this.concurrencyLimit +
+        ", minConcurrency=" + this.minConcurrency +
+        ", activeTaskCount=" + this.activeTaskCount +
+        ", recentLatency=" + this.recentLatency +
+        ", baselineLatency=" + this.baselineLatency +
+        ", limitIncreaseCount=" + this.limitIncreaseCount +
+        ", limitDecreaseCount=" + this.limitDecreaseCount +
+        ", limiterWaitCount=" + this.limiterWaitCount +
+        ", limiterWaitTime=" + this.limiterWaitTime +
+        '}';
+  }
+}
@@ -0,0 +1,72 @@
+package com.senzing.api.model.impl;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.senzing.api.model.*;
+
+/**
+ * A response object that describes the queue of tasks waiting for the
+ * engine worker threads and the tasks discarded from it.
+ */
+@JsonDeserialize
+public class SzWorkQueueStatusResponseImpl extends SzBasicResponseImpl
+  implements SzWorkQueueStatusResponse
+{
+  /**
+   * The {@link SzWorkQueueStatus} describing the status.
+   */
+  private SzWorkQueueStatus status;
+
+  /**
+   * Protected default constructor.
+   */
+  protected SzWorkQueueStatusResponseImpl() {
+    this.status = null;
+  }
+
+  /**
+   * Constructs with the specified {@link SzMeta} and {@link SzLinks},
+   * leaving the status to be initialized later.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   */
+  public SzWorkQueueStatusResponseImpl(SzMeta meta, SzLinks links)
+  {
+    this(meta, links, null);
+  }
+
+  /**
+   * Constructs with the HTTP method, self link and the {@link
+   * SzWorkQueueStatus} describing the status.
+   *
+   * @param meta The response meta data.
+   *
+   * @param links The links for the response.
+   *
+   * @param status The {@link SzWorkQueueStatus} describing the status.
+   */
+  public SzWorkQueueStatusResponseImpl(SzMeta                meta,
+                                          SzLinks               links,
+                                          SzWorkQueueStatus  status)
+  {
+    super(meta, links);
+    this.status = status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public SzWorkQueueStatus getData() {
+    return this.status;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void setData(SzWorkQueueStatus status) {
+    this.status = status;
+  }
+}
@@ -15,6 +15,7 @@ class FileMonitor extends Thread {
   private int pid;
   private Integer port = -1;
   private Integer securePort = -1;
+  private String unixSocket = null;
   private JsonWriterFactory writerFactory;
   private boolean ready = false;
   private boolean shutdown = false;
@@ -35,6 +36,13 @@ class FileMonitor extends Thread {
   }
 
   public synchronized void initialize(Integer port, Integer securePort) {
+    this.initialize(port, securePort, null);
+  }
+
+  public synchronized void initialize(Integer port,
+                                      Integer securePort,
+                                      String  unixSocket)
+  {
     if (port != null && port < 0) {
       throw new IllegalArgumentException(
           "The specified port is invalid: " + port);
@@ -49,6 +57,7 @@ class FileMonitor extends Thread {
 
     this.port = port;
     this.securePort = securePort;
+    this.unixSocket = unixSocket;
 
     while (!this.ready) {
       try {
@@ -62,6 +71,7 @@ class FileMonitor extends Thread {
     builder.add("pid", this.pid);
     if (this.port != null) builder.add("port", this.port);
     if (this.securePort != null) builder.add("securePort", this.securePort);
+    if (this.unixSocket != null) builder.add("unixSocket", this.unixSocket);
     builder.add("shutdown", false);
     builder.add("heartbeat", System.currentTimeMillis());
 
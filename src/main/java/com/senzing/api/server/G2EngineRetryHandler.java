@@ -86,11 +86,8 @@ class G2EngineRetryHandler implements InvocationHandler {
           String.class, String.class, long.class, boolean.class));
       unsupportedSet.add(cls.getMethod("reinit", long.class));
       unsupportedSet.add(cls.getMethod("destroy"));
-      unsupportedSet.add(cls.getMethod("exportJSONEntityReport",
-                                       long.class, Result.class));
       unsupportedSet.add(cls.getMethod("exportCSVEntityReport",
                                        String.class, long.class, Result.class));
-      unsupportedSet.add(cls.getMethod("closeExport", long.class));
 
       directSet.add(cls.getMethod("primeEngine"));
       directSet.add(cls.getMethod("purgeRepository"));
@@ -1,15 +1,19 @@
 package com.senzing.api.server;
 
+import org.eclipse.jetty.server.Connector;
 import org.eclipse.jetty.server.Server;
 import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.SslConnectionFactory;
 import org.eclipse.jetty.util.component.LifeCycle;
 
+import java.io.File;
 import java.net.InetAddress;
 
 class LifeCycleListener implements LifeCycle.Listener {
   private String serverDescription;
   private Integer httpPort;
   private Integer httpsPort = null;
+  private File unixSocket = null;
   private InetAddress ipAddr;
   private String basePath;
   private Server jettyServer;
@@ -19,12 +23,14 @@ class LifeCycleListener implements LifeCycle.Listener {
       Server jettyServer,
       Integer httpPort,
       Integer httpsPort,
+      File unixSocket,
       String basePath,
       InetAddress ipAddress,
       FileMonitor fileMonitor) {
     this.serverDescription = serverDescription;
     this.httpPort = httpPort;
     this.httpsPort = httpsPort;
+    this.unixSocket = unixSocket;
     this.ipAddr = ipAddress;
     this.basePath = basePath;
     this.jettyServer = jettyServer;
@@ -48,17 +54,23 @@ class LifeCycleListener implements LifeCycle.Listener {
         System.out.println("    - [rotating port] (HTTPS)");
       }
     }
+    if (this.unixSocket != null) {
+      System.out.println("    - " + this.unixSocket + " (HTTP / Unix Socket)");
+    }
     System.out.println();
   }
 
   public void lifeCycleStarted(LifeCycle event) {
     Integer port = this.httpPort;
     Integer securePort = this.httpsPort;
-    if (port != null && port == 0) {
-      port = ((ServerConnector) (jettyServer.getConnectors()[0])).getLocalPort();
-    }
-    if (securePort != null && securePort == 0) {
-      securePort = ((ServerConnector) (jettyServer.getConnectors()[1])).getLocalPort();
+    for (Connector connector : this.jettyServer.getConnectors()) {
+      if (!(connector instanceof ServerConnector)) continue;
+      int localPort = ((ServerConnector) connector).getLocalPort();
+      if (connector.getConnectionFactory(SslConnectionFactory.class) != null) {
+        if (securePort != null && securePort == 0) securePort = localPort;
+      } else if (port != null && port == 0) {
+        port = localPort;
+      }
     }
     System.out.println("Started " + this.serverDescription + " on ports:");
     if (port != null) {
@@ -67,6 +79,9 @@ class LifeCycleListener implements LifeCycle.Listener {
     if (securePort != null) {
       System.out.println("    - " + securePort + " (HTTPS / SSL)");
     }
+    if (this.unixSocket != null) {
+      System.out.println("    - " + this.unixSocket + " (HTTP / Unix Socket)");
+    }
     System.out.println();
     System.out.println("Server running at:");
     if (port != null) {
@@ -77,6 +92,10 @@ class LifeCycleListener implements LifeCycle.Listener {
       System.out.println(" - https://" + this.ipAddr.getHostAddress()
           + ":" + securePort + this.basePath);
     }
+    if (this.unixSocket != null) {
+      System.out.println(" - http://localhost" + this.basePath
+          + " (via unix socket: " + this.unixSocket + ")");
+    }
     System.out.println();
     if (this.fileMonitor != null) {
       this.fileMonitor.signalReady();
@@ -100,6 +119,9 @@ class LifeCycleListener implements LifeCycle.Listener {
         System.out.println("    - " + this.httpsPort + " (HTTPS / SSL)");
       }
     }
+    if (this.unixSocket != null) {
+      System.out.println("    - " + this.unixSocket + " (HTTP / Unix Socket)");
+    }
     System.err.println();
     System.err.println(cause);
   }
@@ -0,0 +1,313 @@
+package com.senzing.api.server;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.joda.JodaModule;
+import com.senzing.api.model.SzErrorResponse;
+import com.senzing.api.model.SzLinks;
+import com.senzing.api.model.SzMeta;
+import com.senzing.api.services.RequestDeadline;
+import com.senzing.util.Timers;
+import org.eclipse.jetty.io.Connection;
+import org.eclipse.jetty.io.EndPoint;
+import org.eclipse.jetty.server.HttpChannel;
+import org.eclipse.jetty.server.Request;
+
+import javax.servlet.*;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Associates a {@link RequestDeadline} with each request for the duration of
+ * its handling so that the tasks it submits to the engine worker threads can
+ * be discarded if the deadline passes or the connection is closed before
+ * they are executed.  The timeout for a request is the configured default
+ * for the longest matching endpoint path prefix (if any).  A client may
+ * shorten, but not extend, that timeout with the {@link
+ * RequestDeadline#TIMEOUT_HEADER} header, which gives the timeout on its own
+ * if no default is configured for the endpoint.  Without either the request
+ * has no deadline.  A timeout of zero for a path prefix means the endpoints
+ * under it have no configured deadline, which is how streaming endpoints
+ * such as <tt>entities/export</tt> and <tt>entity-changes</tt> (whose
+ * engine work continues after the response has been committed) should be
+ * exempted from a default timeout.  Regardless of the timeout, the deadline
+ * is cancelled if Jetty closes the connection for the request.
+ */
+public class RequestDeadlineFilter implements Filter {
+  /**
+   * The key in the timeouts {@link Map} for the default timeout that applies
+   * to endpoints with no more specific timeout.
+   */
+  public static final String DEFAULT_TIMEOUT_KEY = "";
+
+  /**
+   * The {@link Map} of endpoint path prefixes (relative to the context path
+   * and without a leading slash) to timeouts in milliseconds.
+   */
+  private final Map<String, Long> timeouts;
+
+  /**
+   * Constructs with the {@link Map} of endpoint path prefixes to timeouts in
+   * milliseconds as returned from {@link #parseTimeouts(String)}.
+   *
+   * @param timeouts The {@link Map} of endpoint path prefixes to timeouts in
+   *                 milliseconds, or <tt>null</tt> if none.
+   */
+  public RequestDeadlineFilter(Map<String, Long> timeouts) {
+    this.timeouts = (timeouts == null) ? Collections.emptyMap()
+        : Collections.unmodifiableMap(new LinkedHashMap<>(timeouts));
+  }
+
+  @Override
+  public void init(FilterConfig filterConfig) throws ServletException {
+
+  }
+
+  @Override
+  public void doFilter(ServletRequest   servletRequest,
+                       ServletResponse  servletResponse,
+                       FilterChain      filterChain)
+      throws IOException, ServletException
+  {
+    if (!(servletRequest instanceof HttpServletRequest)) {
+      filterChain.doFilter(servletRequest, servletResponse);
+      return;
+    }
+    HttpServletRequest httpRequest = (HttpServletRequest) servletRequest;
+
+    Long timeout = this.getDefaultTimeout(httpRequest);
+    String header = httpRequest.getHeader(RequestDeadline.TIMEOUT_HEADER);
+    if (header != null && header.trim().length() > 0) {
+      try {
+        long headerTimeout = parseSeconds(header, false);
+        timeout = (timeout == null) ? headerTimeout
+            : Math.min(timeout, headerTimeout);
+      } catch (IllegalArgumentException e) {
+        this.sendBadRequest(httpRequest,
+                            (HttpServletResponse) servletResponse,
+                            "Invalid " + RequestDeadline.TIMEOUT_HEADER
+                                + " header: " + e.getMessage());
+        return;
+      }
+    }
+
+    // find the Jetty connection so its closure can cancel the request
+    Request         baseRequest = Request.getBaseRequest(servletRequest);
+    HttpChannel     channel     = (baseRequest == null) ? null
+                                : baseRequest.getHttpChannel();
+    EndPoint        endPoint    = (channel == null) ? null : channel.getEndPoint();
+    Connection      connection  = (channel == null) ? null : channel.getConnection();
+    BooleanSupplier open        = (endPoint == null) ? null : endPoint::isOpen;
+
+    RequestDeadline deadline = new RequestDeadline(timeout, open, httpRequest);
+    Connection.Listener listener = new Connection.Listener() {
+      @Override
+      public void onOpened(Connection connection) {
+        // do nothing
+      }
+
+      @Override
+      public void onClosed(Connection connection) {
+        deadline.cancel();
+      }
+    };
+
+    if (connection != null) connection.addListener(listener);
+    RequestDeadline.setCurrent(deadline);
+    try {
+      filterChain.doFilter(servletRequest, servletResponse);
+
+    } finally {
+      RequestDeadline.setCurrent(null);
+      if (connection != null) connection.removeListener(listener);
+    }
+  }
+
+  @Override
+  public void destroy() {
+
+  }
+
+  /**
+   * Sends a <code>400 Bad Request</code> response with an {@link
+   * SzErrorResponse} body having the specified message, consistent with the
+   * responses for other bad requests.
+   *
+   * @param httpRequest  The {@link HttpServletRequest} for the request.
+   * @param httpResponse The {@link HttpServletResponse} for the response.
+   * @param message      The message describing the error.
+   *
+   * @throws IOException If a failure occurs in writing the response.
+   */
+  protected void sendBadRequest(HttpServletRequest  httpRequest,
+                                HttpServletResponse httpResponse,
+                                String              message)
+      throws IOException
+  {
+    RequestDeadline deadline = new RequestDeadline(null, null, httpRequest);
+    SzMeta meta = SzMeta.FACTORY.create(deadline.getHttpMethod(),
+                                        HttpServletResponse.SC_BAD_REQUEST,
+                                        new Timers());
+    SzLinks links = SzLinks.FACTORY.create(httpRequest);
+    SzErrorResponse errorResponse
+        = SzErrorResponse.FACTORY.create(meta, links, message);
+
+    ObjectMapper objectMapper = new ObjectMapper();
+    objectMapper.registerModule(new JodaModule());
+    String jsonText = objectMapper.writeValueAsString(errorResponse);
+
+    httpResponse.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+    httpResponse.setContentType("application/json");
+    httpResponse.setCharacterEncoding("UTF-8");
+    Writer writer = httpResponse.getWriter();
+    writer.write(jsonText);
+    writer.flush();
+  }
+
+  /**
+   * Gets the configured default timeout in milliseconds for the endpoint of
+   * the specified request using the longest matching path prefix.
+   *
+   * @param httpRequest The {@link HttpServletRequest} for the request.
+   *
+   * @return The default timeout in milliseconds, or <tt>null</tt> if none.
+   */
+  private Long getDefaultTimeout(HttpServletRequest httpRequest) {
+    if (this.timeouts.isEmpty()) return null;
+    String path = httpRequest.getRequestURI();
+    String contextPath = httpRequest.getContextPath();
+    if (path == null) path = "";
+    if (contextPath != null && path.startsWith(contextPath)) {
+      path = path.substring(contextPath.length());
+    }
+    return this.getDefaultTimeout(path);
+  }
+
+  /**
+   * Gets the configured default timeout in milliseconds for the specified
+   * endpoint path (relative to the context path) using the longest matching
+   * path prefix.  A prefix only matches at a path segment boundary unless it
+   * ends with a slash.  If the matching timeout is zero then there is no
+   * configured timeout for the endpoint.
+   *
+   * @param path The endpoint path relative to the context path.
+   *
+   * @return The default timeout in milliseconds, or <tt>null</tt> if none.
+   */
+  protected Long getDefaultTimeout(String path) {
+    if (this.timeouts.isEmpty()) return null;
+    while (path.startsWith("/")) path = path.substring(1);
+
+    String  bestPrefix  = null;
+    Long    bestTimeout = this.timeouts.get(DEFAULT_TIMEOUT_KEY);
+    for (Map.Entry<String, Long> entry : this.timeouts.entrySet()) {
+      String prefix = entry.getKey();
+      if (prefix.length() == 0) continue;
+      if (!path.startsWith(prefix)) continue;
+      if (path.length() > prefix.length()
+          && path.charAt(prefix.length()) != '/'
+          && !prefix.endsWith("/"))
+      {
+        continue;
+      }
+      if (bestPrefix == null || prefix.length() > bestPrefix.length()) {
+        bestPrefix  = prefix;
+        bestTimeout = entry.getValue();
+      }
+    }
+    return (bestTimeout == null || bestTimeout == 0L) ? null : bestTimeout;
+  }
+
+  /**
+   * Parses the specified request timeout specification which is formatted
+   * as an optional default number of seconds followed by zero or more
+   * comma-separated <code>{path-prefix}={seconds}</code> pairs (e.g.:
+   * <code>30,search-entities=10,entity-networks=60</code>).  The path
+   * prefixes are relative to the context path and the number of seconds may
+   * be fractional, and may be zero to specify that the endpoints under a
+   * path prefix have no deadline unless the client requests one (e.g.:
+   * <code>30,entities/export=0,entity-changes=0</code>).  The default timeout
+   * (if any) is stored in the returned {@link Map} under {@link
+   * #DEFAULT_TIMEOUT_KEY}.
+   *
+   * @param spec The request timeout specification to parse.
+   *
+   * @return The {@link Map} of endpoint path prefixes to timeouts in
+   *         milliseconds.
+   *
+   * @throws IllegalArgumentException If the specification is not valid.
+   */
+  public static Map<String, Long> parseTimeouts(String spec) {
+    Map<String, Long> result = new LinkedHashMap<>();
+    if (spec == null) return result;
+    String[] tokens = spec.split(",");
+    for (int index = 0; index < tokens.length; index++) {
+      String token = tokens[index].trim();
+      if (token.length() == 0) {
+        throw new IllegalArgumentException(
+            "The request timeout specification contains an empty element: "
+                + spec);
+      }
+      int eqIndex = token.indexOf('=');
+      if (eqIndex < 0) {
+        if (index > 0) {
+          throw new IllegalArgumentException(
+              "The default request timeout must be the first element: "
+                  + spec);
+        }
+        result.put(DEFAULT_TIMEOUT_KEY, parseSeconds(token, true));
+        continue;
+      }
+      String prefix = token.substring(0, eqIndex).trim();
+      while (prefix.startsWith("/")) prefix = prefix.substring(1);
+      if (prefix.length() == 0) {
+        throw new IllegalArgumentException(
+            "The request timeout path prefix cannot be empty: " + token);
+      }
+      if (result.containsKey(prefix)) {
+        throw new IllegalArgumentException(
+            "The request timeout path prefix is specified more than once: "
+                + prefix);
+      }
+      result.put(prefix, parseSeconds(token.substring(eqIndex + 1), true));
+    }
+    return result;
+  }
+
+  /**
+   * Parses the specified positive (possibly fractional) number of seconds
+   * and returns the equivalent number of milliseconds.  A positive number of
+   * seconds is never rounded down to zero milliseconds.
+   *
+   * @param text The text to parse.
+   * @param allowZero <tt>true</tt> if zero is allowed, otherwise
+   *                  <tt>false</tt>.
+   *
+   * @return The number of milliseconds.
+   *
+   * @throws IllegalArgumentException If the text is not a positive number
+   *                                  (or zero if allowed).
+   */
+  private static long parseSeconds(String text, boolean allowZero) {
+    double seconds;
+    try {
+      seconds = Double.parseDouble(text.trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(
+          "The request timeout must be a number of seconds: " + text);
+    }
+    if (allowZero && seconds == 0.0) return 0L;
+    if (Double.isNaN(seconds) || Double.isInfinite(seconds) || seconds <= 0.0) {
+      throw new IllegalArgumentException(
+          "The request timeout must be a "
+              + (allowZero ? "non-negative" : "positive")
+              + " number of seconds: " + text);
+    }
+    return Math.max(1L, Math.round(seconds * 1000.0));
+  }
+}
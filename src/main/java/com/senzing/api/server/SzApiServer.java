@@ -4,6 +4,7 @@ import java.io.*;
 import java.lang.reflect.Proxy;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.sql.SQLException;
 import java.text.DecimalFormat;
 import java.text.NumberFormat;
 import java.time.Instant;
@@ -11,6 +12,14 @@ import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.format.FormatStyle;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Supplier;
@@ -18,7 +27,19 @@ import java.util.function.Supplier;
 import com.senzing.api.BuildInfo;
 import com.senzing.api.server.mq.SzMessagingEndpoint;
 import com.senzing.api.server.mq.SzMessagingEndpointFactory;
+import com.senzing.api.services.AdaptiveConcurrencyLimiter;
+import com.senzing.api.services.EntityChangeLog;
+import com.senzing.api.services.EntityAdjacencyIndex;
+import com.senzing.api.services.HowWhyCache;
+import com.senzing.api.services.LoadThrottle;
+import com.senzing.api.services.RecordHashStore;
+import com.senzing.api.services.RequestDeadline;
+import com.senzing.api.services.RedoProcessor;
+import com.senzing.api.services.BulkLoadJobManager;
 import com.senzing.api.services.SzMessageSink;
+import com.senzing.api.model.SzErrorResponse;
+import com.senzing.api.model.SzLinks;
+import com.senzing.api.model.SzMeta;
 import com.senzing.api.model.SzVersionInfo;
 import com.senzing.api.websocket.WebSocketFilter;
 import com.senzing.cmdline.*;
@@ -33,7 +54,13 @@ import com.senzing.util.JsonUtilities;
 import com.senzing.util.LoggingUtilities;
 import com.senzing.util.WorkerThreadPool;
 import com.senzing.util.AccessToken;
+import org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory;
 import org.eclipse.jetty.http.HttpVersion;
+import org.eclipse.jetty.http2.HTTP2Cipher;
+import org.eclipse.jetty.http2.server.AbstractHTTP2ServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory;
+import org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory;
+import org.eclipse.jetty.io.SelectorManager;
 import org.eclipse.jetty.server.*;
 
 import org.eclipse.jetty.server.handler.gzip.GzipHandler;
@@ -45,16 +72,20 @@ import org.eclipse.jetty.rewrite.handler.RewriteHandler;
 import org.eclipse.jetty.servlets.CrossOriginFilter;
 import org.eclipse.jetty.util.ssl.SslContextFactory;
 import org.eclipse.jetty.util.thread.QueuedThreadPool;
+import org.eclipse.jetty.util.thread.Scheduler;
 import org.eclipse.jetty.util.thread.ThreadPool;
+import org.eclipse.jetty.unixsocket.UnixSocketConnector;
 import org.eclipse.jetty.websocket.jsr356.server.deploy.WebSocketServerContainerInitializer;
 
 import javax.json.*;
 import javax.servlet.DispatcherType;
+import javax.servlet.http.HttpServletRequest;
 import javax.websocket.DeploymentException;
 import javax.websocket.server.ServerContainer;
 import javax.websocket.server.ServerEndpointConfig;
 import javax.ws.rs.ServerErrorException;
 import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
 
 import static com.senzing.api.server.SzApiServerOption.*;
 import static com.senzing.util.WorkerThreadPool.Task;
@@ -212,6 +243,12 @@ public class SzApiServer implements SzApiProvider {
    */
   protected Integer httpsPort;
 
+  /**
+   * The Unix domain socket file on which to accept HTTP communication, or
+   * <tt>null</tt> if not listening on a Unix domain socket.
+   */
+  protected File unixSocketFile;
+
   /**
    * The key store file for the server key.
    */
@@ -249,6 +286,175 @@ public class SzApiServer implements SzApiProvider {
    */
   protected int httpConcurrency;
 
+  /**
+   * Whether or not virtual threads were requested for the HTTP server thread
+   * pool and the auxiliary threads used by the services.
+   */
+  protected boolean virtualThreads;
+
+  /**
+   * The {@link ThreadFactory} for the auxiliary threads used by the services.
+   * This produces virtual threads if they were requested and are supported by
+   * the JVM, otherwise it produces platform threads.
+   */
+  protected ThreadFactory threadFactory = Thread::new;
+
+  /**
+   * The {@link QueuedThreadPool} of platform threads that run the selectors
+   * of the connectors when the HTTP server thread pool creates virtual
+   * threads, or <tt>null</tt> if the HTTP server uses platform threads.
+   */
+  protected QueuedThreadPool selectorThreadPool = null;
+
+  /**
+   * The shared {@link ThreadPoolExecutor} for the auxiliary tasks that fan
+   * requests out across multiple threads, or <tt>null</tt> if not yet
+   * created.  This is created on first use from the {@link #threadFactory}.
+   */
+  protected ThreadPoolExecutor auxiliaryExecutor = null;
+
+  /**
+   * Whether or not HTTP/2 (ALPN for HTTPS and h2c for HTTP) is enabled in
+   * addition to HTTP/1.1.
+   */
+  protected boolean http2Enabled;
+
+  /**
+   * The maximum number of concurrent streams per HTTP/2 connection.
+   */
+  protected int http2MaxStreams;
+
+  /**
+   * The initial HTTP/2 flow-control receive window (in bytes) for each stream.
+   */
+  protected int http2StreamWindow;
+
+  /**
+   * The initial HTTP/2 flow-control receive window (in bytes) for each session.
+   */
+  protected int http2SessionWindow;
+
+  /**
+   * The {@link Map} of endpoint path prefixes to the default request timeouts
+   * in milliseconds as parsed by {@link RequestDeadlineFilter#parseTimeouts(
+   * String)}.  This is empty if requests have no deadline unless specified
+   * by the client.
+   */
+  protected Map<String, Long> requestTimeouts;
+
+  /**
+   * The persistent {@link EntityChangeLog} recording the ID's of changed
+   * entities, or <tt>null</tt> if the entity change log is disabled.
+   */
+  protected EntityChangeLog entityChangeLog;
+
+  /**
+   * The in-memory {@link HowWhyCache} for the results of the "how" and "why"
+   * operations, or <tt>null</tt> if the cache is disabled.
+   */
+  protected HowWhyCache howWhyCache;
+
+  /**
+   * The in-memory {@link EntityAdjacencyIndex} of the relationships between
+   * entities, or <tt>null</tt> if the index is disabled.
+   */
+  protected EntityAdjacencyIndex adjacencyIndex;
+
+  /**
+   * The persistent {@link RecordHashStore} of the content hashes of loaded
+   * records, or <tt>null</tt> if the record hash store is disabled.
+   */
+  protected RecordHashStore recordHashStore;
+
+  /**
+   * The {@link RedoProcessor} processing redo records in the background, or
+   * <tt>null</tt> if background redo processing is disabled.
+   */
+  protected RedoProcessor redoProcessor;
+
+  /**
+   * The {@link BulkLoadJobManager} running asynchronous bulk-load jobs, or
+   * <tt>null</tt> if in read-only mode.
+   */
+  protected BulkLoadJobManager bulkLoadJobManager;
+
+  /**
+   * The directory from which bulk data files on the server may be loaded, or
+   * <tt>null</tt> if loading files from the server is disabled.
+   */
+  protected File bulkLoadFileDirectory;
+
+  /**
+   * The state directory in which bulk loads persist checkpoints, or
+   * <tt>null</tt> if bulk loads are not checkpointed.
+   */
+  protected File bulkLoadCheckpointDirectory;
+
+  /**
+   * The directory in which bulk loads log failed records, or <tt>null</tt> if
+   * failed records are not logged.
+   */
+  protected File bulkLoadErrorDirectory;
+
+  /**
+   * The number of milliseconds that bulk-load error log segments are
+   * retained, or zero if they do not expire.
+   */
+  protected long bulkLoadErrorMaxAge;
+
+  /**
+   * The maximum total number of bytes for bulk-load error log segments, or
+   * zero if there is no limit.
+   */
+  protected long bulkLoadErrorMaxSize;
+
+  /**
+   * The {@link LoadThrottle} enforcing the budgets for writing records, or
+   * <tt>null</tt> if writing records is not throttled.
+   */
+  protected LoadThrottle loadThrottle;
+
+  /**
+   * The {@link AdaptiveConcurrencyLimiter} that limits the number of tasks
+   * passed to {@link #executeInThread(Task)} that execute concurrently, or
+   * <tt>null</tt> if only limited by the {@linkplain #getConcurrency()
+   * concurrency}.
+   */
+  protected AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+  /**
+   * The number of tasks passed to {@link #executeInThread(Task)} that are
+   * executing or waiting to execute.
+   */
+  protected final AtomicInteger pendingTaskCount = new AtomicInteger(0);
+
+  /**
+   * The number of background tasks passed to {@link
+   * #executeInIdleThread(Task)} that have reserved an idle engine thread.
+   */
+  protected final AtomicInteger idleTaskCount = new AtomicInteger(0);
+
+  /**
+   * The number of tasks passed to {@link #executeInThread(Task)} that were
+   * discarded because the deadline for their request passed before they
+   * could be executed.
+   */
+  protected final LongAdder expiredTaskCount = new LongAdder();
+
+  /**
+   * The number of tasks passed to {@link #executeInThread(Task)} that were
+   * discarded because their request was cancelled (i.e.: the connection was
+   * closed) before they could be executed.
+   */
+  protected final LongAdder cancelledTaskCount = new LongAdder();
+
+  /**
+   * The maximum number of milliseconds to wait for a {@linkplain
+   * #concurrencyLimiter concurrency permit} between checks of the deadline
+   * for the request.
+   */
+  private static final long DEADLINE_POLL_PERIOD = 100L;
+
   /**
    * The {@link G2Config} config API.
    */
@@ -436,6 +642,12 @@ public class SzApiServer implements SzApiProvider {
    */
   protected final ReadWriteLock purgeLock = new ReentrantReadWriteLock();
 
+  /**
+   * The counter for naming the threads created by {@link
+   * #executeInDedicatedThread(Task)}.
+   */
+  protected final AtomicLong dedicatedThreadCounter = new AtomicLong(0L);
+
   /**
    * The {@link Map} of Web Socket implementation classes to the {@link String}
    * path endpoints.
@@ -474,6 +686,19 @@ public class SzApiServer implements SzApiProvider {
     return this.ipAddr;
   }
 
+  /**
+   * Returns the {@link File} for the Unix domain socket on which the server
+   * accepts HTTP communication, or <tt>null</tt> if the server is not bound
+   * to a Unix domain socket.
+   *
+   * @return The {@link File} for the Unix domain socket, or <tt>null</tt> if
+   *         the server is not bound to a Unix domain socket.
+   */
+  public File getUnixSocketFile() {
+    this.assertNotShutdown();
+    return this.unixSocketFile;
+  }
+
   /**
    * Returns the configured API module name.
    *
@@ -637,6 +862,125 @@ public class SzApiServer implements SzApiProvider {
     return WEB_SOCKETS_MESSAGE_MAX_SIZE;
   }
 
+  @Override
+  public ThreadFactory getThreadFactory() {
+    return this.threadFactory;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation lazily creates a {@link ThreadPoolExecutor} from the
+   * {@linkplain #getThreadFactory() thread factory} with enough threads to
+   * keep every engine thread busy while CPU-bound auxiliary tasks also run,
+   * and lets idle threads expire.
+   */
+  @Override
+  public synchronized Executor getAuxiliaryExecutor() {
+    if (this.auxiliaryExecutor == null) {
+      int threadCount = this.concurrency
+          + Runtime.getRuntime().availableProcessors();
+      this.auxiliaryExecutor = new ThreadPoolExecutor(
+          threadCount, threadCount, 60L, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), this.threadFactory);
+      this.auxiliaryExecutor.allowCoreThreadTimeOut(true);
+    }
+    return this.auxiliaryExecutor;
+  }
+
+  /**
+   * Checks if the HTTP server thread pool and the auxiliary threads used by
+   * the services are virtual threads.  This returns <tt>false</tt> if virtual
+   * threads were not requested or if they were requested, but are not
+   * supported by the JVM.
+   *
+   * @return <tt>true</tt> if virtual threads are being used, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean isUsingVirtualThreads() {
+    return this.virtualThreads;
+  }
+
+  @Override
+  public EntityChangeLog getEntityChangeLog() {
+    return this.entityChangeLog;
+  }
+
+  @Override
+  public HowWhyCache getHowWhyCache() {
+    return this.howWhyCache;
+  }
+
+  @Override
+  public EntityAdjacencyIndex getEntityAdjacencyIndex() {
+    return this.adjacencyIndex;
+  }
+
+  @Override
+  public RecordHashStore getRecordHashStore() {
+    return this.recordHashStore;
+  }
+
+  @Override
+  public RedoProcessor getRedoProcessor() {
+    return this.redoProcessor;
+  }
+
+  @Override
+  public BulkLoadJobManager getBulkLoadJobManager() {
+    return this.bulkLoadJobManager;
+  }
+
+  @Override
+  public File getBulkLoadFileDirectory() {
+    return this.bulkLoadFileDirectory;
+  }
+
+  @Override
+  public File getBulkLoadCheckpointDirectory() {
+    return this.bulkLoadCheckpointDirectory;
+  }
+
+  @Override
+  public File getBulkLoadErrorDirectory() {
+    return this.bulkLoadErrorDirectory;
+  }
+
+  @Override
+  public long getBulkLoadErrorMaxAge() {
+    return this.bulkLoadErrorMaxAge;
+  }
+
+  @Override
+  public long getBulkLoadErrorMaxSize() {
+    return this.bulkLoadErrorMaxSize;
+  }
+
+  @Override
+  public LoadThrottle getLoadThrottle() {
+    return this.loadThrottle;
+  }
+
+  @Override
+  public AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+    return this.concurrencyLimiter;
+  }
+
+  @Override
+  public int getPendingTaskCount() {
+    return this.pendingTaskCount.get();
+  }
+
+  @Override
+  public long getExpiredTaskCount() {
+    return this.expiredTaskCount.sum();
+  }
+
+  @Override
+  public long getCancelledTaskCount() {
+    return this.cancelledTaskCount.sum();
+  }
+
   @Override
   public boolean hasInfoSink() {
     return (this.infoEndpoint != null);
@@ -888,6 +1232,12 @@ public class SzApiServer implements SzApiProvider {
       result.remove(HTTP_PORT);
     }
 
+    // only listen on the unix socket unless the HTTP port was explicit
+    CommandLineValue unixSocketValue = optionValues.get(UNIX_SOCKET);
+    if (httpPortValue.getSource() == DEFAULT && unixSocketValue != null) {
+      result.remove(HTTP_PORT);
+    }
+
     // return the result
     return result;
   }
@@ -1012,6 +1362,14 @@ public class SzApiServer implements SzApiProvider {
         "        provided the bind address defaults to the loopback address.",
         "        --> VIA ENVIRONMENT: " + BIND_ADDRESS.getEnvironmentVariable(),
         "",
+        "   --unix-socket <socket-file-path>",
+        "        Also -unixSocket.  Sets the path of a Unix domain socket on which to",
+        "        accept HTTP communication (e.g.: for callers on the same host).  If",
+        "        the --http-port option is not explicitly specified then the server",
+        "        will not listen on an HTTP port.  This option cannot be specified if",
+        "        SSL client authentication is configured.",
+        "        --> VIA ENVIRONMENT: " + UNIX_SOCKET.getEnvironmentVariable(),
+        "",
         "   --url-base-path <base-path>",
         "        Also -urlBasePath.  Sets the URL base path for the API Server.",
         "        --> VIA ENVIRONMENT: " + URL_BASE_PATH.getEnvironmentVariable(),
@@ -1029,6 +1387,15 @@ public class SzApiServer implements SzApiProvider {
             + DEFAULT_CONCURRENCY + ".",
         "        --> VIA ENVIRONMENT: " + CONCURRENCY.getEnvironmentVariable(),
         "",
+        "   --adaptive-concurrency <min-thread-count>",
+        "        Also -adaptiveConcurrency.  Enables adaptive limiting of the number of",
+        "        Senzing API functions that execute concurrently with the specified",
+        "        minimum (limited to the concurrency) and the concurrency as maximum.",
+        "        The limit is lowered when the latency of the engine functions rises",
+        "        (e.g.: because the database is saturated) and raised again when it",
+        "        recovers.  If not specified, then only the concurrency applies.",
+        "        --> VIA ENVIRONMENT: " + ADAPTIVE_CONCURRENCY.getEnvironmentVariable(),
+        "",
         "   --http-concurrency <thread-count>",
         "        Also -httpConcurrency.  Sets the maximum number of threads available",
         "        for the HTTP server.  The single parameter to this option should be",
@@ -1038,6 +1405,70 @@ public class SzApiServer implements SzApiProvider {
             + " then an error is reported",
         "        --> VIA ENVIRONMENT: " + HTTP_CONCURRENCY.getEnvironmentVariable(),
         "",
+        "   --virtual-threads [true|false]",
+        "        Also -virtualThreads.  If specified then the HTTP server threads and",
+        "        the threads that stream bulk data progress and read Web Socket data",
+        "        are virtual threads if supported by the JVM.  The connection",
+        "        selectors remain on platform threads.  Senzing API calls are",
+        "        still executed on the engine threads (see --concurrency).  If the",
+        "        JVM does not support virtual threads then a warning is logged and",
+        "        platform threads are used.  The true/false parameter is optional,",
+        "        if not specified then true is assumed.  If specified as false then",
+        "        it is the same as omitting the option with the exception that",
+        "        omission falls back to the environment variable setting whereas an",
+        "        explicit false overrides any environment variable.",
+        "        --> VIA ENVIRONMENT: " + VIRTUAL_THREADS.getEnvironmentVariable(),
+        "",
+        "   --enable-http2 [true|false]",
+        "        Also -enableHttp2.  If specified then HTTP/2 connections are accepted",
+        "        in addition to HTTP/1.1.  HTTPS connections negotiate HTTP/2 via ALPN",
+        "        and plain HTTP connections accept cleartext HTTP/2 (h2c).  Web Socket",
+        "        connections continue to use HTTP/1.1.  The true/false parameter is",
+        "        optional, if not specified then true is assumed.  If specified as",
+        "        false then it is the same as omitting the option with the exception",
+        "        that omission falls back to the environment variable setting whereas",
+        "        an explicit false overrides any environment variable.",
+        "        --> VIA ENVIRONMENT: " + ENABLE_HTTP2.getEnvironmentVariable(),
+        "",
+        "   --http2-max-streams <stream-count>",
+        "        Also -http2MaxStreams.  Sets the maximum number of concurrent streams",
+        "        a client may open on a single HTTP/2 connection.  If not specified,",
+        "        then this defaults to " + DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS
+            + ".  Ignored unless --enable-http2 is specified.",
+        "        --> VIA ENVIRONMENT: " + HTTP2_MAX_STREAMS.getEnvironmentVariable(),
+        "",
+        "   --http2-stream-window <bytes>",
+        "        Also -http2StreamWindow.  Sets the initial HTTP/2 flow-control receive",
+        "        window for each stream.  If not specified, then this defaults to",
+        "        " + DEFAULT_HTTP2_STREAM_WINDOW + " bytes.  The value cannot be less than "
+            + MINIMUM_HTTP2_WINDOW + ".",
+        "        Ignored unless --enable-http2 is specified.",
+        "        --> VIA ENVIRONMENT: " + HTTP2_STREAM_WINDOW.getEnvironmentVariable(),
+        "",
+        "   --http2-session-window <bytes>",
+        "        Also -http2SessionWindow.  Sets the initial HTTP/2 flow-control receive",
+        "        window for each connection.  If not specified, then this defaults to",
+        "        " + DEFAULT_HTTP2_SESSION_WINDOW + " bytes.  The value cannot be less than "
+            + MINIMUM_HTTP2_WINDOW + ".",
+        "        Ignored unless --enable-http2 is specified.",
+        "        --> VIA ENVIRONMENT: " + HTTP2_SESSION_WINDOW.getEnvironmentVariable(),
+        "",
+        "   --request-timeout [<seconds>][,<path-prefix>=<seconds>]*",
+        "        Also -requestTimeout.  Sets the default number of seconds (possibly",
+        "        fractional) that the server will spend on a request before discarding",
+        "        its engine tasks that have not yet begun, optionally followed by the",
+        "        timeouts for specific endpoints by path prefix relative to the base",
+        "        path (e.g.: 30,search-entities=10,entity-networks=60).  A timeout of",
+        "        zero exempts the endpoints under a prefix from the default, which is",
+        "        recommended for the streaming endpoints since their engine work",
+        "        continues after the response begins (e.g.: entities/export=0 and",
+        "        entity-changes=0).  Clients may shorten the timeout via the",
+        "        X-Request-Timeout header.  Discarded tasks respond with 504 if the",
+        "        deadline passed or 503 if the client closed the connection.  If not",
+        "        specified, then requests have no deadline unless the client",
+        "        specifies one.",
+        "        --> VIA ENVIRONMENT: " + REQUEST_TIMEOUT.getEnvironmentVariable(),
+        "",
         "   --module-name <module-name>",
         "        Also -moduleName.  The module name to initialize with.  If not",
         "        specified, then the module name defaults to \""
@@ -1124,6 +1555,146 @@ public class SzApiServer implements SzApiProvider {
         "        overrides any environment variable.",
         "        --> VIA ENVIRONMENT: " + SKIP_ENGINE_PRIMING.getEnvironmentVariable(),
         "",
+        "   --entity-change-log <file-path>",
+        "        Also -entityChangeLog.  Enables the persistent entity change log and",
+        "        specifies the path to the SQLite database file in which to store it.",
+        "        When enabled, the ID's of entities affected by changes to the entity",
+        "        repository are made available via GET /entity-changes.  If not",
+        "        specified then the entity change log is disabled.",
+        "        --> VIA ENVIRONMENT: " + ENTITY_CHANGE_LOG.getEnvironmentVariable(),
+        "",
+        "   --entity-change-log-capacity <count>",
+        "        Also -entityChangeLogCapacity.  Sets the maximum number of changed",
+        "        entities retained by the entity change log before the oldest are",
+        "        discarded.  This is ignored unless --entity-change-log is specified.",
+        "        If not specified then the default is "
+            + DEFAULT_ENTITY_CHANGE_LOG_CAPACITY + ".",
+        "        --> VIA ENVIRONMENT: "
+            + ENTITY_CHANGE_LOG_CAPACITY.getEnvironmentVariable(),
+        "",
+        "   --how-why-cache-size <count>",
+        "        Also -howWhyCacheSize.  Enables the in-memory cache of \"how\" and",
+        "        \"why\" results and sets the maximum number of results it retains.",
+        "        Cached results are invalidated when their entities are affected by",
+        "        records loaded, deleted or re-evaluated through this server and the",
+        "        cache is cleared when the configuration is reinitialized.  Changes",
+        "        made by other processes are NOT detected.  If not specified then the",
+        "        cache is disabled.",
+        "        --> VIA ENVIRONMENT: " + HOW_WHY_CACHE_SIZE.getEnvironmentVariable(),
+        "",
+        "   --adjacency-index-size <megabytes>",
+        "        Also -adjacencyIndexSize.  Enables the in-memory index of entity",
+        "        relationships used to find the neighbors of an entity and sets the",
+        "        maximum estimated megabytes of memory it may use.  Relationships are",
+        "        discarded when their entities are affected by records loaded, deleted",
+        "        or re-evaluated through this server and the index is cleared when the",
+        "        configuration is reinitialized.  Changes made by other processes are",
+        "        NOT detected.  If not specified then the index is disabled.",
+        "        --> VIA ENVIRONMENT: "
+            + ADJACENCY_INDEX_SIZE.getEnvironmentVariable(),
+        "",
+        "   --record-hash-store <file-path>",
+        "        Also -recordHashStore.  Enables the persistent record hash store and",
+        "        specifies the path to the SQLite database file in which to store it.",
+        "        When enabled, records that are loaded again through this server",
+        "        without changes to their content are skipped.  Changes made by other",
+        "        processes are NOT detected.  If not specified then the record hash",
+        "        store is disabled.",
+        "        --> VIA ENVIRONMENT: " + RECORD_HASH_STORE.getEnvironmentVariable(),
+        "",
+        "   --redo-concurrency <thread-count>",
+        "        Also -redoConcurrency.  Enables background processing of redo records",
+        "        within the API server using the specified number of threads (limited",
+        "        to the concurrency).  Redo records are only processed when there are",
+        "        idle engine threads and the resulting INFO is published the same way",
+        "        as when loading records.  This option cannot be used with",
+        "        --read-only.  If not specified then redo records are not processed.",
+        "        --> VIA ENVIRONMENT: " + REDO_CONCURRENCY.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-job-concurrency <count>",
+        "        Also -bulkLoadJobConcurrency.  Sets the maximum number of bulk-load",
+        "        jobs submitted via POST /bulk-data/jobs that are run concurrently.",
+        "        Additional jobs are queued and run in the order submitted.  If not",
+        "        specified then the default is "
+            + DEFAULT_BULK_LOAD_JOB_CONCURRENCY + ".",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_JOB_CONCURRENCY.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-job-retention <minutes>",
+        "        Also -bulkLoadJobRetention.  Sets the number of minutes that finished",
+        "        bulk-load jobs are retained so their results can be retrieved.  If",
+        "        not specified then the default is "
+            + DEFAULT_BULK_LOAD_JOB_RETENTION + ".",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_JOB_RETENTION.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-spool-dir <directory>",
+        "        Also -bulkLoadSpoolDir.  Sets the directory in which the bulk data",
+        "        for bulk-load jobs is spooled until the jobs are run.  If not",
+        "        specified then the default temporary directory is used.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_SPOOL_DIR.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-file-dir <directory>",
+        "        Also -bulkLoadFileDir.  Enables loading bulk data files from the",
+        "        specified directory on the server (or its sub-directories) via",
+        "        POST /bulk-data/load-file.  JSON-lines and CSV files are split into",
+        "        byte ranges that are read via memory-mapping and loaded in parallel.",
+        "        This requires --enable-admin and cannot be used with --read-only.",
+        "        If not specified then loading files from the server is disabled.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_FILE_DIR.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-checkpoint-dir <directory>",
+        "        Also -bulkLoadCheckpointDir.  Specifies a state directory in which",
+        "        bulk loads periodically persist a checkpoint of their load ID and",
+        "        the number of records the engine has responded for.  A load that",
+        "        is interrupted can be resumed from its checkpoint by repeating it",
+        "        with the same load ID and resume=true.  Cannot be used with",
+        "        --read-only.  If not specified then bulk loads are not checkpointed.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_CHECKPOINT_DIR.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-error-dir <directory>",
+        "        Also -bulkLoadErrorDir.  Specifies a directory in which bulk loads",
+        "        write a compressed, rotating log of the records that failed to load",
+        "        for each load ID.  The log can be retrieved via the",
+        "        GET /bulk-data/loads/{loadId}/errors endpoint.  Cannot be used with",
+        "        --read-only.  If not specified then failed records are not logged.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_ERROR_DIR.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-error-max-age <hours>",
+        "        Also -bulkLoadErrorMaxAge.  Sets the number of hours that the",
+        "        segments of the failed-record logs are retained after they were",
+        "        last written.  Older segments are deleted when a bulk load opens",
+        "        its log.  Zero means segments never expire.  If not specified, then",
+        "        this defaults to " + DEFAULT_BULK_LOAD_ERROR_MAX_AGE + ".  Ignored unless"
+            + " --bulk-load-error-dir is",
+        "        specified.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_ERROR_MAX_AGE.getEnvironmentVariable(),
+        "",
+        "   --bulk-load-error-max-size <megabytes>",
+        "        Also -bulkLoadErrorMaxSize.  Sets the maximum total number of",
+        "        megabytes for the segments of the failed-record logs.  The least",
+        "        recently written segments are deleted when a bulk load opens its",
+        "        log until the total is within the limit.  Zero means there is no",
+        "        limit.  If not specified, then this defaults to "
+            + DEFAULT_BULK_LOAD_ERROR_MAX_SIZE + ".  Ignored",
+        "        unless --bulk-load-error-dir is specified.",
+        "        --> VIA ENVIRONMENT: "
+            + BULK_LOAD_ERROR_MAX_SIZE.getEnvironmentVariable(),
+        "",
+        "   --load-throttle-file <file-path>",
+        "        Also -loadThrottleFile.  Specifies a JSON file describing the rate",
+        "        (records per second) and concurrency budgets for writing records",
+        "        per data source and per client.  The client is identified by its",
+        "        TLS client certificate or the X-Client-Id header.  Cannot be used",
+        "        with --read-only.  If not specified then writes are not throttled.",
+        "        --> VIA ENVIRONMENT: "
+            + LOAD_THROTTLE_FILE.getEnvironmentVariable(),
+        "",
         "   --verbose [true|false]",
         "        Also -verbose.  If specified then initialize in verbose mode.  The",
         "        true/false parameter is optional, if not specified then true is assumed.",
@@ -1938,16 +2509,54 @@ public class SzApiServer implements SzApiProvider {
       this.basePath = (String) options.get(URL_BASE_PATH);
     }
 
+    this.unixSocketFile = null;
+    if (options.containsKey(UNIX_SOCKET)) {
+      this.unixSocketFile = (File) options.get(UNIX_SOCKET);
+    }
+
     this.concurrency = DEFAULT_CONCURRENCY;
     if (options.containsKey(CONCURRENCY)) {
       this.concurrency = (Integer) options.get(CONCURRENCY);
     }
 
+    Integer minConcurrency = (Integer) options.get(ADAPTIVE_CONCURRENCY);
+    this.concurrencyLimiter = (minConcurrency == null) ? null
+        : new AdaptiveConcurrencyLimiter(
+            Math.min(minConcurrency, this.concurrency), this.concurrency);
+
     this.httpConcurrency = DEFAULT_HTTP_CONCURRENCY;
     if (options.containsKey(HTTP_CONCURRENCY)) {
       this.httpConcurrency = (Integer) options.get(HTTP_CONCURRENCY);
     }
 
+    this.virtualThreads = false;
+    if (options.containsKey(VIRTUAL_THREADS)) {
+      this.virtualThreads = (Boolean) options.get(VIRTUAL_THREADS);
+    }
+
+    this.http2Enabled = false;
+    if (options.containsKey(ENABLE_HTTP2)) {
+      this.http2Enabled = (Boolean) options.get(ENABLE_HTTP2);
+    }
+
+    this.http2MaxStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+    if (options.containsKey(HTTP2_MAX_STREAMS)) {
+      this.http2MaxStreams = (Integer) options.get(HTTP2_MAX_STREAMS);
+    }
+
+    this.http2StreamWindow = DEFAULT_HTTP2_STREAM_WINDOW;
+    if (options.containsKey(HTTP2_STREAM_WINDOW)) {
+      this.http2StreamWindow = (Integer) options.get(HTTP2_STREAM_WINDOW);
+    }
+
+    this.http2SessionWindow = DEFAULT_HTTP2_SESSION_WINDOW;
+    if (options.containsKey(HTTP2_SESSION_WINDOW)) {
+      this.http2SessionWindow = (Integer) options.get(HTTP2_SESSION_WINDOW);
+    }
+
+    this.requestTimeouts = RequestDeadlineFilter.parseTimeouts(
+        (String) options.get(REQUEST_TIMEOUT));
+
     this.moduleName = DEFAULT_MODULE_NAME;
     if (options.containsKey(MODULE_NAME)) {
       this.moduleName = (String) options.get(MODULE_NAME);
@@ -2161,6 +2770,47 @@ public class SzApiServer implements SzApiProvider {
         : SzMessagingEndpointFactory.createEndpoint(infoQueueProps,
             this.concurrency);
 
+    // open the entity change log if enabled
+    File changeLogFile = (File) options.get(ENTITY_CHANGE_LOG);
+    if (changeLogFile != null) {
+      Integer capacity = (Integer) options.get(ENTITY_CHANGE_LOG_CAPACITY);
+      if (capacity == null) capacity = DEFAULT_ENTITY_CHANGE_LOG_CAPACITY;
+      try {
+        this.entityChangeLog = new EntityChangeLog(
+            changeLogFile, capacity, this.getThreadFactory());
+      } catch (SQLException e) {
+        throw new IllegalStateException(
+            "Failed to open the entity change log: " + changeLogFile, e);
+      }
+      this.echo("Opened entity change log: " + changeLogFile);
+    }
+
+    // create the how/why cache if enabled
+    Integer howWhyCacheSize = (Integer) options.get(HOW_WHY_CACHE_SIZE);
+    if (howWhyCacheSize != null) {
+      this.howWhyCache = new HowWhyCache(howWhyCacheSize);
+    }
+
+    // create the entity adjacency index if enabled
+    Integer adjacencyIndexSize = (Integer) options.get(ADJACENCY_INDEX_SIZE);
+    if (adjacencyIndexSize != null) {
+      this.adjacencyIndex = new EntityAdjacencyIndex(
+          adjacencyIndexSize * 1024L * 1024L);
+    }
+
+    // open the record hash store if enabled
+    File hashStoreFile = (File) options.get(RECORD_HASH_STORE);
+    if (hashStoreFile != null) {
+      try {
+        this.recordHashStore = new RecordHashStore(
+            hashStoreFile, this.getThreadFactory());
+      } catch (SQLException e) {
+        throw new IllegalStateException(
+            "Failed to open the record hash store: " + hashStoreFile, e);
+      }
+      this.echo("Opened record hash store: " + hashStoreFile);
+    }
+
     this.autoRefreshPeriod = (Long) options.get(AUTO_REFRESH_PERIOD);
     if (this.autoRefreshPeriod != null) {
       this.autoRefreshPeriod *= 1000;
@@ -2178,6 +2828,11 @@ public class SzApiServer implements SzApiProvider {
 
     this.echo("Created Senzing engine thread pool with " + this.concurrency
         + " thread(s).");
+    if (this.concurrencyLimiter != null) {
+      this.echo("Adapting engine concurrency between "
+          + this.concurrencyLimiter.getMinLimit() + " and "
+          + this.concurrencyLimiter.getMaxLimit() + " thread(s).");
+    }
 
     if (this.configMgrApi != null) {
       // check if the auto refresh period is null
@@ -2211,6 +2866,48 @@ public class SzApiServer implements SzApiProvider {
       System.out.println("Engine priming deferred.");
     }
 
+    // start processing redo records in the background if enabled
+    Integer redoConcurrency = (Integer) options.get(REDO_CONCURRENCY);
+    if (redoConcurrency != null) {
+      redoConcurrency = Math.min(redoConcurrency, this.concurrency);
+      this.redoProcessor = new RedoProcessor(this, redoConcurrency);
+      this.echo("Started redo processing with " + redoConcurrency
+          + " thread(s).");
+    }
+
+    // start the bulk-load job manager unless in read-only mode
+    if (!this.readOnly) {
+      Integer jobConcurrency = (Integer) options.get(BULK_LOAD_JOB_CONCURRENCY);
+      if (jobConcurrency == null) {
+        jobConcurrency = DEFAULT_BULK_LOAD_JOB_CONCURRENCY;
+      }
+      Integer jobRetention = (Integer) options.get(BULK_LOAD_JOB_RETENTION);
+      if (jobRetention == null) {
+        jobRetention = DEFAULT_BULK_LOAD_JOB_RETENTION;
+      }
+      File spoolDir = (File) options.get(BULK_LOAD_SPOOL_DIR);
+      this.bulkLoadFileDirectory = (File) options.get(BULK_LOAD_FILE_DIR);
+      this.bulkLoadCheckpointDirectory
+          = (File) options.get(BULK_LOAD_CHECKPOINT_DIR);
+      this.bulkLoadErrorDirectory = (File) options.get(BULK_LOAD_ERROR_DIR);
+      Integer errorMaxAge = (Integer) options.get(BULK_LOAD_ERROR_MAX_AGE);
+      if (errorMaxAge == null) {
+        errorMaxAge = DEFAULT_BULK_LOAD_ERROR_MAX_AGE;
+      }
+      Integer errorMaxSize = (Integer) options.get(BULK_LOAD_ERROR_MAX_SIZE);
+      if (errorMaxSize == null) {
+        errorMaxSize = DEFAULT_BULK_LOAD_ERROR_MAX_SIZE;
+      }
+      this.bulkLoadErrorMaxAge  = errorMaxAge * 3600000L;
+      this.bulkLoadErrorMaxSize = errorMaxSize * 1048576L;
+      File throttleFile = (File) options.get(LOAD_THROTTLE_FILE);
+      if (throttleFile != null) {
+        this.loadThrottle = LoadThrottle.read(throttleFile);
+      }
+      this.bulkLoadJobManager = new BulkLoadJobManager(
+          this, jobConcurrency, spoolDir, jobRetention * 60000L);
+    }
+
     // setup a servlet context handler
     this.servletContext = new ServletContextHandler(ServletContextHandler.SESSIONS);
     this.servletContext.setContextPath(this.basePath);
@@ -2249,6 +2946,11 @@ public class SzApiServer implements SzApiProvider {
     // diagnose requests with errors
     this.servletContext.addFilter(DiagnoseRequestFilter.class, "/*", requestDispatch);
 
+    // associate deadlines with requests so stale engine tasks can be discarded
+    this.servletContext.addFilter(
+        new FilterHolder(new RequestDeadlineFilter(this.requestTimeouts)),
+        "/*", requestDispatch);
+
     // check if we have to respond with the allowed origins header
     if (this.allowedOrigins != null) {
       FilterHolder filterHolder = this.servletContext.addFilter(CrossOriginFilter.class, "/*", requestDispatch);
@@ -2276,8 +2978,11 @@ public class SzApiServer implements SzApiProvider {
     gzipHandler.setHandler(rewriteHandler);
 
     // create our server (TODO: add connectors for HTTP + HTTPS)
-    ThreadPool threadPool = new QueuedThreadPool(this.httpConcurrency);
+    ThreadPool threadPool = this.newHttpThreadPool();
     this.jettyServer = new Server(threadPool);
+    if (this.selectorThreadPool != null) {
+      this.jettyServer.addBean(this.selectorThreadPool);
+    }
 
     this.httpsPort = (Integer) options.get(HTTPS_PORT);
     this.keyStoreFile = (File) options.get(KEY_STORE);
@@ -2317,29 +3022,31 @@ public class SzApiServer implements SzApiProvider {
       }
 
       if (this.httpPort != null) {
-        ServerConnector httpConnector = new ServerConnector(
-            this.jettyServer, new HttpConnectionFactory(httpConfig));
+        ServerConnector httpConnector = this.newHttpConnector(httpConfig);
         httpConnector.setPort(this.httpPort);
         this.jettyServer.addConnector(httpConnector);
       }
 
-      ServerConnector httpsConnector = new ServerConnector(
-          this.jettyServer,
-          new SslConnectionFactory(sslContextFactory,
-              HttpVersion.HTTP_1_1.asString()),
-          new HttpConnectionFactory(httpsConfig));
+      ServerConnector httpsConnector = this.newHttpsConnector(
+          httpsConfig, sslContextFactory);
       httpsConnector.setPort(this.httpsPort);
       this.jettyServer.addConnector(httpsConnector);
 
     } else {
-      if (this.httpPort == null)
+      if (this.httpPort == null && this.unixSocketFile == null)
         this.httpPort = DEFAULT_PORT;
-      InetSocketAddress inetAddr = new InetSocketAddress(this.ipAddr, this.httpPort);
-      ServerConnector connector = new ServerConnector(
-          this.jettyServer, new HttpConnectionFactory(httpConfig));
-      connector.setHost(inetAddr.getHostName());
-      connector.setPort(inetAddr.getPort());
-      this.jettyServer.setConnectors(new Connector[] { connector });
+      if (this.httpPort != null) {
+        InetSocketAddress inetAddr = new InetSocketAddress(this.ipAddr, this.httpPort);
+        ServerConnector connector = this.newHttpConnector(httpConfig);
+        connector.setHost(inetAddr.getHostName());
+        connector.setPort(inetAddr.getPort());
+        this.jettyServer.addConnector(connector);
+      }
+    }
+
+    // the unix socket connector is always added last
+    if (this.unixSocketFile != null) {
+      this.jettyServer.addConnector(this.newUnixSocketConnector(httpConfig));
     }
 
     this.fileMonitor = null;
@@ -2355,6 +3062,7 @@ public class SzApiServer implements SzApiProvider {
         (this.keyStoreFile == null)
             ? null
             : this.httpsPort,
+        this.unixSocketFile,
         this.basePath,
         this.ipAddr,
         this.fileMonitor);
@@ -2387,6 +3095,228 @@ public class SzApiServer implements SzApiProvider {
       this.startHttpServer(options);
   }
 
+  /**
+   * Creates the {@link ThreadPool} for the HTTP server with a maximum of
+   * {@link #httpConcurrency} threads.  If virtual threads were requested and
+   * are supported by the JVM then the pool creates virtual threads and the
+   * {@linkplain #getThreadFactory() auxiliary thread factory} is set to also
+   * produce virtual threads.  Otherwise, the pool creates platform threads
+   * and a warning is logged if virtual threads were requested.
+   * <p>
+   * The selectors of the connectors loop for the life of the server, so when
+   * virtual threads are used they run on the {@link #selectorThreadPool} of
+   * platform threads (with one thread per selector) and the connectors accept
+   * connections on their selectors rather than on dedicated acceptor threads.
+   * Only the request handling then runs on the virtual threads.
+   *
+   * @return The newly created {@link ThreadPool}.
+   */
+  protected ThreadPool newHttpThreadPool() {
+    ThreadFactory httpFactory = null;
+    if (this.virtualThreads) {
+      httpFactory = VirtualThreads.newThreadFactory("sz-api-http-");
+      if (httpFactory == null) {
+        System.err.println(
+            "*** WARNING : Virtual threads are not supported by this JVM.  "
+                + "Using platform threads.");
+        this.virtualThreads = false;
+      }
+    }
+
+    if (httpFactory == null) {
+      this.threadFactory = Thread::new;
+      this.selectorThreadPool = null;
+      return new QueuedThreadPool(this.httpConcurrency);
+    }
+
+    this.threadFactory = VirtualThreads.newThreadFactory("sz-api-aux-");
+
+    // one selector thread for each of the HTTP, HTTPS and Unix connectors
+    int selectorThreads = 3 * getSelectorCount();
+    this.selectorThreadPool
+        = new QueuedThreadPool(selectorThreads, getSelectorCount());
+    this.selectorThreadPool.setName("sz-api-selector");
+    this.selectorThreadPool.setReservedThreads(0);
+
+    // use the Jetty defaults for the minimum threads and idle timeout, but
+    // do not reserve threads since idle virtual threads serve no purpose
+    return new QueuedThreadPool(this.httpConcurrency,
+                                Math.min(8, this.httpConcurrency),
+                                60000,
+                                0,
+                                null,
+                                null,
+                                httpFactory);
+  }
+
+  /**
+   * Gets the number of selectors for each connector when the {@link
+   * #selectorThreadPool} is used.  This is the same as the Jetty default of
+   * one selector for every two processors, but at least one and at most four.
+   *
+   * @return The number of selectors for each connector.
+   */
+  private static int getSelectorCount() {
+    int processors = Runtime.getRuntime().availableProcessors();
+    return Math.max(1, Math.min(4, processors / 2));
+  }
+
+  /**
+   * Creates a {@link ServerConnector} with the specified {@link
+   * ConnectionFactory} instances.  If the {@link #selectorThreadPool} is
+   * being used then the connector has no acceptor threads and its selectors
+   * run on the {@link #selectorThreadPool} while the connections they select
+   * are handled on the HTTP server thread pool.
+   *
+   * @param factories The {@link ConnectionFactory} instances.
+   * @return The newly created {@link ServerConnector}.
+   */
+  private ServerConnector newServerConnector(ConnectionFactory... factories) {
+    QueuedThreadPool selectorPool = this.selectorThreadPool;
+    if (selectorPool == null) {
+      return new ServerConnector(this.jettyServer, factories);
+    }
+    return new ServerConnector(
+        this.jettyServer, null, null, null, 0, getSelectorCount(), factories)
+    {
+      @Override
+      protected SelectorManager newSelectorManager(Executor   executor,
+                                                   Scheduler  scheduler,
+                                                   int        selectors)
+      {
+        return new ServerConnectorManager(selectorPool, scheduler, selectors) {
+          @Override
+          public Executor getExecutor() {
+            return executor;
+          }
+        };
+      }
+    };
+  }
+
+  /**
+   * Creates the {@link ServerConnector} for plain-text HTTP communication using
+   * the specified {@link HttpConfiguration}.  If HTTP/2 is enabled then the
+   * connector will also accept cleartext HTTP/2 (h2c) connections either via
+   * prior knowledge or via an HTTP/1.1 upgrade request.  HTTP/1.1 remains the
+   * default protocol so Web Socket upgrades continue to work.
+   *
+   * @param httpConfig The {@link HttpConfiguration} for the connector.
+   * @return The newly created {@link ServerConnector}.
+   */
+  protected ServerConnector newHttpConnector(HttpConfiguration httpConfig) {
+    return this.newServerConnector(
+        this.newHttpConnectionFactories(httpConfig));
+  }
+
+  /**
+   * Creates the {@link UnixSocketConnector} for plain-text HTTP communication
+   * over the configured Unix domain socket using the specified {@link
+   * HttpConfiguration}.  The connector supports the same protocols as the
+   * one created by {@link #newHttpConnector(HttpConfiguration)}.
+   *
+   * @param httpConfig The {@link HttpConfiguration} for the connector.
+   * @return The newly created {@link UnixSocketConnector}.
+   */
+  protected UnixSocketConnector newUnixSocketConnector(
+      HttpConfiguration httpConfig) {
+    ConnectionFactory[] factories = this.newHttpConnectionFactories(httpConfig);
+    QueuedThreadPool selectorPool = this.selectorThreadPool;
+    UnixSocketConnector connector = (selectorPool == null)
+        ? new UnixSocketConnector(this.jettyServer, factories)
+        : new UnixSocketConnector(
+            this.jettyServer, null, null, null, getSelectorCount(), factories)
+        {
+          @Override
+          protected SelectorManager newSelectorManager(Executor   executor,
+                                                       Scheduler  scheduler,
+                                                       int        selectors)
+          {
+            return new UnixSocketConnectorManager(
+                selectorPool, scheduler, selectors)
+            {
+              @Override
+              public Executor getExecutor() {
+                return executor;
+              }
+            };
+          }
+        };
+    connector.setUnixSocket(this.unixSocketFile.getPath());
+    return connector;
+  }
+
+  /**
+   * Creates the {@link ConnectionFactory} instances for plain-text HTTP
+   * communication.  This is HTTP/1.1 and if HTTP/2 is enabled then also h2c.
+   *
+   * @param httpConfig The {@link HttpConfiguration} for the factories.
+   * @return The array of {@link ConnectionFactory} instances.
+   */
+  private ConnectionFactory[] newHttpConnectionFactories(
+      HttpConfiguration httpConfig) {
+    HttpConnectionFactory http11 = new HttpConnectionFactory(httpConfig);
+    if (!this.http2Enabled) {
+      return new ConnectionFactory[] { http11 };
+    }
+    HTTP2CServerConnectionFactory h2c
+        = new HTTP2CServerConnectionFactory(httpConfig);
+    this.configureHttp2(h2c);
+    return new ConnectionFactory[] { http11, h2c };
+  }
+
+  /**
+   * Creates the {@link ServerConnector} for HTTPS communication using the
+   * specified {@link HttpConfiguration} and {@link SslContextFactory.Server}.
+   * If HTTP/2 is enabled then the protocol is negotiated via ALPN with
+   * HTTP/1.1 as the fallback for clients that do not support HTTP/2.
+   *
+   * @param httpsConfig       The {@link HttpConfiguration} for the connector.
+   * @param sslContextFactory The {@link SslContextFactory.Server} to use.
+   * @return The newly created {@link ServerConnector}.
+   */
+  protected ServerConnector newHttpsConnector(
+      HttpConfiguration httpsConfig,
+      SslContextFactory.Server sslContextFactory) {
+    HttpConnectionFactory http11 = new HttpConnectionFactory(httpsConfig);
+    if (!this.http2Enabled) {
+      return this.newServerConnector(
+          new SslConnectionFactory(sslContextFactory,
+              HttpVersion.HTTP_1_1.asString()),
+          http11);
+    }
+
+    HTTP2ServerConnectionFactory h2
+        = new HTTP2ServerConnectionFactory(httpsConfig);
+    this.configureHttp2(h2);
+
+    ALPNServerConnectionFactory alpn = new ALPNServerConnectionFactory();
+    alpn.setDefaultProtocol(http11.getProtocol());
+
+    // HTTP/2 forbids a number of older cipher suites so prefer those allowed
+    sslContextFactory.setCipherComparator(HTTP2Cipher.COMPARATOR);
+    sslContextFactory.setUseCipherSuitesOrder(true);
+
+    return this.newServerConnector(
+        new SslConnectionFactory(sslContextFactory, alpn.getProtocol()),
+        alpn,
+        h2,
+        http11);
+  }
+
+  /**
+   * Applies the configured HTTP/2 stream concurrency and flow-control window
+   * settings to the specified {@link AbstractHTTP2ServerConnectionFactory}.
+   *
+   * @param factory The {@link AbstractHTTP2ServerConnectionFactory} to
+   *                configure.
+   */
+  protected void configureHttp2(AbstractHTTP2ServerConnectionFactory factory) {
+    factory.setMaxConcurrentStreams(this.http2MaxStreams);
+    factory.setInitialStreamRecvWindow(this.http2StreamWindow);
+    factory.setInitialSessionRecvWindow(this.http2SessionWindow);
+  }
+
   /**
    * Starts the HTTP server to service requests.
    *
@@ -2396,21 +3326,22 @@ public class SzApiServer implements SzApiProvider {
       throws Exception {
     try {
       this.jettyServer.start();
-      Connector[] connectors = this.jettyServer.getConnectors();
-      if (connectors.length == 1) {
-        if (this.httpPort == null) {
-          this.httpsPort = ((ServerConnector) connectors[0]).getLocalPort();
-        }
-        {
-          this.httpPort = ((ServerConnector) connectors[0]).getLocalPort();
+      for (Connector connector : this.jettyServer.getConnectors()) {
+        if (!(connector instanceof ServerConnector))
+          continue;
+        int localPort = ((ServerConnector) connector).getLocalPort();
+        if (connector.getConnectionFactory(SslConnectionFactory.class) != null) {
+          this.httpsPort = localPort;
+        } else {
+          this.httpPort = localPort;
         }
-      } else if (connectors.length > 1) {
-        this.httpPort = ((ServerConnector) connectors[0]).getLocalPort();
-        this.httpsPort = ((ServerConnector) connectors[1]).getLocalPort();
       }
 
       if (options.containsKey(MONITOR_FILE)) {
-        this.fileMonitor.initialize(this.httpPort, this.httpsPort);
+        this.fileMonitor.initialize(
+            this.httpPort,
+            (this.keyStoreFile == null) ? null : this.httpsPort,
+            (this.unixSocketFile == null) ? null : this.unixSocketFile.getPath());
         this.fileMonitor.start();
       }
     } catch (Exception e) {
@@ -2472,6 +3403,30 @@ public class SzApiServer implements SzApiProvider {
       this.workerThreadPool.close(true);
       this.workerThreadPool = new WorkerThreadPool(this.getClass().getName(), this.concurrency);
 
+      // the purged entities can no longer be tracked incrementally
+      if (this.entityChangeLog != null) {
+        try {
+          this.entityChangeLog.reset();
+        } catch (SQLException e) {
+          throw new IllegalStateException(
+              "Failed to reset the entity change log after purge.", e);
+        }
+      }
+      if (this.howWhyCache != null) {
+        this.howWhyCache.clear();
+      }
+      if (this.adjacencyIndex != null) {
+        this.adjacencyIndex.clear();
+      }
+      if (this.recordHashStore != null) {
+        try {
+          this.recordHashStore.clear();
+        } catch (SQLException e) {
+          throw new IllegalStateException(
+              "Failed to clear the record hash store after purge.", e);
+        }
+      }
+
     } finally {
       this.purgeLock.writeLock().unlock();
     }
@@ -2798,6 +3753,17 @@ public class SzApiServer implements SzApiProvider {
     }
 
     synchronized (this.joinMonitor) {
+      if (this.redoProcessor != null) {
+        this.redoProcessor.close();
+      }
+      if (this.bulkLoadJobManager != null) {
+        this.bulkLoadJobManager.close();
+      }
+      synchronized (this) {
+        if (this.auxiliaryExecutor != null) {
+          this.auxiliaryExecutor.shutdownNow();
+        }
+      }
       this.engineApi.destroy();
       this.configApi.destroy();
       if (this.configMgrApi != null) {
@@ -2805,6 +3771,12 @@ public class SzApiServer implements SzApiProvider {
       }
       this.diagnosticApi.destroy();
       this.productApi.destroy();
+      if (this.entityChangeLog != null) {
+        this.entityChangeLog.close();
+      }
+      if (this.recordHashStore != null) {
+        this.recordHashStore.close();
+      }
       this.completed = true;
       this.joinMonitor.notifyAll();
     }
@@ -2812,7 +3784,13 @@ public class SzApiServer implements SzApiProvider {
 
   /**
    * Executes the specified task within a thread pool managed by the
-   * {@link SzApiServer} instance.
+   * {@link SzApiServer} instance.  If the calling thread is handling a request
+   * with a {@link RequestDeadline} then the task is discarded if the request
+   * has expired or been cancelled before the task is queued or before a
+   * worker thread begins executing it.  If {@linkplain #getConcurrencyLimiter()
+   * adaptive concurrency limiting} is enabled then the calling thread waits
+   * for a permit before queueing the task and the latency of the task is
+   * reported to the limiter once complete, whether or not it succeeded.
    *
    * @param task The task to execute.
    *
@@ -2822,8 +3800,40 @@ public class SzApiServer implements SzApiProvider {
    */
   public <T, E extends Exception> T executeInThread(Task<T, E> task)
       throws E {
+    AdaptiveConcurrencyLimiter limiter = this.concurrencyLimiter;
+    long[] latency = { -1L };
+    if (limiter != null) {
+      Task<T, E> timedTask = task;
+      task = () -> {
+        long start = System.nanoTime();
+        try {
+          return timedTask.execute();
+        } finally {
+          // engine failures are sampled too since they often come from an
+          // overloaded repository timing out
+          latency[0] = System.nanoTime() - start;
+        }
+      };
+    }
+
+    RequestDeadline deadline = RequestDeadline.getCurrent();
+    if (deadline != null) {
+      this.checkDeadline(deadline);
+      Task<T, E> deadlineTask = task;
+      task = () -> {
+        this.checkDeadline(deadline);
+        return deadlineTask.execute();
+      };
+    }
+
     this.purgeLock.readLock().lock();
+    this.pendingTaskCount.incrementAndGet();
+    boolean permitted = false;
     try {
+      if (limiter != null) {
+        this.acquireConcurrencyPermit(limiter, deadline);
+        permitted = true;
+      }
       return this.workerThreadPool.execute(task);
 
     } catch (ServerErrorException e) {
@@ -2838,10 +3848,225 @@ public class SzApiServer implements SzApiProvider {
       throw e;
 
     } finally {
+      if (permitted) limiter.release(latency[0]);
+      this.pendingTaskCount.decrementAndGet();
       this.purgeLock.readLock().unlock();
     }
   }
 
+  /**
+   * Executes the specified background task within the thread pool managed by
+   * the {@link SzApiServer} instance if an engine thread is idle.  The thread
+   * is reserved before checking the {@linkplain #getPendingTaskCount() pending
+   * tasks} so that concurrent background tasks cannot together exceed the
+   * concurrency, and if {@linkplain #getConcurrencyLimiter() adaptive
+   * concurrency limiting} is enabled then a permit is also taken without
+   * waiting.  The latency of a background task is not reported to the
+   * limiter since it does not reflect the latency of the requests.
+   *
+   * @param task The background task to execute.
+   *
+   * @return <tt>true</tt> if the task was executed, or <tt>false</tt> if no
+   *         engine thread was idle.
+   *
+   * @throws Exception If the task has a failure.
+   */
+  @Override
+  public <E extends Exception> boolean executeInIdleThread(Task<?, E> task)
+      throws E
+  {
+    AdaptiveConcurrencyLimiter limiter = this.concurrencyLimiter;
+    int limit = (limiter == null) ? this.concurrency : limiter.getLimit();
+
+    this.purgeLock.readLock().lock();
+    int reserved = this.idleTaskCount.incrementAndGet();
+    boolean permitted = false;
+    try {
+      if (reserved + this.pendingTaskCount.get() > limit) return false;
+      if (limiter != null) {
+        permitted = limiter.acquire(0L);
+        if (!permitted) return false;
+      }
+      this.workerThreadPool.execute(task);
+      return true;
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+
+    } finally {
+      if (permitted) limiter.release(-1L);
+      this.idleTaskCount.decrementAndGet();
+      this.purgeLock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Waits for a permit from the specified {@link AdaptiveConcurrencyLimiter},
+   * periodically checking the specified {@link RequestDeadline} (if any) so
+   * that the wait is abandoned if the request expires or is cancelled.
+   *
+   * @param limiter  The {@link AdaptiveConcurrencyLimiter} to obtain the
+   *                 permit from.
+   * @param deadline The {@link RequestDeadline} for the request, or
+   *                 <tt>null</tt> if none.
+   *
+   * @throws WebApplicationException If the request expires or is cancelled
+   *                                 or the thread is interrupted while
+   *                                 waiting.
+   */
+  protected void acquireConcurrencyPermit(AdaptiveConcurrencyLimiter limiter,
+                                          RequestDeadline            deadline)
+      throws WebApplicationException
+  {
+    try {
+      if (deadline == null) {
+        limiter.acquire(-1L);
+        return;
+      }
+      while (true) {
+        this.checkDeadline(deadline);
+        Long remaining = deadline.getRemainingMillis();
+        long waitTime = (remaining == null) ? DEADLINE_POLL_PERIOD
+            : Math.max(1L, Math.min(DEADLINE_POLL_PERIOD, remaining));
+        if (limiter.acquire(waitTime)) return;
+      }
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw this.newDeadlineException(
+          deadline,
+          Response.Status.SERVICE_UNAVAILABLE,
+          "Interrupted while waiting for an engine thread.");
+    }
+  }
+
+  /**
+   * Checks if the request for the specified {@link RequestDeadline} has been
+   * cancelled or has expired and if so counts the discarded task and throws
+   * a {@link WebApplicationException} with a <code>503 Service
+   * Unavailable</code> or <code>504 Gateway Timeout</code> response,
+   * respectively.
+   *
+   * @param deadline The {@link RequestDeadline} to check.
+   *
+   * @throws WebApplicationException If the request has been cancelled or has
+   *                                 expired.
+   */
+  protected void checkDeadline(RequestDeadline deadline)
+      throws WebApplicationException
+  {
+    Response.Status status;
+    String message;
+    if (deadline.isCancelled()) {
+      this.cancelledTaskCount.increment();
+      status  = Response.Status.SERVICE_UNAVAILABLE;
+      message = "The request was cancelled before the engine could process it.";
+
+    } else if (deadline.isExpired()) {
+      this.expiredTaskCount.increment();
+      status  = Response.Status.GATEWAY_TIMEOUT;
+      message = "The request deadline passed before the engine could "
+          + "process it.";
+
+    } else {
+      return;
+    }
+    throw this.newDeadlineException(deadline, status, message);
+  }
+
+  /**
+   * Creates a {@link WebApplicationException} with a response having the
+   * specified status and an {@link SzErrorResponse} with the specified
+   * message that links to the request of the specified {@link
+   * RequestDeadline}.  If the request is not known (e.g.: the task did not
+   * originate from an HTTP request) then the response is plain text.
+   *
+   * @param deadline The {@link RequestDeadline} for the request, or
+   *                 <tt>null</tt> if none.
+   * @param status   The {@link Response.Status} for the response.
+   * @param message  The message describing the error.
+   *
+   * @return The {@link WebApplicationException} that was created.
+   */
+  protected WebApplicationException newDeadlineException(
+      RequestDeadline   deadline,
+      Response.Status   status,
+      String            message)
+  {
+    HttpServletRequest request
+        = (deadline == null) ? null : deadline.getRequest();
+    if (request == null) {
+      return new WebApplicationException(
+          message,
+          Response.status(status).entity(message).type(TEXT_PLAIN).build());
+    }
+    SzMeta meta = SzMeta.FACTORY.create(deadline.getHttpMethod(),
+                                        status.getStatusCode(),
+                                        deadline.getTimers());
+    SzLinks links = SzLinks.FACTORY.create(request);
+    SzErrorResponse errorResponse
+        = SzErrorResponse.FACTORY.create(meta, links, message);
+    return new WebApplicationException(
+        message,
+        Response.status(status).entity(errorResponse)
+            .type(APPLICATION_JSON).build());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * This implementation always uses a platform thread (even when {@linkplain
+   * #isUsingVirtualThreads() virtual threads} are enabled) since the task
+   * makes blocking native calls, and holds the same lock as {@link
+   * #executeInThread(Task)} to prevent purging the repository while the task
+   * is running.
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T, E extends Exception> T executeInDedicatedThread(Task<T, E> task)
+      throws E
+  {
+    Object[]    result  = { null };
+    Throwable[] failure = { null };
+    Thread thread = new Thread(() -> {
+      this.purgeLock.readLock().lock();
+      try {
+        result[0] = task.execute();
+
+      } catch (Throwable t) {
+        failure[0] = t;
+
+      } finally {
+        this.purgeLock.readLock().unlock();
+      }
+    }, "sz-api-dedicated-" + this.dedicatedThreadCounter.incrementAndGet());
+
+    thread.start();
+    boolean interrupted = false;
+    while (thread.isAlive()) {
+      try {
+        thread.join();
+      } catch (InterruptedException e) {
+        // pass the interruption along to the task and keep waiting for it
+        interrupted = true;
+        thread.interrupt();
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+
+    if (failure[0] instanceof RuntimeException) {
+      throw ((RuntimeException) failure[0]);
+    }
+    if (failure[0] instanceof Error) {
+      throw ((Error) failure[0]);
+    }
+    if (failure[0] != null) {
+      throw ((E) failure[0]);
+    }
+    return (T) result[0];
+  }
+
   @Override
   public AccessToken authorizeProlongedOperation() {
     synchronized (this.prolongedAuthSet) {
@@ -3030,6 +4255,14 @@ public class SzApiServer implements SzApiProvider {
           // reinitialize the cached configuration data
           this.initializeConfigData();
 
+          // the cached how/why results may differ under the new config
+          if (this.howWhyCache != null) {
+            this.howWhyCache.clear();
+          }
+          if (this.adjacencyIndex != null) {
+            this.adjacencyIndex.clear();
+          }
+
           // return true to indicate we reinitialized
           return true;
 
@@ -68,6 +68,110 @@ public final class SzApiServerConstants {
   static final String DEFAULT_HTTP_CONCURRENCY_PARAM
       = String.valueOf(DEFAULT_HTTP_CONCURRENCY);
 
+  /**
+   * The default maximum number of concurrent streams per HTTP/2 connection
+   * when HTTP/2 is enabled.  The default value is {@value}.
+   */
+  public static final int DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS = 128;
+
+  /**
+   * The default HTTP/2 max concurrent streams as a string.
+   */
+  static final String DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS_PARAM
+      = String.valueOf(DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS);
+
+  /**
+   * The default initial HTTP/2 flow-control receive window (in bytes) for each
+   * stream when HTTP/2 is enabled.  The default value is {@value}.
+   */
+  public static final int DEFAULT_HTTP2_STREAM_WINDOW = 512 * 1024;
+
+  /**
+   * The default HTTP/2 stream window as a string.
+   */
+  static final String DEFAULT_HTTP2_STREAM_WINDOW_PARAM
+      = String.valueOf(DEFAULT_HTTP2_STREAM_WINDOW);
+
+  /**
+   * The default initial HTTP/2 flow-control receive window (in bytes) for each
+   * session (i.e.: connection) when HTTP/2 is enabled.  The default value is
+   * {@value}.
+   */
+  public static final int DEFAULT_HTTP2_SESSION_WINDOW = 1024 * 1024;
+
+  /**
+   * The default HTTP/2 session window as a string.
+   */
+  static final String DEFAULT_HTTP2_SESSION_WINDOW_PARAM
+      = String.valueOf(DEFAULT_HTTP2_SESSION_WINDOW);
+
+  /**
+   * The default maximum number of changed entities retained by the entity
+   * change log when it is enabled.  The default value is {@value}.
+   */
+  public static final int DEFAULT_ENTITY_CHANGE_LOG_CAPACITY = 1000000;
+
+  /**
+   * The default entity change log capacity as a string.
+   */
+  static final String DEFAULT_ENTITY_CHANGE_LOG_CAPACITY_PARAM
+      = String.valueOf(DEFAULT_ENTITY_CHANGE_LOG_CAPACITY);
+
+  /**
+   * The default maximum number of asynchronous bulk-load jobs that are run
+   * concurrently.  The default value is {@value}.
+   */
+  public static final int DEFAULT_BULK_LOAD_JOB_CONCURRENCY = 1;
+
+  /**
+   * The default bulk-load job concurrency as a string.
+   */
+  static final String DEFAULT_BULK_LOAD_JOB_CONCURRENCY_PARAM
+      = String.valueOf(DEFAULT_BULK_LOAD_JOB_CONCURRENCY);
+
+  /**
+   * The default number of minutes that finished asynchronous bulk-load jobs
+   * are retained.  The default value is {@value}.
+   */
+  public static final int DEFAULT_BULK_LOAD_JOB_RETENTION = 60;
+
+  /**
+   * The default bulk-load job retention as a string.
+   */
+  static final String DEFAULT_BULK_LOAD_JOB_RETENTION_PARAM
+      = String.valueOf(DEFAULT_BULK_LOAD_JOB_RETENTION);
+
+  /**
+   * The default number of hours that the logs of failed bulk-load records
+   * are retained.  The default value is {@value}.
+   */
+  public static final int DEFAULT_BULK_LOAD_ERROR_MAX_AGE = 168;
+
+  /**
+   * The default bulk-load error log maximum age as a string.
+   */
+  static final String DEFAULT_BULK_LOAD_ERROR_MAX_AGE_PARAM
+      = String.valueOf(DEFAULT_BULK_LOAD_ERROR_MAX_AGE);
+
+  /**
+   * The default maximum number of megabytes for the logs of failed bulk-load
+   * records, where zero means there is no limit.  The default value is
+   * {@value}.
+   */
+  public static final int DEFAULT_BULK_LOAD_ERROR_MAX_SIZE = 0;
+
+  /**
+   * The default bulk-load error log maximum size as a string.
+   */
+  static final String DEFAULT_BULK_LOAD_ERROR_MAX_SIZE_PARAM
+      = String.valueOf(DEFAULT_BULK_LOAD_ERROR_MAX_SIZE);
+
+  /**
+   * The minimum HTTP/2 flow-control window size (in bytes) as defined by the
+   * HTTP/2 specification.  The value is {@value}.
+   */
+  public static final int MINIMUM_HTTP2_WINDOW = 65535;
+
   /**
    * The default stats interval for logging stats.  This is the default
    * minimum period of time between logging of stats.  The actual interval
@@ -2,6 +2,7 @@ package com.senzing.api.server;
 
 import com.senzing.cmdline.CommandLineOption;
 import com.senzing.cmdline.ParameterProcessor;
+import com.senzing.api.services.LoadThrottle;
 import com.senzing.util.JsonUtilities;
 
 import java.io.File;
@@ -222,6 +223,33 @@ public enum SzApiServerOption
       ENV_PREFIX + "BIND_ADDR", null,
       1, DEFAULT_BIND_ADDRESS),
 
+  /**
+   * <p>
+   * Option for specifying the file path of a Unix domain socket on which the
+   * API Server should accept HTTP communication. This is intended for
+   * deployments where the caller runs on the same host (e.g.: as a sidecar)
+   * and avoids the overhead of loopback TCP. If this option is specified
+   * without explicitly specifying {@link #HTTP_PORT} then the server will
+   * <b>only</b> listen on the Unix domain socket (and the HTTPS port if
+   * configured). If {@link #HTTP_PORT} is explicitly specified then the server
+   * listens on both. The parent directory of the socket file must exist. This
+   * option cannot be specified if SSL client authentication is configured.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--unix-socket {socket-file-path}</code></li>
+   * <li>Command Line: <code>-unixSocket {socket-file-path}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_UNIX_SOCKET="{socket-file-path}"</code></li>
+   * </ul>
+   * </p>
+   */
+  UNIX_SOCKET("--unix-socket",
+      Set.of("-unixSocket"),
+      ENV_PREFIX + "UNIX_SOCKET", null,
+      1),
+
   /**
    * <p>
    * Option for specifying the base path (and optional alias base paths) for the
@@ -532,6 +560,33 @@ public enum SzApiServerOption
       ENV_PREFIX + "CONCURRENCY", null,
       1, DEFAULT_CONCURRENCY_PARAM),
 
+  /**
+   * <p>
+   * This option enables adaptive limiting of the number of Senzing API
+   * functions that execute concurrently and sets the minimum for the limit.
+   * The limit starts at the {@linkplain #CONCURRENCY concurrency}, which is
+   * also its maximum, and is lowered when the observed latency of the engine
+   * functions rises (e.g.: because the database is saturated) and raised
+   * again when the latency recovers.  The single parameter to this option
+   * should be a positive integer and is limited to the concurrency.  If not
+   * specified, then the number of concurrently executing functions is only
+   * limited by the concurrency.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--adaptive-concurrency {min-thread-count}</code></li>
+   * <li>Command Line: <code>-adaptiveConcurrency {min-thread-count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_ADAPTIVE_CONCURRENCY="{min-thread-count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  ADAPTIVE_CONCURRENCY("--adaptive-concurrency",
+      Set.of("-adaptiveConcurrency"),
+      ENV_PREFIX + "ADAPTIVE_CONCURRENCY", null,
+      1),
+
   /**
    * <p>
    * This option sets the maximum number of threads available for the HTTP
@@ -555,6 +610,160 @@ public enum SzApiServerOption
       ENV_PREFIX + "HTTP_CONCURRENCY", null,
       1, DEFAULT_HTTP_CONCURRENCY_PARAM),
 
+  /**
+   * <p>
+   * The presence of this option causes the API Server to run the web server
+   * request handling threads, as well as the threads that stream progress
+   * updates for SSE and read incoming Web Socket data, on virtual threads
+   * when the JVM supports them. Calls to the Senzing native API continue to
+   * run on the fixed pool of engine threads (see {@link #CONCURRENCY}). If the
+   * JVM does not support virtual threads then a warning is logged and
+   * platform threads are used. A single parameter may optionally be specified
+   * as <code>true</code> or <code>false</code> with <code>false</code>
+   * simulating the absence of the option.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--virtual-threads [true|false]</code></li>
+   * <li>Command Line: <code>-virtualThreads [true|false]</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_VIRTUAL_THREADS="{true|false}"</code></li>
+   * </ul>
+   * </p>
+   */
+  VIRTUAL_THREADS("--virtual-threads", Set.of("-virtualThreads"),
+      ENV_PREFIX + "VIRTUAL_THREADS", null,
+      0, "false"),
+
+  /**
+   * <p>
+   * The presence of this option causes the API Server to accept HTTP/2
+   * connections in addition to HTTP/1.1 connections. For HTTPS, HTTP/2 is
+   * negotiated via ALPN with fallback to HTTP/1.1. For plain HTTP, cleartext
+   * HTTP/2 (h2c) is accepted either via prior knowledge or via the HTTP/1.1
+   * upgrade mechanism. Web Socket connections continue to use HTTP/1.1. A
+   * single parameter may optionally be specified as <code>true</code> or
+   * <code>false</code> with <code>false</code> simulating the absence of the
+   * option.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--enable-http2 [true|false]</code></li>
+   * <li>Command Line: <code>-enableHttp2 [true|false]</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_ENABLE_HTTP2="{true|false}"</code></li>
+   * </ul>
+   * </p>
+   */
+  ENABLE_HTTP2("--enable-http2", Set.of("-enableHttp2"),
+      ENV_PREFIX + "ENABLE_HTTP2", null,
+      0, "false"),
+
+  /**
+   * <p>
+   * This option sets the maximum number of concurrent streams that a client
+   * may open on a single HTTP/2 connection. The single parameter to this
+   * option should be a positive integer. If not specified, then this defaults
+   * to {@link SzApiServerConstants#DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS}. This
+   * option is ignored unless {@link #ENABLE_HTTP2} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--http2-max-streams {stream-count}</code></li>
+   * <li>Command Line: <code>-http2MaxStreams {stream-count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_HTTP2_MAX_STREAMS="{stream-count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  HTTP2_MAX_STREAMS("--http2-max-streams", Set.of("-http2MaxStreams"),
+      ENV_PREFIX + "HTTP2_MAX_STREAMS", null,
+      1, DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS_PARAM),
+
+  /**
+   * <p>
+   * This option sets the initial HTTP/2 flow-control receive window (in bytes)
+   * for each stream. The single parameter to this option should be an integer
+   * no less than {@link SzApiServerConstants#MINIMUM_HTTP2_WINDOW}. If not
+   * specified, then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_HTTP2_STREAM_WINDOW}. This option is ignored
+   * unless {@link #ENABLE_HTTP2} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--http2-stream-window {bytes}</code></li>
+   * <li>Command Line: <code>-http2StreamWindow {bytes}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_HTTP2_STREAM_WINDOW="{bytes}"</code></li>
+   * </ul>
+   * </p>
+   */
+  HTTP2_STREAM_WINDOW("--http2-stream-window", Set.of("-http2StreamWindow"),
+      ENV_PREFIX + "HTTP2_STREAM_WINDOW", null,
+      1, DEFAULT_HTTP2_STREAM_WINDOW_PARAM),
+
+  /**
+   * <p>
+   * This option sets the initial HTTP/2 flow-control receive window (in bytes)
+   * for each session (i.e.: connection). The single parameter to this option
+   * should be an integer no less than {@link
+   * SzApiServerConstants#MINIMUM_HTTP2_WINDOW}. If not specified, then this
+   * defaults to {@link SzApiServerConstants#DEFAULT_HTTP2_SESSION_WINDOW}.
+   * This option is ignored unless {@link #ENABLE_HTTP2} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--http2-session-window {bytes}</code></li>
+   * <li>Command Line: <code>-http2SessionWindow {bytes}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_HTTP2_SESSION_WINDOW="{bytes}"</code></li>
+   * </ul>
+   * </p>
+   */
+  HTTP2_SESSION_WINDOW("--http2-session-window", Set.of("-http2SessionWindow"),
+      ENV_PREFIX + "HTTP2_SESSION_WINDOW", null,
+      1, DEFAULT_HTTP2_SESSION_WINDOW_PARAM),
+
+  /**
+   * <p>
+   * This option sets the default number of seconds that the server will
+   * spend on a request before discarding the engine tasks for it that have
+   * not yet begun.  The single parameter to this option is an optional
+   * default number of seconds followed by zero or more comma-separated
+   * <code>{path-prefix}={seconds}</code> pairs giving the timeouts for
+   * specific endpoints, where the path prefix is relative to the base path
+   * and the longest matching prefix applies (e.g.:
+   * <code>30,search-entities=10,entity-networks=60</code>).  The number of
+   * seconds may be fractional, or zero to exempt the endpoints under a path
+   * prefix from the default timeout, which is recommended for the streaming
+   * endpoints (e.g.: <code>30,entities/export=0,entity-changes=0</code>)
+   * since their engine work continues after the response has begun.  A
+   * client may shorten, but not extend, the timeout for a request via the
+   * <code>X-Request-Timeout</code> header.  If
+   * not specified then requests have no deadline unless specified by the
+   * client.  Engine tasks whose deadline passes before they are executed are
+   * discarded with a <code>504 Gateway Timeout</code> response, while those
+   * for requests whose connection was closed are discarded with a
+   * <code>503 Service Unavailable</code> response.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--request-timeout {timeout-spec}</code></li>
+   * <li>Command Line: <code>-requestTimeout {timeout-spec}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_REQUEST_TIMEOUT="{timeout-spec}"</code></li>
+   * </ul>
+   * </p>
+   */
+  REQUEST_TIMEOUT("--request-timeout", Set.of("-requestTimeout"),
+      ENV_PREFIX + "REQUEST_TIMEOUT", null, 1),
+
   /**
    * <p>
    * If leveraging the default configuration stored in the database, this option
@@ -674,6 +883,387 @@ public enum SzApiServerOption
       ENV_PREFIX + "SKIP_ENGINE_PRIMING", null,
       0, "false"),
 
+  /**
+   * <p>
+   * This option enables the persistent entity change log and specifies the
+   * path to the SQLite database file in which to store it.  When enabled,
+   * the ID's of the entities affected by each change to the entity
+   * repository are recorded and made available via the
+   * <code>GET /entity-changes</code> endpoint.  The single parameter to this
+   * option is the path to the file.  The directory containing the file must
+   * exist.  If not specified, then the entity change log is disabled.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--entity-change-log {file-path}</code></li>
+   * <li>Command Line: <code>-entityChangeLog {file-path}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_ENTITY_CHANGE_LOG="{file-path}"</code></li>
+   * </ul>
+   * </p>
+   */
+  ENTITY_CHANGE_LOG("--entity-change-log",
+      Set.of("-entityChangeLog"),
+      ENV_PREFIX + "ENTITY_CHANGE_LOG", null,
+      1),
+
+  /**
+   * <p>
+   * This option sets the maximum number of changed entities retained by the
+   * entity change log.  Once exceeded, the oldest changes are discarded and
+   * clients that have not consumed them must re-synchronize.  The single
+   * parameter to this option should be a positive integer.  If not specified,
+   * then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_ENTITY_CHANGE_LOG_CAPACITY}.  This option is
+   * ignored unless {@link #ENTITY_CHANGE_LOG} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--entity-change-log-capacity {count}</code></li>
+   * <li>Command Line: <code>-entityChangeLogCapacity {count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_ENTITY_CHANGE_LOG_CAPACITY="{count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  ENTITY_CHANGE_LOG_CAPACITY("--entity-change-log-capacity",
+      Set.of("-entityChangeLogCapacity"),
+      ENV_PREFIX + "ENTITY_CHANGE_LOG_CAPACITY", null,
+      1, DEFAULT_ENTITY_CHANGE_LOG_CAPACITY_PARAM),
+
+  /**
+   * <p>
+   * This option enables the in-memory cache of "how" and "why" results and
+   * sets the maximum number of results that it retains.  Cached results are
+   * invalidated when their entities are affected by records loaded, deleted
+   * or re-evaluated through this server, and the cache is cleared when the
+   * configuration is reinitialized.  Changes made by other processes are NOT
+   * detected.  The single parameter to this option should be a positive
+   * integer.  If not specified, then the cache is disabled.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--how-why-cache-size {count}</code></li>
+   * <li>Command Line: <code>-howWhyCacheSize {count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_HOW_WHY_CACHE_SIZE="{count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  HOW_WHY_CACHE_SIZE("--how-why-cache-size",
+      Set.of("-howWhyCacheSize"),
+      ENV_PREFIX + "HOW_WHY_CACHE_SIZE", null,
+      1),
+
+  /**
+   * <p>
+   * This option enables the in-memory index of the relationships between
+   * entities that is used to find the neighbors of an entity and sets the
+   * maximum estimated number of megabytes of memory that it may use.  Indexed
+   * relationships are discarded when their entities are affected by records
+   * loaded, deleted or re-evaluated through this server, and the index is
+   * cleared when the configuration is reinitialized.  Changes made by other
+   * processes are NOT detected.  The single parameter to this option should
+   * be a positive integer.  If not specified, then the index is disabled.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--adjacency-index-size {megabytes}</code></li>
+   * <li>Command Line: <code>-adjacencyIndexSize {megabytes}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_ADJACENCY_INDEX_SIZE="{megabytes}"</code></li>
+   * </ul>
+   * </p>
+   */
+  ADJACENCY_INDEX_SIZE("--adjacency-index-size",
+      Set.of("-adjacencyIndexSize"),
+      ENV_PREFIX + "ADJACENCY_INDEX_SIZE", null,
+      1),
+
+  /**
+   * <p>
+   * This option enables the persistent record hash store and specifies the
+   * path to the SQLite database file in which to store it.  When enabled, a
+   * hash of the content of each record loaded through this server is stored
+   * by data source code and record ID, and records that are loaded again
+   * without changes are skipped (and reported as unchanged by bulk loads).
+   * The hashes are kept consistent with records deleted through this server
+   * and the store is cleared when the repository is purged.  Changes made by
+   * other processes are NOT detected.  The single parameter to this option is
+   * the path to the file.  The directory containing the file must exist.  If
+   * not specified, then the record hash store is disabled.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--record-hash-store {file-path}</code></li>
+   * <li>Command Line: <code>-recordHashStore {file-path}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_RECORD_HASH_STORE="{file-path}"</code></li>
+   * </ul>
+   * </p>
+   */
+  RECORD_HASH_STORE("--record-hash-store",
+      Set.of("-recordHashStore"),
+      ENV_PREFIX + "RECORD_HASH_STORE", null,
+      1),
+
+  /**
+   * <p>
+   * This option enables the background processing of redo records within the
+   * API server and sets the number of threads with which to process them.
+   * Redo records are only processed when there are idle engine threads so
+   * that redo processing yields to the interactive load, and the INFO
+   * produced is published the same way as when loading records.  The single
+   * parameter to this option should be a positive integer, and is limited to
+   * the {@linkplain #CONCURRENCY concurrency}.  If not specified, then redo
+   * records are not processed by the API server.  This option cannot be
+   * specified with {@link #READ_ONLY}.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--redo-concurrency {thread-count}</code></li>
+   * <li>Command Line: <code>-redoConcurrency {thread-count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_REDO_CONCURRENCY="{thread-count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  REDO_CONCURRENCY("--redo-concurrency",
+      Set.of("-redoConcurrency"),
+      ENV_PREFIX + "REDO_CONCURRENCY", null,
+      1),
+
+  /**
+   * <p>
+   * This option sets the maximum number of asynchronous bulk-load jobs
+   * (submitted via <tt>POST /bulk-data/jobs</tt>) that are run concurrently.
+   * Additional jobs are queued and run in the order they were submitted.
+   * The single parameter to this option should be a positive integer.  If
+   * not specified, then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_CONCURRENCY}.  This option is
+   * ignored if {@link #READ_ONLY} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-job-concurrency {count}</code></li>
+   * <li>Command Line: <code>-bulkLoadJobConcurrency {count}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_JOB_CONCURRENCY="{count}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_JOB_CONCURRENCY("--bulk-load-job-concurrency",
+      Set.of("-bulkLoadJobConcurrency"),
+      ENV_PREFIX + "BULK_LOAD_JOB_CONCURRENCY", null,
+      1, DEFAULT_BULK_LOAD_JOB_CONCURRENCY_PARAM),
+
+  /**
+   * <p>
+   * This option sets the number of minutes that finished asynchronous
+   * bulk-load jobs are retained so that their results may be retrieved.  The
+   * single parameter to this option should be a non-negative integer.  If
+   * not specified, then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_RETENTION}.  This option is
+   * ignored if {@link #READ_ONLY} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-job-retention {minutes}</code></li>
+   * <li>Command Line: <code>-bulkLoadJobRetention {minutes}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_JOB_RETENTION="{minutes}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_JOB_RETENTION("--bulk-load-job-retention",
+      Set.of("-bulkLoadJobRetention"),
+      ENV_PREFIX + "BULK_LOAD_JOB_RETENTION", null,
+      1, DEFAULT_BULK_LOAD_JOB_RETENTION_PARAM),
+
+  /**
+   * <p>
+   * This option sets the directory in which the bulk data for asynchronous
+   * bulk-load jobs is spooled until the jobs are run.  The single parameter
+   * to this option is the path to an existing directory.  If not specified,
+   * then the default temporary directory is used.  This option is ignored if
+   * {@link #READ_ONLY} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-spool-dir {directory}</code></li>
+   * <li>Command Line: <code>-bulkLoadSpoolDir {directory}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_SPOOL_DIR="{directory}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_SPOOL_DIR("--bulk-load-spool-dir",
+      Set.of("-bulkLoadSpoolDir"),
+      ENV_PREFIX + "BULK_LOAD_SPOOL_DIR", null,
+      1),
+
+  /**
+   * <p>
+   * This option enables loading bulk data from files on the server (for
+   * example on a shared volume) via <tt>POST /bulk-data/load-file</tt> and
+   * sets the directory from which such files may be loaded.  Only files
+   * within this directory (or its sub-directories) may be loaded and only if
+   * {@link #ENABLE_ADMIN} is also specified.  The single parameter to this
+   * option is the path to an existing directory.  If not specified, then
+   * loading files from the server is disabled.  This option cannot be
+   * specified with {@link #READ_ONLY}.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-file-dir {directory}</code></li>
+   * <li>Command Line: <code>-bulkLoadFileDir {directory}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_FILE_DIR="{directory}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_FILE_DIR("--bulk-load-file-dir",
+      Set.of("-bulkLoadFileDir"),
+      ENV_PREFIX + "BULK_LOAD_FILE_DIR", null,
+      1),
+
+  /**
+   * <p>
+   * This option sets the state directory in which bulk loads periodically
+   * persist checkpoints of their progress so that an interrupted load can be
+   * resumed by specifying the same load ID with the <tt>resume</tt> parameter.
+   * The single parameter to this option is the path to an existing directory.
+   * If not specified, then bulk loads are not checkpointed and cannot be
+   * resumed.  This option cannot be specified with {@link #READ_ONLY}.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-checkpoint-dir {directory}</code></li>
+   * <li>Command Line: <code>-bulkLoadCheckpointDir {directory}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_CHECKPOINT_DIR="{directory}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_CHECKPOINT_DIR("--bulk-load-checkpoint-dir",
+      Set.of("-bulkLoadCheckpointDir"),
+      ENV_PREFIX + "BULK_LOAD_CHECKPOINT_DIR", null,
+      1),
+
+  /**
+   * <p>
+   * This option sets the directory in which bulk loads write a compressed,
+   * rotating log of the records that failed to load, keyed by load ID, so
+   * that the failures can be retrieved in full via
+   * <tt>GET /bulk-data/loads/{loadId}/errors</tt>.  The single parameter to
+   * this option is the path to an existing directory.  If not specified, then
+   * only the summary of the most frequent errors is retained for each load.
+   * This option cannot be specified with {@link #READ_ONLY}.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-error-dir {directory}</code></li>
+   * <li>Command Line: <code>-bulkLoadErrorDir {directory}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_ERROR_DIR="{directory}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_ERROR_DIR("--bulk-load-error-dir",
+      Set.of("-bulkLoadErrorDir"),
+      ENV_PREFIX + "BULK_LOAD_ERROR_DIR", null,
+      1),
+
+  /**
+   * <p>
+   * This option sets the number of hours that the segment files of the logs
+   * of failed bulk-load records are retained after they were last written.
+   * Older segments are deleted when a bulk load next opens its error log.  The
+   * single parameter to this option should be a non-negative integer, where
+   * zero means segments are never deleted due to their age.  If not
+   * specified, then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_AGE}.  This option is
+   * ignored unless {@link #BULK_LOAD_ERROR_DIR} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-error-max-age {hours}</code></li>
+   * <li>Command Line: <code>-bulkLoadErrorMaxAge {hours}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_ERROR_MAX_AGE="{hours}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_ERROR_MAX_AGE("--bulk-load-error-max-age",
+      Set.of("-bulkLoadErrorMaxAge"),
+      ENV_PREFIX + "BULK_LOAD_ERROR_MAX_AGE", null,
+      1, DEFAULT_BULK_LOAD_ERROR_MAX_AGE_PARAM),
+
+  /**
+   * <p>
+   * This option sets the maximum total number of megabytes for the segment
+   * files of the logs of failed bulk-load records.  When a bulk load next
+   * opens its error log the least recently written segments are deleted until
+   * the total is within the limit.  The single parameter to this option
+   * should be a non-negative integer, where zero means there is no limit.  If
+   * not specified, then this defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_SIZE}.  This option is
+   * ignored unless {@link #BULK_LOAD_ERROR_DIR} is specified.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--bulk-load-error-max-size {megabytes}</code></li>
+   * <li>Command Line: <code>-bulkLoadErrorMaxSize {megabytes}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_BULK_LOAD_ERROR_MAX_SIZE="{megabytes}"</code></li>
+   * </ul>
+   * </p>
+   */
+  BULK_LOAD_ERROR_MAX_SIZE("--bulk-load-error-max-size",
+      Set.of("-bulkLoadErrorMaxSize"),
+      ENV_PREFIX + "BULK_LOAD_ERROR_MAX_SIZE", null,
+      1, DEFAULT_BULK_LOAD_ERROR_MAX_SIZE_PARAM),
+
+  /**
+   * <p>
+   * This option sets the JSON file describing the rate and concurrency
+   * budgets for writing records per data source and per authenticated client.
+   * The client is identified by its TLS client certificate or by the
+   * <tt>X-Client-Id</tt> header.  The budgets are enforced for loading and
+   * deleting individual records, record batches and bulk loads.  The single
+   * parameter to this option is the path to the JSON file.  If not specified,
+   * then writing records is not throttled.  This option cannot be specified
+   * with {@link #READ_ONLY}.
+   * </p>
+   * <p>
+   * This option can be specified in the following ways:
+   * <ul>
+   * <li>Command Line: <code>--load-throttle-file {file-path}</code></li>
+   * <li>Command Line: <code>-loadThrottleFile {file-path}</code></li>
+   * <li>Environment:
+   * <code>SENZING_API_SERVER_LOAD_THROTTLE_FILE="{file-path}"</code></li>
+   * </ul>
+   * </p>
+   */
+  LOAD_THROTTLE_FILE("--load-throttle-file",
+      Set.of("-loadThrottleFile"),
+      ENV_PREFIX + "LOAD_THROTTLE_FILE", null,
+      1),
+
   /**
    * <p>
    * This option is used to specify the URL to an Amazon SQS queue to be used
@@ -1511,6 +2101,11 @@ public enum SzApiServerOption
       readOnlyConflicts.addAll(kafkaInfoOptions);
       readOnlyConflicts.addAll(rabbitInfoOptions);
       readOnlyConflicts.addAll(sqsInfoOptions);
+      readOnlyConflicts.add(REDO_CONCURRENCY);
+      readOnlyConflicts.add(BULK_LOAD_FILE_DIR);
+      readOnlyConflicts.add(BULK_LOAD_CHECKPOINT_DIR);
+      readOnlyConflicts.add(BULK_LOAD_ERROR_DIR);
+      readOnlyConflicts.add(LOAD_THROTTLE_FILE);
 
       Set<SzApiServerOption> iniAlts = altMap.get(INI_FILE);
       iniAlts.add(INIT_ENV_VAR);
@@ -1581,6 +2176,10 @@ public enum SzApiServerOption
       conflictMap.get(CLIENT_KEY_STORE_PASSWORD).add(HTTP_PORT);
       conflictMap.get(HTTP_PORT).add(CLIENT_KEY_STORE);
       conflictMap.get(HTTP_PORT).add(CLIENT_KEY_STORE_PASSWORD);
+      conflictMap.get(CLIENT_KEY_STORE).add(UNIX_SOCKET);
+      conflictMap.get(CLIENT_KEY_STORE_PASSWORD).add(UNIX_SOCKET);
+      conflictMap.get(UNIX_SOCKET).add(CLIENT_KEY_STORE);
+      conflictMap.get(UNIX_SOCKET).add(CLIENT_KEY_STORE_PASSWORD);
 
       CONFLICTING_OPTIONS = recursivelyUnmodifiableMap(conflictMap);
       ALTERNATIVE_OPTIONS = recursivelyUnmodifiableMap(altMap);
@@ -1650,6 +2249,243 @@ public enum SzApiServerOption
           return keyStoreFile;
         }
 
+        case UNIX_SOCKET: {
+          File socketFile = new File(params.get(0)).getAbsoluteFile();
+          File socketDir = socketFile.getParentFile();
+          if (socketDir == null || !socketDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The directory for the specified Unix domain socket does not "
+                    + "exist: " + socketFile);
+          }
+          if (socketFile.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified Unix domain socket path is a directory: "
+                    + socketFile);
+          }
+          return socketFile;
+        }
+
+        case ENTITY_CHANGE_LOG: {
+          File logFile = new File(params.get(0)).getAbsoluteFile();
+          File logDir = logFile.getParentFile();
+          if (logDir == null || !logDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The directory for the specified entity change log does not "
+                    + "exist: " + logFile);
+          }
+          if (logFile.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified entity change log path is a directory: "
+                    + logFile);
+          }
+          return logFile;
+        }
+
+        case ENTITY_CHANGE_LOG_CAPACITY: {
+          int capacity;
+          try {
+            capacity = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Entity change log capacity must be an integer: "
+                    + params.get(0));
+          }
+          if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                "Entity change log capacity must be a positive integer: "
+                    + capacity);
+          }
+          return capacity;
+        }
+
+        case HOW_WHY_CACHE_SIZE: {
+          int cacheSize;
+          try {
+            cacheSize = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "How/why cache size must be an integer: " + params.get(0));
+          }
+          if (cacheSize <= 0) {
+            throw new IllegalArgumentException(
+                "How/why cache size must be a positive integer: "
+                    + cacheSize);
+          }
+          return cacheSize;
+        }
+
+        case ADJACENCY_INDEX_SIZE: {
+          int indexSize;
+          try {
+            indexSize = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Adjacency index size must be an integer: " + params.get(0));
+          }
+          if (indexSize <= 0) {
+            throw new IllegalArgumentException(
+                "Adjacency index size must be a positive integer: "
+                    + indexSize);
+          }
+          return indexSize;
+        }
+
+        case RECORD_HASH_STORE: {
+          File storeFile = new File(params.get(0)).getAbsoluteFile();
+          File storeDir = storeFile.getParentFile();
+          if (storeDir == null || !storeDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The directory for the specified record hash store does not "
+                    + "exist: " + storeFile);
+          }
+          if (storeFile.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified record hash store path is a directory: "
+                    + storeFile);
+          }
+          return storeFile;
+        }
+
+        case REDO_CONCURRENCY: {
+          int threadCount;
+          try {
+            threadCount = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Redo concurrency must be an integer: " + params.get(0));
+          }
+          if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                "Redo concurrency must be a positive integer: "
+                    + threadCount);
+          }
+          return threadCount;
+        }
+
+        case BULK_LOAD_JOB_CONCURRENCY: {
+          int jobCount;
+          try {
+            jobCount = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Bulk-load job concurrency must be an integer: "
+                    + params.get(0));
+          }
+          if (jobCount <= 0) {
+            throw new IllegalArgumentException(
+                "Bulk-load job concurrency must be a positive integer: "
+                    + jobCount);
+          }
+          return jobCount;
+        }
+
+        case BULK_LOAD_JOB_RETENTION: {
+          int minutes;
+          try {
+            minutes = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Bulk-load job retention must be an integer: "
+                    + params.get(0));
+          }
+          if (minutes < 0) {
+            throw new IllegalArgumentException(
+                "Bulk-load job retention cannot be negative: " + minutes);
+          }
+          return minutes;
+        }
+
+        case BULK_LOAD_SPOOL_DIR: {
+          File spoolDir = new File(params.get(0)).getAbsoluteFile();
+          if (!spoolDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified bulk-load spool directory does not exist or "
+                    + "is not a directory: " + spoolDir);
+          }
+          return spoolDir;
+        }
+
+        case BULK_LOAD_FILE_DIR: {
+          File fileDir = new File(params.get(0)).getAbsoluteFile();
+          if (!fileDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified bulk-load file directory does not exist or "
+                    + "is not a directory: " + fileDir);
+          }
+          return fileDir;
+        }
+
+        case BULK_LOAD_CHECKPOINT_DIR: {
+          File checkpointDir = new File(params.get(0)).getAbsoluteFile();
+          if (!checkpointDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified bulk-load checkpoint directory does not exist "
+                    + "or is not a directory: " + checkpointDir);
+          }
+          return checkpointDir;
+        }
+
+        case BULK_LOAD_ERROR_DIR: {
+          File errorDir = new File(params.get(0)).getAbsoluteFile();
+          if (!errorDir.isDirectory()) {
+            throw new IllegalArgumentException(
+                "The specified bulk-load error directory does not exist "
+                    + "or is not a directory: " + errorDir);
+          }
+          return errorDir;
+        }
+
+        case BULK_LOAD_ERROR_MAX_AGE: {
+          int hours;
+          try {
+            hours = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Bulk-load error log maximum age must be an integer: "
+                    + params.get(0));
+          }
+          if (hours < 0) {
+            throw new IllegalArgumentException(
+                "Bulk-load error log maximum age cannot be negative: "
+                    + hours);
+          }
+          return hours;
+        }
+
+        case BULK_LOAD_ERROR_MAX_SIZE: {
+          int megabytes;
+          try {
+            megabytes = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Bulk-load error log maximum size must be an integer: "
+                    + params.get(0));
+          }
+          if (megabytes < 0) {
+            throw new IllegalArgumentException(
+                "Bulk-load error log maximum size cannot be negative: "
+                    + megabytes);
+          }
+          return megabytes;
+        }
+
+        case LOAD_THROTTLE_FILE: {
+          File throttleFile = new File(params.get(0)).getAbsoluteFile();
+          if (!throttleFile.isFile()) {
+            throw new IllegalArgumentException(
+                "The specified load throttle file does not exist or is not "
+                    + "a file: " + throttleFile);
+          }
+          try {
+            LoadThrottle.read(throttleFile);
+          } catch (IOException e) {
+            throw new IllegalArgumentException(
+                "Failed to read the specified load throttle file: "
+                    + throttleFile, e);
+          }
+          return throttleFile;
+        }
+
         case BIND_ADDRESS:
           String addrArg = params.get(0);
           InetAddress addr = null;
@@ -1687,6 +2523,22 @@ public enum SzApiServerOption
           return threadCount;
         }
 
+        case ADAPTIVE_CONCURRENCY: {
+          int threadCount;
+          try {
+            threadCount = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Adaptive concurrency must be an integer: " + params.get(0));
+          }
+          if (threadCount <= 0) {
+            throw new IllegalArgumentException(
+                "Adaptive concurrency must be a positive integer: "
+                    + threadCount);
+          }
+          return threadCount;
+        }
+
         case HTTP_CONCURRENCY: {
           int threadCount;
           try {
@@ -1702,6 +2554,46 @@ public enum SzApiServerOption
           return threadCount;
         }
 
+        case HTTP2_MAX_STREAMS: {
+          int streamCount;
+          try {
+            streamCount = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "Stream count must be an integer: " + params.get(0));
+          }
+          if (streamCount <= 0) {
+            throw new IllegalArgumentException(
+                "Stream count must be a positive integer: " + streamCount);
+          }
+          return streamCount;
+        }
+
+        case HTTP2_STREAM_WINDOW:
+        case HTTP2_SESSION_WINDOW: {
+          int windowSize;
+          try {
+            windowSize = Integer.parseInt(params.get(0));
+          } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                "The window size for " + option.getCommandLineFlag()
+                    + " must be an integer: " + params.get(0));
+          }
+          if (windowSize < MINIMUM_HTTP2_WINDOW) {
+            throw new IllegalArgumentException(
+                "The window size for " + option.getCommandLineFlag()
+                    + " cannot be less than " + MINIMUM_HTTP2_WINDOW + ": "
+                    + windowSize);
+          }
+          return windowSize;
+        }
+
+        case REQUEST_TIMEOUT: {
+          String timeoutSpec = params.get(0).trim();
+          RequestDeadlineFilter.parseTimeouts(timeoutSpec);
+          return timeoutSpec;
+        }
+
         case MODULE_NAME:
         case ALLOWED_ORIGINS:
         case KAFKA_INFO_BOOTSTRAP_SERVER:
@@ -1822,6 +2714,8 @@ public enum SzApiServerOption
         case DEBUG_LOGGING:
         case SKIP_STARTUP_PERF:
         case SKIP_ENGINE_PRIMING:
+        case ENABLE_HTTP2:
+        case VIRTUAL_THREADS:
           if (params.size() == 0)
             return Boolean.TRUE;
           String boolText = params.get(0);
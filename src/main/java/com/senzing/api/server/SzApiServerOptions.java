@@ -21,6 +21,7 @@ import static com.senzing.api.server.SzApiServerOption.*;
 public class SzApiServerOptions {
   private int httpPort = DEFAULT_PORT;
   private InetAddress bindAddress = null;
+  private File unixSocketFile = null;
   private int httpsPort = DEFAULT_SECURE_PORT;
   private File keyStoreFile = null;
   private String keyStorePassword = null;
@@ -29,7 +30,14 @@ public class SzApiServerOptions {
   private String clientKeyStorePassword = null;
   private String urlBasePath = null;
   private int concurrency = DEFAULT_CONCURRENCY;
+  private Integer adaptiveConcurrency = null;
   private int httpConcurrency = DEFAULT_HTTP_CONCURRENCY;
+  private boolean virtualThreads = false;
+  private boolean http2Enabled = false;
+  private int http2MaxStreams = DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+  private int http2StreamWindow = DEFAULT_HTTP2_STREAM_WINDOW;
+  private int http2SessionWindow = DEFAULT_HTTP2_SESSION_WINDOW;
+  private String requestTimeout = null;
   private String moduleName = DEFAULT_MODULE_NAME;
   private boolean verbose = false;
   private boolean quiet = false;
@@ -37,6 +45,29 @@ public class SzApiServerOptions {
   private boolean adminEnabled = false;
   private boolean skipStartupPerf = false;
   private boolean skipEnginePriming = false;
+  private File entityChangeLogFile = null;
+  private int entityChangeLogCapacity = DEFAULT_ENTITY_CHANGE_LOG_CAPACITY;
+  private Integer howWhyCacheSize = null;
+  private Integer adjacencyIndexSize = null;
+  private File recordHashStoreFile = null;
+  private Integer redoConcurrency = null;
+  private int bulkLoadJobConcurrency = DEFAULT_BULK_LOAD_JOB_CONCURRENCY;
+  private int bulkLoadJobRetention = DEFAULT_BULK_LOAD_JOB_RETENTION;
+  private File bulkLoadSpoolDirectory = null;
+  private File bulkLoadFileDirectory = null;
+  private File bulkLoadCheckpointDirectory = null;
+  private File bulkLoadErrorDirectory = null;
+
+  /**
+   * The number of hours that bulk-load error log segments are retained.
+   */
+  private int bulkLoadErrorMaxAge = DEFAULT_BULK_LOAD_ERROR_MAX_AGE;
+
+  /**
+   * The maximum total number of megabytes for bulk-load error log segments.
+   */
+  private int bulkLoadErrorMaxSize = DEFAULT_BULK_LOAD_ERROR_MAX_SIZE;
+  private File loadThrottleFile = null;
   private boolean debugLogging = false;
   private long statsInterval = DEFAULT_STATS_INTERVAL;
   private String allowedOrigins = null;
@@ -172,6 +203,33 @@ public class SzApiServerOptions {
     return this;
   }
 
+  /**
+   * Gets the {@link File} for the Unix domain socket on which the server will
+   * accept HTTP communication in addition to the HTTP port.  This returns
+   * <tt>null</tt> if no Unix domain socket will be bound.
+   *
+   * @return The {@link File} for the Unix domain socket, or <tt>null</tt> if
+   *         no Unix domain socket will be bound.
+   */
+  public File getUnixSocketFile() {
+    return this.unixSocketFile;
+  }
+
+  /**
+   * Sets the {@link File} for the Unix domain socket on which the server will
+   * accept HTTP communication in addition to the HTTP port.  Set this to
+   * <tt>null</tt> if no Unix domain socket should be bound.
+   *
+   * @param socketFile The {@link File} for the Unix domain socket, or
+   *                   <tt>null</tt> if no Unix domain socket should be bound.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setUnixSocketFile(File socketFile) {
+    this.unixSocketFile = socketFile;
+    return this;
+  }
+
   /**
    * Gets the {@link File} for the key store for HTTPS support. This returns
    * <tt>null</tt> if HTTPS is not supported.
@@ -340,6 +398,36 @@ public class SzApiServerOptions {
     return this;
   }
 
+  /**
+   * Gets the minimum limit on the number of engine functions executing
+   * concurrently when the limit is adapted to the observed latency of the
+   * engine functions, with the {@linkplain #getConcurrency() concurrency} as
+   * the maximum.  This returns <tt>null</tt> if adaptive limiting is disabled.
+   *
+   * @return The minimum adaptive concurrency limit, or <tt>null</tt> if
+   *         adaptive limiting is disabled.
+   */
+  public Integer getAdaptiveConcurrency() {
+    return this.adaptiveConcurrency;
+  }
+
+  /**
+   * Sets the minimum limit on the number of engine functions executing
+   * concurrently when the limit is adapted to the observed latency of the
+   * engine functions, with the {@linkplain #getConcurrency() concurrency} as
+   * the maximum.  Set this to <tt>null</tt> to disable adaptive limiting.
+   *
+   * @param minThreadCount The minimum adaptive concurrency limit, or
+   *                       <tt>null</tt> if adaptive limiting should be
+   *                       disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setAdaptiveConcurrency(Integer minThreadCount) {
+    this.adaptiveConcurrency = minThreadCount;
+    return this;
+  }
+
   /**
    * Gets the maximum number of threads that will be used for the web server
    * thread pool. If the value is not {@linkplain #setHttpConcurrency(Integer)
@@ -379,6 +467,208 @@ public class SzApiServerOptions {
     return this;
   }
 
+  /**
+   * Checks whether or not the API server should use virtual threads (when
+   * supported by the JVM) for handling HTTP requests and for streaming bulk
+   * data progress.  Calls to the Senzing native API are always executed on
+   * the engine threads regardless of this setting.
+   *
+   * @return <tt>true</tt> if virtual threads should be used when supported,
+   *         and <tt>false</tt> if only platform threads should be used.
+   */
+  public boolean isUsingVirtualThreads() {
+    return this.virtualThreads;
+  }
+
+  /**
+   * Sets whether or not the API server should use virtual threads (when
+   * supported by the JVM) for handling HTTP requests and for streaming bulk
+   * data progress.  Calls to the Senzing native API are always executed on
+   * the engine threads regardless of this setting.
+   *
+   * @param virtualThreads <tt>true</tt> if virtual threads should be used
+   *                       when supported, and <tt>false</tt> if only
+   *                       platform threads should be used.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setUsingVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+    return this;
+  }
+
+  /**
+   * Checks whether or not the API server should accept HTTP/2 connections
+   * (via ALPN for HTTPS and h2c for plain HTTP) in addition to HTTP/1.1.
+   *
+   * @return <tt>true</tt> if HTTP/2 should be enabled, and <tt>false</tt> if
+   *         only HTTP/1.1 should be supported.
+   */
+  public boolean isHttp2Enabled() {
+    return this.http2Enabled;
+  }
+
+  /**
+   * Sets whether or not the API server should accept HTTP/2 connections
+   * (via ALPN for HTTPS and h2c for plain HTTP) in addition to HTTP/1.1.
+   *
+   * @param enabled <tt>true</tt> if HTTP/2 should be enabled, and
+   *                <tt>false</tt> if only HTTP/1.1 should be supported.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setHttp2Enabled(boolean enabled) {
+    this.http2Enabled = enabled;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of concurrent streams allowed per HTTP/2
+   * connection. If the value is not {@linkplain #setHttp2MaxStreams(Integer)
+   * explicitly set} then {@link
+   * SzApiServerConstants#DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS} is returned.
+   *
+   * @return The maximum number of concurrent streams per HTTP/2 connection.
+   */
+  public int getHttp2MaxStreams() {
+    return this.http2MaxStreams;
+  }
+
+  /**
+   * Sets the maximum number of concurrent streams allowed per HTTP/2
+   * connection. Set to <tt>null</tt> to use the {@linkplain
+   * SzApiServerConstants#DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS default}.
+   *
+   * @param streamCount The maximum number of concurrent streams, or
+   *                    <tt>null</tt> for the default.
+   *
+   * @return A reference to this instance.
+   *
+   * @throws IllegalArgumentException If the specified stream count is not a
+   *                                  positive number.
+   */
+  public SzApiServerOptions setHttp2MaxStreams(Integer streamCount) {
+    streamCount = (streamCount != null)
+        ? streamCount : DEFAULT_HTTP2_MAX_CONCURRENT_STREAMS;
+    if (streamCount <= 0) {
+      throw new IllegalArgumentException(
+          "The specified HTTP/2 stream count must be positive: "
+              + streamCount);
+    }
+    this.http2MaxStreams = streamCount;
+    return this;
+  }
+
+  /**
+   * Gets the initial HTTP/2 flow-control receive window (in bytes) for each
+   * stream. If the value is not {@linkplain #setHttp2StreamWindow(Integer)
+   * explicitly set} then {@link
+   * SzApiServerConstants#DEFAULT_HTTP2_STREAM_WINDOW} is returned.
+   *
+   * @return The initial HTTP/2 stream receive window in bytes.
+   */
+  public int getHttp2StreamWindow() {
+    return this.http2StreamWindow;
+  }
+
+  /**
+   * Sets the initial HTTP/2 flow-control receive window (in bytes) for each
+   * stream. Set to <tt>null</tt> to use the {@linkplain
+   * SzApiServerConstants#DEFAULT_HTTP2_STREAM_WINDOW default}.
+   *
+   * @param windowSize The initial stream window in bytes, or <tt>null</tt>
+   *                   for the default.
+   *
+   * @return A reference to this instance.
+   *
+   * @throws IllegalArgumentException If the specified window size is less than
+   *                                  {@link SzApiServerConstants#MINIMUM_HTTP2_WINDOW}.
+   */
+  public SzApiServerOptions setHttp2StreamWindow(Integer windowSize) {
+    windowSize = (windowSize != null) ? windowSize : DEFAULT_HTTP2_STREAM_WINDOW;
+    if (windowSize < MINIMUM_HTTP2_WINDOW) {
+      throw new IllegalArgumentException(
+          "The specified HTTP/2 stream window cannot be less than "
+              + MINIMUM_HTTP2_WINDOW);
+    }
+    this.http2StreamWindow = windowSize;
+    return this;
+  }
+
+  /**
+   * Gets the initial HTTP/2 flow-control receive window (in bytes) for each
+   * session. If the value is not {@linkplain #setHttp2SessionWindow(Integer)
+   * explicitly set} then {@link
+   * SzApiServerConstants#DEFAULT_HTTP2_SESSION_WINDOW} is returned.
+   *
+   * @return The initial HTTP/2 session receive window in bytes.
+   */
+  public int getHttp2SessionWindow() {
+    return this.http2SessionWindow;
+  }
+
+  /**
+   * Sets the initial HTTP/2 flow-control receive window (in bytes) for each
+   * session. Set to <tt>null</tt> to use the {@linkplain
+   * SzApiServerConstants#DEFAULT_HTTP2_SESSION_WINDOW default}.
+   *
+   * @param windowSize The initial session window in bytes, or <tt>null</tt>
+   *                   for the default.
+   *
+   * @return A reference to this instance.
+   *
+   * @throws IllegalArgumentException If the specified window size is less than
+   *                                  {@link SzApiServerConstants#MINIMUM_HTTP2_WINDOW}.
+   */
+  public SzApiServerOptions setHttp2SessionWindow(Integer windowSize) {
+    windowSize = (windowSize != null) ? windowSize : DEFAULT_HTTP2_SESSION_WINDOW;
+    if (windowSize < MINIMUM_HTTP2_WINDOW) {
+      throw new IllegalArgumentException(
+          "The specified HTTP/2 session window cannot be less than "
+              + MINIMUM_HTTP2_WINDOW);
+    }
+    this.http2SessionWindow = windowSize;
+    return this;
+  }
+
+  /**
+   * Gets the request timeout specification giving the default number of
+   * seconds that the server will spend on a request before discarding its
+   * pending engine tasks, optionally followed by the timeouts for specific
+   * endpoint path prefixes (e.g.: <code>30,search-entities=10</code>).  If
+   * <tt>null</tt> is returned then requests have no deadline unless the client
+   * specifies one.
+   *
+   * @return The request timeout specification, or <tt>null</tt> if none.
+   */
+  public String getRequestTimeout() {
+    return this.requestTimeout;
+  }
+
+  /**
+   * Sets the request timeout specification giving the default number of
+   * seconds that the server will spend on a request before discarding its
+   * pending engine tasks, optionally followed by the timeouts for specific
+   * endpoint path prefixes (e.g.: <code>30,search-entities=10</code>), where
+   * a timeout of zero exempts the endpoints under a prefix from the default.
+   * Set to <tt>null</tt> if requests should have no deadline unless the
+   * client specifies one.
+   *
+   * @param timeoutSpec The request timeout specification, or <tt>null</tt>
+   *                    if none.
+   *
+   * @return A reference to this instance.
+   *
+   * @throws IllegalArgumentException If the specification is not valid.
+   */
+  public SzApiServerOptions setRequestTimeout(String timeoutSpec) {
+    if (timeoutSpec != null) {
+      RequestDeadlineFilter.parseTimeouts(timeoutSpec);
+    }
+    this.requestTimeout = timeoutSpec;
+    return this;
+  }
+
   /**
    * Gets the module name to initialize with. If <tt>null</tt> is returned
    * then {@link SzApiServerConstants#DEFAULT_MODULE_NAME} is used.
@@ -739,6 +1029,428 @@ public class SzApiServerOptions {
     return this;
   }
 
+  /**
+   * Gets the {@link File} for the SQLite database backing the persistent
+   * entity change log.  This returns <tt>null</tt> if the entity change log
+   * is disabled.
+   *
+   * @return The {@link File} for the entity change log, or <tt>null</tt> if
+   *         the entity change log is disabled.
+   */
+  public File getEntityChangeLogFile() {
+    return this.entityChangeLogFile;
+  }
+
+  /**
+   * Sets the {@link File} for the SQLite database backing the persistent
+   * entity change log.  Set this to <tt>null</tt> to disable the entity
+   * change log.
+   *
+   * @param logFile The {@link File} for the entity change log, or
+   *                <tt>null</tt> if the entity change log should be disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setEntityChangeLogFile(File logFile) {
+    this.entityChangeLogFile = logFile;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of changed entities retained by the entity change
+   * log.  This defaults to {@link
+   * SzApiServerConstants#DEFAULT_ENTITY_CHANGE_LOG_CAPACITY}.
+   *
+   * @return The maximum number of changed entities retained by the entity
+   *         change log.
+   */
+  public int getEntityChangeLogCapacity() {
+    return this.entityChangeLogCapacity;
+  }
+
+  /**
+   * Sets the maximum number of changed entities retained by the entity change
+   * log.  Specify <tt>null</tt> to restore the default value of {@link
+   * SzApiServerConstants#DEFAULT_ENTITY_CHANGE_LOG_CAPACITY}.
+   *
+   * @param capacity The maximum number of changed entities retained by the
+   *                 entity change log, or <tt>null</tt> for the default.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setEntityChangeLogCapacity(Integer capacity) {
+    this.entityChangeLogCapacity = (capacity != null)
+        ? capacity : DEFAULT_ENTITY_CHANGE_LOG_CAPACITY;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of results retained by the in-memory cache of
+   * "how" and "why" results.  This returns <tt>null</tt> if the cache is
+   * disabled.
+   *
+   * @return The maximum number of results retained by the cache, or
+   *         <tt>null</tt> if the cache is disabled.
+   */
+  public Integer getHowWhyCacheSize() {
+    return this.howWhyCacheSize;
+  }
+
+  /**
+   * Sets the maximum number of results retained by the in-memory cache of
+   * "how" and "why" results.  Set this to <tt>null</tt> to disable the cache.
+   *
+   * @param cacheSize The maximum number of results retained by the cache, or
+   *                  <tt>null</tt> if the cache should be disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setHowWhyCacheSize(Integer cacheSize) {
+    this.howWhyCacheSize = cacheSize;
+    return this;
+  }
+
+  /**
+   * Gets the maximum estimated number of megabytes of memory used by the
+   * in-memory index of entity relationships.  This returns <tt>null</tt> if
+   * the index is disabled.
+   *
+   * @return The maximum estimated number of megabytes used by the index, or
+   *         <tt>null</tt> if the index is disabled.
+   */
+  public Integer getAdjacencyIndexSize() {
+    return this.adjacencyIndexSize;
+  }
+
+  /**
+   * Sets the maximum estimated number of megabytes of memory used by the
+   * in-memory index of entity relationships.  Set this to <tt>null</tt> to
+   * disable the index.
+   *
+   * @param megabytes The maximum estimated number of megabytes used by the
+   *                  index, or <tt>null</tt> if the index should be disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setAdjacencyIndexSize(Integer megabytes) {
+    this.adjacencyIndexSize = megabytes;
+    return this;
+  }
+
+  /**
+   * Gets the {@link File} for the SQLite database backing the persistent
+   * record hash store.  This returns <tt>null</tt> if the record hash store
+   * is disabled.
+   *
+   * @return The {@link File} for the record hash store, or <tt>null</tt> if
+   *         the record hash store is disabled.
+   */
+  public File getRecordHashStoreFile() {
+    return this.recordHashStoreFile;
+  }
+
+  /**
+   * Sets the {@link File} for the SQLite database backing the persistent
+   * record hash store.  Set this to <tt>null</tt> to disable the record hash
+   * store.
+   *
+   * @param storeFile The {@link File} for the record hash store, or
+   *                  <tt>null</tt> if the record hash store should be
+   *                  disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setRecordHashStoreFile(File storeFile) {
+    this.recordHashStoreFile = storeFile;
+    return this;
+  }
+
+  /**
+   * Gets the number of threads with which to process redo records in the
+   * background.  This returns <tt>null</tt> if background redo processing is
+   * disabled.
+   *
+   * @return The number of threads with which to process redo records, or
+   *         <tt>null</tt> if background redo processing is disabled.
+   */
+  public Integer getRedoConcurrency() {
+    return this.redoConcurrency;
+  }
+
+  /**
+   * Sets the number of threads with which to process redo records in the
+   * background.  Set this to <tt>null</tt> to disable background redo
+   * processing.
+   *
+   * @param threadCount The number of threads with which to process redo
+   *                    records, or <tt>null</tt> if background redo
+   *                    processing should be disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setRedoConcurrency(Integer threadCount) {
+    this.redoConcurrency = threadCount;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of asynchronous bulk-load jobs that are run
+   * concurrently.  This defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_CONCURRENCY}.
+   *
+   * @return The maximum number of asynchronous bulk-load jobs that are run
+   *         concurrently.
+   */
+  public int getBulkLoadJobConcurrency() {
+    return this.bulkLoadJobConcurrency;
+  }
+
+  /**
+   * Sets the maximum number of asynchronous bulk-load jobs that are run
+   * concurrently.  Specify <tt>null</tt> to restore the default value of
+   * {@link SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_CONCURRENCY}.
+   *
+   * @param jobCount The maximum number of asynchronous bulk-load jobs that
+   *                 are run concurrently, or <tt>null</tt> for the default.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadJobConcurrency(Integer jobCount) {
+    this.bulkLoadJobConcurrency = (jobCount != null)
+        ? jobCount : DEFAULT_BULK_LOAD_JOB_CONCURRENCY;
+    return this;
+  }
+
+  /**
+   * Gets the number of minutes that finished asynchronous bulk-load jobs are
+   * retained.  This defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_RETENTION}.
+   *
+   * @return The number of minutes that finished asynchronous bulk-load jobs
+   *         are retained.
+   */
+  public int getBulkLoadJobRetention() {
+    return this.bulkLoadJobRetention;
+  }
+
+  /**
+   * Sets the number of minutes that finished asynchronous bulk-load jobs are
+   * retained.  Specify <tt>null</tt> to restore the default value of {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_JOB_RETENTION}.
+   *
+   * @param minutes The number of minutes that finished asynchronous
+   *                bulk-load jobs are retained, or <tt>null</tt> for the
+   *                default.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadJobRetention(Integer minutes) {
+    this.bulkLoadJobRetention = (minutes != null)
+        ? minutes : DEFAULT_BULK_LOAD_JOB_RETENTION;
+    return this;
+  }
+
+  /**
+   * Gets the directory in which the bulk data for asynchronous bulk-load
+   * jobs is spooled.  This returns <tt>null</tt> if the default temporary
+   * directory is used.
+   *
+   * @return The directory in which the bulk data for asynchronous bulk-load
+   *         jobs is spooled, or <tt>null</tt> if the default temporary
+   *         directory is used.
+   */
+  public File getBulkLoadSpoolDirectory() {
+    return this.bulkLoadSpoolDirectory;
+  }
+
+  /**
+   * Sets the directory in which the bulk data for asynchronous bulk-load
+   * jobs is spooled.  Set this to <tt>null</tt> to use the default temporary
+   * directory.
+   *
+   * @param spoolDir The directory in which to spool the bulk data, or
+   *                 <tt>null</tt> if the default temporary directory should
+   *                 be used.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadSpoolDirectory(File spoolDir) {
+    this.bulkLoadSpoolDirectory = spoolDir;
+    return this;
+  }
+
+  /**
+   * Gets the directory from which bulk data files on the server may be
+   * loaded.  This returns <tt>null</tt> if loading files from the server is
+   * disabled.
+   *
+   * @return The directory from which bulk data files may be loaded, or
+   *         <tt>null</tt> if loading files from the server is disabled.
+   */
+  public File getBulkLoadFileDirectory() {
+    return this.bulkLoadFileDirectory;
+  }
+
+  /**
+   * Sets the directory from which bulk data files on the server may be
+   * loaded.  Set this to <tt>null</tt> to disable loading files from the
+   * server.
+   *
+   * @param fileDir The directory from which bulk data files may be loaded,
+   *                or <tt>null</tt> if loading files from the server should
+   *                be disabled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadFileDirectory(File fileDir) {
+    this.bulkLoadFileDirectory = fileDir;
+    return this;
+  }
+
+  /**
+   * Gets the state directory in which bulk loads persist checkpoints.  This
+   * returns <tt>null</tt> if bulk loads are not checkpointed.
+   *
+   * @return The state directory in which bulk loads persist checkpoints, or
+   *         <tt>null</tt> if bulk loads are not checkpointed.
+   */
+  public File getBulkLoadCheckpointDirectory() {
+    return this.bulkLoadCheckpointDirectory;
+  }
+
+  /**
+   * Sets the state directory in which bulk loads persist checkpoints.  Set
+   * this to <tt>null</tt> to disable checkpointing bulk loads.
+   *
+   * @param checkpointDir The state directory in which bulk loads persist
+   *                      checkpoints, or <tt>null</tt> if bulk loads should
+   *                      not be checkpointed.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadCheckpointDirectory(File checkpointDir)
+  {
+    this.bulkLoadCheckpointDirectory = checkpointDir;
+    return this;
+  }
+
+  /**
+   * Gets the directory in which bulk loads write the log of the records that
+   * failed to load.  This returns <tt>null</tt> if failed records are not
+   * logged.
+   *
+   * @return The directory in which bulk loads log failed records, or
+   *         <tt>null</tt> if failed records are not logged.
+   */
+  public File getBulkLoadErrorDirectory() {
+    return this.bulkLoadErrorDirectory;
+  }
+
+  /**
+   * Sets the directory in which bulk loads write the log of the records that
+   * failed to load.  Set this to <tt>null</tt> to disable logging failed
+   * records.
+   *
+   * @param errorDir The directory in which bulk loads log failed records, or
+   *                 <tt>null</tt> if failed records should not be logged.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadErrorDirectory(File errorDir) {
+    this.bulkLoadErrorDirectory = errorDir;
+    return this;
+  }
+
+  /**
+   * Gets the number of hours that the segment files of the logs of failed
+   * bulk-load records are retained after they were last written, where zero
+   * means they are never deleted due to their age.  This defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_AGE}.
+   *
+   * @return The number of hours that bulk-load error log segments are
+   *         retained.
+   */
+  public int getBulkLoadErrorMaxAge() {
+    return this.bulkLoadErrorMaxAge;
+  }
+
+  /**
+   * Sets the number of hours that the segment files of the logs of failed
+   * bulk-load records are retained after they were last written.  Specify
+   * <tt>null</tt> to restore the default value of {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_AGE}.
+   *
+   * @param hours The number of hours that bulk-load error log segments are
+   *              retained, zero if they should not expire, or <tt>null</tt>
+   *              for the default.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadErrorMaxAge(Integer hours) {
+    this.bulkLoadErrorMaxAge = (hours != null)
+        ? hours : DEFAULT_BULK_LOAD_ERROR_MAX_AGE;
+    return this;
+  }
+
+  /**
+   * Gets the maximum total number of megabytes for the segment files of the
+   * logs of failed bulk-load records, where zero means there is no limit.
+   * This defaults to {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_SIZE}.
+   *
+   * @return The maximum total number of megabytes for bulk-load error log
+   *         segments.
+   */
+  public int getBulkLoadErrorMaxSize() {
+    return this.bulkLoadErrorMaxSize;
+  }
+
+  /**
+   * Sets the maximum total number of megabytes for the segment files of the
+   * logs of failed bulk-load records.  Specify <tt>null</tt> to restore the
+   * default value of {@link
+   * SzApiServerConstants#DEFAULT_BULK_LOAD_ERROR_MAX_SIZE}.
+   *
+   * @param megabytes The maximum total number of megabytes for bulk-load
+   *                  error log segments, zero if there is no limit, or
+   *                  <tt>null</tt> for the default.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setBulkLoadErrorMaxSize(Integer megabytes) {
+    this.bulkLoadErrorMaxSize = (megabytes != null)
+        ? megabytes : DEFAULT_BULK_LOAD_ERROR_MAX_SIZE;
+    return this;
+  }
+
+  /**
+   * Gets the JSON file describing the rate and concurrency budgets for
+   * writing records per data source and per client.  This returns
+   * <tt>null</tt> if writing records is not throttled.
+   *
+   * @return The JSON file describing the load throttle budgets, or
+   *         <tt>null</tt> if writing records is not throttled.
+   */
+  public File getLoadThrottleFile() {
+    return this.loadThrottleFile;
+  }
+
+  /**
+   * Sets the JSON file describing the rate and concurrency budgets for
+   * writing records per data source and per client.  Set this to
+   * <tt>null</tt> to disable throttling.
+   *
+   * @param throttleFile The JSON file describing the load throttle budgets,
+   *                     or <tt>null</tt> if writing records should not be
+   *                     throttled.
+   *
+   * @return A reference to this instance.
+   */
+  public SzApiServerOptions setLoadThrottleFile(File throttleFile) {
+    this.loadThrottleFile = throttleFile;
+    return this;
+  }
+
   /**
    * Returns the Kafka bootstrap servers to connect to for the "info" queue.
    * This is part of the info queue configuration to push "info" messages when
@@ -1026,6 +1738,7 @@ public class SzApiServerOptions {
     Map<CommandLineOption, Object> map = new HashMap<>();
     put(map, HTTP_PORT, this.getHttpPort());
     put(map, BIND_ADDRESS, this.getBindAddress());
+    put(map, UNIX_SOCKET, this.getUnixSocketFile());
     put(map, HTTPS_PORT, this.getHttpsPort());
     put(map, KEY_STORE, this.getKeyStoreFile());
     put(map, KEY_STORE_PASSWORD, this.getKeyStorePassword());
@@ -1034,7 +1747,14 @@ public class SzApiServerOptions {
     put(map, CLIENT_KEY_STORE_PASSWORD, this.getClientKeyStorePassword());
     put(map, URL_BASE_PATH, this.getUrlBasePath());
     put(map, CONCURRENCY, this.getConcurrency());
+    put(map, ADAPTIVE_CONCURRENCY, this.getAdaptiveConcurrency());
     put(map, HTTP_CONCURRENCY, this.getHttpConcurrency());
+    put(map, VIRTUAL_THREADS, this.isUsingVirtualThreads());
+    put(map, ENABLE_HTTP2, this.isHttp2Enabled());
+    put(map, HTTP2_MAX_STREAMS, this.getHttp2MaxStreams());
+    put(map, HTTP2_STREAM_WINDOW, this.getHttp2StreamWindow());
+    put(map, HTTP2_SESSION_WINDOW, this.getHttp2SessionWindow());
+    put(map, REQUEST_TIMEOUT, this.getRequestTimeout());
     put(map, MODULE_NAME, this.getModuleName());
     put(map, VERBOSE, this.isVerbose());
     put(map, QUIET, this.isQuiet());
@@ -1048,6 +1768,21 @@ public class SzApiServerOptions {
     put(map, STATS_INTERVAL, this.getStatsInterval());
     put(map, SKIP_STARTUP_PERF, this.isSkippingStartupPerformance());
     put(map, SKIP_ENGINE_PRIMING, this.isSkippingEnginePriming());
+    put(map, ENTITY_CHANGE_LOG, this.getEntityChangeLogFile());
+    put(map, ENTITY_CHANGE_LOG_CAPACITY, this.getEntityChangeLogCapacity());
+    put(map, HOW_WHY_CACHE_SIZE, this.getHowWhyCacheSize());
+    put(map, ADJACENCY_INDEX_SIZE, this.getAdjacencyIndexSize());
+    put(map, RECORD_HASH_STORE, this.getRecordHashStoreFile());
+    put(map, REDO_CONCURRENCY, this.getRedoConcurrency());
+    put(map, BULK_LOAD_JOB_CONCURRENCY, this.getBulkLoadJobConcurrency());
+    put(map, BULK_LOAD_JOB_RETENTION, this.getBulkLoadJobRetention());
+    put(map, BULK_LOAD_SPOOL_DIR, this.getBulkLoadSpoolDirectory());
+    put(map, BULK_LOAD_FILE_DIR, this.getBulkLoadFileDirectory());
+    put(map, BULK_LOAD_CHECKPOINT_DIR, this.getBulkLoadCheckpointDirectory());
+    put(map, BULK_LOAD_ERROR_DIR, this.getBulkLoadErrorDirectory());
+    put(map, BULK_LOAD_ERROR_MAX_AGE, this.getBulkLoadErrorMaxAge());
+    put(map, BULK_LOAD_ERROR_MAX_SIZE, this.getBulkLoadErrorMaxSize());
+    put(map, LOAD_THROTTLE_FILE, this.getLoadThrottleFile());
     put(map, KAFKA_INFO_BOOTSTRAP_SERVER, this.getKafkaInfoBootstrapServers());
     put(map, KAFKA_INFO_GROUP, this.getKafkaInfoGroupId());
     put(map, KAFKA_INFO_TOPIC, this.getKafkaInfoTopic());
@@ -0,0 +1,50 @@
+package com.senzing.api.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Utility class for obtaining a {@link ThreadFactory} that produces virtual
+ * threads when the running JVM supports them.  Reflection is used so the
+ * API Server can continue to be compiled for and run on JVM versions that
+ * predate virtual threads.
+ */
+final class VirtualThreads {
+  /**
+   * Private default constructor.
+   */
+  private VirtualThreads() {
+    // do nothing
+  }
+
+  /**
+   * Creates a new {@link ThreadFactory} that produces virtual threads whose
+   * names are formed from the specified prefix followed by an incrementing
+   * counter.  If the running JVM does not support virtual threads (or they
+   * are only available as a preview feature that has not been enabled) then
+   * <tt>null</tt> is returned.
+   *
+   * @param namePrefix The prefix for the names of the created threads.
+   *
+   * @return The {@link ThreadFactory} producing virtual threads, or
+   *         <tt>null</tt> if virtual threads are not supported.
+   */
+  static ThreadFactory newThreadFactory(String namePrefix) {
+    try {
+      Method ofVirtual = Thread.class.getMethod("ofVirtual");
+      Object builder = ofVirtual.invoke(null);
+
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      Method nameMethod = builderClass.getMethod(
+          "name", String.class, long.class);
+      builder = nameMethod.invoke(builder, namePrefix, 0L);
+
+      Method factoryMethod = builderClass.getMethod("factory");
+      return (ThreadFactory) factoryMethod.invoke(builder);
+
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      // virtual threads are not available in this JVM
+      return null;
+    }
+  }
+}
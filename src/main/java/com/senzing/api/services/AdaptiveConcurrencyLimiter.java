@@ -0,0 +1,380 @@
+package com.senzing.api.services;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of engine tasks executing concurrently and adapts the
+ * limit between configured bounds based on the observed latency of the
+ * tasks.  Latency samples are averaged over a sampling window and compared
+ * against a slowly-moving baseline.  When the recent latency rises beyond
+ * {@value #LATENCY_TOLERANCE} times the baseline (e.g.: because the database
+ * is saturated) the limit is reduced in proportion, otherwise it is grown by
+ * roughly the square root of the current limit.  The limit is not grown
+ * while fewer than half the permitted tasks are executing since the latency
+ * then says nothing about whether more concurrency would help.
+ * <p>
+ * The limit starts at the maximum so that the initial behavior matches a
+ * fixed concurrency.
+ */
+public class AdaptiveConcurrencyLimiter {
+  /**
+   * The minimum number of nanoseconds in a sampling window.
+   */
+  public static final long WINDOW_NANOS = 1000000000L;
+
+  /**
+   * The minimum number of latency samples in a sampling window.
+   */
+  public static final int MIN_WINDOW_SAMPLES = 10;
+
+  /**
+   * The number of sampling windows over which the baseline latency is
+   * averaged.
+   */
+  public static final int BASELINE_WINDOWS = 30;
+
+  /**
+   * The ratio of the recent latency to the baseline latency that is
+   * tolerated before the limit is reduced.
+   */
+  public static final double LATENCY_TOLERANCE = 1.5;
+
+  /**
+   * The smallest factor by which the limit can be reduced in a single
+   * sampling window.
+   */
+  public static final double MIN_GRADIENT = 0.5;
+
+  /**
+   * The weight given to each newly computed limit relative to the current
+   * limit.
+   */
+  public static final double SMOOTHING = 0.2;
+
+  /**
+   * The minimum limit.
+   */
+  private final int minLimit;
+
+  /**
+   * The maximum limit.
+   */
+  private final int maxLimit;
+
+  /**
+   * The {@link LongSupplier} providing the {@link System#nanoTime()} used to
+   * delimit the sampling windows.
+   */
+  private final LongSupplier clock;
+
+  /**
+   * The current (fractional) limit.
+   */
+  private double limit;
+
+  /**
+   * The number of tasks currently holding a permit.
+   */
+  private int inFlightCount = 0;
+
+  /**
+   * The {@link System#nanoTime()} at which the current sampling window began.
+   */
+  private long windowStart;
+
+  /**
+   * The total latency of the samples in the current sampling window.
+   */
+  private long windowLatency = 0L;
+
+  /**
+   * The number of samples in the current sampling window.
+   */
+  private int windowSamples = 0;
+
+  /**
+   * The maximum number of tasks holding a permit during the current sampling
+   * window.
+   */
+  private int windowMaxInFlight = 0;
+
+  /**
+   * The average latency in nanoseconds of the most recent sampling window,
+   * or {@link Double#NaN} if none.
+   */
+  private double recentLatency = Double.NaN;
+
+  /**
+   * The baseline latency in nanoseconds, or {@link Double#NaN} if none.
+   */
+  private double baselineLatency = Double.NaN;
+
+  /**
+   * The number of times the limit was increased.
+   */
+  private long increaseCount = 0L;
+
+  /**
+   * The number of times the limit was decreased.
+   */
+  private long decreaseCount = 0L;
+
+  /**
+   * The number of tasks that had to wait for a permit.
+   */
+  private long waitCount = 0L;
+
+  /**
+   * The total number of nanoseconds tasks spent waiting for a permit.
+   */
+  private long waitNanos = 0L;
+
+  /**
+   * Constructs with the minimum and maximum limits.
+   *
+   * @param minLimit The minimum limit.
+   * @param maxLimit The maximum limit.
+   * @throws IllegalArgumentException If the minimum limit is not positive or
+   *                                  the maximum limit is less than the
+   *                                  minimum limit.
+   */
+  public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit) {
+    this(minLimit, maxLimit, System::nanoTime);
+  }
+
+  /**
+   * Constructs with the minimum and maximum limits and the {@link
+   * LongSupplier} providing the nanosecond time used to delimit the sampling
+   * windows so that tests can control it.
+   *
+   * @param minLimit The minimum limit.
+   * @param maxLimit The maximum limit.
+   * @param clock    The {@link LongSupplier} providing the nanosecond time.
+   * @throws IllegalArgumentException If the minimum limit is not positive or
+   *                                  the maximum limit is less than the
+   *                                  minimum limit.
+   */
+  AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, LongSupplier clock) {
+    if (minLimit <= 0) {
+      throw new IllegalArgumentException(
+          "The minimum limit must be a positive integer: " + minLimit);
+    }
+    if (maxLimit < minLimit) {
+      throw new IllegalArgumentException(
+          "The maximum limit (" + maxLimit + ") cannot be less than the "
+              + "minimum limit (" + minLimit + ").");
+    }
+    this.minLimit     = minLimit;
+    this.maxLimit     = maxLimit;
+    this.limit        = maxLimit;
+    this.clock        = clock;
+    this.windowStart  = clock.getAsLong();
+  }
+
+  /**
+   * Waits up to the specified number of milliseconds for a permit to execute
+   * a task.  A successful call must be followed by a call to {@link
+   * #release(long)} once the task completes.
+   *
+   * @param timeoutMillis The maximum number of milliseconds to wait, or a
+   *                      negative number to wait indefinitely.
+   * @return <tt>true</tt> if a permit was obtained, otherwise <tt>false</tt>.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public synchronized boolean acquire(long timeoutMillis)
+      throws InterruptedException
+  {
+    if (this.inFlightCount >= this.getLimit()) {
+      long start = System.nanoTime();
+      this.waitCount++;
+      try {
+        while (this.inFlightCount >= this.getLimit()) {
+          if (timeoutMillis < 0L) {
+            this.wait();
+            continue;
+          }
+          long remaining = timeoutMillis
+              - ((System.nanoTime() - start) / 1000000L);
+          if (remaining <= 0L) return false;
+          this.wait(remaining);
+        }
+      } finally {
+        this.waitNanos += (System.nanoTime() - start);
+      }
+    }
+    this.inFlightCount++;
+    this.windowMaxInFlight = Math.max(this.windowMaxInFlight,
+                                      this.inFlightCount);
+    return true;
+  }
+
+  /**
+   * Releases a permit obtained via {@link #acquire(long)} and records the
+   * latency of the task, adjusting the limit if the sampling window is
+   * complete.
+   *
+   * @param latencyNanos The latency of the task in nanoseconds, or a
+   *                     negative number if the task should not be
+   *                     sampled, such as when it was never executed.
+   */
+  public synchronized void release(long latencyNanos) {
+    this.inFlightCount--;
+    if (latencyNanos >= 0L) {
+      this.windowLatency += latencyNanos;
+      this.windowSamples++;
+    }
+    long now = this.clock.getAsLong();
+    if (now - this.windowStart >= WINDOW_NANOS
+        && this.windowSamples >= MIN_WINDOW_SAMPLES)
+    {
+      this.adjustLimit();
+      this.windowStart        = now;
+      this.windowLatency      = 0L;
+      this.windowSamples      = 0;
+      this.windowMaxInFlight  = this.inFlightCount;
+    }
+    this.notifyAll();
+  }
+
+  /**
+   * Adjusts the limit using the samples of the completed sampling window.
+   */
+  private void adjustLimit() {
+    double sample = ((double) this.windowLatency) / this.windowSamples;
+    this.recentLatency = sample;
+    if (Double.isNaN(this.baselineLatency)) {
+      this.baselineLatency = sample;
+    } else {
+      this.baselineLatency += (sample - this.baselineLatency) / BASELINE_WINDOWS;
+    }
+
+    // let the baseline recover after a period of excessive latency
+    if (this.baselineLatency > 2.0 * sample) {
+      this.baselineLatency *= 0.95;
+    }
+
+    // skip the adjustment if too few tasks were executing to judge
+    if (this.windowMaxInFlight < this.limit / 2.0) return;
+
+    double gradient = (sample <= 0.0) ? 1.0
+        : LATENCY_TOLERANCE * this.baselineLatency / sample;
+    gradient = Math.max(MIN_GRADIENT, Math.min(1.0, gradient));
+
+    double newLimit = (this.limit * gradient) + Math.sqrt(this.limit);
+    newLimit = (this.limit * (1.0 - SMOOTHING)) + (newLimit * SMOOTHING);
+    newLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+
+    int oldValue = this.getLimit();
+    this.limit = newLimit;
+    int newValue = this.getLimit();
+    if (newValue > oldValue) {
+      this.increaseCount++;
+    } else if (newValue < oldValue) {
+      this.decreaseCount++;
+    }
+  }
+
+  /**
+   * Gets the current limit on the number of tasks executing concurrently.
+   *
+   * @return The current limit.
+   */
+  public synchronized int getLimit() {
+    return Math.max(this.minLimit, (int) Math.floor(this.limit));
+  }
+
+  /**
+   * Gets the minimum limit.
+   *
+   * @return The minimum limit.
+   */
+  public int getMinLimit() {
+    return this.minLimit;
+  }
+
+  /**
+   * Gets the maximum limit.
+   *
+   * @return The maximum limit.
+   */
+  public int getMaxLimit() {
+    return this.maxLimit;
+  }
+
+  /**
+   * Gets the number of tasks currently holding a permit.
+   *
+   * @return The number of tasks currently holding a permit.
+   */
+  public synchronized int getInFlightCount() {
+    return this.inFlightCount;
+  }
+
+  /**
+   * Gets the average task latency in milliseconds of the most recent
+   * sampling window.
+   *
+   * @return The recent latency in milliseconds, or <tt>null</tt> if no
+   *         sampling window has completed.
+   */
+  public synchronized Double getRecentLatency() {
+    return toMillis(this.recentLatency);
+  }
+
+  /**
+   * Gets the baseline task latency in milliseconds against which the recent
+   * latency is compared.
+   *
+   * @return The baseline latency in milliseconds, or <tt>null</tt> if no
+   *         sampling window has completed.
+   */
+  public synchronized Double getBaselineLatency() {
+    return toMillis(this.baselineLatency);
+  }
+
+  /**
+   * Gets the number of times the limit was increased.
+   *
+   * @return The number of times the limit was increased.
+   */
+  public synchronized long getIncreaseCount() {
+    return this.increaseCount;
+  }
+
+  /**
+   * Gets the number of times the limit was decreased.
+   *
+   * @return The number of times the limit was decreased.
+   */
+  public synchronized long getDecreaseCount() {
+    return this.decreaseCount;
+  }
+
+  /**
+   * Gets the number of tasks that had to wait for a permit.
+   *
+   * @return The number of tasks that had to wait for a permit.
+   */
+  public synchronized long getWaitCount() {
+    return this.waitCount;
+  }
+
+  /**
+   * Gets the total number of milliseconds tasks spent waiting for a permit.
+   *
+   * @return The total number of milliseconds spent waiting for a permit.
+   */
+  public synchronized long getWaitTime() {
+    return this.waitNanos / 1000000L;
+  }
+
+  /**
+   * Converts the specified number of nanoseconds to milliseconds.
+   *
+   * @param nanos The number of nanoseconds, or {@link Double#NaN} if none.
+   * @return The number of milliseconds, or <tt>null</tt> if none.
+   */
+  private static Double toMillis(double nanos) {
+    return Double.isNaN(nanos) ? null : (nanos / 1000000.0);
+  }
+}
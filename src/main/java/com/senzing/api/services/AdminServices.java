@@ -448,4 +448,239 @@ public class AdminServices implements ServicesSupport {
         this.newLinks(uriInfo),
         serverInfo);
   }
+
+  /**
+   * Provides the number of redo records waiting to be processed along with
+   * the progress of the background redo processing (if enabled).
+   */
+  @GET
+  @Path("redo-status")
+  public SzRedoStatusResponse getRedoStatus(@Context UriInfo uriInfo)
+      throws WebApplicationException {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    try {
+      this.enteringQueue(timers);
+      long redoCount = provider.executeInThread(() -> {
+        this.exitingQueue(timers);
+        G2Engine engineApi = provider.getEngineApi();
+        this.callingNativeAPI(timers, "engine", "countRedoRecords");
+        long result = engineApi.countRedoRecords();
+        this.calledNativeAPI(timers, "engine", "countRedoRecords");
+        if (result < 0) {
+          throw newInternalServerErrorException(
+              GET, uriInfo, timers, engineApi);
+        }
+        return result;
+      });
+
+      SzRedoStatus redoStatus = this.newRedoStatus(provider, redoCount);
+
+      return this.newRedoStatusResponse(uriInfo, timers, redoStatus);
+
+    } catch (ServerErrorException e) {
+      e.printStackTrace();
+      throw e;
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      e.printStackTrace();
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link SzRedoStatus} and configures it using
+   * the specified {@link SzApiProvider} and redo record count.
+   *
+   * @param provider The {@link SzApiProvider} to use to configure the status.
+   * @param redoCount The number of redo records waiting to be processed.
+   * @return The new instance of {@link SzRedoStatus} configured according to
+   *         the specified parameters.
+   */
+  protected SzRedoStatus newRedoStatus(SzApiProvider provider, long redoCount)
+  {
+    SzRedoStatus redoStatus = SzRedoStatus.FACTORY.create();
+    redoStatus.setRedoRecordCount(redoCount);
+
+    RedoProcessor redoProcessor = provider.getRedoProcessor();
+    if (redoProcessor != null) {
+      redoStatus.setProcessorEnabled(true);
+      redoStatus.setProcessorConcurrency(redoProcessor.getConcurrency());
+      redoStatus.setProcessedCount(redoProcessor.getProcessedCount());
+      redoStatus.setFailedCount(redoProcessor.getFailedCount());
+      redoStatus.setDrainRate(redoProcessor.getDrainRate());
+    }
+    return redoStatus;
+  }
+
+  /**
+   * Creates a new {@link SzRedoStatusResponse} for the
+   * <tt>"GET /redo-status"</tt> operation.
+   *
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @param redoStatus The {@link SzRedoStatus} for the response.
+   * @return The {@link SzRedoStatusResponse} with the specified parameters.
+   */
+  protected SzRedoStatusResponse newRedoStatusResponse(
+      UriInfo       uriInfo,
+      Timers        timers,
+      SzRedoStatus  redoStatus)
+  {
+    return SzRedoStatusResponse.FACTORY.create(
+        this.newMeta(GET, 200, timers),
+        this.newLinks(uriInfo),
+        redoStatus);
+  }
+
+  /**
+   * Provides the configured load throttle budgets for writing records along
+   * with the current rate, in-flight count and throttle wait time for each.
+   */
+  @GET
+  @Path("load-throttle-status")
+  public SzLoadThrottleStatusResponse getLoadThrottleStatus(
+      @Context UriInfo uriInfo)
+      throws WebApplicationException
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    try {
+      SzLoadThrottleStatus status = this.newLoadThrottleStatus(provider);
+
+      return this.newLoadThrottleStatusResponse(uriInfo, timers, status);
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      e.printStackTrace();
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link SzLoadThrottleStatus} and configures it
+   * using the {@link LoadThrottle} (if any) of the specified {@link
+   * SzApiProvider}.
+   *
+   * @param provider The {@link SzApiProvider} to use to configure the status.
+   * @return The new instance of {@link SzLoadThrottleStatus}.
+   */
+  protected SzLoadThrottleStatus newLoadThrottleStatus(SzApiProvider provider)
+  {
+    SzLoadThrottleStatus status = SzLoadThrottleStatus.FACTORY.create();
+    LoadThrottle loadThrottle = provider.getLoadThrottle();
+    if (loadThrottle != null) {
+      status.setEnabled(true);
+      status.setBudgets(loadThrottle.getBudgets());
+    }
+    return status;
+  }
+
+  /**
+   * Creates a new {@link SzLoadThrottleStatusResponse} for the
+   * <tt>"GET /load-throttle-status"</tt> operation.
+   *
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @param status The {@link SzLoadThrottleStatus} for the response.
+   * @return The {@link SzLoadThrottleStatusResponse} with the specified
+   *         parameters.
+   */
+  protected SzLoadThrottleStatusResponse newLoadThrottleStatusResponse(
+      UriInfo               uriInfo,
+      Timers                timers,
+      SzLoadThrottleStatus  status)
+  {
+    return SzLoadThrottleStatusResponse.FACTORY.create(
+        this.newMeta(GET, 200, timers),
+        this.newLinks(uriInfo),
+        status);
+  }
+
+  /**
+   * Provides the number of engine worker threads, the number of tasks that
+   * are executing or waiting for them and the number of tasks that were
+   * discarded because their request expired or was cancelled first, along
+   * with the state of the adaptive concurrency limiter (if enabled).
+   */
+  @GET
+  @Path("work-queue-status")
+  public SzWorkQueueStatusResponse getWorkQueueStatus(
+      @Context UriInfo uriInfo)
+      throws WebApplicationException
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    try {
+      SzWorkQueueStatus status = this.newWorkQueueStatus(provider);
+
+      return this.newWorkQueueStatusResponse(uriInfo, timers, status);
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      e.printStackTrace();
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+  }
+
+  /**
+   * Creates a new instance of {@link SzWorkQueueStatus} and configures it
+   * using the specified {@link SzApiProvider} and its {@link
+   * AdaptiveConcurrencyLimiter} (if any).
+   *
+   * @param provider The {@link SzApiProvider} to use to configure the status.
+   * @return The new instance of {@link SzWorkQueueStatus}.
+   */
+  protected SzWorkQueueStatus newWorkQueueStatus(SzApiProvider provider) {
+    SzWorkQueueStatus status = SzWorkQueueStatus.FACTORY.create();
+    status.setConcurrency(provider.getConcurrency());
+    status.setPendingTaskCount(provider.getPendingTaskCount());
+    status.setExpiredTaskCount(provider.getExpiredTaskCount());
+    status.setCancelledTaskCount(provider.getCancelledTaskCount());
+    AdaptiveConcurrencyLimiter limiter = provider.getConcurrencyLimiter();
+    if (limiter != null) {
+      status.setConcurrencyLimit(limiter.getLimit());
+      status.setMinConcurrency(limiter.getMinLimit());
+      status.setActiveTaskCount(limiter.getInFlightCount());
+      status.setRecentLatency(limiter.getRecentLatency());
+      status.setBaselineLatency(limiter.getBaselineLatency());
+      status.setLimitIncreaseCount(limiter.getIncreaseCount());
+      status.setLimitDecreaseCount(limiter.getDecreaseCount());
+      status.setLimiterWaitCount(limiter.getWaitCount());
+      status.setLimiterWaitTime(limiter.getWaitTime());
+    }
+    return status;
+  }
+
+  /**
+   * Creates a new instance of {@link SzWorkQueueStatusResponse} with the
+   * specified parameters.  This is used for the
+   * <tt>"GET /work-queue-status"</tt> operation.
+   *
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @param status The {@link SzWorkQueueStatus} for the response.
+   * @return The {@link SzWorkQueueStatusResponse} with the specified
+   *         parameters.
+   */
+  protected SzWorkQueueStatusResponse newWorkQueueStatusResponse(
+      UriInfo           uriInfo,
+      Timers            timers,
+      SzWorkQueueStatus status)
+  {
+    return SzWorkQueueStatusResponse.FACTORY.create(
+        this.newMeta(GET, 200, timers),
+        this.newLinks(uriInfo),
+        status);
+  }
 }
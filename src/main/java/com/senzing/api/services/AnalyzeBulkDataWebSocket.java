@@ -1,12 +1,17 @@
 package com.senzing.api.services;
 
+import com.senzing.api.model.SzBulkDataAnalysisMode;
 import com.senzing.api.websocket.JsonEncoder;
 import com.senzing.api.websocket.StringDecoder;
 import com.senzing.io.IOUtilities;
 import com.senzing.util.Timers;
 
+import javax.websocket.Session;
 import javax.websocket.server.ServerEndpoint;
+import javax.ws.rs.BadRequestException;
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Provides an implementation of {@link BulkDataWebSocket} that analyzes bulk
@@ -16,6 +21,57 @@ import java.io.IOException;
     decoders = StringDecoder.class,
     encoders = JsonEncoder.class)
 public class AnalyzeBulkDataWebSocket extends BulkDataWebSocket {
+  /**
+   * The {@link SzBulkDataAnalysisMode} for analyzing the records, or
+   * <tt>null</tt> for the default mode.
+   */
+  protected SzBulkDataAnalysisMode analysisMode;
+
+  /**
+   * The maximum number of records to analyze for the sampling analysis modes,
+   * or <tt>null</tt> for the default sample size.
+   */
+  protected Integer sampleSize;
+
+  /**
+   * Default constructor.
+   */
+  public AnalyzeBulkDataWebSocket() {
+    // do nothing
+  }
+
+  @Override
+  public void onOpen(Session session)
+      throws IOException, IllegalArgumentException {
+    super.onOpen(session);
+
+    // get the other query parameters
+    Map<String, List<String>> params = this.session.getRequestParameterMap();
+    List<String> paramList = params.get("analysisMode");
+    if (paramList != null && paramList.size() > 0) {
+      try {
+        this.analysisMode = SzBulkDataAnalysisMode.valueOf(paramList.get(0));
+
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException(
+            "The specified analysis mode (analysisMode) is not recognized: "
+                + paramList.get(0));
+      }
+    }
+
+    paramList = params.get("sampleSize");
+    if (paramList != null && paramList.size() > 0) {
+      try {
+        this.sampleSize = Integer.parseInt(paramList.get(0));
+
+      } catch (IllegalArgumentException e) {
+        throw new BadRequestException(
+            "The specified sample size (sampleSize) must be an integer: "
+                + paramList.get(0));
+      }
+    }
+  }
+
   /**
    * Implemented to load the records once the thread is started.
    */
@@ -28,6 +84,8 @@ public class AnalyzeBulkDataWebSocket extends BulkDataWebSocket {
                             this.pipedInputStream,
                             this.uriInfo,
                             this.progressPeriod,
+                            this.analysisMode,
+                            this.sampleSize,
                             null,
                             null,
                             this.session);
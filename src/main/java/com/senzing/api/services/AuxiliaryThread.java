@@ -0,0 +1,64 @@
+package com.senzing.api.services;
+
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Provides a base class for the background work performed by the services
+ * that would otherwise extend {@link Thread}.  The work is run on a {@link
+ * Thread} obtained from a {@link ThreadFactory} (typically the one from
+ * {@link SzApiProvider#getThreadFactory()}) so that it may be run on a
+ * virtual thread when those are enabled.
+ */
+public abstract class AuxiliaryThread implements Runnable {
+  /**
+   * The {@link ThreadFactory} for creating the thread.
+   */
+  private final ThreadFactory threadFactory;
+
+  /**
+   * The {@link Thread} that was started, or <tt>null</tt> if not started.
+   */
+  private Thread thread = null;
+
+  /**
+   * Constructs with the {@link ThreadFactory} to use for creating the
+   * {@link Thread} when {@linkplain #start() started}.
+   *
+   * @param threadFactory The {@link ThreadFactory} for creating the thread.
+   */
+  protected AuxiliaryThread(ThreadFactory threadFactory) {
+    Objects.requireNonNull(
+        threadFactory, "The thread factory cannot be null.");
+    this.threadFactory = threadFactory;
+  }
+
+  /**
+   * Creates the backing {@link Thread} from the {@link ThreadFactory} and
+   * starts it to call {@link #run()}.
+   *
+   * @throws IllegalThreadStateException If this instance was already started.
+   */
+  public synchronized void start() {
+    if (this.thread != null) {
+      throw new IllegalThreadStateException(
+          "This thread has already been started.");
+    }
+    this.thread = this.threadFactory.newThread(this);
+    this.thread.start();
+  }
+
+  /**
+   * Waits for the backing {@link Thread} to die.  This returns immediately
+   * if this instance was never {@linkplain #start() started}.
+   *
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public void join() throws InterruptedException {
+    Thread thread;
+    synchronized (this) {
+      thread = this.thread;
+    }
+    if (thread != null) thread.join();
+  }
+}
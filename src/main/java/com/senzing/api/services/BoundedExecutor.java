@@ -0,0 +1,223 @@
+package com.senzing.api.services;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Executes tasks for a single request on a shared {@link Executor} while
+ * limiting the number of them that execute concurrently.  Tasks beyond the
+ * limit wait in a queue held by this instance and are run by the shared
+ * threads as earlier tasks complete, so a request never occupies more than
+ * its share of the shared threads.  {@linkplain #close() Closing} an instance
+ * cancels its queued tasks and interrupts its running tasks without
+ * affecting the tasks of other requests.
+ * <p>
+ * The {@link RequestDeadline} of the request (if any) is {@linkplain
+ * RequestDeadline#setCurrent(RequestDeadline) associated} with the shared
+ * thread while it runs the tasks, so that the engine tasks they submit can
+ * be discarded once the request expires or is cancelled.
+ */
+public class BoundedExecutor implements Executor, AutoCloseable {
+  /**
+   * The shared {@link Executor} on which the tasks are executed.
+   */
+  private final Executor executor;
+
+  /**
+   * The maximum number of tasks executing concurrently.
+   */
+  private final int maxConcurrency;
+
+  /**
+   * The {@link RequestDeadline} for the request, or <tt>null</tt> if none.
+   */
+  private final RequestDeadline deadline;
+
+  /**
+   * The tasks waiting to be executed.
+   */
+  private final Deque<Runnable> queue = new LinkedList<>();
+
+  /**
+   * The {@link Future} tasks that have been submitted but not completed so
+   * they can be cancelled when this instance is closed.
+   */
+  private final Set<Future<?>> futures = new HashSet<>();
+
+  /**
+   * The number of tasks currently executing on the shared {@link Executor}.
+   */
+  private int running = 0;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Constructs with the shared {@link Executor} and the maximum number of
+   * tasks to execute concurrently.
+   *
+   * @param executor       The shared {@link Executor} on which to execute
+   *                       the tasks.
+   * @param maxConcurrency The maximum number of tasks to execute
+   *                       concurrently.
+   * @throws IllegalArgumentException If the maximum concurrency is not
+   *                                  positive.
+   */
+  public BoundedExecutor(Executor executor, int maxConcurrency) {
+    this(executor, maxConcurrency, null);
+  }
+
+  /**
+   * Constructs with the shared {@link Executor}, the maximum number of tasks
+   * to execute concurrently and the {@link RequestDeadline} to associate
+   * with the shared threads while they run the tasks.
+   *
+   * @param executor       The shared {@link Executor} on which to execute
+   *                       the tasks.
+   * @param maxConcurrency The maximum number of tasks to execute
+   *                       concurrently.
+   * @param deadline       The {@link RequestDeadline} for the request, or
+   *                       <tt>null</tt> if none.
+   * @throws IllegalArgumentException If the maximum concurrency is not
+   *                                  positive.
+   */
+  public BoundedExecutor(Executor         executor,
+                         int              maxConcurrency,
+                         RequestDeadline  deadline)
+  {
+    Objects.requireNonNull(executor, "The executor cannot be null.");
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException(
+          "The maximum concurrency must be a positive integer: "
+              + maxConcurrency);
+    }
+    this.executor       = executor;
+    this.maxConcurrency = maxConcurrency;
+    this.deadline       = deadline;
+  }
+
+  /**
+   * Gets the maximum number of tasks executing concurrently.
+   *
+   * @return The maximum number of tasks executing concurrently.
+   */
+  public int getMaxConcurrency() {
+    return this.maxConcurrency;
+  }
+
+  /**
+   * Submits the specified {@link Callable} for execution and returns the
+   * {@link Future} for its result.
+   *
+   * @param task The {@link Callable} to execute.
+   * @param <T>  The type of the result of the task.
+   * @return The {@link Future} for the result of the task.
+   * @throws RejectedExecutionException If this instance has been closed.
+   */
+  public <T> Future<T> submit(Callable<T> task) {
+    FutureTask<T> future = new FutureTask<>(task);
+    this.execute(future);
+    return future;
+  }
+
+  /**
+   * Executes the specified {@link Runnable} once fewer than the {@linkplain
+   * #getMaxConcurrency() maximum number} of tasks of this instance are
+   * executing.
+   *
+   * @param task The {@link Runnable} to execute.
+   * @throws RejectedExecutionException If this instance has been closed.
+   */
+  @Override
+  public void execute(Runnable task) {
+    synchronized (this) {
+      if (this.closed) {
+        throw new RejectedExecutionException(
+            "The bounded executor has been closed.");
+      }
+      if (task instanceof Future) this.futures.add((Future<?>) task);
+      if (this.running >= this.maxConcurrency) {
+        this.queue.add(task);
+        return;
+      }
+      this.running++;
+    }
+    try {
+      this.executor.execute(() -> this.runTasks(task));
+
+    } catch (RuntimeException e) {
+      synchronized (this) {
+        this.running--;
+        if (task instanceof Future) this.futures.remove(task);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Gets the {@link RequestDeadline} associated with the shared threads
+   * while they run the tasks.
+   *
+   * @return The {@link RequestDeadline} for the request, or <tt>null</tt> if
+   *         none.
+   */
+  public RequestDeadline getDeadline() {
+    return this.deadline;
+  }
+
+  /**
+   * Runs the specified task followed by any queued tasks on the current
+   * shared thread until the queue is empty, with the {@link RequestDeadline}
+   * (if any) associated with the thread.
+   *
+   * @param task The first task to run.
+   */
+  private void runTasks(Runnable task) {
+    RequestDeadline previous = RequestDeadline.getCurrent();
+    RequestDeadline.setCurrent(this.deadline);
+    try {
+      for (Runnable next = task; next != null; next = this.nextTask(next)) {
+        next.run();
+      }
+    } finally {
+      RequestDeadline.setCurrent(previous);
+    }
+  }
+
+  /**
+   * Records the completion of the specified task and gets the next queued
+   * task, or <tt>null</tt> if none in which case the shared thread is
+   * released.
+   *
+   * @param completed The task that completed.
+   * @return The next task to run, or <tt>null</tt> if none.
+   */
+  private synchronized Runnable nextTask(Runnable completed) {
+    if (completed instanceof Future) this.futures.remove(completed);
+    Runnable next = (this.closed) ? null : this.queue.poll();
+    if (next == null) this.running--;
+    return next;
+  }
+
+  /**
+   * Cancels the queued tasks and interrupts the running tasks that were
+   * submitted as {@link Future} instances.  No further tasks are accepted.
+   * This has no effect if already closed.
+   */
+  @Override
+  public void close() {
+    List<Future<?>> cancelled;
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+      this.queue.clear();
+      cancelled = new ArrayList<>(this.futures);
+      this.futures.clear();
+    }
+    for (Future<?> future : cancelled) {
+      future.cancel(true);
+    }
+  }
+}
@@ -6,9 +6,12 @@ import com.senzing.util.Timers;
 import org.glassfish.jersey.media.multipart.FormDataContentDisposition;
 import org.glassfish.jersey.media.multipart.FormDataParam;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
@@ -16,9 +19,10 @@ import javax.ws.rs.sse.SseEventSink;
 import java.io.*;
 import java.util.*;
 
-import static com.senzing.api.model.SzHttpMethod.POST;
+import static com.senzing.api.model.SzHttpMethod.*;
 import static javax.ws.rs.core.MediaType.*;
 import static com.senzing.util.LoggingUtilities.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Bulk data REST services.
@@ -26,6 +30,14 @@ import static com.senzing.util.LoggingUtilities.*;
 @Path("/bulk-data")
 @Produces(APPLICATION_JSON)
 public class BulkDataServices implements BulkDataSupport {
+  /**
+   * The {@link HttpServletRequest} for the current request, which is used to
+   * identify the client for the {@link LoadThrottle} budgets.  This is
+   * <tt>null</tt> if not invoked via the servlet container.
+   */
+  @Context
+  private HttpServletRequest httpRequest;
+
   /**
    * Analyzes the bulk data records.
    */
@@ -34,7 +46,9 @@ public class BulkDataServices implements BulkDataSupport {
   public SzBulkDataAnalysisResponse analyzeBulkRecordsViaForm(
       @HeaderParam("Content-Type") MediaType mediaType,
       @FormDataParam("data") InputStream dataInputStream,
-      @Context UriInfo uriInfo) {
+      @Context UriInfo uriInfo,
+      @QueryParam("analysisMode") SzBulkDataAnalysisMode analysisMode,
+      @QueryParam("sampleSize") Integer sampleSize) {
     SzApiProvider provider = this.getApiProvider();
     Timers timers = this.newTimers();
     AccessToken accessToken = this.prepareProlongedOperation(provider,
@@ -49,6 +63,8 @@ public class BulkDataServices implements BulkDataSupport {
           dataInputStream,
           uriInfo,
           null,
+          analysisMode,
+          sampleSize,
           null,
           null,
           null);
@@ -74,11 +90,14 @@ public class BulkDataServices implements BulkDataSupport {
   @Consumes({ APPLICATION_JSON,
       TEXT_PLAIN,
       TEXT_CSV,
-      APPLICATION_JSONLINES })
+      APPLICATION_JSONLINES,
+      APPLICATION_GZIP })
   public SzBulkDataAnalysisResponse analyzeBulkRecordsDirect(
       @HeaderParam("Content-Type") MediaType mediaType,
       InputStream dataInputStream,
-      @Context UriInfo uriInfo) {
+      @Context UriInfo uriInfo,
+      @QueryParam("analysisMode") SzBulkDataAnalysisMode analysisMode,
+      @QueryParam("sampleSize") Integer sampleSize) {
     SzApiProvider provider = this.getApiProvider();
     Timers timers = this.newTimers();
     AccessToken accessToken = this.prepareProlongedOperation(provider,
@@ -93,6 +112,8 @@ public class BulkDataServices implements BulkDataSupport {
           dataInputStream,
           uriInfo,
           null,
+          analysisMode,
+          sampleSize,
           null,
           null,
           null);
@@ -117,6 +138,12 @@ public class BulkDataServices implements BulkDataSupport {
    * @param mediaType       The media type for the content.
    * @param dataInputStream The input stream to read the uploaded data.
    * @param uriInfo         The {@link UriInfo} for the request.
+   * @param analysisMode    The {@link SzBulkDataAnalysisMode} for analyzing
+   *                        the records, or <tt>null</tt> for the default of
+   *                        {@link SzBulkDataAnalysisMode#FULL}.
+   * @param sampleSize      The maximum number of records to analyze for the
+   *                        sampling analysis modes, or <tt>null</tt> for the
+   *                        default sample size.
    * @param progressPeriod  The suggested maximum time between SSE `progress`
    *                        events specified in milliseconds. If not specified
    *                        then the default of `3000` milliseconds (i.e.: 3
@@ -129,12 +156,15 @@ public class BulkDataServices implements BulkDataSupport {
   @Consumes({ APPLICATION_JSON,
       TEXT_PLAIN,
       TEXT_CSV,
-      APPLICATION_JSONLINES })
+      APPLICATION_JSONLINES,
+      APPLICATION_GZIP })
   @Produces(TEXT_EVENT_STREAM)
   public void analyzeBulkRecordsDirect(
       @HeaderParam("Content-Type") MediaType mediaType,
       InputStream dataInputStream,
       @Context UriInfo uriInfo,
+      @QueryParam("analysisMode") SzBulkDataAnalysisMode analysisMode,
+      @QueryParam("sampleSize") Integer sampleSize,
       @QueryParam("progressPeriod") @DefaultValue("3000") long progressPeriod,
       @Context SseEventSink sseEventSink,
       @Context Sse sse) {
@@ -153,6 +183,8 @@ public class BulkDataServices implements BulkDataSupport {
             dataInputStream,
             uriInfo,
             progressPeriod,
+            analysisMode,
+            sampleSize,
             sseEventSink,
             sse,
             null);
@@ -188,6 +220,12 @@ public class BulkDataServices implements BulkDataSupport {
    * @param mediaType       The media type for the content.
    * @param dataInputStream The input stream to read the uploaded data.
    * @param uriInfo         The {@link UriInfo} for the request.
+   * @param analysisMode    The {@link SzBulkDataAnalysisMode} for analyzing
+   *                        the records, or <tt>null</tt> for the default of
+   *                        {@link SzBulkDataAnalysisMode#FULL}.
+   * @param sampleSize      The maximum number of records to analyze for the
+   *                        sampling analysis modes, or <tt>null</tt> for the
+   *                        default sample size.
    * @param progressPeriod  The suggested maximum time between SSE `progress`
    *                        events specified in milliseconds. If not specified
    *                        then the default of `3000` milliseconds (i.e.: 3
@@ -202,6 +240,8 @@ public class BulkDataServices implements BulkDataSupport {
       @HeaderParam("Content-Type") MediaType mediaType,
       @FormDataParam("data") InputStream dataInputStream,
       @Context UriInfo uriInfo,
+      @QueryParam("analysisMode") SzBulkDataAnalysisMode analysisMode,
+      @QueryParam("sampleSize") Integer sampleSize,
       @QueryParam("progressPeriod") @DefaultValue("3000") long progressPeriod,
       @Context SseEventSink sseEventSink,
       @Context Sse sse) {
@@ -220,6 +260,8 @@ public class BulkDataServices implements BulkDataSupport {
             dataInputStream,
             uriInfo,
             progressPeriod,
+            analysisMode,
+            sampleSize,
             sseEventSink,
             sse,
             null);
@@ -264,6 +306,15 @@ public class BulkDataServices implements BulkDataSupport {
    * @param maxFailures       The maximum number of failures or a negative number
    *                          if
    *                          no maximum.
+   * @param resume            Whether to resume the load with the specified load
+   *                          ID from its checkpoint (if any), which is not
+   *                          supported for ZIP archives.
+   * @param dispatchMode      The {@link SzBulkLoadDispatchMode} for dispatching
+   *                          the records to the load threads, or
+   *                          <tt>null</tt> for the default.
+   * @param affinityKey       The optional name of the record property to use
+   *                          as the affinity key when the records are
+   *                          partitioned.
    * @param mediaType         The media type for the content.
    * @param dataInputStream   The input stream to read the uploaded data.
    * @param fileMetaData      The form meta data for the uploaded file.
@@ -277,6 +328,9 @@ public class BulkDataServices implements BulkDataSupport {
       @QueryParam("mapDataSource") List<String> mapDataSourceList,
       @QueryParam("loadId") String loadId,
       @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @DefaultValue("false") @QueryParam("resume") boolean resume,
+      @QueryParam("dispatchMode") SzBulkLoadDispatchMode dispatchMode,
+      @QueryParam("affinityKey") String affinityKey,
       @HeaderParam("Content-Type") MediaType mediaType,
       @FormDataParam("data") InputStream dataInputStream,
       @FormDataParam("data") FormDataContentDisposition fileMetaData,
@@ -294,6 +348,10 @@ public class BulkDataServices implements BulkDataSupport {
           mapDataSourceList,
           loadId,
           maxFailures,
+          resume,
+          dispatchMode,
+          affinityKey,
+          this.getClientId(this.httpRequest),
           mediaType,
           dataInputStream,
           fileMetaData,
@@ -334,19 +392,33 @@ public class BulkDataServices implements BulkDataSupport {
    * @param maxFailures       The maximum number of failures or a negative number
    *                          if
    *                          no maximum.
+   * @param resume            Whether to resume the load with the specified load
+   *                          ID from its checkpoint (if any), which is not
+   *                          supported for ZIP archives.
+   * @param dispatchMode      The {@link SzBulkLoadDispatchMode} for dispatching
+   *                          the records to the load threads, or
+   *                          <tt>null</tt> for the default.
+   * @param affinityKey       The optional name of the record property to use
+   *                          as the affinity key when the records are
+   *                          partitioned.
    */
   @POST
   @Path("/load")
   @Consumes({ MediaType.APPLICATION_JSON,
       MediaType.TEXT_PLAIN,
       "text/csv",
-      "application/x-jsonlines" })
+      "application/x-jsonlines",
+      APPLICATION_GZIP,
+      APPLICATION_ZIP })
   public SzBulkLoadResponse loadBulkRecordsDirect(
       @QueryParam("dataSource") String dataSource,
       @QueryParam("mapDataSources") String mapDataSources,
       @QueryParam("mapDataSource") List<String> mapDataSourceList,
       @QueryParam("loadId") String loadId,
       @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @DefaultValue("false") @QueryParam("resume") boolean resume,
+      @QueryParam("dispatchMode") SzBulkLoadDispatchMode dispatchMode,
+      @QueryParam("affinityKey") String affinityKey,
       @HeaderParam("Content-Type") MediaType mediaType,
       InputStream dataInputStream,
       @Context UriInfo uriInfo) {
@@ -363,6 +435,10 @@ public class BulkDataServices implements BulkDataSupport {
           mapDataSourceList,
           loadId,
           maxFailures,
+          resume,
+          dispatchMode,
+          affinityKey,
+          this.getClientId(this.httpRequest),
           mediaType,
           dataInputStream,
           null,
@@ -403,6 +479,15 @@ public class BulkDataServices implements BulkDataSupport {
    * @param maxFailures       The maximum number of failures or a negative number
    *                          if
    *                          no maximum.
+   * @param resume            Whether to resume the load with the specified load
+   *                          ID from its checkpoint (if any), which is not
+   *                          supported for ZIP archives.
+   * @param dispatchMode      The {@link SzBulkLoadDispatchMode} for dispatching
+   *                          the records to the load threads, or
+   *                          <tt>null</tt> for the default.
+   * @param affinityKey       The optional name of the record property to use
+   *                          as the affinity key when the records are
+   *                          partitioned.
    * @param progressPeriod    The suggested maximum time between SSE `progress`
    *                          events specified in milliseconds. If not specified
    *                          then the default of `3000` milliseconds (i.e.: 3
@@ -422,6 +507,9 @@ public class BulkDataServices implements BulkDataSupport {
       @QueryParam("mapDataSource") List<String> mapDataSourceList,
       @QueryParam("loadId") String loadId,
       @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @DefaultValue("false") @QueryParam("resume") boolean resume,
+      @QueryParam("dispatchMode") SzBulkLoadDispatchMode dispatchMode,
+      @QueryParam("affinityKey") String affinityKey,
       @HeaderParam("Content-Type") MediaType mediaType,
       @FormDataParam("data") InputStream dataInputStream,
       @FormDataParam("data") FormDataContentDisposition fileMetaData,
@@ -444,6 +532,10 @@ public class BulkDataServices implements BulkDataSupport {
           mapDataSourceList,
           loadId,
           maxFailures,
+          resume,
+          dispatchMode,
+          affinityKey,
+          this.getClientId(this.httpRequest),
           mediaType,
           dataInputStream,
           fileMetaData,
@@ -484,6 +576,15 @@ public class BulkDataServices implements BulkDataSupport {
    * @param maxFailures       The maximum number of failures or a negative number
    *                          if
    *                          no maximum.
+   * @param resume            Whether to resume the load with the specified load
+   *                          ID from its checkpoint (if any), which is not
+   *                          supported for ZIP archives.
+   * @param dispatchMode      The {@link SzBulkLoadDispatchMode} for dispatching
+   *                          the records to the load threads, or
+   *                          <tt>null</tt> for the default.
+   * @param affinityKey       The optional name of the record property to use
+   *                          as the affinity key when the records are
+   *                          partitioned.
    * @param progressPeriod    The suggested maximum time between SSE `progress`
    *                          events specified in milliseconds. If not specified
    *                          then the default of `3000` milliseconds (i.e.: 3
@@ -499,7 +600,9 @@ public class BulkDataServices implements BulkDataSupport {
   @Consumes({ APPLICATION_JSON,
       TEXT_PLAIN,
       TEXT_CSV,
-      APPLICATION_JSONLINES })
+      APPLICATION_JSONLINES,
+      APPLICATION_GZIP,
+      APPLICATION_ZIP })
   @Produces(TEXT_EVENT_STREAM)
   public void loadBulkRecordsDirect(
       @QueryParam("dataSource") String dataSource,
@@ -507,6 +610,9 @@ public class BulkDataServices implements BulkDataSupport {
       @QueryParam("mapDataSource") List<String> mapDataSourceList,
       @QueryParam("loadId") String loadId,
       @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @DefaultValue("false") @QueryParam("resume") boolean resume,
+      @QueryParam("dispatchMode") SzBulkLoadDispatchMode dispatchMode,
+      @QueryParam("affinityKey") String affinityKey,
       @HeaderParam("Content-Type") MediaType mediaType,
       InputStream dataInputStream,
       @Context UriInfo uriInfo,
@@ -526,6 +632,10 @@ public class BulkDataServices implements BulkDataSupport {
           mapDataSourceList,
           loadId,
           maxFailures,
+          resume,
+          dispatchMode,
+          affinityKey,
+          this.getClientId(this.httpRequest),
           mediaType,
           dataInputStream,
           null,
@@ -548,4 +658,433 @@ public class BulkDataServices implements BulkDataSupport {
       provider.concludeProlongedOperation(accessToken);
     }
   }
+
+  /**
+   * Loads the bulk data records from a file on the server.  This is only
+   * allowed if admin functions are enabled and a bulk-load file directory is
+   * configured, and the file must reside within that directory.
+   * JSON-lines and CSV files are split at record boundaries and loaded in
+   * parallel, but a JSON array file cannot be split without parsing it and is
+   * loaded serially on a single thread (as are files in a UTF-16 or UTF-32
+   * encoding).
+   *
+   * @param path              The path of the file to load relative to the
+   *                          bulk-load file directory.
+   * @param dataSource        The data source to assign to the loaded records
+   *                          unless another data source mapping supersedes
+   *                          this default.
+   * @param mapDataSources    The JSON string mapping specific data sources to
+   *                          alternate data source names. A mapping from
+   *                          empty-string is used for mapping records with no
+   *                          data source specified.
+   * @param mapDataSourceList The {@link List} of delimited strings that begin
+   *                          the delimiter, followed by the "from" data source
+   *                          then the delimiter then the target data source.
+   * @param loadId            The optional load ID to use for loading the records.
+   * @param maxFailures       The maximum number of failures or a negative number
+   *                          if no maximum.
+   * @param uriInfo           The {@link UriInfo} for the request.
+   */
+  @POST
+  @Path("/load-file")
+  public SzBulkLoadResponse loadBulkFile(
+      @QueryParam("path") String path,
+      @QueryParam("dataSource") String dataSource,
+      @QueryParam("mapDataSources") String mapDataSources,
+      @QueryParam("mapDataSource") List<String> mapDataSourceList,
+      @QueryParam("loadId") String loadId,
+      @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    File file = this.resolveBulkLoadFile(provider, path, uriInfo, timers);
+    AccessToken accessToken = this.prepareBulkLoadOperation(provider,
+        uriInfo,
+        timers);
+    try {
+      return this.loadBulkFile(provider,
+          timers,
+          dataSource,
+          mapDataSources,
+          mapDataSourceList,
+          loadId,
+          maxFailures,
+          this.getClientId(this.httpRequest),
+          file,
+          uriInfo,
+          null,
+          null,
+          null);
+
+    } catch (ClientErrorException e) {
+      throw e;
+
+    } catch (RuntimeException e) {
+      throw logOnceAndThrow(e);
+
+    } catch (Exception e) {
+      throw logOnceAndThrow(new RuntimeException(e));
+
+    } finally {
+      provider.concludeProlongedOperation(accessToken);
+    }
+  }
+
+  /**
+   * Loads the bulk data records from a file on the server using SSE.  This is
+   * only allowed if admin functions are enabled and a bulk-load file directory
+   * is configured, and the file must reside within that directory.
+   * JSON-lines and CSV files are split at record boundaries and loaded in
+   * parallel, but a JSON array file cannot be split without parsing it and is
+   * loaded serially on a single thread (as are files in a UTF-16 or UTF-32
+   * encoding).
+   *
+   * @param path              The path of the file to load relative to the
+   *                          bulk-load file directory.
+   * @param dataSource        The data source to assign to the loaded records
+   *                          unless another data source mapping supersedes
+   *                          this default.
+   * @param mapDataSources    The JSON string mapping specific data sources to
+   *                          alternate data source names. A mapping from
+   *                          empty-string is used for mapping records with no
+   *                          data source specified.
+   * @param mapDataSourceList The {@link List} of delimited strings that begin
+   *                          the delimiter, followed by the "from" data source
+   *                          then the delimiter then the target data source.
+   * @param loadId            The optional load ID to use for loading the records.
+   * @param maxFailures       The maximum number of failures or a negative number
+   *                          if no maximum.
+   * @param uriInfo           The {@link UriInfo} for the request.
+   * @param progressPeriod    The suggested maximum time between SSE `progress`
+   *                          events specified in milliseconds. If not specified
+   *                          then the default of `3000` milliseconds (i.e.: 3
+   *                          seconds) is used.
+   * @param sseEventSink      The {@link SseEventSink} for the SSE protocol.
+   * @param sse               The {@link Sse} instance for the SSE protocol.
+   */
+  @POST
+  @Path("/load-file")
+  @Produces(TEXT_EVENT_STREAM)
+  public void loadBulkFile(
+      @QueryParam("path") String path,
+      @QueryParam("dataSource") String dataSource,
+      @QueryParam("mapDataSources") String mapDataSources,
+      @QueryParam("mapDataSource") List<String> mapDataSourceList,
+      @QueryParam("loadId") String loadId,
+      @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @Context UriInfo uriInfo,
+      @QueryParam("progressPeriod") @DefaultValue("3000") long progressPeriod,
+      @Context SseEventSink sseEventSink,
+      @Context Sse sse) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    File file = this.resolveBulkLoadFile(provider, path, uriInfo, timers);
+    AccessToken accessToken = this.prepareBulkLoadOperation(provider,
+        uriInfo,
+        timers);
+    try {
+      this.loadBulkFile(provider,
+          timers,
+          dataSource,
+          mapDataSources,
+          mapDataSourceList,
+          loadId,
+          maxFailures,
+          this.getClientId(this.httpRequest),
+          file,
+          uriInfo,
+          progressPeriod,
+          sseEventSink,
+          sse);
+
+    } catch (ClientErrorException e) {
+      throw e;
+
+    } catch (RuntimeException e) {
+      throw logOnceAndThrow(e);
+
+    } catch (Exception e) {
+      throw logOnceAndThrow(new RuntimeException(e));
+
+    } finally {
+      provider.concludeProlongedOperation(accessToken);
+    }
+  }
+
+  /**
+   * Submits an asynchronous bulk-load job for the bulk data records uploaded
+   * via form.  The bulk data is spooled before responding and the job runs
+   * independently of the request.
+   *
+   * @param dataSource        The data source to assign to the loaded records
+   *                          unless another data source mapping supersedes
+   *                          this default.
+   * @param mapDataSources    The JSON string mapping specific data sources to
+   *                          alternate data source names. A mapping from
+   *                          empty-string is used for mapping records with no
+   *                          data source specified.
+   * @param mapDataSourceList The {@link List} of delimited strings that begin
+   *                          the delimiter, followed by the "from" data source
+   *                          then the delimiter then the target data source.
+   * @param loadId            The optional load ID to use for loading the records.
+   * @param maxFailures       The maximum number of failures or a negative number
+   *                          if no maximum.
+   * @param mediaType         The media type for the content.
+   * @param dataInputStream   The input stream to read the uploaded data.
+   * @param fileMetaData      The form meta data for the uploaded file.
+   * @param uriInfo           The {@link UriInfo} for the request.
+   */
+  @POST
+  @Path("/jobs")
+  public SzBulkLoadJobResponse submitBulkLoadJobViaForm(
+      @QueryParam("dataSource") String dataSource,
+      @QueryParam("mapDataSources") String mapDataSources,
+      @QueryParam("mapDataSource") List<String> mapDataSourceList,
+      @QueryParam("loadId") String loadId,
+      @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @HeaderParam("Content-Type") MediaType mediaType,
+      @FormDataParam("data") InputStream dataInputStream,
+      @FormDataParam("data") FormDataContentDisposition fileMetaData,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    try {
+      return this.submitBulkLoadJob(provider,
+          timers,
+          dataSource,
+          mapDataSources,
+          mapDataSourceList,
+          loadId,
+          maxFailures,
+          this.getClientId(this.httpRequest),
+          mediaType,
+          dataInputStream,
+          fileMetaData,
+          uriInfo);
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (RuntimeException e) {
+      throw logOnceAndThrow(e);
+    }
+  }
+
+  /**
+   * Submits an asynchronous bulk-load job for the bulk data records uploaded
+   * directly.  The bulk data is spooled before responding and the job runs
+   * independently of the request.
+   *
+   * @param dataSource        The data source to assign to the loaded records
+   *                          unless another data source mapping supersedes
+   *                          this default.
+   * @param mapDataSources    The JSON string mapping specific data sources to
+   *                          alternate data source names. A mapping from
+   *                          empty-string is used for mapping records with no
+   *                          data source specified.
+   * @param mapDataSourceList The {@link List} of delimited strings that begin
+   *                          the delimiter, followed by the "from" data source
+   *                          then the delimiter then the target data source.
+   * @param loadId            The optional load ID to use for loading the records.
+   * @param maxFailures       The maximum number of failures or a negative number
+   *                          if no maximum.
+   * @param mediaType         The media type for the content.
+   * @param dataInputStream   The input stream to read the uploaded data.
+   * @param uriInfo           The {@link UriInfo} for the request.
+   */
+  @POST
+  @Path("/jobs")
+  @Consumes({ APPLICATION_JSON,
+      TEXT_PLAIN,
+      TEXT_CSV,
+      APPLICATION_JSONLINES,
+      APPLICATION_GZIP })
+  public SzBulkLoadJobResponse submitBulkLoadJobDirect(
+      @QueryParam("dataSource") String dataSource,
+      @QueryParam("mapDataSources") String mapDataSources,
+      @QueryParam("mapDataSource") List<String> mapDataSourceList,
+      @QueryParam("loadId") String loadId,
+      @DefaultValue("0") @QueryParam("maxFailures") int maxFailures,
+      @HeaderParam("Content-Type") MediaType mediaType,
+      InputStream dataInputStream,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    try {
+      return this.submitBulkLoadJob(provider,
+          timers,
+          dataSource,
+          mapDataSources,
+          mapDataSourceList,
+          loadId,
+          maxFailures,
+          this.getClientId(this.httpRequest),
+          mediaType,
+          dataInputStream,
+          null,
+          uriInfo);
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (RuntimeException e) {
+      throw logOnceAndThrow(e);
+    }
+  }
+
+  /**
+   * Gets the state of an asynchronous bulk-load job along with its progress
+   * or its final result if finished.
+   *
+   * @param jobId   The job ID identifying the job.
+   * @param uriInfo The {@link UriInfo} for the request.
+   */
+  @GET
+  @Path("/jobs/{jobId}")
+  public SzBulkLoadJobResponse getBulkLoadJob(
+      @PathParam("jobId") String jobId,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    BulkLoadJobManager.Job job = this.getBulkLoadJob(
+        provider, GET, uriInfo, timers, jobId, false);
+    return this.newBulkLoadJobResponse(GET, uriInfo, timers, job);
+  }
+
+  /**
+   * Streams the progress of an asynchronous bulk-load job using SSE until
+   * the job has finished.  A <tt>progress</tt> event is sent periodically
+   * while the job is queued or running and a <tt>completed</tt> event is sent
+   * once it has finished.
+   *
+   * @param jobId          The job ID identifying the job.
+   * @param progressPeriod The suggested maximum time between SSE `progress`
+   *                       events specified in milliseconds. If not specified
+   *                       then the default of `3000` milliseconds (i.e.: 3
+   *                       seconds) is used.
+   * @param uriInfo        The {@link UriInfo} for the request.
+   * @param sseEventSink   The {@link SseEventSink} for the SSE protocol.
+   * @param sse            The {@link Sse} instance for the SSE protocol.
+   */
+  @GET
+  @Path("/jobs/{jobId}")
+  @Produces(TEXT_EVENT_STREAM)
+  public void streamBulkLoadJob(
+      @PathParam("jobId") String jobId,
+      @QueryParam("progressPeriod") @DefaultValue("3000") long progressPeriod,
+      @Context UriInfo uriInfo,
+      @Context SseEventSink sseEventSink,
+      @Context Sse sse) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    OutboundSseEvent.Builder eventBuilder = sse.newEventBuilder();
+    int eventId = 0;
+    try {
+      this.validateProgressPeriod(
+          progressPeriod, timers, uriInfo, sseEventSink, sse, null);
+
+      BulkLoadJobManager.Job job = this.getBulkLoadJob(
+          provider, GET, uriInfo, timers, jobId, false);
+
+      // send progress events until the job has finished
+      while (!job.waitUntilFinished(progressPeriod)
+             && !sseEventSink.isClosed())
+      {
+        OutboundSseEvent event = eventBuilder.name(PROGRESS_EVENT)
+            .id(String.valueOf(eventId++))
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(this.newBulkLoadJobResponse(GET, uriInfo, timers, job))
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        sseEventSink.send(event);
+      }
+
+      if (!sseEventSink.isClosed()) {
+        this.completeOperation(
+            eventBuilder, sseEventSink, eventId, null,
+            this.newBulkLoadJobResponse(GET, uriInfo, timers, job));
+      }
+
+    } catch (WebApplicationException e) {
+      OutboundSseEvent event = eventBuilder.name(FAILED_EVENT)
+          .id(String.valueOf(eventId))
+          .mediaType(APPLICATION_JSON_TYPE)
+          .data(e.getResponse().getEntity())
+          .reconnectDelay(RECONNECT_DELAY)
+          .build();
+      sseEventSink.send(event);
+      sseEventSink.close();
+    }
+  }
+
+  /**
+   * Cancels an asynchronous bulk-load job.  A queued job is cancelled
+   * immediately while a running job stops once the records being loaded have
+   * completed.  This has no effect if the job has already finished.
+   *
+   * @param jobId   The job ID identifying the job.
+   * @param uriInfo The {@link UriInfo} for the request.
+   */
+  @DELETE
+  @Path("/jobs/{jobId}")
+  public SzBulkLoadJobResponse cancelBulkLoadJob(
+      @PathParam("jobId") String jobId,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+    BulkLoadJobManager.Job job = this.getBulkLoadJob(
+        provider, DELETE, uriInfo, timers, jobId, true);
+    return this.newBulkLoadJobResponse(DELETE, uriInfo, timers, job);
+  }
+
+  /**
+   * Streams the records that failed to load for the specified load ID as
+   * JSON lines from the {@linkplain BulkLoadErrorLog bulk-load error log}.
+   * Each line describes one failed record with its data source, record ID,
+   * error code and error message.  The log is streamed one line at a time so
+   * memory use is bounded regardless of the number of failed records, and it
+   * may be retrieved while the load is still in progress.
+   *
+   * @param loadId  The load ID identifying the bulk load.
+   * @param uriInfo The {@link UriInfo} for the request.
+   *
+   * @return The {@link Response} streaming the failed records.
+   */
+  @GET
+  @Path("/loads/{loadId}/errors")
+  @Produces(APPLICATION_JSONLINES)
+  public Response getBulkLoadErrors(
+      @PathParam("loadId") String loadId,
+      @Context UriInfo uriInfo) {
+    SzApiProvider provider = this.getApiProvider();
+    Timers timers = this.newTimers();
+
+    File errorDir = provider.getBulkLoadErrorDirectory();
+    if (errorDir == null) {
+      throw this.newForbiddenException(
+          GET, uriInfo, timers,
+          "The bulk-load error log is not enabled for this Senzing API Server.");
+    }
+    if (BulkLoadErrorLog.getSegmentFiles(errorDir, loadId).size() == 0) {
+      throw this.newNotFoundException(
+          GET, uriInfo, timers,
+          "No failed records have been logged for the load ID: " + loadId);
+    }
+
+    StreamingOutput output = (outputStream) -> {
+      try {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, UTF_8));
+        BulkLoadErrorLog.copyTo(errorDir, loadId, writer);
+
+      } catch (WebApplicationException | IOException e) {
+        throw e;
+
+      } catch (RuntimeException e) {
+        throw logOnceAndThrow(e);
+      }
+    };
+
+    return Response.ok(output, APPLICATION_JSONLINES).build();
+  }
 }
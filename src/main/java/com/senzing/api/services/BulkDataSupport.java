@@ -1,6 +1,7 @@
 package com.senzing.api.services;
 
 import com.senzing.api.model.*;
+import com.senzing.api.model.impl.SzBulkLoadResultAccumulator;
 import com.senzing.g2.engine.G2Engine;
 import com.senzing.io.IOUtilities;
 import com.senzing.io.RecordReader;
@@ -17,14 +18,29 @@ import javax.ws.rs.sse.OutboundSseEvent;
 import javax.ws.rs.sse.Sse;
 import javax.ws.rs.sse.SseEventSink;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static com.senzing.io.RecordReader.Format.*;
+import static com.senzing.api.model.SzBulkDataAnalysisMode.*;
 import static com.senzing.api.model.SzBulkDataStatus.ABORTED;
 import static com.senzing.api.model.SzBulkDataStatus.COMPLETED;
 import static com.senzing.api.model.SzHttpMethod.POST;
@@ -62,6 +78,21 @@ public interface BulkDataSupport extends ServicesSupport {
    */
   String APPLICATION_JSONLINES = "application/x-jsonlines";
 
+  /**
+   * The <tt>"application/gzip"</tt> media type string.
+   */
+  String APPLICATION_GZIP = "application/gzip";
+
+  /**
+   * The <tt>"application/zip"</tt> media type string.
+   */
+  String APPLICATION_ZIP = "application/zip";
+
+  /**
+   * The size of the buffer used when decompressing gzip bulk data (64KB).
+   */
+  int GZIP_BUFFER_SIZE = 64 * 1024;
+
   /**
    * The <tt>"text/event-stream"</tt> media type string.
    */
@@ -78,6 +109,30 @@ public interface BulkDataSupport extends ServicesSupport {
    */
   Long DEFAULT_PROGRESS_PERIOD = 3000L;
 
+  /**
+   * The default number of records to sample when analyzing bulk data using
+   * one of the sampling {@linkplain SzBulkDataAnalysisMode analysis modes}.
+   */
+  int DEFAULT_ANALYSIS_SAMPLE_SIZE = 10000;
+
+  /**
+   * The number of records in each batch when analyzing bulk data using
+   * {@link SzBulkDataAnalysisMode#PARALLEL}.
+   */
+  int ANALYSIS_BATCH_SIZE = 1000;
+
+  /**
+   * The number of evenly spaced byte ranges from which records are sampled
+   * when analyzing bulk data using {@link SzBulkDataAnalysisMode#BYTE_RANGES}.
+   */
+  int ANALYSIS_BYTE_RANGE_COUNT = 20;
+
+  /**
+   * The z-score for a 95% confidence level used when computing the margin of
+   * error for sampled bulk data analysis.
+   */
+  double CONFIDENCE_95_Z_SCORE = 1.96;
+
   /**
    * The time zone used for the time component of the build number.
    */
@@ -153,7 +208,41 @@ public interface BulkDataSupport extends ServicesSupport {
   }
 
   /**
-   * Analyzes the bulk data and returns information about it.
+   * Analyzes the bulk data and returns information about it.  This is
+   * equivalent to calling {@link #analyzeBulkRecords(SzApiProvider, Timers,
+   * MediaType, InputStream, UriInfo, Long, SzBulkDataAnalysisMode, Integer,
+   * SseEventSink, Sse, Session)} with <tt>null</tt> for the analysis mode and
+   * sample size.
+   */
+  default SzBulkDataAnalysisResponse analyzeBulkRecords(
+      SzApiProvider provider,
+      Timers timers,
+      MediaType mediaType,
+      InputStream dataInputStream,
+      UriInfo uriInfo,
+      Long progressPeriod,
+      SseEventSink sseEventSink,
+      Sse sse,
+      Session webSocketSession) {
+    return this.analyzeBulkRecords(provider,
+        timers,
+        mediaType,
+        dataInputStream,
+        uriInfo,
+        progressPeriod,
+        null,
+        null,
+        sseEventSink,
+        sse,
+        webSocketSession);
+  }
+
+  /**
+   * Analyzes the bulk data using the specified {@link SzBulkDataAnalysisMode}
+   * and returns information about it.  If the analysis mode is <tt>null</tt>
+   * then {@link SzBulkDataAnalysisMode#FULL} is used.  The sample size is
+   * only used by the sampling modes and defaults to {@link
+   * #DEFAULT_ANALYSIS_SAMPLE_SIZE} if <tt>null</tt>.
    */
   default SzBulkDataAnalysisResponse analyzeBulkRecords(
       SzApiProvider provider,
@@ -162,11 +251,18 @@ public interface BulkDataSupport extends ServicesSupport {
       InputStream dataInputStream,
       UriInfo uriInfo,
       Long progressPeriod,
+      SzBulkDataAnalysisMode analysisMode,
+      Integer sampleSize,
       SseEventSink sseEventSink,
       Sse sse,
       Session webSocketSession) {
     MediaType specifiedMediaType = mediaType;
 
+    // check if the analysis mode was explicitly specified
+    boolean explicitMode = (analysisMode != null);
+    if (analysisMode == null)
+      analysisMode = SzBulkDataAnalysisMode.FULL;
+
     // convert progress period to nanoseconds
     Long progressNanos = (progressPeriod == null)
         ? null
@@ -191,9 +287,30 @@ public interface BulkDataSupport extends ServicesSupport {
         sse,
         webSocketSession);
 
+    // check the sample size
+    if (sampleSize != null && sampleSize <= 0) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The sampleSize parameter must be a positive integer: "
+              + sampleSize);
+    }
+    int sampleLimit = (sampleSize == null)
+        ? DEFAULT_ANALYSIS_SAMPLE_SIZE : sampleSize;
+
+    // count the uploaded bytes so that sampling can estimate the total
+    CountingInputStream uploadCounter
+        = new CountingInputStream(dataInputStream);
+
     try {
-      BulkDataSet bulkDataSet = new BulkDataSet(mediaType, dataInputStream);
+      BulkDataSet bulkDataSet = new BulkDataSet(mediaType, uploadCounter);
       TemporaryDataCache dataCache = bulkDataSet.getDataCache();
+      if (bulkDataSet.isArchive()) {
+        dataCache.delete();
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Bulk data archives cannot be analyzed.  Analyze the files in "
+                + "the archive individually instead.");
+      }
 
       // if charset is unknown then try to detect
       String charset = bulkDataSet.getCharacterEncoding();
@@ -202,21 +319,56 @@ public interface BulkDataSupport extends ServicesSupport {
       debugLog("Analyze bulk data character encoding: "
           + charset);
 
-      long start = System.nanoTime();
-      // check if we need to auto-detect the media type
-      try (InputStream is = dataCache.getInputStream(true);
-          InputStreamReader isr = new InputStreamReader(is, charset);
-          BufferedReader br = new BufferedReader(isr)) {
-        // if format is null then RecordReader will auto-detect
-        RecordReader recordReader = new RecordReader(null, br);
+      // the format must be known up front for the line-based modes
+      RecordReader.Format detectedFormat = null;
+      if (analysisMode != SzBulkDataAnalysisMode.FULL
+          && analysisMode != FIRST_RECORDS) {
+        try (InputStream is = dataCache.getInputStream();
+            InputStreamReader isr = new InputStreamReader(is, charset);
+            BufferedReader br = new BufferedReader(isr)) {
+          RecordReader recordReader = new RecordReader(null, br);
+          detectedFormat = recordReader.getFormat();
+        }
 
         this.verifyBulkDataFormat(specifiedMediaType,
             bulkDataSet.getFormat(),
-            recordReader.getFormat(),
+            detectedFormat,
             uriInfo,
             timers);
 
-        bulkDataSet.setFormat(recordReader.getFormat());
+        analysisMode = this.resolveAnalysisMode(
+            analysisMode, detectedFormat, charset);
+      }
+      if (explicitMode) {
+        dataAnalysis.setAnalysisMode(analysisMode);
+      }
+      boolean lineBased = (analysisMode == PARALLEL
+          || analysisMode == RESERVOIR || analysisMode == BYTE_RANGES);
+
+      long start = System.nanoTime();
+      // the first records are read again to measure their bytes so the
+      // cached data is only consumed as it is read for the other modes
+      boolean consuming = (analysisMode != FIRST_RECORDS);
+      // check if we need to auto-detect the media type
+      try (InputStream is = dataCache.getInputStream(consuming);
+          CountingInputStream cis = new CountingInputStream(is);
+          InputStreamReader isr = new InputStreamReader(cis, charset);
+          BufferedReader br = new BufferedReader(isr)) {
+        // if format is null then RecordReader will auto-detect
+        RecordReader recordReader = (lineBased)
+            ? null : new RecordReader(null, br);
+        RecordReader.Format format = (lineBased)
+            ? detectedFormat : recordReader.getFormat();
+
+        if (!lineBased) {
+          this.verifyBulkDataFormat(specifiedMediaType,
+              bulkDataSet.getFormat(),
+              recordReader.getFormat(),
+              uriInfo,
+              timers);
+        }
+
+        bulkDataSet.setFormat(format);
         debugLog("Analyze bulk data format: " + bulkDataSet.getFormat());
 
         if (bulkDataSet.getFormat() != null) {
@@ -225,29 +377,92 @@ public interface BulkDataSupport extends ServicesSupport {
           dataAnalysis.setMediaType(null);
         }
 
+        // the line-based modes need the raw lines so start progress updates now
         ProgressUpdater<SzBulkDataAnalysisResponse> progressUpdater = null;
+        if ((progressNanos != null) && lineBased
+            && (eventBuilder != null || webSocketSession != null)) {
+          progressUpdater = this.startAnalysisProgressUpdater(provider,
+              timers,
+              uriInfo,
+              dataAnalysis,
+              progressNanos,
+              progressState,
+              sseEventSink,
+              eventBuilder,
+              webSocketSession);
+        }
         try {
-          for (JsonObject record = recordReader.readRecord(); (record != null); record = recordReader.readRecord()) {
-            String dataSrc = JsonUtilities.getString(record, "DATA_SOURCE");
-            String recordId = JsonUtilities.getString(record, "RECORD_ID");
-            dataAnalysis.trackRecord(dataSrc, recordId);
+          switch (analysisMode) {
+            case PARALLEL:
+              this.analyzeRecordsInParallel(
+                  provider, br, format, dataAnalysis);
+              break;
 
-            // check if the progress period has expired
-            if ((progressNanos != null) && (progressUpdater == null)
-                && (eventBuilder != null || webSocketSession != null)) {
-              progressState.setStartTime(System.nanoTime());
-              Supplier<SzBulkDataAnalysisResponse> supplier = () -> {
-                return this.newBulkDataAnalysisResponse(
-                    POST, 200, uriInfo, timers, dataAnalysis);
-              };
-              progressUpdater = new ProgressUpdater<>(progressNanos,
-                  progressState,
-                  progressState, // monitor
-                  supplier,
-                  sseEventSink,
-                  eventBuilder,
-                  webSocketSession);
-              progressUpdater.start();
+            case RESERVOIR: {
+              long recordCount = this.analyzeReservoirSample(
+                  br, format, sampleLimit, dataAnalysis);
+              this.applySampleEstimates(dataAnalysis, recordCount, true);
+              break;
+            }
+
+            case BYTE_RANGES: {
+              long totalBytes = this.waitForUploadSize(dataCache, uploadCounter);
+              long recordCount = this.analyzeByteRangeSample(
+                  cis, charset, format, sampleLimit, totalBytes, dataAnalysis);
+              this.applySampleEstimates(dataAnalysis, recordCount, true);
+              break;
+            }
+
+            default: {
+              int limit = (analysisMode == FIRST_RECORDS) ? sampleLimit : -1;
+              boolean truncated = false;
+              for (JsonObject record = recordReader.readRecord(); (record != null); record = recordReader.readRecord()) {
+                if (limit > 0 && dataAnalysis.getRecordCount() >= limit) {
+                  truncated = true;
+                  break;
+                }
+                String dataSrc = JsonUtilities.getString(record, "DATA_SOURCE");
+                String recordId = JsonUtilities.getString(record, "RECORD_ID");
+                dataAnalysis.trackRecord(dataSrc, recordId);
+
+                // check if the progress period has expired
+                if ((progressNanos != null) && (progressUpdater == null)
+                    && (eventBuilder != null || webSocketSession != null)) {
+                  progressUpdater = this.startAnalysisProgressUpdater(provider,
+                      timers,
+                      uriInfo,
+                      dataAnalysis,
+                      progressNanos,
+                      progressState,
+                      sseEventSink,
+                      eventBuilder,
+                      webSocketSession);
+                }
+              }
+
+              // estimate the total record count from the bytes consumed by
+              // the sampled records (the stream count includes read-ahead)
+              if (analysisMode == FIRST_RECORDS) {
+                long recordCount = dataAnalysis.getRecordCount();
+                if (truncated) {
+                  long totalBytes
+                      = this.waitForUploadSize(dataCache, uploadCounter);
+                  long estimate;
+                  try (InputStream sampleStream = dataCache.getInputStream()) {
+                    estimate = this.estimateFirstRecordsCount(
+                        sampleStream, charset, format, recordCount, totalBytes);
+                  }
+                  long consumedBytes = cis.getCount();
+                  if (estimate >= 0L) {
+                    recordCount = estimate;
+                  } else if (consumedBytes > 0L) {
+                    recordCount = Math.round(
+                        ((double) recordCount) * totalBytes / consumedBytes);
+                  }
+                }
+                dataCache.delete();
+                this.applySampleEstimates(dataAnalysis, recordCount, false);
+              }
             }
           }
         } finally {
@@ -296,6 +511,643 @@ public interface BulkDataSupport extends ServicesSupport {
         response);
   }
 
+  /**
+   * Creates and starts the {@link ProgressUpdater} for sending progress
+   * updates for a bulk data analysis.
+   *
+   * @param provider         The {@link SzApiProvider} to use.
+   * @param timers           The {@link Timers} for the operation.
+   * @param uriInfo          The {@link UriInfo} for the operation.
+   * @param dataAnalysis     The {@link SzBulkDataAnalysis} being populated.
+   * @param progressNanos    The number of nanoseconds between updates.
+   * @param progressState    The {@link ProgressState} for the operation.
+   * @param sseEventSink     The {@link SseEventSink} if using SSE, otherwise
+   *                         <tt>null</tt>.
+   * @param eventBuilder     The SSE event builder if using SSE, otherwise
+   *                         <tt>null</tt>.
+   * @param webSocketSession The Web Socket {@link Session} if using Web
+   *                         Sockets, otherwise <tt>null</tt>.
+   * @return The {@link ProgressUpdater} that was started.
+   */
+  default ProgressUpdater<SzBulkDataAnalysisResponse> startAnalysisProgressUpdater(
+      SzApiProvider provider,
+      Timers timers,
+      UriInfo uriInfo,
+      SzBulkDataAnalysis dataAnalysis,
+      long progressNanos,
+      ProgressState progressState,
+      SseEventSink sseEventSink,
+      OutboundSseEvent.Builder eventBuilder,
+      Session webSocketSession) {
+    progressState.setStartTime(System.nanoTime());
+    Supplier<SzBulkDataAnalysisResponse> supplier = () -> {
+      return this.newBulkDataAnalysisResponse(
+          POST, 200, uriInfo, timers, dataAnalysis);
+    };
+    ProgressUpdater<SzBulkDataAnalysisResponse> progressUpdater
+        = new ProgressUpdater<>(
+            provider.getThreadFactory(),
+            progressNanos,
+            progressState,
+            progressState, // monitor
+            supplier,
+            sseEventSink,
+            eventBuilder,
+            webSocketSession);
+    progressUpdater.start();
+    return progressUpdater;
+  }
+
+  /**
+   * Resolves the specified {@link SzBulkDataAnalysisMode} to the mode that
+   * can actually be used for the specified format and character encoding.
+   * JSON array data cannot be split into lines, so {@link
+   * SzBulkDataAnalysisMode#PARALLEL} and {@link
+   * SzBulkDataAnalysisMode#RESERVOIR} fall back to {@link
+   * SzBulkDataAnalysisMode#FULL} and {@link
+   * SzBulkDataAnalysisMode#BYTE_RANGES} falls back to {@link
+   * SzBulkDataAnalysisMode#FIRST_RECORDS} (as it also does if the character
+   * encoding is not ASCII-compatible).
+   *
+   * @param analysisMode The requested {@link SzBulkDataAnalysisMode}.
+   * @param format       The detected {@link RecordReader.Format}.
+   * @param charset      The character encoding of the bulk data.
+   * @return The {@link SzBulkDataAnalysisMode} to actually use.
+   */
+  default SzBulkDataAnalysisMode resolveAnalysisMode(
+      SzBulkDataAnalysisMode  analysisMode,
+      RecordReader.Format     format,
+      String                  charset)
+  {
+    boolean lineBased = (format == JSON_LINES || format == CSV);
+    switch (analysisMode) {
+      case PARALLEL:
+      case RESERVOIR:
+        return (lineBased) ? analysisMode : SzBulkDataAnalysisMode.FULL;
+      case BYTE_RANGES:
+        byte[] newLine = "\n".getBytes(Charset.forName(charset));
+        return (lineBased && Arrays.equals(newLine, new byte[] { '\n' }))
+            ? analysisMode : FIRST_RECORDS;
+      default:
+        return analysisMode;
+    }
+  }
+
+  /**
+   * Analyzes every record of the JSON-lines or CSV bulk data read from the
+   * specified {@link BufferedReader} by partitioning the lines into batches
+   * of {@link #ANALYSIS_BATCH_SIZE} records that are each analyzed into their
+   * own {@link SzBulkDataAnalysis} on the {@linkplain
+   * SzApiProvider#getAuxiliaryExecutor() shared auxiliary threads}, using at
+   * most one thread per available processor.  Each
+   * completed batch is merged into the specified {@link SzBulkDataAnalysis}
+   * so that it is only locked once per batch rather than once per record.
+   * The number of batches in flight is bounded so that the bulk data is not
+   * read into memory faster than it can be analyzed.
+   *
+   * @param provider     The {@link SzApiProvider} to use.
+   * @param reader       The {@link BufferedReader} for reading the bulk data.
+   * @param format       The {@link RecordReader.Format} of the bulk data.
+   * @param dataAnalysis The {@link SzBulkDataAnalysis} to merge the results
+   *                     into.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default void analyzeRecordsInParallel(SzApiProvider       provider,
+                                        BufferedReader      reader,
+                                        RecordReader.Format format,
+                                        SzBulkDataAnalysis  dataAnalysis)
+      throws IOException
+  {
+    String header = (format == CSV)
+        ? this.readLogicalRecord(reader, format) : null;
+
+    int concurrency = Math.max(1, Runtime.getRuntime().availableProcessors());
+    int maxPending  = concurrency * 2;
+    try (BoundedExecutor executor
+             = this.newBoundedExecutor(provider, concurrency))
+    {
+      Deque<Future<SzBulkDataAnalysis>> pending = new LinkedList<>();
+      List<String> batch = new ArrayList<>(ANALYSIS_BATCH_SIZE);
+      String record = this.readLogicalRecord(reader, format);
+      while (record != null || batch.size() > 0) {
+        if (record != null) {
+          batch.add(record);
+          record = this.readLogicalRecord(reader, format);
+          if (record != null && batch.size() < ANALYSIS_BATCH_SIZE) continue;
+        }
+        List<String> records = batch;
+        pending.add(executor.submit(
+            () -> this.analyzeRecordLines(format, header, records)));
+        batch = new ArrayList<>(ANALYSIS_BATCH_SIZE);
+
+        while (pending.size() >= maxPending) {
+          this.mergeAnalysis(pending.removeFirst(), dataAnalysis);
+        }
+      }
+      while (pending.size() > 0) {
+        this.mergeAnalysis(pending.removeFirst(), dataAnalysis);
+      }
+    }
+  }
+
+  /**
+   * Waits for the {@link SzBulkDataAnalysis} from the specified {@link
+   * Future} and merges it into the specified {@link SzBulkDataAnalysis}.
+   *
+   * @param future       The {@link Future} for the batch analysis.
+   * @param dataAnalysis The {@link SzBulkDataAnalysis} to merge into.
+   */
+  default void mergeAnalysis(Future<SzBulkDataAnalysis> future,
+                             SzBulkDataAnalysis         dataAnalysis)
+  {
+    try {
+      dataAnalysis.mergeAnalysis(future.get());
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException(e);
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw new RuntimeException(cause);
+    }
+  }
+
+  /**
+   * Scans every record of the JSON-lines or CSV bulk data read from the
+   * specified {@link BufferedReader} without parsing it and retains a uniform
+   * random sample of up to the specified number of records (i.e.: reservoir
+   * sampling) which is then analyzed into the specified {@link
+   * SzBulkDataAnalysis}.  The {@linkplain
+   * SzBulkDataAnalysis#setEstimatedRecordCount(Long) estimated record count}
+   * is updated with the number of records scanned so far as the scan
+   * progresses.
+   *
+   * @param reader       The {@link BufferedReader} for reading the bulk data.
+   * @param format       The {@link RecordReader.Format} of the bulk data.
+   * @param sampleSize   The maximum number of records to sample.
+   * @param dataAnalysis The {@link SzBulkDataAnalysis} to populate.
+   * @return The total number of records in the bulk data.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default long analyzeReservoirSample(BufferedReader      reader,
+                                      RecordReader.Format format,
+                                      int                 sampleSize,
+                                      SzBulkDataAnalysis  dataAnalysis)
+      throws IOException
+  {
+    String header = (format == CSV)
+        ? this.readLogicalRecord(reader, format) : null;
+
+    List<String> reservoir = new ArrayList<>(Math.min(sampleSize, 100000));
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long recordCount = 0L;
+    for (String record = this.readLogicalRecord(reader, format);
+         record != null;
+         record = this.readLogicalRecord(reader, format))
+    {
+      recordCount++;
+      if (reservoir.size() < sampleSize) {
+        reservoir.add(record);
+      } else {
+        long index = random.nextLong(recordCount);
+        if (index < sampleSize) reservoir.set((int) index, record);
+      }
+      if (recordCount % ANALYSIS_BATCH_SIZE == 0L) {
+        dataAnalysis.setEstimatedRecordCount(recordCount);
+      }
+    }
+
+    dataAnalysis.mergeAnalysis(
+        this.analyzeRecordLines(format, header, reservoir));
+
+    return recordCount;
+  }
+
+  /**
+   * Samples the records of the JSON-lines or CSV bulk data read from the
+   * specified {@link InputStream} from {@link #ANALYSIS_BYTE_RANGE_COUNT}
+   * evenly spaced byte ranges and analyzes them into the specified {@link
+   * SzBulkDataAnalysis}.  The bytes between the ranges are skipped without
+   * being decoded or parsed.  The partial line at the start of each range is
+   * discarded and any sampled records that cannot be parsed are ignored.  If
+   * a CSV record is found to span multiple lines then a skipped range cannot
+   * be reliably realigned to the start of a record, so the remaining records
+   * are sampled contiguously and the estimate is based on the bytes consumed.
+   *
+   * @param inputStream  The {@link InputStream} for reading the bulk data.
+   * @param charset      The ASCII-compatible character encoding of the data.
+   * @param format       The {@link RecordReader.Format} of the bulk data.
+   * @param sampleSize   The maximum number of records to sample.
+   * @param totalBytes   The total number of bytes in the bulk data.
+   * @param dataAnalysis The {@link SzBulkDataAnalysis} to populate.
+   * @return The estimated total number of records in the bulk data.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default long analyzeByteRangeSample(InputStream         inputStream,
+                                      String              charset,
+                                      RecordReader.Format format,
+                                      int                 sampleSize,
+                                      long                totalBytes,
+                                      SzBulkDataAnalysis  dataAnalysis)
+      throws IOException
+  {
+    InputStream in = new BufferedInputStream(inputStream);
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    long position = 0L;
+    long headerBytes = 0L;
+    String header = null;
+    if (format == CSV) {
+      int length = this.readByteLine(in, buffer);
+      if (length < 0) return 0L;
+      position += length;
+      headerBytes = length;
+      header = this.stripByteOrderMark(buffer.toString(charset).trim());
+    }
+
+    int rangeCount = Math.min(ANALYSIS_BYTE_RANGE_COUNT, sampleSize);
+    int perRange = (sampleSize + rangeCount - 1) / rangeCount;
+
+    List<String> records = new ArrayList<>(Math.min(sampleSize, 100000));
+    long sampledBytes = 0L;
+    boolean skipped = false;
+    boolean multiLine = false;
+    boolean eof = false;
+    for (int index = 0; index < rangeCount && !eof; index++) {
+      long offset = headerBytes
+          + (((totalBytes - headerBytes) * index) / rangeCount);
+      if (offset > position && !multiLine) {
+        skipped = true;
+        position += this.skipBytes(in, offset - position);
+
+        // discard the partial line at the start of the range
+        int length = this.readByteLine(in, buffer);
+        if (length < 0) break;
+        position += length;
+      }
+      for (int count = 0; count < perRange && records.size() < sampleSize; ) {
+        int length = this.readByteRecord(in, buffer, format);
+        if (length < 0) {
+          eof = true;
+          break;
+        }
+        position += length;
+        String record
+            = this.stripByteOrderMark(buffer.toString(charset).trim());
+        if (record.length() == 0) continue;
+        if (record.indexOf('\n') >= 0) multiLine = true;
+        records.add(record);
+        sampledBytes += length;
+        count++;
+      }
+    }
+
+    dataAnalysis.mergeAnalysis(
+        this.analyzeSampledRecords(format, header, records));
+
+    // check if every record was sampled
+    if (!skipped && eof) return records.size();
+    if (sampledBytes == 0L) return 0L;
+
+    return Math.round(((double) records.size())
+                          * (totalBytes - headerBytes) / sampledBytes);
+  }
+
+  /**
+   * Analyzes the specified JSON-lines or CSV records (each of which is the
+   * text for a single record) into a new {@link SzBulkDataAnalysis}.
+   *
+   * @param format  The {@link RecordReader.Format} of the records.
+   * @param header  The CSV header line, or <tt>null</tt> if not CSV.
+   * @param records The {@link List} of record text to analyze.
+   * @return The new {@link SzBulkDataAnalysis} for the records.
+   */
+  default SzBulkDataAnalysis analyzeRecordLines(RecordReader.Format  format,
+                                                String               header,
+                                                List<String>         records)
+  {
+    StringBuilder sb = new StringBuilder();
+    if (header != null) sb.append(header).append('\n');
+    for (String record : records) {
+      sb.append(record).append('\n');
+    }
+
+    SzBulkDataAnalysis analysis = this.newBulkDataAnalysis();
+    try {
+      RecordReader recordReader
+          = new RecordReader(format, new StringReader(sb.toString()));
+      for (JsonObject record = recordReader.readRecord(); (record != null); record = recordReader.readRecord()) {
+        String dataSrc = JsonUtilities.getString(record, "DATA_SOURCE");
+        String recordId = JsonUtilities.getString(record, "RECORD_ID");
+        analysis.trackRecord(dataSrc, recordId);
+      }
+    } catch (IOException e) {
+      // should not happen when reading from a string
+      throw new IllegalStateException(e);
+    }
+    return analysis;
+  }
+
+  /**
+   * Analyzes the specified sampled JSON-lines or CSV records into a new
+   * {@link SzBulkDataAnalysis}, ignoring any individual records that cannot
+   * be parsed.
+   *
+   * @param format  The {@link RecordReader.Format} of the records.
+   * @param header  The CSV header line, or <tt>null</tt> if not CSV.
+   * @param records The {@link List} of record text to analyze.
+   * @return The new {@link SzBulkDataAnalysis} for the records.
+   */
+  default SzBulkDataAnalysis analyzeSampledRecords(RecordReader.Format  format,
+                                                   String               header,
+                                                   List<String>         records)
+  {
+    try {
+      return this.analyzeRecordLines(format, header, records);
+
+    } catch (RuntimeException e) {
+      // fall back to analyzing the records one at a time
+      SzBulkDataAnalysis analysis = this.newBulkDataAnalysis();
+      for (String record : records) {
+        try {
+          analysis.mergeAnalysis(this.analyzeRecordLines(
+              format, header, Collections.singletonList(record)));
+
+        } catch (RuntimeException ignore) {
+          debugLog("IGNORING UNPARSEABLE SAMPLED RECORD: " + record);
+        }
+      }
+      return analysis;
+    }
+  }
+
+  /**
+   * Reads the text of the next non-blank record from the specified
+   * JSON-lines or CSV {@link BufferedReader}.  For CSV a record may span
+   * multiple lines if a quoted value contains line breaks.
+   *
+   * @param reader The {@link BufferedReader} to read from.
+   * @param format The {@link RecordReader.Format} of the data.
+   * @return The text of the next record, or <tt>null</tt> if there are no
+   *         more records.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default String readLogicalRecord(BufferedReader       reader,
+                                   RecordReader.Format  format)
+      throws IOException
+  {
+    StringBuilder sb = null;
+    int quoteCount = 0;
+    for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+      if (sb == null) {
+        line = this.stripByteOrderMark(line);
+        if (line.trim().length() == 0) continue;
+        sb = new StringBuilder(line);
+      } else {
+        sb.append('\n').append(line);
+      }
+      if (format != CSV) break;
+
+      // a CSV record is complete once its quotes are balanced
+      for (int index = 0; index < line.length(); index++) {
+        if (line.charAt(index) == '"') quoteCount++;
+      }
+      if (quoteCount % 2 == 0) break;
+    }
+    return (sb == null) ? null : sb.toString();
+  }
+
+  /**
+   * Reads the bytes of the next line (excluding the line feed) from the
+   * specified {@link InputStream} into the specified {@link
+   * ByteArrayOutputStream} after resetting it.
+   *
+   * @param in     The {@link InputStream} to read from.
+   * @param buffer The {@link ByteArrayOutputStream} to read the line into.
+   * @return The number of bytes consumed including the line feed, or
+   *         negative one (-1) if at the end of the stream.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default int readByteLine(InputStream in, ByteArrayOutputStream buffer)
+      throws IOException
+  {
+    buffer.reset();
+    int count = 0;
+    for (int b = in.read(); b >= 0; b = in.read()) {
+      count++;
+      if (b == '\n') return count;
+      buffer.write(b);
+    }
+    return (count == 0) ? -1 : count;
+  }
+
+  /**
+   * Reads the bytes of the next record from the specified {@link InputStream}
+   * into the specified {@link ByteArrayOutputStream} after resetting it.  For
+   * JSON-lines this is a single line, but a CSV record continues across line
+   * feeds until its quotes are balanced.
+   *
+   * @param in     The {@link InputStream} to read from.
+   * @param buffer The {@link ByteArrayOutputStream} to read the record into.
+   * @param format The {@link RecordReader.Format} of the data.
+   * @return The number of bytes consumed including the line feeds, or
+   *         negative one (-1) if at the end of the stream.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default int readByteRecord(InputStream            in,
+                             ByteArrayOutputStream  buffer,
+                             RecordReader.Format    format)
+      throws IOException
+  {
+    buffer.reset();
+    int count = 0;
+    int quoteCount = 0;
+    for (int b = in.read(); b >= 0; b = in.read()) {
+      count++;
+      if (b == '"') quoteCount++;
+      if (b == '\n' && (format != CSV || quoteCount % 2 == 0)) return count;
+      buffer.write(b);
+    }
+    return (count == 0) ? -1 : count;
+  }
+
+  /**
+   * Skips the specified number of bytes from the specified {@link
+   * InputStream} unless the end of the stream is reached first.
+   *
+   * @param in    The {@link InputStream} to skip bytes from.
+   * @param count The number of bytes to skip.
+   * @return The number of bytes actually skipped.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default long skipBytes(InputStream in, long count) throws IOException {
+    long total = 0L;
+    while (total < count) {
+      long skipped = in.skip(count - total);
+      if (skipped <= 0L) {
+        // check for the end of stream
+        if (in.read() < 0) break;
+        skipped = 1L;
+      }
+      total += skipped;
+    }
+    return total;
+  }
+
+  /**
+   * Removes the leading byte order mark (if any) from the specified text.
+   *
+   * @param text The text from which to remove the byte order mark.
+   * @return The text without the byte order mark.
+   */
+  default String stripByteOrderMark(String text) {
+    return (text.length() > 0 && text.charAt(0) == '\uFEFF')
+        ? text.substring(1) : text;
+  }
+
+  /**
+   * Waits for the specified {@link TemporaryDataCache} to finish appending
+   * the uploaded data and returns the total number of bytes uploaded as
+   * recorded by the specified {@link CountingInputStream}.
+   *
+   * @param dataCache     The {@link TemporaryDataCache} for the upload.
+   * @param uploadCounter The {@link CountingInputStream} wrapping the upload.
+   * @return The total number of bytes uploaded.
+   */
+  default long waitForUploadSize(TemporaryDataCache   dataCache,
+                                 CountingInputStream  uploadCounter)
+  {
+    try {
+      dataCache.waitUntilAppendingComplete();
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return uploadCounter.getCount();
+  }
+
+  /**
+   * Estimates the total number of records in the bulk data read from the
+   * specified {@link InputStream} from the number of bytes occupied by the
+   * specified number of leading records that were analyzed.  The bytes are
+   * scanned without parsing the records so that the estimate is not skewed
+   * by the read-ahead of the record parser, but this requires a character
+   * encoding in which a line feed, a quote and braces are single ASCII bytes.
+   *
+   * @param in          The {@link InputStream} positioned at the start of the
+   *                    bulk data.
+   * @param charset     The character encoding of the bulk data.
+   * @param format      The {@link RecordReader.Format} of the bulk data.
+   * @param recordCount The number of leading records that were analyzed.
+   * @param totalBytes  The total number of bytes in the bulk data.
+   * @return The estimated total number of records, or negative one (-1) if
+   *         the leading records cannot be measured for the character
+   *         encoding.
+   * @throws IOException If an I/O failure occurs.
+   */
+  default long estimateFirstRecordsCount(InputStream          in,
+                                         String               charset,
+                                         RecordReader.Format  format,
+                                         long                 recordCount,
+                                         long                 totalBytes)
+      throws IOException
+  {
+    byte[] newLine = "\n".getBytes(Charset.forName(charset));
+    if (!Arrays.equals(newLine, new byte[] { '\n' })) return -1L;
+
+    InputStream bis = new BufferedInputStream(in);
+    long headerBytes = 0L;
+    long recordBytes = 0L;
+    long count = 0L;
+    if (format == JSON) {
+      // count the objects closed directly within the top-level array
+      int depth = 0;
+      boolean quoted = false;
+      boolean escaped = false;
+      for (int b = bis.read(); b >= 0 && count < recordCount; b = bis.read()) {
+        if (depth == 0) headerBytes++;
+        else recordBytes++;
+        if (escaped) {
+          escaped = false;
+        } else if (quoted) {
+          if (b == '\\') escaped = true;
+          else if (b == '"') quoted = false;
+        } else if (b == '"') {
+          quoted = true;
+        } else if (b == '[' || b == '{') {
+          depth++;
+        } else if (b == ']' || b == '}') {
+          depth--;
+          if (b == '}' && depth == 1) count++;
+        }
+      }
+
+    } else {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      if (format == CSV) {
+        int length = this.readByteLine(bis, buffer);
+        if (length < 0) return 0L;
+        headerBytes = length;
+      }
+      while (count < recordCount) {
+        int length = this.readByteRecord(bis, buffer, format);
+        if (length < 0) break;
+        recordBytes += length;
+        if (buffer.toString(charset).trim().length() > 0) count++;
+      }
+    }
+    if (recordBytes == 0L) return count;
+
+    return Math.round(((double) count) * (totalBytes - headerBytes)
+                          / recordBytes);
+  }
+
+  /**
+   * Sets the {@linkplain SzBulkDataAnalysis#setEstimatedRecordCount(Long)
+   * estimated record count} on the specified {@link SzBulkDataAnalysis} whose
+   * record counts describe a sample of the bulk data.  If the sample is
+   * random then the {@linkplain SzBulkDataAnalysis#setMarginOfError(Double)
+   * margin of error} is also set as the largest 95% confidence margin of
+   * error for the proportion of records belonging to any one data source,
+   * including the finite population correction.  A sample of the first
+   * records is biased towards the ordering of the bulk data, so no margin of
+   * error is reported for it.
+   *
+   * @param dataAnalysis The {@link SzBulkDataAnalysis} describing the sample.
+   * @param recordCount  The estimated total number of records.
+   * @param randomSample <tt>true</tt> if the records were sampled randomly,
+   *                     otherwise <tt>false</tt>.
+   */
+  default void applySampleEstimates(SzBulkDataAnalysis  dataAnalysis,
+                                    long                recordCount,
+                                    boolean             randomSample)
+  {
+    int sampleCount = dataAnalysis.getRecordCount();
+    long population = Math.max(recordCount, sampleCount);
+    dataAnalysis.setEstimatedRecordCount(population);
+    if (sampleCount == 0 || !randomSample) {
+      dataAnalysis.setMarginOfError(null);
+      return;
+    }
+
+    double correction = (population > 1L)
+        ? Math.sqrt(((double) (population - sampleCount)) / (population - 1L))
+        : 0.0;
+
+    double marginOfError = 0.0;
+    for (SzDataSourceRecordAnalysis dsrc
+        : dataAnalysis.getAnalysisByDataSource())
+    {
+      double p = ((double) dsrc.getRecordCount()) / sampleCount;
+      double margin = CONFIDENCE_95_Z_SCORE
+          * Math.sqrt(p * (1.0 - p) / sampleCount) * correction;
+      marginOfError = Math.max(marginOfError, margin);
+    }
+    dataAnalysis.setMarginOfError(marginOfError);
+  }
+
   /**
    * Creates a new instance of {@link SzBulkDataAnalysisResponse} with the
    * following parameters.
@@ -328,7 +1180,18 @@ public interface BulkDataSupport extends ServicesSupport {
   }
 
   /**
-   * Loads the records found in the bulk data.
+   * Creates a new instance of {@link SzBulkLoadResultAccumulator} for
+   * tracking the results of a bulk load from multiple threads and returns it.
+   *
+   * @return The new instance of {@link SzBulkLoadResultAccumulator}.
+   */
+  default SzBulkLoadResultAccumulator newBulkLoadResultAccumulator() {
+    return new SzBulkLoadResultAccumulator();
+  }
+
+  /**
+   * Loads the records found in the bulk data without resuming from a
+   * previous checkpoint.
    */
   default SzBulkLoadResponse loadBulkRecords(
       SzApiProvider provider,
@@ -346,13 +1209,91 @@ public interface BulkDataSupport extends ServicesSupport {
       SseEventSink sseEventSink,
       Sse sse,
       Session webSocketSession) {
-    MediaType specifiedMediaType = mediaType;
-
-    // check if the media type is null
-    if (mediaType == null)
-      mediaType = TEXT_PLAIN_TYPE;
-
-    // convert the progress period to nanoseconds
+    return this.loadBulkRecords(provider,
+        timers,
+        dataSource,
+        mapDataSources,
+        mapDataSourceList,
+        explicitLoadId,
+        maxFailures,
+        false,
+        null,
+        null,
+        null,
+        mediaType,
+        dataInputStream,
+        fileMetaData,
+        uriInfo,
+        progressPeriod,
+        sseEventSink,
+        sse,
+        webSocketSession);
+  }
+
+  /**
+   * Loads the records found in the bulk data.  If the provider has a
+   * {@linkplain SzApiProvider#getBulkLoadCheckpointDirectory() checkpoint
+   * directory} then a {@link BulkLoadCheckpoint} is periodically persisted
+   * for the load ID, and if resuming then the records up to the checkpoint
+   * for the explicitly specified load ID are skipped.  If the dispatch mode
+   * is {@link SzBulkLoadDispatchMode#PARTITIONED} then the records are
+   * dispatched to a {@link PartitionedDispatcher} keyed by their {@linkplain
+   * #getAffinityKey(JsonObject, String) affinity key} rather than to any
+   * free worker.  If the provider has a {@linkplain
+   * SzApiProvider#getLoadThrottle() load throttle} then each record is
+   * admitted by the budgets for its data source and the specified client
+   * before it is handed off to be loaded.
+   */
+  default SzBulkLoadResponse loadBulkRecords(
+      SzApiProvider provider,
+      Timers timers,
+      String dataSource,
+      String mapDataSources,
+      List<String> mapDataSourceList,
+      String explicitLoadId,
+      int maxFailures,
+      boolean resume,
+      SzBulkLoadDispatchMode dispatchMode,
+      String affinityKey,
+      String clientId,
+      MediaType mediaType,
+      InputStream dataInputStream,
+      FormDataContentDisposition fileMetaData,
+      UriInfo uriInfo,
+      Long progressPeriod,
+      SseEventSink sseEventSink,
+      Sse sse,
+      Session webSocketSession) {
+    MediaType specifiedMediaType = mediaType;
+
+    // check if resuming is possible
+    File checkpointDir = provider.getBulkLoadCheckpointDirectory();
+    if (resume && checkpointDir == null) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "Bulk loads cannot be resumed unless the Senzing API Server is "
+              + "started with a bulk-load checkpoint directory.");
+    }
+    if (resume && explicitLoadId == null) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The load ID must be specified to resume a bulk load.");
+    }
+
+    // check if the records should be dispatched to partitions
+    boolean partitioned = (dispatchMode == SzBulkLoadDispatchMode.PARTITIONED);
+    if (affinityKey != null && !partitioned) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The affinityKey parameter can only be specified with the "
+              + SzBulkLoadDispatchMode.PARTITIONED + " dispatch mode.");
+    }
+
+    // check if the media type is null
+    if (mediaType == null)
+      mediaType = TEXT_PLAIN_TYPE;
+
+    // convert the progress period to nanoseconds
     Long progressNanos = (progressPeriod == null)
         ? null
         : progressPeriod * 1000000L;
@@ -361,8 +1302,8 @@ public interface BulkDataSupport extends ServicesSupport {
 
     ProgressState progressState = new ProgressState();
 
-    SzBulkLoadResult bulkLoadResult = synchronizedProxy(
-        SzBulkLoadResult.class, this.newBulkLoadResult(), progressState);
+    SzBulkLoadResultAccumulator bulkLoadResult
+        = this.newBulkLoadResultAccumulator();
 
     // populate the data source map
     Map<String, String> dataSourceMap = new HashMap<>();
@@ -387,16 +1328,53 @@ public interface BulkDataSupport extends ServicesSupport {
           ? formatLoadId(dataCache, fileMetaData)
           : explicitLoadId;
 
-      int concurrency = provider.getConcurrency();
-      AsyncWorkerPool<AddRecordResult> asyncPool = new AsyncWorkerPool<>(loadId, concurrency);
+      // archives are not checkpointed so they cannot be resumed
+      if (resume && bulkDataSet.isArchive()) {
+        dataCache.delete();
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Bulk loads of ZIP archives cannot be resumed.");
+      }
 
-      List<Timers> timerPool = new ArrayList<>(concurrency);
-      for (int index = 0; index < concurrency; index++) {
-        timerPool.add(new Timers());
+      // log the failed records if configured
+      BulkLoadErrorLog errorLog
+          = this.openErrorLog(provider, loadId, bulkLoadResult);
+
+      // load the entries of an archive in parallel
+      if (bulkDataSet.isArchive()) {
+        try {
+          return this.loadBulkArchive(provider,
+              timers,
+              dataSourceMap,
+              loadId,
+              maxFailures,
+              affinityKey,
+              clientId,
+              dataCache,
+              uriInfo,
+              progressNanos,
+              eventBuilder,
+              sseEventSink,
+              webSocketSession,
+              progressState,
+              bulkLoadResult);
+        } finally {
+          if (errorLog != null) errorLog.close();
+          dataCache.delete();
+        }
+      }
+
+      // create or read the checkpoint if checkpointing
+      BulkLoadCheckpoint checkpoint = null;
+      if (checkpointDir != null) {
+        checkpoint = (resume)
+            ? BulkLoadCheckpoint.resume(checkpointDir, loadId)
+            : new BulkLoadCheckpoint(checkpointDir, loadId, 0L, 0L);
       }
 
       // check if we need to auto-detect the media type
-      try (InputStream is = dataCache.getInputStream(true);
+      try (CountingInputStream is = new CountingInputStream(
+              dataCache.getInputStream(true));
           InputStreamReader isr = new InputStreamReader(is, charset);
           BufferedReader br = new BufferedReader(isr)) {
         // if format is null then RecordReader will auto-detect
@@ -418,21 +1396,71 @@ public interface BulkDataSupport extends ServicesSupport {
         bulkLoadResult.setCharacterEncoding(charset);
         bulkLoadResult.setMediaType(bulkDataSet.getFormat().getMediaType());
 
+        // skip the records that were acknowledged before the checkpoint,
+        // verifying they are the same records that were acknowledged
+        long skipCount = (checkpoint == null) ? 0L : checkpoint.getRecordCount();
+        long skippedCount = 0L;
+        long skippedHash = BulkLoadCheckpoint.INITIAL_HASH;
+        for (; skippedCount < skipCount; skippedCount++) {
+          JsonObject record = recordReader.readRecord();
+          if (record == null) break;
+          skippedHash = BulkLoadCheckpoint.hashRecord(
+              skippedHash, JsonUtilities.toJsonText(record));
+        }
+        if (checkpoint != null
+            && !checkpoint.verifyResume(skippedCount, skippedHash))
+        {
+          throw this.newConflictException(
+              POST, uriInfo, timers,
+              "The bulk data does not match the checkpoint for load ID ("
+                  + loadId + "): the first " + skipCount + " records differ "
+                  + "from those that were loaded before the checkpoint.");
+        }
+        if (skipCount > 0L) {
+          debugLog("Resuming bulk load (" + loadId + ") after "
+                       + skipCount + " records");
+        }
+
         boolean concurrent = false;
         boolean done = false;
         List<JsonObject> first1000Records = new LinkedList<>();
+        List<Long> first1000Offsets = new LinkedList<>();
+
+        int concurrency = provider.getConcurrency();
 
+        // the timers are pooled for the async workers or one per partition
+        List<Timers> timerPool = new ArrayList<>(concurrency);
+        for (int index = 0; index < concurrency; index++) {
+          timerPool.add(new Timers());
+        }
+
+        // dispatch to partitions if requested, otherwise to any free worker,
+        // starting the threads only once nothing can fail before the try
+        // block that stops them
+        PartitionedDispatcher dispatcher = null;
+        AsyncWorkerPool<AddRecordResult> asyncPool = null;
         boolean aborted = false;
         ProgressUpdater<SzBulkLoadResponse> progressUpdater = null;
         try {
+          if (partitioned) {
+            dispatcher = new PartitionedDispatcher(
+                provider.getThreadFactory(), "sz-bulk-load", concurrency);
+            bulkLoadResult.setPartitionSupplier(dispatcher::getPartitions);
+          } else {
+            asyncPool = new AsyncWorkerPool<>(loadId, concurrency);
+          }
+
           // loop through the records and handle each record
           while (!done) {
             JsonObject record = null;
+            long byteOffset = 0L;
             if (concurrent && first1000Records.size() > 0) {
               // get the first record from the buffer of up to 1000 records
               record = first1000Records.remove(0);
+              byteOffset = first1000Offsets.remove(0);
             } else {
               record = recordReader.readRecord();
+              byteOffset = is.getCount();
             }
 
             // check if the record is null
@@ -445,6 +1473,7 @@ public interface BulkDataSupport extends ServicesSupport {
             if (!concurrent && first1000Records.size() <= 1000) {
               // add the record to the first-1000 cache
               first1000Records.add(record);
+              first1000Offsets.add(byteOffset);
 
               // check if we have more than 1000 records
               if (first1000Records.size() > 1000)
@@ -454,6 +1483,12 @@ public interface BulkDataSupport extends ServicesSupport {
               continue;
             }
 
+            // register the record with the checkpoint (if any)
+            final BulkLoadCheckpoint recordCheckpoint = checkpoint;
+            final long checkpointIndex = (checkpoint == null)
+                ? -1L : checkpoint.begin(
+                    byteOffset, JsonUtilities.toJsonText(record));
+
             // check if we have a data source
             String resolvedDS = JsonUtilities.getString(record, "DATA_SOURCE");
             if (resolvedDS == null || resolvedDS.trim().length() == 0) {
@@ -461,8 +1496,26 @@ public interface BulkDataSupport extends ServicesSupport {
                   + JsonUtilities.toJsonText(record));
 
               bulkLoadResult.trackIncompleteRecord(resolvedDS);
+              if (checkpoint != null) checkpoint.acknowledge(checkpointIndex);
+
+            } else if (dispatcher != null) {
+              // wait for the throttle in this thread so workers are not held
+              LoadThrottle.Permit permit = this.acquireBulkLoadPermit(
+                  provider, bulkLoadResult, resolvedDS, clientId);
+              this.dispatchRecord(dispatcher,
+                  provider,
+                  timerPool,
+                  record,
+                  loadId,
+                  affinityKey,
+                  bulkLoadResult,
+                  this.releasingLoadPermit(permit, (checkpoint == null) ? null
+                      : () -> recordCheckpoint.acknowledge(checkpointIndex)),
+                  this.releasingLoadPermit(permit, null));
 
             } else {
+              LoadThrottle.Permit permit = this.acquireBulkLoadPermit(
+                  provider, bulkLoadResult, resolvedDS, clientId);
               Timers subTimers = timerPool.remove(0);
               AsyncResult<AddRecordResult> asyncResult = null;
               try {
@@ -470,7 +1523,10 @@ public interface BulkDataSupport extends ServicesSupport {
                     provider,
                     subTimers,
                     record,
-                    loadId);
+                    loadId,
+                    this.releasingLoadPermit(permit, (checkpoint == null)
+                        ? null
+                        : () -> recordCheckpoint.acknowledge(checkpointIndex)));
 
               } finally {
                 this.trackLoadResult(asyncResult, bulkLoadResult);
@@ -497,7 +1553,9 @@ public interface BulkDataSupport extends ServicesSupport {
                 return this.newBulkLoadResponse(
                     POST, 200, uriInfo, timers, bulkLoadResult);
               };
-              progressUpdater = new ProgressUpdater<>(progressNanos,
+              progressUpdater = new ProgressUpdater<>(
+                  provider.getThreadFactory(),
+                  progressNanos,
                   progressState,
                   progressState, // monitor
                   supplier,
@@ -515,13 +1573,28 @@ public interface BulkDataSupport extends ServicesSupport {
                 first1000Records,
                 loadId,
                 bulkLoadResult,
-                maxFailures);
+                maxFailures,
+                clientId);
+          }
+
+          // close out any in-flight loads from the partitions, discarding
+          // the records still queued if aborted
+          if (dispatcher != null) {
+            if (aborted) {
+              int discardedCount = dispatcher.abort();
+              debugLog("Aborted bulk load (" + loadId + ") discarded "
+                           + discardedCount + " queued records");
+            } else {
+              dispatcher.close();
+            }
           }
 
           // close out any in-flight loads from the asynchronous pool
-          List<AsyncResult<AddRecordResult>> results = asyncPool.close();
-          for (AsyncResult<AddRecordResult> asyncResult : results) {
-            this.trackLoadResult(asyncResult, bulkLoadResult);
+          if (asyncPool != null) {
+            List<AsyncResult<AddRecordResult>> results = asyncPool.close();
+            for (AsyncResult<AddRecordResult> asyncResult : results) {
+              this.trackLoadResult(asyncResult, bulkLoadResult);
+            }
           }
 
           // merge the timers
@@ -530,6 +1603,14 @@ public interface BulkDataSupport extends ServicesSupport {
           }
 
         } finally {
+          // make sure the partition and worker threads are stopped
+          if (dispatcher != null) {
+            dispatcher.close();
+          }
+          if (asyncPool != null && !asyncPool.isClosed()) {
+            asyncPool.close();
+          }
+
           // make sure to clean up the progress updater
           if (progressUpdater != null) {
             // calling this should mark it complete and trigger wake-up
@@ -554,6 +1635,15 @@ public interface BulkDataSupport extends ServicesSupport {
         }
 
       } finally {
+        // discard the checkpoint if completed, otherwise persist it
+        if (checkpoint != null) {
+          if (bulkLoadResult.getStatus() == COMPLETED) {
+            checkpoint.complete();
+          } else {
+            checkpoint.checkpoint();
+          }
+        }
+        if (errorLog != null) errorLog.close();
         dataCache.delete();
       }
 
@@ -588,135 +1678,1345 @@ public interface BulkDataSupport extends ServicesSupport {
   }
 
   /**
-   * Verifies the format of the bulk data matches the Content-Type that was
-   * specified (if any). This allows any format if there is no specified
-   * Content-Type or if the specified Content-Type is <code>text/plain</code>.
-   * This allows either {@link RecordReader.Format#JSON} or {@link
-   * RecordReader.Format#JSON_LINES} if the specified Content-Type is
-   * <code>application/json</code>. Otherwise, the format needs to match the
-   * specified media type.
+   * Resolves the specified path of a bulk data file on the server against the
+   * {@linkplain SzApiProvider#getBulkLoadFileDirectory() bulk-load file
+   * directory}, ensuring that loading files from the server is enabled and
+   * that the resolved file is a regular file within that directory.
    *
-   * @param specifiedMediaType The specified Content-Type.
-   * @param specifiedFormat    The {@link RecordReader.Format} for the specified
-   *                           Content-Type.
-   * @param detectedFormat     The {@link RecordReader.Format} that was detected.
-   * @param uriInfo            The {@link UriInfo} for the request.
-   * @param timers             The {@link Timers} for the request.
+   * @param provider The {@link SzApiProvider} to use.
+   * @param path     The path of the file relative to the bulk-load file
+   *                 directory.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @param timers   The {@link Timers} for the operation.
    *
-   * @throws BadRequestException If the specified Content-Type does not match
-   *                             the detected {@link RecordReader.Format}
+   * @return The canonical {@link File} for the resolved file.
+   *
+   * @throws ForbiddenException If loading files from the server is not
+   *                            enabled.
+   * @throws BadRequestException If the path is missing, escapes the bulk-load
+   *                             file directory or does not identify a regular
+   *                             file.
    */
-  default void verifyBulkDataFormat(MediaType specifiedMediaType,
-      RecordReader.Format specifiedFormat,
-      RecordReader.Format detectedFormat,
+  default File resolveBulkLoadFile(SzApiProvider  provider,
+                                   String         path,
+                                   UriInfo        uriInfo,
+                                   Timers         timers)
+      throws ForbiddenException, BadRequestException
+  {
+    File directory = provider.getBulkLoadFileDirectory();
+    if (!provider.isAdminEnabled() || directory == null) {
+      throw this.newForbiddenException(
+          POST, uriInfo, timers,
+          "Loading files from the server is not allowed unless the Senzing "
+              + "API Server is started with admin functions enabled and a "
+              + "bulk-load file directory.");
+    }
+    if (path == null || path.trim().length() == 0) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The path of the file to load must be specified.");
+    }
+    File file;
+    try {
+      directory = directory.getCanonicalFile();
+      file = new File(directory, path.trim()).getCanonicalFile();
+
+    } catch (IOException e) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The specified path could not be resolved: " + path);
+    }
+    if (!file.toPath().startsWith(directory.toPath())) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The specified path is not within the bulk-load file directory: "
+              + path);
+    }
+    if (!file.isFile()) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The specified path does not identify an existing file: " + path);
+    }
+    return file;
+  }
+
+  /**
+   * Loads the records found in the specified bulk data file on the server.
+   * JSON-lines and CSV files in an ASCII-compatible character encoding are
+   * split into {@linkplain BulkFilePartition partitions} that are read via
+   * memory-mapping and loaded in parallel, one thread per engine thread.
+   * A JSON array cannot be split at record boundaries without parsing it, so
+   * JSON array files (and files in a UTF-16 or UTF-32 encoding) fall back to
+   * being loaded serially as a single partition.  If the provider has a
+   * {@linkplain SzApiProvider#getLoadThrottle() load throttle} then each
+   * record is admitted by the budgets for its data source and the specified
+   * client before it is loaded.
+   */
+  default SzBulkLoadResponse loadBulkFile(
+      SzApiProvider provider,
+      Timers timers,
+      String dataSource,
+      String mapDataSources,
+      List<String> mapDataSourceList,
+      String explicitLoadId,
+      int maxFailures,
+      String clientId,
+      File file,
       UriInfo uriInfo,
-      Timers timers)
-      throws BadRequestException {
-    // check for a format mismatch
-    if (specifiedFormat != null) {
-      switch (specifiedFormat) {
-        case JSON:
-          if (detectedFormat != JSON && detectedFormat != JSON_LINES) {
-            throw this.newBadRequestException(
-                POST, uriInfo, timers,
-                "Specified Content-Type was " + specifiedMediaType
-                    + ", but the format of the bulk data appears to be "
-                    + detectedFormat.getMediaType());
-          }
-          break;
-        default:
-          if (detectedFormat != specifiedFormat) {
-            throw this.newBadRequestException(
-                POST, uriInfo, timers,
-                "Specified Content-Type was " + specifiedMediaType
-                    + ", but the format of the bulk data appears to be "
-                    + detectedFormat.getMediaType());
+      Long progressPeriod,
+      SseEventSink sseEventSink,
+      Sse sse)
+  {
+    // convert the progress period to nanoseconds
+    Long progressNanos = (progressPeriod == null)
+        ? null
+        : progressPeriod * 1000000L;
+
+    OutboundSseEvent.Builder eventBuilder = (sseEventSink != null && sse != null) ? sse.newEventBuilder() : null;
+
+    ProgressState progressState = new ProgressState();
+
+    SzBulkLoadResultAccumulator bulkLoadResult
+        = this.newBulkLoadResultAccumulator();
+
+    // populate the data source map
+    Map<String, String> dataSourceMap = new HashMap<>();
+    this.prepareBulkDataMappings(provider,
+        uriInfo,
+        timers,
+        dataSource,
+        mapDataSources,
+        mapDataSourceList,
+        dataSourceMap);
+
+    String loadId = (explicitLoadId == null)
+        ? file.getName() + "_"
+          + FILE_DATE_FORMATTER.format(
+              ZonedDateTime.ofInstant(
+                  new Date(file.lastModified()).toInstant(), UTC_ZONE))
+          + "_" + FILE_DATE_FORMATTER.format(ZonedDateTime.now(UTC_ZONE))
+        : explicitLoadId;
+
+    // log the failed records if configured
+    BulkLoadErrorLog errorLog
+        = this.openErrorLog(provider, loadId, bulkLoadResult);
+
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+                                                StandardOpenOption.READ))
+    {
+      // detect the character encoding and format from the start of the file
+      String charset;
+      try (InputStream is = BulkFilePartition.whole(channel).openInputStream()) {
+        charset = IOUtilities.detectCharacterEncoding(is);
+      }
+      if (charset == null) charset = "UTF-8";
+      debugLog("Load bulk file character encoding: " + charset);
+
+      RecordReader.Format format;
+      try (InputStream is = BulkFilePartition.whole(channel).openInputStream();
+           InputStreamReader isr = new InputStreamReader(is, charset);
+           BufferedReader br = new BufferedReader(isr))
+      {
+        format = new RecordReader(null, br, dataSourceMap, loadId).getFormat();
+      }
+      debugLog("Load bulk file format: " + format);
+
+      bulkLoadResult.setCharacterEncoding(charset);
+      bulkLoadResult.setMediaType(format.getMediaType());
+
+      // split the file if the format and character encoding allow it
+      String upperCharset = charset.toUpperCase();
+      boolean splittable = (format == JSON_LINES || format == CSV)
+          && !upperCharset.startsWith("UTF-16")
+          && !upperCharset.startsWith("UTF-32");
+      List<BulkFilePartition> partitions = (splittable)
+          ? BulkFilePartition.partition(
+              channel, format, provider.getConcurrency())
+          : Collections.singletonList(BulkFilePartition.whole(channel));
+      if (!splittable) {
+        debugLog("Load bulk file cannot be split, loading serially: "
+                     + format + " / " + charset);
+      }
+
+      debugLog("Load bulk file partitions: " + partitions.size());
+
+      AtomicBoolean aborted = new AtomicBoolean(false);
+      ProgressUpdater<SzBulkLoadResponse> progressUpdater = null;
+      ExecutorService executor = Executors.newFixedThreadPool(
+          partitions.size(), provider.getThreadFactory());
+      try {
+        if (progressNanos != null && eventBuilder != null) {
+          // create the update response if there is a client expecting it
+          progressState.setStartTime(System.nanoTime());
+          Supplier<SzBulkLoadResponse> supplier = () -> {
+            return this.newBulkLoadResponse(
+                POST, 200, uriInfo, timers, bulkLoadResult);
+          };
+          progressUpdater = new ProgressUpdater<>(
+              provider.getThreadFactory(),
+              progressNanos,
+              progressState,
+              progressState, // monitor
+              supplier,
+              sseEventSink,
+              eventBuilder,
+              null);
+          progressUpdater.start();
+        }
+
+        // load each partition in its own thread with its own timers
+        List<Timers> timerPool = new ArrayList<>(partitions.size());
+        List<Future<?>> futures = new ArrayList<>(partitions.size());
+        for (BulkFilePartition partition : partitions) {
+          Timers subTimers = new Timers();
+          timerPool.add(subTimers);
+          final String encoding = charset;
+          futures.add(executor.submit(() -> {
+            this.loadBulkFilePartition(provider,
+                                       subTimers,
+                                       partition,
+                                       format,
+                                       encoding,
+                                       dataSourceMap,
+                                       loadId,
+                                       maxFailures,
+                                       clientId,
+                                       bulkLoadResult,
+                                       aborted);
+            return null;
+          }));
+        }
+
+        // wait for the partitions to be loaded
+        this.awaitPartitions(futures, aborted);
+
+        // merge the timers
+        for (Timers subTimer : timerPool) {
+          timers.mergeWith(subTimer);
+        }
+
+      } finally {
+        executor.shutdown();
+
+        // make sure to clean up the progress updater
+        if (progressUpdater != null) {
+          // calling this should mark it complete and trigger wake-up
+          progressUpdater.complete();
+          try {
+            // wait for the thread to complete before proceeding
+            progressUpdater.join();
+          } catch (InterruptedException ignore) {
+            // ignore the exception
           }
+        }
       }
+
+      // mark completed or aborted if we get here without an exception
+      bulkLoadResult.setStatus(aborted.get() ? ABORTED : COMPLETED);
+
+    } catch (IOException e) {
+      bulkLoadResult.setStatus(ABORTED);
+      SzBulkLoadResponse response = this.newBulkLoadResponse(POST,
+          200,
+          uriInfo,
+          timers,
+          bulkLoadResult);
+      this.abortOperation(e,
+          response,
+          uriInfo,
+          timers,
+          progressState.nextEventId(),
+          eventBuilder,
+          sseEventSink,
+          null);
+
+    } finally {
+      if (errorLog != null) errorLog.close();
     }
+
+    SzBulkLoadResponse response = this.newBulkLoadResponse(POST,
+        200,
+        uriInfo,
+        timers,
+        bulkLoadResult);
+
+    return this.completeOperation(eventBuilder,
+        sseEventSink,
+        progressState.nextEventId(),
+        null,
+        response);
   }
 
   /**
-   * Creates a new instance of {@link SzBulkDataAnalysisResponse} with the
-   * following parameters.
+   * Loads the records in the specified {@link BulkFilePartition} in the
+   * calling thread, stopping early if the specified flag is set or once the
+   * maximum number of failures is reached.
    *
-   * @param httpMethod     The {@link SzHttpMethod} for the response.
-   * @param httpStatusCode The status code for the response.
-   * @param uriInfo        The {@link UriInfo} for the operation.
-   * @param timers         The {@link Timers} tracking the timing for the
-   *                       operation.
-   * @param bulkLoadResult The {@link SzBulkLoadResult} describing the analysis.
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timers         The {@link Timers} for loading the partition.
+   * @param partition      The {@link BulkFilePartition} to load.
+   * @param format         The {@link RecordReader.Format} of the file.
+   * @param charset        The character encoding of the file.
+   * @param dataSourceMap  The {@link Map} of data source mappings.
+   * @param loadId         The load ID for the records.
+   * @param maxFailures    The maximum number of failures, or zero or a
+   *                       negative number if no maximum.
+   * @param clientId       The client ID for the load throttle, or
+   *                       <tt>null</tt> if the client is not identified.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       results.
+   * @param aborted        The flag that is set when the load is aborted.
+   *
+   * @throws IOException If an I/O failure occurs.
    */
-  default SzBulkLoadResponse newBulkLoadResponse(
-      SzHttpMethod httpMethod,
-      int httpStatusCode,
-      UriInfo uriInfo,
-      Timers timers,
-      SzBulkLoadResult bulkLoadResult) {
-    return SzBulkLoadResponse.FACTORY.create(
-        this.newMeta(httpMethod, httpStatusCode, timers),
-        this.newLinks(uriInfo), bulkLoadResult);
+  default void loadBulkFilePartition(SzApiProvider                provider,
+                                     Timers                       timers,
+                                     BulkFilePartition            partition,
+                                     RecordReader.Format          format,
+                                     String                       charset,
+                                     Map<String, String>          dataSourceMap,
+                                     String                       loadId,
+                                     int                          maxFailures,
+                                     String                       clientId,
+                                     SzBulkLoadResultAccumulator  bulkLoadResult,
+                                     AtomicBoolean                aborted)
+      throws IOException
+  {
+    try (InputStream is = partition.openInputStream();
+         InputStreamReader isr = new InputStreamReader(is, charset);
+         BufferedReader br = new BufferedReader(isr))
+    {
+      RecordReader recordReader = new RecordReader(
+          format, br, dataSourceMap, loadId);
+
+      this.loadRecords(provider,
+                       timers,
+                       recordReader,
+                       loadId,
+                       maxFailures,
+                       clientId,
+                       bulkLoadResult,
+                       bulkLoadResult,
+                       aborted);
+    }
   }
 
   /**
-   * Asynchronously process a record using the specified {@link SzApiProvider}
-   * and {@link AsyncWorkerPool}. The returned {@link AsyncResult} is from
-   * a previously executed task on the same thread or <tt>null</tt> if the
-   * worker thread employed has not previously executed a task.
+   * Loads the records read by the specified {@link RecordReader} in the
+   * calling thread, stopping early if the specified flag is set or once the
+   * maximum number of failures is reached.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timers         The {@link Timers} for loading the records.
+   * @param recordReader   The {@link RecordReader} for reading the records.
+   * @param loadId         The load ID for the records.
+   * @param maxFailures    The maximum number of failures, or zero or a
+   *                       negative number if no maximum.
+   * @param clientId       The client ID for the load throttle, or
+   *                       <tt>null</tt> if the client is not identified.
+   * @param result         The {@link SzBulkLoadResultAccumulator} to track
+   *                       the results.
+   * @param totalResult    The {@link SzBulkLoadResultAccumulator} against
+   *                       which to count the failures, which is the same
+   *                       as the previous parameter unless it tracks only
+   *                       part of the load.
+   * @param aborted        The flag that is set when the load is aborted.
+   *
+   * @throws IOException If an I/O failure occurs.
    */
-  default AsyncResult<AddRecordResult> asyncProcessRecord(
-      AsyncWorkerPool<AddRecordResult> asyncPool,
-      SzApiProvider provider,
-      Timers timers,
-      JsonObject record,
-      String loadId) {
-    String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
-    String recordId = JsonUtilities.getString(record, "RECORD_ID");
-    String recordJSON = JsonUtilities.toJsonText(record);
-
-    G2Engine engineApi = provider.getEngineApi();
+  default void loadRecords(SzApiProvider                provider,
+                           Timers                       timers,
+                           RecordReader                 recordReader,
+                           String                       loadId,
+                           int                          maxFailures,
+                           String                       clientId,
+                           SzBulkLoadResultAccumulator  result,
+                           SzBulkLoadResultAccumulator  totalResult,
+                           AtomicBoolean                aborted)
+      throws IOException
+  {
+    for (JsonObject record = recordReader.readRecord();
+         record != null && !aborted.get();
+         record = recordReader.readRecord())
+    {
+      this.loadRecord(provider, timers, record, loadId, clientId, result);
+
+      // count the number of failures
+      int failedCount = totalResult.getFailedRecordCount()
+          + totalResult.getIncompleteRecordCount();
+
+      if (maxFailures > 0 && failedCount >= maxFailures) {
+        aborted.set(true);
+      }
+    }
+  }
+
+  /**
+   * Loads the specified record in the calling thread after it is admitted by
+   * the {@linkplain SzApiProvider#getLoadThrottle() load throttle} (if any)
+   * and tracks the result in the specified {@link
+   * SzBulkLoadResultAccumulator}.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timers         The {@link Timers} for the operation.
+   * @param record         The {@link JsonObject} describing the record.
+   * @param loadId         The load ID for the record.
+   * @param clientId       The client ID for the load throttle, or
+   *                       <tt>null</tt> if the client is not identified.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       result.
+   *
+   * @throws IOException If interrupted while waiting for the load throttle.
+   */
+  default void loadRecord(SzApiProvider                provider,
+                          Timers                       timers,
+                          JsonObject                   record,
+                          String                       loadId,
+                          String                       clientId,
+                          SzBulkLoadResultAccumulator  bulkLoadResult)
+      throws IOException
+  {
+    String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
+    LoadThrottle.Permit permit = (dataSource == null) ? null
+        : this.acquireBulkLoadPermit(
+            provider, bulkLoadResult, dataSource, clientId);
+    try {
+      this.loadRecord(provider, timers, record, loadId, bulkLoadResult);
+    } finally {
+      this.releaseLoadPermit(permit);
+    }
+  }
+
+  /**
+   * Loads the specified record in the calling thread and tracks the result
+   * in the specified {@link SzBulkLoadResultAccumulator}.  Records without a
+   * data source are tracked as incomplete and not loaded.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timers         The {@link Timers} for the operation.
+   * @param record         The {@link JsonObject} describing the record.
+   * @param loadId         The load ID for the record.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       result.
+   */
+  default void loadRecord(SzApiProvider                provider,
+                          Timers                       timers,
+                          JsonObject                   record,
+                          String                       loadId,
+                          SzBulkLoadResultAccumulator  bulkLoadResult)
+  {
+    String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
+    if (dataSource == null || dataSource.trim().length() == 0) {
+      debugLog("Incomplete record not loaded: "
+          + JsonUtilities.toJsonText(record));
+
+      bulkLoadResult.trackIncompleteRecord(dataSource);
+      return;
+    }
+
+    String recordId = JsonUtilities.getString(record, "RECORD_ID");
+    String recordJSON = JsonUtilities.toJsonText(record);
+    try {
+      AddRecordResult addRecordResult = this.processRecord(
+          provider, timers, dataSource, recordId, recordJSON, loadId);
+
+      this.trackLoadResult(addRecordResult, bulkLoadResult);
+
+    } catch (Exception e) {
+      this.trackFailedRecord(bulkLoadResult,
+                             dataSource,
+                             recordId,
+                             this.newError(e.getMessage()));
+    }
+  }
+
+  /**
+   * Loads the records from each entry of the ZIP archive in the specified
+   * {@link TemporaryDataCache}.  The archive is read as a stream and each
+   * entry is decompressed into its own {@link TemporaryDataCache} and loaded
+   * in parallel with the other entries on the {@linkplain
+   * #newBoundedExecutor(SzApiProvider, int) shared auxiliary executor}, with
+   * at most one entry per engine thread.  The number of entries that are
+   * decompressed ahead of being loaded is limited to the same number.  The
+   * records of each entry are {@linkplain
+   * #loadBulkArchiveEntry(SzApiProvider, Timers, TemporaryDataCache, Map,
+   * String, int, String, String, SzBulkLoadResultAccumulator,
+   * SzBulkLoadResultAccumulator, AtomicBoolean) dispatched to partitions}.
+   * Archives are not checkpointed, so their loads cannot be resumed.  The
+   * results for each entry are tracked in a
+   * {@linkplain SzBulkLoadResultAccumulator#newEntryAccumulator(String)
+   * child accumulator} so they are reported per entry as well as in total.
+   */
+  default SzBulkLoadResponse loadBulkArchive(
+      SzApiProvider provider,
+      Timers timers,
+      Map<String, String> dataSourceMap,
+      String loadId,
+      int maxFailures,
+      String affinityKey,
+      String clientId,
+      TemporaryDataCache dataCache,
+      UriInfo uriInfo,
+      Long progressNanos,
+      OutboundSseEvent.Builder eventBuilder,
+      SseEventSink sseEventSink,
+      Session webSocketSession,
+      ProgressState progressState,
+      SzBulkLoadResultAccumulator bulkLoadResult)
+  {
+    bulkLoadResult.setMediaType(APPLICATION_ZIP);
+
+    int concurrency = provider.getConcurrency();
+    Semaphore permits = new Semaphore(concurrency);
+    AtomicBoolean aborted = new AtomicBoolean(false);
+    ProgressUpdater<SzBulkLoadResponse> progressUpdater = null;
+    List<Future<?>> futures = new ArrayList<>();
+    BoundedExecutor executor = this.newBoundedExecutor(provider, concurrency);
+    try {
+      if (progressNanos != null
+          && (eventBuilder != null || webSocketSession != null))
+      {
+        // create the update response if there is a client expecting it
+        progressState.setStartTime(System.nanoTime());
+        Supplier<SzBulkLoadResponse> supplier = () -> {
+          return this.newBulkLoadResponse(
+              POST, 200, uriInfo, timers, bulkLoadResult);
+        };
+        progressUpdater = new ProgressUpdater<>(
+            provider.getThreadFactory(),
+            progressNanos,
+            progressState,
+            progressState, // monitor
+            supplier,
+            sseEventSink,
+            eventBuilder,
+            webSocketSession);
+        progressUpdater.start();
+      }
+
+      List<Timers> timerPool = new ArrayList<>();
+      try (InputStream is = dataCache.getInputStream(true);
+           ZipInputStream zis = new ZipInputStream(is))
+      {
+        for (ZipEntry entry = zis.getNextEntry();
+             entry != null && !aborted.get();
+             entry = zis.getNextEntry())
+        {
+          String entryName = entry.getName();
+          if (entry.isDirectory() || this.isHiddenArchiveEntry(entryName)) {
+            continue;
+          }
+
+          // limit the number of entries decompressed ahead of being loaded
+          try {
+            permits.acquire();
+          } catch (InterruptedException e) {
+            aborted.set(true);
+            throw new IOException("Interrupted while loading bulk archive", e);
+          }
+
+          // decompress the entry so the next entry can be read
+          TemporaryDataCache entryCache = null;
+          try {
+            entryCache = new TemporaryDataCache(new FilterInputStream(zis) {
+              @Override
+              public void close() {
+                // leave the archive stream open for the next entry
+              }
+            });
+            entryCache.waitUntilAppendingComplete();
+
+          } catch (InterruptedException e) {
+            aborted.set(true);
+            permits.release();
+            entryCache.delete();
+            throw new IOException("Interrupted while loading bulk archive", e);
+
+          } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+          }
+          final TemporaryDataCache cachedEntry = entryCache;
+
+          debugLog("Load bulk archive entry: " + entryName);
+
+          SzBulkLoadResultAccumulator entryResult
+              = bulkLoadResult.newEntryAccumulator(entryName);
+          Timers subTimers = new Timers();
+          timerPool.add(subTimers);
+          futures.add(executor.submit(() -> {
+            try {
+              this.loadBulkArchiveEntry(provider,
+                                        subTimers,
+                                        cachedEntry,
+                                        dataSourceMap,
+                                        loadId,
+                                        maxFailures,
+                                        affinityKey,
+                                        clientId,
+                                        entryResult,
+                                        bulkLoadResult,
+                                        aborted);
+              return null;
+
+            } finally {
+              cachedEntry.delete();
+              permits.release();
+            }
+          }));
+        }
+      }
+
+      // wait for the entries to be loaded
+      this.awaitPartitions(futures, aborted);
+
+      // merge the timers
+      for (Timers subTimer : timerPool) {
+        timers.mergeWith(subTimer);
+      }
+
+      // mark completed or aborted if we get here without an exception
+      bulkLoadResult.setStatus(aborted.get() ? ABORTED : COMPLETED);
+
+    } catch (IOException e) {
+      this.abortPartitions(futures, aborted);
+      bulkLoadResult.setStatus(ABORTED);
+      SzBulkLoadResponse response = this.newBulkLoadResponse(POST,
+          200,
+          uriInfo,
+          timers,
+          bulkLoadResult);
+      this.abortOperation(e,
+          response,
+          uriInfo,
+          timers,
+          progressState.nextEventId(),
+          eventBuilder,
+          sseEventSink,
+          webSocketSession);
+
+    } finally {
+      // stop any entries still being loaded if the archive failed
+      this.abortPartitions(futures, aborted);
+      executor.close();
+
+      // make sure to clean up the progress updater
+      if (progressUpdater != null) {
+        // calling this should mark it complete and trigger wake-up
+        progressUpdater.complete();
+        try {
+          // wait for the thread to complete before proceeding
+          progressUpdater.join();
+        } catch (InterruptedException ignore) {
+          // ignore the exception
+        }
+      }
+    }
+
+    SzBulkLoadResponse response = this.newBulkLoadResponse(POST,
+        200,
+        uriInfo,
+        timers,
+        bulkLoadResult);
+
+    return this.completeOperation(eventBuilder,
+        sseEventSink,
+        progressState.nextEventId(),
+        webSocketSession,
+        response);
+  }
+
+  /**
+   * Loads the records from a single archive entry that was decompressed into
+   * the specified {@link TemporaryDataCache}, detecting its character
+   * encoding and format independently of the other entries.  The records are
+   * read in the calling thread and {@linkplain
+   * #dispatchRecord(PartitionedDispatcher, SzApiProvider, List, JsonObject,
+   * String, String, SzBulkLoadResultAccumulator, Runnable, Runnable)
+   * dispatched} to a {@link PartitionedDispatcher} for the entry, so that the
+   * records of an entry are loaded concurrently while those with the same
+   * affinity key are loaded in order.  The records still queued when the
+   * load is aborted are discarded.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timers         The {@link Timers} for loading the entry.
+   * @param entryCache     The {@link TemporaryDataCache} for the entry.
+   * @param dataSourceMap  The {@link Map} of data source mappings.
+   * @param loadId         The load ID for the records.
+   * @param maxFailures    The maximum number of failures across all entries,
+   *                       or zero or a negative number if no maximum.
+   * @param affinityKey    The name of the record property to use as the
+   *                       affinity key, or <tt>null</tt> if the data source
+   *                       and record ID should be used.
+   * @param clientId       The client ID for the load throttle, or
+   *                       <tt>null</tt> if the client is not identified.
+   * @param entryResult    The {@link SzBulkLoadResultAccumulator} to track
+   *                       the results for the entry.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} tracking the
+   *                       results for all entries.
+   * @param aborted        The flag that is set when the load is aborted.
+   *
+   * @throws IOException If an I/O failure occurs.
+   */
+  default void loadBulkArchiveEntry(SzApiProvider                provider,
+                                    Timers                       timers,
+                                    TemporaryDataCache           entryCache,
+                                    Map<String, String>          dataSourceMap,
+                                    String                       loadId,
+                                    int                          maxFailures,
+                                    String                       affinityKey,
+                                    String                       clientId,
+                                    SzBulkLoadResultAccumulator  entryResult,
+                                    SzBulkLoadResultAccumulator  bulkLoadResult,
+                                    AtomicBoolean                aborted)
+      throws IOException
+  {
+    String charset;
+    try (InputStream is = entryCache.getInputStream()) {
+      charset = IOUtilities.detectCharacterEncoding(is);
+    }
+    if (charset == null) charset = "UTF-8";
+    entryResult.setCharacterEncoding(charset);
+
+    try (InputStream is = entryCache.getInputStream();
+         InputStreamReader isr = new InputStreamReader(is, charset);
+         BufferedReader br = new BufferedReader(isr))
+    {
+      // if format is null then RecordReader will auto-detect
+      RecordReader recordReader = new RecordReader(
+          null, br, dataSourceMap, loadId);
+      RecordReader.Format format = recordReader.getFormat();
+      if (format != null) {
+        entryResult.setMediaType(format.getMediaType());
+      }
+
+      int concurrency = provider.getConcurrency();
+      List<Timers> timerPool = new ArrayList<>(concurrency);
+      for (int index = 0; index < concurrency; index++) {
+        timerPool.add(new Timers());
+      }
+
+      PartitionedDispatcher dispatcher = new PartitionedDispatcher(
+          provider.getThreadFactory(), "sz-bulk-load-entry", concurrency);
+      try {
+        for (JsonObject record = recordReader.readRecord();
+             record != null && !aborted.get();
+             record = recordReader.readRecord())
+        {
+          String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
+          if (dataSource == null || dataSource.trim().length() == 0) {
+            // track the incomplete record without a partition round-trip
+            this.loadRecord(provider, timers, record, loadId, entryResult);
+
+          } else {
+            // wait for the throttle in this thread so workers are not held
+            LoadThrottle.Permit permit = this.acquireBulkLoadPermit(
+                provider, entryResult, dataSource, clientId);
+            this.dispatchRecord(dispatcher,
+                                provider,
+                                timerPool,
+                                record,
+                                loadId,
+                                affinityKey,
+                                entryResult,
+                                this.releasingLoadPermit(permit, null),
+                                this.releasingLoadPermit(permit, null));
+          }
+
+          // count the number of failures
+          int failedCount = bulkLoadResult.getFailedRecordCount()
+              + bulkLoadResult.getIncompleteRecordCount();
+
+          if (maxFailures > 0 && failedCount >= maxFailures) {
+            aborted.set(true);
+          }
+        }
+
+        // discard the records still queued if the load was aborted
+        if (aborted.get()) {
+          int discardedCount = dispatcher.abort();
+          debugLog("Aborted bulk archive entry discarded " + discardedCount
+                       + " queued records");
+        } else {
+          dispatcher.close();
+        }
+
+      } finally {
+        dispatcher.close();
+        for (Timers subTimers : timerPool) {
+          timers.mergeWith(subTimers);
+        }
+      }
+    }
+    entryResult.setStatus(aborted.get() ? ABORTED : COMPLETED);
+  }
+
+  /**
+   * Checks if the archive entry with the specified name should be skipped
+   * because it is hidden or is operating system metadata (e.g.: the
+   * <tt>"__MACOSX/"</tt> entries added to ZIP archives created on macOS).
+   *
+   * @param entryName The name of the archive entry.
+   *
+   * @return <tt>true</tt> if the entry should be skipped, otherwise
+   *         <tt>false</tt>.
+   */
+  default boolean isHiddenArchiveEntry(String entryName) {
+    if (entryName.startsWith("__MACOSX/")) return true;
+    int index = entryName.lastIndexOf('/');
+    String fileName = entryName.substring(index + 1);
+    return fileName.startsWith(".");
+  }
+
+  /**
+   * Waits for each of the specified {@link Future} instances for loading
+   * partitions of bulk data in parallel to complete, setting the specified
+   * flag to abort the other partitions if any of them fails.
+   *
+   * @param futures The {@link List} of {@link Future} instances.
+   * @param aborted The flag that is set when the load is aborted.
+   *
+   * @throws IOException If a partition failed with an I/O failure or the
+   *                     calling thread was interrupted.
+   */
+  default void awaitPartitions(List<Future<?>> futures, AtomicBoolean aborted)
+      throws IOException
+  {
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        aborted.set(true);
+        throw new IOException("Interrupted while loading bulk data", e);
+      } catch (ExecutionException e) {
+        aborted.set(true);
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException) throw (IOException) cause;
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw new IOException(cause);
+      }
+    }
+  }
+
+  /**
+   * Sets the specified flag to abort loading partitions of bulk data in
+   * parallel unless the specified {@link Future} instances have all
+   * completed, and then waits for them to complete.  This is used to clean up
+   * when the load fails before {@link #awaitPartitions(List, AtomicBoolean)}
+   * has waited for every partition.  The failures of the partitions are
+   * ignored since the load has already failed.
+   *
+   * @param futures The {@link List} of {@link Future} instances.
+   * @param aborted The flag that is set when the load is aborted.
+   */
+  default void abortPartitions(List<Future<?>> futures, AtomicBoolean aborted)
+  {
+    for (Future<?> future : futures) {
+      if (!future.isDone()) aborted.set(true);
+    }
+    for (Future<?> future : futures) {
+      try {
+        future.get();
+      } catch (InterruptedException e) {
+        return;
+      } catch (ExecutionException ignore) {
+        // ignore since the load has already failed
+      }
+    }
+  }
+
+  /**
+   * Verifies the format of the bulk data matches the Content-Type that was
+   * specified (if any). This allows any format if there is no specified
+   * Content-Type or if the specified Content-Type is <code>text/plain</code>.
+   * This allows either {@link RecordReader.Format#JSON} or {@link
+   * RecordReader.Format#JSON_LINES} if the specified Content-Type is
+   * <code>application/json</code>. Otherwise, the format needs to match the
+   * specified media type.
+   *
+   * @param specifiedMediaType The specified Content-Type.
+   * @param specifiedFormat    The {@link RecordReader.Format} for the specified
+   *                           Content-Type.
+   * @param detectedFormat     The {@link RecordReader.Format} that was detected.
+   * @param uriInfo            The {@link UriInfo} for the request.
+   * @param timers             The {@link Timers} for the request.
+   *
+   * @throws BadRequestException If the specified Content-Type does not match
+   *                             the detected {@link RecordReader.Format}
+   */
+  default void verifyBulkDataFormat(MediaType specifiedMediaType,
+      RecordReader.Format specifiedFormat,
+      RecordReader.Format detectedFormat,
+      UriInfo uriInfo,
+      Timers timers)
+      throws BadRequestException {
+    // check for a format mismatch
+    if (specifiedFormat != null) {
+      switch (specifiedFormat) {
+        case JSON:
+          if (detectedFormat != JSON && detectedFormat != JSON_LINES) {
+            throw this.newBadRequestException(
+                POST, uriInfo, timers,
+                "Specified Content-Type was " + specifiedMediaType
+                    + ", but the format of the bulk data appears to be "
+                    + detectedFormat.getMediaType());
+          }
+          break;
+        default:
+          if (detectedFormat != specifiedFormat) {
+            throw this.newBadRequestException(
+                POST, uriInfo, timers,
+                "Specified Content-Type was " + specifiedMediaType
+                    + ", but the format of the bulk data appears to be "
+                    + detectedFormat.getMediaType());
+          }
+      }
+    }
+  }
+
+  /**
+   * Submits an asynchronous bulk-load job to load the records found in the
+   * bulk data.  The bulk data is spooled and its format is verified before
+   * the job is submitted to the {@link BulkLoadJobManager}.
+   *
+   * @param provider          The {@link SzApiProvider} to use.
+   * @param timers            The {@link Timers} for the request.
+   * @param dataSource        The data source to assign to the loaded records
+   *                          unless another data source mapping supersedes
+   *                          this default.
+   * @param mapDataSources    The JSON string mapping specific data sources to
+   *                          alternate data source names.
+   * @param mapDataSourceList The {@link List} of delimited strings that begin
+   *                          the delimiter, followed by the "from" data source
+   *                          then the delimiter then the target data source.
+   * @param explicitLoadId    The optional load ID to use for loading the
+   *                          records.
+   * @param maxFailures       The maximum number of failures or a
+   *                          non-positive number if no maximum.
+   * @param clientId          The client ID for the load throttle, or
+   *                          <tt>null</tt> if the client is not identified.
+   * @param mediaType         The media type for the content.
+   * @param dataInputStream   The input stream to read the uploaded data.
+   * @param fileMetaData      The form meta data for the uploaded file, or
+   *                          <tt>null</tt> if not uploaded via a form.
+   * @param uriInfo           The {@link UriInfo} for the request.
+   *
+   * @return The {@link SzBulkLoadJobResponse} describing the submitted job.
+   */
+  default SzBulkLoadJobResponse submitBulkLoadJob(
+      SzApiProvider               provider,
+      Timers                      timers,
+      String                      dataSource,
+      String                      mapDataSources,
+      List<String>                mapDataSourceList,
+      String                      explicitLoadId,
+      int                         maxFailures,
+      String                      clientId,
+      MediaType                   mediaType,
+      InputStream                 dataInputStream,
+      FormDataContentDisposition  fileMetaData,
+      UriInfo                     uriInfo)
+  {
+    this.ensureLoadingIsAllowed(provider, POST, uriInfo, timers);
+    BulkLoadJobManager jobManager = provider.getBulkLoadJobManager();
+
+    MediaType specifiedMediaType = mediaType;
+    if (mediaType == null) mediaType = TEXT_PLAIN_TYPE;
+
+    // populate the data source map
+    Map<String, String> dataSourceMap = new HashMap<>();
+    this.prepareBulkDataMappings(provider,
+        uriInfo,
+        timers,
+        dataSource,
+        mapDataSources,
+        mapDataSourceList,
+        dataSourceMap);
+
+    BulkDataSet bulkDataSet = null;
+    boolean submitted = false;
+    try {
+      // spool the bulk data before responding
+      bulkDataSet = new BulkDataSet(
+          mediaType, dataInputStream, jobManager.getSpoolDirectory());
+      TemporaryDataCache dataCache = bulkDataSet.getDataCache();
+      if (bulkDataSet.isArchive()) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Bulk data archives cannot be submitted as bulk-load jobs.  "
+                + "Load them via /bulk-data/load instead.");
+      }
+      dataCache.waitUntilAppendingComplete();
+
+      // detect the format and verify it against the specified media type
+      try (InputStream is = dataCache.getInputStream();
+          InputStreamReader isr = new InputStreamReader(
+              is, bulkDataSet.getCharacterEncoding());
+          BufferedReader br = new BufferedReader(isr)) {
+        RecordReader recordReader = new RecordReader(null, br);
+
+        this.verifyBulkDataFormat(specifiedMediaType,
+            bulkDataSet.getFormat(),
+            recordReader.getFormat(),
+            uriInfo,
+            timers);
+
+        bulkDataSet.setFormat(recordReader.getFormat());
+      }
+
+      String loadId = (explicitLoadId == null)
+          ? formatLoadId(dataCache, fileMetaData)
+          : explicitLoadId;
+
+      BulkLoadJobManager.Job job = jobManager.submit(
+          loadId, dataSourceMap, maxFailures, clientId, bulkDataSet);
+      submitted = true;
+
+      return this.newBulkLoadJobResponse(POST, uriInfo, timers, job);
+
+    } catch (IOException | InterruptedException e) {
+      throw this.newInternalServerErrorException(POST, uriInfo, timers, e);
+
+    } finally {
+      if (bulkDataSet != null && !submitted) {
+        bulkDataSet.getDataCache().delete();
+      }
+    }
+  }
+
+  /**
+   * Gets the {@link BulkLoadJobManager.Job} with the specified job ID.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param httpMethod The {@link SzHttpMethod} for the request.
+   * @param uriInfo    The {@link UriInfo} for the request.
+   * @param timers     The {@link Timers} for the request.
+   * @param jobId      The job ID for the job.
+   * @param cancel     <tt>true</tt> if the job should be cancelled, otherwise
+   *                   <tt>false</tt>.
+   *
+   * @return The {@link BulkLoadJobManager.Job} with the specified job ID.
+   *
+   * @throws NotFoundException If the job is not recognized.
+   */
+  default BulkLoadJobManager.Job getBulkLoadJob(SzApiProvider provider,
+      SzHttpMethod httpMethod,
+      UriInfo uriInfo,
+      Timers timers,
+      String jobId,
+      boolean cancel)
+      throws NotFoundException {
+    BulkLoadJobManager jobManager = provider.getBulkLoadJobManager();
+    BulkLoadJobManager.Job job = null;
+    if (jobManager != null) {
+      job = (cancel) ? jobManager.cancel(jobId) : jobManager.getJob(jobId);
+    }
+    if (job == null) {
+      throw this.newNotFoundException(
+          httpMethod, uriInfo, timers,
+          "The specified bulk-load job was not found: " + jobId);
+    }
+    return job;
+  }
+
+  /**
+   * Creates a new instance of {@link SzBulkLoadJobResponse} describing the
+   * current state of the specified job.
+   *
+   * @param httpMethod The {@link SzHttpMethod} for the response.
+   * @param uriInfo    The {@link UriInfo} for the operation.
+   * @param timers     The {@link Timers} tracking the timing for the
+   *                   operation.
+   * @param job        The {@link BulkLoadJobManager.Job} to describe.
+   *
+   * @return The new {@link SzBulkLoadJobResponse}.
+   */
+  default SzBulkLoadJobResponse newBulkLoadJobResponse(
+      SzHttpMethod httpMethod,
+      UriInfo uriInfo,
+      Timers timers,
+      BulkLoadJobManager.Job job) {
+    return SzBulkLoadJobResponse.FACTORY.create(
+        this.newMeta(httpMethod, 200, timers),
+        this.newLinks(uriInfo), job.toBulkLoadJob());
+  }
+
+  /**
+   * Creates a new instance of {@link SzBulkDataAnalysisResponse} with the
+   * following parameters.
+   *
+   * @param httpMethod     The {@link SzHttpMethod} for the response.
+   * @param httpStatusCode The status code for the response.
+   * @param uriInfo        The {@link UriInfo} for the operation.
+   * @param timers         The {@link Timers} tracking the timing for the
+   *                       operation.
+   * @param bulkLoadResult The {@link SzBulkLoadResult} describing the analysis.
+   */
+  default SzBulkLoadResponse newBulkLoadResponse(
+      SzHttpMethod httpMethod,
+      int httpStatusCode,
+      UriInfo uriInfo,
+      Timers timers,
+      SzBulkLoadResult bulkLoadResult) {
+    return SzBulkLoadResponse.FACTORY.create(
+        this.newMeta(httpMethod, httpStatusCode, timers),
+        this.newLinks(uriInfo), bulkLoadResult);
+  }
+
+  /**
+   * Creates a new instance of {@link SzBulkLoadResponse} describing a
+   * {@linkplain SzBulkLoadResultAccumulator#snapshot() snapshot} of the
+   * specified {@link SzBulkLoadResultAccumulator}.
+   *
+   * @param httpMethod     The {@link SzHttpMethod} for the response.
+   * @param httpStatusCode The status code for the response.
+   * @param uriInfo        The {@link UriInfo} for the operation.
+   * @param timers         The {@link Timers} tracking the timing for the
+   *                       operation.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to
+   *                       snapshot.
+   */
+  default SzBulkLoadResponse newBulkLoadResponse(
+      SzHttpMethod                 httpMethod,
+      int                          httpStatusCode,
+      UriInfo                      uriInfo,
+      Timers                       timers,
+      SzBulkLoadResultAccumulator  bulkLoadResult) {
+    return this.newBulkLoadResponse(
+        httpMethod, httpStatusCode, uriInfo, timers, bulkLoadResult.snapshot());
+  }
+
+  /**
+   * Asynchronously process a record using the specified {@link SzApiProvider}
+   * and {@link AsyncWorkerPool}. The returned {@link AsyncResult} is from
+   * a previously executed task on the same thread or <tt>null</tt> if the
+   * worker thread employed has not previously executed a task.
+   */
+  default AsyncResult<AddRecordResult> asyncProcessRecord(
+      AsyncWorkerPool<AddRecordResult> asyncPool,
+      SzApiProvider provider,
+      Timers timers,
+      JsonObject record,
+      String loadId) {
+    return this.asyncProcessRecord(
+        asyncPool, provider, timers, record, loadId, null);
+  }
+
+  /**
+   * Asynchronously process a record using the specified {@link SzApiProvider}
+   * and {@link AsyncWorkerPool}, running the specified callback (if not
+   * <tt>null</tt>) once the record has been processed whether or not it
+   * succeeded. The returned {@link AsyncResult} is from a previously executed
+   * task on the same thread or <tt>null</tt> if the worker thread employed
+   * has not previously executed a task.
+   */
+  default AsyncResult<AddRecordResult> asyncProcessRecord(
+      AsyncWorkerPool<AddRecordResult> asyncPool,
+      SzApiProvider provider,
+      Timers timers,
+      JsonObject record,
+      String loadId,
+      Runnable onProcessed) {
+    String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
+    String recordId = JsonUtilities.getString(record, "RECORD_ID");
+    String recordJSON = JsonUtilities.toJsonText(record);
+
     return asyncPool.execute(() -> {
       try {
-        // otherwise try to load the record
-        this.enteringQueue(timers);
-        return provider.executeInThread(() -> {
-          this.exitingQueue(timers);
-          debugLog("Async loading record: " + recordJSON);
+        return this.processRecord(
+            provider, timers, dataSource, recordId, recordJSON, loadId);
 
-          int returnCode = this.addRecord(engineApi,
-              provider,
-              dataSource,
-              recordId,
-              recordJSON,
-              loadId,
-              timers);
+      } catch (Exception e) {
+        JsonObjectBuilder job = Json.createObjectBuilder();
+        job.add("dataSource", dataSource);
+        JsonUtilities.add(job, "recordId", recordId);
+        String details = JsonUtilities.toJsonText(job);
+        throw new Exception(details, e);
+
+      } finally {
+        if (onProcessed != null) onProcessed.run();
+      }
+    });
+  }
+
+  /**
+   * Dispatches a record to the partition of the specified {@link
+   * PartitionedDispatcher} for its {@linkplain #getAffinityKey(JsonObject,
+   * String) affinity key} so that it is loaded after any previously
+   * dispatched records with the same key.  The result is tracked in the
+   * specified {@link SzBulkLoadResultAccumulator} by the partition thread
+   * using the {@link Timers} for the partition.  If the dispatcher is
+   * {@linkplain PartitionedDispatcher#abort() aborted} before the record is
+   * loaded then it is tracked as discarded and only the discard callback is
+   * run, so the record is not acknowledged to any checkpoint.
+   *
+   * @param dispatcher     The {@link PartitionedDispatcher} to use.
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param timerPool      The {@link List} of {@link Timers} with one element
+   *                       for each partition.
+   * @param record         The {@link JsonObject} describing the record.
+   * @param loadId         The load ID for the record.
+   * @param affinityKey    The name of the record property to use as the
+   *                       affinity key, or <tt>null</tt> if the data source
+   *                       and record ID should be used.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       result.
+   * @param onProcessed    The callback to run once the record has been
+   *                       processed, or <tt>null</tt> if none.
+   * @param onDiscarded    The callback to run if the record is discarded, or
+   *                       <tt>null</tt> if none.
+   *
+   * @throws IOException If interrupted while waiting for the partition.
+   */
+  default void dispatchRecord(PartitionedDispatcher        dispatcher,
+                              SzApiProvider                provider,
+                              List<Timers>                 timerPool,
+                              JsonObject                   record,
+                              String                       loadId,
+                              String                       affinityKey,
+                              SzBulkLoadResultAccumulator  bulkLoadResult,
+                              Runnable                     onProcessed,
+                              Runnable                     onDiscarded)
+      throws IOException
+  {
+    String key = this.getAffinityKey(record, affinityKey);
+    try {
+      dispatcher.dispatch(key, partition -> {
+        try {
+          this.loadRecord(provider,
+                          timerPool.get(partition),
+                          record,
+                          loadId,
+                          bulkLoadResult);
+        } finally {
+          if (onProcessed != null) onProcessed.run();
+        }
+      }, () -> {
+        try {
+          bulkLoadResult.trackDiscardedRecord();
+        } finally {
+          if (onDiscarded != null) onDiscarded.run();
+        }
+      });
+
+    } catch (InterruptedException e) {
+      throw new IOException("Interrupted while dispatching bulk record", e);
+    }
+  }
+
+  /**
+   * Gets the affinity key for dispatching the specified record.  If a record
+   * property is specified and the record has a value for it then that value
+   * is the key.  Otherwise the key is the combination of the data source and
+   * record ID, or <tt>null</tt> if the record has no record ID.
+   *
+   * @param record      The {@link JsonObject} describing the record.
+   * @param affinityKey The name of the record property to use as the
+   *                    affinity key, or <tt>null</tt> if the data source and
+   *                    record ID should be used.
+   *
+   * @return The affinity key for the record, or <tt>null</tt> if none.
+   */
+  default String getAffinityKey(JsonObject record, String affinityKey) {
+    if (affinityKey != null) {
+      JsonValue value = record.get(affinityKey);
+      if (value != null && value.getValueType() != JsonValue.ValueType.NULL) {
+        return (value instanceof JsonString)
+            ? ((JsonString) value).getString()
+            : JsonUtilities.toJsonText(value);
+      }
+    }
+    String recordId = JsonUtilities.getString(record, "RECORD_ID");
+    if (recordId == null) return null;
+    String dataSource = JsonUtilities.getString(record, "DATA_SOURCE");
+    return dataSource + ":" + recordId;
+  }
+
+  /**
+   * Processes a record using the specified {@link SzApiProvider} in the
+   * calling thread, waiting for it to be added on an engine thread unless it
+   * is unchanged since it was last loaded.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param timers     The {@link Timers} for the operation.
+   * @param dataSource The data source for the record.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if none.
+   * @param recordJSON The JSON text for the record.
+   * @param loadId     The load ID for the record.
+   *
+   * @return The {@link AddRecordResult} describing the result.
+   *
+   * @throws Exception If a failure occurs.
+   */
+  default AddRecordResult processRecord(SzApiProvider provider,
+      Timers timers,
+      String dataSource,
+      String recordId,
+      String recordJSON,
+      String loadId)
+      throws Exception {
+    // skip the record if unchanged since it was last loaded
+    byte[] recordHash = this.hashRecord(provider, recordId, recordJSON);
+    if (this.isRecordUnchanged(provider, dataSource, recordId, recordHash)) {
+      debugLog("Unchanged record not loaded: " + recordJSON);
+      return this.newUnchangedRecordResult(dataSource, timers);
+    }
 
-          return this.newAddRecordResult(
-              dataSource, timers, returnCode, engineApi);
-        });
+    // otherwise try to load the record
+    G2Engine engineApi = provider.getEngineApi();
+    this.enteringQueue(timers);
+    return provider.executeInThread(() -> {
+      this.exitingQueue(timers);
+      debugLog("Async loading record: " + recordJSON);
 
-      } catch (Exception e) {
-        JsonObjectBuilder job = Json.createObjectBuilder();
-        job.add("dataSource", dataSource);
-        String details = JsonUtilities.toJsonText(job);
-        throw new Exception(details, e);
-      }
+      int returnCode = this.addRecord(engineApi,
+          provider,
+          dataSource,
+          recordId,
+          recordJSON,
+          recordHash,
+          loadId,
+          timers);
+
+      return this.newAddRecordResult(
+          dataSource, recordId, timers, returnCode, engineApi);
     });
   }
 
   /**
-   * Asynchronously process a record using the specified {@link SzApiProvider}
-   * and {@link AsyncWorkerPool}. The returned {@link AsyncResult} is from
-   * a previously executed task on the same thread or <tt>null</tt> if the
-   * worker thread employed has not previously executed a task.
+   * Synchronously processes a small number of records using the specified
+   * {@link SzApiProvider} on a single engine thread.  If the provider has a
+   * {@linkplain SzApiProvider#getLoadThrottle() load throttle} then the
+   * records are instead loaded one at a time so that they wait to be admitted
+   * by the throttle without holding an engine thread.
    */
   default void processRecords(
       SzApiProvider provider,
       Timers timers,
       List<JsonObject> records,
       String loadId,
-      SzBulkLoadResult bulkLoadResult,
-      int maxFailures) {
+      SzBulkLoadResultAccumulator bulkLoadResult,
+      int maxFailures,
+      String clientId) throws IOException {
+    if (provider.getLoadThrottle() != null) {
+      for (JsonObject record : records) {
+        this.loadRecord(
+            provider, timers, record, loadId, clientId, bulkLoadResult);
+
+        // count the number of failures
+        int failedCount = bulkLoadResult.getFailedRecordCount()
+            + bulkLoadResult.getIncompleteRecordCount();
+
+        if (maxFailures > 0 && failedCount >= maxFailures) {
+          bulkLoadResult.setStatus(ABORTED);
+          break;
+        }
+      }
+      return;
+    }
+
     G2Engine engineApi = provider.getEngineApi();
     // otherwise try to load the record
     this.enteringQueue(timers);
@@ -735,6 +3035,16 @@ public interface BulkDataSupport extends ServicesSupport {
           bulkLoadResult.trackIncompleteRecord(dataSource);
 
         } else {
+          // skip the record if unchanged since it was last loaded
+          byte[] recordHash = this.hashRecord(provider, recordId, recordJSON);
+          if (this.isRecordUnchanged(
+              provider, dataSource, recordId, recordHash))
+          {
+            debugLog("Unchanged record not loaded: " + recordJSON);
+            bulkLoadResult.trackUnchangedRecord(dataSource);
+            continue;
+          }
+
           debugLog("Sync loading record: " + recordJSON);
 
           int returnCode = this.addRecord(engineApi,
@@ -742,11 +3052,12 @@ public interface BulkDataSupport extends ServicesSupport {
               dataSource,
               recordId,
               recordJSON,
+              recordHash,
               loadId,
               timers);
 
           AddRecordResult addRecordResult = this.newAddRecordResult(
-              dataSource, timers, returnCode, engineApi);
+              dataSource, recordId, timers, returnCode, engineApi);
 
           this.trackLoadResult(addRecordResult, bulkLoadResult);
         }
@@ -780,12 +3091,82 @@ public interface BulkDataSupport extends ServicesSupport {
       Timers timers,
       int returnCode,
       G2Engine engine) {
+    return this.newAddRecordResult(dataSource,
+        null,
+        timers,
+        returnCode,
+        engine);
+  }
+
+  /**
+   * Constructs with the specified parameters.
+   *
+   * @param dataSource The data source for the record.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if none.
+   * @param timers     The {@link Timers} for the operation.
+   * @param returnCode The return code from native add-record function.
+   * @param engine     The {@link G2Engine} instance that was used.
+   *
+   * @return The newly created instance of {@link AddRecordResult}.
+   */
+  default AddRecordResult newAddRecordResult(String dataSource,
+      String recordId,
+      Timers timers,
+      int returnCode,
+      G2Engine engine) {
     return new AddRecordResult(dataSource,
+        recordId,
         timers,
         returnCode,
         engine);
   }
 
+  /**
+   * Creates a new {@link AddRecordResult} describing a record that was not
+   * added because it was unchanged since it was last loaded.
+   *
+   * @param dataSource The data source for the record.
+   * @param timers     The {@link Timers} for the operation.
+   *
+   * @return The newly created instance of {@link AddRecordResult}.
+   */
+  default AddRecordResult newUnchangedRecordResult(String dataSource,
+      Timers timers) {
+    return new AddRecordResult(dataSource, timers);
+  }
+
+  /**
+   * Adds the record either with or without a record ID and tracks the timing
+   * as well as the hash of the record in the {@link RecordHashStore} (if
+   * configured).  The specified hash is stored for the record if it is
+   * successfully added, otherwise any previously stored hash is removed.
+   */
+  default int addRecord(G2Engine engineApi,
+      SzApiProvider provider,
+      String dataSource,
+      String recordId,
+      String recordJSON,
+      byte[] recordHash,
+      String loadId,
+      Timers timers) {
+    int returnCode = -1;
+    this.beginRecordUpdate(provider, dataSource, recordId);
+    try {
+      returnCode = this.addRecord(engineApi,
+          provider,
+          dataSource,
+          recordId,
+          recordJSON,
+          loadId,
+          timers);
+      return returnCode;
+
+    } finally {
+      this.endRecordUpdate(provider, dataSource, recordId,
+          (returnCode == 0) ? recordHash : null);
+    }
+  }
+
   /**
    * Adds the record either with or without a record ID and tracks the timing.
    */
@@ -797,7 +3178,7 @@ public interface BulkDataSupport extends ServicesSupport {
       String loadId,
       Timers timers) {
     int returnCode;
-    boolean asyncInfo = provider.hasInfoSink();
+    boolean asyncInfo = this.isPublishingInfo(provider);
     if (asyncInfo) {
       StringBuffer sb = new StringBuffer();
       this.callingNativeAPI(timers, "engine", "addRecordWithInfo");
@@ -814,21 +3195,9 @@ public interface BulkDataSupport extends ServicesSupport {
       if (returnCode == 0) {
         String rawInfo = sb.toString();
 
-        // check if we have raw info to send
+        // check if we have raw info to publish
         if (rawInfo != null && rawInfo.trim().length() > 0) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawInfo);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawInfo);
         }
       }
 
@@ -853,10 +3222,128 @@ public interface BulkDataSupport extends ServicesSupport {
   }
 
   /**
-   * Tracks the asynchronous record load result in the {@link SzBulkLoadResult}.
+   * Tracks the failure of the record with the specified data source and
+   * record ID in the specified {@link SzBulkLoadResultAccumulator}.  The
+   * record ID is passed along to its {@link
+   * SzBulkLoadResultAccumulator.FailedRecordListener} (if any).
+   *
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       failure.
+   * @param dataSource     The data source for the record.
+   * @param recordId       The record ID for the record, or <tt>null</tt> if
+   *                       none or unknown.
+   * @param error          The {@link SzError} describing the failure.
+   */
+  default void trackFailedRecord(SzBulkLoadResultAccumulator  bulkLoadResult,
+                                 String                       dataSource,
+                                 String                       recordId,
+                                 SzError                      error)
+  {
+    bulkLoadResult.trackFailedRecord(dataSource, recordId, error);
+  }
+
+  /**
+   * Waits until the {@linkplain SzApiProvider#getLoadThrottle() load
+   * throttle} (if any) admits a record for the specified data source written
+   * by the specified client, tracking the time spent waiting in the specified
+   * {@link SzBulkLoadResultAccumulator}.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to track the
+   *                       wait.
+   * @param dataSource     The data source for the record.
+   * @param clientId       The client ID, or <tt>null</tt> if the client is
+   *                       not identified.
+   *
+   * @return The {@link LoadThrottle.Permit} that must be released once the
+   *         record has been loaded, or <tt>null</tt> if not throttled.
+   *
+   * @throws IOException If interrupted while waiting.
+   */
+  default LoadThrottle.Permit acquireBulkLoadPermit(
+      SzApiProvider                provider,
+      SzBulkLoadResultAccumulator  bulkLoadResult,
+      String                       dataSource,
+      String                       clientId)
+      throws IOException
+  {
+    LoadThrottle.Permit permit;
+    try {
+      permit = this.acquireLoadPermit(provider, dataSource, clientId, null);
+    } catch (InterruptedException e) {
+      throw new IOException("Interrupted while waiting for load throttle", e);
+    }
+    if (permit != null) bulkLoadResult.trackThrottleWait(permit.getWaitNanos());
+    return permit;
+  }
+
+  /**
+   * Returns a callback that runs the specified callback (if any) and then
+   * releases the specified {@link LoadThrottle.Permit} (if any).
+   *
+   * @param permit      The {@link LoadThrottle.Permit} to release, or
+   *                    <tt>null</tt> if none.
+   * @param onProcessed The callback to run first, or <tt>null</tt> if none.
+   *
+   * @return The combined callback, or <tt>null</tt> if there is nothing to
+   *         run.
+   */
+  default Runnable releasingLoadPermit(LoadThrottle.Permit  permit,
+                                       Runnable             onProcessed)
+  {
+    if (permit == null) return onProcessed;
+    return () -> {
+      try {
+        if (onProcessed != null) onProcessed.run();
+      } finally {
+        this.releaseLoadPermit(permit);
+      }
+    };
+  }
+
+  /**
+   * Opens a {@link BulkLoadErrorLog} for the specified load ID and sets it as
+   * the {@link SzBulkLoadResultAccumulator.FailedRecordListener} for the
+   * specified {@link SzBulkLoadResultAccumulator} if the specified {@link
+   * SzApiProvider} has a {@linkplain
+   * SzApiProvider#getBulkLoadErrorDirectory() bulk-load error directory}.
+   * The segment files of loads not in progress that have outlived the
+   * {@linkplain SzApiProvider#getBulkLoadErrorMaxAge() maximum age} or exceed
+   * the {@linkplain SzApiProvider#getBulkLoadErrorMaxSize() maximum size} are
+   * purged first.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param loadId         The load ID for the bulk load.
+   * @param bulkLoadResult The {@link SzBulkLoadResultAccumulator} to listen to.
+   *
+   * @return The {@link BulkLoadErrorLog} that was opened, or <tt>null</tt> if
+   *         failed records are not logged.
+   */
+  default BulkLoadErrorLog openErrorLog(
+      SzApiProvider                provider,
+      String                       loadId,
+      SzBulkLoadResultAccumulator  bulkLoadResult)
+  {
+    File errorDir = provider.getBulkLoadErrorDirectory();
+    if (errorDir == null) return null;
+    int purgeCount = BulkLoadErrorLog.purge(errorDir,
+                                            provider.getBulkLoadErrorMaxAge(),
+                                            provider.getBulkLoadErrorMaxSize());
+    if (purgeCount > 0) {
+      debugLog("Purged " + purgeCount + " bulk-load error log segment(s) from "
+                   + errorDir);
+    }
+    BulkLoadErrorLog errorLog = new BulkLoadErrorLog(errorDir, loadId);
+    bulkLoadResult.setFailedRecordListener(errorLog);
+    return errorLog;
+  }
+
+  /**
+   * Tracks the asynchronous record load result in the {@link
+   * SzBulkLoadResultAccumulator}.
    */
   default void trackLoadResult(AsyncResult<AddRecordResult> asyncResult,
-      SzBulkLoadResult bulkLoadResult) {
+      SzBulkLoadResultAccumulator bulkLoadResult) {
     // check the result
     if (asyncResult != null) {
       AddRecordResult addRecordResult = null;
@@ -870,9 +3357,12 @@ public interface BulkDataSupport extends ServicesSupport {
         JsonObject jsonObj = JsonUtilities.parseJsonObject(jsonText);
 
         String failDataSource = JsonUtilities.getString(jsonObj, "dataSource");
+        String failRecordId = JsonUtilities.getString(jsonObj, "recordId");
         Throwable cause = e.getCause();
-        bulkLoadResult.trackFailedRecord(
-            failDataSource, this.newError(cause.getMessage()));
+        this.trackFailedRecord(bulkLoadResult,
+                               failDataSource,
+                               failRecordId,
+                               this.newError(cause.getMessage()));
       }
 
       // track the result
@@ -883,17 +3373,23 @@ public interface BulkDataSupport extends ServicesSupport {
   }
 
   /**
-   * Tracks the asynchronous record load result in the {@link SzBulkLoadResult}.
+   * Tracks the asynchronous record load result in the {@link
+   * SzBulkLoadResultAccumulator}.
    */
   default void trackLoadResult(AddRecordResult addRecordResult,
-      SzBulkLoadResult bulkLoadResult) {
-    // check if the add failed or succeeded
-    if (addRecordResult.isFailed()) {
+      SzBulkLoadResultAccumulator bulkLoadResult) {
+    // check if the add was skipped, failed or succeeded
+    if (addRecordResult.isUnchanged()) {
+      // the record was unchanged, record it as such
+      bulkLoadResult.trackUnchangedRecord(addRecordResult.getDataSource());
+    } else if (addRecordResult.isFailed()) {
       // adding the record failed, record the failure
-      bulkLoadResult.trackFailedRecord(
+      this.trackFailedRecord(
+          bulkLoadResult,
           addRecordResult.getDataSource(),
-          addRecordResult.getErrorCode(),
-          addRecordResult.getErrorMessage());
+          addRecordResult.getRecordId(),
+          SzError.FACTORY.create(addRecordResult.getErrorCode(),
+                                 addRecordResult.getErrorMessage()));
     } else {
       // adding the record succeeded, record the loaded record
       bulkLoadResult.trackLoadedRecord(addRecordResult.getDataSource());
@@ -940,6 +3436,133 @@ public interface BulkDataSupport extends ServicesSupport {
     return fileKey + "_" + fileDateText + "_" + nowText;
   }
 
+  /**
+   * A {@link FilterInputStream} that counts the number of bytes read from
+   * (or skipped in) the underlying {@link InputStream}.
+   */
+  class CountingInputStream extends FilterInputStream {
+    /**
+     * The number of bytes read or skipped.
+     */
+    private volatile long count = 0L;
+
+    /**
+     * Constructs with the {@link InputStream} to count.
+     *
+     * @param in The {@link InputStream} to count.
+     */
+    public CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int result = super.read();
+      if (result >= 0) this.count++;
+      return result;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      int result = super.read(bytes, offset, length);
+      if (result > 0) this.count += result;
+      return result;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+      long result = super.skip(length);
+      if (result > 0L) this.count += result;
+      return result;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    /**
+     * Gets the number of bytes that have been read or skipped.
+     *
+     * @return The number of bytes that have been read or skipped.
+     */
+    public long getCount() {
+      return this.count;
+    }
+  }
+
+  /**
+   * Enumerates the compression and archive formats of bulk data that are
+   * detected from its leading bytes.
+   */
+  enum Compression {
+    /**
+     * Gzip-compressed bulk data.
+     */
+    GZIP(0x1F, 0x8B),
+
+    /**
+     * A ZIP archive of one or more files of bulk data.
+     */
+    ZIP(0x50, 0x4B, 0x03, 0x04),
+
+    /**
+     * Zstandard-compressed bulk data.
+     */
+    ZSTD(0x28, 0xB5, 0x2F, 0xFD);
+
+    /**
+     * The leading bytes that identify the format.
+     */
+    private final int[] magic;
+
+    /**
+     * Constructs with the leading bytes that identify the format.
+     *
+     * @param magic The leading bytes that identify the format.
+     */
+    Compression(int... magic) {
+      this.magic = magic;
+    }
+
+    /**
+     * Detects the {@link Compression} of the data in the specified {@link
+     * InputStream} without consuming any of it.  The specified {@link
+     * InputStream} must {@linkplain InputStream#markSupported() support}
+     * marking.
+     *
+     * @param in The {@link InputStream} from which to detect the compression.
+     *
+     * @return The detected {@link Compression}, or <tt>null</tt> if the data
+     *         is not compressed.
+     *
+     * @throws IOException If an I/O failure occurs.
+     */
+    public static Compression detect(InputStream in) throws IOException {
+      byte[] header = new byte[4];
+      in.mark(header.length);
+      int count = 0;
+      try {
+        while (count < header.length) {
+          int read = in.read(header, count, header.length - count);
+          if (read < 0) break;
+          count += read;
+        }
+      } finally {
+        in.reset();
+      }
+      for (Compression compression : values()) {
+        if (count < compression.magic.length) continue;
+        boolean match = true;
+        for (int index = 0; match && index < compression.magic.length; index++) {
+          match = ((header[index] & 0xFF) == compression.magic[index]);
+        }
+        if (match) return compression;
+      }
+      return null;
+    }
+  }
+
   /**
    * Encapsulates a bulk data set.
    */
@@ -966,6 +3589,12 @@ public interface BulkDataSupport extends ServicesSupport {
      */
     protected TemporaryDataCache dataCache;
 
+    /**
+     * The {@link Compression} detected for the bulk data stream, or
+     * <tt>null</tt> if it is not compressed.
+     */
+    protected Compression compression;
+
     /**
      * Constructs with the specified media type (if known) and the specified
      * {@link InputStream}. If the media type is not known it will be
@@ -979,6 +3608,27 @@ public interface BulkDataSupport extends ServicesSupport {
      */
     public BulkDataSet(MediaType mediaType, InputStream inputStream)
         throws IOException {
+      this(mediaType, inputStream, null);
+    }
+
+    /**
+     * Constructs with the specified media type (if known), the specified
+     * {@link InputStream} and the directory in which to cache the data. If
+     * the media type is not known it will be automatically detected.
+     *
+     * @param mediaType   The media type for the data that will be read, or
+     *                    <tt>null</tt> if not known and it should be
+     *                    automatically detected.
+     * @param inputStream The {@link InputStream} to read the data.
+     * @param directory   The directory in which to cache the data, or
+     *                    <tt>null</tt> if the default temporary directory
+     *                    should be used.
+     * @throws IOException If an I/O failure occurs.
+     */
+    public BulkDataSet(MediaType    mediaType,
+                       InputStream  inputStream,
+                       File         directory)
+        throws IOException {
       // check if the media type is null
       if (mediaType == null)
         mediaType = TEXT_PLAIN_TYPE;
@@ -998,11 +3648,30 @@ public interface BulkDataSupport extends ServicesSupport {
         this.mediaType = this.format.getMediaType();
       }
 
+      // decompress gzip data as it is cached, but leave archives intact
+      InputStream dataStream = new BufferedInputStream(inputStream);
+      this.compression = Compression.detect(dataStream);
+      if (this.compression == Compression.ZSTD) {
+        throw new IOException(
+            "Zstandard-compressed bulk data is not supported.  Compress the "
+                + "bulk data with gzip or as a ZIP archive instead.");
+      }
+      if (this.compression == Compression.GZIP) {
+        dataStream = new GZIPInputStream(dataStream, GZIP_BUFFER_SIZE);
+      }
+      if (this.compression == Compression.ZIP) {
+        this.characterEncoding  = null;
+        this.format             = null;
+        this.mediaType          = APPLICATION_ZIP;
+      }
+
       try {
-        this.dataCache = new TemporaryDataCache(inputStream);
+        this.dataCache = (directory == null)
+            ? new TemporaryDataCache(dataStream)
+            : new TemporaryDataCache(dataStream, directory);
 
         // if charset is unknown then try to detect
-        if (this.characterEncoding == null) {
+        if (this.characterEncoding == null && !this.isArchive()) {
           try (InputStream is = this.dataCache.getInputStream()) {
             this.characterEncoding = IOUtilities.detectCharacterEncoding(is);
           }
@@ -1054,6 +3723,30 @@ public interface BulkDataSupport extends ServicesSupport {
       this.format = format;
     }
 
+    /**
+     * Gets the {@link Compression} detected for the bulk data, or
+     * <tt>null</tt> if it is not compressed.  Gzip data is decompressed as it
+     * is cached, so the {@linkplain #getDataCache() cached data} is only
+     * compressed if this instance is an {@linkplain #isArchive() archive}.
+     *
+     * @return The {@link Compression} detected for the bulk data, or
+     *         <tt>null</tt> if it is not compressed.
+     */
+    public Compression getCompression() {
+      return this.compression;
+    }
+
+    /**
+     * Checks if the bulk data is a ZIP archive of one or more files rather
+     * than the records themselves.
+     *
+     * @return <tt>true</tt> if the bulk data is an archive, otherwise
+     *         <tt>false</tt>.
+     */
+    public boolean isArchive() {
+      return this.compression == Compression.ZIP;
+    }
+
     /**
      * Gets the {@link TemporaryDataCache} for this instance to read the data.
      *
@@ -1080,6 +3773,11 @@ public interface BulkDataSupport extends ServicesSupport {
      */
     protected String dataSource = null;
 
+    /**
+     * The record ID for the record, or <tt>null</tt> if none or unknown.
+     */
+    protected String recordId = null;
+
     /**
      * The error code from the native add-record function if it failed, or
      * <tt>null</tt> if it succeeded.
@@ -1097,19 +3795,43 @@ public interface BulkDataSupport extends ServicesSupport {
      */
     protected Timers timers = null;
 
+    /**
+     * Flag indicating if the record was not added because it was unchanged
+     * since it was last loaded.
+     */
+    protected boolean unchanged = false;
+
+    /**
+     * Constructs with the specified parameters.
+     *
+     * @param dataSource The data source for the record.
+     * @param timers     The {@link Timers} for the operation.
+     * @param returnCode The return code from native add-record function.
+     * @param engine     The {@link G2Engine} instance that was used.
+     */
+    public AddRecordResult(String dataSource,
+        Timers timers,
+        int returnCode,
+        G2Engine engine) {
+      this(dataSource, null, timers, returnCode, engine);
+    }
+
     /**
      * Constructs with the specified parameters.
      *
      * @param dataSource The data source for the record.
+     * @param recordId   The record ID for the record, or <tt>null</tt> if none.
      * @param timers     The {@link Timers} for the operation.
      * @param returnCode The return code from native add-record function.
      * @param engine     The {@link G2Engine} instance that was used.
      */
     public AddRecordResult(String dataSource,
+        String recordId,
         Timers timers,
         int returnCode,
         G2Engine engine) {
       this.dataSource = dataSource;
+      this.recordId = recordId;
       this.returnCode = returnCode;
       this.timers = timers;
       if (this.returnCode != 0) {
@@ -1118,6 +3840,19 @@ public interface BulkDataSupport extends ServicesSupport {
       }
     }
 
+    /**
+     * Constructs an instance describing a record that was not added because
+     * it was unchanged since it was last loaded.
+     *
+     * @param dataSource The data source for the record.
+     * @param timers     The {@link Timers} for the operation.
+     */
+    public AddRecordResult(String dataSource, Timers timers) {
+      this.dataSource = dataSource;
+      this.timers = timers;
+      this.unchanged = true;
+    }
+
     /**
      * Gets the return code from add-record operation.
      *
@@ -1136,6 +3871,16 @@ public interface BulkDataSupport extends ServicesSupport {
       return this.dataSource;
     }
 
+    /**
+     * Gets the record ID for the record that was being added.
+     *
+     * @return The record ID for the record that was being added, or
+     *         <tt>null</tt> if none or unknown.
+     */
+    public String getRecordId() {
+      return this.recordId;
+    }
+
     /**
      * Gets the error code (if any) from the {@link G2Engine} with which this
      * instance was constructed.
@@ -1179,6 +3924,17 @@ public interface BulkDataSupport extends ServicesSupport {
       return (this.returnCode != 0);
     }
 
+    /**
+     * Checks if the record was not added because it was unchanged since it
+     * was last loaded.
+     *
+     * @return <tt>true</tt> if the record was unchanged, and <tt>false</tt>
+     *         if an attempt was made to add it.
+     */
+    public boolean isUnchanged() {
+      return this.unchanged;
+    }
+
     /**
      * Produces a diagnostic {@link String} describing this instance.
      *
@@ -1189,6 +3945,7 @@ public interface BulkDataSupport extends ServicesSupport {
           + " ], dataSource=[ " + this.dataSource
           + " ], errorCode=[ " + this.errorCode
           + " ], errorMsg=[ " + this.errorMsg
+          + " ], unchanged=[ " + this.unchanged
           + " ] }";
     }
   }
@@ -1506,7 +4263,7 @@ public interface BulkDataSupport extends ServicesSupport {
   default boolean checkAbortLoadDoProgress(
       UriInfo uriInfo,
       Timers timers,
-      SzBulkLoadResult bulkLoadResult,
+      SzBulkLoadResultAccumulator bulkLoadResult,
       int maxFailures,
       ProgressState progressState,
       Long progressPeriod,
@@ -1627,7 +4384,7 @@ public interface BulkDataSupport extends ServicesSupport {
   /**
    * The progress updater thread to handle sending the progress updates.
    */
-  class ProgressUpdater<T> extends Thread {
+  class ProgressUpdater<T> extends AuxiliaryThread {
     /**
      * The time between progress updates in nanoseconds.
      */
@@ -1671,6 +4428,8 @@ public interface BulkDataSupport extends ServicesSupport {
     /**
      * Constructs with the specified parameters.
      *
+     * @param threadFactory    The {@link ThreadFactory} for creating the thread
+     *                         that sends the progress updates.
      * @param progressNanos    The number of nano-seconds between progress updates.
      * @param progressState    The {@link ProgressState} to manage the progress
      *                         updates.
@@ -1685,13 +4444,15 @@ public interface BulkDataSupport extends ServicesSupport {
      *                         progress updates via web sockets, or
      *                         <tt>null</tt> if not sending via web sockets.
      */
-    public ProgressUpdater(long progressNanos,
+    public ProgressUpdater(ThreadFactory threadFactory,
+        long progressNanos,
         ProgressState progressState,
         Object monitor,
         Supplier<T> supplier,
         SseEventSink sseEventSink,
         OutboundSseEvent.Builder sseEventBuilder,
         Session webSocketSession) {
+      super(threadFactory);
       Objects.requireNonNull(progressState, "The progressState cannot be null.");
       Objects.requireNonNull(supplier, "The supplier cannot be null.");
 
@@ -1754,6 +4515,19 @@ public interface BulkDataSupport extends ServicesSupport {
       }
     }
 
+    /**
+     * Returns the event ID for the next SSE progress event.  By default this
+     * is the next sequential event ID from the {@link ProgressState}, but this
+     * may be overridden to provide event ID's that allow the client to resume
+     * the operation via the <tt>Last-Event-ID</tt> header.  This is called
+     * while holding the lock on the monitor.
+     *
+     * @return The event ID for the next SSE progress event.
+     */
+    protected String nextEventId() {
+      return String.valueOf(this.progressState.nextEventId());
+    }
+
     /**
      * Sends the next progress update.
      */
@@ -1776,7 +4550,7 @@ public interface BulkDataSupport extends ServicesSupport {
         // check if sending an SSE response
         if (this.sseEventBuilder != null) {
           OutboundSseEvent event = this.sseEventBuilder.name(PROGRESS_EVENT)
-              .id(String.valueOf(this.progressState.nextEventId()))
+              .id(this.nextEventId())
               .mediaType(APPLICATION_JSON_TYPE)
               .data(update)
               .reconnectDelay(RECONNECT_DELAY)
@@ -16,6 +16,7 @@ import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ThreadFactory;
 
 import static com.senzing.io.IOUtilities.UTF_8;
 import static javax.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
@@ -38,12 +39,21 @@ public abstract class BulkDataWebSocket implements BulkDataSupport {
   /**
    * The EOF detector thread.
    */
-  protected class EOFDetector extends Thread {
+  protected class EOFDetector extends AuxiliaryThread {
     /**
      * Checks if this instance is completed.
      */
     protected boolean completed = false;
 
+    /**
+     * Constructs with the {@link ThreadFactory} for creating the thread.
+     *
+     * @param threadFactory The {@link ThreadFactory} for creating the thread.
+     */
+    protected EOFDetector(ThreadFactory threadFactory) {
+      super(threadFactory);
+    }
+
     /**
      * Implemented to close the stream when we have not received in the
      * specified timeout for the web socket thread.
@@ -103,9 +113,18 @@ public abstract class BulkDataWebSocket implements BulkDataSupport {
   }
 
   /**
-   * The internal {@link Thread} used for reading the bulk data stream.
+   * The internal thread used for reading the bulk data stream.
    */
-  protected class ReaderThread extends Thread {
+  protected class ReaderThread extends AuxiliaryThread {
+    /**
+     * Constructs with the {@link ThreadFactory} for creating the thread.
+     *
+     * @param threadFactory The {@link ThreadFactory} for creating the thread.
+     */
+    protected ReaderThread(ThreadFactory threadFactory) {
+      super(threadFactory);
+    }
+
     /**
      * Implemented to start the EOF detector and then defer to the {@link
      * #doRun()} method.
@@ -290,8 +309,9 @@ public abstract class BulkDataWebSocket implements BulkDataSupport {
     }
 
     // create the EOF thread
-    this.readerThread = new ReaderThread();
-    this.eofDetector = new EOFDetector();
+    ThreadFactory threadFactory = this.getApiProvider().getThreadFactory();
+    this.readerThread = new ReaderThread(threadFactory);
+    this.eofDetector = new EOFDetector(threadFactory);
     this.eofDetector.start();
 
     // check if we had an exception
@@ -0,0 +1,384 @@
+package com.senzing.api.services;
+
+import com.senzing.io.RecordReader;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static com.senzing.io.RecordReader.Format.*;
+
+/**
+ * Describes a byte range of a server-side bulk data file that begins and ends
+ * on record boundaries so that it can be parsed and loaded independently of
+ * the other ranges.  The bytes are read through memory-mapped windows of the
+ * file so that they are not copied through the Java heap in large blocks.
+ * <p>
+ * JSON-lines files are split at the first line break following each evenly
+ * spaced offset.  CSV files are split the same way, except that line breaks
+ * within quoted values are not treated as record boundaries, which requires
+ * a single scan of the file.  The header line of a CSV file is prepended to
+ * each partition.  The bulk data must use an ASCII-compatible character
+ * encoding for the partitions to be aligned correctly.  JSON array files
+ * cannot be split without parsing them, so they (and files in other
+ * encodings) are read as a single partition via {@link #whole(FileChannel)}
+ * and loaded serially.
+ */
+public class BulkFilePartition {
+  /**
+   * The maximum number of bytes mapped into memory at once.
+   */
+  public static final int MAP_WINDOW_SIZE = 256 * 1024 * 1024;
+
+  /**
+   * The minimum number of bytes in a partition.  Files that are too small
+   * are split into fewer partitions.
+   */
+  public static final long MIN_PARTITION_SIZE = 1024L * 1024L;
+
+  /**
+   * The size of the buffer used to scan for record boundaries.
+   */
+  private static final int SCAN_BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The {@link FileChannel} for reading the file.
+   */
+  private final FileChannel channel;
+
+  /**
+   * The offset of the first byte of the partition.
+   */
+  private final long offset;
+
+  /**
+   * The number of bytes in the partition.
+   */
+  private final long length;
+
+  /**
+   * The bytes of the CSV header line to prepend, or <tt>null</tt> if none.
+   */
+  private final byte[] header;
+
+  /**
+   * Constructs with the {@link FileChannel}, the byte range and the CSV
+   * header line (if any).
+   *
+   * @param channel The {@link FileChannel} for reading the file.
+   * @param offset  The offset of the first byte of the partition.
+   * @param length  The number of bytes in the partition.
+   * @param header  The bytes of the CSV header line to prepend, or
+   *                <tt>null</tt> if none.
+   */
+  protected BulkFilePartition(FileChannel  channel,
+                              long         offset,
+                              long         length,
+                              byte[]       header)
+  {
+    this.channel  = channel;
+    this.offset   = offset;
+    this.length   = length;
+    this.header   = header;
+  }
+
+  /**
+   * Gets the offset of the first byte of the partition.
+   *
+   * @return The offset of the first byte of the partition.
+   */
+  public long getOffset() {
+    return this.offset;
+  }
+
+  /**
+   * Gets the number of bytes in the partition, excluding any CSV header.
+   *
+   * @return The number of bytes in the partition.
+   */
+  public long getLength() {
+    return this.length;
+  }
+
+  /**
+   * Opens a new {@link InputStream} for reading the bytes of the partition,
+   * preceded by the CSV header line (if any).
+   *
+   * @return The new {@link InputStream} for reading the partition.
+   */
+  public InputStream openInputStream() {
+    InputStream in = new MappedInputStream(
+        this.channel, this.offset, this.offset + this.length);
+    if (this.header != null) {
+      in = new SequenceInputStream(new ByteArrayInputStream(this.header), in);
+    }
+    return in;
+  }
+
+  /**
+   * Creates a single {@link BulkFilePartition} spanning the entire file.  This
+   * is used when the format or character encoding of the file does not allow
+   * it to be split.
+   *
+   * @param channel The {@link FileChannel} for reading the file.
+   *
+   * @return The {@link BulkFilePartition} spanning the entire file.
+   *
+   * @throws IOException If an I/O failure occurs.
+   */
+  public static BulkFilePartition whole(FileChannel channel)
+      throws IOException
+  {
+    return new BulkFilePartition(channel, 0L, channel.size(), null);
+  }
+
+  /**
+   * Splits the JSON-lines or CSV file read by the specified {@link
+   * FileChannel} into up to the specified number of partitions.
+   *
+   * @param channel        The {@link FileChannel} for reading the file.
+   * @param format         The {@link RecordReader.Format} of the file, which
+   *                       must be {@link RecordReader.Format#JSON_LINES} or
+   *                       {@link RecordReader.Format#CSV}.
+   * @param partitionCount The maximum number of partitions.
+   *
+   * @return The {@link List} of {@link BulkFilePartition} instances in the
+   *         order they appear in the file.
+   *
+   * @throws IOException If an I/O failure occurs.
+   * @throws IllegalArgumentException If the format cannot be split or the
+   *                                  partition count is not positive.
+   */
+  public static List<BulkFilePartition> partition(FileChannel          channel,
+                                                  RecordReader.Format  format,
+                                                  int                  partitionCount)
+      throws IOException
+  {
+    Objects.requireNonNull(channel, "The channel cannot be null.");
+    if (format != JSON_LINES && format != CSV) {
+      throw new IllegalArgumentException(
+          "Only JSON-lines and CSV files can be partitioned: " + format);
+    }
+    if (partitionCount <= 0) {
+      throw new IllegalArgumentException(
+          "The partition count must be a positive integer: "
+              + partitionCount);
+    }
+
+    long size = channel.size();
+
+    // peel off the CSV header line so it can be prepended to each partition
+    long start = 0L;
+    byte[] header = null;
+    if (format == CSV) {
+      start = findLineEnd(channel, 0L, size);
+      header = new byte[(int) start];
+      try (InputStream in = new MappedInputStream(channel, 0L, start)) {
+        int count = 0;
+        while (count < header.length) {
+          int read = in.read(header, count, header.length - count);
+          if (read < 0) break;
+          count += read;
+        }
+      }
+    }
+
+    // reduce the partition count for small files
+    long dataBytes = size - start;
+    long maxCount = Math.max(1L, dataBytes / MIN_PARTITION_SIZE);
+    int count = (int) Math.min(partitionCount, maxCount);
+
+    // find the record boundary following each evenly spaced offset
+    long[] boundaries = new long[count + 1];
+    boundaries[0] = start;
+    boundaries[count] = size;
+    if (format == JSON_LINES) {
+      for (int index = 1; index < count; index++) {
+        long target = start + ((dataBytes * index) / count);
+        target = Math.max(target, boundaries[index - 1]);
+        boundaries[index] = findLineEnd(channel, target, size);
+      }
+    } else {
+      findCsvBoundaries(channel, start, size, boundaries);
+    }
+
+    List<BulkFilePartition> partitions = new ArrayList<>(count);
+    for (int index = 0; index < count; index++) {
+      long length = boundaries[index + 1] - boundaries[index];
+      if (length == 0L) continue;
+      partitions.add(new BulkFilePartition(
+          channel, boundaries[index], length, header));
+    }
+    if (partitions.size() == 0) {
+      partitions.add(new BulkFilePartition(channel, start, 0L, header));
+    }
+    return Collections.unmodifiableList(partitions);
+  }
+
+  /**
+   * Finds the offset immediately following the first line break at or after
+   * the specified offset, or the end offset if there is none.
+   *
+   * @param channel The {@link FileChannel} for reading the file.
+   * @param from    The offset at which to begin searching.
+   * @param end     The end offset of the file.
+   *
+   * @return The offset immediately following the line break.
+   *
+   * @throws IOException If an I/O failure occurs.
+   */
+  private static long findLineEnd(FileChannel channel, long from, long end)
+      throws IOException
+  {
+    byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+    long position = from;
+    try (InputStream in = new MappedInputStream(channel, from, end)) {
+      for (int count = in.read(buffer); count > 0; count = in.read(buffer)) {
+        for (int index = 0; index < count; index++) {
+          if (buffer[index] == '\n') return position + index + 1;
+        }
+        position += count;
+      }
+    }
+    return end;
+  }
+
+  /**
+   * Scans the CSV records between the specified offsets and populates the
+   * interior elements of the specified array with the offsets following the
+   * first unquoted line break after each evenly spaced offset.  The first and
+   * last elements must already be populated with the start and end offsets.
+   *
+   * @param channel    The {@link FileChannel} for reading the file.
+   * @param start      The offset of the first CSV record.
+   * @param end        The end offset of the file.
+   * @param boundaries The array of boundaries to populate.
+   *
+   * @throws IOException If an I/O failure occurs.
+   */
+  private static void findCsvBoundaries(FileChannel  channel,
+                                        long         start,
+                                        long         end,
+                                        long[]       boundaries)
+      throws IOException
+  {
+    int count = boundaries.length - 1;
+    long dataBytes = end - start;
+    int next = 1;
+    long target = start + (dataBytes / count);
+    boolean quoted = false;
+    byte[] buffer = new byte[SCAN_BUFFER_SIZE];
+    long position = start;
+    try (InputStream in = new MappedInputStream(channel, start, end)) {
+      for (int read = in.read(buffer);
+           read > 0 && next < count;
+           read = in.read(buffer))
+      {
+        for (int index = 0; index < read && next < count; index++) {
+          byte b = buffer[index];
+          if (b == '"') {
+            // escaped quotes toggle twice so the parity remains correct
+            quoted = !quoted;
+
+          } else if (b == '\n' && !quoted && position + index >= target) {
+            boundaries[next++] = position + index + 1;
+            target = start + ((dataBytes * next) / count);
+          }
+        }
+        position += read;
+      }
+    }
+
+    // any boundaries not found are at the end of the file
+    for (; next < count; next++) {
+      boundaries[next] = end;
+    }
+  }
+
+  /**
+   * An {@link InputStream} that reads a byte range of a {@link FileChannel}
+   * through successive memory-mapped windows.
+   */
+  private static class MappedInputStream extends InputStream {
+    /**
+     * The {@link FileChannel} to read from.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The offset of the next window to map.
+     */
+    private long position;
+
+    /**
+     * The end offset of the byte range.
+     */
+    private final long end;
+
+    /**
+     * The currently mapped window, or <tt>null</tt> if none.
+     */
+    private MappedByteBuffer buffer = null;
+
+    /**
+     * Constructs with the {@link FileChannel} and the byte range to read.
+     *
+     * @param channel The {@link FileChannel} to read from.
+     * @param start   The offset of the first byte to read.
+     * @param end     The offset following the last byte to read.
+     */
+    private MappedInputStream(FileChannel channel, long start, long end) {
+      this.channel  = channel;
+      this.position = start;
+      this.end      = end;
+    }
+
+    /**
+     * Ensures there are bytes remaining in the mapped window by mapping the
+     * next window if needed.
+     *
+     * @return <tt>true</tt> if there are bytes remaining, or <tt>false</tt>
+     *         if the end of the byte range has been reached.
+     *
+     * @throws IOException If an I/O failure occurs.
+     */
+    private boolean ensureRemaining() throws IOException {
+      if (this.buffer != null && this.buffer.hasRemaining()) return true;
+      if (this.position >= this.end) return false;
+      long size = Math.min(MAP_WINDOW_SIZE, this.end - this.position);
+      this.buffer = this.channel.map(
+          FileChannel.MapMode.READ_ONLY, this.position, size);
+      this.position += size;
+      return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+      if (!this.ensureRemaining()) return -1;
+      return this.buffer.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+      if (length == 0) return 0;
+      if (!this.ensureRemaining()) return -1;
+      int count = Math.min(length, this.buffer.remaining());
+      this.buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return (this.buffer == null) ? 0 : this.buffer.remaining();
+    }
+
+    @Override
+    public void close() {
+      this.buffer = null;
+    }
+  }
+}
@@ -0,0 +1,421 @@
+package com.senzing.api.services;
+
+import com.senzing.util.JsonUtilities;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.senzing.util.LoggingUtilities.*;
+
+/**
+ * Tracks the progress of a bulk load and periodically persists a checkpoint
+ * to a file in a state directory so that an interrupted load can be resumed.
+ * Each record is {@linkplain #begin(long) begun} in the order it is read from
+ * the bulk data and {@linkplain #acknowledge(long) acknowledged} once the
+ * engine has responded for it, possibly out of order.  The checkpoint records
+ * the number of leading records that have all been acknowledged along with
+ * the number of bytes of the bulk data that were consumed in reading them and
+ * a {@linkplain #hashRecord(long, String) hash} of those records, so that a
+ * resumed load can {@linkplain #verifyResume(long, long) verify} that it is
+ * skipping the same records rather than the prefix of different bulk data
+ * that was given the same load ID.
+ * <p>
+ * The checkpoint file is keyed by the load ID and is deleted once the load
+ * {@linkplain #complete() completes}.
+ */
+public class BulkLoadCheckpoint {
+  /**
+   * The minimum number of milliseconds between writing checkpoints.
+   */
+  public static final long CHECKPOINT_PERIOD = 10000L;
+
+  /**
+   * The JSON property for the load ID.
+   */
+  private static final String LOAD_ID_KEY = "loadId";
+
+  /**
+   * The JSON property for the record count.
+   */
+  private static final String RECORD_COUNT_KEY = "recordCount";
+
+  /**
+   * The JSON property for the byte offset.
+   */
+  private static final String BYTE_OFFSET_KEY = "byteOffset";
+
+  /**
+   * The JSON property for the time the checkpoint was written.
+   */
+  private static final String UPDATED_ON_KEY = "updatedOn";
+
+  /**
+   * The JSON property for the hash of the acknowledged records.
+   */
+  private static final String RECORDS_HASH_KEY = "recordsHash";
+
+  /**
+   * The {@linkplain #hashRecord(long, String) hash} of an empty sequence of
+   * records, which is the 64-bit FNV-1a offset basis.
+   */
+  public static final long INITIAL_HASH = 0xcbf29ce484222325L;
+
+  /**
+   * The 64-bit FNV-1a prime.
+   */
+  private static final long HASH_PRIME = 0x100000001b3L;
+
+  /**
+   * The checkpoint file.
+   */
+  private final File file;
+
+  /**
+   * The load ID for the bulk load.
+   */
+  private final String loadId;
+
+  /**
+   * The index of the next record to be begun.
+   */
+  private long nextIndex;
+
+  /**
+   * The number of bytes consumed as of the most recently begun record.
+   */
+  private long lastOffset;
+
+  /**
+   * The hash of the records that have been begun.
+   */
+  private long lastHash;
+
+  /**
+   * The {@link TreeMap} of the indexes of the records that have been begun
+   * but not yet acknowledged to the number of bytes consumed and the hash of
+   * the records before each record.
+   */
+  private final TreeMap<Long, long[]> pending = new TreeMap<>();
+
+  /**
+   * The record count of the most recently written checkpoint.
+   */
+  private long writtenCount;
+
+  /**
+   * The hash of the records of the most recently written checkpoint, or
+   * <tt>null</tt> if resumed from a checkpoint that has no hash.
+   */
+  private Long writtenHash;
+
+  /**
+   * The time the most recent checkpoint was written.
+   */
+  private long writtenTime;
+
+  /**
+   * Constructs with the state directory, the load ID and the record count
+   * and byte offset from which the load begins, which are zero unless
+   * resuming from a previous checkpoint.  If the record count is zero then
+   * the hash of the records is the {@linkplain #INITIAL_HASH initial hash},
+   * otherwise it is unknown until {@linkplain #verifyResume(long, long)
+   * verified}.
+   *
+   * @param directory   The state directory in which to write the checkpoint.
+   * @param loadId      The load ID for the bulk load.
+   * @param recordCount The number of records already loaded.
+   * @param byteOffset  The number of bytes consumed in reading the records
+   *                    that were already loaded.
+   */
+  public BulkLoadCheckpoint(File    directory,
+                            String  loadId,
+                            long    recordCount,
+                            long    byteOffset)
+  {
+    this(directory, loadId, recordCount, byteOffset,
+         (recordCount == 0L) ? INITIAL_HASH : null);
+  }
+
+  /**
+   * Constructs with the state directory, the load ID and the record count,
+   * byte offset and hash of the records from which the load begins.
+   *
+   * @param directory   The state directory in which to write the checkpoint.
+   * @param loadId      The load ID for the bulk load.
+   * @param recordCount The number of records already loaded.
+   * @param byteOffset  The number of bytes consumed in reading the records
+   *                    that were already loaded.
+   * @param recordsHash The {@linkplain #hashRecord(long, String) hash} of the
+   *                    records that were already loaded, or <tt>null</tt> if
+   *                    not known.
+   */
+  private BulkLoadCheckpoint(File    directory,
+                             String  loadId,
+                             long    recordCount,
+                             long    byteOffset,
+                             Long    recordsHash)
+  {
+    Objects.requireNonNull(directory, "The directory cannot be null.");
+    Objects.requireNonNull(loadId, "The load ID cannot be null.");
+    this.file         = getCheckpointFile(directory, loadId);
+    this.loadId       = loadId;
+    this.nextIndex    = recordCount;
+    this.lastOffset   = byteOffset;
+    this.lastHash     = (recordsHash == null) ? INITIAL_HASH : recordsHash;
+    this.writtenCount = recordCount;
+    this.writtenHash  = recordsHash;
+    this.writtenTime  = System.currentTimeMillis();
+  }
+
+  /**
+   * Gets the load ID for the bulk load.
+   *
+   * @return The load ID for the bulk load.
+   */
+  public String getLoadId() {
+    return this.loadId;
+  }
+
+  /**
+   * Registers the next record read from the bulk data and returns its index
+   * for acknowledging it.
+   *
+   * @param byteOffset The number of bytes of the bulk data consumed after
+   *                   reading the record.
+   * @param recordText The JSON text for the record, which is {@linkplain
+   *                   #hashRecord(long, String) hashed} into the checkpoint.
+   *
+   * @return The index of the record.
+   */
+  public synchronized long begin(long byteOffset, String recordText) {
+    long index = this.nextIndex++;
+    this.pending.put(index, new long[] { this.lastOffset, this.lastHash });
+    this.lastOffset = byteOffset;
+    this.lastHash   = hashRecord(this.lastHash, recordText);
+    return index;
+  }
+
+  /**
+   * Acknowledges that the engine has responded for the record with the
+   * specified index and writes a checkpoint if the number of leading
+   * acknowledged records has advanced and the {@linkplain #CHECKPOINT_PERIOD
+   * checkpoint period} has elapsed.
+   *
+   * @param index The index of the record.
+   */
+  public synchronized void acknowledge(long index) {
+    this.pending.remove(index);
+    long now = System.currentTimeMillis();
+    if (now - this.writtenTime >= CHECKPOINT_PERIOD) {
+      this.checkpoint();
+    }
+  }
+
+  /**
+   * Writes a checkpoint if the number of leading acknowledged records has
+   * advanced since the last checkpoint was written.  Failures to write the
+   * checkpoint are logged but otherwise ignored so they do not fail the load.
+   */
+  public synchronized void checkpoint() {
+    Map.Entry<Long, long[]> first = this.pending.firstEntry();
+    long recordCount = (first == null) ? this.nextIndex : first.getKey();
+    long byteOffset  = (first == null) ? this.lastOffset : first.getValue()[0];
+    long recordsHash = (first == null) ? this.lastHash : first.getValue()[1];
+    this.writtenTime = System.currentTimeMillis();
+    if (recordCount == this.writtenCount) return;
+
+    JsonObjectBuilder job = Json.createObjectBuilder();
+    job.add(LOAD_ID_KEY, this.loadId);
+    job.add(RECORD_COUNT_KEY, recordCount);
+    job.add(BYTE_OFFSET_KEY, byteOffset);
+    job.add(RECORDS_HASH_KEY, Long.toHexString(recordsHash));
+    job.add(UPDATED_ON_KEY, this.writtenTime);
+    String jsonText = JsonUtilities.toJsonText(job);
+
+    // write to a temporary file and move it so the checkpoint is never torn
+    File tempFile = new File(this.file.getParentFile(),
+                             this.file.getName() + ".tmp");
+    try {
+      Files.write(tempFile.toPath(), jsonText.getBytes(UTF_8));
+      Files.move(tempFile.toPath(), this.file.toPath(),
+                 StandardCopyOption.REPLACE_EXISTING,
+                 StandardCopyOption.ATOMIC_MOVE);
+      this.writtenCount = recordCount;
+      this.writtenHash  = recordsHash;
+
+    } catch (IOException e) {
+      System.err.println("*** WARNING : Failed to write bulk-load checkpoint "
+                             + "for load ID (" + this.loadId + "): "
+                             + e.getMessage());
+      if (!isLastLoggedException(e)) {
+        e.printStackTrace();
+        setLastLoggedException(e);
+      }
+    }
+  }
+
+  /**
+   * Deletes the checkpoint since the load has completed and there is nothing
+   * left to resume.
+   */
+  public synchronized void complete() {
+    if (this.file.exists() && !this.file.delete()) {
+      System.err.println("*** WARNING : Failed to delete bulk-load checkpoint: "
+                             + this.file);
+    }
+  }
+
+  /**
+   * Reads the checkpoint for the specified load ID from the specified state
+   * directory and returns a new {@link BulkLoadCheckpoint} to resume from it.
+   * If there is no checkpoint for the load ID then the returned instance
+   * begins from the first record.  The records skipped when resuming should
+   * be {@linkplain #verifyResume(long, long) verified} before any more
+   * records are begun.
+   *
+   * @param directory The state directory from which to read the checkpoint.
+   * @param loadId    The load ID for the bulk load.
+   *
+   * @return The {@link BulkLoadCheckpoint} to resume from.
+   *
+   * @throws IOException If a failure occurs reading the checkpoint or if the
+   *                     checkpoint is for a different load ID.
+   */
+  public static BulkLoadCheckpoint resume(File directory, String loadId)
+      throws IOException
+  {
+    File file = getCheckpointFile(directory, loadId);
+    if (!file.exists()) {
+      return new BulkLoadCheckpoint(directory, loadId, 0L, 0L);
+    }
+    String jsonText = new String(Files.readAllBytes(file.toPath()), UTF_8);
+    JsonObject jsonObject = JsonUtilities.parseJsonObject(jsonText);
+    String checkpointLoadId = JsonUtilities.getString(jsonObject, LOAD_ID_KEY);
+    if (!loadId.equals(checkpointLoadId)) {
+      throw new IOException("The bulk-load checkpoint (" + file
+                                + ") is for a different load ID: "
+                                + checkpointLoadId);
+    }
+    Long recordCount = JsonUtilities.getLong(jsonObject, RECORD_COUNT_KEY, 0L);
+    Long byteOffset = JsonUtilities.getLong(jsonObject, BYTE_OFFSET_KEY, 0L);
+    String hashText = JsonUtilities.getString(jsonObject, RECORDS_HASH_KEY);
+    Long recordsHash = null;
+    if (hashText != null) {
+      try {
+        recordsHash = Long.parseUnsignedLong(hashText, 16);
+      } catch (NumberFormatException e) {
+        throw new IOException("The bulk-load checkpoint (" + file
+                                  + ") has an invalid records hash: "
+                                  + hashText);
+      }
+    } else if (recordCount == 0L) {
+      recordsHash = INITIAL_HASH;
+    }
+    return new BulkLoadCheckpoint(
+        directory, loadId, recordCount, byteOffset, recordsHash);
+  }
+
+  /**
+   * Verifies that the specified number and {@linkplain #hashRecord(long,
+   * String) hash} of the records that were skipped when resuming match those
+   * of the checkpoint, meaning the resumed load is reading the same bulk data
+   * as the load that wrote the checkpoint.  If the checkpoint was written
+   * without a hash then only the number of records is compared, and the
+   * specified hash is used for the records that follow.
+   *
+   * @param skippedCount The number of records that were skipped.
+   * @param skippedHash  The hash of the records that were skipped.
+   *
+   * @return <tt>true</tt> if the skipped records match the checkpoint,
+   *         otherwise <tt>false</tt>.
+   */
+  public synchronized boolean verifyResume(long skippedCount, long skippedHash)
+  {
+    if (skippedCount != this.writtenCount) return false;
+    if (this.writtenHash != null && this.writtenHash != skippedHash) {
+      return false;
+    }
+    this.writtenHash = skippedHash;
+    if (this.pending.isEmpty() && this.nextIndex == skippedCount) {
+      this.lastHash = skippedHash;
+    }
+    return true;
+  }
+
+  /**
+   * Computes the hash of a sequence of records from the hash of the records
+   * that precede the specified record and the JSON text of the record, using
+   * 64-bit FNV-1a over the characters of the records.  The hash of an empty
+   * sequence is {@link #INITIAL_HASH}.
+   *
+   * @param hash       The hash of the preceding records.
+   * @param recordText The JSON text for the record.
+   *
+   * @return The hash of the records including the specified record.
+   */
+  public static long hashRecord(long hash, String recordText) {
+    for (int index = 0; index < recordText.length(); index++) {
+      hash = (hash ^ recordText.charAt(index)) * HASH_PRIME;
+    }
+    // separate the records so their boundaries are part of the hash
+    return (hash ^ '\n') * HASH_PRIME;
+  }
+
+  /**
+   * Gets the number of leading records that were acknowledged as of the most
+   * recently written (or resumed) checkpoint.
+   *
+   * @return The number of records that were acknowledged.
+   */
+  public synchronized long getRecordCount() {
+    return this.writtenCount;
+  }
+
+  /**
+   * Gets the checkpoint file in the specified state directory for the
+   * specified load ID.  The file name is derived from a digest of the load ID
+   * since load ID's may contain characters that are not legal in file names.
+   *
+   * @param directory The state directory.
+   * @param loadId    The load ID.
+   *
+   * @return The checkpoint file.
+   */
+  private static File getCheckpointFile(File directory, String loadId) {
+    return new File(directory, "checkpoint-" + digestLoadId(loadId) + ".json");
+  }
+
+  /**
+   * Gets the hexadecimal SHA-256 digest of the specified load ID for use in
+   * file names.
+   *
+   * @param loadId The load ID.
+   *
+   * @return The hexadecimal SHA-256 digest of the load ID.
+   */
+  static String digestLoadId(String loadId) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(loadId.getBytes(UTF_8));
+      StringBuilder sb = new StringBuilder();
+      for (byte b : hash) {
+        sb.append(String.format("%02x", b & 0xFF));
+      }
+      return sb.toString();
+
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
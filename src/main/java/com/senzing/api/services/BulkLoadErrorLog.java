@@ -0,0 +1,555 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzError;
+import com.senzing.api.model.impl.SzBulkLoadResultAccumulator;
+import com.senzing.util.JsonUtilities;
+
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import java.io.*;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.*;
+import static com.senzing.util.LoggingUtilities.*;
+
+/**
+ * Logs the records that failed to load during a bulk load to gzip-compressed
+ * JSON-lines files in a directory so that the failures are retained in full
+ * without holding them in memory.  Each line describes one failed record with
+ * its data source, record ID, error code and error message.
+ * <p>
+ * The log for a load ID is rotated to a new segment file every {@value
+ * #MAX_SEGMENT_RECORDS} records so that no single file grows without bound.
+ * Segments are numbered in the order they are written and a log opened for a
+ * load ID that already has segments continues after the last one.  Segment
+ * numbers are claimed by creating the segment file exclusively, so several
+ * logs open for the same load ID (e.g.: concurrent loads of the same file)
+ * each write their own segments rather than overwriting one another's.  Old
+ * segments can be {@linkplain #purge(File, long, long) purged} by age and by
+ * the total size of the directory.  The
+ * segments are flushed every {@value #FLUSH_PERIOD} records or once
+ * {@value #FLUSH_INTERVAL} milliseconds have elapsed since the last flush,
+ * whichever comes first, and the open logs for a load ID are also flushed
+ * before it is {@linkplain #copyTo(File, String, Writer) read} so that the
+ * log can be read in full while the load is in progress.
+ */
+public class BulkLoadErrorLog
+    implements SzBulkLoadResultAccumulator.FailedRecordListener, Closeable
+{
+  /**
+   * The maximum number of records written to each segment file.
+   */
+  public static final int MAX_SEGMENT_RECORDS = 100000;
+
+  /**
+   * The number of records written between flushes of the segment file.
+   */
+  public static final int FLUSH_PERIOD = 100;
+
+  /**
+   * The maximum number of milliseconds between flushes of the segment file
+   * while records are being written.
+   */
+  public static final long FLUSH_INTERVAL = 1000L;
+
+  /**
+   * The {@link Map} of keys identifying the load ID's in a directory to the
+   * {@link Set} of logs that are currently open for them, so that they can
+   * be flushed before the log is read.
+   */
+  private static final Map<String, Set<BulkLoadErrorLog>> OPEN_LOGS
+      = new HashMap<>();
+
+  /**
+   * The size of the buffer for reading and writing segment files.
+   */
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * The suffix for the segment files.
+   */
+  private static final String SEGMENT_SUFFIX = ".jsonl.gz";
+
+  /**
+   * The directory in which the segment files are written.
+   */
+  private final File directory;
+
+  /**
+   * The load ID for the bulk load.
+   */
+  private final String loadId;
+
+  /**
+   * The index of the next segment file to be written.
+   */
+  private int nextSegment;
+
+  /**
+   * The {@link Writer} for the current segment file, or <tt>null</tt> if no
+   * segment file is open.
+   */
+  private Writer writer = null;
+
+  /**
+   * The number of records written to the current segment file.
+   */
+  private int segmentCount = 0;
+
+  /**
+   * The number of records written since the segment file was last flushed.
+   */
+  private int unflushedCount = 0;
+
+  /**
+   * The time the segment file was last flushed.
+   */
+  private long flushedTime = 0L;
+
+  /**
+   * The number of records logged by this instance.
+   */
+  private long recordCount = 0L;
+
+  /**
+   * Flag indicating if logging was disabled due to a failure.
+   */
+  private boolean failed = false;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Constructs with the directory in which to write the segment files and
+   * the load ID.  No segment file is created until a failed record is logged.
+   *
+   * @param directory The directory in which to write the segment files.
+   * @param loadId    The load ID for the bulk load.
+   */
+  public BulkLoadErrorLog(File directory, String loadId) {
+    Objects.requireNonNull(directory, "The directory cannot be null.");
+    Objects.requireNonNull(loadId, "The load ID cannot be null.");
+    this.directory    = directory;
+    this.loadId       = loadId;
+    this.nextSegment  = getLastSegmentIndex(directory, loadId) + 1;
+    synchronized (OPEN_LOGS) {
+      OPEN_LOGS.computeIfAbsent(getLogKey(directory, loadId),
+                                k -> new HashSet<>()).add(this);
+    }
+  }
+
+  /**
+   * Gets the load ID for the bulk load.
+   *
+   * @return The load ID for the bulk load.
+   */
+  public String getLoadId() {
+    return this.loadId;
+  }
+
+  /**
+   * Gets the number of failed records logged by this instance.
+   *
+   * @return The number of failed records logged by this instance.
+   */
+  public synchronized long getRecordCount() {
+    return this.recordCount;
+  }
+
+  /**
+   * Appends the specified failed record to the log, rotating to a new
+   * segment file if the current one is full.  Failures to write the log are
+   * logged and disable further logging so they do not fail the load.
+   *
+   * @param dataSource The data source for the record, or <tt>null</tt> if
+   *                   none.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if none
+   *                   or unknown.
+   * @param error      The {@link SzError} describing the failure.
+   */
+  @Override
+  public synchronized void failedRecord(String   dataSource,
+                                        String   recordId,
+                                        SzError  error)
+  {
+    if (this.closed || this.failed) return;
+
+    JsonObjectBuilder job = Json.createObjectBuilder();
+    JsonUtilities.add(job, "dataSource", dataSource);
+    JsonUtilities.add(job, "recordId", recordId);
+    JsonUtilities.add(job, "errorCode", error.getCode());
+    JsonUtilities.add(job, "errorMessage", error.getMessage());
+    job.add("failedOn", System.currentTimeMillis());
+    String jsonText = JsonUtilities.toJsonText(job);
+
+    try {
+      if (this.writer == null || this.segmentCount >= MAX_SEGMENT_RECORDS) {
+        this.rotate();
+      }
+      this.writer.write(jsonText);
+      this.writer.write('\n');
+      this.segmentCount++;
+      this.recordCount++;
+      this.unflushedCount++;
+      if (this.unflushedCount >= FLUSH_PERIOD
+          || System.currentTimeMillis() - this.flushedTime >= FLUSH_INTERVAL)
+      {
+        this.flush();
+      }
+
+    } catch (IOException e) {
+      this.failed = true;
+      System.err.println("*** WARNING : Failed to write bulk-load error log "
+                             + "for load ID (" + this.loadId + "): "
+                             + e.getMessage());
+      if (!isLastLoggedException(e)) {
+        e.printStackTrace();
+        setLastLoggedException(e);
+      }
+      this.closeWriter();
+    }
+  }
+
+  /**
+   * Flushes the records written to the current segment file (if any) so
+   * they can be read.
+   *
+   * @throws IOException If a failure occurs.
+   */
+  private synchronized void flush() throws IOException {
+    if (this.writer != null && this.unflushedCount > 0) {
+      this.writer.flush();
+    }
+    this.unflushedCount = 0;
+    this.flushedTime    = System.currentTimeMillis();
+  }
+
+  /**
+   * Closes the current segment file (if any) and disables further logging.
+   */
+  @Override
+  public void close() {
+    synchronized (OPEN_LOGS) {
+      String key = getLogKey(this.directory, this.loadId);
+      Set<BulkLoadErrorLog> logs = OPEN_LOGS.get(key);
+      if (logs != null && logs.remove(this) && logs.isEmpty()) {
+        OPEN_LOGS.remove(key);
+      }
+    }
+    synchronized (this) {
+      this.closed = true;
+      this.closeWriter();
+    }
+  }
+
+  /**
+   * Closes the current segment file (if any) and opens the next one.
+   *
+   * @throws IOException If a failure occurs.
+   */
+  private void rotate() throws IOException {
+    this.closeWriter();
+
+    // claim the next free segment number by creating the file exclusively
+    OutputStream fos = null;
+    while (fos == null) {
+      File file = getSegmentFile(this.directory, this.loadId, this.nextSegment++);
+      try {
+        fos = Files.newOutputStream(file.toPath(), CREATE_NEW, WRITE);
+      } catch (FileAlreadyExistsException e) {
+        // another log for the load ID claimed it, so try the next one
+      }
+    }
+    OutputStream os = new GZIPOutputStream(fos, BUFFER_SIZE, true);
+    this.writer = new BufferedWriter(new OutputStreamWriter(os, UTF_8));
+    this.segmentCount   = 0;
+    this.unflushedCount = 0;
+  }
+
+  /**
+   * Closes the current segment file (if any), logging any failure.
+   */
+  private void closeWriter() {
+    if (this.writer == null) return;
+    try {
+      this.writer.close();
+    } catch (IOException e) {
+      System.err.println("*** WARNING : Failed to close bulk-load error log "
+                             + "for load ID (" + this.loadId + "): "
+                             + e.getMessage());
+    }
+    this.writer = null;
+  }
+
+  /**
+   * Copies the decompressed JSON lines logged for the specified load ID in
+   * the specified directory to the specified {@link Writer}, one line at a
+   * time so that memory use is bounded regardless of the size of the log.
+   * A segment file that is still being written is copied up to the last
+   * complete line that was flushed.
+   *
+   * @param directory The directory containing the segment files.
+   * @param loadId    The load ID for the bulk load.
+   * @param writer    The {@link Writer} to copy the lines to.
+   *
+   * @return The number of lines that were copied.
+   *
+   * @throws IOException If a failure occurs.
+   */
+  public static long copyTo(File directory, String loadId, Writer writer)
+      throws IOException
+  {
+    // flush the logs still being written for the load ID
+    List<BulkLoadErrorLog> openLogs;
+    synchronized (OPEN_LOGS) {
+      Set<BulkLoadErrorLog> logs = OPEN_LOGS.get(getLogKey(directory, loadId));
+      openLogs = (logs == null) ? Collections.emptyList()
+          : new ArrayList<>(logs);
+    }
+    for (BulkLoadErrorLog log : openLogs) {
+      try {
+        log.flush();
+      } catch (IOException e) {
+        // the writer reports the failure when it next writes
+      }
+    }
+
+    long count = 0L;
+    for (File file : getSegmentFiles(directory, loadId)) {
+      boolean[] truncated = { false };
+      try (InputStream is = new GZIPInputStream(
+               new FileInputStream(file), BUFFER_SIZE) {
+             // treat the unflushed tail of a segment still being written as
+             // the end of the stream rather than losing the buffered lines
+             public int read(byte[] buffer, int offset, int length)
+                 throws IOException
+             {
+               try {
+                 return super.read(buffer, offset, length);
+               } catch (EOFException e) {
+                 truncated[0] = true;
+                 return -1;
+               }
+             }
+           };
+           Reader reader = new BufferedReader(
+               new InputStreamReader(is, UTF_8)))
+      {
+        StringBuilder line = new StringBuilder();
+        for (int c = reader.read(); c >= 0; c = reader.read()) {
+          if (c != '\n') {
+            line.append((char) c);
+            continue;
+          }
+          writer.write(line.toString());
+          writer.write('\n');
+          line.setLength(0);
+          count++;
+        }
+
+        // a partial last line is only complete if the segment is complete
+        if (line.length() > 0 && !truncated[0]) {
+          writer.write(line.toString());
+          writer.write('\n');
+          count++;
+        }
+
+      } catch (EOFException e) {
+        // the segment header is not yet written, so there are no lines
+      }
+    }
+    writer.flush();
+    return count;
+  }
+
+  /**
+   * Gets the segment files for the specified load ID in the specified
+   * directory in the order they were written.
+   *
+   * @param directory The directory containing the segment files.
+   * @param loadId    The load ID for the bulk load.
+   *
+   * @return The {@link List} of segment files, which is empty if none.
+   */
+  public static List<File> getSegmentFiles(File directory, String loadId) {
+    String prefix = getSegmentPrefix(loadId);
+    SortedMap<Integer, File> segments = new TreeMap<>();
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Integer index = parseSegmentIndex(prefix, file.getName());
+        if (index != null) segments.put(index, file);
+      }
+    }
+    return Collections.unmodifiableList(new ArrayList<>(segments.values()));
+  }
+
+  /**
+   * Deletes the segment files in the specified directory that were last
+   * written more than the specified number of milliseconds ago, and then
+   * deletes the least recently written of the remaining segment files until
+   * their total size is within the specified number of bytes.  The segment
+   * files of the load ID's that have logs open are never deleted.  A maximum
+   * of zero (or less) means there is no limit.
+   *
+   * @param directory    The directory containing the segment files.
+   * @param maxAgeMillis The maximum number of milliseconds since a segment
+   *                     file was last written, or zero if no limit.
+   * @param maxTotalSize The maximum total number of bytes for the segment
+   *                     files, or zero if no limit.
+   *
+   * @return The number of segment files that were deleted.
+   */
+  public static int purge(File directory, long maxAgeMillis, long maxTotalSize)
+  {
+    if (maxAgeMillis <= 0L && maxTotalSize <= 0L) return 0;
+
+    // get the prefixes for the load ID's that are still being written
+    Set<String> openPrefixes = new HashSet<>();
+    String dirPrefix = directory.getAbsolutePath() + File.separator;
+    synchronized (OPEN_LOGS) {
+      for (String key : OPEN_LOGS.keySet()) {
+        if (key.startsWith(dirPrefix)) {
+          openPrefixes.add("errors-" + key.substring(dirPrefix.length()) + "-");
+        }
+      }
+    }
+
+    File[] files = directory.listFiles();
+    if (files == null) return 0;
+
+    // order the segments from least to most recently written
+    List<File> segments = new ArrayList<>(files.length);
+    for (File file : files) {
+      String name = file.getName();
+      if (!name.startsWith("errors-") || !name.endsWith(SEGMENT_SUFFIX)) {
+        continue;
+      }
+      boolean open = false;
+      for (String prefix : openPrefixes) {
+        if (name.startsWith(prefix)) {
+          open = true;
+          break;
+        }
+      }
+      if (!open) segments.add(file);
+    }
+    Map<File, Long> modified = new HashMap<>();
+    for (File file : segments) modified.put(file, file.lastModified());
+    segments.sort(Comparator.comparing(modified::get));
+
+    long totalSize = 0L;
+    for (File file : segments) totalSize += file.length();
+
+    long now = System.currentTimeMillis();
+    int deleteCount = 0;
+    for (File file : segments) {
+      boolean expired = (maxAgeMillis > 0L
+                         && now - modified.get(file) > maxAgeMillis);
+      boolean oversize = (maxTotalSize > 0L && totalSize > maxTotalSize);
+      if (!expired && !oversize) break;
+      long length = file.length();
+      if (file.delete()) {
+        totalSize -= length;
+        deleteCount++;
+      }
+    }
+    return deleteCount;
+  }
+
+  /**
+   * Gets the index of the last segment file for the specified load ID in the
+   * specified directory.
+   *
+   * @param directory The directory containing the segment files.
+   * @param loadId    The load ID for the bulk load.
+   *
+   * @return The one-based index of the last segment, or zero if none.
+   */
+  private static int getLastSegmentIndex(File directory, String loadId) {
+    String prefix = getSegmentPrefix(loadId);
+    int last = 0;
+    File[] files = directory.listFiles();
+    if (files != null) {
+      for (File file : files) {
+        Integer index = parseSegmentIndex(prefix, file.getName());
+        if (index != null && index > last) last = index;
+      }
+    }
+    return last;
+  }
+
+  /**
+   * Parses the segment index from the specified file name if it is the name
+   * of a segment file with the specified prefix.
+   *
+   * @param prefix   The prefix for the segment files of the load ID.
+   * @param fileName The file name to parse.
+   *
+   * @return The one-based index of the segment, or <tt>null</tt> if the file
+   *         name is not that of a segment file with the prefix.
+   */
+  private static Integer parseSegmentIndex(String prefix, String fileName) {
+    if (!fileName.startsWith(prefix) || !fileName.endsWith(SEGMENT_SUFFIX)) {
+      return null;
+    }
+    String index = fileName.substring(
+        prefix.length(), fileName.length() - SEGMENT_SUFFIX.length());
+    try {
+      return Integer.parseInt(index);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the key identifying the logs for the specified load ID in the
+   * specified directory.
+   *
+   * @param directory The directory containing the segment files.
+   * @param loadId    The load ID for the bulk load.
+   *
+   * @return The key identifying the logs.
+   */
+  private static String getLogKey(File directory, String loadId) {
+    return directory.getAbsolutePath() + File.separator
+        + BulkLoadCheckpoint.digestLoadId(loadId);
+  }
+
+  /**
+   * Gets the segment file with the specified index for the specified load ID
+   * in the specified directory.  The file name is derived from a digest of
+   * the load ID since load ID's may contain characters that are not legal in
+   * file names.
+   *
+   * @param directory The directory containing the segment files.
+   * @param loadId    The load ID for the bulk load.
+   * @param index     The one-based index of the segment.
+   *
+   * @return The segment file.
+   */
+  private static File getSegmentFile(File directory, String loadId, int index) {
+    String name = getSegmentPrefix(loadId) + String.format("%06d", index)
+        + SEGMENT_SUFFIX;
+    return new File(directory, name);
+  }
+
+  /**
+   * Gets the file name prefix for the segment files for the specified load
+   * ID, which is followed by the segment index.
+   *
+   * @param loadId The load ID for the bulk load.
+   *
+   * @return The file name prefix for the segment files.
+   */
+  private static String getSegmentPrefix(String loadId) {
+    return "errors-" + BulkLoadCheckpoint.digestLoadId(loadId) + "-";
+  }
+}
@@ -0,0 +1,635 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.api.model.impl.SzBulkLoadResultAccumulator;
+import com.senzing.io.RecordReader;
+import com.senzing.io.TemporaryDataCache;
+import com.senzing.util.AccessToken;
+import com.senzing.util.AsyncWorkerPool;
+import com.senzing.util.JsonUtilities;
+
+import javax.json.JsonObject;
+import java.io.*;
+import java.util.*;
+
+import static com.senzing.api.model.SzBulkLoadJobState.*;
+import static com.senzing.util.AsyncWorkerPool.AsyncResult;
+import static com.senzing.api.services.ServicesUtil.logWarning;
+
+/**
+ * Manages asynchronous bulk-load jobs that run independently of the HTTP
+ * request that submitted them.  The bulk data for each job is spooled to the
+ * spool directory (or the default temporary directory) when the job is
+ * submitted and the jobs are run in the order submitted by a fixed number of
+ * job threads.  Each running job loads its records with an equal share of
+ * the engine threads so that concurrent jobs progress fairly.  Finished jobs
+ * are retained for the retention period so their results can be retrieved.
+ */
+public class BulkLoadJobManager implements BulkDataSupport, Closeable {
+  /**
+   * The number of milliseconds to wait before retrying the authorization of
+   * a job as a prolonged operation.
+   */
+  public static final long AUTHORIZATION_RETRY_PERIOD = 1000L;
+
+  /**
+   * The {@link SzApiProvider} to use.
+   */
+  private final SzApiProvider provider;
+
+  /**
+   * The maximum number of jobs to run concurrently.
+   */
+  private final int concurrency;
+
+  /**
+   * The directory in which to spool the bulk data, or <tt>null</tt> if the
+   * default temporary directory is used.
+   */
+  private final File spoolDirectory;
+
+  /**
+   * The number of milliseconds to retain finished jobs.
+   */
+  private final long retentionPeriod;
+
+  /**
+   * The {@link Map} of job ID's to {@link Job} instances in the order the
+   * jobs were submitted.
+   */
+  private final Map<String, Job> jobs = new LinkedHashMap<>();
+
+  /**
+   * The queue of jobs waiting to be run.
+   */
+  private final LinkedList<Job> queue = new LinkedList<>();
+
+  /**
+   * The threads running the jobs.
+   */
+  private final List<Thread> threads;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Describes a bulk-load job that has been submitted.
+   */
+  public static class Job {
+    /**
+     * The unique ID identifying the job.
+     */
+    private final String jobId;
+
+    /**
+     * The load ID with which the records are loaded.
+     */
+    private final String loadId;
+
+    /**
+     * The {@link Map} of data source mappings.
+     */
+    private final Map<String, String> dataSourceMap;
+
+    /**
+     * The maximum number of failures or zero (0) if no maximum.
+     */
+    private final int maxFailures;
+
+    /**
+     * The client ID for the load throttle, or <tt>null</tt> if the client is
+     * not identified.
+     */
+    private final String clientId;
+
+    /**
+     * The {@link BulkDataSet} with the spooled bulk data.
+     */
+    private final BulkDataSet dataSet;
+
+    /**
+     * The {@link SzBulkLoadResultAccumulator} tracking the results.
+     */
+    private final SzBulkLoadResultAccumulator result;
+
+    /**
+     * The state of the job.
+     */
+    private SzBulkLoadJobState state;
+
+    /**
+     * The timestamp when the job was submitted.
+     */
+    private final Date submittedOn;
+
+    /**
+     * The timestamp when the job started running.
+     */
+    private Date startedOn = null;
+
+    /**
+     * The timestamp when the job finished.
+     */
+    private Date finishedOn = null;
+
+    /**
+     * The error message describing why the job was aborted.
+     */
+    private String errorMessage = null;
+
+    /**
+     * Flag indicating if the job has been cancelled.
+     */
+    private boolean cancelled = false;
+
+    /**
+     * Constructs with the parameters for the job.
+     *
+     * @param loadId        The load ID with which to load the records.
+     * @param dataSourceMap The {@link Map} of data source mappings.
+     * @param maxFailures   The maximum number of failures or zero (0) if no
+     *                      maximum.
+     * @param clientId      The client ID for the load throttle, or
+     *                      <tt>null</tt> if the client is not identified.
+     * @param dataSet       The {@link BulkDataSet} with the spooled data.
+     * @param result        The {@link SzBulkLoadResultAccumulator} to track
+     *                      the results.
+     */
+    private Job(String                      loadId,
+                Map<String, String>         dataSourceMap,
+                int                         maxFailures,
+                String                      clientId,
+                BulkDataSet                 dataSet,
+                SzBulkLoadResultAccumulator result)
+    {
+      this.jobId          = UUID.randomUUID().toString();
+      this.loadId         = loadId;
+      this.dataSourceMap  = new HashMap<>(dataSourceMap);
+      this.maxFailures    = maxFailures;
+      this.clientId       = clientId;
+      this.dataSet        = dataSet;
+      this.result         = result;
+      this.state          = QUEUED;
+      this.submittedOn    = new Date();
+    }
+
+    /**
+     * Gets the unique ID identifying the job.
+     *
+     * @return The unique ID identifying the job.
+     */
+    public String getJobId() {
+      return this.jobId;
+    }
+
+    /**
+     * Gets the {@link SzBulkLoadJobState} describing the state of the job.
+     *
+     * @return The {@link SzBulkLoadJobState} describing the state of the job.
+     */
+    public synchronized SzBulkLoadJobState getState() {
+      return this.state;
+    }
+
+    /**
+     * Checks if the job has been cancelled.
+     *
+     * @return <tt>true</tt> if the job has been cancelled, otherwise
+     *         <tt>false</tt>.
+     */
+    public synchronized boolean isCancelled() {
+      return this.cancelled;
+    }
+
+    /**
+     * Waits for the job to finish or for the specified number of
+     * milliseconds to elapse, whichever comes first.
+     *
+     * @param timeout The maximum number of milliseconds to wait.
+     *
+     * @return <tt>true</tt> if the job has finished, otherwise
+     *         <tt>false</tt>.
+     */
+    public synchronized boolean waitUntilFinished(long timeout) {
+      if (!this.state.isFinished() && timeout > 0L) {
+        try {
+          this.wait(timeout);
+        } catch (InterruptedException ignore) {
+          // ignore
+        }
+      }
+      return this.state.isFinished();
+    }
+
+    /**
+     * Creates a new {@link SzBulkLoadJob} describing the current state of
+     * the job with a snapshot of its results.
+     *
+     * @return The {@link SzBulkLoadJob} describing the job.
+     */
+    public synchronized SzBulkLoadJob toBulkLoadJob() {
+      SzBulkLoadJob bulkLoadJob = SzBulkLoadJob.FACTORY.create();
+      bulkLoadJob.setJobId(this.jobId);
+      bulkLoadJob.setLoadId(this.loadId);
+      bulkLoadJob.setState(this.state);
+      bulkLoadJob.setSubmittedOn(this.submittedOn);
+      bulkLoadJob.setStartedOn(this.startedOn);
+      bulkLoadJob.setFinishedOn(this.finishedOn);
+      bulkLoadJob.setErrorMessage(this.errorMessage);
+      bulkLoadJob.setResult(this.result.snapshot());
+      return bulkLoadJob;
+    }
+
+    /**
+     * Marks the job as cancelled.  This returns <tt>true</tt> if the job was
+     * queued and can be finished immediately, otherwise <tt>false</tt>.
+     *
+     * @return <tt>true</tt> if the job was queued, otherwise <tt>false</tt>.
+     */
+    private synchronized boolean cancel() {
+      if (this.state.isFinished()) return false;
+      this.cancelled = true;
+      return (this.state == QUEUED);
+    }
+
+    /**
+     * Marks the job as running unless it has been cancelled.
+     *
+     * @return <tt>true</tt> if the job was marked as running, or
+     *         <tt>false</tt> if it has been cancelled.
+     */
+    private synchronized boolean start() {
+      if (this.cancelled || this.state.isFinished()) return false;
+      this.state      = RUNNING;
+      this.startedOn  = new Date();
+      this.result.setStatus(SzBulkDataStatus.IN_PROGRESS);
+      return true;
+    }
+
+    /**
+     * Marks the job as finished with the specified state, deletes the
+     * spooled data and notifies any threads waiting for it to finish.
+     *
+     * @param state        The final {@link SzBulkLoadJobState}.
+     * @param errorMessage The error message describing the failure, or
+     *                     <tt>null</tt> if none.
+     */
+    private synchronized void finish(SzBulkLoadJobState state,
+                                     String             errorMessage)
+    {
+      if (this.state.isFinished()) return;
+      this.state        = state;
+      this.finishedOn   = new Date();
+      this.errorMessage = errorMessage;
+      this.result.setStatus((state == COMPLETED)
+                                ? SzBulkDataStatus.COMPLETED
+                                : SzBulkDataStatus.ABORTED);
+      this.dataSet.getDataCache().delete();
+      this.notifyAll();
+    }
+
+    /**
+     * Checks if the job finished before the specified time.
+     *
+     * @param time The time in milliseconds since the epoch.
+     *
+     * @return <tt>true</tt> if the job finished before the specified time,
+     *         otherwise <tt>false</tt>.
+     */
+    private synchronized boolean isFinishedBefore(long time) {
+      return (this.finishedOn != null && this.finishedOn.getTime() < time);
+    }
+  }
+
+  /**
+   * Constructs with the {@link SzApiProvider}, the number of jobs to run
+   * concurrently, the spool directory and the retention period, and starts
+   * the job threads.
+   *
+   * @param provider        The {@link SzApiProvider} to use.
+   * @param concurrency     The maximum number of jobs to run concurrently.
+   * @param spoolDirectory  The directory in which to spool the bulk data, or
+   *                        <tt>null</tt> if the default temporary directory
+   *                        should be used.
+   * @param retentionPeriod The number of milliseconds to retain finished
+   *                        jobs.
+   * @throws IllegalArgumentException If the concurrency is not positive or
+   *                                  the retention period is negative.
+   */
+  public BulkLoadJobManager(SzApiProvider provider,
+                            int           concurrency,
+                            File          spoolDirectory,
+                            long          retentionPeriod)
+  {
+    Objects.requireNonNull(provider, "The provider cannot be null.");
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException(
+          "The concurrency must be a positive integer: " + concurrency);
+    }
+    if (retentionPeriod < 0L) {
+      throw new IllegalArgumentException(
+          "The retention period cannot be negative: " + retentionPeriod);
+    }
+    this.provider         = provider;
+    this.concurrency      = concurrency;
+    this.spoolDirectory   = spoolDirectory;
+    this.retentionPeriod  = retentionPeriod;
+    this.threads          = new ArrayList<>(concurrency);
+    for (int index = 0; index < concurrency; index++) {
+      Thread thread = provider.getThreadFactory().newThread(this::runJobs);
+      thread.setName("sz-bulk-load-job-" + index);
+      thread.setDaemon(true);
+      this.threads.add(thread);
+    }
+    this.threads.forEach(Thread::start);
+  }
+
+  /**
+   * Gets the maximum number of jobs to run concurrently.
+   *
+   * @return The maximum number of jobs to run concurrently.
+   */
+  public int getConcurrency() {
+    return this.concurrency;
+  }
+
+  /**
+   * Gets the directory in which the bulk data is spooled.  This returns
+   * <tt>null</tt> if the default temporary directory is used.
+   *
+   * @return The directory in which the bulk data is spooled, or
+   *         <tt>null</tt> if the default temporary directory is used.
+   */
+  public File getSpoolDirectory() {
+    return this.spoolDirectory;
+  }
+
+  /**
+   * Gets the number of milliseconds that finished jobs are retained.
+   *
+   * @return The number of milliseconds that finished jobs are retained.
+   */
+  public long getRetentionPeriod() {
+    return this.retentionPeriod;
+  }
+
+  /**
+   * Submits a job to load the records from the specified {@link BulkDataSet}
+   * whose data has already been spooled.
+   *
+   * @param loadId        The load ID with which to load the records.
+   * @param dataSourceMap The {@link Map} of data source mappings.
+   * @param maxFailures   The maximum number of failures or zero (0) if no
+   *                      maximum.
+   * @param clientId      The client ID for the load throttle, or
+   *                      <tt>null</tt> if the client is not identified.
+   * @param dataSet       The {@link BulkDataSet} with the spooled data whose
+   *                      format has been determined.
+   *
+   * @return The {@link Job} that was submitted.
+   *
+   * @throws IllegalStateException If this instance has been closed.
+   */
+  public synchronized Job submit(String               loadId,
+                                 Map<String, String>  dataSourceMap,
+                                 int                  maxFailures,
+                                 String               clientId,
+                                 BulkDataSet          dataSet)
+  {
+    if (this.closed) {
+      throw new IllegalStateException(
+          "The bulk-load job manager has been closed.");
+    }
+    this.purgeExpiredJobs();
+
+    SzBulkLoadResultAccumulator result = this.newBulkLoadResultAccumulator();
+    result.setStatus(SzBulkDataStatus.NOT_STARTED);
+    result.setCharacterEncoding(dataSet.getCharacterEncoding());
+    result.setMediaType(dataSet.getFormat().getMediaType());
+
+    Job job = new Job(
+        loadId, dataSourceMap, maxFailures, clientId, dataSet, result);
+    this.jobs.put(job.getJobId(), job);
+    this.queue.add(job);
+    this.notifyAll();
+    return job;
+  }
+
+  /**
+   * Gets the {@link Job} with the specified job ID.  This returns
+   * <tt>null</tt> if the job is not recognized or has been finished for
+   * longer than the retention period.
+   *
+   * @param jobId The job ID for the job.
+   *
+   * @return The {@link Job} with the specified job ID, or <tt>null</tt> if
+   *         not found.
+   */
+  public synchronized Job getJob(String jobId) {
+    this.purgeExpiredJobs();
+    return this.jobs.get(jobId);
+  }
+
+  /**
+   * Cancels the {@link Job} with the specified job ID.  A queued job is
+   * cancelled immediately while a running job stops after the records being
+   * loaded have completed.  This has no effect if the job has already
+   * finished.
+   *
+   * @param jobId The job ID for the job.
+   *
+   * @return The {@link Job} that was cancelled, or <tt>null</tt> if not
+   *         found.
+   */
+  public synchronized Job cancel(String jobId) {
+    Job job = this.getJob(jobId);
+    if (job != null && job.cancel()) {
+      this.queue.remove(job);
+      job.finish(CANCELLED, null);
+    }
+    this.notifyAll();
+    return job;
+  }
+
+  /**
+   * Cancels all queued and running jobs and waits for the running jobs to
+   * stop.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+      for (Job job : this.jobs.values()) {
+        if (job.cancel()) {
+          job.finish(CANCELLED, null);
+        }
+      }
+      this.queue.clear();
+      this.notifyAll();
+    }
+    for (Thread thread : this.threads) {
+      try {
+        thread.join();
+      } catch (InterruptedException ignore) {
+        // ignore
+      }
+    }
+  }
+
+  /**
+   * Removes the jobs that have been finished for longer than the retention
+   * period.  This is called while synchronized on this instance.
+   */
+  private void purgeExpiredJobs() {
+    long expiration = System.currentTimeMillis() - this.retentionPeriod;
+    this.jobs.values().removeIf(job -> job.isFinishedBefore(expiration));
+  }
+
+  /**
+   * Runs the queued jobs until closed.
+   */
+  private void runJobs() {
+    for (Job job = this.nextJob(); job != null; job = this.nextJob()) {
+      AccessToken accessToken = this.authorize(job);
+      if (accessToken == null) {
+        job.finish(CANCELLED, null);
+        continue;
+      }
+      try {
+        this.runJob(job);
+
+      } catch (Exception e) {
+        logWarning(e, "Bulk-load job failed: " + job.getJobId());
+        job.finish(ABORTED, e.getMessage());
+
+      } finally {
+        this.provider.concludeProlongedOperation(accessToken);
+      }
+    }
+  }
+
+  /**
+   * Waits for the next queued job and returns it.  This returns
+   * <tt>null</tt> if this instance has been closed.
+   *
+   * @return The next queued {@link Job}, or <tt>null</tt> if closed.
+   */
+  private synchronized Job nextJob() {
+    while (!this.closed && this.queue.isEmpty()) {
+      try {
+        this.wait();
+      } catch (InterruptedException ignore) {
+        // ignore
+      }
+    }
+    return (this.closed) ? null : this.queue.removeFirst();
+  }
+
+  /**
+   * Authorizes the specified job as a prolonged operation, waiting until it
+   * is authorized.  This returns <tt>null</tt> if the job is cancelled or
+   * this instance is closed before it is authorized.
+   *
+   * @param job The {@link Job} to authorize.
+   *
+   * @return The {@link AccessToken} authorizing the job, or <tt>null</tt> if
+   *         the job was cancelled.
+   */
+  private AccessToken authorize(Job job) {
+    AccessToken accessToken = this.provider.authorizeProlongedOperation();
+    while (accessToken == null) {
+      synchronized (this) {
+        if (this.closed || job.isCancelled()) return null;
+        try {
+          this.wait(AUTHORIZATION_RETRY_PERIOD);
+        } catch (InterruptedException ignore) {
+          // ignore
+        }
+      }
+      accessToken = this.provider.authorizeProlongedOperation();
+    }
+    return accessToken;
+  }
+
+  /**
+   * Runs the specified job by loading the records from its spooled data.
+   *
+   * @param job The {@link Job} to run.
+   *
+   * @throws IOException If a failure occurs in reading the spooled data.
+   */
+  private void runJob(Job job) throws IOException {
+    SzApiProvider               provider    = this.provider;
+    SzBulkLoadResultAccumulator result      = job.result;
+    BulkDataSet                 dataSet     = job.dataSet;
+    TemporaryDataCache          dataCache   = dataSet.getDataCache();
+    int                         maxFailures = job.maxFailures;
+
+    if (!job.start()) {
+      job.finish(CANCELLED, null);
+      return;
+    }
+
+    // give each concurrent job an equal share of the engine threads
+    int poolSize = Math.max(1, provider.getConcurrency() / this.concurrency);
+    AsyncWorkerPool<AddRecordResult> asyncPool
+        = new AsyncWorkerPool<>(job.loadId, poolSize);
+
+    // log the failed records if configured
+    BulkLoadErrorLog errorLog = this.openErrorLog(provider, job.loadId, result);
+
+    boolean aborted = false;
+    try (InputStream is = dataCache.getInputStream(true);
+         InputStreamReader isr = new InputStreamReader(
+             is, dataSet.getCharacterEncoding());
+         BufferedReader br = new BufferedReader(isr))
+    {
+      RecordReader recordReader = new RecordReader(dataSet.getFormat(),
+                                                   br,
+                                                   job.dataSourceMap,
+                                                   job.loadId);
+
+      for (JsonObject record = recordReader.readRecord();
+           record != null && !job.isCancelled();
+           record = recordReader.readRecord())
+      {
+        // check if we have a data source
+        String resolvedDS = JsonUtilities.getString(record, "DATA_SOURCE");
+        if (resolvedDS == null || resolvedDS.trim().length() == 0) {
+          result.trackIncompleteRecord(resolvedDS);
+
+        } else {
+          LoadThrottle.Permit permit = this.acquireBulkLoadPermit(
+              provider, result, resolvedDS, job.clientId);
+          AsyncResult<AddRecordResult> asyncResult = this.asyncProcessRecord(
+              asyncPool, provider, null, record, job.loadId,
+              this.releasingLoadPermit(permit, null));
+          this.trackLoadResult(asyncResult, result);
+        }
+
+        // abort if the maximum number of failures has been reached
+        int failedCount = result.getFailedRecordCount()
+            + result.getIncompleteRecordCount();
+        if (maxFailures > 0 && failedCount >= maxFailures) {
+          aborted = true;
+          break;
+        }
+      }
+
+    } finally {
+      // close out any in-flight loads from the asynchronous pool
+      List<AsyncResult<AddRecordResult>> results = asyncPool.close();
+      for (AsyncResult<AddRecordResult> asyncResult : results) {
+        this.trackLoadResult(asyncResult, result);
+      }
+      if (errorLog != null) errorLog.close();
+    }
+
+    job.finish((job.isCancelled()) ? CANCELLED
+                   : ((aborted) ? ABORTED : COMPLETED),
+               null);
+  }
+}
@@ -0,0 +1,392 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzRelatedEntity;
+import com.senzing.api.model.SzRelationshipType;
+
+import java.util.*;
+
+import static com.senzing.api.model.SzRelationshipType.*;
+
+/**
+ * Provides a bounded, in-memory index of the relationships between entities
+ * so that questions such as "which entities are related to X" can be
+ * answered without calling the native API.  For each indexed entity the
+ * index holds a sorted <tt>long</tt> array of the related entity ID's and a
+ * parallel <tt>byte</tt> array describing each relationship, rather than the
+ * full {@link SzRelatedEntity} objects.
+ * <p>
+ * The index is populated from the {@link SzRelatedEntity} data parsed when
+ * entities are retrieved with their relationships.  The entities in the
+ * <tt>"AFFECTED_ENTITIES"</tt> of the INFO produced by a load, delete or
+ * re-evaluate performed through this server (as well as the entities
+ * related to them, whether found through the relationships indexed for the
+ * affected entity or through a reverse index of the entities whose indexed
+ * relationships refer to it) are discarded, and the entire index is cleared
+ * when the engine is reinitialized or the repository is purged.  Changes
+ * made to the entity repository by other processes are not seen by the
+ * index.
+ * <p>
+ * The memory used by the index is estimated from the number of indexed
+ * entities and relationships, and the least-recently-used entities are
+ * discarded when the estimate exceeds the configured maximum.
+ */
+public class EntityAdjacencyIndex {
+  /**
+   * The estimated number of bytes of overhead for each indexed entity
+   * (the map entry, the boxed key, the {@link Adjacency} and the two array
+   * headers).
+   */
+  public static final long ENTRY_OVERHEAD_BYTES = 128L;
+
+  /**
+   * The estimated number of bytes for each indexed relationship (an eight
+   * byte entity ID, a one byte relationship descriptor and the boxed entry
+   * for the relationship in the reverse index).
+   */
+  public static final long RELATIONSHIP_BYTES = 64L;
+
+  /**
+   * The bit of the relationship descriptor that is set if the relationship
+   * is disclosed.  The remaining bits hold the match level.
+   */
+  private static final int DISCLOSED_BIT = 0x40;
+
+  /**
+   * The mask for the match level in the relationship descriptor.
+   */
+  private static final int MATCH_LEVEL_MASK = 0x3F;
+
+  /**
+   * Describes the relationships of a single entity.  Instances are
+   * immutable.
+   */
+  public static final class Adjacency {
+    /**
+     * The sorted entity ID's of the related entities.
+     */
+    private final long[] entityIds;
+
+    /**
+     * The relationship descriptors parallel to the entity ID's.
+     */
+    private final byte[] relations;
+
+    /**
+     * Constructs with the specified arrays.
+     *
+     * @param entityIds The sorted entity ID's of the related entities.
+     * @param relations The relationship descriptors.
+     */
+    private Adjacency(long[] entityIds, byte[] relations) {
+      this.entityIds = entityIds;
+      this.relations = relations;
+    }
+
+    /**
+     * Creates an instance from the specified {@link Collection} of {@link
+     * SzRelatedEntity} instances.
+     *
+     * @param relatedEntities The {@link Collection} of {@link SzRelatedEntity}
+     *                        instances describing the related entities.
+     * @return The {@link Adjacency} that was created.
+     */
+    public static Adjacency of(Collection<SzRelatedEntity> relatedEntities) {
+      SortedMap<Long, Byte> sorted = new TreeMap<>();
+      for (SzRelatedEntity related : relatedEntities) {
+        Long entityId = related.getEntityId();
+        if (entityId == null) continue;
+        Integer matchLevel = related.getMatchLevel();
+        int descriptor = (matchLevel == null) ? 0
+            : (matchLevel & MATCH_LEVEL_MASK);
+        if (related.isDisclosed()) descriptor |= DISCLOSED_BIT;
+        sorted.put(entityId, (byte) descriptor);
+      }
+      long[] entityIds = new long[sorted.size()];
+      byte[] relations = new byte[sorted.size()];
+      int index = 0;
+      for (Map.Entry<Long, Byte> entry : sorted.entrySet()) {
+        entityIds[index]  = entry.getKey();
+        relations[index]  = entry.getValue();
+        index++;
+      }
+      return new Adjacency(entityIds, relations);
+    }
+
+    /**
+     * Gets the number of related entities.
+     *
+     * @return The number of related entities.
+     */
+    public int size() {
+      return this.entityIds.length;
+    }
+
+    /**
+     * Gets the entity ID of the related entity at the specified index.
+     *
+     * @param index The index of the related entity.
+     * @return The entity ID of the related entity.
+     */
+    public long getEntityId(int index) {
+      return this.entityIds[index];
+    }
+
+    /**
+     * Gets the match level of the relationship with the related entity at
+     * the specified index.
+     *
+     * @param index The index of the related entity.
+     * @return The match level of the relationship.
+     */
+    public int getMatchLevel(int index) {
+      return this.relations[index] & MATCH_LEVEL_MASK;
+    }
+
+    /**
+     * Gets the {@link SzRelationshipType} of the relationship with the
+     * related entity at the specified index.  This is derived the same way
+     * as for {@link SzRelatedEntity#getRelationType()}.
+     *
+     * @param index The index of the related entity.
+     * @return The {@link SzRelationshipType} of the relationship.
+     */
+    public SzRelationshipType getRelationType(int index) {
+      if ((this.relations[index] & DISCLOSED_BIT) != 0) {
+        return DISCLOSED_RELATION;
+      }
+      return (this.getMatchLevel(index) == 2)
+          ? POSSIBLE_MATCH : POSSIBLE_RELATION;
+    }
+
+    /**
+     * Gets the estimated number of bytes of memory used by this instance
+     * when indexed.
+     *
+     * @return The estimated number of bytes of memory.
+     */
+    public long getEstimatedBytes() {
+      return ENTRY_OVERHEAD_BYTES + (RELATIONSHIP_BYTES * this.entityIds.length);
+    }
+  }
+
+  /**
+   * The maximum estimated number of bytes of memory to use.
+   */
+  private final long maximumBytes;
+
+  /**
+   * The {@link LinkedHashMap} of entity ID's to {@link Adjacency} instances
+   * in least-recently-used order.
+   */
+  private final LinkedHashMap<Long, Adjacency> adjacencies;
+
+  /**
+   * The {@link Map} of entity ID's to the {@link Set} of entity ID's of the
+   * indexed entities whose relationships refer to them.  This allows the
+   * entities related to an affected entity to be discarded even if the
+   * affected entity itself is no longer indexed.
+   */
+  private final Map<Long, Set<Long>> referencingIds;
+
+  /**
+   * The estimated number of bytes of memory currently used.
+   */
+  private long estimatedBytes = 0L;
+
+  /**
+   * The generation which is incremented on every invalidation.
+   */
+  private long generation = 0L;
+
+  /**
+   * Constructs with the maximum estimated number of bytes of memory to use.
+   *
+   * @param maximumBytes The maximum estimated number of bytes of memory to
+   *                     use.
+   * @throws IllegalArgumentException If the maximum is not positive.
+   */
+  public EntityAdjacencyIndex(long maximumBytes) {
+    if (maximumBytes <= 0L) {
+      throw new IllegalArgumentException(
+          "The maximum bytes must be positive: " + maximumBytes);
+    }
+    this.maximumBytes = maximumBytes;
+    this.adjacencies    = new LinkedHashMap<>(1024, 0.75f, true);
+    this.referencingIds = new HashMap<>();
+  }
+
+  /**
+   * Gets the maximum estimated number of bytes of memory to use.
+   *
+   * @return The maximum estimated number of bytes of memory to use.
+   */
+  public long getMaximumBytes() {
+    return this.maximumBytes;
+  }
+
+  /**
+   * Gets the estimated number of bytes of memory currently used.
+   *
+   * @return The estimated number of bytes of memory currently used.
+   */
+  public synchronized long getEstimatedBytes() {
+    return this.estimatedBytes;
+  }
+
+  /**
+   * Gets the number of entities that are currently indexed.
+   *
+   * @return The number of entities that are currently indexed.
+   */
+  public synchronized int getEntityCount() {
+    return this.adjacencies.size();
+  }
+
+  /**
+   * Gets the current generation of the index which must be obtained before
+   * calling the native function whose result is to be {@linkplain
+   * #put(long, long, Adjacency) indexed}.
+   *
+   * @return The current generation of the index.
+   */
+  public synchronized long getGeneration() {
+    return this.generation;
+  }
+
+  /**
+   * Gets the {@link Adjacency} for the entity with the specified entity ID.
+   *
+   * @param entityId The entity ID of the entity.
+   * @return The {@link Adjacency} for the entity, or <tt>null</tt> if the
+   *         entity is not indexed.
+   */
+  public synchronized Adjacency get(long entityId) {
+    return this.adjacencies.get(entityId);
+  }
+
+  /**
+   * Indexes the specified {@link Adjacency} for the entity with the specified
+   * entity ID.  If the index has been invalidated since the specified
+   * generation was obtained then the relationships may be stale and are not
+   * indexed.
+   *
+   * @param entityId   The entity ID of the entity.
+   * @param generation The {@linkplain #getGeneration() generation} obtained
+   *                   before calling the native function.
+   * @param adjacency  The {@link Adjacency} describing the relationships.
+   */
+  public synchronized void put(long       entityId,
+                               long       generation,
+                               Adjacency  adjacency)
+  {
+    if (generation != this.generation) return;
+    long bytes = adjacency.getEstimatedBytes();
+    if (bytes > this.maximumBytes) return;
+
+    Adjacency previous = this.adjacencies.put(entityId, adjacency);
+    if (previous != null) {
+      this.estimatedBytes -= previous.getEstimatedBytes();
+      this.unreference(entityId, previous);
+    }
+    this.estimatedBytes += bytes;
+    this.reference(entityId, adjacency);
+
+    // evict the least-recently-used entities
+    Iterator<Map.Entry<Long, Adjacency>> iter
+        = this.adjacencies.entrySet().iterator();
+    while (this.estimatedBytes > this.maximumBytes && iter.hasNext()) {
+      Map.Entry<Long, Adjacency> eldest = iter.next();
+      iter.remove();
+      this.estimatedBytes -= eldest.getValue().getEstimatedBytes();
+      this.unreference(eldest.getKey(), eldest.getValue());
+    }
+  }
+
+  /**
+   * Discards the entities with the specified entity ID's as well as those
+   * indexed as being related to them and those whose indexed relationships
+   * refer to them.
+   *
+   * @param entityIds The entity ID's of the affected entities.
+   */
+  public synchronized void invalidate(Collection<Long> entityIds) {
+    if (entityIds.isEmpty()) return;
+    this.generation++;
+    for (Long entityId : entityIds) {
+      Adjacency adjacency = this.remove(entityId);
+      if (adjacency != null) {
+        for (int index = 0; index < adjacency.size(); index++) {
+          this.remove(adjacency.getEntityId(index));
+        }
+      }
+
+      // the affected entity may have been evicted while others still refer
+      // to it, so use the reverse index to find those as well
+      Set<Long> referencing = this.referencingIds.get(entityId);
+      if (referencing != null) {
+        for (Long referencingId : new ArrayList<>(referencing)) {
+          this.remove(referencingId);
+        }
+      }
+    }
+  }
+
+  /**
+   * Discards all indexed entities.
+   */
+  public synchronized void clear() {
+    this.generation++;
+    this.adjacencies.clear();
+    this.referencingIds.clear();
+    this.estimatedBytes = 0L;
+  }
+
+  /**
+   * Removes the entity with the specified entity ID (if indexed).  This must
+   * be called while synchronized on this instance.
+   *
+   * @param entityId The entity ID of the entity to remove.
+   * @return The {@link Adjacency} that was removed, or <tt>null</tt> if the
+   *         entity was not indexed.
+   */
+  private Adjacency remove(long entityId) {
+    Adjacency adjacency = this.adjacencies.remove(entityId);
+    if (adjacency != null) {
+      this.estimatedBytes -= adjacency.getEstimatedBytes();
+      this.unreference(entityId, adjacency);
+    }
+    return adjacency;
+  }
+
+  /**
+   * Adds the relationships of the specified indexed entity to the reverse
+   * index.  This must be called while synchronized on this instance.
+   *
+   * @param entityId  The entity ID of the indexed entity.
+   * @param adjacency The {@link Adjacency} for the indexed entity.
+   */
+  private void reference(long entityId, Adjacency adjacency) {
+    for (int index = 0; index < adjacency.size(); index++) {
+      this.referencingIds.computeIfAbsent(
+          adjacency.getEntityId(index), k -> new HashSet<>()).add(entityId);
+    }
+  }
+
+  /**
+   * Removes the relationships of the specified entity that is no longer
+   * indexed from the reverse index.  This must be called while synchronized
+   * on this instance.
+   *
+   * @param entityId  The entity ID of the entity.
+   * @param adjacency The {@link Adjacency} that was indexed for the entity.
+   */
+  private void unreference(long entityId, Adjacency adjacency) {
+    for (int index = 0; index < adjacency.size(); index++) {
+      long relatedId = adjacency.getEntityId(index);
+      Set<Long> referencing = this.referencingIds.get(relatedId);
+      if (referencing == null) continue;
+      referencing.remove(entityId);
+      if (referencing.isEmpty()) this.referencingIds.remove(relatedId);
+    }
+  }
+}
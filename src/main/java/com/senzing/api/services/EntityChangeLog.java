@@ -0,0 +1,498 @@
+package com.senzing.api.services;
+
+import java.io.Closeable;
+import java.io.File;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static com.senzing.api.services.ServicesUtil.logWarning;
+
+/**
+ * Maintains a bounded, persistent log of the entities that have changed, keyed
+ * by a monotonically increasing sequence number.  The log is backed by a
+ * SQLite database file and is fed from the <tt>"AFFECTED_ENTITIES"</tt> of the
+ * INFO messages produced when records are loaded, deleted or re-evaluated.
+ * <p>
+ * Each entity appears in the log at most once: recording a change to an
+ * entity that is already in the log moves it to a new sequence number.  This
+ * means that reading the log from any sequence number yields each changed
+ * entity exactly once.  Only the most recent sequence numbers (up to the
+ * configured capacity) are retained.  A consumer that has fallen further
+ * behind than that must re-synchronize (e.g.: via an entity export).
+ * <p>
+ * Changes are buffered in memory and written to the database in batches by a
+ * background thread so that recording a change does not add a database write
+ * to every record that is loaded.  Changes recorded less than a {@linkplain
+ * #FLUSH_PERIOD flush period} before an abnormal termination may be lost.
+ */
+public class EntityChangeLog implements Closeable {
+  /**
+   * The maximum number of milliseconds that recorded changes are buffered
+   * before they are written to the database.
+   */
+  public static final long FLUSH_PERIOD = 250L;
+
+  /**
+   * The number of buffered changes that triggers an immediate write to the
+   * database.
+   */
+  private static final int FLUSH_THRESHOLD = 10000;
+
+  /**
+   * The meta-data key for the sequence number through which changes have been
+   * discarded.
+   */
+  private static final String DISCARDED_KEY = "DISCARDED_THROUGH";
+
+  /**
+   * Describes a single change in the log.
+   */
+  public static class Change {
+    /**
+     * The sequence number of the change.
+     */
+    private final long sequence;
+
+    /**
+     * The entity ID of the changed entity.
+     */
+    private final long entityId;
+
+    /**
+     * Constructs with the sequence number and entity ID.
+     *
+     * @param sequence The sequence number of the change.
+     * @param entityId The entity ID of the changed entity.
+     */
+    public Change(long sequence, long entityId) {
+      this.sequence = sequence;
+      this.entityId = entityId;
+    }
+
+    /**
+     * Gets the sequence number of the change.
+     *
+     * @return The sequence number of the change.
+     */
+    public long getSequence() {
+      return this.sequence;
+    }
+
+    /**
+     * Gets the entity ID of the changed entity.
+     *
+     * @return The entity ID of the changed entity.
+     */
+    public long getEntityId() {
+      return this.entityId;
+    }
+
+    @Override
+    public String toString() {
+      return "Change{sequence=" + this.sequence
+          + ", entityId=" + this.entityId + "}";
+    }
+  }
+
+  /**
+   * The database file backing the log.
+   */
+  private final File file;
+
+  /**
+   * The maximum number of sequence numbers to retain.
+   */
+  private final int capacity;
+
+  /**
+   * The database connection (also used as the lock for database access).
+   */
+  private final Connection connection;
+
+  /**
+   * The buffered entity ID's that have not yet been written, in the order
+   * they were most recently changed.
+   */
+  private LinkedHashSet<Long> pending = new LinkedHashSet<>();
+
+  /**
+   * The sequence number through which changes have been discarded.
+   */
+  private long discardedThrough;
+
+  /**
+   * The background thread that writes the buffered changes.
+   */
+  private final Thread flusher;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Opens (creating if necessary) the change log backed by the specified
+   * SQLite database file.
+   *
+   * @param file     The SQLite database file backing the log.
+   * @param capacity The maximum number of sequence numbers to retain.
+   * @throws SQLException If a failure occurs opening the database.
+   * @throws IllegalArgumentException If the capacity is not positive.
+   */
+  public EntityChangeLog(File file, int capacity) throws SQLException {
+    this(file, capacity, Executors.defaultThreadFactory());
+  }
+
+  /**
+   * Opens (creating if necessary) the change log backed by the specified
+   * SQLite database file, creating the background thread that writes the
+   * buffered changes with the specified {@link ThreadFactory}.
+   *
+   * @param file          The SQLite database file backing the log.
+   * @param capacity      The maximum number of sequence numbers to retain.
+   * @param threadFactory The {@link ThreadFactory} for creating the
+   *                      background thread.
+   * @throws SQLException If a failure occurs opening the database.
+   * @throws IllegalArgumentException If the capacity is not positive.
+   */
+  public EntityChangeLog(File           file,
+                         int            capacity,
+                         ThreadFactory  threadFactory)
+      throws SQLException
+  {
+    Objects.requireNonNull(file, "The change log file cannot be null.");
+    Objects.requireNonNull(
+        threadFactory, "The thread factory cannot be null.");
+    if (capacity <= 0) {
+      throw new IllegalArgumentException(
+          "The capacity must be a positive integer: " + capacity);
+    }
+    this.file     = file;
+    this.capacity = capacity;
+    this.connection = DriverManager.getConnection(
+        "jdbc:sqlite:" + file.getPath());
+    try {
+      try (Statement stmt = this.connection.createStatement()) {
+        stmt.execute("PRAGMA journal_mode = WAL");
+        stmt.execute("PRAGMA synchronous = NORMAL");
+        stmt.execute("CREATE TABLE IF NOT EXISTS entity_changes ("
+                         + "seq INTEGER PRIMARY KEY AUTOINCREMENT, "
+                         + "entity_id INTEGER NOT NULL UNIQUE)");
+        stmt.execute("CREATE TABLE IF NOT EXISTS change_log_meta ("
+                         + "name TEXT PRIMARY KEY, "
+                         + "value INTEGER NOT NULL)");
+      }
+      this.discardedThrough = this.readDiscardedThrough();
+      this.connection.setAutoCommit(false);
+
+    } catch (SQLException e) {
+      this.connection.close();
+      throw e;
+    }
+
+    this.flusher = threadFactory.newThread(this::flushPeriodically);
+    this.flusher.setName("sz-entity-change-log");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /**
+   * Gets the SQLite database file backing the log.
+   *
+   * @return The SQLite database file backing the log.
+   */
+  public File getFile() {
+    return this.file;
+  }
+
+  /**
+   * Gets the maximum number of sequence numbers that are retained.
+   *
+   * @return The maximum number of sequence numbers that are retained.
+   */
+  public int getCapacity() {
+    return this.capacity;
+  }
+
+  /**
+   * Records the entities listed in the <tt>"AFFECTED_ENTITIES"</tt> of the
+   * specified raw INFO message JSON text as having changed.  If the text
+   * cannot be parsed then a warning is logged and nothing is recorded.
+   *
+   * @param rawInfo The raw INFO message JSON text.
+   */
+  public void recordInfo(String rawInfo) {
+    this.recordChanges(ServicesUtil.getAffectedEntityIds(rawInfo));
+  }
+
+  /**
+   * Records the entities with the specified entity ID's as having changed.
+   *
+   * @param entityIds The entity ID's of the changed entities.
+   */
+  public void recordChanges(Collection<Long> entityIds) {
+    if (entityIds.isEmpty()) return;
+    synchronized (this) {
+      if (this.closed) return;
+      for (Long entityId : entityIds) {
+        // move the entity to the end if it was already pending
+        this.pending.remove(entityId);
+        this.pending.add(entityId);
+      }
+      if (this.pending.size() >= FLUSH_THRESHOLD) {
+        this.notifyAll();
+      }
+    }
+  }
+
+  /**
+   * Writes any buffered changes to the database and discards the changes
+   * that exceed the capacity.  If the write fails then the changes are
+   * buffered again so that they are written by the next flush.
+   *
+   * @throws SQLException If a database failure occurs.
+   */
+  public void flush() throws SQLException {
+    synchronized (this.connection) {
+      LinkedHashSet<Long> entityIds;
+      synchronized (this) {
+        if (this.pending.isEmpty()) return;
+        entityIds = this.pending;
+        this.pending = new LinkedHashSet<>();
+      }
+
+      try {
+        // replacing the row for an entity moves it to a new sequence number
+        try (PreparedStatement ps = this.connection.prepareStatement(
+            "INSERT OR REPLACE INTO entity_changes (entity_id) VALUES (?)"))
+        {
+          for (Long entityId : entityIds) {
+            ps.setLong(1, entityId);
+            ps.addBatch();
+          }
+          ps.executeBatch();
+        }
+
+        // discard by sequence number so the retained rows never exceed the
+        // capacity without having to count them
+        long discardThrough = this.queryLastSequence() - this.capacity;
+        if (discardThrough > this.discardedThrough) {
+          try (PreparedStatement ps = this.connection.prepareStatement(
+              "DELETE FROM entity_changes WHERE seq <= ?"))
+          {
+            ps.setLong(1, discardThrough);
+            ps.executeUpdate();
+          }
+          this.writeDiscardedThrough(discardThrough);
+        }
+        this.connection.commit();
+        if (discardThrough > this.discardedThrough) {
+          this.discardedThrough = discardThrough;
+        }
+
+      } catch (SQLException e) {
+        this.restorePending(entityIds);
+        this.connection.rollback();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Merges the specified entity ID's from a batch that failed to be written
+   * back into the buffered changes.  The entities that were changed again
+   * after the batch was taken keep their more recent position.
+   *
+   * @param entityIds The entity ID's from the batch that failed.
+   */
+  private synchronized void restorePending(LinkedHashSet<Long> entityIds) {
+    LinkedHashSet<Long> merged = new LinkedHashSet<>(entityIds);
+    merged.removeAll(this.pending);
+    merged.addAll(this.pending);
+    this.pending = merged;
+  }
+
+  /**
+   * Discards all the changes in the log, for example after the repository is
+   * purged.  Consumers reading from any earlier sequence number must then
+   * re-synchronize.
+   *
+   * @throws SQLException If a database failure occurs.
+   */
+  public void reset() throws SQLException {
+    synchronized (this.connection) {
+      synchronized (this) {
+        this.pending.clear();
+      }
+      try {
+        long lastSequence = this.queryLastSequence();
+        try (Statement stmt = this.connection.createStatement()) {
+          stmt.executeUpdate("DELETE FROM entity_changes");
+        }
+        this.writeDiscardedThrough(lastSequence);
+        this.connection.commit();
+        this.discardedThrough = lastSequence;
+
+      } catch (SQLException e) {
+        this.connection.rollback();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Gets the sequence number through which changes have been discarded.  A
+   * consumer that last read a sequence number lower than this has missed
+   * changes.
+   *
+   * @return The sequence number through which changes have been discarded,
+   *         or zero (0) if none have been discarded.
+   */
+  public long getDiscardedThrough() {
+    synchronized (this.connection) {
+      return this.discardedThrough;
+    }
+  }
+
+  /**
+   * Gets the most recently assigned sequence number after writing any
+   * buffered changes.
+   *
+   * @return The most recently assigned sequence number, or zero (0) if no
+   *         changes have ever been recorded.
+   * @throws SQLException If a database failure occurs.
+   */
+  public long getLastSequence() throws SQLException {
+    synchronized (this.connection) {
+      this.flush();
+      return this.queryLastSequence();
+    }
+  }
+
+  /**
+   * Gets up to the specified number of changes that follow the specified
+   * sequence number in ascending order of sequence number.  Any buffered
+   * changes are written first so they are visible to the caller.
+   *
+   * @param since The sequence number after which to read the changes.
+   * @param limit The maximum number of changes to return.
+   * @return The {@link List} of {@link Change} instances.
+   * @throws SQLException If a database failure occurs.
+   */
+  public List<Change> getChanges(long since, int limit) throws SQLException {
+    synchronized (this.connection) {
+      this.flush();
+      List<Change> changes = new ArrayList<>(Math.min(limit, 1000));
+      try (PreparedStatement ps = this.connection.prepareStatement(
+          "SELECT seq, entity_id FROM entity_changes "
+              + "WHERE seq > ? ORDER BY seq LIMIT ?"))
+      {
+        ps.setLong(1, since);
+        ps.setInt(2, limit);
+        try (ResultSet rs = ps.executeQuery()) {
+          while (rs.next()) {
+            changes.add(new Change(rs.getLong(1), rs.getLong(2)));
+          }
+        }
+      } finally {
+        this.connection.commit();
+      }
+      return changes;
+    }
+  }
+
+  /**
+   * Writes any buffered changes, stops the background thread and closes the
+   * database connection.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+      this.notifyAll();
+    }
+    try {
+      this.flusher.join();
+    } catch (InterruptedException ignore) {
+      // ignore
+    }
+    synchronized (this.connection) {
+      try {
+        this.flush();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to write entity changes on close");
+      }
+      try {
+        this.connection.close();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to close the entity change log");
+      }
+    }
+  }
+
+  /**
+   * Writes the buffered changes periodically until closed.
+   */
+  private void flushPeriodically() {
+    while (true) {
+      synchronized (this) {
+        if (this.closed) return;
+        if (this.pending.size() < FLUSH_THRESHOLD) {
+          try {
+            this.wait(FLUSH_PERIOD);
+          } catch (InterruptedException ignore) {
+            // ignore
+          }
+        }
+        if (this.closed) return;
+      }
+      try {
+        this.flush();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to write entity changes");
+      }
+    }
+  }
+
+  /**
+   * Queries the most recently assigned sequence number.
+   */
+  private long queryLastSequence() throws SQLException {
+    try (Statement stmt = this.connection.createStatement();
+         ResultSet rs = stmt.executeQuery(
+             "SELECT seq FROM sqlite_sequence WHERE name = 'entity_changes'"))
+    {
+      return rs.next() ? rs.getLong(1) : 0L;
+    }
+  }
+
+  /**
+   * Reads the sequence number through which changes have been discarded.
+   */
+  private long readDiscardedThrough() throws SQLException {
+    try (PreparedStatement ps = this.connection.prepareStatement(
+        "SELECT value FROM change_log_meta WHERE name = ?"))
+    {
+      ps.setString(1, DISCARDED_KEY);
+      try (ResultSet rs = ps.executeQuery()) {
+        return rs.next() ? rs.getLong(1) : 0L;
+      }
+    }
+  }
+
+  /**
+   * Writes the sequence number through which changes have been discarded.
+   */
+  private void writeDiscardedThrough(long sequence) throws SQLException {
+    try (PreparedStatement ps = this.connection.prepareStatement(
+        "INSERT OR REPLACE INTO change_log_meta (name, value) VALUES (?, ?)"))
+    {
+      ps.setString(1, DISCARDED_KEY);
+      ps.setLong(2, sequence);
+      ps.executeUpdate();
+    }
+  }
+}
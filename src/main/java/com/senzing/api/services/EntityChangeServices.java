@@ -0,0 +1,340 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.g2.engine.G2Engine;
+import com.senzing.util.Timers;
+
+import javax.json.Json;
+import javax.json.JsonObjectBuilder;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import java.io.*;
+import java.sql.SQLException;
+import java.util.*;
+
+import static com.senzing.api.model.SzHttpMethod.GET;
+import static com.senzing.api.services.BulkDataSupport.APPLICATION_JSONLINES;
+import static com.senzing.io.IOUtilities.UTF_8;
+import static com.senzing.util.LoggingUtilities.*;
+
+/**
+ * Provides services for incrementally reading the entities that have changed
+ * from the {@link EntityChangeLog}.
+ */
+@Path("/")
+public class EntityChangeServices implements ServicesSupport {
+  /**
+   * The default maximum number of changes to return.
+   */
+  private static final int DEFAULT_LIMIT = 10000;
+
+  /**
+   * The number of changes read from the {@link EntityChangeLog} at a time.
+   */
+  private static final int PAGE_SIZE = 1000;
+
+  /**
+   * The JSON property name for the sequence number of each change.
+   */
+  private static final String SEQUENCE_KEY = "SEQUENCE";
+
+  /**
+   * The JSON property name for the entity ID of each change.
+   */
+  private static final String ENTITY_ID_KEY = "ENTITY_ID";
+
+  /**
+   * The JSON property name for the entity data of each change.
+   */
+  private static final String ENTITY_KEY = "ENTITY";
+
+  /**
+   * The JSON property name indicating the changed entity no longer exists.
+   */
+  private static final String DELETED_KEY = "DELETED";
+
+  /**
+   * The response header for the most recently assigned sequence number in
+   * the {@link EntityChangeLog}, which is the sequence number from which a
+   * client should resume after re-synchronizing.
+   */
+  public static final String LAST_SEQUENCE_HEADER = "X-Last-Sequence";
+
+  /**
+   * Provides the implementation for <tt>GET /entity-changes</tt>.  The
+   * entities that have changed since the specified sequence number are
+   * streamed as JSON-lines (one change per line) in ascending order of
+   * sequence number.  Each line has the <tt>"SEQUENCE"</tt> and
+   * <tt>"ENTITY_ID"</tt> of the change and the client should pass the last
+   * sequence number it received as the <tt>since</tt> parameter of its next
+   * request.  If the entities are requested then they are retrieved in
+   * batches and included as the <tt>"ENTITY"</tt> of each line, or the line
+   * is marked as <tt>"DELETED"</tt> if the entity no longer exists.
+   * <p>
+   * If the changes following the specified sequence number have already been
+   * discarded from the log then the client must re-synchronize (e.g.: via an
+   * entity export) and a 400 (Bad Request) response is returned.  Both the
+   * successful and the re-synchronize responses carry the most recently
+   * assigned sequence number in the {@value #LAST_SEQUENCE_HEADER} header so
+   * that a client can take its snapshot and then resume from that sequence
+   * number.
+   *
+   * @param since The sequence number after which to return the changes, this
+   *              defaults to zero (0).
+   * @param limit The maximum number of changes to return, this defaults to
+   *              {@value #DEFAULT_LIMIT}.
+   * @param withEntities Flag indicating if the changed entities should be
+   *                     included in the response.
+   * @param batchSize The maximum number of entities to retrieve per call to
+   *                  the engine when including the entities.
+   * @param forceMinimal Flag indicating if the minimal response format is
+   *                     requested.
+   * @param detailLevel The {@link SzDetailLevel} describing the requested
+   *                    level of detail for the entity data, if
+   *                    <code>null</code> this defaults to {@link
+   *                    SzDetailLevel#VERBOSE}.
+   * @param featureMode The {@link SzFeatureMode} query parameter indicating how
+   *                    the features should be returned, if <code>null</code>
+   *                    this defaults to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats Flag indicating if feature stats should be included
+   *                         in the response.
+   * @param withInternalFeatures Flag indicating if internal features should be
+   *                             included in the response.
+   * @param withRelationships Flag indicating if entity relationships should be
+   *                          included in the response.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @return The {@link Response} that streams the changes.
+   */
+  @GET
+  @Path("entity-changes")
+  @Produces({ APPLICATION_JSONLINES })
+  public Response getEntityChanges(
+      @DefaultValue("0") @QueryParam("since")                     long                since,
+      @QueryParam("limit")                                        Integer             limit,
+      @DefaultValue("false") @QueryParam("withEntities")          boolean             withEntities,
+      @DefaultValue("100") @QueryParam("batchSize")               int                 batchSize,
+      @DefaultValue("false") @QueryParam("forceMinimal")          boolean             forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel")         SzDetailLevel       detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode       featureMode,
+      @DefaultValue("false") @QueryParam("withFeatureStats")      boolean             withFeatureStats,
+      @DefaultValue("false") @QueryParam("withInternalFeatures")  boolean             withInternalFeatures,
+      @DefaultValue("false") @QueryParam("withRelationships")     boolean             withRelationships,
+      @Context                                                    UriInfo             uriInfo)
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    EntityChangeLog changeLog = provider.getEntityChangeLog();
+    if (changeLog == null) {
+      throw this.newForbiddenException(
+          GET, uriInfo, timers,
+          "The entity change log is not enabled for this Senzing API Server.");
+    }
+    if (since < 0L) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The since parameter cannot be negative: " + since);
+    }
+    int maxCount = (limit == null) ? DEFAULT_LIMIT : limit;
+    if (maxCount <= 0) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The limit parameter must be a positive integer: " + limit);
+    }
+    if (batchSize <= 0) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The batchSize parameter must be a positive integer: " + batchSize);
+    }
+
+    long flags = this.getFlags(forceMinimal,
+                               detailLevel,
+                               featureMode,
+                               withFeatureStats,
+                               withInternalFeatures,
+                               withRelationships);
+
+    // read the first page up front so failures are reported with a status
+    List<EntityChangeLog.Change> firstPage;
+    long headSequence;
+    try {
+      headSequence = changeLog.getLastSequence();
+      this.ensureChangesAvailable(
+          changeLog, since, headSequence, uriInfo, timers);
+      firstPage = changeLog.getChanges(since, Math.min(maxCount, PAGE_SIZE));
+
+    } catch (SQLException e) {
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+
+    StreamingOutput output = (outputStream) -> {
+      try {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, UTF_8));
+
+        List<EntityChangeLog.Change> page = firstPage;
+        int remaining = maxCount;
+        while (page.size() > 0) {
+          for (int index = 0; index < page.size(); index += batchSize) {
+            List<EntityChangeLog.Change> batch = page.subList(
+                index, Math.min(page.size(), index + batchSize));
+            Map<Long, String> entities = (withEntities)
+                ? this.getEntities(provider, batch, flags, uriInfo, timers)
+                : null;
+            for (EntityChangeLog.Change change : batch) {
+              writer.append(this.formatChange(change, entities)).append('\n');
+            }
+          }
+          writer.flush();
+
+          remaining -= page.size();
+          if (remaining <= 0 || page.size() < PAGE_SIZE) break;
+
+          long lastSequence = page.get(page.size() - 1).getSequence();
+
+          // stop if the capacity was exceeded while streaming, the next
+          // request from the client will then require a re-synchronize
+          if (lastSequence < changeLog.getDiscardedThrough()) break;
+
+          page = changeLog.getChanges(
+              lastSequence, Math.min(remaining, PAGE_SIZE));
+        }
+
+        writer.flush();
+
+      } catch (WebApplicationException | IOException e) {
+        throw e;
+
+      } catch (RuntimeException e) {
+        throw logOnceAndThrow(e);
+
+      } catch (Exception e) {
+        throw logOnceAndThrow(new RuntimeException(e));
+      }
+    };
+
+    return Response.ok(output, APPLICATION_JSONLINES)
+        .header(LAST_SEQUENCE_HEADER, headSequence).build();
+  }
+
+  /**
+   * Ensures that the changes following the specified sequence number have
+   * not been discarded from the specified {@link EntityChangeLog}.  If they
+   * have then the {@link BadRequestException} carries the most recently
+   * assigned sequence number in the {@value #LAST_SEQUENCE_HEADER} header and
+   * in its error message.
+   *
+   * @param changeLog    The {@link EntityChangeLog} to check.
+   * @param since        The sequence number after which the changes are read.
+   * @param lastSequence The most recently assigned sequence number.
+   * @param uriInfo      The {@link UriInfo} for the request.
+   * @param timers       The {@link Timers} for the request.
+   * @throws BadRequestException If changes following the sequence number have
+   *                             been discarded.
+   */
+  protected void ensureChangesAvailable(EntityChangeLog changeLog,
+                                        long            since,
+                                        long            lastSequence,
+                                        UriInfo         uriInfo,
+                                        Timers          timers)
+  {
+    long discardedThrough = changeLog.getDiscardedThrough();
+    if (since < discardedThrough) {
+      BadRequestException e = this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The changes following sequence number " + since + " have been "
+              + "discarded (through sequence number " + discardedThrough
+              + ").  The client must re-synchronize and then resume from "
+              + "sequence number " + lastSequence + ".");
+      throw new BadRequestException(
+          Response.fromResponse(e.getResponse())
+              .header(LAST_SEQUENCE_HEADER, lastSequence).build());
+    }
+  }
+
+  /**
+   * Retrieves the entities for the specified batch of changes in a single
+   * task on the engine thread pool.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param batch    The {@link List} of {@link EntityChangeLog.Change}
+   *                 instances for which to retrieve the entities.
+   * @param flags    The flags for retrieving the entities.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @param timers   The {@link Timers} for the request.
+   * @return The {@link Map} of entity ID keys to the JSON text for the
+   *         entities, with <tt>null</tt> values for entities that no longer
+   *         exist.
+   * @throws Exception If a failure occurs.
+   */
+  protected Map<Long, String> getEntities(
+      SzApiProvider                 provider,
+      List<EntityChangeLog.Change>  batch,
+      long                          flags,
+      UriInfo                       uriInfo,
+      Timers                        timers)
+    throws Exception
+  {
+    this.enteringQueue(timers);
+    return provider.executeInThread(() -> {
+      this.exitingQueue(timers);
+
+      G2Engine engineApi = provider.getEngineApi();
+      Map<Long, String> entities = new HashMap<>();
+      StringBuffer sb = new StringBuffer();
+      for (EntityChangeLog.Change change : batch) {
+        long entityId = change.getEntityId();
+        sb.delete(0, sb.length());
+
+        this.callingNativeAPI(timers, "engine", "getEntityByEntityID");
+        int result = engineApi.getEntityByEntityID(entityId, flags, sb);
+        this.calledNativeAPI(timers, "engine", "getEntityByEntityID");
+
+        if (result == 0) {
+          entities.put(entityId, sb.toString());
+
+        } else if (engineApi.getLastExceptionCode() == ENTITY_NOT_FOUND_CODE) {
+          entities.put(entityId, null);
+
+        } else {
+          throw this.newInternalServerErrorException(
+              GET, uriInfo, timers, engineApi);
+        }
+      }
+      return entities;
+    });
+  }
+
+  /**
+   * Formats the line of the response for the specified change.
+   *
+   * @param change   The {@link EntityChangeLog.Change} to format.
+   * @param entities The {@link Map} of entity ID keys to the JSON text for
+   *                 the entities, or <tt>null</tt> if the entities were not
+   *                 requested.
+   * @return The JSON text for the line of the response.
+   */
+  protected String formatChange(EntityChangeLog.Change change,
+                                Map<Long, String>      entities)
+  {
+    long entityId = change.getEntityId();
+    JsonObjectBuilder builder = Json.createObjectBuilder();
+    builder.add(SEQUENCE_KEY, change.getSequence());
+    builder.add(ENTITY_ID_KEY, entityId);
+    if (entities == null) {
+      return builder.build().toString();
+    }
+    String entity = entities.get(entityId);
+    if (entity == null) {
+      builder.add(DELETED_KEY, true);
+      return builder.build().toString();
+    }
+    // splice in the raw entity JSON rather than re-parsing it
+    String text = builder.build().toString();
+    return text.substring(0, text.length() - 1) + ",\"" + ENTITY_KEY + "\":"
+        + entity.trim() + "}";
+  }
+}
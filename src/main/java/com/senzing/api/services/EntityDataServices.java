@@ -2,16 +2,19 @@ package com.senzing.api.services;
 
 import com.senzing.api.model.*;
 import com.senzing.g2.engine.G2Engine;
+import com.senzing.util.AccessToken;
 import com.senzing.util.JsonUtilities;
 import com.senzing.util.SemanticVersion;
 import com.senzing.util.Timers;
 
 import javax.json.*;
+import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.UriInfo;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Function;
 
 import static com.senzing.api.model.SzHttpMethod.*;
@@ -35,6 +38,12 @@ public class EntityDataServices implements ServicesSupport {
   public static final SemanticVersion MINIMUM_SEARCH_FILTERING_VERSION
       = new SemanticVersion("2.4.1");
 
+  /**
+   * The maximum number of records that can be written by a single
+   * <tt>POST /records/batch</tt> request.
+   */
+  public static final int MAX_RECORD_BATCH_SIZE = 10000;
+
   /**
    * The {@link Map} of {@link SzAttributeSearchResultType} keys to {@link
    * Integer} values representing the flags to apply.
@@ -51,6 +60,14 @@ public class EntityDataServices implements ServicesSupport {
     RESULT_TYPE_FLAG_MAP = Collections.unmodifiableMap(map);
   }
 
+  /**
+   * The {@link HttpServletRequest} for the current request, which is used to
+   * identify the client for the {@link LoadThrottle} budgets.  This is
+   * <tt>null</tt> if not invoked via the servlet container.
+   */
+  @Context
+  private HttpServletRequest httpRequest;
+
   /**
    * Provides the implementation for
    * <tt>POST /data-sources/{dataSourceCode}/records</tt>.
@@ -111,54 +128,77 @@ public class EntityDataServices implements ServicesSupport {
       final String recordJsonText = recordText;
       this.checkDataSource(POST, uriInfo, timers, dataSource, provider);
 
+      // skip the record if unchanged since it was last loaded
+      byte[] recordHash = this.hashRecord(provider, inRecordId, recordJsonText);
+      if (this.isRecordUnchanged(provider, dataSource, inRecordId, recordHash)) {
+        return this.newLoadRecordResponse(
+            POST, 200, uriInfo, timers, inRecordId,
+            (withInfo) ? this.newUnchangedInfo(dataSource, inRecordId) : null);
+      }
+
       StringBuffer sb = new StringBuffer();
 
-      // get the asynchronous info queue
-      boolean asyncInfo = provider.hasInfoSink();
+      // check if the info is being published
+      boolean asyncInfo = this.isPublishingInfo(provider);
 
-      this.enteringQueue(timers);
-      String text = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      boolean recordAdded = false;
+      String text;
+      LoadThrottle.Permit permit = this.acquireLoadPermit(
+          provider, dataSource, this.getClientId(this.httpRequest), timers);
+      this.beginRecordUpdate(provider, dataSource, inRecordId);
+      try {
+        this.enteringQueue(timers);
+        text = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        // get the engine API and the config API
-        G2Engine engineApi = provider.getEngineApi();
+          // get the engine API and the config API
+          G2Engine engineApi = provider.getEngineApi();
 
-        int result;
-        if (withInfo || asyncInfo) {
-          this.callingNativeAPI(timers, "engine", "addRecordWithInfo");
-          result = engineApi.addRecordWithInfo(
-              dataSource,
-              (inRecordId == null) ? "" : inRecordId, // empty record ID
-              recordJsonText,
-              normalizedLoadId,
-              0,
-              sb);
-          this.calledNativeAPI(timers, "engine", "addRecordWithInfo");
-
-        } else if (inRecordId == null) {
-          this.callingNativeAPI(timers, "engine", "addRecordWithReturnedRecordID");
-          result = engineApi.addRecordWithReturnedRecordID(dataSource,
-                                                           sb,
-                                                           recordJsonText,
-                                                           normalizedLoadId);
-          this.calledNativeAPI(timers, "engine", "addRecordWithReturnedRecordID");
+          int result;
+          if (withInfo || asyncInfo) {
+            this.callingNativeAPI(timers, "engine", "addRecordWithInfo");
+            result = engineApi.addRecordWithInfo(
+                dataSource,
+                (inRecordId == null) ? "" : inRecordId, // empty record ID
+                recordJsonText,
+                normalizedLoadId,
+                0,
+                sb);
+            this.calledNativeAPI(timers, "engine", "addRecordWithInfo");
+
+          } else if (inRecordId == null) {
+            this.callingNativeAPI(timers, "engine",
+                                  "addRecordWithReturnedRecordID");
+            result = engineApi.addRecordWithReturnedRecordID(dataSource,
+                                                             sb,
+                                                             recordJsonText,
+                                                             normalizedLoadId);
+            this.calledNativeAPI(timers, "engine",
+                                 "addRecordWithReturnedRecordID");
 
-        } else {
-          this.callingNativeAPI(timers, "engine", "addRecord");
-          result = engineApi.addRecord(dataSource,
-                                       inRecordId,
-                                       recordJsonText,
-                                       normalizedLoadId);
-          this.calledNativeAPI(timers, "engine", "addRecord");
-        }
+          } else {
+            this.callingNativeAPI(timers, "engine", "addRecord");
+            result = engineApi.addRecord(dataSource,
+                                         inRecordId,
+                                         recordJsonText,
+                                         normalizedLoadId);
+            this.calledNativeAPI(timers, "engine", "addRecord");
+          }
 
-        if (result != 0) {
-          throw this.newPossiblyNotFoundException(
-              POST, uriInfo, timers, engineApi);
-        }
+          if (result != 0) {
+            throw this.newPossiblyNotFoundException(
+                POST, uriInfo, timers, engineApi);
+          }
 
-        return sb.toString().trim();
-      });
+          return sb.toString().trim();
+        });
+        recordAdded = true;
+
+      } finally {
+        this.endRecordUpdate(provider, dataSource, inRecordId,
+                             (recordAdded) ? recordHash : null);
+        this.releaseLoadPermit(permit);
+      }
 
       String            recordId  = inRecordId;
       SzResolutionInfo  info      = null;
@@ -174,23 +214,9 @@ public class EntityDataServices implements ServicesSupport {
           info = this.parseResolutionInfo(jsonObject);
         }
 
-        // check if the info sink is configured
+        // check if the info is being published
         if (asyncInfo && rawData != null && rawData.trim().length() > 0) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawData);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            // send the info on the async queue
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            // failed async logger will not double-log
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawData);
         }
 
         // if the record ID is generated, we need to return it
@@ -239,6 +265,24 @@ public class EntityDataServices implements ServicesSupport {
     return SzResolutionInfo.parseResolutionInfo(null, jsonObject);
   }
 
+  /**
+   * Creates the {@link SzResolutionInfo} to return when a record is not loaded
+   * because it is unchanged since it was last loaded.  This identifies the
+   * record but has no affected or flagged entities.
+   *
+   * @param dataSource The data source code for the record.
+   * @param recordId The record ID for the record.
+   * @return The {@link SzResolutionInfo} for the unchanged record.
+   */
+  protected SzResolutionInfo newUnchangedInfo(String dataSource,
+                                              String recordId)
+  {
+    SzResolutionInfo info = SzResolutionInfo.FACTORY.create();
+    info.setDataSource(dataSource);
+    info.setRecordId(recordId);
+    return info;
+  }
+
   /**
    * Creates a new instance of {@link SzLoadRecordResponse} with the specified
    * parameters.
@@ -330,63 +374,71 @@ public class EntityDataServices implements ServicesSupport {
 
       this.checkDataSource(PUT, uriInfo, timers, dataSource, provider);
 
-      // get the asynchronous info sink
-      boolean asyncInfo = provider.hasInfoSink();
+      // skip the record if unchanged since it was last loaded
+      byte[] recordHash = this.hashRecord(provider, recordId, recordText);
+      if (this.isRecordUnchanged(provider, dataSource, recordId, recordHash)) {
+        return this.newLoadRecordResponse(
+            PUT, 200, uriInfo, timers, recordId,
+            (withInfo) ? this.newUnchangedInfo(dataSource, recordId) : null);
+      }
 
-      this.enteringQueue(timers);
-      String rawInfo = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      // check if the info is being published
+      boolean asyncInfo = this.isPublishingInfo(provider);
 
-        // get the engine API
-        G2Engine engineApi = provider.getEngineApi();
+      boolean recordAdded = false;
+      String rawInfo;
+      LoadThrottle.Permit permit = this.acquireLoadPermit(
+          provider, dataSource, this.getClientId(this.httpRequest), timers);
+      this.beginRecordUpdate(provider, dataSource, recordId);
+      try {
+        this.enteringQueue(timers);
+        rawInfo = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        int result;
-        String rawData = null;
-        if (withInfo || asyncInfo) {
-          StringBuffer sb = new StringBuffer();
-          this.callingNativeAPI(timers, "engine", "addRecordWithInfo");
-          result = engineApi.addRecordWithInfo(dataSource,
-                                               recordId,
-                                               recordText,
-                                               normalizedLoadId,
-                                               0,
-                                               sb);
-          this.calledNativeAPI(timers, "engine", "addRecordWithInfo");
-          rawData = sb.toString();
-        } else {
-          this.callingNativeAPI(timers, "engine", "addRecord");
-          result = engineApi.addRecord(dataSource,
-                                       recordId,
-                                       recordText,
-                                       normalizedLoadId);
-          this.calledNativeAPI(timers, "engine", "addRecord");
-        }
-        if (result != 0) {
-          throw this.newPossiblyNotFoundException(
-              PUT, uriInfo, timers, engineApi);
-        }
+          // get the engine API
+          G2Engine engineApi = provider.getEngineApi();
 
-        return rawData;
-      });
+          int result;
+          String rawData = null;
+          if (withInfo || asyncInfo) {
+            StringBuffer sb = new StringBuffer();
+            this.callingNativeAPI(timers, "engine", "addRecordWithInfo");
+            result = engineApi.addRecordWithInfo(dataSource,
+                                                 recordId,
+                                                 recordText,
+                                                 normalizedLoadId,
+                                                 0,
+                                                 sb);
+            this.calledNativeAPI(timers, "engine", "addRecordWithInfo");
+            rawData = sb.toString();
+          } else {
+            this.callingNativeAPI(timers, "engine", "addRecord");
+            result = engineApi.addRecord(dataSource,
+                                         recordId,
+                                         recordText,
+                                         normalizedLoadId);
+            this.calledNativeAPI(timers, "engine", "addRecord");
+          }
+          if (result != 0) {
+            throw this.newPossiblyNotFoundException(
+                PUT, uriInfo, timers, engineApi);
+          }
+
+          return rawData;
+        });
+        recordAdded = true;
+
+      } finally {
+        this.endRecordUpdate(provider, dataSource, recordId,
+                             (recordAdded) ? recordHash : null);
+        this.releaseLoadPermit(permit);
+      }
 
       SzResolutionInfo info = null;
       if (rawInfo != null && rawInfo.trim().length() > 0) {
-        // check if the info sink is configured
+        // check if the info is being published
         if (asyncInfo) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawInfo);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            // send the info on the async queue
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawInfo);
         }
 
         // check if the info was requested
@@ -463,64 +515,62 @@ public class EntityDataServices implements ServicesSupport {
 
       final String normalizedLoadId = normalizeString(loadId);
 
-      // get the asynchronous info sink (if configured)
-      boolean asyncInfo = provider.hasInfoSink();
+      // check if the info is being published
+      boolean asyncInfo = this.isPublishingInfo(provider);
 
-      enteringQueue(timers);
-      String rawInfo = provider.executeInThread(() -> {
-        exitingQueue(timers);
+      // the hash of a deleted record is removed even if the delete fails
+      String rawInfo;
+      LoadThrottle.Permit permit = this.acquireLoadPermit(
+          provider, dataSource, this.getClientId(this.httpRequest), timers);
+      this.beginRecordUpdate(provider, dataSource, recordId);
+      try {
+        enteringQueue(timers);
+        rawInfo = provider.executeInThread(() -> {
+          exitingQueue(timers);
 
-        // get the engine API
-        G2Engine engineApi = provider.getEngineApi();
+          // get the engine API
+          G2Engine engineApi = provider.getEngineApi();
 
-        int returnCode;
-        String rawData = null;
-        if (withInfo || asyncInfo) {
-          StringBuffer sb = new StringBuffer();
-          this.callingNativeAPI(timers, "engine", "deleteRecordWithInfo");
-          returnCode = engineApi.deleteRecordWithInfo(
-              dataSource, recordId, normalizedLoadId,0, sb);
-          this.calledNativeAPI(timers, "engine", "deleteRecordWithInfo");
-          rawData = sb.toString();
-        } else {
-          this.callingNativeAPI(timers, "engine", "deleteRecord");
-          returnCode = engineApi.deleteRecord(
-              dataSource, recordId, normalizedLoadId);
-          this.calledNativeAPI(timers, "engine", "deleteRecord");
-        }
-        if (returnCode != 0) {
-          int errorCode = engineApi.getLastExceptionCode();
-          // if the record was not found, that is okay -- treat as idempotent,
-          // but note that "info" will differ when deleting a not-found record
-          if (errorCode == RECORD_NOT_FOUND_CODE) {
-            return null;
+          int returnCode;
+          String rawData = null;
+          if (withInfo || asyncInfo) {
+            StringBuffer sb = new StringBuffer();
+            this.callingNativeAPI(timers, "engine", "deleteRecordWithInfo");
+            returnCode = engineApi.deleteRecordWithInfo(
+                dataSource, recordId, normalizedLoadId,0, sb);
+            this.calledNativeAPI(timers, "engine", "deleteRecordWithInfo");
+            rawData = sb.toString();
+          } else {
+            this.callingNativeAPI(timers, "engine", "deleteRecord");
+            returnCode = engineApi.deleteRecord(
+                dataSource, recordId, normalizedLoadId);
+            this.calledNativeAPI(timers, "engine", "deleteRecord");
+          }
+          if (returnCode != 0) {
+            int errorCode = engineApi.getLastExceptionCode();
+            // if the record was not found, that is okay -- treat as idempotent,
+            // but note that "info" will differ when deleting a not-found record
+            if (errorCode == RECORD_NOT_FOUND_CODE) {
+              return null;
+            }
+            // otherwise throw a server error
+            throw this.newInternalServerErrorException(
+                DELETE, uriInfo, timers, engineApi);
           }
-          // otherwise throw a server error
-          throw this.newInternalServerErrorException(
-              DELETE, uriInfo, timers, engineApi);
-        }
 
-        return rawData;
-      });
+          return rawData;
+        });
+
+      } finally {
+        this.endRecordUpdate(provider, dataSource, recordId, null);
+        this.releaseLoadPermit(permit);
+      }
 
       SzResolutionInfo info = null;
       if (rawInfo != null && rawInfo.trim().length() > 0) {
-        // check if the info sink is configured
+        // check if the info is being published
         if (asyncInfo) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawInfo);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            // send the info on the async queue
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawInfo);
         }
 
         // check if the info was explicitly requested
@@ -643,8 +693,8 @@ public class EntityDataServices implements ServicesSupport {
             "The specified data source is not recognized: " + dataSource);
       }
 
-      // get the configured info message sink (if any)
-      boolean asyncInfo = provider.hasInfoSink();
+      // check if the info is being published
+      boolean asyncInfo = this.isPublishingInfo(provider);
 
       this.enteringQueue(timers);
       String rawInfo = provider.executeInThread(() -> {
@@ -677,21 +727,9 @@ public class EntityDataServices implements ServicesSupport {
 
       SzResolutionInfo info = null;
       if (rawInfo != null && rawInfo.trim().length() > 0) {
-        // check if the info sink is configured
+        // check if the info is being published
         if (asyncInfo) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawInfo);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawInfo);
         }
 
         // check if the info was explicitly requested
@@ -763,6 +801,461 @@ public class EntityDataServices implements ServicesSupport {
     return SzReevaluateResponseData.FACTORY.create(info);
   }
 
+  /**
+   * Provides the implementation for <tt>POST /records/batch</tt>.  The
+   * request body is either a JSON array of records or JSON-lines text with
+   * one record per line.  Each record is added or replaced unless it is
+   * wrapped in a JSON object of the form <tt>{"operation": "DELETE",
+   * "record": {...}}</tt>, in which case the operation is the one specified.
+   * Every record must specify its <tt>"DATA_SOURCE"</tt>, and a record to be
+   * deleted must also specify its <tt>"RECORD_ID"</tt>.
+   * <p>
+   * The records are written in parallel across the engine threads, except
+   * that records with the same data source and record ID are written one
+   * after another in the order specified.  A record that cannot be written
+   * does not fail the batch, but is instead described by its {@link
+   * SzBatchRecordResult}.  A record that is unchanged since it was last
+   * loaded is skipped and marked as {@linkplain
+   * SzBatchRecordResult#isUnchanged() unchanged} rather than counted as
+   * written.  The response includes the entity ID's of every
+   * entity affected by the batch.  If the batch fails part way through (e.g.:
+   * its deadline passes) then the INFO for the records that were written is
+   * still published before the failure is reported.
+   *
+   * @param loadId The optional load ID query parameter for the records.
+   * @param parallelism The maximum number of records to write concurrently,
+   *                    or <tt>null</tt> to use all the engine threads.
+   * @param withInfo Flag indicating if resolution info should be returned
+   *                 for each record (from the query parameter).
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param batchBody The JSON array or JSON-lines text describing the
+   *                  records.
+   * @return The {@link SzRecordBatchResponse} describing the response.
+   */
+  @POST
+  @Path("records/batch")
+  public SzRecordBatchResponse writeRecordBatch(
+      @QueryParam("loadId")                           String  loadId,
+      @QueryParam("parallelism")                      Integer parallelism,
+      @QueryParam("withInfo") @DefaultValue("false")  boolean withInfo,
+      @Context                                        UriInfo uriInfo,
+      String                                                  batchBody)
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    List<BatchRecord> records;
+    try {
+      this.ensureLoadingIsAllowed(provider, POST, uriInfo, timers);
+
+      if (parallelism != null && parallelism < 1) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Parallelism must be greater than zero: " + parallelism);
+      }
+
+      records = this.parseBatchRecords(batchBody, provider, uriInfo, timers);
+
+    } catch (WebApplicationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw this.newBadRequestException(POST, uriInfo, timers, e.getMessage());
+    }
+
+    final String normalizedLoadId = normalizeString(loadId);
+
+    // check if the info is being published
+    boolean asyncInfo = this.isPublishingInfo(provider);
+
+    int concurrency = Math.max(1, provider.getConcurrency());
+    int threadCount = Math.max(1, Math.min(
+        records.size(),
+        (parallelism == null) ? concurrency : Math.min(parallelism, concurrency)));
+
+    // the batch ties up the engine threads, so limit the concurrent batches
+    AccessToken accessToken
+        = this.prepareProlongedOperation(provider, POST, uriInfo, timers);
+
+    BoundedExecutor executor = this.newBoundedExecutor(provider, threadCount);
+    try {
+      // the timers are not thread-safe so they are not used by the records
+      List<Future<List<BatchRecord>>> futures = new ArrayList<>(records.size());
+      String clientId = this.getClientId(this.httpRequest);
+      for (List<BatchRecord> group : this.groupBatchRecords(records)) {
+        futures.add(executor.submit(() -> {
+          for (BatchRecord record : group) {
+            LoadThrottle.Permit permit = this.acquireLoadPermit(
+                provider, record.result.getDataSource(), clientId, null);
+            try {
+              provider.executeInThread(() -> {
+                this.executeBatchRecord(provider, record, normalizedLoadId);
+                return record;
+              });
+            } finally {
+              this.releaseLoadPermit(permit);
+            }
+          }
+          return group;
+        }));
+      }
+
+      // wait for every group before acting on a failure so that the INFO
+      // for the records that were written is still published
+      Exception failure = null;
+      for (Future<List<BatchRecord>> future : futures) {
+        try {
+          this.awaitBatchRecords(future);
+        } catch (Exception e) {
+          if (failure == null) failure = e;
+        }
+      }
+
+      Set<Long> affectedEntities = new TreeSet<>();
+      for (BatchRecord record : records) {
+        if (record.rawInfo == null || record.rawInfo.length() == 0) continue;
+
+        affectedEntities.addAll(
+            ServicesUtil.getAffectedEntityIds(record.rawInfo));
+        if (asyncInfo) {
+          this.publishInfo(provider, timers, record.rawInfo);
+        }
+        if (withInfo && failure == null) {
+          record.result.setInfo(this.parseResolutionInfo(
+              JsonUtilities.parseJsonObject(record.rawInfo)));
+        }
+      }
+      if (failure != null) throw failure;
+
+      List<SzBatchRecordResult> results = new ArrayList<>(records.size());
+      int failedCount = 0;
+      int unchangedCount = 0;
+      for (BatchRecord record : records) {
+        results.add(record.result);
+        if (record.result.getErrorMessage() != null) failedCount++;
+        else if (record.result.isUnchanged()) unchangedCount++;
+      }
+
+      SzRecordBatch batch = SzRecordBatch.FACTORY.create();
+      batch.setResults(results);
+      batch.setSucceededCount(results.size() - failedCount - unchangedCount);
+      batch.setUnchangedCount(unchangedCount);
+      batch.setFailedCount(failedCount);
+      batch.setAffectedEntities(affectedEntities);
+
+      return SzRecordBatchResponse.FACTORY.create(
+          this.newMeta(POST, 200, timers), this.newLinks(uriInfo), batch);
+
+    } catch (ServerErrorException e) {
+      e.printStackTrace();
+      throw e;
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      e.printStackTrace();
+      throw this.newInternalServerErrorException(POST, uriInfo, timers, e);
+
+    } finally {
+      executor.close();
+      provider.concludeProlongedOperation(accessToken);
+    }
+  }
+
+  /**
+   * Describes a single record to be written for <tt>POST /records/batch</tt>
+   * along with the result of writing it.
+   */
+  protected static class BatchRecord {
+    /**
+     * The {@link SzBatchRecordResult} describing the result for the record.
+     */
+    protected final SzBatchRecordResult result;
+
+    /**
+     * The JSON text for the record to be added, or <tt>null</tt> if the
+     * record is being deleted.
+     */
+    protected String recordText = null;
+
+    /**
+     * The raw INFO JSON text produced by writing the record, or
+     * <tt>null</tt> if not written or no INFO was produced.
+     */
+    protected String rawInfo = null;
+
+    /**
+     * Constructs with the index of the record in the batch.
+     *
+     * @param index The zero-based index of the record in the batch.
+     */
+    protected BatchRecord(int index) {
+      this.result = SzBatchRecordResult.FACTORY.create();
+      this.result.setIndex(index);
+    }
+
+    /**
+     * Marks the record as failed with the specified HTTP status code and
+     * error message.
+     *
+     * @param statusCode The HTTP status code for the record.
+     * @param message The error message for the record.
+     */
+    protected void fail(int statusCode, String message) {
+      this.result.setHttpStatusCode(statusCode);
+      this.result.setErrorMessage(message);
+    }
+  }
+
+  /**
+   * Parses the records to be written from the request body for
+   * <tt>POST /records/batch</tt>.  Records that cannot be written as
+   * specified are marked as failed rather than failing the request.
+   *
+   * @param batchBody The JSON array or JSON-lines text describing the records.
+   * @param provider The {@link SzApiProvider} to use.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @return The non-empty {@link List} of {@link BatchRecord} instances in
+   *         the order they were specified.
+   * @throws BadRequestException If the request body is not valid.
+   */
+  protected List<BatchRecord> parseBatchRecords(String        batchBody,
+                                                SzApiProvider provider,
+                                                UriInfo       uriInfo,
+                                                Timers        timers)
+  {
+    List<JsonValue> values = new ArrayList<>();
+    String text = (batchBody == null) ? "" : batchBody.trim();
+    if (text.startsWith("[")) {
+      try {
+        values.addAll(JsonUtilities.parseJsonArray(text));
+      } catch (Exception e) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "The request body is not a valid JSON array: " + e.getMessage());
+      }
+    } else {
+      int lineNumber = 0;
+      for (String line : text.split("\\r?\\n")) {
+        lineNumber++;
+        if (line.trim().length() == 0) continue;
+        try {
+          values.add(JsonUtilities.parseValue(line));
+        } catch (Exception e) {
+          throw this.newBadRequestException(
+              POST, uriInfo, timers,
+              "Line " + lineNumber + " of the request body is not valid "
+                  + "JSON: " + e.getMessage());
+        }
+      }
+    }
+
+    if (values.isEmpty()) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The request body must be a JSON array or JSON-lines text with at "
+              + "least one record.");
+    }
+    if (values.size() > MAX_RECORD_BATCH_SIZE) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "At most " + MAX_RECORD_BATCH_SIZE + " records may be written in "
+              + "a single batch: " + values.size());
+    }
+
+    Map<String, Boolean> knownDataSources = new HashMap<>();
+    List<BatchRecord> records = new ArrayList<>(values.size());
+    for (JsonValue value : values) {
+      BatchRecord record = new BatchRecord(records.size());
+      records.add(record);
+      if (value.getValueType() != JsonValue.ValueType.OBJECT) {
+        record.fail(400, "The record is not a JSON object.");
+        continue;
+      }
+
+      // check if the record is wrapped with an operation
+      JsonObject recordJson = value.asJsonObject();
+      SzRecordOperation operation = SzRecordOperation.UPSERT;
+      if (recordJson.size() == 2
+          && recordJson.get("operation") instanceof JsonString
+          && recordJson.get("record") instanceof JsonObject)
+      {
+        String opText = recordJson.getString("operation").trim().toUpperCase();
+        recordJson = recordJson.getJsonObject("record");
+        try {
+          operation = SzRecordOperation.valueOf(opText);
+        } catch (IllegalArgumentException e) {
+          record.fail(400, "Unrecognized record operation: " + opText);
+          continue;
+        }
+      }
+      record.result.setOperation(operation);
+
+      String dataSource = JsonUtilities.getString(recordJson, "DATA_SOURCE");
+      dataSource = (dataSource == null) ? null : dataSource.trim().toUpperCase();
+      String recordId = normalizeString(
+          JsonUtilities.getString(recordJson, "RECORD_ID"));
+      record.result.setDataSource(dataSource);
+      record.result.setRecordId(recordId);
+
+      if (dataSource == null || dataSource.length() == 0) {
+        record.fail(400, "The record does not specify a DATA_SOURCE.");
+        continue;
+      }
+      boolean known = knownDataSources.computeIfAbsent(
+          dataSource, (ds) -> provider.getDataSources(ds).contains(ds));
+      if (!known) {
+        record.fail(404, "The specified data source is not recognized: "
+            + dataSource);
+        continue;
+      }
+
+      if (operation == SzRecordOperation.DELETE) {
+        if (recordId == null) {
+          record.fail(400, "A record to be deleted must specify a RECORD_ID.");
+        }
+        continue;
+      }
+
+      // normalize the data source and strip an empty record ID
+      JsonObjectBuilder jsonBuilder = Json.createObjectBuilder(recordJson);
+      jsonBuilder.add("DATA_SOURCE", dataSource);
+      if (recordId == null) jsonBuilder.remove("RECORD_ID");
+      record.recordText = JsonUtilities.toJsonText(jsonBuilder.build());
+    }
+    return records;
+  }
+
+  /**
+   * Writes the specified record with the native API, recording the INFO or
+   * the failure in the {@link BatchRecord}.  This must be called from an
+   * engine thread.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param record The {@link BatchRecord} describing the record.
+   * @param loadId The normalized load ID for the record, or <tt>null</tt>.
+   */
+  protected void executeBatchRecord(SzApiProvider provider,
+                                    BatchRecord   record,
+                                    String        loadId)
+  {
+    G2Engine engineApi = provider.getEngineApi();
+    SzBatchRecordResult result = record.result;
+    StringBuffer sb = new StringBuffer();
+
+    // skip the record if unchanged since it was last loaded
+    byte[] recordHash = null;
+    if (result.getOperation() != SzRecordOperation.DELETE) {
+      recordHash = this.hashRecord(
+          provider, result.getRecordId(), record.recordText);
+      if (this.isRecordUnchanged(provider,
+                                 result.getDataSource(),
+                                 result.getRecordId(),
+                                 recordHash))
+      {
+        result.setUnchanged(true);
+        return;
+      }
+    }
+
+    int returnCode = -1;
+    this.beginRecordUpdate(
+        provider, result.getDataSource(), result.getRecordId());
+    try {
+      if (result.getOperation() == SzRecordOperation.DELETE) {
+        returnCode = engineApi.deleteRecordWithInfo(
+            result.getDataSource(), result.getRecordId(), loadId, 0, sb);
+      } else {
+        returnCode = engineApi.addRecordWithInfo(
+            result.getDataSource(),
+            (result.getRecordId() == null) ? "" : result.getRecordId(),
+            record.recordText,
+            loadId,
+            0,
+            sb);
+      }
+    } finally {
+      this.endRecordUpdate(provider,
+                           result.getDataSource(),
+                           result.getRecordId(),
+                           (returnCode == 0) ? recordHash : null);
+    }
+
+    if (returnCode != 0) {
+      int errorCode = engineApi.getLastExceptionCode();
+      // deleting a record that does not exist is idempotent
+      if (result.getOperation() == SzRecordOperation.DELETE
+          && errorCode == RECORD_NOT_FOUND_CODE)
+      {
+        return;
+      }
+      record.fail((errorCode == DATA_SOURCE_NOT_FOUND_CODE) ? 404 : 500,
+                  engineApi.getLastException());
+      return;
+    }
+
+    record.rawInfo = sb.toString().trim();
+
+    // if the record ID was generated then return it
+    if (result.getRecordId() == null && record.rawInfo.length() > 0) {
+      result.setRecordId(JsonUtilities.getString(
+          JsonUtilities.parseJsonObject(record.rawInfo), "RECORD_ID"));
+    }
+  }
+
+  /**
+   * Groups the {@link BatchRecord} instances that can be written so that
+   * records with the same data source and record ID are in the same group in
+   * the order they were specified.  Each group is written sequentially so
+   * that, for example, a record that is replaced and then deleted in the same
+   * batch is reliably deleted.  Records without a record ID each form their
+   * own group since the engine generates a distinct record ID for each.
+   *
+   * @param records The {@link List} of {@link BatchRecord} instances in the
+   *                order they were specified.
+   * @return The {@link Collection} of groups in the order of the first record
+   *         in each group.
+   */
+  protected Collection<List<BatchRecord>> groupBatchRecords(
+      List<BatchRecord> records)
+  {
+    Map<Object, List<BatchRecord>> groups = new LinkedHashMap<>();
+    for (BatchRecord record : records) {
+      if (record.result.getErrorMessage() != null) continue;
+      String recordId = record.result.getRecordId();
+      Object key = (recordId == null) ? record
+          : List.of(record.result.getDataSource(), recordId);
+      groups.computeIfAbsent(key, (k) -> new LinkedList<>()).add(record);
+    }
+    return groups.values();
+  }
+
+  /**
+   * Waits for the specified {@link Future} for a group of {@link BatchRecord}
+   * instances to complete and unwraps any failure.
+   *
+   * @param future The {@link Future} for the group of {@link BatchRecord}
+   *               instances.
+   * @return The completed {@link List} of {@link BatchRecord} instances.
+   * @throws Exception If a record could not be written due to an
+   *                   unexpected failure.
+   */
+  protected List<BatchRecord> awaitBatchRecords(
+      Future<List<BatchRecord>> future)
+    throws Exception
+  {
+    try {
+      return future.get();
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) throw (Exception) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw e;
+    }
+  }
+
   /**
    * Provides the implementation for
    * <tt>GET /data-sources/{dataSourceCode}/records/{recordId}</tt>.
@@ -951,6 +1444,8 @@ public class EntityDataServices implements ServicesSupport {
                                  withInternalFeatures,
                                  (withRelated != SzRelationshipMode.NONE));
 
+      long indexGeneration = this.getAdjacencyGeneration(provider);
+
       String rawData = null;
 
       // check if we want 1-degree relations as well -- if so we need to
@@ -1099,6 +1594,10 @@ public class EntityDataServices implements ServicesSupport {
             (f) -> provider.getAttributeClassForFeature(f));
       }
 
+      if (withRelated != SzRelationshipMode.NONE) {
+        this.indexRelationships(provider, indexGeneration, entityData);
+      }
+
       this.postProcessEntityData(
           entityData, forceMinimal, detailLevel, featureMode);
 
@@ -1203,6 +1702,8 @@ public class EntityDataServices implements ServicesSupport {
                                  withInternalFeatures,
                                  (withRelated != SzRelationshipMode.NONE));
 
+      long indexGeneration = this.getAdjacencyGeneration(provider);
+
       // check if we want 1-degree relations as well -- if so we need to
       // find the network instead of a simple lookup
       if (withRelated == FULL && !forceMinimal) {
@@ -1286,6 +1787,10 @@ public class EntityDataServices implements ServicesSupport {
             (f) -> provider.getAttributeClassForFeature(f));
       }
 
+      if (withRelated != SzRelationshipMode.NONE) {
+        this.indexRelationships(provider, indexGeneration, entityData);
+      }
+
       this.postProcessEntityData(
           entityData, forceMinimal, detailLevel, featureMode);
 
@@ -1792,8 +2297,8 @@ public class EntityDataServices implements ServicesSupport {
             POST, uriInfo, timers, "The entityId parameter is required.");
       }
 
-      // get the info sink (if configured)
-      boolean asyncInfo = provider.hasInfoSink();
+      // check if the info is being published
+      boolean asyncInfo = this.isPublishingInfo(provider);
 
       this.enteringQueue(timers);
       String rawInfo = provider.executeInThread(() -> {
@@ -1833,22 +2338,9 @@ public class EntityDataServices implements ServicesSupport {
 
       SzResolutionInfo info = null;
       if (rawInfo != null && rawInfo.trim().length() > 0) {
-        // check if the info sink is configured
+        // check if the info is being published
         if (asyncInfo) {
-          SzMessageSink infoSink = provider.acquireInfoSink();
-          SzMessage message = new SzMessage(rawInfo);
-          try {
-            this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
-            // send the info on the async queue
-            infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
-
-          } catch (Exception e) {
-            logFailedAsyncInfo(e, message);
-
-          } finally {
-            this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
-            provider.releaseInfoSink(infoSink);
-          }
+          this.publishInfo(provider, timers, rawInfo);
         }
 
         // if the info was requested, then we also want to parse and return it
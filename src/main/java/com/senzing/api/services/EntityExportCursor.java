@@ -0,0 +1,216 @@
+package com.senzing.api.services;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Describes the position within an entity export from which the export can
+ * be resumed.  The cursor records the active configuration ID at the time of
+ * the export, the partitioning of the export and the ID of the last entity
+ * that was sent to the client.  Cursors are exchanged with the client in an
+ * opaque URL-safe text form produced by {@link #toString()} and parsed by
+ * {@link #parse(String)}.
+ */
+public final class EntityExportCursor {
+  /**
+   * The version number of the encoded form.
+   */
+  private static final byte VERSION = 1;
+
+  /**
+   * The number of bytes in the encoded form.
+   */
+  private static final int ENCODED_LENGTH = 1 + 8 + 4 + 4 + 8;
+
+  /**
+   * The active configuration ID at the time of the export.
+   */
+  private final long configId;
+
+  /**
+   * The zero-based index of the partition being exported.
+   */
+  private final int partition;
+
+  /**
+   * The total number of partitions.
+   */
+  private final int partitionCount;
+
+  /**
+   * The ID of the last entity sent to the client, or zero (0) if none.
+   */
+  private final long lastEntityId;
+
+  /**
+   * Constructs with the specified parameters.
+   *
+   * @param configId       The active configuration ID at the time of the
+   *                       export.
+   * @param partition      The zero-based index of the partition being
+   *                       exported.
+   * @param partitionCount The total number of partitions.
+   * @param lastEntityId   The ID of the last entity sent to the client, or
+   *                       zero (0) if none have been sent.
+   * @throws IllegalArgumentException If the partition parameters are not
+   *                                  valid or the entity ID is negative.
+   */
+  public EntityExportCursor(long  configId,
+                            int   partition,
+                            int   partitionCount,
+                            long  lastEntityId)
+  {
+    if (partitionCount < 1) {
+      throw new IllegalArgumentException(
+          "The partition count must be positive: " + partitionCount);
+    }
+    if (partition < 0 || partition >= partitionCount) {
+      throw new IllegalArgumentException(
+          "The partition must be non-negative and less than the partition "
+          + "count (" + partitionCount + "): " + partition);
+    }
+    if (lastEntityId < 0L) {
+      throw new IllegalArgumentException(
+          "The last entity ID cannot be negative: " + lastEntityId);
+    }
+    this.configId       = configId;
+    this.partition      = partition;
+    this.partitionCount = partitionCount;
+    this.lastEntityId   = lastEntityId;
+  }
+
+  /**
+   * Parses the opaque text form of a cursor as produced by {@link
+   * #toString()}.
+   *
+   * @param text The text to parse.
+   * @return The {@link EntityExportCursor} that was parsed.
+   * @throws NullPointerException If the specified text is <tt>null</tt>.
+   * @throws IllegalArgumentException If the specified text is not a valid
+   *                                  cursor.
+   */
+  public static EntityExportCursor parse(String text) {
+    Objects.requireNonNull(text, "The cursor text cannot be null.");
+    byte[] bytes;
+    try {
+      bytes = Base64.getUrlDecoder().decode(text.trim());
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid export cursor: " + text, e);
+    }
+    if (bytes.length != ENCODED_LENGTH || bytes[0] != VERSION) {
+      throw new IllegalArgumentException("Invalid export cursor: " + text);
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, ENCODED_LENGTH - 1);
+    long  configId        = buffer.getLong();
+    int   partition       = buffer.getInt();
+    int   partitionCount  = buffer.getInt();
+    long  lastEntityId    = buffer.getLong();
+    try {
+      return new EntityExportCursor(
+          configId, partition, partitionCount, lastEntityId);
+
+    } catch (IllegalArgumentException e) {
+      throw new IllegalArgumentException("Invalid export cursor: " + text, e);
+    }
+  }
+
+  /**
+   * Gets the active configuration ID at the time of the export.
+   *
+   * @return The active configuration ID at the time of the export.
+   */
+  public long getConfigId() {
+    return this.configId;
+  }
+
+  /**
+   * Gets the zero-based index of the partition being exported.
+   *
+   * @return The zero-based index of the partition being exported.
+   */
+  public int getPartition() {
+    return this.partition;
+  }
+
+  /**
+   * Gets the total number of partitions.
+   *
+   * @return The total number of partitions.
+   */
+  public int getPartitionCount() {
+    return this.partitionCount;
+  }
+
+  /**
+   * Gets the ID of the last entity sent to the client, or zero (0) if none
+   * have been sent.
+   *
+   * @return The ID of the last entity sent to the client.
+   */
+  public long getLastEntityId() {
+    return this.lastEntityId;
+  }
+
+  /**
+   * Checks if the entity with the specified entity ID belongs to the
+   * partition described by this cursor.  Entity ID's are assigned
+   * sequentially so they are distributed evenly by their remainder.
+   *
+   * @param entityId The entity ID to check.
+   * @return <tt>true</tt> if the entity belongs to the partition, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean isInPartition(long entityId) {
+    return Math.floorMod(entityId, (long) this.partitionCount)
+        == this.partition;
+  }
+
+  /**
+   * Returns a new {@link EntityExportCursor} that is positioned after the
+   * entity with the specified entity ID.
+   *
+   * @param entityId The ID of the last entity sent to the client.
+   * @return The new {@link EntityExportCursor}.
+   */
+  public EntityExportCursor advance(long entityId) {
+    return new EntityExportCursor(
+        this.configId, this.partition, this.partitionCount, entityId);
+  }
+
+  /**
+   * Returns the opaque URL-safe text form of this cursor.
+   *
+   * @return The opaque URL-safe text form of this cursor.
+   */
+  @Override
+  public String toString() {
+    ByteBuffer buffer = ByteBuffer.allocate(ENCODED_LENGTH);
+    buffer.put(VERSION);
+    buffer.putLong(this.configId);
+    buffer.putInt(this.partition);
+    buffer.putInt(this.partitionCount);
+    buffer.putLong(this.lastEntityId);
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(buffer.array());
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (this == object) return true;
+    if (object == null || this.getClass() != object.getClass()) return false;
+    EntityExportCursor cursor = (EntityExportCursor) object;
+    return this.configId == cursor.configId
+        && this.partition == cursor.partition
+        && this.partitionCount == cursor.partitionCount
+        && this.lastEntityId == cursor.lastEntityId;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(this.configId,
+                        this.partition,
+                        this.partitionCount,
+                        this.lastEntityId);
+  }
+}
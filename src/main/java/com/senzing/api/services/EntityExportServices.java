@@ -0,0 +1,850 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.g2.engine.G2Engine;
+import com.senzing.g2.engine.Result;
+import com.senzing.util.AccessToken;
+import com.senzing.util.JsonUtilities;
+import com.senzing.util.Timers;
+
+import javax.json.JsonObject;
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.io.*;
+import java.util.function.Supplier;
+
+import static com.senzing.api.model.SzBulkDataStatus.*;
+import static com.senzing.api.model.SzHttpMethod.GET;
+import static com.senzing.api.services.BulkDataSupport.*;
+import static com.senzing.g2.engine.G2Engine.*;
+import static com.senzing.io.IOUtilities.UTF_8;
+import static com.senzing.util.LoggingUtilities.*;
+import static javax.ws.rs.core.MediaType.*;
+
+/**
+ * Provides services for exporting the resolved entities.
+ */
+@Path("/")
+public class EntityExportServices implements ServicesSupport {
+  /**
+   * The base export flags for selecting the entities and relationships to
+   * export.
+   */
+  private static final long BASE_EXPORT_FLAGS
+      = G2_EXPORT_INCLUDE_ALL_ENTITIES | G2_EXPORT_INCLUDE_ALL_RELATIONSHIPS;
+
+  /**
+   * The SSE event name for the events that carry the exported entities.
+   */
+  public static final String ENTITY_EVENT = "entity";
+
+  /**
+   * The JSON property name that precedes the entity ID of the exported
+   * entity in each row of the export.
+   */
+  private static final String RESOLVED_ENTITY_KEY = "\"RESOLVED_ENTITY\"";
+
+  /**
+   * The JSON property name for the entity ID in each row of the export.
+   */
+  private static final String ENTITY_ID_KEY = "\"ENTITY_ID\"";
+
+  /**
+   * Handles the rows of the export that belong to the exported partition
+   * and follow the resume cursor.
+   */
+  @FunctionalInterface
+  protected interface ExportRowHandler {
+    /**
+     * Handles the specified row of the export.
+     *
+     * @param entityId The entity ID of the exported entity.
+     * @param row      The JSON text for the row of the export.
+     * @throws IOException If a failure occurs sending the row to the client.
+     */
+    void handle(long entityId, String row) throws IOException;
+  }
+
+  /**
+   * Tracks the progress of an export and the cursor from which the export
+   * can be resumed.  The rows of the export are handled while holding the
+   * lock on this instance so that the progress reported never reflects a row
+   * that has not yet been sent to the client.
+   */
+  protected static class ExportTracker {
+    /**
+     * The cursor from which the export was started.
+     */
+    private final EntityExportCursor startCursor;
+
+    /**
+     * The status of the export.
+     */
+    private SzBulkDataStatus status = NOT_STARTED;
+
+    /**
+     * The ID of the last entity sent to the client.
+     */
+    private long lastEntityId;
+
+    /**
+     * The ID of the last entity read from the export, or negative one (-1) if
+     * none have been read.
+     */
+    private long lastScannedId = -1L;
+
+    /**
+     * Whether or not the entities have so far been read from the export in
+     * ascending order of entity ID.
+     */
+    private boolean ordered = true;
+
+    /**
+     * The number of entities read from the export.
+     */
+    private long scannedCount = 0L;
+
+    /**
+     * The number of entities sent to the client.
+     */
+    private long exportedCount = 0L;
+
+    /**
+     * Constructs with the {@link EntityExportCursor} from which the export
+     * is started.
+     *
+     * @param startCursor The {@link EntityExportCursor} from which the
+     *                    export is started.
+     */
+    protected ExportTracker(EntityExportCursor startCursor) {
+      this.startCursor  = startCursor;
+      this.lastEntityId = startCursor.getLastEntityId();
+    }
+
+    /**
+     * Gets the {@link EntityExportCursor} from which the export was started.
+     *
+     * @return The {@link EntityExportCursor} from which the export was
+     *         started.
+     */
+    protected EntityExportCursor getStartCursor() {
+      return this.startCursor;
+    }
+
+    /**
+     * Gets the {@link EntityExportCursor} positioned after the last entity
+     * that was sent to the client.  If the entities were not read in
+     * ascending order of entity ID then a cursor cannot describe which
+     * entities were sent, so the cursor from which the export was started is
+     * returned and resuming from it repeats the full export.
+     *
+     * @return The {@link EntityExportCursor} positioned after the last entity
+     *         that was sent to the client.
+     */
+    protected synchronized EntityExportCursor getCursor() {
+      return (!this.ordered
+              || this.lastEntityId == this.startCursor.getLastEntityId())
+          ? this.startCursor : this.startCursor.advance(this.lastEntityId);
+    }
+
+    /**
+     * Checks whether or not the entities have so far been read from the
+     * export in ascending order of entity ID.
+     *
+     * @return <tt>true</tt> if the entities have been read in ascending
+     *         order, otherwise <tt>false</tt>.
+     */
+    protected synchronized boolean isOrdered() {
+      return this.ordered;
+    }
+
+    /**
+     * Sets the {@linkplain SzBulkDataStatus status} of the export.
+     *
+     * @param status The status of the export.
+     */
+    protected synchronized void setStatus(SzBulkDataStatus status) {
+      this.status = status;
+    }
+
+    /**
+     * Records that an entity was read from the export and returns whether
+     * or not it should be sent to the client.
+     *
+     * @param entityId The entity ID of the entity that was read.
+     * @return <tt>true</tt> if the entity should be sent to the client,
+     *         otherwise <tt>false</tt>.
+     * @throws IllegalStateException If the export was resumed from a cursor
+     *                               and the entity was not read in ascending
+     *                               order of entity ID.
+     */
+    protected synchronized boolean scanned(long entityId) {
+      if (entityId <= this.lastScannedId) {
+        // a resumed export has skipped the entities up to its cursor on the
+        // assumption that they were already sent, which no longer holds
+        if (this.startCursor.getLastEntityId() > 0L) {
+          throw new IllegalStateException(
+              "The entities were not exported in ascending order of entity "
+              + "ID (" + entityId + " followed " + this.lastScannedId
+              + ") so the export cannot be resumed from a cursor.  Restart "
+              + "the export without a cursor.");
+        }
+        if (this.ordered) {
+          System.err.println(
+              "*** WARNING : Entities not exported in ascending order of "
+              + "entity ID (" + entityId + " followed " + this.lastScannedId
+              + ").  Resuming this export will repeat the full export.");
+        }
+        this.ordered = false;
+      }
+      this.lastScannedId = entityId;
+      this.scannedCount++;
+      return (entityId > this.startCursor.getLastEntityId()
+              && this.startCursor.isInPartition(entityId));
+    }
+
+    /**
+     * Records that the entity with the specified entity ID was sent to the
+     * client.
+     *
+     * @param entityId The entity ID of the entity that was sent.
+     */
+    protected synchronized void exported(long entityId) {
+      this.exportedCount++;
+      this.lastEntityId = entityId;
+    }
+
+    /**
+     * Creates a new {@link SzEntityExportStatus} describing the current
+     * state of the export.
+     *
+     * @return The {@link SzEntityExportStatus} describing the current state
+     *         of the export.
+     */
+    protected synchronized SzEntityExportStatus toStatus() {
+      SzEntityExportStatus exportStatus = SzEntityExportStatus.FACTORY.create();
+      exportStatus.setStatus(this.status);
+      exportStatus.setPartition(this.startCursor.getPartition());
+      exportStatus.setPartitionCount(this.startCursor.getPartitionCount());
+      exportStatus.setScannedEntityCount(this.scannedCount);
+      exportStatus.setExportedEntityCount(this.exportedCount);
+      exportStatus.setCursor(this.getCursor().toString());
+      return exportStatus;
+    }
+  }
+
+  /**
+   * Provides the implementation for <tt>GET /entities/export</tt>.  The
+   * entities are streamed as JSON-lines (one entity per line) with chunked
+   * transfer encoding as they are fetched from the export handle.  The export
+   * handle is opened and read on a {@linkplain
+   * SzApiProvider#executeInDedicatedThread(com.senzing.util.WorkerThreadPool.Task)
+   * dedicated thread} so that it does not occupy any of the threads used for
+   * interactive requests.  Each row is written to the response before the
+   * next row is fetched so a slow client slows the export rather than causing
+   * the rows to be buffered in memory.
+   * <p>
+   * The entities can optionally be divided into a number of partitions so
+   * that several clients can export them in parallel, and an export can be
+   * resumed from a cursor obtained from the progress events of {@link
+   * #exportEntitiesWithProgress}.
+   *
+   * @param forceMinimal Flag indicating if the minimal response format is
+   *                     requested.
+   * @param detailLevel The {@link SzDetailLevel} describing the requested
+   *                    level of detail for the entity data, if
+   *                    <code>null</code> this defaults to {@link
+   *                    SzDetailLevel#VERBOSE}.
+   * @param featureMode The {@link SzFeatureMode} query parameter indicating how
+   *                    the features should be returned, if <code>null</code>
+   *                    this defaults to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats Flag indicating if feature stats should be included
+   *                         in the response.
+   * @param withInternalFeatures Flag indicating if internal features should be
+   *                             included in the response.
+   * @param withRelationships Flag indicating if entity relationships should be
+   *                          included in the response.
+   * @param partition The zero-based index of the partition to export, this
+   *                  defaults to zero (0).
+   * @param partitionCount The number of partitions into which the entities
+   *                       are divided, this defaults to one (1).
+   * @param cursor The opaque cursor from which to resume the export, or
+   *               <tt>null</tt> if starting a new export.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @return The {@link Response} that streams the exported entities.
+   */
+  @GET
+  @Path("entities/export")
+  @Produces({ APPLICATION_JSONLINES })
+  public Response exportEntities(
+      @DefaultValue("false") @QueryParam("forceMinimal")          boolean             forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel")         SzDetailLevel       detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode       featureMode,
+      @DefaultValue("false") @QueryParam("withFeatureStats")      boolean             withFeatureStats,
+      @DefaultValue("false") @QueryParam("withInternalFeatures")  boolean             withInternalFeatures,
+      @DefaultValue("false") @QueryParam("withRelationships")     boolean             withRelationships,
+      @DefaultValue("0") @QueryParam("partition")                 int                 partition,
+      @DefaultValue("1") @QueryParam("partitionCount")            int                 partitionCount,
+      @QueryParam("cursor")                                       String              cursor,
+      @Context                                                    UriInfo             uriInfo)
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    long flags = this.getFlags(BASE_EXPORT_FLAGS,
+                               forceMinimal,
+                               detailLevel,
+                               featureMode,
+                               withFeatureStats,
+                               withInternalFeatures,
+                               withRelationships);
+
+    ExportTracker tracker = new ExportTracker(this.resolveExportCursor(
+        provider, partition, partitionCount, cursor, uriInfo, timers));
+
+    // the export ties up a thread, so limit the number of concurrent exports
+    AccessToken accessToken
+        = this.prepareProlongedOperation(provider, GET, uriInfo, timers);
+
+    StreamingOutput output = (outputStream) -> {
+      try {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, UTF_8));
+
+        provider.executeInDedicatedThread(() -> {
+          this.streamExport(provider,
+                            flags,
+                            tracker,
+                            (entityId, row) -> writer.append(row).append('\n'),
+                            uriInfo,
+                            timers);
+          return null;
+        });
+
+        writer.flush();
+
+      } catch (WebApplicationException | IOException e) {
+        throw e;
+
+      } catch (RuntimeException e) {
+        throw logOnceAndThrow(e);
+
+      } catch (Exception e) {
+        throw logOnceAndThrow(new RuntimeException(e));
+
+      } finally {
+        provider.concludeProlongedOperation(accessToken);
+      }
+    };
+
+    return Response.ok(output, APPLICATION_JSONLINES).build();
+  }
+
+  /**
+   * Provides the implementation for <tt>GET /entities/export</tt> using SSE.
+   * Each exported entity is sent as an <tt>"entity"</tt> event and <tt>
+   * "progress"</tt> events carrying an {@link SzEntityExportResponse} are sent
+   * periodically.  The ID of every event is the opaque cursor positioned after
+   * the last entity that was sent, so a client that reconnects with the
+   * <tt>Last-Event-ID</tt> header resumes the export where it left off.  A
+   * <tt>"completed"</tt> event is sent when the export completes and a
+   * <tt>"failed"</tt> event is sent if it fails.
+   *
+   * @param forceMinimal Flag indicating if the minimal response format is
+   *                     requested.
+   * @param detailLevel The {@link SzDetailLevel} describing the requested
+   *                    level of detail for the entity data, if
+   *                    <code>null</code> this defaults to {@link
+   *                    SzDetailLevel#VERBOSE}.
+   * @param featureMode The {@link SzFeatureMode} query parameter indicating how
+   *                    the features should be returned, if <code>null</code>
+   *                    this defaults to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats Flag indicating if feature stats should be included
+   *                         in the response.
+   * @param withInternalFeatures Flag indicating if internal features should be
+   *                             included in the response.
+   * @param withRelationships Flag indicating if entity relationships should be
+   *                          included in the response.
+   * @param partition The zero-based index of the partition to export, this
+   *                  defaults to zero (0).
+   * @param partitionCount The number of partitions into which the entities
+   *                       are divided, this defaults to one (1).
+   * @param cursor The opaque cursor from which to resume the export, or
+   *               <tt>null</tt> if starting a new export.
+   * @param lastEventId The value of the <tt>Last-Event-ID</tt> header which
+   *                    takes precedence over the cursor parameter if it is a
+   *                    valid cursor.
+   * @param progressPeriod The suggested maximum time between SSE `progress`
+   *                       events specified in milliseconds.  If not specified
+   *                       then the default of `3000` milliseconds (i.e.: 3
+   *                       seconds) is used.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param sseEventSink The {@link SseEventSink} for the SSE protocol.
+   * @param sse The {@link Sse} instance for the SSE protocol.
+   */
+  @GET
+  @Path("entities/export")
+  @Produces(TEXT_EVENT_STREAM)
+  public void exportEntitiesWithProgress(
+      @DefaultValue("false") @QueryParam("forceMinimal")          boolean             forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel")         SzDetailLevel       detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode       featureMode,
+      @DefaultValue("false") @QueryParam("withFeatureStats")      boolean             withFeatureStats,
+      @DefaultValue("false") @QueryParam("withInternalFeatures")  boolean             withInternalFeatures,
+      @DefaultValue("false") @QueryParam("withRelationships")     boolean             withRelationships,
+      @DefaultValue("0") @QueryParam("partition")                 int                 partition,
+      @DefaultValue("1") @QueryParam("partitionCount")            int                 partitionCount,
+      @QueryParam("cursor")                                       String              cursor,
+      @HeaderParam("Last-Event-ID")                               String              lastEventId,
+      @DefaultValue("3000") @QueryParam("progressPeriod")         long                progressPeriod,
+      @Context                                                    UriInfo             uriInfo,
+      @Context                                                    SseEventSink        sseEventSink,
+      @Context                                                    Sse                 sse)
+  {
+    OutboundSseEvent.Builder eventBuilder = sse.newEventBuilder();
+    try {
+      Timers timers = this.newTimers();
+      SzApiProvider provider = this.getApiProvider();
+
+      long flags = this.getFlags(BASE_EXPORT_FLAGS,
+                                 forceMinimal,
+                                 detailLevel,
+                                 featureMode,
+                                 withFeatureStats,
+                                 withInternalFeatures,
+                                 withRelationships);
+
+      // a reconnecting client resumes from the ID of the last event received
+      if (lastEventId != null && lastEventId.trim().length() > 0) {
+        try {
+          EntityExportCursor.parse(lastEventId);
+          cursor = lastEventId;
+        } catch (IllegalArgumentException ignore) {
+          // not one of our cursors, so fall back to the cursor parameter
+        }
+      }
+
+      ExportTracker tracker = new ExportTracker(this.resolveExportCursor(
+          provider, partition, partitionCount, cursor, uriInfo, timers));
+
+      AccessToken accessToken
+          = this.prepareProlongedOperation(provider, GET, uriInfo, timers);
+
+      try {
+        this.streamExportEvents(provider,
+                                flags,
+                                tracker,
+                                progressPeriod,
+                                uriInfo,
+                                timers,
+                                sseEventSink,
+                                eventBuilder);
+
+      } finally {
+        provider.concludeProlongedOperation(accessToken);
+      }
+
+    } catch (WebApplicationException e) {
+      OutboundSseEvent event = eventBuilder.name(FAILED_EVENT)
+          .id(String.valueOf(0))
+          .mediaType(APPLICATION_JSON_TYPE)
+          .data(e.getResponse().getEntity())
+          .reconnectDelay(RECONNECT_DELAY)
+          .build();
+      sseEventSink.send(event);
+      sseEventSink.close();
+    }
+  }
+
+  /**
+   * Streams the export as SSE events with periodic progress updates.  This
+   * sends the <tt>"completed"</tt> or <tt>"failed"</tt> event and closes the
+   * {@link SseEventSink} when the export ends.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param flags          The export flags.
+   * @param tracker        The {@link ExportTracker} for the export.
+   * @param progressPeriod The suggested maximum time between progress events
+   *                       in milliseconds.
+   * @param uriInfo        The {@link UriInfo} for the request.
+   * @param timers         The {@link Timers} for the request.
+   * @param sseEventSink   The {@link SseEventSink} for the SSE protocol.
+   * @param eventBuilder   The {@link OutboundSseEvent.Builder} for building
+   *                       the SSE events.
+   */
+  protected void streamExportEvents(SzApiProvider             provider,
+                                    long                      flags,
+                                    ExportTracker             tracker,
+                                    long                      progressPeriod,
+                                    UriInfo                   uriInfo,
+                                    Timers                    timers,
+                                    SseEventSink              sseEventSink,
+                                    OutboundSseEvent.Builder  eventBuilder)
+  {
+    ProgressState progressState = new ProgressState();
+    Supplier<SzEntityExportResponse> supplier
+        = () -> this.newEntityExportResponse(uriInfo, timers, tracker);
+
+    // the progress events are sent while holding the lock on the tracker so
+    // they are never interleaved with an entity event and the cursor is
+    // always positioned after the last entity event that was sent
+    ProgressUpdater<SzEntityExportResponse> progressUpdater
+        = new ProgressUpdater<>(provider.getThreadFactory(),
+                                progressPeriod * 1000000L,
+                                progressState,
+                                tracker, // monitor
+                                supplier,
+                                sseEventSink,
+                                eventBuilder,
+                                null)
+    {
+      @Override
+      protected String nextEventId() {
+        return tracker.getCursor().toString();
+      }
+    };
+
+    ExportRowHandler handler = (entityId, row) -> {
+      if (sseEventSink.isClosed()) {
+        throw new IOException("The SSE event sink has been closed.");
+      }
+      OutboundSseEvent event = eventBuilder.name(ENTITY_EVENT)
+          .id(tracker.getStartCursor().advance(entityId).toString())
+          .mediaType(APPLICATION_JSON_TYPE)
+          .data(String.class, row)
+          .reconnectDelay(RECONNECT_DELAY)
+          .build();
+      sseEventSink.send(event);
+    };
+
+    try {
+      progressUpdater.start();
+      try {
+        provider.executeInDedicatedThread(() -> {
+          this.streamExport(provider, flags, tracker, handler, uriInfo, timers);
+          return null;
+        });
+
+      } finally {
+        progressUpdater.complete();
+        try {
+          progressUpdater.join();
+        } catch (InterruptedException ignore) {
+          // ignore the exception
+        }
+      }
+
+      OutboundSseEvent event = eventBuilder.name(COMPLETED_EVENT)
+          .id(tracker.getCursor().toString())
+          .mediaType(APPLICATION_JSON_TYPE)
+          .data(supplier.get())
+          .reconnectDelay(RECONNECT_DELAY)
+          .build();
+      sseEventSink.send(event);
+      sseEventSink.close();
+
+    } catch (Exception e) {
+      if (!isLastLoggedException(e)) {
+        e.printStackTrace();
+      }
+      setLastLoggedException(e);
+
+      tracker.setStatus(ABORTED);
+      if (!sseEventSink.isClosed()) {
+        SzErrorResponse errorResponse = this.newErrorResponse(
+            this.newMeta(GET, 500, timers), this.newLinks(uriInfo), e);
+
+        OutboundSseEvent abortEvent = eventBuilder.name(PROGRESS_EVENT)
+            .id(tracker.getCursor().toString())
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(supplier.get())
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        sseEventSink.send(abortEvent);
+
+        OutboundSseEvent failEvent = eventBuilder.name(FAILED_EVENT)
+            .id(tracker.getCursor().toString())
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(errorResponse)
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        sseEventSink.send(failEvent);
+        sseEventSink.close();
+      }
+    }
+  }
+
+  /**
+   * Determines the {@link EntityExportCursor} from which to start the export
+   * given the partitioning parameters and the optional resume cursor.  The
+   * active configuration ID is obtained so that a resumed export is rejected
+   * if the configuration has changed since it was started.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param partition      The zero-based index of the partition to export.
+   * @param partitionCount The number of partitions.
+   * @param cursorText     The opaque resume cursor, or <tt>null</tt> if
+   *                       starting a new export.
+   * @param uriInfo        The {@link UriInfo} for the request.
+   * @param timers         The {@link Timers} for the request.
+   * @return The {@link EntityExportCursor} from which to start the export.
+   * @throws BadRequestException If the parameters are not valid.
+   */
+  protected EntityExportCursor resolveExportCursor(SzApiProvider provider,
+                                                   int           partition,
+                                                   int           partitionCount,
+                                                   String        cursorText,
+                                                   UriInfo       uriInfo,
+                                                   Timers        timers)
+      throws BadRequestException
+  {
+    EntityExportCursor cursor = null;
+    if (cursorText != null && cursorText.trim().length() > 0) {
+      try {
+        cursor = EntityExportCursor.parse(cursorText);
+      } catch (IllegalArgumentException e) {
+        throw this.newBadRequestException(GET, uriInfo, timers, e.getMessage());
+      }
+
+      // the partitioning is part of the cursor, but if the partitioning was
+      // explicitly specified then it must agree with the cursor
+      boolean explicit = (uriInfo.getQueryParameters().containsKey("partition")
+          || uriInfo.getQueryParameters().containsKey("partitionCount"));
+      if (explicit && (cursor.getPartition() != partition
+                       || cursor.getPartitionCount() != partitionCount))
+      {
+        throw this.newBadRequestException(
+            GET, uriInfo, timers,
+            "The partition (" + partition + ") and partition count ("
+            + partitionCount + ") do not match those of the specified "
+            + "cursor: partition=[ " + cursor.getPartition()
+            + " ], partitionCount=[ " + cursor.getPartitionCount() + " ]");
+      }
+
+    } else if (partitionCount < 1 || partition < 0
+               || partition >= partitionCount)
+    {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The partition count must be positive and the partition must be "
+          + "non-negative and less than the partition count: partition=[ "
+          + partition + " ], partitionCount=[ " + partitionCount + " ]");
+    }
+
+    long configId = this.getActiveConfigId(provider, uriInfo, timers);
+    if (cursor == null) {
+      return new EntityExportCursor(configId, partition, partitionCount, 0L);
+    }
+    if (cursor.getConfigId() != configId) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "The export cannot be resumed since the active configuration has "
+          + "changed since the export was started: cursorConfigId=[ "
+          + cursor.getConfigId() + " ], activeConfigId=[ " + configId + " ]");
+    }
+    return cursor;
+  }
+
+  /**
+   * Obtains the active configuration ID from the engine.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @param timers   The {@link Timers} for the request.
+   * @return The active configuration ID.
+   */
+  protected long getActiveConfigId(SzApiProvider  provider,
+                                   UriInfo        uriInfo,
+                                   Timers         timers)
+  {
+    G2Engine engineApi = provider.getEngineApi();
+    try {
+      this.enteringQueue(timers);
+      return provider.executeInThread(() -> {
+        this.exitingQueue(timers);
+        Result<Long> result = new Result<>();
+
+        this.callingNativeAPI(timers, "engine", "getActiveConfigID");
+        int returnCode = engineApi.getActiveConfigID(result);
+        if (returnCode != 0) {
+          throw newInternalServerErrorException(
+              GET, uriInfo, timers, engineApi);
+        }
+        this.calledNativeAPI(timers, "engine", "getActiveConfigID");
+
+        return result.getValue();
+      });
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+  }
+
+  /**
+   * Creates a new {@link SzEntityExportResponse} describing the current state
+   * of the export tracked by the specified {@link ExportTracker}.
+   *
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers  The {@link Timers} for the request.
+   * @param tracker The {@link ExportTracker} for the export.
+   * @return The new {@link SzEntityExportResponse}.
+   */
+  protected SzEntityExportResponse newEntityExportResponse(
+      UriInfo       uriInfo,
+      Timers        timers,
+      ExportTracker tracker)
+  {
+    return SzEntityExportResponse.FACTORY.create(
+        this.newMeta(GET, 200, timers),
+        this.newLinks(uriInfo),
+        tracker.toStatus());
+  }
+
+  /**
+   * Opens the export handle, fetches each row and passes the rows that belong
+   * to the exported partition and follow the resume cursor to the specified
+   * {@link ExportRowHandler}, and then closes the export handle.  The rows are
+   * handled while holding the lock on the {@link ExportTracker}.  This must be
+   * called on a thread that may call the Senzing native API directly.
+   * <p>
+   * <b>NOTE:</b> The native export API cannot be positioned, so resuming and
+   * partitioning are accomplished by reading the entire export and skipping
+   * the rows that are not wanted.  This relies on the export producing the
+   * entities in ascending order of entity ID, which the {@link ExportTracker}
+   * verifies as the rows are read.  A resumed export fails if the order is
+   * violated, while the cursor of a full export stays at its start so that
+   * resuming it repeats the full export.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param flags    The export flags.
+   * @param tracker  The {@link ExportTracker} for the export.
+   * @param handler  The {@link ExportRowHandler} for the exported rows.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @param timers   The {@link Timers} for the request.
+   * @throws IOException If a failure occurs handling the rows (e.g.: if the
+   *                     client disconnects).
+   */
+  protected void streamExport(SzApiProvider     provider,
+                              long              flags,
+                              ExportTracker     tracker,
+                              ExportRowHandler  handler,
+                              UriInfo           uriInfo,
+                              Timers            timers)
+      throws IOException
+  {
+    G2Engine engineApi = provider.getEngineApi();
+
+    Result<Long> exportHandle = new Result<>();
+    this.callingNativeAPI(timers, "engine", "exportJSONEntityReport");
+    int result = engineApi.exportJSONEntityReport(flags, exportHandle);
+    this.calledNativeAPI(timers, "engine", "exportJSONEntityReport");
+    if (result != 0) {
+      tracker.setStatus(ABORTED);
+      throw this.newInternalServerErrorException(
+          GET, uriInfo, timers, engineApi);
+    }
+
+    tracker.setStatus(IN_PROGRESS);
+    long handle = exportHandle.getValue();
+    try {
+      StringBuffer sb = new StringBuffer();
+      for (result = engineApi.fetchNext(handle, sb);
+           result == 0 && sb.length() > 0;
+           result = engineApi.fetchNext(handle, sb))
+      {
+        // trim any trailing line feed so each row is exactly one line
+        int length = sb.length();
+        while (length > 0 && Character.isWhitespace(sb.charAt(length - 1))) {
+          length--;
+        }
+        if (length > 0) {
+          sb.setLength(length);
+          long entityId = parseEntityId(sb);
+          synchronized (tracker) {
+            if (tracker.scanned(entityId)) {
+              handler.handle(entityId, sb.toString());
+              tracker.exported(entityId);
+            }
+          }
+        }
+        sb.delete(0, sb.length());
+      }
+
+      // the response has already started, so log the failure and abort the
+      // response so the client does not mistake it for a complete export
+      if (result != 0) {
+        tracker.setStatus(ABORTED);
+        String message = formatError("G2Engine.fetchNext()", engineApi);
+        System.err.println("*** WARNING : Entity export terminated early: "
+                           + message);
+        throw new IOException("Entity export terminated early: " + message);
+      }
+
+      tracker.setStatus(COMPLETED);
+
+    } catch (IOException | RuntimeException e) {
+      tracker.setStatus(ABORTED);
+      throw e;
+
+    } finally {
+      engineApi.closeExport(handle);
+    }
+  }
+
+  /**
+   * Extracts the entity ID of the resolved entity from the specified row of
+   * the export.  This scans for the first <tt>"ENTITY_ID"</tt> property that
+   * follows the <tt>"RESOLVED_ENTITY"</tt> property rather than parsing the
+   * entire row, and only falls back to parsing the row if that fails.
+   *
+   * @param row The JSON text for the row of the export.
+   * @return The entity ID of the resolved entity.
+   * @throws IllegalStateException If the entity ID could not be found.
+   */
+  protected static long parseEntityId(StringBuffer row) {
+    int start = row.indexOf(RESOLVED_ENTITY_KEY);
+    int index = (start < 0) ? -1 : row.indexOf(ENTITY_ID_KEY, start);
+    if (index >= 0) {
+      int length = row.length();
+      index += ENTITY_ID_KEY.length();
+      while (index < length && Character.isWhitespace(row.charAt(index))) {
+        index++;
+      }
+      if (index < length && row.charAt(index) == ':') {
+        index++;
+        while (index < length && Character.isWhitespace(row.charAt(index))) {
+          index++;
+        }
+        long  entityId  = 0L;
+        int   digits    = 0;
+        for (char c; index < length && (c = row.charAt(index)) >= '0'
+             && c <= '9'; index++, digits++)
+        {
+          entityId = (entityId * 10L) + (c - '0');
+        }
+        if (digits > 0 && digits < 19) return entityId;
+      }
+    }
+
+    // fall back to parsing the JSON
+    JsonObject jsonObject = JsonUtilities.parseJsonObject(row.toString());
+    JsonObject resolved = JsonUtilities.getJsonObject(
+        jsonObject, "RESOLVED_ENTITY");
+    Long entityId = (resolved == null)
+        ? null : JsonUtilities.getLong(resolved, "ENTITY_ID");
+    if (entityId == null) {
+      throw new IllegalStateException(
+          "Unable to find the entity ID in the exported entity: " + row);
+    }
+    return entityId;
+  }
+}
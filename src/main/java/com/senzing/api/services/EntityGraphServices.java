@@ -1,22 +1,33 @@
 package com.senzing.api.services;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.senzing.api.model.*;
 import com.senzing.g2.engine.G2Engine;
+import com.senzing.util.AccessToken;
 import com.senzing.util.JsonUtilities;
 import com.senzing.util.Timers;
 
 import javax.json.*;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static com.senzing.api.model.SzHttpMethod.GET;
+import static com.senzing.api.model.SzHttpMethod.POST;
+import static com.senzing.api.services.BulkDataSupport.*;
 import static com.senzing.g2.engine.G2Engine.*;
+import static com.senzing.util.LoggingUtilities.*;
+import static javax.ws.rs.core.MediaType.*;
 
 /**
  * Provides entity graph related API services.
@@ -24,6 +35,32 @@ import static com.senzing.g2.engine.G2Engine.*;
 @Path("/")
 @Produces("application/json; charset=UTF-8")
 public class EntityGraphServices implements ServicesSupport {
+  /**
+   * The SSE event name for the events that carry the entities found at each
+   * degree of a progressively expanded entity network.
+   */
+  public static final String DEGREE_EVENT = "degree";
+
+  /**
+   * The maximum number of pairs of entities for which paths can be found by
+   * a single <tt>POST /entity-path-matrix</tt> request.
+   */
+  public static final int MAX_PATH_MATRIX_PAIRS = 10000;
+
+  /**
+   * The maximum number of degrees of separation that can be searched by a
+   * single <tt>GET /entities/{entityId}/neighbors</tt> request.
+   */
+  public static final int MAX_NEIGHBOR_DEGREES = 6;
+
+  /**
+   * The flags used to retrieve the relationships of an entity that is not
+   * found in the {@link EntityAdjacencyIndex}.
+   */
+  private static final long NEIGHBOR_FLAGS
+      = SzDetailLevel.NETWORK_MINIMAL.getEntityFlags()
+      | SzDetailLevel.NETWORK_MINIMAL.getRelatedFlags();
+
   /**
    * Implements the <tt>GET /entity-paths</tt> operation.
    *
@@ -124,46 +161,15 @@ public class EntityGraphServices implements ServicesSupport {
       }
 
       // check if we have entities to avoid (or forbid)
-      if ((avoidParam != null && avoidParam.size() > 0)
-          || (avoidList != null && avoidList.trim().length() > 0))
-      {
-        // parse the multi-valued parameters
-        avoidEntities = this.parseEntityIdentifiers(
-            avoidParam, "avoidEntities", GET, uriInfo, timers);
-
-        // check if the avoid list is specified
-        if (avoidList != null && avoidList.trim().length() > 0) {
-          SzEntityIdentifiers ids = this.parseEntityIdentifiers(avoidList);
-
-          avoidEntities.addAll(ids.getIdentifiers());
-        }
-
-        if (!checkConsistent(avoidEntities)) {
-          throw this.newBadRequestException(
-              GET, uriInfo, timers,
-              "Entity identifiers for avoided entities must be of "
-                  + "consistent types: " + avoidEntities);
-        }
-      }
+      avoidEntities = this.parseAvoidEntities(
+          avoidParam, avoidList, GET, uriInfo, timers);
 
       if (avoidEntities == null || avoidEntities.size() == 0) {
         forbidAvoided = false;
       }
 
-      if (sourcesParam != null && sourcesParam.size() > 0) {
-        Set<String> dataSources = provider.getDataSources();
-        withSources = new ArrayList<>(dataSources.size());
-
-        for (String source : sourcesParam) {
-          if (dataSources.contains(source)) {
-            withSources.add(source);
-          } else {
-            throw this.newBadRequestException(
-                GET, uriInfo, timers,
-                "Unrecognized data source: " + source);
-          }
-        }
-      }
+      withSources = this.parseWithSources(
+          provider, sourcesParam, GET, uriInfo, timers);
       if (maxDegrees < 1) {
         throw this.newBadRequestException(
             GET, uriInfo, timers,
@@ -201,94 +207,15 @@ public class EntityGraphServices implements ServicesSupport {
 
         StringBuffer responseDataBuffer = new StringBuffer();
 
-        int result;
-        if (from instanceof SzRecordId) {
-          String source1 = ((SzRecordId) from).getDataSourceCode();
-          String source2 = ((SzRecordId) to).getDataSourceCode();
-          String id1 = ((SzRecordId) from).getRecordId();
-          String id2 = ((SzRecordId) to).getRecordId();
-
-          if (encodedAvoid == null && encodedSources == null) {
-            this.callingNativeAPI(timers, "engine", "findPathByRecordID");
-            result = engineApi.findPathByRecordID(source1,
-                                                  id1,
-                                                  source2,
-                                                  id2,
-                                                  maxDegrees,
-                                                  flags,
-                                                  responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathByRecordID");
-
-          } else if (encodedSources == null) {
-            this.callingNativeAPI(timers, "engine", "findPathExcludingByRecordID");
-            result = engineApi.findPathExcludingByRecordID(
-                source1,
-                id1,
-                source2,
-                id2,
-                maxDegrees,
-                (encodedAvoid != null ? encodedAvoid
-                    : nativeJsonEncodeEntityIds(Collections.emptyList())),
-                flags,
-                responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathExcludingByRecordID");
-
-          } else {
-            this.callingNativeAPI(timers, "engine", "findPathIncludingSourceByRecordID");
-            result = engineApi.findPathIncludingSourceByRecordID(
-                source1,
-                id1,
-                source2,
-                id2,
-                maxDegrees,
-                (encodedAvoid != null ? encodedAvoid
-                    : nativeJsonEncodeEntityIds(Collections.emptyList())),
-                (encodedSources != null ? encodedSources
-                    : nativeJsonEncodeDataSources(Collections.emptyList())),
-                flags,
-                responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathIncludingSourceByRecordID");
-          }
-        } else {
-          SzEntityId id1 = (SzEntityId) from;
-          SzEntityId id2 = (SzEntityId) to;
-
-          if (encodedAvoid == null && encodedSources == null) {
-            this.callingNativeAPI(timers, "engine", "findPathByEntityID");
-            result = engineApi.findPathByEntityID(id1.getValue(),
-                                                  id2.getValue(),
-                                                  maxDegrees,
-                                                  flags,
-                                                  responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathByEntityID");
-
-          } else if (encodedSources == null) {
-            this.callingNativeAPI(timers, "engine", "findPathExcludingByEntityID");
-            result = engineApi.findPathExcludingByEntityID(
-                id1.getValue(),
-                id2.getValue(),
-                maxDegrees,
-                (encodedAvoid != null ? encodedAvoid
-                    : nativeJsonEncodeEntityIds(Collections.emptyList())),
-                flags,
-                responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathExcludingByEntityID");
-
-          } else {
-            this.callingNativeAPI(timers, "engine", "findPathIncludingSourceByEntityID");
-            result = engineApi.findPathIncludingSourceByEntityID(
-                id1.getValue(),
-                id2.getValue(),
-                maxDegrees,
-                (encodedAvoid != null ? encodedAvoid
-                    : nativeJsonEncodeEntityIds(Collections.emptyList())),
-                (encodedSources != null ? encodedSources
-                    : nativeJsonEncodeDataSources(Collections.emptyList())),
-                flags,
-                responseDataBuffer);
-            this.calledNativeAPI(timers, "engine", "findPathIncludingSourceByEntityID");
-          }
-        }
+        int result = this.findNativePath(engineApi,
+                                         from,
+                                         to,
+                                         maxDegrees,
+                                         encodedAvoid,
+                                         encodedSources,
+                                         flags,
+                                         timers,
+                                         responseDataBuffer);
 
         if (result != 0) {
           System.err.println("********* SOURCES: " + originalSources);
@@ -330,6 +257,643 @@ public class EntityGraphServices implements ServicesSupport {
     }
   }
 
+  /**
+   * Implements the <tt>POST /entity-path-matrix</tt> operation which finds
+   * the paths between every entity in a list of "from" entities and every
+   * entity in a list of "to" entities.  The request body is a JSON object
+   * with <tt>"from"</tt> and <tt>"to"</tt> properties that are each a JSON
+   * array of entity identifiers (entity ID's or record ID objects).  The
+   * path constraints are the same as for <tt>GET /entity-paths</tt>.
+   * <p>
+   * The pairwise path searches are distributed across the engine threads
+   * with at most <tt>parallelism</tt> searches in flight, and a pair that is
+   * the reverse of another pair is only searched once.  The results are
+   * streamed as JSON-lines in the order that the searches complete.  Each
+   * line is either an object with an <tt>"entity"</tt> property giving the
+   * details of an entity the first time it appears in any path, or an
+   * object with a <tt>"path"</tt> property describing the result for a pair.
+   * If <tt>maxPaths</tt> is positive then the remaining searches are
+   * abandoned once that many paths have been found.
+   *
+   * @param maxDegrees The maximum number of degrees for each path.
+   * @param avoidParam The optional {@link List} of {@link SzEntityIdentifier}
+   *                   instances identifying those entities to avoid.
+   * @param avoidList The optional text describing a {@link List} of {@link
+   *                  SzEntityIdentifier} instances identifying those entities
+   *                  to avoid.
+   * @param forbidAvoided Flag indicating whether or not avoided entities should
+   *                      be strictly forbidden (<tt>true</tt>) or only avoided
+   *                      if possible (<tt>false</tt>).
+   * @param sourcesParam The {@link List} of data source codes that are legal
+   *                     for entities included in the paths.
+   * @param maxPaths The number of paths after which to stop searching, or
+   *                 zero (0) to search every pair.
+   * @param parallelism The maximum number of path searches to run
+   *                    concurrently, which defaults to (and is limited by)
+   *                    the number of engine threads.
+   * @param forceMinimal Whether or not the returned entities should be in
+   *                     the minimal format.
+   * @param detailLevel The {@link SzDetailLevel} describing the requested
+   *                    level of detail for the entity data, if
+   *                    <code>null</code> this defaults to {@link
+   *                    SzDetailLevel#VERBOSE}.
+   * @param featureMode The {@link SzFeatureMode} query parameter indicating how
+   *                    the features should be returned, if <code>null</code>
+   *                    this defaults to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats Whether or not feature stats should be included
+   *                         with the returned entities.
+   * @param withInternalFeatures Whether or not internal features should be
+   *                             included with the returned entities.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param matrixBody The JSON request body identifying the entities.
+   * @return The {@link Response} that streams the results.
+   */
+  @POST
+  @Path("entity-path-matrix")
+  @Produces({ APPLICATION_JSONLINES })
+  public Response findEntityPathMatrix(
+      @DefaultValue("3") @QueryParam("maxDegrees")                int                 maxDegrees,
+      @QueryParam("x")                                            List<String>        avoidParam,
+      @QueryParam("avoidEntities")                                String              avoidList,
+      @DefaultValue("false") @QueryParam("forbidAvoided")         boolean             forbidAvoided,
+      @QueryParam("s")                                            List<String>        sourcesParam,
+      @DefaultValue("0") @QueryParam("maxPaths")                  int                 maxPaths,
+      @QueryParam("parallelism")                                  Integer             parallelism,
+      @DefaultValue("false") @QueryParam("forceMinimal")          boolean             forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel")         SzDetailLevel       detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode       featureMode,
+      @DefaultValue("false") @QueryParam("withFeatureStats")      boolean             withFeatureStats,
+      @DefaultValue("false") @QueryParam("withInternalFeatures")  boolean             withInternalFeatures,
+      @Context                                                    UriInfo             uriInfo,
+      String                                                                          matrixBody)
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    List<PathSearch>          searches;
+    Set<SzEntityIdentifier>   avoidEntities;
+    List<String>              withSources;
+    try {
+      JsonObject jsonBody;
+      try {
+        jsonBody = JsonUtilities.parseJsonObject(matrixBody);
+      } catch (Exception e) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "The request body must be a JSON object with \"from\" and \"to\" "
+                + "arrays of entity identifiers.");
+      }
+      List<SzEntityIdentifier> fromList
+          = this.parseMatrixEntities(jsonBody, "from", uriInfo, timers);
+      List<SzEntityIdentifier> toList
+          = this.parseMatrixEntities(jsonBody, "to", uriInfo, timers);
+
+      Set<SzEntityIdentifier> allEntities = new LinkedHashSet<>(fromList);
+      allEntities.addAll(toList);
+      if (!this.checkConsistent(allEntities)) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Entity identifiers must be of consistent types: " + allEntities);
+      }
+
+      long pairCount = ((long) fromList.size()) * ((long) toList.size());
+      if (pairCount > MAX_PATH_MATRIX_PAIRS) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "The number of pairs of entities (" + pairCount + ") exceeds "
+                + "the maximum of " + MAX_PATH_MATRIX_PAIRS + ".");
+      }
+
+      avoidEntities = this.parseAvoidEntities(
+          avoidParam, avoidList, POST, uriInfo, timers);
+
+      if (avoidEntities == null || avoidEntities.size() == 0) {
+        forbidAvoided = false;
+      }
+
+      withSources = this.parseWithSources(
+          provider, sourcesParam, POST, uriInfo, timers);
+
+      if (maxDegrees < 1) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Max degrees must be greater than zero: " + maxDegrees);
+      }
+      if (maxPaths < 0) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Max paths must be zero or greater: " + maxPaths);
+      }
+      if (parallelism != null && parallelism < 1) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Parallelism must be greater than zero: " + parallelism);
+      }
+
+      searches = this.planPathSearches(fromList, toList);
+
+    } catch (WebApplicationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw this.newBadRequestException(POST, uriInfo, timers, e.getMessage());
+    }
+
+    final String encodedAvoid = (avoidEntities == null)
+        ? null : this.nativeJsonEncodeEntityIds(avoidEntities);
+
+    final String encodedSources = (withSources == null)
+        ? null : this.nativeJsonEncodeDataSources(withSources);
+
+    final long flags = (forbidAvoided ? 0L : G2_FIND_PATH_PREFER_EXCLUDE)
+                    | this.getFlags(forceMinimal,
+                                    detailLevel,
+                                    featureMode,
+                                    withFeatureStats,
+                                    withInternalFeatures,
+                                    true);
+
+    int concurrency = Math.max(1, provider.getConcurrency());
+    int threadCount = Math.max(1, Math.min(
+        searches.size(),
+        (parallelism == null) ? concurrency : Math.min(parallelism, concurrency)));
+
+    // the searches tie up threads, so limit the number of concurrent matrices
+    AccessToken accessToken
+        = this.prepareProlongedOperation(provider, POST, uriInfo, timers);
+
+    Set<Long> sentEntityIds = new HashSet<>();
+    int[] pathCount = { 0 };
+    StreamingOutput output = this.newParallelJsonLinesOutput(
+        provider,
+        searches,
+        threadCount,
+        accessToken,
+        (search) -> this.executePathSearch(provider,
+                                           search,
+                                           maxDegrees,
+                                           encodedAvoid,
+                                           encodedSources,
+                                           flags,
+                                           uriInfo),
+        (search, objectMapper, writer) -> {
+          SzEntityPath entityPath = null;
+          if (search.rawData != null) {
+            SzEntityPathData pathData = this.parseEntityPathData(
+                JsonUtilities.parseJsonObject(search.rawData),
+                provider::getAttributeClassForFeature);
+
+            // send the details for each entity only the first time it is seen
+            for (SzEntityData entityData : pathData.getEntities()) {
+              long entityId = entityData.getResolvedEntity().getEntityId();
+              if (!sentEntityIds.add(entityId)) continue;
+              this.postProcessEntityData(
+                  entityData, forceMinimal, detailLevel, featureMode);
+              writer.append(objectMapper.writeValueAsString(
+                  Collections.singletonMap("entity", entityData)));
+              writer.append('\n');
+            }
+            entityPath = pathData.getEntityPath();
+            if (entityPath.getEntityIds().size() > 0) pathCount[0]++;
+          }
+
+          this.writePathResult(objectMapper, writer, search.from, search.to,
+                               entityPath, search.error);
+          for (PathSearch reverse : search.reverseSearches) {
+            SzEntityPath reversePath = (entityPath == null) ? null
+                : this.reverseEntityPath(entityPath);
+            this.writePathResult(objectMapper, writer, reverse.from,
+                                 reverse.to, reversePath, search.error);
+          }
+
+          // short-circuit the remaining searches if we have enough paths
+          return (maxPaths <= 0 || pathCount[0] < maxPaths);
+        });
+
+    return Response.ok(output, APPLICATION_JSONLINES).build();
+  }
+
+  /**
+   * Describes a single pairwise path search for <tt>POST
+   * /entity-path-matrix</tt> along with any requested pairs that are the
+   * reverse of it and the result of the search.
+   */
+  protected static class PathSearch {
+    /**
+     * The {@link SzEntityIdentifier} for the start of the path.
+     */
+    protected final SzEntityIdentifier from;
+
+    /**
+     * The {@link SzEntityIdentifier} for the end of the path.
+     */
+    protected final SzEntityIdentifier to;
+
+    /**
+     * The {@link List} of {@link PathSearch} instances for the requested pairs
+     * that are the reverse of this one and are satisfied by this search.
+     */
+    protected final List<PathSearch> reverseSearches = new LinkedList<>();
+
+    /**
+     * The raw native JSON result of the search, or <tt>null</tt> if the
+     * search failed or has not completed.
+     */
+    protected String rawData = null;
+
+    /**
+     * The error message if one of the entities was not found, otherwise
+     * <tt>null</tt>.
+     */
+    protected String error = null;
+
+    /**
+     * Constructs with the entities for the start and end of the path.
+     *
+     * @param from The {@link SzEntityIdentifier} for the start of the path.
+     * @param to The {@link SzEntityIdentifier} for the end of the path.
+     */
+    protected PathSearch(SzEntityIdentifier from, SzEntityIdentifier to) {
+      this.from = from;
+      this.to   = to;
+    }
+  }
+
+  /**
+   * Parses the {@link List} of {@link SzEntityIdentifier} instances from the
+   * JSON array with the specified property name in the request body for
+   * <tt>POST /entity-path-matrix</tt>.
+   *
+   * @param jsonBody The {@link JsonObject} for the request body.
+   * @param propName The property name for the JSON array.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @return The non-empty {@link List} of distinct {@link SzEntityIdentifier}
+   *         instances in the order they were specified.
+   * @throws BadRequestException If the property is missing, empty or not
+   *                             valid.
+   */
+  protected List<SzEntityIdentifier> parseMatrixEntities(JsonObject jsonBody,
+                                                         String     propName,
+                                                         UriInfo    uriInfo,
+                                                         Timers     timers)
+  {
+    JsonValue jsonValue = jsonBody.get(propName);
+    if (jsonValue == null
+        || jsonValue.getValueType() != JsonValue.ValueType.ARRAY
+        || jsonValue.asJsonArray().size() == 0)
+    {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The \"" + propName + "\" property of the request body must be a "
+              + "non-empty array of entity identifiers.");
+    }
+    SzEntityIdentifiers ids;
+    try {
+      ids = this.parseEntityIdentifiers(JsonUtilities.toJsonText(jsonValue));
+    } catch (Exception e) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The \"" + propName + "\" property of the request body is not "
+              + "formatted correctly: " + e.getMessage());
+    }
+    return new ArrayList<>(new LinkedHashSet<>(ids.getIdentifiers()));
+  }
+
+  /**
+   * Plans the pairwise path searches for the specified "from" and "to"
+   * entities.  Pairs that are the reverse of an earlier pair are attached to
+   * the earlier {@link PathSearch} rather than being searched again.
+   *
+   * @param fromList The {@link List} of {@link SzEntityIdentifier} instances
+   *                 for the starts of the paths.
+   * @param toList The {@link List} of {@link SzEntityIdentifier} instances
+   *               for the ends of the paths.
+   * @return The {@link List} of {@link PathSearch} instances to execute.
+   */
+  protected List<PathSearch> planPathSearches(
+      List<SzEntityIdentifier> fromList,
+      List<SzEntityIdentifier> toList)
+  {
+    Map<List<SzEntityIdentifier>, PathSearch> searchMap = new HashMap<>();
+    List<PathSearch> searches = new ArrayList<>();
+    for (SzEntityIdentifier from : fromList) {
+      for (SzEntityIdentifier to : toList) {
+        PathSearch search = new PathSearch(from, to);
+        PathSearch reverse = searchMap.get(List.of(to, from));
+        if (reverse != null && !from.equals(to)) {
+          reverse.reverseSearches.add(search);
+          continue;
+        }
+        searchMap.put(List.of(from, to), search);
+        searches.add(search);
+      }
+    }
+    return searches;
+  }
+
+  /**
+   * Executes the specified {@link PathSearch} and records its result.  A
+   * failure because one of the entities was not found is recorded as the
+   * error for the search rather than failing the entire matrix.  This must be
+   * called from an engine thread.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param search The {@link PathSearch} to execute.
+   * @param maxDegrees The maximum number of degrees for the path.
+   * @param encodedAvoid The native JSON encoding of the entities to avoid, or
+   *                     <tt>null</tt> if none.
+   * @param encodedSources The native JSON encoding of the required data
+   *                       sources, or <tt>null</tt> if none.
+   * @param flags The flags for finding the path.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @throws InternalServerErrorException If the search fails for any reason
+   *                                      other than an entity not being found.
+   */
+  protected void executePathSearch(SzApiProvider  provider,
+                                   PathSearch     search,
+                                   int            maxDegrees,
+                                   String         encodedAvoid,
+                                   String         encodedSources,
+                                   long           flags,
+                                   UriInfo        uriInfo)
+  {
+    G2Engine engineApi = provider.getEngineApi();
+    StringBuffer sb = new StringBuffer();
+    int result = this.findNativePath(engineApi,
+                                     search.from,
+                                     search.to,
+                                     maxDegrees,
+                                     encodedAvoid,
+                                     encodedSources,
+                                     flags,
+                                     null,
+                                     sb);
+    if (result == 0) {
+      search.rawData = sb.toString();
+      return;
+    }
+    int errorCode = engineApi.getLastExceptionCode();
+    if (errorCode == ENTITY_NOT_FOUND_CODE
+        || errorCode == RECORD_NOT_FOUND_CODE) {
+      search.error = engineApi.getLastException();
+      return;
+    }
+    throw this.newInternalServerErrorException(POST, uriInfo, null, engineApi);
+  }
+
+  /**
+   * Writes the JSON line describing the result of the path search between
+   * the specified entities.
+   *
+   * @param objectMapper The {@link ObjectMapper} for serializing the line.
+   * @param writer The {@link Writer} to write the line to.
+   * @param from The {@link SzEntityIdentifier} for the start of the path.
+   * @param to The {@link SzEntityIdentifier} for the end of the path.
+   * @param entityPath The {@link SzEntityPath} that was found, or
+   *                   <tt>null</tt> if the search failed.
+   * @param error The error message if the search failed, otherwise
+   *              <tt>null</tt>.
+   * @throws IOException If a failure occurs writing the line.
+   */
+  protected void writePathResult(ObjectMapper       objectMapper,
+                                 Writer             writer,
+                                 SzEntityIdentifier from,
+                                 SzEntityIdentifier to,
+                                 SzEntityPath       entityPath,
+                                 String             error)
+    throws IOException
+  {
+    Map<String, Object> result = new LinkedHashMap<>();
+    result.put("from", this.toJsonLinesIdentifier(from));
+    result.put("to", this.toJsonLinesIdentifier(to));
+    if (entityPath != null) result.put("entityPath", entityPath);
+    if (error != null) result.put("error", error);
+    writer.append(objectMapper.writeValueAsString(
+        Collections.singletonMap("path", result)));
+    writer.append('\n');
+  }
+
+  /**
+   * Creates a new {@link SzEntityPath} that is the reverse of the specified
+   * {@link SzEntityPath}.
+   *
+   * @param entityPath The {@link SzEntityPath} to reverse.
+   * @return The reversed {@link SzEntityPath}.
+   */
+  protected SzEntityPath reverseEntityPath(SzEntityPath entityPath) {
+    List<Long> entityIds = new ArrayList<>(entityPath.getEntityIds());
+    Collections.reverse(entityIds);
+    return SzEntityPath.FACTORY.create(entityPath.getEndEntityId(),
+                                       entityPath.getStartEntityId(),
+                                       entityIds);
+  }
+
+  /**
+   * Parses the entities to avoid when finding a path from the request
+   * parameters.
+   *
+   * @param avoidParam The optional {@link List} of {@link SzEntityIdentifier}
+   *                   instances identifying those entities to avoid.
+   * @param avoidList The optional text describing a {@link List} of {@link
+   *                  SzEntityIdentifier} instances identifying those entities
+   *                  to avoid.
+   * @param httpMethod The {@link SzHttpMethod} for the request.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @return The {@link Set} of {@link SzEntityIdentifier} instances for the
+   *         entities to avoid, or <tt>null</tt> if none were specified.
+   * @throws BadRequestException If the parameters are not valid.
+   */
+  protected Set<SzEntityIdentifier> parseAvoidEntities(
+      List<String>  avoidParam,
+      String        avoidList,
+      SzHttpMethod  httpMethod,
+      UriInfo       uriInfo,
+      Timers        timers)
+  {
+    if ((avoidParam == null || avoidParam.size() == 0)
+        && (avoidList == null || avoidList.trim().length() == 0))
+    {
+      return null;
+    }
+
+    // parse the multi-valued parameters
+    Set<SzEntityIdentifier> avoidEntities = this.parseEntityIdentifiers(
+        avoidParam, "avoidEntities", httpMethod, uriInfo, timers);
+
+    // check if the avoid list is specified
+    if (avoidList != null && avoidList.trim().length() > 0) {
+      SzEntityIdentifiers ids = this.parseEntityIdentifiers(avoidList);
+
+      avoidEntities.addAll(ids.getIdentifiers());
+    }
+
+    if (!checkConsistent(avoidEntities)) {
+      throw this.newBadRequestException(
+          httpMethod, uriInfo, timers,
+          "Entity identifiers for avoided entities must be of "
+              + "consistent types: " + avoidEntities);
+    }
+    return avoidEntities;
+  }
+
+  /**
+   * Parses and validates the data sources that are legal for entities
+   * included in a path from the request parameters.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param sourcesParam The {@link List} of data source codes that are legal
+   *                     for entities included in the path.
+   * @param httpMethod The {@link SzHttpMethod} for the request.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @return The {@link List} of data source codes, or <tt>null</tt> if none
+   *         were specified.
+   * @throws BadRequestException If a data source is not recognized.
+   */
+  protected List<String> parseWithSources(SzApiProvider provider,
+                                          List<String>  sourcesParam,
+                                          SzHttpMethod  httpMethod,
+                                          UriInfo       uriInfo,
+                                          Timers        timers)
+  {
+    if (sourcesParam == null || sourcesParam.size() == 0) return null;
+
+    Set<String> dataSources = provider.getDataSources();
+    List<String> withSources = new ArrayList<>(dataSources.size());
+
+    for (String source : sourcesParam) {
+      if (dataSources.contains(source)) {
+        withSources.add(source);
+      } else {
+        throw this.newBadRequestException(
+            httpMethod, uriInfo, timers,
+            "Unrecognized data source: " + source);
+      }
+    }
+    return withSources;
+  }
+
+  /**
+   * Calls the appropriate native function to find the path between the
+   * specified entities given the optional avoided entities and required data
+   * sources.  This must be called from an engine thread.
+   *
+   * @param engineApi The {@link G2Engine} to use.
+   * @param from The {@link SzEntityIdentifier} for the start of the path.
+   * @param to The {@link SzEntityIdentifier} for the end of the path, which
+   *           must be the same type as the start of the path.
+   * @param maxDegrees The maximum number of degrees for the path.
+   * @param encodedAvoid The native JSON encoding of the entities to avoid, or
+   *                     <tt>null</tt> if none.
+   * @param encodedSources The native JSON encoding of the required data
+   *                       sources, or <tt>null</tt> if none.
+   * @param flags The flags for finding the path.
+   * @param timers The {@link Timers} for the operation.
+   * @param responseDataBuffer The {@link StringBuffer} for the response.
+   * @return The return code from the native function.
+   */
+  protected int findNativePath(G2Engine           engineApi,
+                               SzEntityIdentifier from,
+                               SzEntityIdentifier to,
+                               int                maxDegrees,
+                               String             encodedAvoid,
+                               String             encodedSources,
+                               long               flags,
+                               Timers             timers,
+                               StringBuffer       responseDataBuffer)
+  {
+    int result;
+    if (from instanceof SzRecordId) {
+      String source1 = ((SzRecordId) from).getDataSourceCode();
+      String source2 = ((SzRecordId) to).getDataSourceCode();
+      String id1 = ((SzRecordId) from).getRecordId();
+      String id2 = ((SzRecordId) to).getRecordId();
+
+      if (encodedAvoid == null && encodedSources == null) {
+        this.callingNativeAPI(timers, "engine", "findPathByRecordID");
+        result = engineApi.findPathByRecordID(source1,
+                                              id1,
+                                              source2,
+                                              id2,
+                                              maxDegrees,
+                                              flags,
+                                              responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathByRecordID");
+
+      } else if (encodedSources == null) {
+        this.callingNativeAPI(timers, "engine", "findPathExcludingByRecordID");
+        result = engineApi.findPathExcludingByRecordID(
+            source1,
+            id1,
+            source2,
+            id2,
+            maxDegrees,
+            (encodedAvoid != null ? encodedAvoid
+                : nativeJsonEncodeEntityIds(Collections.emptyList())),
+            flags,
+            responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathExcludingByRecordID");
+
+      } else {
+        this.callingNativeAPI(timers, "engine", "findPathIncludingSourceByRecordID");
+        result = engineApi.findPathIncludingSourceByRecordID(
+            source1,
+            id1,
+            source2,
+            id2,
+            maxDegrees,
+            (encodedAvoid != null ? encodedAvoid
+                : nativeJsonEncodeEntityIds(Collections.emptyList())),
+            (encodedSources != null ? encodedSources
+                : nativeJsonEncodeDataSources(Collections.emptyList())),
+            flags,
+            responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathIncludingSourceByRecordID");
+      }
+    } else {
+      SzEntityId id1 = (SzEntityId) from;
+      SzEntityId id2 = (SzEntityId) to;
+
+      if (encodedAvoid == null && encodedSources == null) {
+        this.callingNativeAPI(timers, "engine", "findPathByEntityID");
+        result = engineApi.findPathByEntityID(id1.getValue(),
+                                              id2.getValue(),
+                                              maxDegrees,
+                                              flags,
+                                              responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathByEntityID");
+
+      } else if (encodedSources == null) {
+        this.callingNativeAPI(timers, "engine", "findPathExcludingByEntityID");
+        result = engineApi.findPathExcludingByEntityID(
+            id1.getValue(),
+            id2.getValue(),
+            maxDegrees,
+            (encodedAvoid != null ? encodedAvoid
+                : nativeJsonEncodeEntityIds(Collections.emptyList())),
+            flags,
+            responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathExcludingByEntityID");
+
+      } else {
+        this.callingNativeAPI(timers, "engine", "findPathIncludingSourceByEntityID");
+        result = engineApi.findPathIncludingSourceByEntityID(
+            id1.getValue(),
+            id2.getValue(),
+            maxDegrees,
+            (encodedAvoid != null ? encodedAvoid
+                : nativeJsonEncodeEntityIds(Collections.emptyList())),
+            (encodedSources != null ? encodedSources
+                : nativeJsonEncodeDataSources(Collections.emptyList())),
+            flags,
+            responseDataBuffer);
+        this.calledNativeAPI(timers, "engine", "findPathIncludingSourceByEntityID");
+      }
+    }
+    return result;
+  }
+
   /**
    * Parses the raw Senzing JSON described by the specified {@link JsonObject}
    * as an instance of {@link SzEntityPathData}.
@@ -371,6 +935,213 @@ public class EntityGraphServices implements ServicesSupport {
         this.newLinks(uriInfo), entityPathData);
   }
 
+  /**
+   * Implements the <tt>GET /entities/{entityId}/neighbors</tt> operation.
+   * The entities within the specified number of degrees of separation of the
+   * identified entity are found breadth-first from the relationships held in
+   * the {@link EntityAdjacencyIndex} (if configured).  The relationships of
+   * the entities at each degree that are not indexed are retrieved with a
+   * single hand-off to an engine thread and are then indexed.  If the index
+   * is not configured then every relationship is retrieved.
+   *
+   * @param entityId The entity ID of the subject entity.
+   * @param maxDegrees The maximum number of degrees of separation to search.
+   * @param maxEntities The maximum number of neighboring entities to find.
+   * @param countOnly <tt>true</tt> if only the number of entities at each
+   *                  degree should be returned, otherwise <tt>false</tt>.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @return The {@link SzEntityNeighborhoodResponse} describing the response.
+   */
+  @GET
+  @Path("entities/{entityId}/neighbors")
+  public SzEntityNeighborhoodResponse getEntityNeighbors(
+      @PathParam("entityId")                                long    entityId,
+      @DefaultValue("1")      @QueryParam("maxDegrees")     int     maxDegrees,
+      @DefaultValue("10000")  @QueryParam("maxEntities")    int     maxEntities,
+      @DefaultValue("false")  @QueryParam("countOnly")      boolean countOnly,
+      @Context                                              UriInfo uriInfo)
+  {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    if (maxDegrees < 1 || maxDegrees > MAX_NEIGHBOR_DEGREES) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "Max degrees must be between 1 and " + MAX_NEIGHBOR_DEGREES
+              + ": " + maxDegrees);
+    }
+    if (maxEntities < 1) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "Max entities must be a positive integer: " + maxEntities);
+    }
+
+    try {
+      EntityAdjacencyIndex adjacencyIndex = provider.getEntityAdjacencyIndex();
+
+      // without an index the relationships are only held for this request
+      Map<Long, EntityAdjacencyIndex.Adjacency> localIndex
+          = (adjacencyIndex == null) ? new HashMap<>() : null;
+
+      SzEntityNeighborhood neighborhood = SzEntityNeighborhood.FACTORY.create();
+      neighborhood.setEntityId(entityId);
+      neighborhood.setMaxDegrees(maxDegrees);
+
+      List<SzEntityNeighbor> neighbors = new ArrayList<>();
+      Set<Long> visited = new HashSet<>();
+      visited.add(entityId);
+      List<Long> frontier = List.of(entityId);
+      int retrievedCount = 0;
+      boolean truncated = false;
+
+      for (int degree = 1; degree <= maxDegrees && !truncated; degree++) {
+        // find the relationships of the frontier that are not indexed
+        Map<Long, EntityAdjacencyIndex.Adjacency> adjacencies
+            = new LinkedHashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long frontierId : frontier) {
+          EntityAdjacencyIndex.Adjacency adjacency = (adjacencyIndex == null)
+              ? localIndex.get(frontierId) : adjacencyIndex.get(frontierId);
+          adjacencies.put(frontierId, adjacency);
+          if (adjacency == null) missing.add(frontierId);
+        }
+        if (missing.size() > 0) {
+          Map<Long, EntityAdjacencyIndex.Adjacency> retrieved
+              = this.retrieveAdjacencies(
+                  provider, missing, (degree == 1), uriInfo, timers);
+          retrievedCount += missing.size();
+          adjacencies.putAll(retrieved);
+          if (localIndex != null) localIndex.putAll(retrieved);
+        }
+
+        List<Long> nextFrontier = new ArrayList<>();
+        for (Map.Entry<Long, EntityAdjacencyIndex.Adjacency> entry
+            : adjacencies.entrySet())
+        {
+          EntityAdjacencyIndex.Adjacency adjacency = entry.getValue();
+          // skip entities that no longer exist
+          if (adjacency == null) continue;
+          for (int index = 0; index < adjacency.size(); index++) {
+            long neighborId = adjacency.getEntityId(index);
+            if (!visited.add(neighborId)) continue;
+            if (visited.size() - 1 > maxEntities) {
+              truncated = true;
+              break;
+            }
+            nextFrontier.add(neighborId);
+            if (countOnly) continue;
+            SzEntityNeighbor neighbor = SzEntityNeighbor.FACTORY.create();
+            neighbor.setEntityId(neighborId);
+            neighbor.setDegrees(degree);
+            neighbor.setViaEntityId(entry.getKey());
+            neighbor.setMatchLevel(adjacency.getMatchLevel(index));
+            neighbor.setRelationType(adjacency.getRelationType(index));
+            neighbors.add(neighbor);
+          }
+          if (truncated) break;
+        }
+        neighborhood.setDegreeCount(degree, nextFrontier.size());
+        if (nextFrontier.isEmpty()) break;
+        frontier = nextFrontier;
+      }
+
+      neighborhood.setNeighbors(countOnly ? null : neighbors);
+      neighborhood.setTruncated(truncated);
+      neighborhood.setRetrievedCount(retrievedCount);
+      if (adjacencyIndex != null) {
+        neighborhood.setIndexedEntityCount(adjacencyIndex.getEntityCount());
+        neighborhood.setIndexMemoryBytes(adjacencyIndex.getEstimatedBytes());
+      }
+
+      return SzEntityNeighborhoodResponse.FACTORY.create(
+          this.newMeta(GET, 200, timers), this.newLinks(uriInfo), neighborhood);
+
+    } catch (WebApplicationException e) {
+      throw e;
+
+    } catch (Exception e) {
+      throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+    }
+  }
+
+  /**
+   * Retrieves the relationships of the entities with the specified entity
+   * ID's with a single hand-off to an engine thread and indexes them in the
+   * {@link EntityAdjacencyIndex} (if configured).  Entities that are not
+   * found are mapped to <tt>null</tt> unless they are required.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param entityIds The {@link List} of entity ID's for the entities.
+   * @param required <tt>true</tt> if a "not found" response should be sent
+   *                 if any of the entities are not found, otherwise
+   *                 <tt>false</tt>.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the request.
+   * @return The {@link Map} of entity ID's to {@link
+   *         EntityAdjacencyIndex.Adjacency} instances describing the
+   *         relationships.
+   * @throws Exception If a failure occurs.
+   */
+  protected Map<Long, EntityAdjacencyIndex.Adjacency> retrieveAdjacencies(
+      SzApiProvider provider,
+      List<Long>    entityIds,
+      boolean       required,
+      UriInfo       uriInfo,
+      Timers        timers)
+    throws Exception
+  {
+    long generation = this.getAdjacencyGeneration(provider);
+
+    this.enteringQueue(timers);
+    Map<Long, String> rawDataMap = provider.executeInThread(() -> {
+      this.exitingQueue(timers);
+
+      G2Engine engineApi = provider.getEngineApi();
+      Map<Long, String> rawEntities = new LinkedHashMap<>();
+      StringBuffer sb = new StringBuffer();
+      for (Long entityId : entityIds) {
+        sb.delete(0, sb.length());
+
+        this.callingNativeAPI(timers, "engine", "getEntityByEntityID");
+        int result = engineApi.getEntityByEntityID(entityId, NEIGHBOR_FLAGS, sb);
+        this.calledNativeAPI(timers, "engine", "getEntityByEntityID");
+
+        if (result == 0) {
+          rawEntities.put(entityId, sb.toString());
+
+        } else if (!required
+            && engineApi.getLastExceptionCode() == ENTITY_NOT_FOUND_CODE)
+        {
+          rawEntities.put(entityId, null);
+
+        } else {
+          throw this.newPossiblyNotFoundException(
+              GET, uriInfo, timers, engineApi);
+        }
+      }
+      return rawEntities;
+    });
+
+    this.processingRawData(timers);
+    Map<Long, EntityAdjacencyIndex.Adjacency> adjacencies = new HashMap<>();
+    for (Map.Entry<Long, String> entry : rawDataMap.entrySet()) {
+      String rawData = entry.getValue();
+      if (rawData == null) {
+        adjacencies.put(entry.getKey(), null);
+        continue;
+      }
+      SzEntityData entityData = SzEntityData.parseEntityData(
+          null,
+          JsonUtilities.parseJsonObject(rawData),
+          provider::getAttributeClassForFeature);
+      this.indexRelationships(provider, generation, entityData);
+      adjacencies.put(entry.getKey(), EntityAdjacencyIndex.Adjacency.of(
+          entityData.getRelatedEntities()));
+    }
+    this.processedRawData(timers);
+    return adjacencies;
+  }
+
   /**
    * Implements the <tt>GET /entity-paths</tt> operation.
    *
@@ -423,33 +1194,8 @@ public class EntityGraphServices implements ServicesSupport {
     Set<SzEntityIdentifier> entities;
     // check for consistent entity IDs
     try {
-      if ((entitiesParam == null || entitiesParam.isEmpty())
-          && ((entityList == null) || entityList.isEmpty()))
-      {
-        throw this.newBadRequestException(
-            GET, uriInfo, timers,
-            "One of the following parameters is required to specify at least "
-                + "one entity: 'e' or 'entities'.  "
-                + "At least one of 'e' or 'entities' parameter must specify at "
-                + "least one entity identifier.");
-      }
-
-      entities = this.parseEntityIdentifiers(
-          entitiesParam, "e", GET, uriInfo, timers);
-
-      if (entityList != null && entityList.trim().length() > 0) {
-        SzEntityIdentifiers ids = this.parseEntityIdentifiers(entityList);
-
-        entities.addAll(ids.getIdentifiers());
-      }
-
-
-      if (!this.checkConsistent(entities)) {
-        throw this.newBadRequestException(
-            GET, uriInfo, timers,
-            "Entity identifiers for entities must be of consistent "
-                + "types: " + entities);
-      }
+      entities = this.parseNetworkEntities(
+          entitiesParam, entityList, uriInfo, timers);
 
       if (maxDegrees < 0) {
         throw this.newBadRequestException(
@@ -561,6 +1307,439 @@ public class EntityGraphServices implements ServicesSupport {
     }
   }
 
+  /**
+   * Implements the <tt>GET /entity-networks</tt> operation using SSE to
+   * expand the network progressively.  Rather than a single native call that
+   * must complete before any of the network is returned, the network is
+   * expanded breadth-first from the identified entities one degree at a
+   * time.  The entities at each degree are retrieved in batches with one
+   * native call per batch, and the batches are retrieved in parallel.  A
+   * <tt>"degree"</tt> event carrying an {@link SzEntityNetworkResponse} with
+   * the entities found at that degree (along with their relationships, which
+   * describe the edges of the network) is sent as soon as each degree is
+   * complete so that the network can be rendered progressively.  The
+   * expansion stops if the client disconnects.  A <tt>"completed"</tt> event
+   * whose ID is the last degree sent is sent when the expansion completes
+   * (which may be before the maximum degrees if no further entities are
+   * found) and a <tt>"failed"</tt> event is sent if it fails.
+   * <p>
+   * <b>NOTE:</b> Since the network is built out from every identified entity
+   * rather than by first finding the paths between them, the
+   * <tt>buildOut</tt> parameter does not apply to this operation and the
+   * <tt>maxEntities</tt> parameter limits the number of entities found beyond
+   * those that were identified.
+   *
+   * @param entitiesParam The {@link List} of encoded strings describing
+   *                      {@link SzEntityIdentifier} instances for the network.
+   * @param entityList The encoded {@link String} describing the the
+   *                   {@link SzEntityIdentifiers} instance for the network.
+   * @param maxDegrees The maximum number of degrees to expand the network.
+   * @param maxEntities The maximum number of entities to find beyond the
+   *                    identified entities.
+   * @param batchSize The maximum number of entities to retrieve per native
+   *                  call.
+   * @param forceMinimal Whether or not the returned entities should be in
+   *                     the minimal format.
+   * @param detailLevel The {@link SzDetailLevel} describing the requested
+   *                    level of detail for the entity data, if
+   *                    <code>null</code> this defaults to {@link
+   *                    SzDetailLevel#VERBOSE}.
+   * @param featureMode The {@link SzFeatureMode} query parameter indicating how
+   *                    the features should be returned, if <code>null</code>
+   *                    this defaults to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats Whether or not feature stats should be included
+   *                         with the returned entities.
+   * @param withInternalFeatures Whether or not internal features should be
+   *                             included with the returned entities.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param sseEventSink The {@link SseEventSink} for the SSE protocol.
+   * @param sse The {@link Sse} instance for the SSE protocol.
+   */
+  @GET
+  @Path("entity-networks")
+  @Produces(TEXT_EVENT_STREAM)
+  public void streamEntityNetwork(
+      @QueryParam("e")                                            List<String>  entitiesParam,
+      @QueryParam("entities")                                     String        entityList,
+      @DefaultValue("3")      @QueryParam("maxDegrees")           int           maxDegrees,
+      @DefaultValue("1000")   @QueryParam("maxEntities")          int           maxEntities,
+      @DefaultValue("10")     @QueryParam("batchSize")            int           batchSize,
+      @DefaultValue("false")  @QueryParam("forceMinimal")         boolean       forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel")         SzDetailLevel detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode featureMode,
+      @DefaultValue("false") @QueryParam("withFeatureStats")      boolean       withFeatureStats,
+      @DefaultValue("false") @QueryParam("withInternalFeatures")  boolean       withInternalFeatures,
+      @Context                                                    UriInfo       uriInfo,
+      @Context                                                    SseEventSink  sseEventSink,
+      @Context                                                    Sse           sse)
+  {
+    OutboundSseEvent.Builder eventBuilder = sse.newEventBuilder();
+    try {
+      Timers timers = this.newTimers();
+      SzApiProvider provider = this.getApiProvider();
+
+      Set<SzEntityIdentifier> entities;
+      try {
+        entities = this.parseNetworkEntities(
+            entitiesParam, entityList, uriInfo, timers);
+
+      } catch (WebApplicationException e) {
+        throw e;
+      } catch (Exception e) {
+        throw this.newBadRequestException(GET, uriInfo, timers, e.getMessage());
+      }
+
+      if (maxDegrees < 0) {
+        throw this.newBadRequestException(
+            GET, uriInfo, timers,
+            "Max degrees must not be negative: " + maxDegrees);
+      }
+
+      if (maxEntities < 0) {
+        throw this.newBadRequestException(
+            GET, uriInfo, timers,
+            "Max entities must be zero or greater: " + maxEntities);
+      }
+
+      if (batchSize <= 0) {
+        throw this.newBadRequestException(
+            GET, uriInfo, timers,
+            "Batch size must be a positive integer: " + batchSize);
+      }
+
+      final long flags = this.getFlags(forceMinimal,
+                                       detailLevel,
+                                       featureMode,
+                                       withFeatureStats,
+                                       withInternalFeatures,
+                                       true);
+
+      try {
+        int lastDegree = this.expandEntityNetwork(
+            provider,
+            entities,
+            maxDegrees,
+            maxEntities,
+            batchSize,
+            flags,
+            (entityData) -> this.postProcessEntityData(
+                entityData, forceMinimal, detailLevel, featureMode),
+            uriInfo,
+            timers,
+            sseEventSink,
+            eventBuilder);
+
+        OutboundSseEvent event = eventBuilder.name(COMPLETED_EVENT)
+            .id(String.valueOf(lastDegree))
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(SzBasicResponse.FACTORY.create(
+                this.newMeta(GET, 200, timers), this.newLinks(uriInfo)))
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        if (!sseEventSink.isClosed()) {
+          sseEventSink.send(event);
+          sseEventSink.close();
+        }
+
+      } catch (WebApplicationException e) {
+        throw e;
+
+      } catch (Exception e) {
+        if (!isLastLoggedException(e)) {
+          e.printStackTrace();
+        }
+        setLastLoggedException(e);
+        throw this.newInternalServerErrorException(GET, uriInfo, timers, e);
+      }
+
+    } catch (WebApplicationException e) {
+      if (!sseEventSink.isClosed()) {
+        OutboundSseEvent event = eventBuilder.name(FAILED_EVENT)
+            .id(String.valueOf(0))
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(e.getResponse().getEntity())
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        sseEventSink.send(event);
+        sseEventSink.close();
+      }
+    }
+  }
+
+  /**
+   * Expands the entity network breadth-first from the specified entities
+   * and sends a <tt>"degree"</tt> event for each degree of the network as
+   * soon as the entities at that degree have been retrieved.  The expansion
+   * stops early if the {@link SseEventSink} is closed.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param entities The {@link Set} of {@link SzEntityIdentifier} instances
+   *                 from which to expand the network.
+   * @param maxDegrees The maximum number of degrees to expand the network.
+   * @param maxEntities The maximum number of entities to find beyond the
+   *                    specified entities.
+   * @param batchSize The maximum number of entities to retrieve per native
+   *                  call.
+   * @param flags The flags for retrieving the entities.
+   * @param postProcessor The {@link Consumer} to post-process each of the
+   *                      entities before it is sent.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the request.
+   * @param sseEventSink The {@link SseEventSink} for the SSE protocol.
+   * @param eventBuilder The {@link OutboundSseEvent.Builder} for building the
+   *                     SSE events.
+   * @return The last degree for which a <tt>"degree"</tt> event was sent, or
+   *         negative one (-1) if none was sent.
+   * @throws Exception If a failure occurs.
+   */
+  protected int expandEntityNetwork(
+      SzApiProvider             provider,
+      Set<SzEntityIdentifier>   entities,
+      int                       maxDegrees,
+      int                       maxEntities,
+      int                       batchSize,
+      long                      flags,
+      Consumer<SzEntityData>    postProcessor,
+      UriInfo                   uriInfo,
+      Timers                    timers,
+      SseEventSink              sseEventSink,
+      OutboundSseEvent.Builder  eventBuilder)
+    throws Exception
+  {
+    // the identified entities are the zero degree of the network
+    String encodedEntityIds = this.nativeJsonEncodeEntityIds(entities);
+    boolean byRecordId = (entities.iterator().next() instanceof SzRecordId);
+
+    this.enteringQueue(timers);
+    String rawData = provider.executeInThread(() -> {
+      this.exitingQueue(timers);
+      return this.findNetworkEntities(
+          provider, encodedEntityIds, byRecordId, flags, uriInfo, timers);
+    });
+    List<SzEntityData> degreeEntities = this.parseDegreeEntities(
+        provider, rawData, timers);
+
+    int concurrency = Math.max(1, provider.getConcurrency());
+    BoundedExecutor executor = this.newBoundedExecutor(provider, concurrency);
+    try {
+      Set<Long> visited = new HashSet<>();
+      int remaining = maxEntities;
+      for (int degree = 0; ; degree++) {
+        for (SzEntityData entityData : degreeEntities) {
+          visited.add(entityData.getResolvedEntity().getEntityId());
+          postProcessor.accept(entityData);
+        }
+
+        if (sseEventSink.isClosed()) return degree - 1;
+        SzEntityNetworkData networkData = SzEntityNetworkData.FACTORY.create(
+            Collections.emptyList(), degreeEntities);
+        OutboundSseEvent event = eventBuilder.name(DEGREE_EVENT)
+            .id(String.valueOf(degree))
+            .mediaType(APPLICATION_JSON_TYPE)
+            .data(this.newEntityNetworkResponse(
+                GET, 200, uriInfo, timers, networkData))
+            .reconnectDelay(RECONNECT_DELAY)
+            .build();
+        sseEventSink.send(event);
+
+        if (degree >= maxDegrees || remaining == 0) return degree;
+
+        // the next degree is every related entity not already found
+        List<Long> frontier = new ArrayList<>();
+        Set<Long> queued = new HashSet<>();
+        for (SzEntityData entityData : degreeEntities) {
+          for (SzRelatedEntity related : entityData.getRelatedEntities()) {
+            long entityId = related.getEntityId();
+            if (visited.contains(entityId) || !queued.add(entityId)) continue;
+            frontier.add(entityId);
+          }
+        }
+        if (frontier.size() > remaining) {
+          frontier = frontier.subList(0, remaining);
+        }
+        if (frontier.isEmpty()) return degree;
+        remaining -= frontier.size();
+
+        degreeEntities = this.findFrontierEntities(
+            provider, executor, frontier, batchSize, flags, uriInfo, timers);
+      }
+
+    } finally {
+      executor.close();
+    }
+  }
+
+  /**
+   * Retrieves the entities with the specified entity ID's by dividing them
+   * into batches and retrieving the batches in parallel with one native call
+   * per batch.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param executor The {@link BoundedExecutor} for submitting the batches.
+   * @param entityIds The {@link List} of entity ID's for the entities.
+   * @param batchSize The maximum number of entities to retrieve per batch.
+   * @param flags The flags for retrieving the entities.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the request.
+   * @return The {@link List} of {@link SzEntityData} instances for the
+   *         entities that were found.
+   * @throws Exception If a failure occurs.
+   */
+  protected List<SzEntityData> findFrontierEntities(
+      SzApiProvider   provider,
+      BoundedExecutor executor,
+      List<Long>      entityIds,
+      int             batchSize,
+      long            flags,
+      UriInfo         uriInfo,
+      Timers          timers)
+    throws Exception
+  {
+    List<Future<String>> futures = new ArrayList<>();
+    for (int index = 0; index < entityIds.size(); index += batchSize) {
+      List<SzEntityIdentifier> batch = new ArrayList<>(batchSize);
+      for (Long entityId : entityIds.subList(
+          index, Math.min(entityIds.size(), index + batchSize)))
+      {
+        batch.add(SzEntityId.FACTORY.create(entityId));
+      }
+      String encodedEntityIds = this.nativeJsonEncodeEntityIds(batch);
+
+      // the timers are not thread-safe so they are not passed to the batches
+      futures.add(executor.submit(() -> provider.executeInThread(
+          () -> this.findNetworkEntities(
+              provider, encodedEntityIds, false, flags, uriInfo, null))));
+    }
+
+    this.callingNativeAPI(timers, "engine", "findNetworkByEntityID");
+    List<SzEntityData> entities = new ArrayList<>(entityIds.size());
+    try {
+      for (Future<String> future : futures) {
+        entities.addAll(
+            this.parseDegreeEntities(provider, future.get(), null));
+      }
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) throw (Exception) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw e;
+
+    } finally {
+      this.calledNativeAPI(timers, "engine", "findNetworkByEntityID");
+    }
+    return entities;
+  }
+
+  /**
+   * Calls the native API to retrieve the specified entities along with their
+   * relationships without building out or finding paths.  This must be called
+   * from an engine thread.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param encodedEntityIds The native JSON encoding of the entity
+   *                         identifiers.
+   * @param byRecordId <tt>true</tt> if the entities are identified by record
+   *                   ID, or <tt>false</tt> if identified by entity ID.
+   * @param flags The flags for retrieving the entities.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the request, or <tt>null</tt> if the
+   *               native call should not be timed.
+   * @return The raw JSON text that was returned.
+   */
+  protected String findNetworkEntities(SzApiProvider  provider,
+                                       String         encodedEntityIds,
+                                       boolean        byRecordId,
+                                       long           flags,
+                                       UriInfo        uriInfo,
+                                       Timers         timers)
+  {
+    G2Engine engineApi = provider.getEngineApi();
+    StringBuffer sb = new StringBuffer();
+    String function = (byRecordId)
+        ? "findNetworkByRecordID" : "findNetworkByEntityID";
+    this.callingNativeAPI(timers, "engine", function);
+    int result = (byRecordId)
+        ? engineApi.findNetworkByRecordID(encodedEntityIds, 0, 0, 0, flags, sb)
+        : engineApi.findNetworkByEntityID(encodedEntityIds, 0, 0, 0, flags, sb);
+    this.calledNativeAPI(timers, "engine", function);
+
+    if (result != 0) {
+      throw this.newWebApplicationException(GET, uriInfo, timers, engineApi);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Parses the entities from the specified raw network JSON text.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param rawData The raw network JSON text.
+   * @param timers The {@link Timers} for the request, or <tt>null</tt> if the
+   *               parsing should not be timed.
+   * @return The {@link List} of {@link SzEntityData} instances that were
+   *         parsed.
+   */
+  protected List<SzEntityData> parseDegreeEntities(SzApiProvider provider,
+                                                   String        rawData,
+                                                   Timers        timers)
+  {
+    this.processingRawData(timers);
+    JsonObject jsonObject = JsonUtilities.parseJsonObject(rawData);
+    SzEntityNetworkData networkData = this.parseEntityNetworkData(
+        jsonObject, provider::getAttributeClassForFeature);
+    this.processedRawData(timers);
+    return new ArrayList<>(networkData.getEntities());
+  }
+
+  /**
+   * Parses the {@link SzEntityIdentifier} instances identifying the entities
+   * for an entity network from the request parameters and ensures they are
+   * of a consistent type.
+   *
+   * @param entitiesParam The {@link List} of encoded strings describing
+   *                      {@link SzEntityIdentifier} instances.
+   * @param entityList The encoded {@link String} describing the the
+   *                   {@link SzEntityIdentifiers} instance.
+   * @param uriInfo The {@link UriInfo} for the request.
+   * @param timers The {@link Timers} for the operation.
+   * @return The {@link Set} of {@link SzEntityIdentifier} instances.
+   * @throws BadRequestException If the parameters are not valid.
+   */
+  protected Set<SzEntityIdentifier> parseNetworkEntities(
+      List<String>  entitiesParam,
+      String        entityList,
+      UriInfo       uriInfo,
+      Timers        timers)
+  {
+    if ((entitiesParam == null || entitiesParam.isEmpty())
+        && ((entityList == null) || entityList.isEmpty()))
+    {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "One of the following parameters is required to specify at least "
+              + "one entity: 'e' or 'entities'.  "
+              + "At least one of 'e' or 'entities' parameter must specify at "
+              + "least one entity identifier.");
+    }
+
+    Set<SzEntityIdentifier> entities = this.parseEntityIdentifiers(
+        entitiesParam, "e", GET, uriInfo, timers);
+
+    if (entityList != null && entityList.trim().length() > 0) {
+      SzEntityIdentifiers ids = this.parseEntityIdentifiers(entityList);
+
+      entities.addAll(ids.getIdentifiers());
+    }
+
+    if (!this.checkConsistent(entities)) {
+      throw this.newBadRequestException(
+          GET, uriInfo, timers,
+          "Entity identifiers for entities must be of consistent "
+              + "types: " + entities);
+    }
+    return entities;
+  }
+
   /**
    * Parses the raw JSON described by the specified {@link JsonObject} as an
    * instance of {@link SzEntityNetworkData}.
@@ -226,31 +226,41 @@ public class HowRelatedServices implements ServicesSupport {
 
       StringBuffer sb = new StringBuffer();
 
-      String rawData = null;
+      // check the cache before queueing for an engine thread
+      HowWhyCache cache = provider.getHowWhyCache();
+      String cacheKey = HowWhyCache.formatKey(
+          "howEntityByEntityID", 0L, entityId);
+      String rawData = (cache == null) ? null : cache.get(cacheKey);
 
-      this.enteringQueue(timers);
-      rawData = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      if (rawData == null) {
+        long generation = (cache == null) ? 0L : cache.getGeneration();
 
-        // get the engine API and the config API
-        G2Engine engineApi = provider.getEngineApi();
+        this.enteringQueue(timers);
+        rawData = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        this.callingNativeAPI(
-            timers, "engine", "howEntityByEntityID");
+          // get the engine API and the config API
+          G2Engine engineApi = provider.getEngineApi();
 
-        // perform the "why" operation and check the result
-        int result = engineApi.howEntityByEntityID(entityId, sb);
+          this.callingNativeAPI(
+              timers, "engine", "howEntityByEntityID");
 
-        this.calledNativeAPI(
-            timers, "engine", "howEntityByEntityID");
+          // perform the "why" operation and check the result
+          int result = engineApi.howEntityByEntityID(entityId, sb);
 
-        if (result != 0) {
-          throw this.newPossiblyNotFoundException(
-              GET, uriInfo, timers, engineApi);
-        }
+          this.calledNativeAPI(
+              timers, "engine", "howEntityByEntityID");
 
-        return sb.toString();
-      });
+          if (result != 0) {
+            throw this.newPossiblyNotFoundException(
+                GET, uriInfo, timers, engineApi);
+          }
+
+          return sb.toString();
+        });
+
+        if (cache != null) cache.put(cacheKey, generation, rawData, entityId);
+      }
 
       return this.createHowEntityResponse(rawData,
                                           timers,
@@ -304,6 +314,8 @@ public class HowRelatedServices implements ServicesSupport {
       SzRecordId identifier
           = SzRecordId.FACTORY.create(dataSourceCode, recordId);
 
+      HowWhyCache cache = provider.getHowWhyCache();
+
       this.enteringQueue(timers);
       rawData = provider.executeInThread(() -> {
         this.exitingQueue(timers);
@@ -312,14 +324,26 @@ public class HowRelatedServices implements ServicesSupport {
         G2Engine engineApi = provider.getEngineApi();
 
         boolean entityChanged = false;
+        Long    entityId      = null;
+        String  cacheKey      = null;
+        long    generation    = 0L;
         do {
           entityChanged = false;
           sb.delete(0, sb.length());
 
           // resolve the entity ID
-          Long entityId = this.resolveEntityId(
+          entityId = this.resolveEntityId(
               GET, uriInfo, timers, engineApi, identifier, true);
 
+          // check the cache now that we know the entity ID
+          if (cache != null) {
+            cacheKey = HowWhyCache.formatKey(
+                "howEntityByEntityID", 0L, entityId);
+            String cached = cache.get(cacheKey);
+            if (cached != null) return cached;
+            generation = cache.getGeneration();
+          }
+
           this.callingNativeAPI(
               timers, "engine", "howEntityByEntityID");
 
@@ -341,7 +365,9 @@ public class HowRelatedServices implements ServicesSupport {
 
         } while (entityChanged);
 
-        return sb.toString();
+        String text = sb.toString();
+        if (cache != null) cache.put(cacheKey, generation, text, entityId);
+        return text;
       });
 
       return this.createHowEntityResponse(rawData,
@@ -0,0 +1,350 @@
+package com.senzing.api.services;
+
+import com.senzing.util.JsonUtilities;
+
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import java.util.*;
+
+/**
+ * Provides a bounded, in-memory, least-recently-used cache of the raw native
+ * JSON results of the "how" and "why" operations.  The results only change
+ * when the records of the entities they describe change, so each cached
+ * result is associated with the ID's of those entities and is discarded when
+ * any of them appear in the <tt>"AFFECTED_ENTITIES"</tt> of the INFO produced
+ * by a load, delete or re-evaluate performed through this server.  The entire
+ * cache is cleared when the engine is reinitialized with a new configuration
+ * or the repository is purged.
+ * <p>
+ * <b>NOTE:</b> Changes made to the entity repository by other processes are
+ * not seen by the cache, so it should only be enabled when this server is
+ * the only writer or stale "how" and "why" results are acceptable.
+ * <p>
+ * A result computed concurrently with an invalidation could describe the
+ * entities prior to the change.  To avoid caching such a result, callers
+ * obtain the {@linkplain #getGeneration() generation} before calling the
+ * native function and pass it to {@link #put(String, long, String, long...)},
+ * which ignores the result if any invalidation has occurred in between.
+ */
+public class HowWhyCache {
+  /**
+   * The maximum number of results to retain.
+   */
+  private final int maximumSize;
+
+  /**
+   * The {@link LinkedHashMap} of cache keys to {@link Entry} instances in
+   * least-recently-used order.
+   */
+  private final LinkedHashMap<String, Entry> entries;
+
+  /**
+   * The {@link Map} of entity ID's to the {@link Set} of cache keys for the
+   * results that describe the respective entity.
+   */
+  private final Map<Long, Set<String>> keysByEntityId;
+
+  /**
+   * The generation which is incremented on every invalidation.
+   */
+  private long generation = 0L;
+
+  /**
+   * The number of lookups that found a cached result.
+   */
+  private long hitCount = 0L;
+
+  /**
+   * The number of lookups that did not find a cached result.
+   */
+  private long missCount = 0L;
+
+  /**
+   * Describes a cached result and the entities it describes.
+   */
+  private static class Entry {
+    /**
+     * The raw native JSON text for the result.
+     */
+    private final String rawData;
+
+    /**
+     * The entity ID's of the entities described by the result.
+     */
+    private final Set<Long> entityIds;
+
+    /**
+     * Constructs with the raw data and entity ID's.
+     *
+     * @param rawData   The raw native JSON text for the result.
+     * @param entityIds The entity ID's of the entities described by the
+     *                  result.
+     */
+    private Entry(String rawData, Set<Long> entityIds) {
+      this.rawData    = rawData;
+      this.entityIds  = entityIds;
+    }
+  }
+
+  /**
+   * Constructs with the maximum number of results to retain.
+   *
+   * @param maximumSize The maximum number of results to retain.
+   * @throws IllegalArgumentException If the maximum size is not positive.
+   */
+  public HowWhyCache(int maximumSize) {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException(
+          "The maximum size must be positive: " + maximumSize);
+    }
+    this.maximumSize    = maximumSize;
+    this.entries        = new LinkedHashMap<>(16, 0.75f, true);
+    this.keysByEntityId = new HashMap<>();
+  }
+
+  /**
+   * Formats the cache key for the result of the specified native operation
+   * with the specified flags and subject entity ID's, data source codes and/or
+   * record ID's.
+   *
+   * @param operation The name of the native operation.
+   * @param flags     The flags for the native operation.
+   * @param subjects  The entity ID's, data source codes and/or record ID's
+   *                  identifying the subjects of the operation.
+   * @return The cache key for the result.
+   */
+  public static String formatKey(String    operation,
+                                 long      flags,
+                                 Object... subjects)
+  {
+    StringBuilder sb = new StringBuilder(operation);
+    sb.append(':').append(flags);
+    for (Object subject : subjects) {
+      // the length prefix prevents ambiguity with record ID's containing ':'
+      String text = String.valueOf(subject);
+      sb.append(':').append(text.length()).append(':').append(text);
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Gets the maximum number of results to retain.
+   *
+   * @return The maximum number of results to retain.
+   */
+  public int getMaximumSize() {
+    return this.maximumSize;
+  }
+
+  /**
+   * Gets the number of results that are currently cached.
+   *
+   * @return The number of results that are currently cached.
+   */
+  public synchronized int getSize() {
+    return this.entries.size();
+  }
+
+  /**
+   * Gets the number of lookups that found a cached result.
+   *
+   * @return The number of lookups that found a cached result.
+   */
+  public synchronized long getHitCount() {
+    return this.hitCount;
+  }
+
+  /**
+   * Gets the number of lookups that did not find a cached result.
+   *
+   * @return The number of lookups that did not find a cached result.
+   */
+  public synchronized long getMissCount() {
+    return this.missCount;
+  }
+
+  /**
+   * Gets the current generation of the cache which must be obtained before
+   * calling the native function whose result is to be {@linkplain
+   * #put(String, long, String, long...) cached}.
+   *
+   * @return The current generation of the cache.
+   */
+  public synchronized long getGeneration() {
+    return this.generation;
+  }
+
+  /**
+   * Gets the raw native JSON text for the cached result with the specified
+   * key.
+   *
+   * @param key The key for the result.
+   * @return The raw native JSON text for the result, or <tt>null</tt> if the
+   *         result is not cached.
+   */
+  public synchronized String get(String key) {
+    Entry entry = this.entries.get(key);
+    if (entry == null) {
+      this.missCount++;
+      return null;
+    }
+    this.hitCount++;
+    return entry.rawData;
+  }
+
+  /**
+   * Caches the specified raw native JSON result with the specified key.  The
+   * result is associated with the specified entity ID's as well as the ID's
+   * of any entities found in the result.  If the cache has been invalidated
+   * since the specified generation was obtained then the result may be
+   * stale and is not cached.
+   *
+   * @param key        The key for the result.
+   * @param generation The {@linkplain #getGeneration() generation} obtained
+   *                   before calling the native function.
+   * @param rawData    The raw native JSON text for the result.
+   * @param entityIds  The entity ID's of the subject entities, if known.
+   */
+  public void put(String key, long generation, String rawData, long... entityIds)
+  {
+    if (rawData == null) return;
+
+    // find the entities outside of synchronization
+    Set<Long> entityIdSet = findEntityIds(rawData);
+    for (long entityId : entityIds) {
+      entityIdSet.add(entityId);
+    }
+
+    synchronized (this) {
+      if (generation != this.generation) return;
+
+      this.remove(key);
+      this.entries.put(key, new Entry(rawData, entityIdSet));
+      for (Long entityId : entityIdSet) {
+        this.keysByEntityId.computeIfAbsent(
+            entityId, k -> new HashSet<>()).add(key);
+      }
+
+      // evict the least-recently-used results
+      Iterator<Map.Entry<String, Entry>> iter
+          = this.entries.entrySet().iterator();
+      while (this.entries.size() > this.maximumSize && iter.hasNext()) {
+        Map.Entry<String, Entry> eldest = iter.next();
+        iter.remove();
+        this.unindex(eldest.getKey(), eldest.getValue());
+      }
+    }
+  }
+
+  /**
+   * Discards the cached results that describe any of the entities with the
+   * specified entity ID's.
+   *
+   * @param entityIds The entity ID's of the affected entities.
+   */
+  public synchronized void invalidate(Collection<Long> entityIds) {
+    if (entityIds.isEmpty()) return;
+    this.generation++;
+    for (Long entityId : entityIds) {
+      Set<String> keys = this.keysByEntityId.get(entityId);
+      if (keys == null) continue;
+      for (String key : new ArrayList<>(keys)) {
+        this.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Discards all cached results.
+   */
+  public synchronized void clear() {
+    this.generation++;
+    this.entries.clear();
+    this.keysByEntityId.clear();
+  }
+
+  /**
+   * Removes the cached result with the specified key (if any).  This must be
+   * called while synchronized on this instance.
+   *
+   * @param key The key for the result to remove.
+   */
+  private void remove(String key) {
+    Entry entry = this.entries.remove(key);
+    if (entry != null) this.unindex(key, entry);
+  }
+
+  /**
+   * Removes the specified key from the entity ID index for the specified
+   * {@link Entry}.  This must be called while synchronized on this instance.
+   *
+   * @param key The key for the result.
+   * @param entry The {@link Entry} for the result.
+   */
+  private void unindex(String key, Entry entry) {
+    for (Long entityId : entry.entityIds) {
+      Set<String> keys = this.keysByEntityId.get(entityId);
+      if (keys == null) continue;
+      keys.remove(key);
+      if (keys.isEmpty()) this.keysByEntityId.remove(entityId);
+    }
+  }
+
+  /**
+   * Finds the ID's of the entities described by the specified raw native
+   * "how" or "why" JSON result.  This includes the entities in the
+   * <tt>"WHY_RESULTS"</tt> as well as the resolved and related entities in
+   * the <tt>"ENTITIES"</tt>.
+   *
+   * @param rawData The raw native JSON text for the result.
+   * @return The {@link Set} of entity ID's that were found.
+   */
+  protected static Set<Long> findEntityIds(String rawData) {
+    Set<Long> entityIds = new HashSet<>();
+    JsonObject jsonObject = JsonUtilities.parseJsonObject(rawData);
+
+    JsonArray whyResults = JsonUtilities.getJsonArray(jsonObject, "WHY_RESULTS");
+    if (whyResults != null) {
+      for (JsonValue value : whyResults) {
+        JsonObject whyResult = value.asJsonObject();
+        addEntityId(entityIds, whyResult, "ENTITY_ID");
+        addEntityId(entityIds, whyResult, "ENTITY_ID_2");
+      }
+    }
+
+    JsonArray entities = JsonUtilities.getJsonArray(jsonObject, "ENTITIES");
+    if (entities != null) {
+      for (JsonValue value : entities) {
+        JsonObject entity = value.asJsonObject();
+        addEntityId(entityIds,
+                    JsonUtilities.getJsonObject(entity, "RESOLVED_ENTITY"),
+                    "ENTITY_ID");
+        JsonArray related
+            = JsonUtilities.getJsonArray(entity, "RELATED_ENTITIES");
+        if (related == null) continue;
+        for (JsonValue relatedValue : related) {
+          addEntityId(entityIds, relatedValue.asJsonObject(), "ENTITY_ID");
+        }
+      }
+    }
+    return entityIds;
+  }
+
+  /**
+   * Adds the entity ID with the specified property name in the specified
+   * {@link JsonObject} (if any) to the specified {@link Set}.
+   *
+   * @param entityIds The {@link Set} of entity ID's to add to.
+   * @param jsonObject The {@link JsonObject} to read, or <tt>null</tt>.
+   * @param propName The property name for the entity ID.
+   */
+  private static void addEntityId(Set<Long>  entityIds,
+                                  JsonObject jsonObject,
+                                  String     propName)
+  {
+    if (jsonObject == null) return;
+    Long entityId = JsonUtilities.getLong(jsonObject, propName);
+    if (entityId != null) entityIds.add(entityId);
+  }
+}
@@ -0,0 +1,540 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzLoadThrottleBudget;
+import com.senzing.api.model.SzLoadThrottleScope;
+import com.senzing.util.JsonUtilities;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static com.senzing.api.model.SzLoadThrottleScope.*;
+
+/**
+ * Enforces rate and concurrency budgets for writing records, per data source
+ * and per authenticated client, so that one tenant's load cannot monopolize
+ * the engine threads.  Each budget may limit the number of records admitted
+ * per second with a token bucket that allows bursts of up to one second's
+ * worth of records, and may limit the number of records being written
+ * concurrently with a semaphore.
+ * <p>
+ * The budgets are configured with a JSON object of the following form, where
+ * the <tt>"*"</tt> entry (if any) gives the limits applied separately to each
+ * data source that is not explicitly listed, and the limits of a single
+ * budget shared by all clients that are not explicitly listed so that the
+ * number of budgets does not grow with the number of client ID's:
+ * <pre>
+ *   {
+ *     "dataSources": {
+ *       "CUSTOMERS": { "rate": 500, "concurrency": 4 },
+ *       "*": { "rate": 1000 }
+ *     },
+ *     "clients": {
+ *       "tenant-a": { "rate": 200, "concurrency": 2 },
+ *       "*": { "concurrency": 8 }
+ *     }
+ *   }
+ * </pre>
+ * Records written without an identified client are only subject to the data
+ * source budgets.
+ */
+public class LoadThrottle {
+  /**
+   * The JSON property for the data source budgets.
+   */
+  public static final String DATA_SOURCES_KEY = "dataSources";
+
+  /**
+   * The JSON property for the client budgets.
+   */
+  public static final String CLIENTS_KEY = "clients";
+
+  /**
+   * The key for the limits applied to each data source or client that is not
+   * explicitly listed.
+   */
+  public static final String DEFAULT_KEY = "*";
+
+  /**
+   * The JSON property for the maximum number of records per second.
+   */
+  public static final String RATE_KEY = "rate";
+
+  /**
+   * The JSON property for the maximum number of concurrent records.
+   */
+  public static final String CONCURRENCY_KEY = "concurrency";
+
+  /**
+   * The number of seconds over which the current rate is measured.
+   */
+  public static final int RATE_WINDOW_SECONDS = 10;
+
+  /**
+   * The {@link Map} of data source codes to the configured {@link Limits}.
+   */
+  private final Map<String, Limits> dataSourceLimits;
+
+  /**
+   * The {@link Map} of client ID's to the configured {@link Limits}.
+   */
+  private final Map<String, Limits> clientLimits;
+
+  /**
+   * The {@link Map} of data source codes to the {@link Budget} instances that
+   * have been used.
+   */
+  private final Map<String, Budget> dataSourceBudgets
+      = new ConcurrentHashMap<>();
+
+  /**
+   * The {@link Map} of client ID's to the {@link Budget} instances that have
+   * been used.
+   */
+  private final Map<String, Budget> clientBudgets = new ConcurrentHashMap<>();
+
+  /**
+   * Constructs with the {@link JsonObject} describing the budgets.
+   *
+   * @param config The {@link JsonObject} describing the budgets.
+   *
+   * @throws IllegalArgumentException If the configuration is not valid.
+   */
+  public LoadThrottle(JsonObject config) {
+    Objects.requireNonNull(config, "The configuration cannot be null.");
+    this.dataSourceLimits = parseLimits(config, DATA_SOURCES_KEY, true);
+    this.clientLimits     = parseLimits(config, CLIENTS_KEY, false);
+  }
+
+  /**
+   * Reads the configuration for a new {@link LoadThrottle} from the specified
+   * JSON file.
+   *
+   * @param file The JSON file describing the budgets.
+   *
+   * @return The new {@link LoadThrottle}.
+   *
+   * @throws IOException If a failure occurs reading the file.
+   * @throws IllegalArgumentException If the configuration is not valid.
+   */
+  public static LoadThrottle read(File file) throws IOException {
+    String jsonText = new String(Files.readAllBytes(file.toPath()), UTF_8);
+    JsonObject config;
+    try {
+      config = JsonUtilities.parseJsonObject(jsonText);
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "The load throttle file does not contain a valid JSON object: "
+              + file, e);
+    }
+    return new LoadThrottle(config);
+  }
+
+  /**
+   * Waits until a record for the specified data source written by the
+   * specified client is admitted by the applicable budgets and returns the
+   * {@link Permit} that must be {@linkplain Permit#close() closed} once the
+   * record has been written.
+   *
+   * @param dataSource The data source code for the record.
+   * @param clientId   The client ID for the client writing the record, or
+   *                   <tt>null</tt> if the client is not identified.
+   *
+   * @return The {@link Permit} for writing the record.
+   *
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public Permit acquire(String dataSource, String clientId)
+      throws InterruptedException
+  {
+    // always acquire the client budget before the data source budget
+    List<Budget> budgets = new ArrayList<>(2);
+    Budget clientBudget = this.getBudget(
+        CLIENT, clientId, this.clientLimits, this.clientBudgets);
+    if (clientBudget != null) budgets.add(clientBudget);
+    Budget dataSourceBudget = this.getBudget(
+        DATA_SOURCE, dataSource, this.dataSourceLimits, this.dataSourceBudgets);
+    if (dataSourceBudget != null) budgets.add(dataSourceBudget);
+
+    Permit permit = new Permit();
+    try {
+      for (Budget budget : budgets) {
+        permit.waitNanos += budget.acquire();
+        permit.budgets.add(budget);
+      }
+    } catch (InterruptedException e) {
+      permit.close();
+      throw e;
+    }
+    return permit;
+  }
+
+  /**
+   * Gets a {@link List} of {@link SzLoadThrottleBudget} instances describing
+   * each budget that has been used, with the client budgets first.
+   *
+   * @return A {@link List} of {@link SzLoadThrottleBudget} instances.
+   */
+  public List<SzLoadThrottleBudget> getBudgets() {
+    List<SzLoadThrottleBudget> result = new ArrayList<>();
+    for (Budget budget : new TreeMap<>(this.clientBudgets).values()) {
+      result.add(budget.describe());
+    }
+    for (Budget budget : new TreeMap<>(this.dataSourceBudgets).values()) {
+      result.add(budget.describe());
+    }
+    return result;
+  }
+
+  /**
+   * Gets the {@link Budget} for the specified key, creating it if it has not
+   * yet been used.
+   *
+   * Clients that are not explicitly listed share the {@link #DEFAULT_KEY}
+   * budget.
+   *
+   * @param scope   The {@link SzLoadThrottleScope} for the budget.
+   * @param key     The data source code or client ID, or <tt>null</tt> if
+   *                none.
+   * @param limits  The {@link Map} of keys to configured {@link Limits}.
+   * @param budgets The {@link Map} of keys to {@link Budget} instances.
+   *
+   * @return The {@link Budget}, or <tt>null</tt> if no limits apply.
+   */
+  private Budget getBudget(SzLoadThrottleScope  scope,
+                           String               key,
+                           Map<String, Limits>  limits,
+                           Map<String, Budget>  budgets)
+  {
+    if (key == null) return null;
+    Budget budget = budgets.get(key);
+    if (budget != null) return budget;
+    Limits keyLimits = limits.get(key);
+    if (keyLimits == null) {
+      keyLimits = limits.get(DEFAULT_KEY);
+      if (keyLimits == null) return null;
+      if (scope == CLIENT) key = DEFAULT_KEY;
+    }
+    final Limits budgetLimits = keyLimits;
+    return budgets.computeIfAbsent(
+        key, k -> new Budget(scope, k, budgetLimits));
+  }
+
+  /**
+   * Parses the {@link Limits} for each key of the specified property of the
+   * specified configuration.
+   *
+   * @param config      The {@link JsonObject} describing the budgets.
+   * @param property    The property to parse.
+   * @param upperCase   <tt>true</tt> if the keys are data source codes that
+   *                    should be converted to upper case.
+   *
+   * @return The {@link Map} of keys to {@link Limits}.
+   *
+   * @throws IllegalArgumentException If the configuration is not valid.
+   */
+  private static Map<String, Limits> parseLimits(JsonObject  config,
+                                                 String      property,
+                                                 boolean     upperCase)
+  {
+    Map<String, Limits> result = new LinkedHashMap<>();
+    JsonValue value = config.get(property);
+    if (value == null || value.getValueType() == JsonValue.ValueType.NULL) {
+      return result;
+    }
+    if (value.getValueType() != JsonValue.ValueType.OBJECT) {
+      throw new IllegalArgumentException(
+          "The " + property + " load throttle property must be a JSON object.");
+    }
+    JsonObject jsonObject = value.asJsonObject();
+    for (String key : jsonObject.keySet()) {
+      JsonValue limitsValue = jsonObject.get(key);
+      if (limitsValue.getValueType() != JsonValue.ValueType.OBJECT) {
+        throw new IllegalArgumentException(
+            "The load throttle limits for " + property + " key (" + key
+                + ") must be a JSON object.");
+      }
+      JsonObject limitsObject = limitsValue.asJsonObject();
+      Double rate = JsonUtilities.getDouble(limitsObject, RATE_KEY);
+      Integer concurrency
+          = JsonUtilities.getInteger(limitsObject, CONCURRENCY_KEY);
+      if (rate != null && rate <= 0.0) {
+        throw new IllegalArgumentException(
+            "The load throttle rate for " + property + " key (" + key
+                + ") must be positive: " + rate);
+      }
+      if (concurrency != null && concurrency <= 0) {
+        throw new IllegalArgumentException(
+            "The load throttle concurrency for " + property + " key (" + key
+                + ") must be positive: " + concurrency);
+      }
+      String normalized = (upperCase && !DEFAULT_KEY.equals(key))
+          ? key.trim().toUpperCase() : key;
+      result.put(normalized, new Limits(rate, concurrency));
+    }
+    return result;
+  }
+
+  /**
+   * Describes the configured limits for a budget.
+   */
+  private static class Limits {
+    /**
+     * The maximum number of records per second, or <tt>null</tt> if none.
+     */
+    private final Double rate;
+
+    /**
+     * The maximum number of concurrent records, or <tt>null</tt> if none.
+     */
+    private final Integer concurrency;
+
+    /**
+     * Constructs with the rate and concurrency limits.
+     *
+     * @param rate        The maximum number of records per second, or
+     *                    <tt>null</tt> if none.
+     * @param concurrency The maximum number of concurrent records, or
+     *                    <tt>null</tt> if none.
+     */
+    private Limits(Double rate, Integer concurrency) {
+      this.rate         = rate;
+      this.concurrency  = concurrency;
+    }
+  }
+
+  /**
+   * Tracks the token bucket, the concurrency semaphore and the statistics for
+   * a single data source or client.
+   */
+  private static class Budget {
+    /**
+     * The {@link SzLoadThrottleScope} for the budget.
+     */
+    private final SzLoadThrottleScope scope;
+
+    /**
+     * The data source code or client ID.
+     */
+    private final String key;
+
+    /**
+     * The configured {@link Limits}.
+     */
+    private final Limits limits;
+
+    /**
+     * The {@link Semaphore} limiting concurrency, or <tt>null</tt> if none.
+     */
+    private final Semaphore semaphore;
+
+    /**
+     * The number of tokens available in the bucket, which is negative if
+     * records have reserved tokens that have not yet been added.
+     */
+    private double tokens;
+
+    /**
+     * The {@link System#nanoTime()} at which the tokens were last added.
+     */
+    private long refillNanos;
+
+    /**
+     * The number of records that had to wait to be admitted.
+     */
+    private final LongAdder throttledCount = new LongAdder();
+
+    /**
+     * The total number of nanoseconds that records waited to be admitted.
+     */
+    private final LongAdder waitNanos = new LongAdder();
+
+    /**
+     * The number of records admitted during each second of the rate window,
+     * indexed by the epoch second modulo the window size.
+     */
+    private final long[] rateCounts = new long[RATE_WINDOW_SECONDS];
+
+    /**
+     * The epoch second for each element of {@link #rateCounts}.
+     */
+    private final long[] rateSeconds = new long[RATE_WINDOW_SECONDS];
+
+    /**
+     * Constructs with the scope, key and limits.
+     *
+     * @param scope  The {@link SzLoadThrottleScope} for the budget.
+     * @param key    The data source code or client ID.
+     * @param limits The configured {@link Limits}.
+     */
+    private Budget(SzLoadThrottleScope scope, String key, Limits limits) {
+      this.scope        = scope;
+      this.key          = key;
+      this.limits       = limits;
+      this.semaphore    = (limits.concurrency == null)
+          ? null : new Semaphore(limits.concurrency, true);
+      this.tokens       = (limits.rate == null) ? 0.0 : limits.rate;
+      this.refillNanos  = System.nanoTime();
+    }
+
+    /**
+     * Waits until a record is admitted by this budget.
+     *
+     * @return The number of nanoseconds spent waiting.
+     *
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private long acquire() throws InterruptedException {
+      long start = System.nanoTime();
+      long delay = this.reserveToken();
+      if (delay > 0L) {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      }
+      if (this.semaphore != null) {
+        this.semaphore.acquire();
+      }
+      long waited = System.nanoTime() - start;
+      if (delay > 0L || waited > TimeUnit.MILLISECONDS.toNanos(1L)) {
+        this.throttledCount.increment();
+        this.waitNanos.add(waited);
+      }
+      this.recordRate();
+      return waited;
+    }
+
+    /**
+     * Releases the concurrency permit acquired by {@link #acquire()}.
+     */
+    private void release() {
+      if (this.semaphore != null) this.semaphore.release();
+    }
+
+    /**
+     * Reserves a token from the bucket and returns the number of nanoseconds
+     * to wait until the reserved token has been added.
+     *
+     * @return The number of nanoseconds to wait, or zero if a token was
+     *         already available.
+     */
+    private synchronized long reserveToken() {
+      Double rate = this.limits.rate;
+      if (rate == null) return 0L;
+      long now = System.nanoTime();
+      double elapsed = (now - this.refillNanos) / 1000000000.0;
+      this.tokens = Math.min(rate, this.tokens + (elapsed * rate));
+      this.refillNanos = now;
+      this.tokens -= 1.0;
+      if (this.tokens >= 0.0) return 0L;
+      return (long) ((-this.tokens / rate) * 1000000000.0);
+    }
+
+    /**
+     * Counts an admitted record toward the current rate.
+     */
+    private synchronized void recordRate() {
+      long second = System.currentTimeMillis() / 1000L;
+      int index = (int) (second % RATE_WINDOW_SECONDS);
+      if (this.rateSeconds[index] != second) {
+        this.rateSeconds[index] = second;
+        this.rateCounts[index]  = 0L;
+      }
+      this.rateCounts[index]++;
+    }
+
+    /**
+     * Gets the average number of records admitted per second over the most
+     * recent {@value LoadThrottle#RATE_WINDOW_SECONDS} seconds.
+     *
+     * @return The average number of records admitted per second.
+     */
+    private synchronized double getCurrentRate() {
+      long second = System.currentTimeMillis() / 1000L;
+      long total = 0L;
+      for (int index = 0; index < RATE_WINDOW_SECONDS; index++) {
+        if (second - this.rateSeconds[index] < RATE_WINDOW_SECONDS) {
+          total += this.rateCounts[index];
+        }
+      }
+      return ((double) total) / RATE_WINDOW_SECONDS;
+    }
+
+    /**
+     * Creates a new {@link SzLoadThrottleBudget} describing this budget.
+     *
+     * @return A new {@link SzLoadThrottleBudget} describing this budget.
+     */
+    private SzLoadThrottleBudget describe() {
+      SzLoadThrottleBudget result = SzLoadThrottleBudget.FACTORY.create();
+      result.setScope(this.scope);
+      result.setKey(this.key);
+      result.setRateLimit(this.limits.rate);
+      result.setConcurrencyLimit(this.limits.concurrency);
+      result.setCurrentRate(this.getCurrentRate());
+      result.setInFlightCount((this.semaphore == null) ? 0
+          : this.limits.concurrency - this.semaphore.availablePermits());
+      result.setThrottledCount(this.throttledCount.sum());
+      result.setThrottleWaitTime(
+          TimeUnit.NANOSECONDS.toMillis(this.waitNanos.sum()));
+      return result;
+    }
+  }
+
+  /**
+   * Represents the admission of a record by the applicable budgets.  This
+   * must be closed once the record has been written to release the
+   * concurrency permits.
+   */
+  public static class Permit implements AutoCloseable {
+    /**
+     * The {@link Budget} instances that admitted the record.
+     */
+    private final List<Budget> budgets = new ArrayList<>(2);
+
+    /**
+     * The number of nanoseconds spent waiting to be admitted.
+     */
+    private long waitNanos = 0L;
+
+    /**
+     * Flag indicating if this instance has been closed.
+     */
+    private boolean closed = false;
+
+    /**
+     * Private constructor.
+     */
+    private Permit() {
+      // do nothing
+    }
+
+    /**
+     * Gets the number of nanoseconds spent waiting to be admitted.
+     *
+     * @return The number of nanoseconds spent waiting to be admitted.
+     */
+    public long getWaitNanos() {
+      return this.waitNanos;
+    }
+
+    /**
+     * Releases the concurrency permits.  This has no effect if already
+     * closed.
+     */
+    @Override
+    public synchronized void close() {
+      if (this.closed) return;
+      this.closed = true;
+      for (Budget budget : this.budgets) {
+        budget.release();
+      }
+    }
+  }
+}
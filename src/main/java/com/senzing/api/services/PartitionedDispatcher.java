@@ -0,0 +1,318 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzBulkLoadPartition;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
+
+import static com.senzing.api.services.ServicesUtil.logWarning;
+
+/**
+ * Dispatches tasks to a fixed number of partitions by hashing a key for each
+ * task.  Each partition has its own thread and bounded queue, so tasks with
+ * the same key are executed one at a time in the order they were dispatched
+ * while tasks in different partitions are executed in parallel.  Tasks with
+ * no key are assigned to the partitions in rotation.
+ * <p>
+ * Dispatching blocks while the queue for the target partition is full, which
+ * bounds the number of tasks held in memory.  A heavily skewed key
+ * distribution therefore throttles dispatching to the rate of the busiest
+ * partition, which is made visible via {@link #getPartitions()}.
+ * <p>
+ * {@linkplain #close() Closing} waits for every queued task to be executed,
+ * while {@linkplain #abort() aborting} discards the queued tasks so that only
+ * those already executing are waited for.
+ */
+public class PartitionedDispatcher implements Closeable {
+  /**
+   * The maximum number of tasks queued for each partition.
+   */
+  public static final int QUEUE_CAPACITY = 1000;
+
+  /**
+   * The task used to signal a partition thread to stop.
+   */
+  private static final Task STOP_TASK = new Task(partition -> { }, null);
+
+  /**
+   * Pairs a dispatched task with the callback to run if it is discarded.
+   */
+  private static class Task {
+    /**
+     * The task to execute.
+     */
+    private final IntConsumer task;
+
+    /**
+     * The callback to run if the task is discarded, or <tt>null</tt> if none.
+     */
+    private final Runnable onDiscarded;
+
+    /**
+     * Constructs with the task and the callback to run if it is discarded.
+     *
+     * @param task        The task to execute.
+     * @param onDiscarded The callback to run if the task is discarded, or
+     *                    <tt>null</tt> if none.
+     */
+    private Task(IntConsumer task, Runnable onDiscarded) {
+      this.task         = task;
+      this.onDiscarded  = onDiscarded;
+    }
+  }
+
+  /**
+   * The {@link BlockingQueue} of tasks for each partition.
+   */
+  private final List<BlockingQueue<Task>> queues;
+
+  /**
+   * The number of tasks dispatched to each partition.
+   */
+  private final List<LongAdder> dispatchCounts;
+
+  /**
+   * The thread for each partition.
+   */
+  private final List<Thread> threads;
+
+  /**
+   * The counter used to assign tasks with no key to partitions in rotation.
+   */
+  private final AtomicInteger rotation = new AtomicInteger(0);
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Constructs with the {@link ThreadFactory} for creating the partition
+   * threads, the base name for the partition threads and the number of
+   * partitions, and starts the partition threads.
+   *
+   * @param threadFactory  The {@link ThreadFactory} for creating the
+   *                       partition threads.
+   * @param name           The base name for the partition threads.
+   * @param partitionCount The number of partitions.
+   * @throws IllegalArgumentException If the partition count is not positive.
+   */
+  public PartitionedDispatcher(ThreadFactory threadFactory,
+                               String        name,
+                               int           partitionCount)
+  {
+    Objects.requireNonNull(
+        threadFactory, "The thread factory cannot be null.");
+    if (partitionCount <= 0) {
+      throw new IllegalArgumentException(
+          "The partition count must be a positive integer: " + partitionCount);
+    }
+    this.queues         = new ArrayList<>(partitionCount);
+    this.dispatchCounts = new ArrayList<>(partitionCount);
+    this.threads        = new ArrayList<>(partitionCount);
+    for (int index = 0; index < partitionCount; index++) {
+      BlockingQueue<Task> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+      this.queues.add(queue);
+      this.dispatchCounts.add(new LongAdder());
+      final int partition = index;
+      Thread thread = threadFactory.newThread(
+          () -> this.executeTasks(partition, queue));
+      thread.setName(name + "-partition-" + index);
+      thread.setDaemon(true);
+      this.threads.add(thread);
+    }
+    this.threads.forEach(Thread::start);
+  }
+
+  /**
+   * Gets the number of partitions.
+   *
+   * @return The number of partitions.
+   */
+  public int getPartitionCount() {
+    return this.queues.size();
+  }
+
+  /**
+   * Gets the partition for the specified key.
+   *
+   * @param key The key, or <tt>null</tt> if none.
+   * @return The zero-based index of the partition.
+   */
+  public int getPartition(String key) {
+    int count = this.queues.size();
+    if (key == null) {
+      return Math.floorMod(this.rotation.getAndIncrement(), count);
+    }
+    int hash = key.hashCode();
+    return Math.floorMod(hash ^ (hash >>> 16), count);
+  }
+
+  /**
+   * Dispatches the specified task to the partition for the specified key,
+   * waiting if the queue for that partition is full.  The task is given the
+   * zero-based index of the partition when executed.  Tasks should handle
+   * their own failures, since any exception they throw is logged and
+   * otherwise ignored.
+   *
+   * @param key  The key for the task, or <tt>null</tt> if none.
+   * @param task The task to execute.
+   * @throws InterruptedException If interrupted while waiting.
+   * @throws IllegalStateException If this instance has been closed.
+   */
+  public void dispatch(String key, IntConsumer task)
+      throws InterruptedException
+  {
+    this.dispatch(key, task, null);
+  }
+
+  /**
+   * Dispatches the specified task to the partition for the specified key as
+   * with {@link #dispatch(String, IntConsumer)}, running the specified
+   * callback instead of the task if it is discarded because this instance is
+   * {@linkplain #abort() aborted} before the task is executed.
+   *
+   * @param key         The key for the task, or <tt>null</tt> if none.
+   * @param task        The task to execute.
+   * @param onDiscarded The callback to run if the task is discarded, or
+   *                    <tt>null</tt> if none.
+   * @throws InterruptedException If interrupted while waiting.
+   * @throws IllegalStateException If this instance has been closed.
+   */
+  public void dispatch(String key, IntConsumer task, Runnable onDiscarded)
+      throws InterruptedException
+  {
+    Objects.requireNonNull(task, "The task cannot be null.");
+    synchronized (this) {
+      if (this.closed) {
+        throw new IllegalStateException(
+            "The partitioned dispatcher has been closed.");
+      }
+    }
+    int partition = this.getPartition(key);
+    this.queues.get(partition).put(new Task(task, onDiscarded));
+    this.dispatchCounts.get(partition).increment();
+  }
+
+  /**
+   * Gets a {@link List} of {@link SzBulkLoadPartition} instances describing
+   * the current number of tasks dispatched to each partition and the number
+   * still waiting in its queue.
+   *
+   * @return A {@link List} of {@link SzBulkLoadPartition} instances.
+   */
+  public List<SzBulkLoadPartition> getPartitions() {
+    List<SzBulkLoadPartition> result = new ArrayList<>(this.queues.size());
+    for (int index = 0; index < this.queues.size(); index++) {
+      SzBulkLoadPartition partition = SzBulkLoadPartition.FACTORY.create();
+      partition.setPartition(index);
+      partition.setRecordCount(this.dispatchCounts.get(index).sum());
+      partition.setQueueDepth(this.queues.get(index).size());
+      result.add(partition);
+    }
+    return result;
+  }
+
+  /**
+   * Waits for all dispatched tasks to be executed and then stops the
+   * partition threads.  This has no effect if already closed.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+    }
+    this.stop();
+  }
+
+  /**
+   * Discards the tasks that are still queued, running the discard callback
+   * for each, and then waits for the tasks already executing to complete
+   * before stopping the partition threads.  This has no effect if already
+   * closed.
+   *
+   * @return The number of tasks that were discarded.
+   */
+  public int abort() {
+    synchronized (this) {
+      if (this.closed) return 0;
+      this.closed = true;
+    }
+    int discardedCount = 0;
+    List<Task> discarded = new ArrayList<>();
+    for (BlockingQueue<Task> queue : this.queues) {
+      queue.drainTo(discarded);
+      for (Task task : discarded) {
+        discardedCount++;
+        if (task.onDiscarded == null) continue;
+        try {
+          task.onDiscarded.run();
+
+        } catch (Exception e) {
+          logWarning(e, "Partitioned task discard callback failed");
+        }
+      }
+      discarded.clear();
+    }
+    this.stop();
+    return discardedCount;
+  }
+
+  /**
+   * Queues the stop signal for each partition and waits for the partition
+   * threads to stop.
+   */
+  private void stop() {
+    for (BlockingQueue<Task> queue : this.queues) {
+      boolean stopped = false;
+      while (!stopped) {
+        try {
+          queue.put(STOP_TASK);
+          stopped = true;
+        } catch (InterruptedException ignore) {
+          // try again
+        }
+      }
+    }
+    for (Thread thread : this.threads) {
+      try {
+        thread.join();
+      } catch (InterruptedException ignore) {
+        // ignore
+      }
+    }
+  }
+
+  /**
+   * Executes the tasks for the specified partition until stopped.
+   *
+   * @param partition The zero-based index of the partition.
+   * @param queue     The {@link BlockingQueue} of tasks for the partition.
+   */
+  private void executeTasks(int partition, BlockingQueue<Task> queue) {
+    while (true) {
+      Task task;
+      try {
+        task = queue.take();
+      } catch (InterruptedException ignore) {
+        continue;
+      }
+      if (task == STOP_TASK) return;
+      try {
+        task.task.accept(partition);
+
+      } catch (Exception e) {
+        logWarning(e, "Partitioned task failed");
+      }
+    }
+  }
+}
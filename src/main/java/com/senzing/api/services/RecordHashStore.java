@@ -0,0 +1,489 @@
+package com.senzing.api.services;
+
+import com.senzing.util.JsonUtilities;
+
+import javax.json.*;
+import java.io.Closeable;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.*;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import static com.senzing.api.services.ServicesUtil.logWarning;
+
+/**
+ * Maintains a persistent store of content hashes for the records that have
+ * been loaded through this server, keyed by data source code and record ID,
+ * so that a record that is re-sent without changes can be skipped rather
+ * than being loaded again.  The store is backed by a SQLite database file.
+ * <p>
+ * The hash of a record is computed from a canonical form of its JSON in which
+ * the properties of every object are sorted by name, so that differences in
+ * property order or whitespace do not cause a record to be seen as changed.
+ * Records without a record ID are never tracked.
+ * <p>
+ * Callers bracket each load or delete of a record with {@link
+ * #beginUpdate(String, String)} and {@link #endUpdate(String, String, byte[])}.
+ * The hash for a record is discarded when an update begins, and is only
+ * stored when the update succeeds and no other update to the same record
+ * overlapped with it, so that concurrent writes of different content for the
+ * same record cannot leave a stale hash behind.  The entire store is cleared
+ * when the repository is purged.  Changes made to the entity repository by
+ * other processes are not seen by the store.
+ * <p>
+ * Updates are buffered in memory and written to the database in batches by a
+ * background thread.  Updates made less than a {@linkplain #FLUSH_PERIOD
+ * flush period} before an abnormal termination may be lost, which only means
+ * that the affected records are loaded again when next sent.
+ */
+public class RecordHashStore implements Closeable {
+  /**
+   * The maximum number of milliseconds that updates are buffered before they
+   * are written to the database.
+   */
+  public static final long FLUSH_PERIOD = 250L;
+
+  /**
+   * The number of bytes of the SHA-256 digest retained as the record hash.
+   */
+  public static final int HASH_LENGTH = 16;
+
+  /**
+   * The number of buffered updates that triggers an immediate write to the
+   * database.
+   */
+  private static final int FLUSH_THRESHOLD = 10000;
+
+  /**
+   * The marker in the buffered updates for a record whose hash is to be
+   * removed.
+   */
+  private static final byte[] REMOVED = new byte[0];
+
+  /**
+   * Identifies a record by data source code and record ID.
+   */
+  private static final class RecordKey {
+    /**
+     * The data source code for the record.
+     */
+    private final String dataSource;
+
+    /**
+     * The record ID for the record.
+     */
+    private final String recordId;
+
+    /**
+     * Constructs with the data source code and record ID.
+     *
+     * @param dataSource The data source code for the record.
+     * @param recordId The record ID for the record.
+     */
+    private RecordKey(String dataSource, String recordId) {
+      this.dataSource = dataSource;
+      this.recordId   = recordId;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) return true;
+      if (object == null || this.getClass() != object.getClass()) return false;
+      RecordKey key = (RecordKey) object;
+      return this.dataSource.equals(key.dataSource)
+          && this.recordId.equals(key.recordId);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(this.dataSource, this.recordId);
+    }
+  }
+
+  /**
+   * Tracks the updates to a record that are in progress.
+   */
+  private static final class InFlight {
+    /**
+     * The number of updates in progress.
+     */
+    private int count = 0;
+
+    /**
+     * Flag indicating if any of the updates overlapped with another.
+     */
+    private boolean overlapped = false;
+  }
+
+  /**
+   * The database file backing the store.
+   */
+  private final File file;
+
+  /**
+   * The database connection (also used as the lock for database access).
+   */
+  private final Connection connection;
+
+  /**
+   * The buffered updates that have not yet been written, mapping each record
+   * to its new hash or to {@link #REMOVED}.
+   */
+  private Map<RecordKey, byte[]> pending = new HashMap<>();
+
+  /**
+   * The records that are currently being updated.
+   */
+  private final Map<RecordKey, InFlight> inFlight = new HashMap<>();
+
+  /**
+   * The background thread that writes the buffered updates.
+   */
+  private final Thread flusher;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Opens (creating if necessary) the record hash store backed by the
+   * specified SQLite database file.
+   *
+   * @param file The SQLite database file backing the store.
+   * @throws SQLException If a failure occurs opening the database.
+   */
+  public RecordHashStore(File file) throws SQLException {
+    this(file, Executors.defaultThreadFactory());
+  }
+
+  /**
+   * Opens (creating if necessary) the record hash store backed by the
+   * specified SQLite database file, creating the background thread that
+   * writes the buffered updates with the specified {@link ThreadFactory}.
+   *
+   * @param file          The SQLite database file backing the store.
+   * @param threadFactory The {@link ThreadFactory} for creating the
+   *                      background thread.
+   * @throws SQLException If a failure occurs opening the database.
+   */
+  public RecordHashStore(File file, ThreadFactory threadFactory)
+      throws SQLException
+  {
+    Objects.requireNonNull(file, "The record hash store file cannot be null.");
+    Objects.requireNonNull(
+        threadFactory, "The thread factory cannot be null.");
+    this.file = file;
+    this.connection = DriverManager.getConnection(
+        "jdbc:sqlite:" + file.getPath());
+    try {
+      try (Statement stmt = this.connection.createStatement()) {
+        stmt.execute("PRAGMA journal_mode = WAL");
+        stmt.execute("PRAGMA synchronous = NORMAL");
+        stmt.execute("CREATE TABLE IF NOT EXISTS record_hashes ("
+                         + "data_source TEXT NOT NULL, "
+                         + "record_id TEXT NOT NULL, "
+                         + "hash BLOB NOT NULL, "
+                         + "PRIMARY KEY (data_source, record_id)) "
+                         + "WITHOUT ROWID");
+      }
+      this.connection.setAutoCommit(false);
+
+    } catch (SQLException e) {
+      this.connection.close();
+      throw e;
+    }
+
+    this.flusher = threadFactory.newThread(this::flushPeriodically);
+    this.flusher.setName("sz-record-hash-store");
+    this.flusher.setDaemon(true);
+    this.flusher.start();
+  }
+
+  /**
+   * Gets the SQLite database file backing the store.
+   *
+   * @return The SQLite database file backing the store.
+   */
+  public File getFile() {
+    return this.file;
+  }
+
+  /**
+   * Computes the hash of the record described by the specified JSON text.
+   * The hash is computed from the canonical form of the JSON in which the
+   * properties of every object are sorted by name.
+   *
+   * @param recordText The JSON text describing the record.
+   * @return The hash of the record.
+   * @throws IllegalArgumentException If the text is not a JSON object.
+   */
+  public static byte[] computeHash(String recordText) {
+    JsonObject record;
+    try {
+      record = JsonUtilities.parseJsonObject(recordText);
+    } catch (Exception e) {
+      throw new IllegalArgumentException(
+          "The record is not a JSON object: " + recordText, e);
+    }
+    String canonical = JsonUtilities.toJsonText(canonicalize(record));
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      byte[] hash = digest.digest(canonical.getBytes(StandardCharsets.UTF_8));
+      return Arrays.copyOf(hash, HASH_LENGTH);
+
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Produces the canonical form of the specified {@link JsonValue} in which
+   * the properties of every object are sorted by name.
+   *
+   * @param value The {@link JsonValue} to canonicalize.
+   * @return The canonical {@link JsonValue}.
+   */
+  private static JsonValue canonicalize(JsonValue value) {
+    switch (value.getValueType()) {
+      case OBJECT:
+        JsonObjectBuilder job = Json.createObjectBuilder();
+        SortedMap<String, JsonValue> sorted = new TreeMap<>(value.asJsonObject());
+        for (Map.Entry<String, JsonValue> entry : sorted.entrySet()) {
+          job.add(entry.getKey(), canonicalize(entry.getValue()));
+        }
+        return job.build();
+      case ARRAY:
+        JsonArrayBuilder jab = Json.createArrayBuilder();
+        for (JsonValue element : value.asJsonArray()) {
+          jab.add(canonicalize(element));
+        }
+        return jab.build();
+      default:
+        return value;
+    }
+  }
+
+  /**
+   * Checks if the record with the specified data source code and record ID
+   * was last loaded with the specified hash and is not currently being
+   * updated.  If a database failure occurs then a warning is logged and the
+   * record is treated as changed.
+   *
+   * @param dataSource The data source code for the record.
+   * @param recordId The record ID for the record.
+   * @param hash The hash of the record content.
+   * @return <tt>true</tt> if the record is unchanged, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean isUnchanged(String dataSource, String recordId, byte[] hash) {
+    RecordKey key = new RecordKey(dataSource, recordId);
+    synchronized (this) {
+      if (this.closed || this.inFlight.containsKey(key)) return false;
+      byte[] pendingHash = this.pending.get(key);
+      if (pendingHash != null) return Arrays.equals(pendingHash, hash);
+    }
+    byte[] storedHash;
+    synchronized (this.connection) {
+      // the buffered updates may have been written while we waited
+      synchronized (this) {
+        byte[] pendingHash = this.pending.get(key);
+        if (pendingHash != null) return Arrays.equals(pendingHash, hash);
+      }
+      try (PreparedStatement ps = this.connection.prepareStatement(
+          "SELECT hash FROM record_hashes "
+              + "WHERE data_source = ? AND record_id = ?"))
+      {
+        ps.setString(1, dataSource);
+        ps.setString(2, recordId);
+        try (ResultSet rs = ps.executeQuery()) {
+          storedHash = rs.next() ? rs.getBytes(1) : null;
+        }
+        this.connection.commit();
+
+      } catch (SQLException e) {
+        logWarning(e, "Failed to read record hash");
+        return false;
+      }
+    }
+    return (storedHash != null && Arrays.equals(storedHash, hash));
+  }
+
+  /**
+   * Records that an update (load or delete) of the record with the specified
+   * data source code and record ID is about to begin.  Every call must be
+   * followed by a call to {@link #endUpdate(String, String, byte[])}.
+   *
+   * @param dataSource The data source code for the record.
+   * @param recordId The record ID for the record.
+   */
+  public synchronized void beginUpdate(String dataSource, String recordId) {
+    RecordKey key = new RecordKey(dataSource, recordId);
+    InFlight update = this.inFlight.computeIfAbsent(key, k -> new InFlight());
+    if (update.count > 0) update.overlapped = true;
+    update.count++;
+  }
+
+  /**
+   * Records that an update of the record with the specified data source code
+   * and record ID has ended.  The specified hash is stored for the record if
+   * it is not <tt>null</tt> and no other update to the record overlapped with
+   * this one, otherwise any hash for the record is removed.
+   *
+   * @param dataSource The data source code for the record.
+   * @param recordId The record ID for the record.
+   * @param hash The hash of the record content that was loaded, or
+   *             <tt>null</tt> if the record was deleted or the update failed.
+   */
+  public synchronized void endUpdate(String dataSource,
+                                     String recordId,
+                                     byte[] hash)
+  {
+    RecordKey key = new RecordKey(dataSource, recordId);
+    InFlight update = this.inFlight.get(key);
+    boolean overlapped = (update == null || update.overlapped);
+    if (update != null && --update.count == 0) this.inFlight.remove(key);
+    if (this.closed) return;
+    this.pending.put(key, (hash == null || overlapped) ? REMOVED : hash);
+    if (this.pending.size() >= FLUSH_THRESHOLD) {
+      this.notifyAll();
+    }
+  }
+
+  /**
+   * Writes any buffered updates to the database.
+   *
+   * @throws SQLException If a database failure occurs.
+   */
+  public void flush() throws SQLException {
+    synchronized (this.connection) {
+      Map<RecordKey, byte[]> updates;
+      synchronized (this) {
+        if (this.pending.isEmpty()) return;
+        updates = this.pending;
+        this.pending = new HashMap<>();
+      }
+
+      try (PreparedStatement upsert = this.connection.prepareStatement(
+               "INSERT OR REPLACE INTO record_hashes "
+                   + "(data_source, record_id, hash) VALUES (?, ?, ?)");
+           PreparedStatement delete = this.connection.prepareStatement(
+               "DELETE FROM record_hashes "
+                   + "WHERE data_source = ? AND record_id = ?"))
+      {
+        for (Map.Entry<RecordKey, byte[]> entry : updates.entrySet()) {
+          RecordKey key   = entry.getKey();
+          byte[]    hash  = entry.getValue();
+          if (hash == REMOVED) {
+            delete.setString(1, key.dataSource);
+            delete.setString(2, key.recordId);
+            delete.addBatch();
+          } else {
+            upsert.setString(1, key.dataSource);
+            upsert.setString(2, key.recordId);
+            upsert.setBytes(3, hash);
+            upsert.addBatch();
+          }
+        }
+        upsert.executeBatch();
+        delete.executeBatch();
+        this.connection.commit();
+
+      } catch (SQLException e) {
+        this.connection.rollback();
+        // restore the updates that have not since been superseded so that a
+        // removal is never lost, leaving a stale hash behind
+        synchronized (this) {
+          for (Map.Entry<RecordKey, byte[]> entry : updates.entrySet()) {
+            this.pending.putIfAbsent(entry.getKey(), entry.getValue());
+          }
+        }
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Removes all the record hashes from the store, for example after the
+   * repository is purged.  Any updates in progress are treated as having
+   * overlapped so their hashes are not stored.
+   *
+   * @throws SQLException If a database failure occurs.
+   */
+  public void clear() throws SQLException {
+    synchronized (this.connection) {
+      synchronized (this) {
+        this.pending.clear();
+        for (InFlight update : this.inFlight.values()) {
+          update.overlapped = true;
+        }
+      }
+      try (Statement stmt = this.connection.createStatement()) {
+        stmt.executeUpdate("DELETE FROM record_hashes");
+        this.connection.commit();
+
+      } catch (SQLException e) {
+        this.connection.rollback();
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * Writes any buffered updates, stops the background thread and closes the
+   * database connection.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+      this.notifyAll();
+    }
+    try {
+      this.flusher.join();
+    } catch (InterruptedException ignore) {
+      // ignore
+    }
+    synchronized (this.connection) {
+      try {
+        this.flush();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to write record hashes on close");
+      }
+      try {
+        this.connection.close();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to close the record hash store");
+      }
+    }
+  }
+
+  /**
+   * Writes the buffered updates periodically until closed.
+   */
+  private void flushPeriodically() {
+    while (true) {
+      synchronized (this) {
+        if (this.closed) return;
+        if (this.pending.size() < FLUSH_THRESHOLD) {
+          try {
+            this.wait(FLUSH_PERIOD);
+          } catch (InterruptedException ignore) {
+            // ignore
+          }
+        }
+        if (this.closed) return;
+      }
+      try {
+        this.flush();
+      } catch (SQLException e) {
+        logWarning(e, "Failed to write record hashes");
+      }
+    }
+  }
+}
@@ -0,0 +1,284 @@
+package com.senzing.api.services;
+
+import com.senzing.g2.engine.G2Engine;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.senzing.api.services.ServicesUtil.logWarning;
+import static com.senzing.util.LoggingUtilities.*;
+
+/**
+ * Processes the redo records left behind by loading records in background
+ * threads within the API server.  Each redo record is processed as a task on
+ * the engine thread pool, but only when an {@linkplain
+ * SzApiProvider#executeInIdleThread idle engine thread} can be reserved, so
+ * that redo processing yields to the interactive load.  If INFO is being {@linkplain
+ * ServicesSupport#isPublishingInfo(SzApiProvider) published} then the INFO
+ * produced by processing each redo record is published the same way as for
+ * loading records.
+ * <p>
+ * The number of redo records processed and failed are counted and the drain
+ * rate is measured over the most recent {@value #RATE_WINDOW_SECONDS}
+ * seconds.
+ */
+public class RedoProcessor implements ServicesSupport, Closeable {
+  /**
+   * The number of milliseconds to wait before checking again for redo
+   * records when none are found.
+   */
+  public static final long IDLE_PERIOD = 5000L;
+
+  /**
+   * The number of milliseconds to wait before checking again for idle engine
+   * threads when all are busy, or after a failure.
+   */
+  public static final long YIELD_PERIOD = 50L;
+
+  /**
+   * The number of seconds over which the drain rate is measured.
+   */
+  public static final int RATE_WINDOW_SECONDS = 60;
+
+  /**
+   * The {@link SzApiProvider} to use.
+   */
+  private final SzApiProvider provider;
+
+  /**
+   * The number of threads processing redo records.
+   */
+  private final int concurrency;
+
+  /**
+   * The threads processing redo records.
+   */
+  private final List<Thread> threads;
+
+  /**
+   * The number of redo records that were processed.
+   */
+  private final LongAdder processedCount = new LongAdder();
+
+  /**
+   * The number of redo records that failed to be processed.
+   */
+  private final LongAdder failedCount = new LongAdder();
+
+  /**
+   * The number of redo records processed during each second of the rate
+   * window, indexed by the epoch second modulo the window size.
+   */
+  private final long[] rateCounts = new long[RATE_WINDOW_SECONDS];
+
+  /**
+   * The epoch second for each element of {@link #rateCounts}.
+   */
+  private final long[] rateSeconds = new long[RATE_WINDOW_SECONDS];
+
+  /**
+   * The epoch second at which this instance was constructed.
+   */
+  private final long startSecond = System.currentTimeMillis() / 1000L;
+
+  /**
+   * Flag indicating if this instance has been closed.
+   */
+  private boolean closed = false;
+
+  /**
+   * Constructs with the {@link SzApiProvider} and the number of threads with
+   * which to process redo records, and starts processing.
+   *
+   * @param provider    The {@link SzApiProvider} to use.
+   * @param concurrency The number of threads with which to process redo
+   *                    records.
+   * @throws IllegalArgumentException If the concurrency is not positive.
+   */
+  public RedoProcessor(SzApiProvider provider, int concurrency) {
+    Objects.requireNonNull(provider, "The provider cannot be null.");
+    if (concurrency <= 0) {
+      throw new IllegalArgumentException(
+          "The concurrency must be a positive integer: " + concurrency);
+    }
+    this.provider     = provider;
+    this.concurrency  = concurrency;
+    this.threads      = new ArrayList<>(concurrency);
+    for (int index = 0; index < concurrency; index++) {
+      Thread thread = provider.getThreadFactory().newThread(this::processRedos);
+      thread.setName("sz-redo-processor-" + index);
+      thread.setDaemon(true);
+      this.threads.add(thread);
+    }
+    this.threads.forEach(Thread::start);
+  }
+
+  /**
+   * Gets the number of threads processing redo records.
+   *
+   * @return The number of threads processing redo records.
+   */
+  public int getConcurrency() {
+    return this.concurrency;
+  }
+
+  /**
+   * Gets the number of redo records that were processed.
+   *
+   * @return The number of redo records that were processed.
+   */
+  public long getProcessedCount() {
+    return this.processedCount.sum();
+  }
+
+  /**
+   * Gets the number of redo records that failed to be processed.
+   *
+   * @return The number of redo records that failed to be processed.
+   */
+  public long getFailedCount() {
+    return this.failedCount.sum();
+  }
+
+  /**
+   * Gets the average number of redo records processed per second over the
+   * most recent {@value #RATE_WINDOW_SECONDS} seconds, or since this instance
+   * was constructed if more recent.
+   *
+   * @return The average number of redo records processed per second.
+   */
+  public synchronized double getDrainRate() {
+    long second = System.currentTimeMillis() / 1000L;
+    long total = 0L;
+    for (int index = 0; index < RATE_WINDOW_SECONDS; index++) {
+      if (second - this.rateSeconds[index] < RATE_WINDOW_SECONDS) {
+        total += this.rateCounts[index];
+      }
+    }
+    long elapsed = Math.min(RATE_WINDOW_SECONDS, second - this.startSecond + 1L);
+    return ((double) total) / elapsed;
+  }
+
+  /**
+   * Stops processing redo records and waits for the redo record currently
+   * being processed by each thread (if any) to complete.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (this.closed) return;
+      this.closed = true;
+      this.notifyAll();
+    }
+    for (Thread thread : this.threads) {
+      try {
+        thread.join();
+      } catch (InterruptedException ignore) {
+        // ignore
+      }
+    }
+  }
+
+  /**
+   * Processes redo records until closed.
+   */
+  private void processRedos() {
+    while (!this.isClosed()) {
+      try {
+        Boolean found = this.processNextRedo();
+        if (found == null) {
+          // yield to the interactive load since no engine threads are idle
+          this.pause(YIELD_PERIOD);
+        } else if (!found) {
+          this.pause(IDLE_PERIOD);
+        }
+
+      } catch (Exception e) {
+        this.failedCount.increment();
+        logWarning(e, "Failed to process redo record");
+        this.pause(YIELD_PERIOD);
+      }
+    }
+  }
+
+  /**
+   * Processes the next redo record (if any) on an {@linkplain
+   * SzApiProvider#executeInIdleThread idle engine thread} and publishes the
+   * resulting INFO.
+   *
+   * @return {@link Boolean#TRUE} if a redo record was processed, {@link
+   *         Boolean#FALSE} if there were no redo records to process, or
+   *         <tt>null</tt> if no engine thread was idle.
+   * @throws Exception If a failure occurs.
+   */
+  private Boolean processNextRedo() throws Exception {
+    SzApiProvider provider = this.provider;
+    boolean asyncInfo = this.isPublishingInfo(provider);
+
+    // the INFO, or null if no redo record was found
+    String[] rawInfo = { null };
+    boolean executed = provider.executeInIdleThread(() -> {
+      G2Engine engineApi = provider.getEngineApi();
+      StringBuffer redoRecord = new StringBuffer();
+      StringBuffer info = new StringBuffer();
+      int returnCode = (asyncInfo)
+          ? engineApi.processRedoRecordWithInfo(0, redoRecord, info)
+          : engineApi.processRedoRecord(redoRecord);
+      if (returnCode != 0) {
+        throw new IllegalStateException(
+            formatError("G2Engine.processRedoRecord()", engineApi));
+      }
+      rawInfo[0] = (redoRecord.length() == 0) ? null : info.toString();
+      return null;
+    });
+
+    if (!executed) return null;
+    if (rawInfo[0] == null) return false;
+
+    this.processedCount.increment();
+    this.recordRate();
+    if (asyncInfo) {
+      this.publishInfo(provider, null, rawInfo[0]);
+    }
+    return true;
+  }
+
+  /**
+   * Counts a processed redo record toward the drain rate.
+   */
+  private synchronized void recordRate() {
+    long second = System.currentTimeMillis() / 1000L;
+    int index = (int) (second % RATE_WINDOW_SECONDS);
+    if (this.rateSeconds[index] != second) {
+      this.rateSeconds[index] = second;
+      this.rateCounts[index]  = 0L;
+    }
+    this.rateCounts[index]++;
+  }
+
+  /**
+   * Checks if this instance has been closed.
+   *
+   * @return <tt>true</tt> if closed, otherwise <tt>false</tt>.
+   */
+  private synchronized boolean isClosed() {
+    return this.closed;
+  }
+
+  /**
+   * Waits for the specified number of milliseconds or until closed.
+   *
+   * @param period The number of milliseconds to wait.
+   */
+  private synchronized void pause(long period) {
+    if (this.closed) return;
+    try {
+      this.wait(period);
+    } catch (InterruptedException ignore) {
+      // ignore
+    }
+  }
+}
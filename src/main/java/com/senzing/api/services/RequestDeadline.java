@@ -0,0 +1,201 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzHttpMethod;
+import com.senzing.util.Timers;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Describes the deadline by which a request must be answered and whether the
+ * connection for the request has been closed.  The deadline for the request
+ * being handled by the current thread is {@linkplain #setCurrent(RequestDeadline)
+ * associated} with that thread so that it can be carried into the tasks the
+ * request submits to the engine worker threads, which allows tasks that can
+ * no longer be answered to be discarded before they reach the engine.
+ */
+public class RequestDeadline {
+  /**
+   * The HTTP header with which a client may specify the number of seconds
+   * (possibly fractional) it will wait for the response.
+   */
+  public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+  /**
+   * The {@link ThreadLocal} holding the deadline for the request being
+   * handled by the current thread.
+   */
+  private static final ThreadLocal<RequestDeadline> CURRENT
+      = new ThreadLocal<>();
+
+  /**
+   * The {@link System#nanoTime()} at which the deadline passes, or
+   * <tt>null</tt> if the request has no deadline.
+   */
+  private final Long expiresAt;
+
+  /**
+   * The {@link BooleanSupplier} to check if the connection for the request
+   * is still open, or <tt>null</tt> if not known.
+   */
+  private final BooleanSupplier connectionOpen;
+
+  /**
+   * Flag indicating if the request has been cancelled.
+   */
+  private volatile boolean cancelled = false;
+
+  /**
+   * The {@link HttpServletRequest} for the request, or <tt>null</tt> if not
+   * known.
+   */
+  private final HttpServletRequest request;
+
+  /**
+   * The {@link Timers} started when the request began to be handled.
+   */
+  private final Timers timers;
+
+  /**
+   * Constructs with the number of milliseconds until the deadline passes,
+   * the {@link BooleanSupplier} to check if the connection for the request is
+   * still open and the {@link HttpServletRequest} for the request.
+   *
+   * @param timeoutMillis  The number of milliseconds until the deadline
+   *                       passes, or <tt>null</tt> if the request has no
+   *                       deadline.
+   * @param connectionOpen The {@link BooleanSupplier} to check if the
+   *                       connection for the request is still open, or
+   *                       <tt>null</tt> if not known.
+   * @param request        The {@link HttpServletRequest} for the request, or
+   *                       <tt>null</tt> if not known.
+   */
+  public RequestDeadline(Long                timeoutMillis,
+                         BooleanSupplier     connectionOpen,
+                         HttpServletRequest  request)
+  {
+    this.expiresAt = (timeoutMillis == null) ? null
+        : System.nanoTime() + (timeoutMillis * 1000000L);
+    this.connectionOpen = connectionOpen;
+    this.request        = request;
+    this.timers         = new Timers(ServicesSupport.OVERALL_TIMING);
+  }
+
+  /**
+   * Gets the {@link HttpServletRequest} for the request so that an error
+   * response can link to it.
+   *
+   * @return The {@link HttpServletRequest} for the request, or
+   *         <tt>null</tt> if not known.
+   */
+  public HttpServletRequest getRequest() {
+    return this.request;
+  }
+
+  /**
+   * Gets the {@link SzHttpMethod} for the request.
+   *
+   * @return The {@link SzHttpMethod} for the request, or <tt>null</tt> if
+   *         the request is not known or its method is not a {@link
+   *         SzHttpMethod}.
+   */
+  public SzHttpMethod getHttpMethod() {
+    if (this.request == null) return null;
+    try {
+      return SzHttpMethod.valueOf(this.request.getMethod());
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Gets the {@link Timers} started when the request began to be handled.
+   *
+   * @return The {@link Timers} for the request.
+   */
+  public Timers getTimers() {
+    return this.timers;
+  }
+
+  /**
+   * Checks if the request has a deadline.
+   *
+   * @return <tt>true</tt> if the request has a deadline, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean hasDeadline() {
+    return (this.expiresAt != null);
+  }
+
+  /**
+   * Checks if the deadline for the request has passed.  This always returns
+   * <tt>false</tt> if the request has no deadline.
+   *
+   * @return <tt>true</tt> if the deadline has passed, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean isExpired() {
+    return (this.expiresAt != null && System.nanoTime() - this.expiresAt >= 0L);
+  }
+
+  /**
+   * Gets the number of milliseconds remaining until the deadline passes,
+   * which is zero if it has passed.  This returns <tt>null</tt> if the
+   * request has no deadline.
+   *
+   * @return The number of milliseconds remaining until the deadline passes,
+   *         or <tt>null</tt> if the request has no deadline.
+   */
+  public Long getRemainingMillis() {
+    if (this.expiresAt == null) return null;
+    return Math.max(0L, (this.expiresAt - System.nanoTime()) / 1000000L);
+  }
+
+  /**
+   * Cancels the request, typically because its connection was closed.
+   */
+  public void cancel() {
+    this.cancelled = true;
+  }
+
+  /**
+   * Checks if the request has been {@linkplain #cancel() cancelled} or its
+   * connection is known to have been closed.
+   *
+   * @return <tt>true</tt> if the request has been cancelled, otherwise
+   *         <tt>false</tt>.
+   */
+  public boolean isCancelled() {
+    if (this.cancelled) return true;
+    if (this.connectionOpen != null && !this.connectionOpen.getAsBoolean()) {
+      this.cancelled = true;
+    }
+    return this.cancelled;
+  }
+
+  /**
+   * Gets the {@link RequestDeadline} for the request being handled by the
+   * current thread.
+   *
+   * @return The {@link RequestDeadline} for the current request, or
+   *         <tt>null</tt> if none.
+   */
+  public static RequestDeadline getCurrent() {
+    return CURRENT.get();
+  }
+
+  /**
+   * Sets the {@link RequestDeadline} for the request being handled by the
+   * current thread.
+   *
+   * @param deadline The {@link RequestDeadline} for the current request, or
+   *                 <tt>null</tt> to clear it.
+   */
+  public static void setCurrent(RequestDeadline deadline) {
+    if (deadline == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(deadline);
+    }
+  }
+}
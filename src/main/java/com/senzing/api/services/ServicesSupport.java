@@ -17,18 +17,25 @@ import javax.ws.rs.*;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
-import java.io.UnsupportedEncodingException;
+import java.io.*;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Proxy;
 import java.net.URI;
 import java.net.URLEncoder;
+import java.security.cert.X509Certificate;
 import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.function.Function;
 
 import static com.senzing.api.model.SzFeatureMode.*;
 import static com.senzing.g2.engine.G2Engine.*;
 import static com.senzing.g2.engine.G2Engine.G2_ENTITY_INCLUDE_RECORD_SUMMARY;
+import static com.senzing.io.IOUtilities.UTF_8;
+import static com.senzing.util.LoggingUtilities.logOnceAndThrow;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static com.senzing.api.model.SzDetailLevel.*;
 
@@ -72,6 +79,23 @@ public interface ServicesSupport {
    */
   String INFO_QUEUE_NAME = "INFO";
 
+  /**
+   * The standardized {@link Timers} key used for waiting on the {@link
+   * LoadThrottle} to admit a record.
+   */
+  String THROTTLE_TIMING = "throttled";
+
+  /**
+   * The HTTP header used to identify the client when no TLS client
+   * certificate was presented.
+   */
+  String CLIENT_ID_HEADER = "X-Client-Id";
+
+  /**
+   * The servlet request attribute holding the TLS client certificate chain.
+   */
+  String CLIENT_CERTIFICATE_ATTRIBUTE = "javax.servlet.request.X509Certificate";
+
   /**
    * HTTP Response code for server error.
    */
@@ -103,6 +127,11 @@ public interface ServicesSupport {
    */
   int NOT_ALLOWED = 405;
 
+  /**
+   * HTTP Response code for "conflict".
+   */
+  int CONFLICT = 409;
+
   /**
    * Error code when a data source code is not found.
    */
@@ -472,6 +501,31 @@ public interface ServicesSupport {
     return new ForbiddenException(builder.build());
   }
 
+  /**
+   * Creates a {@link ClientErrorException} with a 409 "conflict" status and
+   * builds a response with an {@link SzErrorResponse} using the specified
+   * {@link UriInfo} and the specified error message.
+   *
+   * @param httpMethod   The HTTP method for the request.
+   * @param uriInfo      The {@link UriInfo} from the request.
+   * @param timers       The {@link Timers} object for the timings that were
+   *                     taken.
+   * @param errorMessage The error message.
+   * @return The {@link ClientErrorException} that was created.
+   */
+  default ClientErrorException newConflictException(
+      SzHttpMethod httpMethod,
+      UriInfo uriInfo,
+      Timers timers,
+      String errorMessage) {
+    Response.ResponseBuilder builder = Response.status(CONFLICT);
+    builder.entity(this.newErrorResponse(
+        this.newMeta(httpMethod, CONFLICT, timers),
+        this.newLinks(uriInfo), errorMessage));
+    builder.type(APPLICATION_JSON);
+    return new ClientErrorException(builder.build());
+  }
+
   /**
    * When an Engine API operation fails this will either throw a
    * {@link NotFoundException} if the error code indicates a data source,
@@ -1063,6 +1117,258 @@ public interface ServicesSupport {
           LOCK_TIMING, LOCK_TIMING + ":" + lockName);
   }
 
+  /**
+   * Gets the client ID for the client that made the specified request for
+   * the purpose of applying the {@link LoadThrottle} budgets.  This is the
+   * subject distinguished name of the TLS client certificate if one was
+   * presented, otherwise the value of the {@link #CLIENT_ID_HEADER} header.
+   *
+   * @param request The {@link HttpServletRequest}, or <tt>null</tt> if none.
+   * @return The client ID, or <tt>null</tt> if the client is not identified.
+   */
+  default String getClientId(HttpServletRequest request) {
+    if (request == null) return null;
+    Object certs = request.getAttribute(CLIENT_CERTIFICATE_ATTRIBUTE);
+    if (certs instanceof X509Certificate[]
+        && ((X509Certificate[]) certs).length > 0)
+    {
+      X509Certificate cert = ((X509Certificate[]) certs)[0];
+      return cert.getSubjectX500Principal().getName();
+    }
+    String header = request.getHeader(CLIENT_ID_HEADER);
+    if (header == null || header.trim().length() == 0) return null;
+    return header.trim();
+  }
+
+  /**
+   * Waits until the {@link LoadThrottle} (if any) admits writing a record
+   * for the specified data source by the specified client and returns the
+   * {@link LoadThrottle.Permit} that must be {@linkplain
+   * #releaseLoadPermit(LoadThrottle.Permit) released} once the record has
+   * been written.  The time spent waiting is tracked in the {@link
+   * #THROTTLE_TIMING} stage of the specified {@link Timers}.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param dataSource The data source code for the record.
+   * @param clientId   The client ID, or <tt>null</tt> if the client is not
+   *                   identified.
+   * @param timers     The {@link Timers} for the operation, or <tt>null</tt>
+   *                   if the wait should not be timed.
+   * @return The {@link LoadThrottle.Permit} for writing the record, or
+   *         <tt>null</tt> if writing records is not throttled.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  default LoadThrottle.Permit acquireLoadPermit(SzApiProvider provider,
+                                                String        dataSource,
+                                                String        clientId,
+                                                Timers        timers)
+      throws InterruptedException
+  {
+    LoadThrottle throttle = provider.getLoadThrottle();
+    if (throttle == null) return null;
+    if (timers != null) timers.start(THROTTLE_TIMING);
+    try {
+      return throttle.acquire(dataSource, clientId);
+    } finally {
+      if (timers != null) timers.pause(THROTTLE_TIMING);
+    }
+  }
+
+  /**
+   * Releases the specified {@link LoadThrottle.Permit} obtained from {@link
+   * #acquireLoadPermit(SzApiProvider, String, String, Timers)}.  This does
+   * nothing if the specified permit is <tt>null</tt>.
+   *
+   * @param permit The {@link LoadThrottle.Permit} to release, or
+   *               <tt>null</tt> if none.
+   */
+  default void releaseLoadPermit(LoadThrottle.Permit permit) {
+    if (permit != null) permit.close();
+  }
+
+  /**
+   * Creates a new {@link BoundedExecutor} that executes the tasks for a
+   * single request on the {@linkplain SzApiProvider#getAuxiliaryExecutor()
+   * shared auxiliary executor} of the specified {@link SzApiProvider} with at
+   * most the specified number executing concurrently.  The caller should
+   * {@linkplain BoundedExecutor#close() close} the returned instance when
+   * the request completes.  This must be called on the thread handling the
+   * request so that its {@link RequestDeadline} (if any) is carried to the
+   * engine tasks submitted by the auxiliary threads.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param maxConcurrency The maximum number of tasks to execute
+   *                       concurrently, which is at least one.
+   * @return The new {@link BoundedExecutor}.
+   */
+  default BoundedExecutor newBoundedExecutor(SzApiProvider provider,
+                                             int           maxConcurrency)
+  {
+    return new BoundedExecutor(provider.getAuxiliaryExecutor(),
+                               Math.max(1, maxConcurrency),
+                               RequestDeadline.getCurrent());
+  }
+
+  /**
+   * Performs the engine work for a single item of a {@linkplain
+   * #newParallelJsonLinesOutput(SzApiProvider, List, int, AccessToken,
+   * EngineTask, JsonLinesWriter) parallel JSON-lines output}.  This is
+   * called from an engine thread and should record its result in the item.
+   *
+   * @param <T> The type of the items.
+   */
+  @FunctionalInterface
+  interface EngineTask<T> {
+    /**
+     * Performs the engine work for the specified item.
+     *
+     * @param item The item for which to perform the engine work.
+     * @throws Exception If a failure occurs.
+     */
+    void execute(T item) throws Exception;
+  }
+
+  /**
+   * Writes the JSON lines for a single completed item of a {@linkplain
+   * #newParallelJsonLinesOutput(SzApiProvider, List, int, AccessToken,
+   * EngineTask, JsonLinesWriter) parallel JSON-lines output}.  This is only
+   * called from the thread writing the output.
+   *
+   * @param <T> The type of the items.
+   */
+  @FunctionalInterface
+  interface JsonLinesWriter<T> {
+    /**
+     * Writes the JSON lines for the specified completed item.
+     *
+     * @param item         The completed item.
+     * @param objectMapper The {@link ObjectMapper} for serializing the lines.
+     * @param writer       The {@link Writer} to write the lines to.
+     * @return <tt>true</tt> if the remaining items should be written,
+     *         otherwise <tt>false</tt> to abandon them.
+     * @throws Exception If a failure occurs.
+     */
+    boolean writeLines(T item, ObjectMapper objectMapper, Writer writer)
+        throws Exception;
+  }
+
+  /**
+   * Creates a {@link StreamingOutput} that performs the engine work for each
+   * of the specified items on the engine threads with at most the specified
+   * number in flight, and writes the JSON lines for each item in the order
+   * the items complete.  The engine work for the items is only started once
+   * the output is written, and any remaining work is abandoned if the output
+   * fails or the {@link JsonLinesWriter} asks to stop.  The specified prolonged
+   * operation {@link AccessToken} is concluded when the output completes.
+   * <p>
+   * The {@link Timers} for the request are not thread-safe so they should not
+   * be used by the {@link EngineTask}.
+   *
+   * @param provider       The {@link SzApiProvider} to use.
+   * @param items          The {@link List} of items to process.
+   * @param maxConcurrency The maximum number of items to process
+   *                       concurrently.
+   * @param accessToken    The {@link AccessToken} for the prolonged operation.
+   * @param engineTask     The {@link EngineTask} for each item.
+   * @param linesWriter    The {@link JsonLinesWriter} for each completed item.
+   * @param <T>            The type of the items.
+   * @return The {@link StreamingOutput} that processes the items.
+   */
+  default <T> StreamingOutput newParallelJsonLinesOutput(
+      SzApiProvider       provider,
+      List<T>             items,
+      int                 maxConcurrency,
+      AccessToken         accessToken,
+      EngineTask<T>       engineTask,
+      JsonLinesWriter<T>  linesWriter)
+  {
+    return (outputStream) -> {
+      BoundedExecutor executor
+          = this.newBoundedExecutor(provider, maxConcurrency);
+      try {
+        Writer writer = new BufferedWriter(
+            new OutputStreamWriter(outputStream, UTF_8));
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JodaModule());
+
+        CompletionService<T> completionService
+            = new ExecutorCompletionService<>(executor);
+        for (T item : items) {
+          completionService.submit(() -> provider.executeInThread(() -> {
+            engineTask.execute(item);
+            return item;
+          }));
+        }
+
+        for (int index = 0; index < items.size(); index++) {
+          T item = this.awaitCompletion(completionService);
+          boolean proceed = linesWriter.writeLines(item, objectMapper, writer);
+          writer.flush();
+          if (!proceed) break;
+        }
+
+        writer.flush();
+
+      } catch (WebApplicationException | IOException e) {
+        throw e;
+
+      } catch (RuntimeException e) {
+        throw logOnceAndThrow(e);
+
+      } catch (Exception e) {
+        throw logOnceAndThrow(new RuntimeException(e));
+
+      } finally {
+        executor.close();
+        provider.concludeProlongedOperation(accessToken);
+      }
+    };
+  }
+
+  /**
+   * Waits for the next task to complete from the specified {@link
+   * CompletionService} and returns its result, rethrowing the cause of its
+   * failure if it failed.
+   *
+   * @param completionService The {@link CompletionService} to wait on.
+   * @param <T>               The type of the result.
+   * @return The result of the task that completed.
+   * @throws Exception If the task failed.
+   */
+  default <T> T awaitCompletion(CompletionService<T> completionService)
+    throws Exception
+  {
+    try {
+      return completionService.take().get();
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) throw (Exception) cause;
+      if (cause instanceof Error) throw (Error) cause;
+      throw e;
+    }
+  }
+
+  /**
+   * Converts the specified {@link SzEntityIdentifier} to the value used to
+   * identify an entity or record in the JSON-lines results of the batch
+   * operations.  This is the entity ID for an {@link SzEntityId}, or an
+   * object with the data source code and record ID for an {@link SzRecordId}.
+   *
+   * @param identifier The {@link SzEntityIdentifier} to convert.
+   * @return The value that identifies the entity or record.
+   */
+  default Object toJsonLinesIdentifier(SzEntityIdentifier identifier) {
+    if (identifier instanceof SzEntityId) {
+      return ((SzEntityId) identifier).getValue();
+    }
+    SzRecordId recordId = (SzRecordId) identifier;
+    Map<String, String> result = new LinkedHashMap<>();
+    result.put("src", recordId.getDataSourceCode());
+    result.put("id", recordId.getRecordId());
+    return result;
+  }
+
   /**
    * Transitions the specified {@link Timers} into the {@link
    * #LOCK_TIMING} stage.
@@ -1089,6 +1395,205 @@ public interface ServicesSupport {
           ASYNC_SEND_TIMING, ASYNC_SEND_TIMING + ":" + queueName);
   }
 
+  /**
+   * Checks if the INFO produced when records are loaded, deleted or
+   * re-evaluated is being published to an info queue, to the {@link
+   * EntityChangeLog}, to the {@link HowWhyCache} and/or to the {@link
+   * EntityAdjacencyIndex}.  If so then the "with info" variants of the native
+   * API functions should be called and the resulting INFO passed to {@link
+   * #publishInfo(SzApiProvider, Timers, String)}.
+   *
+   * @param provider The {@link SzApiProvider} to check.
+   * @return <tt>true</tt> if the INFO is being published, otherwise
+   *         <tt>false</tt>.
+   */
+  default boolean isPublishingInfo(SzApiProvider provider) {
+    return provider.hasInfoSink() || (provider.getEntityChangeLog() != null)
+        || (provider.getHowWhyCache() != null)
+        || (provider.getEntityAdjacencyIndex() != null);
+  }
+
+  /**
+   * Publishes the specified raw INFO message JSON text by recording the
+   * affected entities in the {@link EntityChangeLog} (if configured),
+   * invalidating their results in the {@link HowWhyCache} and their
+   * relationships in the {@link EntityAdjacencyIndex} (if configured) and
+   * sending it on the info queue (if configured).  Failures to send the
+   * message are logged rather than thrown.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param timers   The {@link Timers} being used by the request handler.
+   * @param rawInfo  The raw INFO message JSON text.
+   */
+  default void publishInfo(SzApiProvider provider,
+                           Timers        timers,
+                           String        rawInfo)
+  {
+    if (rawInfo == null || rawInfo.trim().length() == 0) return;
+
+    EntityChangeLog changeLog   = provider.getEntityChangeLog();
+    HowWhyCache     howWhyCache = provider.getHowWhyCache();
+    EntityAdjacencyIndex adjacencyIndex = provider.getEntityAdjacencyIndex();
+    if (changeLog != null || howWhyCache != null || adjacencyIndex != null) {
+      List<Long> entityIds = ServicesUtil.getAffectedEntityIds(rawInfo);
+      if (changeLog != null) changeLog.recordChanges(entityIds);
+      if (howWhyCache != null) howWhyCache.invalidate(entityIds);
+      if (adjacencyIndex != null) adjacencyIndex.invalidate(entityIds);
+    }
+
+    if (!provider.hasInfoSink()) return;
+
+    SzMessageSink infoSink = provider.acquireInfoSink();
+    SzMessage message = new SzMessage(rawInfo);
+    try {
+      this.sendingAsyncMessage(timers, INFO_QUEUE_NAME);
+      // send the info on the async queue
+      infoSink.send(message, ServicesUtil::logFailedAsyncInfo);
+
+    } catch (Exception e) {
+      // failed async logger will not double-log
+      ServicesUtil.logFailedAsyncInfo(e, message);
+
+    } finally {
+      this.sentAsyncMessage(timers, INFO_QUEUE_NAME);
+      provider.releaseInfoSink(infoSink);
+    }
+  }
+
+  /**
+   * Gets the current generation of the {@link EntityAdjacencyIndex} (if
+   * configured) which should be obtained before calling the native function
+   * whose relationships are to be {@linkplain #indexRelationships(
+   * SzApiProvider, long, SzEntityData) indexed}.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @return The current generation of the {@link EntityAdjacencyIndex}, or
+   *         zero (0) if the index is not configured.
+   */
+  default long getAdjacencyGeneration(SzApiProvider provider) {
+    EntityAdjacencyIndex adjacencyIndex = provider.getEntityAdjacencyIndex();
+    return (adjacencyIndex == null) ? 0L : adjacencyIndex.getGeneration();
+  }
+
+  /**
+   * Indexes the relationships of the resolved entity in the specified {@link
+   * SzEntityData} in the {@link EntityAdjacencyIndex} (if configured).  This
+   * should only be called if the entity data was retrieved with its related
+   * entities.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param generation The {@linkplain #getAdjacencyGeneration(SzApiProvider)
+   *                   generation} obtained before calling the native function.
+   * @param entityData The {@link SzEntityData} describing the entity and its
+   *                   related entities.
+   */
+  default void indexRelationships(SzApiProvider provider,
+                                  long          generation,
+                                  SzEntityData  entityData)
+  {
+    EntityAdjacencyIndex adjacencyIndex = provider.getEntityAdjacencyIndex();
+    if (adjacencyIndex == null || entityData == null) return;
+    SzResolvedEntity resolvedEntity = entityData.getResolvedEntity();
+    if (resolvedEntity == null || resolvedEntity.getEntityId() == null) return;
+    adjacencyIndex.put(
+        resolvedEntity.getEntityId(),
+        generation,
+        EntityAdjacencyIndex.Adjacency.of(entityData.getRelatedEntities()));
+  }
+
+  /**
+   * Computes the {@linkplain RecordHashStore#computeHash(String) hash} of the
+   * specified record if the {@link RecordHashStore} is configured and the
+   * record has a record ID.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if the
+   *                   record ID is to be generated.
+   * @param recordText The JSON text describing the record.
+   * @return The hash of the record, or <tt>null</tt> if the record is not
+   *         tracked by the {@link RecordHashStore}.
+   */
+  default byte[] hashRecord(SzApiProvider provider,
+                            String        recordId,
+                            String        recordText)
+  {
+    if (provider.getRecordHashStore() == null) return null;
+    if (recordId == null || recordId.trim().length() == 0) return null;
+    try {
+      return RecordHashStore.computeHash(recordText);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks if the specified record {@linkplain #hashRecord(SzApiProvider,
+   * String, String) hash} matches the hash last stored in the {@link
+   * RecordHashStore} for the record, in which case loading the record again
+   * can be skipped.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param dataSource The data source code for the record.
+   * @param recordId   The record ID for the record.
+   * @param hash       The hash of the record, or <tt>null</tt> if the record
+   *                   is not tracked.
+   * @return <tt>true</tt> if the record is unchanged, otherwise
+   *         <tt>false</tt>.
+   */
+  default boolean isRecordUnchanged(SzApiProvider provider,
+                                    String        dataSource,
+                                    String        recordId,
+                                    byte[]        hash)
+  {
+    RecordHashStore hashStore = provider.getRecordHashStore();
+    if (hashStore == null || hash == null) return false;
+    return hashStore.isUnchanged(dataSource, recordId, hash);
+  }
+
+  /**
+   * Notifies the {@link RecordHashStore} (if configured) that the specified
+   * record is about to be loaded or deleted.  Every call must be followed by
+   * a call to {@link #endRecordUpdate(SzApiProvider, String, String, byte[])}.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param dataSource The data source code for the record.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if the
+   *                   record ID is to be generated.
+   */
+  default void beginRecordUpdate(SzApiProvider provider,
+                                 String        dataSource,
+                                 String        recordId)
+  {
+    RecordHashStore hashStore = provider.getRecordHashStore();
+    if (hashStore == null) return;
+    if (recordId == null || recordId.trim().length() == 0) return;
+    hashStore.beginUpdate(dataSource, recordId);
+  }
+
+  /**
+   * Notifies the {@link RecordHashStore} (if configured) that the load or
+   * delete of the specified record has ended.  The specified hash should be
+   * <tt>null</tt> if the record was deleted or the operation failed.
+   *
+   * @param provider   The {@link SzApiProvider} to use.
+   * @param dataSource The data source code for the record.
+   * @param recordId   The record ID for the record, or <tt>null</tt> if the
+   *                   record ID was generated.
+   * @param hash       The hash of the record that was loaded, or
+   *                   <tt>null</tt> if the record was deleted or the
+   *                   operation failed.
+   */
+  default void endRecordUpdate(SzApiProvider provider,
+                               String        dataSource,
+                               String        recordId,
+                               byte[]        hash)
+  {
+    RecordHashStore hashStore = provider.getRecordHashStore();
+    if (hashStore == null) return;
+    if (recordId == null || recordId.trim().length() == 0) return;
+    hashStore.endUpdate(dataSource, recordId, hash);
+  }
+
   /**
    * Ensures that loading of records is allowed and if not throws a
    * {@link ForbiddenException}.
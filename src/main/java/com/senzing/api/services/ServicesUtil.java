@@ -2,11 +2,20 @@ package com.senzing.api.services;
 
 
 import com.senzing.util.ErrorLogSuppressor;
+import com.senzing.util.JsonUtilities;
 
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
 import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
+
+import static com.senzing.util.LoggingUtilities.*;
 
 /**
  * Utility functions for services.
@@ -83,6 +92,58 @@ public class ServicesUtil {
     }
   }
 
+  /**
+   * Logs a warning for the specified failure from a background task.  The
+   * stack trace is only logged if it differs from the last exception logged
+   * by the current thread.
+   *
+   * @param e The {@link Exception} that occurred.
+   * @param message The message describing the failure.
+   */
+  public static void logWarning(Exception e, String message) {
+    System.err.println("*** WARNING : " + message + ": " + e.getMessage());
+    if (!isLastLoggedException(e)) {
+      e.printStackTrace();
+      setLastLoggedException(e);
+    }
+  }
+
+  /**
+   * Gets the entity ID's listed in the <tt>"AFFECTED_ENTITIES"</tt> of the
+   * specified raw INFO message JSON text.  If the text cannot be parsed then a
+   * warning is logged and an empty {@link List} is returned.
+   *
+   * @param rawInfo The raw INFO message JSON text.
+   * @return The {@link List} of affected entity ID's.
+   */
+  public static List<Long> getAffectedEntityIds(String rawInfo) {
+    if (rawInfo == null || rawInfo.trim().length() == 0) {
+      return Collections.emptyList();
+    }
+    JsonArray affected;
+    try {
+      JsonObject jsonObject = JsonUtilities.parseJsonObject(rawInfo);
+      affected = JsonUtilities.getJsonArray(jsonObject, "AFFECTED_ENTITIES");
+
+    } catch (Exception e) {
+      System.err.println(
+          "*** WARNING : Failed to parse the affected entities from INFO "
+              + "message: " + rawInfo);
+      return Collections.emptyList();
+    }
+    if (affected == null || affected.size() == 0) {
+      return Collections.emptyList();
+    }
+
+    List<Long> entityIds = new ArrayList<>(affected.size());
+    for (JsonValue value : affected) {
+      if (value.getValueType() != JsonValue.ValueType.OBJECT) continue;
+      Long entityId = JsonUtilities.getLong(value.asJsonObject(), "ENTITY_ID");
+      if (entityId != null) entityIds.add(entityId);
+    }
+    return entityIds;
+  }
+
   /**
    * Returns the Base {@link URI} given the specified request {@link URI}.
    *
@@ -7,9 +7,14 @@ import com.senzing.util.AccessToken;
 import com.senzing.util.SemanticVersion;
 import com.senzing.util.WorkerThreadPool;
 
+import java.io.File;
 import java.lang.invoke.StringConcatException;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * This interface abstracts the various functions required by the API services
@@ -221,6 +226,36 @@ public interface SzApiProvider {
    */
   int getWebSocketsMessageMaxSize();
 
+  /**
+   * Gets the {@link ThreadFactory} for creating the auxiliary threads used by
+   * the services that spend most of their time blocked on I/O (e.g.: sending
+   * SSE progress updates or reading Web Socket data).  Depending on the
+   * provider these may be virtual threads.  Threads created by this factory
+   * should <b>not</b> call the Senzing native API directly, but should use
+   * {@link #executeInThread(WorkerThreadPool.Task)} instead.  By default this
+   * returns {@link Executors#defaultThreadFactory()}.
+   *
+   * @return The {@link ThreadFactory} for creating auxiliary threads.
+   */
+  default ThreadFactory getThreadFactory() {
+    return Executors.defaultThreadFactory();
+  }
+
+  /**
+   * Gets the shared {@link Executor} with a bounded number of auxiliary
+   * threads on which the services run the tasks that fan a single request
+   * out across multiple threads (e.g.: waiting on {@link
+   * #executeInThread(WorkerThreadPool.Task)} for each part of a batch).  The
+   * services should wrap this in a {@link BoundedExecutor} to limit each
+   * request to its share of the threads, and should never shut it down.  By
+   * default this returns {@link ForkJoinPool#commonPool()}.
+   *
+   * @return The shared {@link Executor} for auxiliary tasks.
+   */
+  default Executor getAuxiliaryExecutor() {
+    return ForkJoinPool.commonPool();
+  }
+
   /**
    * Executes the specified task with the proper thread for utilizing the
    * various G2 API implementations.
@@ -235,6 +270,113 @@ public interface SzApiProvider {
   <T, E extends Exception> T executeInThread(WorkerThreadPool.Task<T, E> task)
       throws E;
 
+  /**
+   * Executes the specified background task with the proper thread for
+   * utilizing the various G2 API implementations, but only if an engine
+   * thread is idle so that background work yields to the requests.  The
+   * task is not counted by {@link #getPendingTaskCount()} so that background
+   * tasks only yield to the tasks executed via {@link
+   * #executeInThread(WorkerThreadPool.Task)}.  By default this checks the
+   * {@linkplain #getPendingTaskCount() pending task count} against the
+   * {@linkplain #getConcurrencyLimiter() concurrency limit} (or the
+   * {@linkplain #getConcurrency() concurrency}) before executing the task,
+   * but implementations should reserve the thread atomically so that
+   * concurrent background tasks cannot exceed the limit.
+   *
+   * @param task The background task to execute.
+   * @param <E>  The exception type that may be thrown by the task.
+   * @return <tt>true</tt> if the task was executed, or <tt>false</tt> if no
+   *         engine thread was idle.
+   * @throws E If the specified task fails with an exception.
+   */
+  default <E extends Exception> boolean executeInIdleThread(
+      WorkerThreadPool.Task<?, E> task)
+      throws E
+  {
+    AdaptiveConcurrencyLimiter limiter = this.getConcurrencyLimiter();
+    int limit = (limiter == null) ? this.getConcurrency() : limiter.getLimit();
+    if (this.getPendingTaskCount() >= limit) return false;
+    this.executeInThread(task);
+    return true;
+  }
+
+  /**
+   * Gets the number of tasks passed to {@link
+   * #executeInThread(WorkerThreadPool.Task)} that are currently executing or
+   * waiting to execute.  If this is less than the {@linkplain
+   * #getConcurrency() concurrency} then there are idle threads.  Background
+   * tasks passed to {@link #executeInIdleThread(WorkerThreadPool.Task)} are
+   * not included.
+   *
+   * @return The number of tasks that are executing or waiting to execute.
+   */
+  default int getPendingTaskCount() {
+    return 0;
+  }
+
+  /**
+   * Gets the {@link AdaptiveConcurrencyLimiter} that limits the number of
+   * tasks passed to {@link #executeInThread(WorkerThreadPool.Task)} that
+   * execute concurrently.  This returns <tt>null</tt> if they are only
+   * limited by the {@linkplain #getConcurrency() concurrency}.
+   *
+   * @return The {@link AdaptiveConcurrencyLimiter}, or <tt>null</tt> if
+   *         adaptive concurrency limiting is disabled.
+   */
+  default AdaptiveConcurrencyLimiter getConcurrencyLimiter() {
+    return null;
+  }
+
+  /**
+   * Gets the number of tasks passed to {@link
+   * #executeInThread(WorkerThreadPool.Task)} that were discarded because the
+   * deadline for their request passed before they could be executed.
+   *
+   * @return The number of tasks discarded because their deadline passed.
+   */
+  default long getExpiredTaskCount() {
+    return 0L;
+  }
+
+  /**
+   * Gets the number of tasks passed to {@link
+   * #executeInThread(WorkerThreadPool.Task)} that were discarded because their
+   * request was cancelled (i.e.: the connection was closed) before they could
+   * be executed.
+   *
+   * @return The number of tasks discarded because their request was
+   *         cancelled.
+   */
+  default long getCancelledTaskCount() {
+    return 0L;
+  }
+
+  /**
+   * Executes the specified task on a dedicated thread rather than on one of
+   * the threads used by {@link #executeInThread(WorkerThreadPool.Task)}, and
+   * waits for it to complete.  This is intended for long-running operations
+   * that make many calls to the Senzing native API (e.g.: streaming an entity
+   * export) so that they do not tie up the threads available to interactive
+   * requests.  The task may call the G2 API implementations directly.
+   * Callers should first {@linkplain #authorizeProlongedOperation() authorize}
+   * the operation to limit how many such threads exist concurrently.  By
+   * default this delegates to {@link #executeInThread(WorkerThreadPool.Task)}
+   * for providers that do not support dedicated threads.
+   *
+   * @param task The Task to execute.
+   * @param <T>  The return value for the task.
+   * @param <E>  The exception type that may be thrown by the task.
+   * @return Returns an instance of type <tt>T</tt> as obtained from the
+   *         specified task.
+   * @throws E If the specified task fails with an exception.
+   */
+  default <T, E extends Exception> T executeInDedicatedThread(
+      WorkerThreadPool.Task<T, E> task)
+      throws E
+  {
+    return this.executeInThread(task);
+  }
+
   /**
    * Called before beginning an operation that may require a prolonged amount of
    * time to complete. If this returns <tt>null</tt> then the caller should
@@ -303,6 +445,142 @@ public interface SzApiProvider {
    */
   boolean isAdminEnabled();
 
+  /**
+   * Gets the {@link EntityChangeLog} in which the entities affected by
+   * loading, deleting or re-evaluating records are recorded.  This returns
+   * <tt>null</tt> if the entity change log is not enabled.
+   *
+   * @return The {@link EntityChangeLog}, or <tt>null</tt> if not enabled.
+   */
+  default EntityChangeLog getEntityChangeLog() {
+    return null;
+  }
+
+  /**
+   * Gets the {@link HowWhyCache} in which the raw results of the "how" and
+   * "why" operations are cached.  This returns <tt>null</tt> if the cache is
+   * not enabled.
+   *
+   * @return The {@link HowWhyCache}, or <tt>null</tt> if not enabled.
+   */
+  default HowWhyCache getHowWhyCache() {
+    return null;
+  }
+
+  /**
+   * Gets the {@link EntityAdjacencyIndex} in which the relationships between
+   * entities are indexed.  This returns <tt>null</tt> if the index is not
+   * enabled.
+   *
+   * @return The {@link EntityAdjacencyIndex}, or <tt>null</tt> if not enabled.
+   */
+  default EntityAdjacencyIndex getEntityAdjacencyIndex() {
+    return null;
+  }
+
+  /**
+   * Gets the {@link RecordHashStore} in which the content hashes of loaded
+   * records are stored so that unchanged records can be skipped.  This
+   * returns <tt>null</tt> if the record hash store is not enabled.
+   *
+   * @return The {@link RecordHashStore}, or <tt>null</tt> if not enabled.
+   */
+  default RecordHashStore getRecordHashStore() {
+    return null;
+  }
+
+  /**
+   * Gets the {@link RedoProcessor} that processes redo records in the
+   * background.  This returns <tt>null</tt> if background redo processing is
+   * not enabled.
+   *
+   * @return The {@link RedoProcessor}, or <tt>null</tt> if not enabled.
+   */
+  default RedoProcessor getRedoProcessor() {
+    return null;
+  }
+
+  /**
+   * Gets the {@link BulkLoadJobManager} that runs asynchronous bulk-load
+   * jobs.  This returns <tt>null</tt> if the server is in read-only mode.
+   *
+   * @return The {@link BulkLoadJobManager}, or <tt>null</tt> if in read-only
+   *         mode.
+   */
+  default BulkLoadJobManager getBulkLoadJobManager() {
+    return null;
+  }
+
+  /**
+   * Gets the directory from which bulk data files on the server may be
+   * loaded.  This returns <tt>null</tt> if loading files from the server is
+   * disabled.
+   *
+   * @return The directory from which bulk data files may be loaded, or
+   *         <tt>null</tt> if loading files from the server is disabled.
+   */
+  default File getBulkLoadFileDirectory() {
+    return null;
+  }
+
+  /**
+   * Gets the state directory in which bulk loads persist checkpoints.  This
+   * returns <tt>null</tt> if bulk loads are not checkpointed.
+   *
+   * @return The state directory in which bulk loads persist checkpoints, or
+   *         <tt>null</tt> if bulk loads are not checkpointed.
+   */
+  default File getBulkLoadCheckpointDirectory() {
+    return null;
+  }
+
+  /**
+   * Gets the directory in which bulk loads write the log of the records that
+   * failed to load.  This returns <tt>null</tt> if failed records are not
+   * logged.
+   *
+   * @return The directory in which bulk loads log failed records, or
+   *         <tt>null</tt> if failed records are not logged.
+   */
+  default File getBulkLoadErrorDirectory() {
+    return null;
+  }
+
+  /**
+   * Gets the number of milliseconds that the segment files of the logs of
+   * failed bulk-load records are retained after they were last written.
+   * This returns zero if the segments do not expire.
+   *
+   * @return The number of milliseconds that bulk-load error log segments are
+   *         retained, or zero if they do not expire.
+   */
+  default long getBulkLoadErrorMaxAge() {
+    return 0L;
+  }
+
+  /**
+   * Gets the maximum total number of bytes for the segment files of the logs
+   * of failed bulk-load records.  This returns zero if there is no limit.
+   *
+   * @return The maximum total number of bytes for bulk-load error log
+   *         segments, or zero if there is no limit.
+   */
+  default long getBulkLoadErrorMaxSize() {
+    return 0L;
+  }
+
+  /**
+   * Gets the {@link LoadThrottle} enforcing the rate and concurrency budgets
+   * for writing records.  This returns <tt>null</tt> if writing records is
+   * not throttled.
+   *
+   * @return The {@link LoadThrottle} for writing records, or <tt>null</tt> if
+   *         writing records is not throttled.
+   */
+  default LoadThrottle getLoadThrottle() {
+    return null;
+  }
+
   /**
    * Checks if there is an info message sink configured.
    *
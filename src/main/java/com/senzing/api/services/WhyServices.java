@@ -2,17 +2,21 @@ package com.senzing.api.services;
 
 import com.senzing.api.model.*;
 import com.senzing.g2.engine.G2Engine;
+import com.senzing.util.AccessToken;
 import com.senzing.util.JsonUtilities;
 import com.senzing.util.Timers;
 
 import javax.json.*;
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 import java.util.*;
 
 import static com.senzing.api.model.SzHttpMethod.*;
+import static com.senzing.api.services.BulkDataSupport.APPLICATION_JSONLINES;
 
 /**
  * Provides "why" API services.
@@ -20,6 +24,12 @@ import static com.senzing.api.model.SzHttpMethod.*;
 @Path("/")
 @Produces("application/json; charset=UTF-8")
 public class WhyServices implements ServicesSupport {
+  /**
+   * The maximum number of pairs of entities or records that can be evaluated
+   * in a single <tt>POST /why/batch</tt> request.
+   */
+  public static final int MAX_WHY_BATCH_PAIRS = 10000;
+
   /**
    * Implements the
    * <tt>GET /data-sources/{dataSourceCode}/records/{recordId}/entity/why</tt>
@@ -89,28 +99,40 @@ public class WhyServices implements ServicesSupport {
           withInternalFeatures,
           withRelationships);
 
-      this.enteringQueue(timers);
-      rawData = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      // check the cache before queueing for an engine thread
+      HowWhyCache cache = provider.getHowWhyCache();
+      String cacheKey = HowWhyCache.formatKey(
+          "whyEntityByRecordID", flags, dataSource, recordId);
+      rawData = (cache == null) ? null : cache.get(cacheKey);
 
-        // get the engine API and the config API
-        G2Engine engineApi = provider.getEngineApi();
+      if (rawData == null) {
+        long generation = (cache == null) ? 0L : cache.getGeneration();
 
-        this.callingNativeAPI(timers, "engine", "whyEntityByRecordID");
+        this.enteringQueue(timers);
+        rawData = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        // perform the "why" operation and check the result
-        int result = engineApi.whyEntityByRecordID(
-            dataSource, recordId, flags, sb);
+          // get the engine API and the config API
+          G2Engine engineApi = provider.getEngineApi();
 
-        this.calledNativeAPI(timers, "engine", "whyEntityByRecordID");
+          this.callingNativeAPI(timers, "engine", "whyEntityByRecordID");
 
-        if (result != 0) {
-          throw this.newWebApplicationException(
-              GET, uriInfo, timers, engineApi);
-        }
+          // perform the "why" operation and check the result
+          int result = engineApi.whyEntityByRecordID(
+              dataSource, recordId, flags, sb);
 
-        return sb.toString();
-      });
+          this.calledNativeAPI(timers, "engine", "whyEntityByRecordID");
+
+          if (result != 0) {
+            throw this.newWebApplicationException(
+                GET, uriInfo, timers, engineApi);
+          }
+
+          return sb.toString();
+        });
+
+        if (cache != null) cache.put(cacheKey, generation, rawData);
+      }
 
       return this.createWhyEntityResponse(rawData,
           timers,
@@ -189,26 +211,38 @@ public class WhyServices implements ServicesSupport {
           withInternalFeatures,
           withRelationships);
 
-      this.enteringQueue(timers);
-      rawData = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      // check the cache before queueing for an engine thread
+      HowWhyCache cache = provider.getHowWhyCache();
+      String cacheKey = HowWhyCache.formatKey(
+          "whyEntityByEntityID", flags, entityId);
+      rawData = (cache == null) ? null : cache.get(cacheKey);
 
-        // get the engine API and the config API
-        G2Engine engineApi = provider.getEngineApi();
+      if (rawData == null) {
+        long generation = (cache == null) ? 0L : cache.getGeneration();
 
-        this.callingNativeAPI(timers, "engine", "whyEntityByEntityID");
+        this.enteringQueue(timers);
+        rawData = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        // perform the "why" operation and check the result
-        int result = engineApi.whyEntityByEntityID(entityId, flags, sb);
+          // get the engine API and the config API
+          G2Engine engineApi = provider.getEngineApi();
 
-        this.calledNativeAPI(timers, "engine", "whyEntityByEntityID");
+          this.callingNativeAPI(timers, "engine", "whyEntityByEntityID");
 
-        if (result != 0) {
-          throw this.newWebApplicationException(GET, uriInfo, timers, engineApi);
-        }
+          // perform the "why" operation and check the result
+          int result = engineApi.whyEntityByEntityID(entityId, flags, sb);
 
-        return sb.toString();
-      });
+          this.calledNativeAPI(timers, "engine", "whyEntityByEntityID");
+
+          if (result != 0) {
+            throw this.newWebApplicationException(GET, uriInfo, timers, engineApi);
+          }
+
+          return sb.toString();
+        });
+
+        if (cache != null) cache.put(cacheKey, generation, rawData, entityId);
+      }
 
       return this.createWhyEntityResponse(rawData,
           timers,
@@ -319,33 +353,45 @@ public class WhyServices implements ServicesSupport {
           withInternalFeatures,
           withRelationships);
 
-      this.enteringQueue(timers);
-      rawData = provider.executeInThread(() -> {
-        this.exitingQueue(timers);
+      // check the cache before queueing for an engine thread
+      HowWhyCache cache = provider.getHowWhyCache();
+      String cacheKey = HowWhyCache.formatKey(
+          "whyRecords", flags, dataSource1, recordId1, dataSource2, recordId2);
+      rawData = (cache == null) ? null : cache.get(cacheKey);
 
-        // get the engine API and the config API
-        G2Engine engineApi = provider.getEngineApi();
+      if (rawData == null) {
+        long generation = (cache == null) ? 0L : cache.getGeneration();
 
-        this.callingNativeAPI(timers, "engine", "whyRecords");
+        this.enteringQueue(timers);
+        rawData = provider.executeInThread(() -> {
+          this.exitingQueue(timers);
 
-        // perform the "why" operation
-        int result = engineApi.whyRecords(
-            dataSource1, recordId1, dataSource2, recordId2, flags, sb);
+          // get the engine API and the config API
+          G2Engine engineApi = provider.getEngineApi();
 
-        this.calledNativeAPI(timers, "engine", "whyRecords");
+          this.callingNativeAPI(timers, "engine", "whyRecords");
 
-        if (result != 0) {
-          int errorCode = engineApi.getLastExceptionCode();
-          if (errorCode == DATA_SOURCE_NOT_FOUND_CODE
-              || errorCode == RECORD_NOT_FOUND_CODE) {
-            throw this.newBadRequestException(GET, uriInfo, timers, engineApi);
+          // perform the "why" operation
+          int result = engineApi.whyRecords(
+              dataSource1, recordId1, dataSource2, recordId2, flags, sb);
+
+          this.calledNativeAPI(timers, "engine", "whyRecords");
+
+          if (result != 0) {
+            int errorCode = engineApi.getLastExceptionCode();
+            if (errorCode == DATA_SOURCE_NOT_FOUND_CODE
+                || errorCode == RECORD_NOT_FOUND_CODE) {
+              throw this.newBadRequestException(GET, uriInfo, timers, engineApi);
+            }
+            throw this.newInternalServerErrorException(
+                GET, uriInfo, timers, engineApi);
           }
-          throw this.newInternalServerErrorException(
-              GET, uriInfo, timers, engineApi);
-        }
 
-        return sb.toString();
-      });
+          return sb.toString();
+        });
+
+        if (cache != null) cache.put(cacheKey, generation, rawData);
+      }
 
       this.processingRawData(timers);
       // parse the result
@@ -561,6 +607,8 @@ public class WhyServices implements ServicesSupport {
       final SzEntityIdentifier entityIdent1 = ident1;
       final SzEntityIdentifier entityIdent2 = ident2;
 
+      HowWhyCache cache = provider.getHowWhyCache();
+
       rawData = provider.executeInThread(() -> {
         StringBuffer sb = new StringBuffer();
 
@@ -571,6 +619,8 @@ public class WhyServices implements ServicesSupport {
 
         Long entityId1 = null;
         Long entityId2 = null;
+        String cacheKey = null;
+        long generation = 0L;
         boolean entitiesChanged = false;
         do {
           // set the entities changes flag to false
@@ -583,6 +633,15 @@ public class WhyServices implements ServicesSupport {
           entityId2 = this.resolveEntityId(
               GET, uriInfo, timers, engineApi, entityIdent2);
 
+          // check the cache now that we know the entity ID's
+          if (cache != null) {
+            cacheKey = HowWhyCache.formatKey(
+                "whyEntities", flags, entityId1, entityId2);
+            String cached = cache.get(cacheKey);
+            if (cached != null) return cached;
+            generation = cache.getGeneration();
+          }
+
           this.callingNativeAPI(timers, "engine", "whyEntities");
 
           // perform the "why" operation
@@ -615,7 +674,11 @@ public class WhyServices implements ServicesSupport {
 
         } while (entitiesChanged);
 
-        return sb.toString();
+        String text = sb.toString();
+        if (cache != null) {
+          cache.put(cacheKey, generation, text, entityId1, entityId2);
+        }
+        return text;
       });
 
       // construct the response
@@ -635,6 +698,448 @@ public class WhyServices implements ServicesSupport {
     }
   }
 
+  /**
+   * Implements the <tt>POST /why/batch</tt> operation which evaluates "why"
+   * for many pairs of entities or records in a single request.  The request
+   * body is a JSON object with either a <tt>"pairs"</tt> property that is a
+   * JSON array of two-element arrays of entity identifiers, or an
+   * <tt>"entities"</tt> property that is a JSON array of entity identifiers
+   * for which every pair is evaluated.  Pairs are unordered, so a pair and
+   * its reverse are evaluated (and reported) once.  The entity identifiers
+   * must all be entity ID's (evaluated as with <tt>GET /why/entities</tt>) or
+   * all be record ID objects (evaluated as with <tt>GET /why/records</tt>).
+   * <p>
+   * The evaluations are distributed across the engine threads with at most
+   * <tt>parallelism</tt> in flight and the results are streamed as
+   * JSON-lines in the order that they complete.  Each line is either an
+   * object with an <tt>"entity"</tt> property giving the details of an entity
+   * the first time it appears in any result, or an object with a
+   * <tt>"why"</tt> property describing the result for a pair.  If
+   * <tt>summaryOnly</tt> is <tt>true</tt> then no entities are sent and each
+   * result only has the entity ID's, why key, match level, resolution rule
+   * and the best score for each feature type, which are read directly from
+   * the native JSON without building the full why result.
+   *
+   * @param summaryOnly          Whether or not only the summary of each result
+   *                             should be returned.
+   * @param parallelism          The maximum number of evaluations to run
+   *                             concurrently, which defaults to (and is
+   *                             limited by) the number of engine threads.
+   * @param forceMinimal         Whether or not the returned entities should be
+   *                             in the minimal format.
+   * @param detailLevel          The {@link SzDetailLevel} describing the
+   *                             requested level of detail for the entity
+   *                             data, if <code>null</code> this defaults to
+   *                             {@link SzDetailLevel#VERBOSE}.
+   * @param featureMode          The {@link SzFeatureMode} query parameter
+   *                             indicating how the features should be
+   *                             returned, if <code>null</code> this defaults
+   *                             to {@link SzFeatureMode#WITH_DUPLICATES}.
+   * @param withFeatureStats     Whether or not feature stats should be included
+   *                             with the returned entities.
+   * @param withInternalFeatures Whether or not internal features should be
+   *                             included with the returned entities.
+   * @param withRelationships    Whether or not relationships should be included
+   *                             in the returned entities.
+   * @param uriInfo              The {@link UriInfo} for the request.
+   * @param batchBody            The JSON request body identifying the pairs.
+   * @return The {@link Response} that streams the results.
+   */
+  @POST
+  @Path("why/batch")
+  @Produces({ APPLICATION_JSONLINES })
+  public Response whyBatch(
+      @DefaultValue("false") @QueryParam("summaryOnly") boolean summaryOnly,
+      @QueryParam("parallelism") Integer parallelism,
+      @DefaultValue("false") @QueryParam("forceMinimal") boolean forceMinimal,
+      @DefaultValue("VERBOSE") @QueryParam("detailLevel") SzDetailLevel detailLevel,
+      @DefaultValue("WITH_DUPLICATES") @QueryParam("featureMode") SzFeatureMode featureMode,
+      @DefaultValue("true") @QueryParam("withFeatureStats") boolean withFeatureStats,
+      @DefaultValue("true") @QueryParam("withInternalFeatures") boolean withInternalFeatures,
+      @DefaultValue("false") @QueryParam("withRelationships") boolean withRelationships,
+      @Context UriInfo uriInfo,
+      String batchBody) {
+    Timers timers = this.newTimers();
+    SzApiProvider provider = this.getApiProvider();
+
+    List<WhyPair> pairs;
+    try {
+      JsonObject jsonBody;
+      try {
+        jsonBody = JsonUtilities.parseJsonObject(batchBody);
+      } catch (Exception e) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "The request body must be a JSON object with either a \"pairs\" "
+                + "or an \"entities\" array of entity identifiers.");
+      }
+      pairs = this.parseWhyPairs(jsonBody, uriInfo, timers);
+
+      if (parallelism != null && parallelism < 1) {
+        throw this.newBadRequestException(
+            POST, uriInfo, timers,
+            "Parallelism must be greater than zero: " + parallelism);
+      }
+
+    } catch (WebApplicationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw this.newBadRequestException(POST, uriInfo, timers, e.getMessage());
+    }
+
+    // the summary does not use the entities so request as little as possible
+    final long flags = (summaryOnly)
+        ? this.getFlags(true, detailLevel, featureMode, false, false, false)
+        : this.getFlags(forceMinimal,
+                        detailLevel,
+                        featureMode,
+                        withFeatureStats,
+                        withInternalFeatures,
+                        withRelationships);
+
+    int concurrency = Math.max(1, provider.getConcurrency());
+    int threadCount = Math.max(1, Math.min(
+        pairs.size(),
+        (parallelism == null) ? concurrency : Math.min(parallelism, concurrency)));
+
+    // the evaluations tie up threads, so limit the number of concurrent batches
+    AccessToken accessToken
+        = this.prepareProlongedOperation(provider, POST, uriInfo, timers);
+
+    Set<Long> sentEntityIds = new HashSet<>();
+    StreamingOutput output = this.newParallelJsonLinesOutput(
+        provider,
+        pairs,
+        threadCount,
+        accessToken,
+        (pair) -> this.executeWhyPair(provider, pair, flags, uriInfo),
+        (pair, objectMapper, writer) -> {
+          Map<String, Object> result = new LinkedHashMap<>();
+          result.put("entity1", this.toJsonLinesIdentifier(pair.ident1));
+          result.put("entity2", this.toJsonLinesIdentifier(pair.ident2));
+
+          if (pair.error != null) {
+            result.put("error", pair.error);
+
+          } else if (summaryOnly) {
+            this.summarizeWhyPair(pair.rawData, result);
+
+          } else {
+            JsonObject jsonObject = JsonUtilities.parseJsonObject(pair.rawData);
+            JsonArray whyArray = jsonObject.getJsonArray("WHY_RESULTS");
+            JsonArray entityArray = jsonObject.getJsonArray("ENTITIES");
+
+            // send the details for each entity only the first time it is seen
+            List<SzEntityData> entities = this.parseEntityDataList(
+                entityArray, provider::getAttributeClassForFeature);
+            for (SzEntityData entityData : entities) {
+              long entityId = entityData.getResolvedEntity().getEntityId();
+              if (!sentEntityIds.add(entityId)) continue;
+              writer.append(objectMapper.writeValueAsString(
+                  Collections.singletonMap("entity", entityData)));
+              writer.append('\n');
+            }
+
+            List<?> whyResults = (pair.ident1 instanceof SzRecordId)
+                ? this.parseWhyRecordsResultList(whyArray)
+                : SzWhyEntitiesResult.parseWhyEntitiesResultList(null, whyArray);
+            if (whyResults.size() != 1) {
+              throw new IllegalStateException(
+                  "Unexpected number of why results (" + whyResults.size()
+                      + ") for pair: " + pair.ident1 + " / " + pair.ident2);
+            }
+            result.put("result", whyResults.get(0));
+          }
+
+          writer.append(objectMapper.writeValueAsString(
+              Collections.singletonMap("why", result)));
+          writer.append('\n');
+          return true;
+        });
+
+    return Response.ok(output, APPLICATION_JSONLINES).build();
+  }
+
+  /**
+   * Describes a single pair of entities or records to be evaluated for
+   * <tt>POST /why/batch</tt> along with the result of the evaluation.
+   */
+  protected static class WhyPair {
+    /**
+     * The {@link SzEntityIdentifier} for the first entity or record.
+     */
+    protected final SzEntityIdentifier ident1;
+
+    /**
+     * The {@link SzEntityIdentifier} for the second entity or record.
+     */
+    protected final SzEntityIdentifier ident2;
+
+    /**
+     * The raw native JSON result of the evaluation, or <tt>null</tt> if the
+     * evaluation failed or has not completed.
+     */
+    protected String rawData = null;
+
+    /**
+     * The error message if one of the entities or records was not found,
+     * otherwise <tt>null</tt>.
+     */
+    protected String error = null;
+
+    /**
+     * Constructs with the identifiers for the pair.
+     *
+     * @param ident1 The {@link SzEntityIdentifier} for the first entity or
+     *               record.
+     * @param ident2 The {@link SzEntityIdentifier} for the second entity or
+     *               record.
+     */
+    protected WhyPair(SzEntityIdentifier ident1, SzEntityIdentifier ident2) {
+      this.ident1 = ident1;
+      this.ident2 = ident2;
+    }
+  }
+
+  /**
+   * Parses the distinct pairs to evaluate from the request body for
+   * <tt>POST /why/batch</tt>.  The pairs are unordered, so a pair that is the
+   * reverse of an earlier pair is dropped rather than evaluated again.
+   *
+   * @param jsonBody The {@link JsonObject} for the request body.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @param timers   The {@link Timers} for the operation.
+   * @return The non-empty {@link List} of distinct {@link WhyPair} instances
+   *         in the order they were specified.
+   * @throws BadRequestException If the request body is not valid.
+   */
+  protected List<WhyPair> parseWhyPairs(JsonObject jsonBody,
+                                        UriInfo    uriInfo,
+                                        Timers     timers)
+  {
+    JsonValue pairsValue = jsonBody.get("pairs");
+    JsonValue entitiesValue = jsonBody.get("entities");
+    if ((pairsValue == null) == (entitiesValue == null)) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The request body must have exactly one of the \"pairs\" or "
+              + "\"entities\" properties.");
+    }
+
+    String propName = (pairsValue != null) ? "pairs" : "entities";
+    JsonValue jsonValue = (pairsValue != null) ? pairsValue : entitiesValue;
+    if (jsonValue.getValueType() != JsonValue.ValueType.ARRAY
+        || jsonValue.asJsonArray().size() == 0)
+    {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The \"" + propName + "\" property of the request body must be a "
+              + "non-empty array.");
+    }
+
+    Set<List<SzEntityIdentifier>> identPairs = new LinkedHashSet<>();
+    try {
+      if (pairsValue != null) {
+        for (JsonValue pairValue : pairsValue.asJsonArray()) {
+          List<SzEntityIdentifier> pair = new ArrayList<>(
+              this.parseEntityIdentifiers(
+                  JsonUtilities.toJsonText(pairValue)).getIdentifiers());
+          if (pair.size() != 2) {
+            throw new IllegalArgumentException(
+                "Each pair must have two distinct entity identifiers: "
+                    + JsonUtilities.toJsonText(pairValue));
+          }
+          // pairs are unordered so a reversed pair is only evaluated once
+          if (identPairs.contains(List.of(pair.get(1), pair.get(0)))) continue;
+          identPairs.add(pair);
+        }
+      } else {
+        List<SzEntityIdentifier> idents = new ArrayList<>(
+            new LinkedHashSet<>(this.parseEntityIdentifiers(
+                JsonUtilities.toJsonText(entitiesValue)).getIdentifiers()));
+        long pairCount = ((long) idents.size()) * (idents.size() - 1) / 2;
+        if (pairCount > MAX_WHY_BATCH_PAIRS) {
+          throw this.newBadRequestException(
+              POST, uriInfo, timers,
+              "The number of pairs (" + pairCount + ") exceeds the maximum "
+                  + "of " + MAX_WHY_BATCH_PAIRS + ".");
+        }
+        for (int index1 = 0; index1 < idents.size(); index1++) {
+          for (int index2 = index1 + 1; index2 < idents.size(); index2++) {
+            identPairs.add(List.of(idents.get(index1), idents.get(index2)));
+          }
+        }
+      }
+    } catch (WebApplicationException e) {
+      throw e;
+    } catch (Exception e) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The \"" + propName + "\" property of the request body is not "
+              + "formatted correctly: " + e.getMessage());
+    }
+
+    if (identPairs.size() == 0) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The request body must identify at least one pair.");
+    }
+    if (identPairs.size() > MAX_WHY_BATCH_PAIRS) {
+      throw this.newBadRequestException(
+          POST, uriInfo, timers,
+          "The number of pairs (" + identPairs.size() + ") exceeds the "
+              + "maximum of " + MAX_WHY_BATCH_PAIRS + ".");
+    }
+
+    // check for consistent identifier types
+    Class<?> identClass = null;
+    List<WhyPair> result = new ArrayList<>(identPairs.size());
+    for (List<SzEntityIdentifier> identPair : identPairs) {
+      for (SzEntityIdentifier ident : identPair) {
+        if (identClass == null) identClass = ident.getClass();
+        if (ident.getClass() != identClass) {
+          throw this.newBadRequestException(
+              POST, uriInfo, timers,
+              "Entity identifiers must be consistent types: " + identPair);
+        }
+      }
+      result.add(new WhyPair(identPair.get(0), identPair.get(1)));
+    }
+    return result;
+  }
+
+  /**
+   * Evaluates the specified {@link WhyPair} and records its result.  A
+   * failure because one of the entities or records was not found is recorded
+   * as the error for the pair rather than failing the entire batch.  This
+   * must be called from an engine thread.
+   *
+   * @param provider The {@link SzApiProvider} to use.
+   * @param pair     The {@link WhyPair} to evaluate.
+   * @param flags    The flags for the evaluation.
+   * @param uriInfo  The {@link UriInfo} for the request.
+   * @throws InternalServerErrorException If the evaluation fails for any
+   *                                      reason other than an entity or
+   *                                      record not being found.
+   */
+  protected void executeWhyPair(SzApiProvider provider,
+                                WhyPair       pair,
+                                long          flags,
+                                UriInfo       uriInfo)
+  {
+    // the cache keys are shared with GET /why/records and GET /why/entities
+    HowWhyCache cache = provider.getHowWhyCache();
+    String cacheKey;
+    if (pair.ident1 instanceof SzRecordId) {
+      SzRecordId recordId1 = (SzRecordId) pair.ident1;
+      SzRecordId recordId2 = (SzRecordId) pair.ident2;
+      cacheKey = HowWhyCache.formatKey("whyRecords",
+                                       flags,
+                                       recordId1.getDataSourceCode(),
+                                       recordId1.getRecordId(),
+                                       recordId2.getDataSourceCode(),
+                                       recordId2.getRecordId());
+    } else {
+      cacheKey = HowWhyCache.formatKey("whyEntities",
+                                       flags,
+                                       ((SzEntityId) pair.ident1).getValue(),
+                                       ((SzEntityId) pair.ident2).getValue());
+    }
+    pair.rawData = (cache == null) ? null : cache.get(cacheKey);
+    if (pair.rawData != null) return;
+    long generation = (cache == null) ? 0L : cache.getGeneration();
+
+    G2Engine engineApi = provider.getEngineApi();
+    StringBuffer sb = new StringBuffer();
+    int result;
+    if (pair.ident1 instanceof SzRecordId) {
+      SzRecordId recordId1 = (SzRecordId) pair.ident1;
+      SzRecordId recordId2 = (SzRecordId) pair.ident2;
+      this.callingNativeAPI(null, "engine", "whyRecords");
+      result = engineApi.whyRecords(recordId1.getDataSourceCode(),
+                                    recordId1.getRecordId(),
+                                    recordId2.getDataSourceCode(),
+                                    recordId2.getRecordId(),
+                                    flags,
+                                    sb);
+      this.calledNativeAPI(null, "engine", "whyRecords");
+    } else {
+      this.callingNativeAPI(null, "engine", "whyEntities");
+      result = engineApi.whyEntities(((SzEntityId) pair.ident1).getValue(),
+                                     ((SzEntityId) pair.ident2).getValue(),
+                                     flags,
+                                     sb);
+      this.calledNativeAPI(null, "engine", "whyEntities");
+    }
+    if (result == 0) {
+      pair.rawData = sb.toString();
+      if (cache != null) cache.put(cacheKey, generation, pair.rawData);
+      return;
+    }
+    int errorCode = engineApi.getLastExceptionCode();
+    if (errorCode == DATA_SOURCE_NOT_FOUND_CODE
+        || errorCode == RECORD_NOT_FOUND_CODE
+        || errorCode == ENTITY_NOT_FOUND_CODE) {
+      pair.error = engineApi.getLastException();
+      return;
+    }
+    throw this.newInternalServerErrorException(POST, uriInfo, null, engineApi);
+  }
+
+  /**
+   * Adds the summary of the specified raw native "why" result to the
+   * specified {@link Map}.  The summary is read directly from the
+   * <tt>"MATCH_INFO"</tt> of the native JSON and consists of the entity ID's,
+   * why key, match level, resolution rule code and the best (highest) full
+   * score for each feature type.
+   *
+   * @param rawData The raw native JSON for the result.
+   * @param summary The {@link Map} to add the summary properties to.
+   */
+  protected void summarizeWhyPair(String rawData, Map<String, Object> summary)
+  {
+    JsonObject jsonObject = JsonUtilities.parseJsonObject(rawData);
+    JsonObject whyObject = jsonObject.getJsonArray("WHY_RESULTS")
+        .getJsonObject(0);
+    JsonObject matchInfo = JsonUtilities.getJsonObject(whyObject, "MATCH_INFO");
+
+    summary.put("entityId1", JsonUtilities.getLong(whyObject, "ENTITY_ID"));
+    summary.put("entityId2", JsonUtilities.getLong(whyObject, "ENTITY_ID_2"));
+
+    String whyKey = JsonUtilities.getString(matchInfo, "WHY_KEY");
+    if (whyKey != null && whyKey.trim().length() > 0) {
+      summary.put("whyKey", whyKey);
+    }
+
+    SzMatchLevel matchLevel = SzMatchLevel.NO_MATCH;
+    String matchLevelCode
+        = JsonUtilities.getString(matchInfo, "MATCH_LEVEL_CODE");
+    if (matchLevelCode != null && matchLevelCode.trim().length() > 0) {
+      matchLevel = SzMatchLevel.valueOf(matchLevelCode);
+    }
+    summary.put("matchLevel", matchLevel);
+
+    String ruleCode = JsonUtilities.getString(matchInfo, "WHY_ERRULE_CODE");
+    if (ruleCode != null && ruleCode.trim().length() > 0) {
+      summary.put("resolutionRule", ruleCode);
+    }
+
+    Map<String, Integer> bestScores = new LinkedHashMap<>();
+    JsonObject featureScores
+        = JsonUtilities.getJsonObject(matchInfo, "FEATURE_SCORES");
+    if (featureScores != null) {
+      featureScores.forEach((featureType, scoresValue) -> {
+        for (JsonValue scoreValue : scoresValue.asJsonArray()) {
+          Integer score = JsonUtilities.getInteger(
+              scoreValue.asJsonObject(), "FULL_SCORE");
+          if (score == null) continue;
+          bestScores.merge(featureType, score, Math::max);
+        }
+      });
+    }
+    summary.put("bestScores", bestScores);
+  }
+
   /**
    * Determines if the failure that occurred with respect to the specified
    * {@link G2Engine} instance and either returns a {@link NotFoundException}
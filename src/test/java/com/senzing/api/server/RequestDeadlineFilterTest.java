@@ -0,0 +1,279 @@
+package com.senzing.api.server;
+
+import com.senzing.api.model.SzHttpMethod;
+import com.senzing.api.services.RequestDeadline;
+import com.senzing.util.JsonUtilities;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.json.JsonObject;
+import javax.servlet.FilterChain;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+import static com.senzing.api.server.RequestDeadlineFilter.*;
+
+/**
+ * Tests the parsing of the request timeout specification and the selection
+ * of the timeout for a request by {@link RequestDeadlineFilter}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class RequestDeadlineFilterTest {
+  private HttpServletRequest newProxyRequest(String path, String header) {
+    InvocationHandler handler = (p, m, a) -> {
+      switch (m.getName()) {
+        case "getRequestURI":
+          return path;
+        case "getContextPath":
+          return "";
+        case "getMethod":
+          return "GET";
+        case "getHeader":
+          return RequestDeadline.TIMEOUT_HEADER.equals(a[0]) ? header : null;
+        case "getAttribute":
+        case "getQueryString":
+          return null;
+        case "getScheme":
+          return "http";
+        case "getServerName":
+          return "localhost";
+        case "getServerPort":
+          return 8080;
+        default:
+          throw new UnsupportedOperationException(
+              "Operation not implemented on proxy HttpServletRequest: "
+                  + m.getName());
+      }
+    };
+
+    ClassLoader loader = this.getClass().getClassLoader();
+    Class[] classes = { HttpServletRequest.class };
+
+    return (HttpServletRequest) Proxy.newProxyInstance(loader, classes, handler);
+  }
+
+  private HttpServletResponse newProxyResponse(List<Integer>  errors,
+                                               StringWriter   body)
+  {
+    InvocationHandler handler = (p, m, a) -> {
+      switch (m.getName()) {
+        case "sendError":
+        case "setStatus":
+          errors.add((Integer) a[0]);
+          return null;
+        case "setContentType":
+        case "setCharacterEncoding":
+          return null;
+        case "getWriter":
+          return new PrintWriter(body);
+        default:
+          throw new UnsupportedOperationException(
+              "Operation not implemented on proxy HttpServletResponse: "
+                  + m.getName());
+      }
+    };
+
+    ClassLoader loader = this.getClass().getClassLoader();
+    Class[] classes = { HttpServletResponse.class };
+
+    return (HttpServletResponse) Proxy.newProxyInstance(
+        loader, classes, handler);
+  }
+
+  private RequestDeadline filter(String spec, String path, String header)
+      throws Exception
+  {
+    RequestDeadlineFilter filter = new RequestDeadlineFilter(
+        (spec == null) ? null : parseTimeouts(spec));
+    RequestDeadline[] result = { null };
+    FilterChain chain = (request, response) -> {
+      result[0] = RequestDeadline.getCurrent();
+    };
+    List<Integer> errors = new ArrayList<>();
+    filter.doFilter(this.newProxyRequest(path, header),
+                    this.newProxyResponse(errors, new StringWriter()),
+                    chain);
+    assertEquals(Collections.emptyList(), errors,
+                 "Unexpected errors sent for the request");
+    assertNotNull(result[0], "No deadline set while filtering the request");
+    assertNull(RequestDeadline.getCurrent(),
+               "Deadline not cleared after filtering the request");
+    return result[0];
+  }
+
+  @Test
+  public void testParseTimeouts() {
+    Map<String, Long> expected = new LinkedHashMap<>();
+    expected.put(DEFAULT_TIMEOUT_KEY, 30000L);
+    expected.put("search-entities", 10000L);
+    expected.put("entity-networks", 1500L);
+    assertEquals(expected, parseTimeouts(
+        "30, search-entities=10, /entity-networks=1.5"),
+                 "Unexpected parsed timeouts");
+
+    expected.clear();
+    expected.put(DEFAULT_TIMEOUT_KEY, 30000L);
+    expected.put("entities/export", 0L);
+    assertEquals(expected, parseTimeouts("30,entities/export=0"),
+                 "Unexpected parsed timeouts with a zero timeout");
+
+    expected.clear();
+    expected.put("entities", 5000L);
+    assertEquals(expected, parseTimeouts("entities=5"),
+                 "Unexpected parsed timeouts without a default");
+
+    assertEquals(Collections.singletonMap(DEFAULT_TIMEOUT_KEY, 1L),
+                 parseTimeouts("0.0001"),
+                 "Fractional timeout not rounded up to a millisecond");
+    assertEquals(Collections.emptyMap(), parseTimeouts(null),
+                 "Unexpected timeouts for null specification");
+  }
+
+  @Test
+  public void testParseInvalidTimeouts() {
+    String[] specs = {
+        "",
+        "30,,entities=5",
+        "entities=5,30",
+        "=5",
+        "entities=5,/entities=10",
+        "entities=abc",
+        "entities=-0.5",
+        "-1",
+        "NaN",
+        "Infinity"
+    };
+    for (String spec : specs) {
+      assertThrows(IllegalArgumentException.class,
+                   () -> parseTimeouts(spec),
+                   "Invalid specification accepted: " + spec);
+    }
+  }
+
+  @Test
+  public void testLongestPrefixMatch() {
+    RequestDeadlineFilter filter = new RequestDeadlineFilter(parseTimeouts(
+        "30,entities=10,entities/123=5,data-sources/=20"));
+
+    assertEquals(30000L, filter.getDefaultTimeout("/license"),
+                 "Default timeout not used for unmatched path");
+    assertEquals(10000L, filter.getDefaultTimeout("/entities"),
+                 "Exact prefix match not used");
+    assertEquals(10000L, filter.getDefaultTimeout("/entities/12"),
+                 "Shorter prefix not used");
+    assertEquals(5000L, filter.getDefaultTimeout("/entities/123"),
+                 "Longest prefix not used");
+    assertEquals(5000L, filter.getDefaultTimeout("entities/123/records"),
+                 "Longest prefix not used for nested path");
+    assertEquals(10000L, filter.getDefaultTimeout("/entities/1234"),
+                 "Prefix matched within a path segment");
+    assertEquals(30000L, filter.getDefaultTimeout("/entities-search"),
+                 "Prefix matched within a path segment");
+    assertEquals(20000L, filter.getDefaultTimeout("/data-sources/TEST"),
+                 "Prefix ending with a slash not matched");
+
+    RequestDeadlineFilter exempt = new RequestDeadlineFilter(parseTimeouts(
+        "30,entities/export=0,entity-changes=0"));
+    assertNull(exempt.getDefaultTimeout("/entities/export"),
+               "Timeout found for a prefix with a zero timeout");
+    assertNull(exempt.getDefaultTimeout("/entity-changes"),
+               "Timeout found for a prefix with a zero timeout");
+    assertEquals(30000L, exempt.getDefaultTimeout("/entities/1"),
+                 "Default timeout not used beside an exempt prefix");
+
+    RequestDeadlineFilter noDefault
+        = new RequestDeadlineFilter(parseTimeouts("entities=10"));
+    assertNull(noDefault.getDefaultTimeout("/license"),
+               "Timeout found for unmatched path without a default");
+    assertNull(new RequestDeadlineFilter(null).getDefaultTimeout("/entities"),
+               "Timeout found without configured timeouts");
+  }
+
+  @Test
+  public void testHeaderShortensConfiguredTimeout() throws Exception {
+    RequestDeadline deadline = this.filter("30", "/entities", "2");
+    assertTrue(deadline.hasDeadline(), "Request has no deadline");
+    assertTrue(deadline.getRemainingMillis() <= 2000L,
+               "Header did not shorten the configured timeout: "
+                   + deadline.getRemainingMillis());
+    assertEquals(SzHttpMethod.GET, deadline.getHttpMethod(),
+                 "Unexpected HTTP method for the deadline");
+    assertNotNull(deadline.getRequest(), "Request not kept for the deadline");
+  }
+
+  @Test
+  public void testHeaderCannotExtendConfiguredTimeout() throws Exception {
+    RequestDeadline deadline
+        = this.filter("30,entities=5", "/entities/1", "60");
+    assertTrue(deadline.hasDeadline(), "Request has no deadline");
+    long remaining = deadline.getRemainingMillis();
+    assertTrue(remaining <= 5000L && remaining > 4000L,
+               "Header extended the configured timeout: " + remaining);
+  }
+
+  @Test
+  public void testHeaderWithoutConfiguredTimeout() throws Exception {
+    RequestDeadline deadline = this.filter(null, "/entities", "2");
+    assertTrue(deadline.hasDeadline(), "Request has no deadline");
+    long remaining = deadline.getRemainingMillis();
+    assertTrue(remaining <= 2000L && remaining > 1000L,
+               "Header timeout not used: " + remaining);
+
+    deadline = this.filter(null, "/entities", null);
+    assertFalse(deadline.hasDeadline(),
+                "Request without a timeout has a deadline");
+  }
+
+  @Test
+  public void testZeroTimeoutExemptsPrefix() throws Exception {
+    RequestDeadline deadline
+        = this.filter("30,entities/export=0", "/entities/export", null);
+    assertFalse(deadline.hasDeadline(),
+                "Request under an exempt prefix has a deadline");
+
+    // the client may still ask for a deadline on an exempt endpoint
+    deadline = this.filter("30,entities/export=0", "/entities/export", "2");
+    assertTrue(deadline.hasDeadline(), "Header timeout not used");
+    assertTrue(deadline.getRemainingMillis() <= 2000L,
+               "Header timeout not used: " + deadline.getRemainingMillis());
+  }
+
+  @Test
+  public void testInvalidHeader() throws Exception {
+    RequestDeadlineFilter filter
+        = new RequestDeadlineFilter(parseTimeouts("30"));
+    for (String header : Arrays.asList("soon", "0", "-2")) {
+      boolean[] called = { false };
+      List<Integer> errors = new ArrayList<>();
+      StringWriter body = new StringWriter();
+      filter.doFilter(this.newProxyRequest("/entities", header),
+                      this.newProxyResponse(errors, body),
+                      (request, response) -> called[0] = true);
+      assertFalse(called[0], "Request with an invalid header was handled: "
+          + header);
+      assertEquals(Collections.singletonList(400), errors,
+                   "Unexpected errors sent for an invalid header: " + header);
+
+      JsonObject jsonObject = JsonUtilities.parseJsonObject(body.toString());
+      assertEquals(400, jsonObject.getJsonObject("meta").getInt("httpStatusCode"),
+                   "Unexpected status in the error response: " + body);
+      assertEquals("/entities",
+                   jsonObject.getJsonObject("links").getString("self"),
+                   "Unexpected self link in the error response: " + body);
+      String message = jsonObject.getJsonArray("errors")
+          .getJsonObject(0).getString("message");
+      assertTrue(message.contains(RequestDeadline.TIMEOUT_HEADER),
+                 "Error message does not name the header: " + message);
+    }
+  }
+}
@@ -0,0 +1,249 @@
+package com.senzing.api.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+import static com.senzing.api.services.AdaptiveConcurrencyLimiter.*;
+
+/**
+ * Tests the gradient rule by which {@link AdaptiveConcurrencyLimiter} adapts
+ * its limit to the latency samples of each sampling window, using a clock
+ * that the test advances so that no real time has to pass.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class AdaptiveConcurrencyLimiterTest {
+  private static final int MIN_LIMIT = 10;
+
+  private static final int MAX_LIMIT = 40;
+
+  private static final long BASELINE_NANOS = 1000000L;
+
+  private long nanoTime;
+
+  private AdaptiveConcurrencyLimiter limiter;
+
+  @BeforeEach
+  public void setup() {
+    this.nanoTime = 0L;
+    this.limiter = new AdaptiveConcurrencyLimiter(
+        MIN_LIMIT, MAX_LIMIT, () -> this.nanoTime);
+  }
+
+  /**
+   * Completes a sampling window in which the specified number of tasks run
+   * concurrently with the specified latency, returning the limit after the
+   * window.
+   */
+  private int runWindow(int inFlightCount, long latencyNanos)
+      throws Exception
+  {
+    for (int index = 0; index < inFlightCount; index++) {
+      assertTrue(this.limiter.acquire(0L),
+                 "Permit " + index + " not acquired within the limit of "
+                     + this.limiter.getLimit());
+    }
+    for (int index = 0; index < inFlightCount; index++) {
+      // end the window with the last sample
+      if (index == inFlightCount - 1) this.nanoTime += WINDOW_NANOS;
+      this.limiter.release(latencyNanos);
+    }
+    assertEquals(0, this.limiter.getInFlightCount(),
+                 "Permits not released");
+    return this.limiter.getLimit();
+  }
+
+  /**
+   * Completes a sampling window with the limit fully used.
+   */
+  private int runFullWindow(long latencyNanos) throws Exception {
+    return this.runWindow(this.limiter.getLimit(), latencyNanos);
+  }
+
+  /**
+   * Shrinks the limit by completing windows with ten times the baseline
+   * latency.
+   */
+  private int shrink(int windowCount) throws Exception {
+    this.runFullWindow(BASELINE_NANOS);
+    int limit = MAX_LIMIT;
+    for (int index = 0; index < windowCount; index++) {
+      limit = this.runFullWindow(10 * BASELINE_NANOS);
+    }
+    return limit;
+  }
+
+  @Test
+  public void testStartsAtMaximum() throws Exception {
+    assertEquals(MAX_LIMIT, this.limiter.getLimit(),
+                 "Limit does not start at the maximum");
+    assertEquals(MAX_LIMIT, this.runFullWindow(BASELINE_NANOS),
+                 "Limit changed at the baseline latency");
+    assertEquals(BASELINE_NANOS / 1000000.0, this.limiter.getBaselineLatency(),
+                 "First window not used as the baseline");
+  }
+
+  @Test
+  public void testWindowNeedsTimeAndSamples() throws Exception {
+    this.runFullWindow(BASELINE_NANOS);
+
+    // too few samples: the window stays open even though time has passed
+    for (int index = 0; index < MIN_WINDOW_SAMPLES - 1; index++) {
+      assertTrue(this.limiter.acquire(0L), "Permit not acquired");
+    }
+    this.nanoTime += WINDOW_NANOS;
+    for (int index = 0; index < MIN_WINDOW_SAMPLES - 1; index++) {
+      this.limiter.release(10 * BASELINE_NANOS);
+    }
+    assertEquals(MAX_LIMIT, this.limiter.getLimit(),
+                 "Limit adjusted with too few samples");
+    assertEquals(0L, this.limiter.getDecreaseCount(),
+                 "Limit decreased with too few samples");
+
+    // too little time: the window stays open with enough samples
+    this.setup();
+    this.runFullWindow(BASELINE_NANOS);
+    for (int index = 0; index < MAX_LIMIT; index++) {
+      assertTrue(this.limiter.acquire(0L), "Permit not acquired");
+    }
+    this.nanoTime += WINDOW_NANOS / 2;
+    for (int index = 0; index < MAX_LIMIT; index++) {
+      this.limiter.release(10 * BASELINE_NANOS);
+    }
+    assertEquals(MAX_LIMIT, this.limiter.getLimit(),
+                 "Limit adjusted before the window elapsed");
+  }
+
+  @Test
+  public void testShrinksAboveTolerance() throws Exception {
+    this.runFullWindow(BASELINE_NANOS);
+
+    int previous = MAX_LIMIT;
+    for (int index = 0; index < 5; index++) {
+      int limit = this.runFullWindow(10 * BASELINE_NANOS);
+      assertTrue(limit < previous,
+                 "Limit did not shrink in window " + index + ": " + limit);
+
+      // the gradient is clamped so each window removes at most half the
+      // limit, which after smoothing is at most a tenth of it
+      assertTrue(limit >= (int) Math.floor(previous * (1.0 - SMOOTHING
+                                                       * (1.0 - MIN_GRADIENT))),
+                 "Limit shrank faster than the clamped gradient allows: "
+                     + previous + " -> " + limit);
+      previous = limit;
+    }
+    assertEquals(5L, this.limiter.getDecreaseCount(),
+                 "Unexpected decrease count");
+    assertEquals(0L, this.limiter.getIncreaseCount(),
+                 "Unexpected increase count");
+  }
+
+  @Test
+  public void testToleratesLatencyWithinTolerance() throws Exception {
+    int limit = this.shrink(3);
+
+    // latency just under the tolerance grows the limit rather than shrinking
+    long decreaseCount = this.limiter.getDecreaseCount();
+    double baseline = this.limiter.getBaselineLatency() * 1000000.0;
+    long latency = (long) (baseline * LATENCY_TOLERANCE * 0.95);
+    int next = this.runFullWindow(latency);
+    assertEquals(decreaseCount, this.limiter.getDecreaseCount(),
+                 "Limit decreased within the latency tolerance");
+    assertTrue(next >= limit, "Limit shrank within the latency tolerance: "
+        + limit + " -> " + next);
+  }
+
+  @Test
+  public void testGrowsBackToMaximum() throws Exception {
+    int limit = this.shrink(5);
+    assertTrue(limit < MAX_LIMIT, "Limit did not shrink: " + limit);
+    long decreaseCount = this.limiter.getDecreaseCount();
+
+    int previous = limit;
+    int windowCount = 0;
+    while (previous < MAX_LIMIT) {
+      assertTrue(++windowCount <= 50,
+                 "Limit did not grow back to the maximum: " + previous);
+      int next = this.runFullWindow(BASELINE_NANOS);
+      assertTrue(next >= previous,
+                 "Limit shrank while recovering: " + previous + " -> " + next);
+      // growth is roughly the square root of the limit, after smoothing
+      assertTrue(next - previous <= Math.ceil(Math.sqrt(previous)),
+                 "Limit grew faster than the square root rule: "
+                     + previous + " -> " + next);
+      previous = next;
+    }
+    assertTrue(this.limiter.getIncreaseCount() > 0L,
+               "Increases were not counted");
+    assertEquals(decreaseCount, this.limiter.getDecreaseCount(),
+                 "Limit decreased while recovering");
+
+    // the limit never exceeds the maximum
+    assertEquals(MAX_LIMIT, this.runFullWindow(BASELINE_NANOS),
+                 "Limit exceeded the maximum");
+  }
+
+  @Test
+  public void testSkipsWindowWithFewInFlight() throws Exception {
+    int limit = this.shrink(2);
+    long decreaseCount = this.limiter.getDecreaseCount();
+    long increaseCount = this.limiter.getIncreaseCount();
+
+    // fewer than half the permitted tasks says nothing about the latency
+    int inFlight = Math.max(MIN_WINDOW_SAMPLES, (limit / 2) - 1);
+    assertTrue(inFlight < limit / 2.0, "Test needs a larger limit: " + limit);
+    assertEquals(limit, this.runWindow(inFlight, 10 * BASELINE_NANOS),
+                 "Limit adjusted with too few tasks executing");
+    assertEquals(limit, this.runWindow(inFlight, BASELINE_NANOS),
+                 "Limit adjusted with too few tasks executing");
+    assertEquals(decreaseCount, this.limiter.getDecreaseCount(),
+                 "Decrease counted with too few tasks executing");
+    assertEquals(increaseCount, this.limiter.getIncreaseCount(),
+                 "Increase counted with too few tasks executing");
+  }
+
+  @Test
+  public void testNeverBelowMinimum() throws Exception {
+    this.runFullWindow(BASELINE_NANOS);
+
+    // keep the latency climbing so the baseline never catches up with it
+    long latency = BASELINE_NANOS;
+    for (int index = 0; index < 25; index++) {
+      latency *= 2;
+      int limit = this.runFullWindow(latency);
+      assertTrue(limit >= MIN_LIMIT, "Limit fell below the minimum: " + limit);
+    }
+    assertEquals(MIN_LIMIT, this.limiter.getLimit(),
+                 "Limit did not reach the minimum");
+  }
+
+  @Test
+  public void testAcquireWaitsAtLimit() throws Exception {
+    for (int index = 0; index < MAX_LIMIT; index++) {
+      assertTrue(this.limiter.acquire(0L), "Permit not acquired");
+    }
+    assertFalse(this.limiter.acquire(50L), "Permit acquired beyond the limit");
+    assertEquals(1L, this.limiter.getWaitCount(), "Wait not counted");
+
+    Thread releaser = new Thread(() -> this.limiter.release(BASELINE_NANOS));
+    releaser.start();
+    assertTrue(this.limiter.acquire(10000L),
+               "Permit not acquired after another was released");
+    releaser.join();
+    assertEquals(MAX_LIMIT, this.limiter.getInFlightCount(),
+                 "Unexpected in-flight count");
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    assertThrows(IllegalArgumentException.class,
+                 () -> new AdaptiveConcurrencyLimiter(0, 10));
+    assertThrows(IllegalArgumentException.class,
+                 () -> new AdaptiveConcurrencyLimiter(10, 5));
+  }
+}
@@ -94,7 +94,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed CSV records with wrong media type "
                 + "with no error: " + badMediaType);
@@ -117,6 +119,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -204,7 +209,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed JSON records with wrong media type "
                 + "with no error: " + badMediaType);
@@ -227,6 +234,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -313,7 +323,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed JSON-lines records with wrong media "
                 + "type with no error: " + badMediaType);
@@ -336,6 +348,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -418,6 +433,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
             mapDataSourceList,
             null,
             0,
+            false,
+            null,
+            null,
             mediaType,
             fis,
             null,
@@ -685,6 +703,9 @@ public class BulkDataServicesReadOnlyTest extends BulkDataServicesTest {
             null,
             null,
             maxFailures == null ? -1 : maxFailures,
+            false,
+            null,
+            null,
             MediaType.valueOf("text/plain"),
             bis,
             null,
@@ -543,7 +543,7 @@ public class BulkDataServicesTest extends AbstractServiceTest {
       try (FileInputStream fis = new FileInputStream(bulkDataFile)) {
         long before = System.nanoTime();
         SzBulkDataAnalysisResponse response = this.bulkDataServices.analyzeBulkRecordsViaForm(
-            mediaType, fis, uriInfo);
+            mediaType, fis, uriInfo, null, null);
         response.concludeTimers();
         long after = System.nanoTime();
 
@@ -567,6 +567,141 @@ public class BulkDataServicesTest extends AbstractServiceTest {
     });
   }
 
+  @Test
+  public void analyzeBulkRecordsInParallel() {
+    this.performTest(() -> {
+      String uriText = this.formatServerUri(
+          "bulk-data/analyze?analysisMode=PARALLEL");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText);
+
+      String testInfo = "Test CSV analyzed in parallel";
+      File bulkDataFile = null;
+      String CSV_SPEC = "text/csv";
+      MediaType mediaType = MediaType.valueOf(CSV_SPEC);
+      int recordCount = 2500;
+
+      SzBulkDataAnalysis expected = SzBulkDataAnalysis.FACTORY.create();
+      SzDataSourceRecordAnalysis sourceAnalysis = SzDataSourceRecordAnalysis.FACTORY.create(CUSTOMER_DATA_SOURCE);
+      sourceAnalysis.setRecordCount(recordCount);
+      sourceAnalysis.setRecordsWithRecordIdCount(recordCount);
+
+      expected.setMediaType(String.valueOf(mediaType));
+      expected.setAnalysisMode(SzBulkDataAnalysisMode.PARALLEL);
+      expected.setAnalysisByDataSource(List.of(sourceAnalysis));
+      expected.setCharacterEncoding(UTF_8);
+      expected.setRecordsWithRecordIdCount(recordCount);
+      expected.setStatus(COMPLETED);
+      expected.setRecordsWithDataSourceCount(recordCount);
+
+      try {
+        bulkDataFile = File.createTempFile("bulk-data-", ".csv");
+
+        try (FileOutputStream fos = new FileOutputStream(bulkDataFile);
+            OutputStreamWriter osw = new OutputStreamWriter(fos, UTF_8);
+            PrintWriter pw = new PrintWriter(new BufferedWriter(osw))) {
+          pw.println("RECORD_ID,DATA_SOURCE,NAME_FULL,ADDR_FULL");
+          for (int index = 0; index < recordCount; index++) {
+            pw.println("REC-" + index + "," + CUSTOMER_DATA_SOURCE
+                + ",\"JOE SCHMOE " + index + "\",\"" + index
+                + " MAIN STREET\nLAS VEGAS, NV\"");
+          }
+          pw.flush();
+        }
+
+      } catch (IOException e) {
+        fail(e);
+      }
+
+      try (FileInputStream fis = new FileInputStream(bulkDataFile)) {
+        long before = System.nanoTime();
+        SzBulkDataAnalysisResponse response = this.bulkDataServices.analyzeBulkRecordsViaForm(
+            mediaType, fis, uriInfo, SzBulkDataAnalysisMode.PARALLEL, null);
+        response.concludeTimers();
+        long after = System.nanoTime();
+
+        validateAnalyzeResponse(null,
+            response,
+            POST,
+            uriText,
+            mediaType,
+            bulkDataFile,
+            expected,
+            after - before);
+
+      } catch (Exception e) {
+        System.err.println("********** FAILED TEST: " + testInfo);
+        e.printStackTrace();
+        if (e instanceof RuntimeException)
+          throw ((RuntimeException) e);
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
+  @Test
+  public void analyzeBulkRecordsFirstRecords() {
+    this.performTest(() -> {
+      String uriText = this.formatServerUri(
+          "bulk-data/analyze?analysisMode=FIRST_RECORDS&sampleSize=500");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText);
+
+      String testInfo = "Test JSON lines analyzed from the first records";
+      File bulkDataFile = null;
+      MediaType mediaType = MediaType.valueOf("application/x-jsonlines");
+      int recordCount = 5000;
+      int sampleSize = 500;
+
+      try {
+        bulkDataFile = File.createTempFile("bulk-data-", ".jsonl");
+
+        try (FileOutputStream fos = new FileOutputStream(bulkDataFile);
+            OutputStreamWriter osw = new OutputStreamWriter(fos, UTF_8);
+            PrintWriter pw = new PrintWriter(new BufferedWriter(osw))) {
+          for (int index = 0; index < recordCount; index++) {
+            String recordId = String.format("REC-%05d", index);
+            pw.println("{\"DATA_SOURCE\":\"" + CUSTOMER_DATA_SOURCE
+                + "\",\"RECORD_ID\":\"" + recordId
+                + "\",\"NAME_FULL\":\"JOE SCHMOE " + recordId + "\"}");
+          }
+          pw.flush();
+        }
+
+      } catch (IOException e) {
+        fail(e);
+      }
+
+      try (FileInputStream fis = new FileInputStream(bulkDataFile)) {
+        SzBulkDataAnalysisResponse response
+            = this.bulkDataServices.analyzeBulkRecordsViaForm(
+                mediaType, fis, uriInfo, SzBulkDataAnalysisMode.FIRST_RECORDS,
+                sampleSize);
+        SzBulkDataAnalysis analysis = response.getData();
+
+        assertEquals(COMPLETED, analysis.getStatus(),
+                     "Unexpected analysis status: " + testInfo);
+        assertEquals(SzBulkDataAnalysisMode.FIRST_RECORDS,
+                     analysis.getAnalysisMode(),
+                     "Unexpected analysis mode: " + testInfo);
+        assertEquals(sampleSize, analysis.getRecordCount(),
+                     "Unexpected sampled record count: " + testInfo);
+        assertNull(analysis.getMarginOfError(),
+                   "Margin of error reported for a biased sample: "
+                       + testInfo);
+        // the records are all the same length so the estimate is exact
+        assertEquals(Long.valueOf(recordCount),
+                     analysis.getEstimatedRecordCount(),
+                     "Unexpected estimated record count: " + testInfo);
+
+      } catch (Exception e) {
+        System.err.println("********** FAILED TEST: " + testInfo);
+        e.printStackTrace();
+        if (e instanceof RuntimeException)
+          throw ((RuntimeException) e);
+        throw new RuntimeException(e);
+      }
+    });
+  }
+
   @Test
   public void testCSVWithBadMediaType() {
     this.performTest(() -> {
@@ -609,7 +744,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed CSV records with wrong media type "
                 + "with no error: " + badMediaType);
@@ -632,6 +769,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -719,7 +859,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed JSON records with wrong media type "
                 + "with no error: " + badMediaType);
@@ -742,6 +884,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -828,7 +973,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
           try {
             this.bulkDataServices.analyzeBulkRecordsViaForm(badMediaType,
                 fis1,
-                uriInfo1);
+                uriInfo1,
+                null,
+                null);
 
             fail("Unexpectedly analyzed JSON-lines records with wrong media "
                 + "type with no error: " + badMediaType);
@@ -851,6 +998,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
                 null,
                 "FOO",
                 -1,
+                false,
+                null,
+                null,
                 badMediaType,
                 fis2,
                 uriInfo2);
@@ -895,7 +1045,7 @@ public class BulkDataServicesTest extends AbstractServiceTest {
       try (FileInputStream fis = new FileInputStream(bulkDataFile)) {
         long before = System.nanoTime();
         SzBulkDataAnalysisResponse response = this.bulkDataServices.analyzeBulkRecordsViaForm(
-            mediaType, fis, uriInfo);
+            mediaType, fis, uriInfo, null, null);
         response.concludeTimers();
         long after = System.nanoTime();
 
@@ -1770,6 +1920,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
             mapDataSourceList,
             null,
             0,
+            false,
+            null,
+            null,
             mediaType,
             fis,
             null,
@@ -2264,6 +2417,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
             null,
             null,
             maxFailures == null ? -1 : maxFailures,
+            false,
+            null,
+            null,
             MediaType.valueOf("text/plain"),
             bis,
             null,
@@ -2318,6 +2474,9 @@ public class BulkDataServicesTest extends AbstractServiceTest {
     assertEquals(expected.getMediaType(), actual.getMediaType(),
         "Media type in analysis not as expected: " + testInfo);
 
+    assertEquals(expected.getAnalysisMode(), actual.getAnalysisMode(),
+        "Analysis mode in analysis not as expected: " + testInfo);
+
     assertEquals(expected.getRecordCount(), actual.getRecordCount(),
         "Total record count not as expected: " + testInfo);
 
@@ -0,0 +1,180 @@
+package com.senzing.api.services;
+
+import com.senzing.io.RecordReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import static com.senzing.io.RecordReader.Format.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the splitting of bulk data files into {@link BulkFilePartition}
+ * instances on record boundaries.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class BulkFilePartitionTest {
+  private static final String CSV_HEADER = "RECORD_ID,DATA_SOURCE,ADDR_FULL";
+
+  private final List<File> files = new ArrayList<>();
+
+  @AfterEach
+  public void deleteFiles() {
+    this.files.forEach(File::delete);
+    this.files.clear();
+  }
+
+  private File writeFile(String text) throws IOException {
+    File file = File.createTempFile("bulk-partition-", ".dat");
+    this.files.add(file);
+    Files.write(file.toPath(), text.getBytes(UTF_8));
+    return file;
+  }
+
+  private String newJsonLines(int recordCount, String lineEnd) {
+    StringBuilder sb = new StringBuilder();
+    for (int index = 0; index < recordCount; index++) {
+      sb.append("{\"DATA_SOURCE\":\"TEST\",\"RECORD_ID\":\"REC-").append(index)
+          .append("\",\"NAME_FULL\":\"Joe Schmoe ").append(index).append("\"}")
+          .append(lineEnd);
+    }
+    return sb.toString();
+  }
+
+  private String newCsv(int recordCount, String lineEnd) {
+    StringBuilder sb = new StringBuilder(CSV_HEADER).append(lineEnd);
+    for (int index = 0; index < recordCount; index++) {
+      // the quoted address spans lines and contains escaped quotes
+      sb.append("REC-").append(index).append(",TEST,\"").append(index)
+          .append(" \"\"Main\"\" Street").append(lineEnd)
+          .append("Las Vegas, NV\"").append(lineEnd);
+    }
+    return sb.toString();
+  }
+
+  private List<String> readPartitions(File                file,
+                                      RecordReader.Format format,
+                                      int                 partitionCount)
+      throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(file.toPath(),
+                                                StandardOpenOption.READ))
+    {
+      List<BulkFilePartition> partitions
+          = BulkFilePartition.partition(channel, format, partitionCount);
+      List<String> result = new ArrayList<>(partitions.size());
+      long expectedOffset = -1L;
+      for (BulkFilePartition partition : partitions) {
+        if (expectedOffset >= 0L) {
+          assertEquals(expectedOffset, partition.getOffset(),
+                       "Partitions are not contiguous");
+        }
+        expectedOffset = partition.getOffset() + partition.getLength();
+        try (InputStream in = partition.openInputStream()) {
+          ByteArrayOutputStream baos = new ByteArrayOutputStream();
+          byte[] buffer = new byte[8192];
+          for (int read = in.read(buffer); read >= 0; read = in.read(buffer)) {
+            baos.write(buffer, 0, read);
+          }
+          result.add(new String(baos.toByteArray(), UTF_8));
+        }
+      }
+      assertEquals(file.length(), expectedOffset,
+                   "Partitions do not end at the end of the file");
+      return result;
+    }
+  }
+
+  private void validateJsonLines(String text, String lineEnd, int partitionCount)
+      throws IOException
+  {
+    List<String> partitions
+        = this.readPartitions(this.writeFile(text), JSON_LINES, partitionCount);
+    assertEquals(partitionCount, partitions.size(),
+                 "Unexpected number of partitions");
+    assertEquals(text, String.join("", partitions),
+                 "Partitions do not reassemble the file");
+    for (String partition : partitions) {
+      assertTrue(partition.startsWith("{"),
+                 "Partition does not start on a record boundary: "
+                     + partition.substring(0, 40));
+      assertTrue(partition.endsWith("}" + lineEnd),
+                 "Partition does not end on a record boundary");
+    }
+  }
+
+  @Test
+  public void testJsonLinesSplitOnRecordBoundaries() throws IOException {
+    this.validateJsonLines(this.newJsonLines(60000, "\n"), "\n", 4);
+  }
+
+  @Test
+  public void testCrlfJsonLinesSplitOnRecordBoundaries() throws IOException {
+    this.validateJsonLines(this.newJsonLines(60000, "\r\n"), "\r\n", 4);
+  }
+
+  @Test
+  public void testCsvSplitOutsideQuotedValues() throws IOException {
+    for (String lineEnd : Arrays.asList("\n", "\r\n")) {
+      int recordCount = 80000;
+      String text = this.newCsv(recordCount, lineEnd);
+      List<String> partitions
+          = this.readPartitions(this.writeFile(text), CSV, 3);
+      assertEquals(3, partitions.size(), "Unexpected number of partitions");
+
+      String header = CSV_HEADER + lineEnd;
+      StringBuilder reassembled = new StringBuilder(header);
+      int records = 0;
+      for (String partition : partitions) {
+        assertTrue(partition.startsWith(header + "REC-"),
+                   "Partition does not start with the header and a record");
+        assertTrue(partition.endsWith("NV\"" + lineEnd),
+                   "Partition split within a quoted value");
+        String body = partition.substring(header.length());
+        reassembled.append(body);
+        records += body.split("REC-", -1).length - 1;
+      }
+      assertEquals(text, reassembled.toString(),
+                   "Partitions do not reassemble the file");
+      assertEquals(recordCount, records, "Records lost between partitions");
+    }
+  }
+
+  @Test
+  public void testFileSmallerThanPartitionCount() throws IOException {
+    String text = this.newJsonLines(3, "\n");
+    List<String> partitions
+        = this.readPartitions(this.writeFile(text), JSON_LINES, 8);
+    assertEquals(Collections.singletonList(text), partitions,
+                 "Small file not kept in a single partition");
+
+    String csv = this.newCsv(2, "\r\n");
+    partitions = this.readPartitions(this.writeFile(csv), CSV, 8);
+    assertEquals(Collections.singletonList(csv), partitions,
+                 "Small CSV file not kept in a single partition");
+
+    // only as many partitions as there are minimum partition sizes
+    String larger = this.newJsonLines(40000, "\n");
+    int expected = (int) (larger.length() / BulkFilePartition.MIN_PARTITION_SIZE);
+    assertTrue(expected > 1 && expected < 16,
+               "Unexpected test file size: " + larger.length());
+    partitions = this.readPartitions(this.writeFile(larger), JSON_LINES, 16);
+    assertEquals(expected, partitions.size(),
+                 "Partition count not reduced for a small file");
+
+    partitions = this.readPartitions(this.writeFile(""), JSON_LINES, 4);
+    assertEquals(Collections.singletonList(""), partitions,
+                 "Unexpected partitions for an empty file");
+  }
+}
@@ -0,0 +1,160 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzError;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.File;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the segment allocation and retention of {@link BulkLoadErrorLog}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class BulkLoadErrorLogTest {
+  private static final long HOUR = 3600000L;
+
+  private File errorDir;
+
+  @BeforeEach
+  public void createDirectory() throws Exception {
+    this.errorDir = Files.createTempDirectory("errors-").toFile();
+  }
+
+  @AfterEach
+  public void deleteDirectory() {
+    File[] files = this.errorDir.listFiles();
+    if (files != null) {
+      for (File file : files) file.delete();
+    }
+    this.errorDir.delete();
+  }
+
+  private void logRecords(BulkLoadErrorLog log, String prefix, int count) {
+    SzError error = SzError.FACTORY.create("1", "Failed");
+    for (int index = 0; index < count; index++) {
+      log.failedRecord("TEST", prefix + index, error);
+    }
+  }
+
+  private List<String> readLog(String loadId) throws Exception {
+    StringWriter sw = new StringWriter();
+    BulkLoadErrorLog.copyTo(this.errorDir, loadId, sw);
+    String text = sw.toString();
+    return (text.length() == 0) ? Collections.emptyList()
+        : Arrays.asList(text.split("\n"));
+  }
+
+  @Test
+  public void testConcurrentLogsDoNotOverwrite() throws Exception {
+    BulkLoadErrorLog log1 = new BulkLoadErrorLog(this.errorDir, "load");
+    BulkLoadErrorLog log2 = new BulkLoadErrorLog(this.errorDir, "load");
+    try {
+      this.logRecords(log1, "A-", 10);
+      this.logRecords(log2, "B-", 20);
+      this.logRecords(log1, "A-", 5);
+    } finally {
+      log1.close();
+      log2.close();
+    }
+
+    assertEquals(2, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "load")
+                     .size(), "Each log did not write its own segment");
+    List<String> lines = this.readLog("load");
+    assertEquals(35, lines.size(), "Records lost between the logs: " + lines);
+    long countA = lines.stream().filter(l -> l.contains("\"A-")).count();
+    long countB = lines.stream().filter(l -> l.contains("\"B-")).count();
+    assertEquals(15L, countA, "Unexpected records from the first log");
+    assertEquals(20L, countB, "Unexpected records from the second log");
+
+    // a later log continues after the existing segments
+    BulkLoadErrorLog log3 = new BulkLoadErrorLog(this.errorDir, "load");
+    try {
+      this.logRecords(log3, "C-", 1);
+    } finally {
+      log3.close();
+    }
+    assertEquals(3, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "load")
+                     .size(), "Later log did not add a segment");
+    assertEquals(36, this.readLog("load").size(), "Unexpected record count");
+  }
+
+  @Test
+  public void testPurgeByAge() throws Exception {
+    for (String loadId : Arrays.asList("old", "new")) {
+      BulkLoadErrorLog log = new BulkLoadErrorLog(this.errorDir, loadId);
+      try {
+        this.logRecords(log, loadId + "-", 5);
+      } finally {
+        log.close();
+      }
+    }
+    long now = System.currentTimeMillis();
+    for (File file : BulkLoadErrorLog.getSegmentFiles(this.errorDir, "old")) {
+      assertTrue(file.setLastModified(now - 48 * HOUR),
+                 "Failed to age the segment file");
+    }
+
+    assertEquals(0, BulkLoadErrorLog.purge(this.errorDir, 0L, 0L),
+                 "Segments purged without limits");
+    assertEquals(1, BulkLoadErrorLog.purge(this.errorDir, 24 * HOUR, 0L),
+                 "Unexpected number of expired segments purged");
+    assertEquals(0, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "old")
+                     .size(), "Expired segment not purged");
+    assertEquals(5, this.readLog("new").size(), "Recent segment was purged");
+  }
+
+  @Test
+  public void testPurgeBySize() throws Exception {
+    long now = System.currentTimeMillis();
+    String[] loadIds = { "first", "second", "third" };
+    for (int index = 0; index < loadIds.length; index++) {
+      BulkLoadErrorLog log = new BulkLoadErrorLog(this.errorDir, loadIds[index]);
+      try {
+        this.logRecords(log, loadIds[index] + "-", 50);
+      } finally {
+        log.close();
+      }
+      for (File file
+          : BulkLoadErrorLog.getSegmentFiles(this.errorDir, loadIds[index]))
+      {
+        file.setLastModified(now - (loadIds.length - index) * HOUR);
+      }
+    }
+    long newestSize = 0L;
+    for (File file : BulkLoadErrorLog.getSegmentFiles(this.errorDir, "third")) {
+      newestSize += file.length();
+    }
+
+    // the segments of a log that is still open are never purged
+    BulkLoadErrorLog openLog = new BulkLoadErrorLog(this.errorDir, "first");
+    try {
+      assertEquals(1, BulkLoadErrorLog.purge(this.errorDir, 0L, newestSize),
+                   "Unexpected number of segments purged to fit the size");
+      assertEquals(1, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "first")
+                       .size(), "Segment of an open log was purged");
+      assertEquals(0, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "second")
+                       .size(), "Least recently written segment not purged");
+      assertEquals(1, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "third")
+                       .size(), "Most recently written segment was purged");
+    } finally {
+      openLog.close();
+    }
+
+    assertEquals(1, BulkLoadErrorLog.purge(this.errorDir, 0L, newestSize),
+                 "Segment not purged once its log was closed");
+    assertEquals(0, BulkLoadErrorLog.getSegmentFiles(this.errorDir, "first")
+                     .size(), "Closed log's segment not purged");
+    assertEquals(50, this.readLog("third").size(), "Newest segment was purged");
+  }
+}
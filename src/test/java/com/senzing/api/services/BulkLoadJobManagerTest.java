@@ -0,0 +1,266 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.io.RecordReader;
+import com.senzing.util.AccessToken;
+import org.glassfish.jersey.media.sse.OutboundEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseBroadcaster;
+import javax.ws.rs.sse.SseEventSink;
+import java.io.ByteArrayInputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static javax.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+import static com.senzing.api.model.SzBulkLoadJobState.*;
+
+/**
+ * Tests the {@link BulkLoadJobManager} and the SSE status stream for its
+ * jobs against a {@link StubApiProvider}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class BulkLoadJobManagerTest extends AbstractServiceTest {
+  private static final String DATA_SOURCE = "TEST";
+
+  private static final long TIMEOUT = 10000L;
+
+  private StubApiProvider provider;
+
+  private AccessToken providerToken;
+
+  private BulkLoadJobManager jobManager;
+
+  @BeforeAll
+  public void setup() {
+    this.provider = new StubApiProvider(DATA_SOURCE);
+    this.jobManager = new BulkLoadJobManager(this.provider, 1, null, 60000L);
+    this.provider.setBulkLoadJobManager(this.jobManager);
+    this.providerToken = SzApiProvider.Factory.installProvider(this.provider);
+  }
+
+  @AfterAll
+  public void teardown() {
+    this.provider.releaseRecords();
+    this.jobManager.close();
+    SzApiProvider.Factory.uninstallProvider(this.providerToken);
+    this.getRepositoryDirectory().delete();
+  }
+
+  private BulkDataSupport.BulkDataSet newDataSet(int recordCount)
+      throws Exception
+  {
+    StringBuilder sb = new StringBuilder();
+    for (int index = 0; index < recordCount; index++) {
+      sb.append("{\"DATA_SOURCE\":\"").append(DATA_SOURCE)
+          .append("\",\"RECORD_ID\":\"").append(index)
+          .append("\",\"NAME_FULL\":\"Joe Schmoe ").append(index)
+          .append("\"}\n");
+    }
+    BulkDataSupport.BulkDataSet dataSet = new BulkDataSupport.BulkDataSet(
+        TEXT_PLAIN_TYPE, new ByteArrayInputStream(sb.toString().getBytes(UTF_8)));
+    dataSet.getDataCache().waitUntilAppendingComplete();
+    dataSet.setFormat(RecordReader.Format.JSON_LINES);
+    return dataSet;
+  }
+
+  private BulkLoadJobManager.Job submit(BulkLoadJobManager  jobManager,
+                                        int                 recordCount)
+      throws Exception
+  {
+    return jobManager.submit("test-load",
+                             Collections.emptyMap(),
+                             0,
+                             null,
+                             this.newDataSet(recordCount));
+  }
+
+  @Test
+  public void testSubmitCompletes() throws Exception {
+    int recordCount = 25;
+    BulkLoadJobManager.Job job = this.submit(this.jobManager, recordCount);
+
+    assertSame(job, this.jobManager.getJob(job.getJobId()),
+               "Submitted job not found by its job ID");
+    assertTrue(job.waitUntilFinished(TIMEOUT), "Job did not finish");
+    assertEquals(COMPLETED, job.getState(), "Unexpected final job state");
+
+    SzBulkLoadJob bulkLoadJob = job.toBulkLoadJob();
+    assertEquals("test-load", bulkLoadJob.getLoadId(), "Unexpected load ID");
+    assertNotNull(bulkLoadJob.getStartedOn(), "Started timestamp missing");
+    assertNotNull(bulkLoadJob.getFinishedOn(), "Finished timestamp missing");
+    SzBulkLoadResult result = bulkLoadJob.getResult();
+    assertEquals(SzBulkDataStatus.COMPLETED, result.getStatus(),
+                 "Unexpected result status");
+    assertEquals(recordCount, result.getRecordCount(),
+                 "Unexpected record count");
+    assertEquals(recordCount, result.getLoadedRecordCount(),
+                 "Unexpected loaded record count");
+  }
+
+  @Test
+  public void testCancelQueuedJob() throws Exception {
+    int addedCount = this.provider.getAddedRecordIds().size();
+    this.provider.setAuthorizing(false);
+    try {
+      BulkLoadJobManager.Job job = this.submit(this.jobManager, 10);
+      assertEquals(QUEUED, job.getState(), "Unauthorized job is not queued");
+
+      assertSame(job, this.jobManager.cancel(job.getJobId()),
+                 "Cancel did not return the job");
+      assertTrue(job.waitUntilFinished(0L),
+                 "Queued job was not finished immediately when cancelled");
+      assertEquals(CANCELLED, job.getState(), "Unexpected final job state");
+      assertNull(job.toBulkLoadJob().getStartedOn(),
+                 "Cancelled queued job was started");
+
+    } finally {
+      this.provider.setAuthorizing(true);
+    }
+    assertEquals(addedCount, this.provider.getAddedRecordIds().size(),
+                 "Records of cancelled queued job were loaded");
+  }
+
+  @Test
+  public void testCancelRunningJob() throws Exception {
+    int recordCount = 1000;
+    this.provider.holdRecords();
+    BulkLoadJobManager.Job job;
+    try {
+      job = this.submit(this.jobManager, recordCount);
+      assertTrue(this.provider.awaitStarted(1, TIMEOUT),
+                 "Job did not start loading records");
+      assertEquals(RUNNING, job.getState(), "Loading job is not running");
+
+      this.jobManager.cancel(job.getJobId());
+      assertTrue(job.isCancelled(), "Running job not marked as cancelled");
+      assertFalse(job.getState().isFinished(),
+                  "Running job finished before its records completed");
+
+    } finally {
+      this.provider.releaseRecords();
+    }
+
+    assertTrue(job.waitUntilFinished(TIMEOUT), "Job did not finish");
+    assertEquals(CANCELLED, job.getState(), "Unexpected final job state");
+    SzBulkLoadResult result = job.toBulkLoadJob().getResult();
+    assertEquals(SzBulkDataStatus.ABORTED, result.getStatus(),
+                 "Unexpected result status");
+    assertTrue(result.getRecordCount() < recordCount,
+               "Cancelled job read every record: " + result.getRecordCount());
+  }
+
+  @Test
+  public void testRetentionPurge() throws Exception {
+    long retentionPeriod = 200L;
+    BulkLoadJobManager jobManager
+        = new BulkLoadJobManager(this.provider, 1, null, retentionPeriod);
+    try {
+      BulkLoadJobManager.Job job = this.submit(jobManager, 5);
+      assertTrue(job.waitUntilFinished(TIMEOUT), "Job did not finish");
+
+      assertSame(job, jobManager.getJob(job.getJobId()),
+                 "Finished job purged before the retention period elapsed");
+
+      Thread.sleep(retentionPeriod * 2);
+      assertNull(jobManager.getJob(job.getJobId()),
+                 "Finished job retained after the retention period elapsed");
+
+    } finally {
+      jobManager.close();
+    }
+  }
+
+  @Test
+  public void testStreamJobStatus() throws Exception {
+    BulkDataServices bulkDataServices = new BulkDataServices();
+    List<OutboundSseEvent> events = Collections.synchronizedList(
+        new ArrayList<>());
+    boolean[] closed = { false };
+
+    SseEventSink sink = new SseEventSink() {
+      public synchronized boolean isClosed() {
+        return closed[0];
+      }
+      public CompletionStage<?> send(OutboundSseEvent event) {
+        events.add(event);
+        synchronized (events) {
+          events.notifyAll();
+        }
+        return CompletableFuture.completedFuture(null);
+      }
+      public synchronized void close() {
+        closed[0] = true;
+      }
+    };
+    Sse sse = new Sse() {
+      public OutboundSseEvent.Builder newEventBuilder() {
+        return new OutboundEvent.Builder();
+      }
+      public SseBroadcaster newBroadcaster() {
+        throw new UnsupportedOperationException();
+      }
+    };
+
+    this.provider.holdRecords();
+    BulkLoadJobManager.Job job;
+    Thread streamer;
+    try {
+      job = this.submit(this.jobManager, 10);
+      String jobId = job.getJobId();
+      UriInfo uriInfo = this.newProxyUriInfo(
+          this.formatServerUri("bulk-data/jobs/" + jobId));
+
+      streamer = new Thread(() -> bulkDataServices.streamBulkLoadJob(
+          jobId, 50L, uriInfo, sink, sse));
+      streamer.start();
+
+      // wait for at least one progress event while the job is held
+      synchronized (events) {
+        long end = System.currentTimeMillis() + TIMEOUT;
+        while (events.isEmpty() && System.currentTimeMillis() < end) {
+          events.wait(end - System.currentTimeMillis());
+        }
+      }
+      assertFalse(events.isEmpty(), "No progress event was sent");
+
+    } finally {
+      this.provider.releaseRecords();
+    }
+    streamer.join(TIMEOUT);
+    assertFalse(streamer.isAlive(), "Stream did not end with the job");
+    assertTrue(sink.isClosed(), "Event sink was not closed");
+
+    List<OutboundSseEvent> sent = new ArrayList<>(events);
+    for (int index = 0; index < sent.size(); index++) {
+      OutboundSseEvent event = sent.get(index);
+      boolean last = (index == sent.size() - 1);
+      assertEquals(last ? "completed" : "progress", event.getName(),
+                   "Unexpected name for event " + index);
+      assertEquals(String.valueOf(index), event.getId(),
+                   "Unexpected ID for event " + index);
+      assertTrue(event.getData() instanceof SzBulkLoadJobResponse,
+                 "Unexpected data for event " + index + ": "
+                     + event.getData());
+    }
+    SzBulkLoadJobResponse response
+        = (SzBulkLoadJobResponse) sent.get(sent.size() - 1).getData();
+    assertEquals(job.getJobId(), response.getData().getJobId(),
+                 "Unexpected job ID in completed event");
+    assertEquals(COMPLETED, response.getData().getState(),
+                 "Unexpected job state in completed event");
+  }
+}
@@ -0,0 +1,279 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.util.AccessToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+import static com.senzing.api.model.SzBulkDataStatus.*;
+
+/**
+ * Tests resuming an aborted bulk load from its {@link BulkLoadCheckpoint}
+ * via {@link BulkDataServices} against a {@link StubApiProvider}, and that
+ * the loads of ZIP archives, which are not checkpointed, cannot be resumed.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class BulkLoadResumeTest extends AbstractServiceTest {
+  private static final String DATA_SOURCE = "TEST";
+
+  private static final String LOAD_ID = "resume-test";
+
+  private static final int RECORD_COUNT = 2000;
+
+  private static final String FAILING_RECORD_ID = "1200";
+
+  private StubApiProvider provider;
+
+  private AccessToken providerToken;
+
+  private File checkpointDir;
+
+  private BulkDataServices bulkDataServices;
+
+  @BeforeAll
+  public void setup() throws Exception {
+    this.checkpointDir = Files.createTempDirectory("checkpoints-").toFile();
+    this.provider = new StubApiProvider(DATA_SOURCE);
+    this.provider.setBulkLoadCheckpointDirectory(this.checkpointDir);
+    this.providerToken = SzApiProvider.Factory.installProvider(this.provider);
+    this.bulkDataServices = new BulkDataServices();
+  }
+
+  @AfterAll
+  public void teardown() {
+    SzApiProvider.Factory.uninstallProvider(this.providerToken);
+    File[] files = this.checkpointDir.listFiles();
+    if (files != null) {
+      for (File file : files) file.delete();
+    }
+    this.checkpointDir.delete();
+    this.getRepositoryDirectory().delete();
+  }
+
+  private String newRecords(int fromIndex, int toIndex) {
+    return this.newRecords(fromIndex, toIndex, "Joe Schmoe");
+  }
+
+  private String newRecords(int fromIndex, int toIndex, String name) {
+    StringBuilder sb = new StringBuilder();
+    for (int index = fromIndex; index < toIndex; index++) {
+      sb.append("{\"DATA_SOURCE\":\"").append(DATA_SOURCE)
+          .append("\",\"RECORD_ID\":\"").append(index)
+          .append("\",\"NAME_FULL\":\"").append(name).append(" ")
+          .append(index)
+          .append("\"}\n");
+    }
+    return sb.toString();
+  }
+
+  private byte[] newArchive() throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (ZipOutputStream zos = new ZipOutputStream(baos)) {
+      int half = RECORD_COUNT / 2;
+      zos.putNextEntry(new ZipEntry("first.jsonl"));
+      zos.write(this.newRecords(0, half).getBytes(UTF_8));
+      zos.closeEntry();
+      zos.putNextEntry(new ZipEntry("second.jsonl"));
+      zos.write(this.newRecords(half, RECORD_COUNT).getBytes(UTF_8));
+      zos.closeEntry();
+    }
+    return baos.toByteArray();
+  }
+
+  private SzBulkLoadResult loadArchive(boolean resume) throws Exception {
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("bulk-data/load?loadId=" + LOAD_ID
+                                 + "&resume=" + resume));
+
+    SzBulkLoadResponse response = this.bulkDataServices.loadBulkRecordsDirect(
+        null,
+        null,
+        null,
+        LOAD_ID,
+        0,
+        resume,
+        null,
+        null,
+        MediaType.valueOf("application/zip"),
+        new ByteArrayInputStream(this.newArchive()),
+        uriInfo);
+
+    return response.getData();
+  }
+
+  private SzBulkLoadResult loadRecords(boolean resume, int maxFailures) {
+    return this.loadRecords(resume, maxFailures, "Joe Schmoe");
+  }
+
+  private SzBulkLoadResult loadRecords(boolean  resume,
+                                       int      maxFailures,
+                                       String   name)
+  {
+    String records = this.newRecords(0, RECORD_COUNT, name);
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("bulk-data/load?loadId=" + LOAD_ID
+                                 + "&resume=" + resume));
+
+    SzBulkLoadResponse response = this.bulkDataServices.loadBulkRecordsDirect(
+        null,
+        null,
+        null,
+        LOAD_ID,
+        maxFailures,
+        resume,
+        null,
+        null,
+        MediaType.valueOf("text/plain"),
+        new ByteArrayInputStream(records.getBytes(UTF_8)),
+        uriInfo);
+
+    return response.getData();
+  }
+
+  private File getCheckpointFile() {
+    File[] files = this.checkpointDir.listFiles(
+        (dir, name) -> !name.endsWith(".tmp"));
+    assertNotNull(files, "Checkpoint directory not readable");
+    assertTrue(files.length <= 1,
+               "Unexpected checkpoint files: " + Arrays.asList(files));
+    return (files.length == 0) ? null : files[0];
+  }
+
+  @Test
+  public void testResumeAbortedLoad() throws Exception {
+    // abort the load partway through with a failing record
+    this.provider.getFailingRecordIds().add(FAILING_RECORD_ID);
+    SzBulkLoadResult abortedResult = this.loadRecords(false, 1);
+    assertEquals(ABORTED, abortedResult.getStatus(),
+                 "First load was not aborted");
+    assertEquals(1, abortedResult.getFailedRecordCount(),
+                 "Unexpected failed record count for first load");
+
+    File checkpointFile = this.getCheckpointFile();
+    assertNotNull(checkpointFile, "No checkpoint written for aborted load");
+    BulkLoadCheckpoint checkpoint
+        = BulkLoadCheckpoint.resume(this.checkpointDir, LOAD_ID);
+    long checkpointCount = checkpoint.getRecordCount();
+    assertTrue(checkpointCount > Integer.parseInt(FAILING_RECORD_ID),
+               "Checkpoint does not include the failing record: "
+                   + checkpointCount);
+    assertTrue(checkpointCount < RECORD_COUNT,
+               "Checkpoint includes every record: " + checkpointCount);
+
+    List<String> firstLoaded = this.provider.getAddedRecordIds();
+
+    // resume the load once the record no longer fails
+    this.provider.getFailingRecordIds().clear();
+    SzBulkLoadResult resumedResult = this.loadRecords(true, 0);
+    assertEquals(COMPLETED, resumedResult.getStatus(),
+                 "Resumed load did not complete");
+    assertEquals(RECORD_COUNT - checkpointCount,
+                 resumedResult.getRecordCount(),
+                 "Resumed load did not skip the records before the "
+                     + "checkpoint");
+
+    List<String> allLoaded = this.provider.getAddedRecordIds();
+    List<String> resumeLoaded
+        = allLoaded.subList(firstLoaded.size(), allLoaded.size());
+    Set<String> expected = new TreeSet<>();
+    for (long index = checkpointCount; index < RECORD_COUNT; index++) {
+      expected.add(String.valueOf(index));
+    }
+    assertEquals(expected, new TreeSet<>(resumeLoaded),
+                 "Resumed load did not load exactly the records after the "
+                     + "checkpoint");
+    assertEquals(expected.size(), resumeLoaded.size(),
+                 "Resumed load loaded some records more than once");
+
+    assertNull(this.getCheckpointFile(),
+               "Checkpoint file not deleted on completion");
+  }
+
+  @Test
+  public void testLoadArchive() throws Exception {
+    int addedCount = this.provider.getAddedRecordIds().size();
+    SzBulkLoadResult result = this.loadArchive(false);
+    assertEquals(COMPLETED, result.getStatus(), "Archive load not completed");
+    assertEquals(RECORD_COUNT, result.getLoadedRecordCount(),
+                 "Unexpected loaded record count for the archive");
+    assertEquals(2, result.getResultsByEntry().size(),
+                 "Unexpected number of archive entry results");
+    for (SzBulkLoadEntryResult entryResult : result.getResultsByEntry()) {
+      assertEquals(RECORD_COUNT / 2, entryResult.getResult().getLoadedRecordCount(),
+                   "Unexpected loaded record count for archive entry: "
+                       + entryResult.getEntryName());
+    }
+    assertEquals(RECORD_COUNT,
+                 this.provider.getAddedRecordIds().size() - addedCount,
+                 "Unexpected number of archive records added");
+  }
+
+  @Test
+  public void testResumeArchiveRejected() throws Exception {
+    int addedCount = this.provider.getAddedRecordIds().size();
+    BadRequestException e = assertThrows(
+        BadRequestException.class, () -> this.loadArchive(true),
+        "Resuming the load of an archive was not rejected");
+    assertEquals(400, e.getResponse().getStatus(),
+                 "Unexpected status for resuming an archive load");
+    assertEquals(addedCount, this.provider.getAddedRecordIds().size(),
+                 "Records added when resuming an archive load");
+  }
+
+  @Test
+  public void testResumeDifferentDataConflicts() throws Exception {
+    // abort the load partway through with a failing record
+    this.provider.getFailingRecordIds().add(FAILING_RECORD_ID);
+    SzBulkLoadResult abortedResult = this.loadRecords(false, 1);
+    assertEquals(ABORTED, abortedResult.getStatus(),
+                 "First load was not aborted");
+    this.provider.getFailingRecordIds().clear();
+    long checkpointCount = BulkLoadCheckpoint.resume(
+        this.checkpointDir, LOAD_ID).getRecordCount();
+    int addedCount = this.provider.getAddedRecordIds().size();
+
+    // resuming with different bulk data under the same load ID conflicts
+    ClientErrorException e = assertThrows(
+        ClientErrorException.class,
+        () -> this.loadRecords(true, 0, "Jane Schmoe"),
+        "Resumed load of different bulk data did not fail");
+    assertEquals(409, e.getResponse().getStatus(),
+                 "Unexpected status for resuming different bulk data");
+    assertEquals(addedCount, this.provider.getAddedRecordIds().size(),
+                 "Records added when resuming different bulk data");
+    assertEquals(checkpointCount, BulkLoadCheckpoint.resume(
+        this.checkpointDir, LOAD_ID).getRecordCount(),
+                 "Checkpoint changed by the conflicting resume");
+
+    // the same bulk data can still be resumed
+    SzBulkLoadResult resumedResult = this.loadRecords(true, 0);
+    assertEquals(COMPLETED, resumedResult.getStatus(),
+                 "Resumed load did not complete");
+    assertEquals(RECORD_COUNT - checkpointCount,
+                 resumedResult.getRecordCount(),
+                 "Resumed load did not skip the records before the "
+                     + "checkpoint");
+    assertNull(this.getCheckpointFile(),
+               "Checkpoint file not deleted on completion");
+  }
+}
@@ -0,0 +1,98 @@
+package com.senzing.api.services;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.io.File;
+import java.sql.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the buffering and writing of changes by {@link EntityChangeLog}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class EntityChangeLogTest {
+  private static final long FAILING_ENTITY_ID = 666L;
+
+  private File changeLogFile;
+
+  private EntityChangeLog changeLog;
+
+  @BeforeEach
+  public void openChangeLog() throws Exception {
+    this.changeLogFile = File.createTempFile("entity-changes-", ".db");
+    this.changeLogFile.deleteOnExit();
+    // the background thread does nothing so the test controls the flushes
+    this.changeLog = new EntityChangeLog(
+        this.changeLogFile, 100, runnable -> new Thread(() -> { }));
+  }
+
+  @AfterEach
+  public void closeChangeLog() {
+    if (this.changeLog != null) this.changeLog.close();
+    if (this.changeLogFile != null) this.changeLogFile.delete();
+  }
+
+  /**
+   * Executes the specified SQL against the change log database on a separate
+   * connection.
+   */
+  private void execute(String sql) throws SQLException {
+    try (Connection conn = DriverManager.getConnection(
+             "jdbc:sqlite:" + this.changeLogFile.getPath());
+         Statement stmt = conn.createStatement())
+    {
+      stmt.execute(sql);
+    }
+  }
+
+  private List<Long> getEntityIds() throws SQLException {
+    List<Long> entityIds = new ArrayList<>();
+    for (EntityChangeLog.Change change : this.changeLog.getChanges(0L, 100)) {
+      entityIds.add(change.getEntityId());
+    }
+    return entityIds;
+  }
+
+  @Test
+  public void testChangesMovedToEnd() throws Exception {
+    this.changeLog.recordChanges(Arrays.asList(1L, 2L, 3L));
+    this.changeLog.recordChanges(Arrays.asList(1L));
+    assertEquals(Arrays.asList(2L, 3L, 1L), this.getEntityIds(),
+                 "Changed entity not moved to the end");
+    assertEquals(3L, this.changeLog.getLastSequence(),
+                 "Unexpected last sequence number");
+  }
+
+  @Test
+  public void testFailedFlushRetainsChanges() throws Exception {
+    // fail any write that includes the failing entity
+    this.execute("CREATE TRIGGER fail_insert BEFORE INSERT ON entity_changes "
+                     + "WHEN NEW.entity_id = " + FAILING_ENTITY_ID + " "
+                     + "BEGIN SELECT RAISE(ABORT, 'forced failure'); END");
+
+    this.changeLog.recordChanges(Arrays.asList(1L, 2L, FAILING_ENTITY_ID));
+    assertThrows(SQLException.class, () -> this.changeLog.flush(),
+                 "Flush did not fail");
+
+    // entity 2 changes again while the batch is pending a retry
+    this.changeLog.recordChanges(Arrays.asList(2L, 4L));
+    assertThrows(SQLException.class, () -> this.changeLog.flush(),
+                 "Flush did not fail while the trigger exists");
+
+    this.execute("DROP TRIGGER fail_insert");
+    assertEquals(Arrays.asList(1L, FAILING_ENTITY_ID, 2L, 4L),
+                 this.getEntityIds(),
+                 "Changes from the failed flush not retained in order");
+    assertEquals(4L, this.changeLog.getLastSequence(),
+                 "Unexpected last sequence number after the retry");
+  }
+}
@@ -0,0 +1,106 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzErrorResponse;
+import com.senzing.util.Timers;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.UriInfo;
+import java.io.File;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the re-synchronize handling of {@link EntityChangeServices} against
+ * an {@link EntityChangeLog} that has discarded changes.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class EntityChangeServicesTest extends AbstractServiceTest {
+  private static final int CAPACITY = 3;
+
+  private File changeLogFile;
+
+  private EntityChangeLog changeLog;
+
+  private EntityChangeServices entityChangeServices;
+
+  @BeforeAll
+  public void setup() throws Exception {
+    this.changeLogFile = File.createTempFile("entity-changes-", ".db");
+    this.changeLogFile.deleteOnExit();
+    this.changeLog = new EntityChangeLog(this.changeLogFile, CAPACITY);
+
+    // record five changes so the first two are discarded
+    this.changeLog.recordChanges(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+    this.changeLog.flush();
+
+    this.entityChangeServices = new EntityChangeServices();
+  }
+
+  @AfterAll
+  public void teardown() throws Exception {
+    if (this.changeLog != null) this.changeLog.close();
+    if (this.changeLogFile != null) this.changeLogFile.delete();
+    this.getRepositoryDirectory().delete();
+  }
+
+  @Test
+  public void testChangesAvailable() throws Exception {
+    long lastSequence = this.changeLog.getLastSequence();
+    long discardedThrough = this.changeLog.getDiscardedThrough();
+    assertEquals(5L, lastSequence, "Unexpected last sequence number");
+    assertEquals(2L, discardedThrough,
+                 "Unexpected discarded-through sequence number");
+
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("entity-changes?since=" + discardedThrough));
+
+    // reading from the discarded-through sequence number misses nothing
+    this.entityChangeServices.ensureChangesAvailable(
+        this.changeLog, discardedThrough, lastSequence, uriInfo, new Timers());
+
+    List<EntityChangeLog.Change> changes
+        = this.changeLog.getChanges(discardedThrough, 10);
+    assertEquals(CAPACITY, changes.size(),
+                 "Unexpected number of retained changes: " + changes);
+    assertEquals(lastSequence, changes.get(changes.size() - 1).getSequence(),
+                 "Last retained change is not at the last sequence number");
+  }
+
+  @Test
+  public void testResynchronizeReportsLastSequence() throws Exception {
+    long lastSequence = this.changeLog.getLastSequence();
+    long since = this.changeLog.getDiscardedThrough() - 1L;
+
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("entity-changes?since=" + since));
+
+    BadRequestException e = assertThrows(
+        BadRequestException.class,
+        () -> this.entityChangeServices.ensureChangesAvailable(
+            this.changeLog, since, lastSequence, uriInfo, new Timers()));
+
+    assertEquals(400, e.getResponse().getStatus(),
+                 "Unexpected status for re-synchronize response");
+    assertEquals(String.valueOf(lastSequence),
+                 e.getResponse().getHeaderString(
+                     EntityChangeServices.LAST_SEQUENCE_HEADER),
+                 "Last sequence number header missing or wrong");
+
+    Object entity = e.getResponse().getEntity();
+    assertTrue(entity instanceof SzErrorResponse,
+               "Unexpected entity for re-synchronize response: " + entity);
+    String message = ((SzErrorResponse) entity).getErrors().get(0).getMessage();
+    assertTrue(message.contains("sequence number " + lastSequence),
+               "Error message does not report the last sequence number: "
+                   + message);
+  }
+}
@@ -20,8 +20,14 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import java.io.*;
 import java.util.*;
@@ -39,6 +45,7 @@ import static com.senzing.api.services.ResponseValidators.*;
 import static com.senzing.api.model.SzRelationshipMode.*;
 import static com.senzing.api.model.SzAttributeSearchResultType.*;
 import static com.senzing.api.services.EntityDataServices.*;
+import static com.senzing.io.IOUtilities.UTF_8;
 
 @TestInstance(Lifecycle.PER_CLASS)
 @Execution(ExecutionMode.SAME_THREAD)
@@ -69,6 +76,7 @@ public class EntityDataReadServicesTest extends AbstractServiceTest {
   public static final SemanticVersion MAXIMUM_NAME_ONLY_VERSION = new SemanticVersion("3.5.0");
 
   private EntityDataServices entityDataServices;
+  private EntityExportServices entityExportServices;
   private EntityDataApi entityDataApi;
 
   @BeforeAll
@@ -76,6 +84,7 @@ public class EntityDataReadServicesTest extends AbstractServiceTest {
     this.beginTests();
     this.initializeTestEnvironment();
     this.entityDataServices = new EntityDataServices();
+    this.entityExportServices = new EntityExportServices();
     ApiClient apiClient = new ApiClient();
     apiClient.setBasePath(this.formatServerUri(""));
     this.entityDataApi = new EntityDataApi(apiClient);
@@ -1394,6 +1403,129 @@ public class EntityDataReadServicesTest extends AbstractServiceTest {
     });
   }
 
+  /**
+   * Exports the entities using the specified parameters and returns the
+   * entity ID's of the exported entities in the order they were exported.
+   */
+  private List<Long> exportEntityIds(int     partition,
+                                     int     partitionCount,
+                                     String  cursor)
+  {
+    MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+    if (partitionCount != 1) {
+      queryParams.add("partition", String.valueOf(partition));
+      queryParams.add("partitionCount", String.valueOf(partitionCount));
+    }
+    if (cursor != null) {
+      queryParams.add("cursor", cursor);
+    }
+    String uriText = this.formatServerUri("entities/export");
+    UriInfo uriInfo = this.newProxyUriInfo(uriText, queryParams);
+
+    Response response = this.entityExportServices.exportEntities(
+        false, VERBOSE, WITH_DUPLICATES, false, false, false,
+        partition, partitionCount, cursor, uriInfo);
+
+    assertEquals(200, response.getStatus(),
+                 "Unexpected status for entity export");
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try {
+      ((StreamingOutput) response.getEntity()).write(baos);
+    } catch (IOException e) {
+      fail("Failed to stream the entity export", e);
+    }
+
+    List<Long> entityIds = new ArrayList<>();
+    String exportText = new String(baos.toByteArray(), UTF_8);
+    if (exportText.length() == 0) return entityIds;
+    for (String line : exportText.split("\n")) {
+      assertNotEquals(0, line.trim().length(),
+                      "Blank line in entity export");
+      JsonObject jsonObject = JsonUtilities.parseJsonObject(line);
+      JsonObject entity = JsonUtilities.getJsonObject(
+          jsonObject, "RESOLVED_ENTITY");
+      assertNotNull(entity, "Exported row has no entity: " + line);
+      Long entityId = JsonUtilities.getLong(entity, "ENTITY_ID");
+      assertFalse(entityIds.contains(entityId),
+                  "Entity exported more than once: " + entityId);
+      entityIds.add(entityId);
+    }
+    return entityIds;
+  }
+
+  @Test
+  public void exportEntitiesTest() {
+    this.performTest(() -> {
+      List<Long> entityIds = this.exportEntityIds(0, 1, null);
+
+      for (SzRecordId recordId : List.of(XYZ234, ZYX321, CBA654)) {
+        Long entityId = this.getEntityIdForRecordId(recordId);
+        assertTrue(entityIds.contains(entityId),
+                   "Entity for record " + recordId + " not exported: "
+                       + entityIds);
+      }
+    });
+  }
+
+  @Test
+  public void exportPartitionedEntitiesTest() {
+    this.performTest(() -> {
+      List<Long> allEntityIds = this.exportEntityIds(0, 1, null);
+
+      final int partitionCount = 3;
+      Set<Long> unionIds = new LinkedHashSet<>();
+      for (int partition = 0; partition < partitionCount; partition++) {
+        List<Long> entityIds
+            = this.exportEntityIds(partition, partitionCount, null);
+        for (Long entityId : entityIds) {
+          assertEquals(partition, entityId % partitionCount,
+                       "Entity exported in the wrong partition: "
+                           + entityId);
+          assertTrue(unionIds.add(entityId),
+                     "Entity exported in more than one partition: "
+                         + entityId);
+        }
+      }
+      assertEquals(new TreeSet<>(allEntityIds), new TreeSet<>(unionIds),
+                   "Partitioned export does not match the full export");
+    });
+  }
+
+  @Test
+  public void exportResumedEntitiesTest() {
+    this.performTest(() -> {
+      List<Long> allEntityIds = this.exportEntityIds(0, 1, null);
+      assertTrue(allEntityIds.size() > 1,
+                 "Too few entities exported to test resuming: "
+                     + allEntityIds);
+
+      String uriText = this.formatServerUri("entities/export");
+      UriInfo uriInfo = this.newProxyUriInfo(
+          uriText, new MultivaluedHashMap<>());
+      EntityExportCursor startCursor
+          = this.entityExportServices.resolveExportCursor(
+              this.entityExportServices.getApiProvider(),
+              0, 1, null, uriInfo, this.entityExportServices.newTimers());
+
+      int index = allEntityIds.size() / 2;
+      String cursor = startCursor.advance(allEntityIds.get(index)).toString();
+      assertEquals(cursor, EntityExportCursor.parse(cursor).toString(),
+                   "Cursor did not survive a round trip");
+
+      List<Long> resumedIds = this.exportEntityIds(0, 1, cursor);
+      assertEquals(allEntityIds.subList(index + 1, allEntityIds.size()),
+                   resumedIds, "Resumed export has unexpected entities");
+
+      try {
+        this.exportEntityIds(0, 1, "bogus");
+        fail("Expected a bad request for an invalid cursor");
+      } catch (BadRequestException expected) {
+        // expected
+      }
+    });
+  }
+
   @Test
   public void getNotFoundEntityByBadRecordIdTest() {
     this.performTest(() -> {
@@ -2172,4 +2172,68 @@ public class EntityDataWriteServicesTest extends AbstractServiceTest {
     });
   }
 
+  @Test public void writeRecordBatchTest() {
+    this.performTest(() -> {
+      String  uriText = this.formatServerUri("records/batch");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText);
+
+      String batchBody = String.join("\n",
+          "{\"DATA_SOURCE\":\"" + CUSTOMER_DATA_SOURCE + "\","
+              + "\"RECORD_ID\":\"BATCH-1\",\"NAME_FIRST\":\"Joe\","
+              + "\"NAME_LAST\":\"Schmoe\",\"PHONE_NUMBER\":\"702-555-1212\"}",
+          "{\"DATA_SOURCE\":\"" + CUSTOMER_DATA_SOURCE + "\","
+              + "\"NAME_FIRST\":\"Jane\",\"NAME_LAST\":\"Doe\","
+              + "\"PHONE_NUMBER\":\"702-555-1313\"}",
+          "{\"DATA_SOURCE\":\"UNKNOWN_SOURCE\",\"RECORD_ID\":\"BATCH-3\"}",
+          "{\"operation\":\"DELETE\",\"record\":{\"DATA_SOURCE\":\""
+              + CUSTOMER_DATA_SOURCE + "\",\"RECORD_ID\":\"NO-SUCH-RECORD\"}}");
+
+      SzRecordBatchResponse response = this.entityDataServices.writeRecordBatch(
+          null, null, false, uriInfo, batchBody);
+
+      SzRecordBatch batch = response.getData();
+      List<SzBatchRecordResult> results = batch.getResults();
+      assertEquals(4, results.size(), "Unexpected number of results");
+      assertEquals(3, batch.getSucceededCount(), "Unexpected success count");
+      assertEquals(1, batch.getFailedCount(), "Unexpected failure count");
+
+      for (int index = 0; index < results.size(); index++) {
+        assertEquals(index, results.get(index).getIndex(),
+                     "Results are out of order: " + results);
+      }
+      assertEquals("BATCH-1", results.get(0).getRecordId());
+      assertNull(results.get(0).getErrorMessage(),
+                 "Unexpected error for first record");
+      assertNotNull(results.get(1).getRecordId(),
+                    "Record ID was not generated for second record");
+      assertEquals(404, results.get(2).getHttpStatusCode(),
+                   "Unexpected status for unknown data source");
+      assertNotNull(results.get(2).getErrorMessage(),
+                    "Missing error for unknown data source");
+      assertEquals(SzRecordOperation.DELETE, results.get(3).getOperation());
+      assertNull(results.get(3).getErrorMessage(),
+                 "Deleting a missing record should not fail");
+
+      Long entityId = this.getEntityIdForRecordId(
+          SzRecordId.FACTORY.create(CUSTOMER_DATA_SOURCE, "BATCH-1"));
+      assertTrue(batch.getAffectedEntities().contains(entityId),
+                 "Affected entities " + batch.getAffectedEntities()
+                     + " do not include entity " + entityId);
+
+      // delete the record through the batch as well
+      String deleteBody = "[{\"operation\":\"DELETE\",\"record\":"
+          + "{\"DATA_SOURCE\":\"" + CUSTOMER_DATA_SOURCE + "\","
+          + "\"RECORD_ID\":\"BATCH-1\"}}]";
+      response = this.entityDataServices.writeRecordBatch(
+          null, 1, true, uriInfo, deleteBody);
+      batch = response.getData();
+      assertEquals(1, batch.getSucceededCount(), "Delete was not successful");
+      assertNotNull(batch.getResults().get(0).getInfo(),
+                    "Info was not returned for the delete");
+      assertTrue(batch.getAffectedEntities().contains(entityId),
+                 "Affected entities " + batch.getAffectedEntities()
+                     + " do not include deleted entity " + entityId);
+    });
+  }
+
 }
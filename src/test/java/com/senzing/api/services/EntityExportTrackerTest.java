@@ -0,0 +1,62 @@
+package com.senzing.api.services;
+
+import com.senzing.api.services.EntityExportServices.ExportTracker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the ordering checks of the {@link ExportTracker} used by {@link
+ * EntityExportServices}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class EntityExportTrackerTest {
+  private static final long CONFIG_ID = 1L;
+
+  private void scanAndExport(ExportTracker tracker, long... entityIds) {
+    for (long entityId : entityIds) {
+      if (tracker.scanned(entityId)) tracker.exported(entityId);
+    }
+  }
+
+  @Test
+  public void testAscendingExportAdvancesCursor() {
+    EntityExportCursor start = new EntityExportCursor(CONFIG_ID, 0, 1, 0L);
+    ExportTracker tracker = new ExportTracker(start);
+    this.scanAndExport(tracker, 1L, 2L, 5L);
+
+    assertTrue(tracker.isOrdered(), "Ascending export not ordered");
+    assertEquals(start.advance(5L), tracker.getCursor(),
+                 "Cursor not positioned after the last entity");
+  }
+
+  @Test
+  public void testUnorderedExportKeepsStartCursor() {
+    EntityExportCursor start = new EntityExportCursor(CONFIG_ID, 0, 1, 0L);
+    ExportTracker tracker = new ExportTracker(start);
+    this.scanAndExport(tracker, 1L, 5L, 3L, 7L);
+
+    assertFalse(tracker.isOrdered(), "Unordered export reported as ordered");
+    assertEquals(start, tracker.getCursor(),
+                 "Cursor of an unordered export does not repeat the export");
+    assertEquals(4L, tracker.toStatus().getExportedEntityCount(),
+                 "Entities not all exported after the order was violated");
+  }
+
+  @Test
+  public void testUnorderedResumeFails() {
+    EntityExportCursor start = new EntityExportCursor(CONFIG_ID, 0, 1, 4L);
+    ExportTracker tracker = new ExportTracker(start);
+    this.scanAndExport(tracker, 1L, 4L, 5L);
+
+    assertThrows(IllegalStateException.class, () -> tracker.scanned(2L),
+                 "Resumed export continued after the order was violated");
+    assertEquals(start.advance(5L), tracker.getCursor(),
+                 "Cursor moved by the entity out of order");
+  }
+}
@@ -10,8 +10,10 @@ import com.senzing.gen.api.services.EntityDataApi;
 import com.senzing.gen.api.services.EntityGraphApi;
 import com.senzing.repomgr.RepositoryManager;
 import com.senzing.util.CollectionUtilities;
+import com.senzing.util.JsonUtilities;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -19,8 +21,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.UnsupportedEncodingException;
@@ -32,8 +42,13 @@ import static com.senzing.api.model.SzFeatureMode.NONE;
 import static com.senzing.api.model.SzFeatureMode.WITH_DUPLICATES;
 import static com.senzing.api.model.SzHttpMethod.GET;
 import static com.senzing.util.CollectionUtilities.*;
+import static com.senzing.io.IOUtilities.UTF_8;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.TestInstance.Lifecycle;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -2717,4 +2732,133 @@ public class EntityGraphServicesTest extends AbstractServiceTest {
     }
   }
 
+  @Test
+  public void getPathMatrixTest() {
+    this.performTest(() -> {
+      String uriText = this.formatServerUri(
+          "entity-path-matrix?maxDegrees=" + DEFAULT_PATH_DEGREES);
+      MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+      queryParams.add("maxDegrees", String.valueOf(DEFAULT_PATH_DEGREES));
+      UriInfo uriInfo = this.newProxyUriInfo(uriText, queryParams);
+
+      String body = "{\"from\":[" + ABC123 + "," + MNO345 + "],"
+          + "\"to\":[" + DEF890 + "," + JKL456 + "]}";
+
+      Response response = this.entityGraphServices.findEntityPathMatrix(
+          DEFAULT_PATH_DEGREES, null, null, false, null, 0, null,
+          false, VERBOSE, WITH_DUPLICATES, false, false, uriInfo, body);
+
+      assertEquals(200, response.getStatus(),
+                   "Unexpected status for entity path matrix");
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      try {
+        ((StreamingOutput) response.getEntity()).write(baos);
+      } catch (IOException e) {
+        fail("Failed to stream the entity path matrix", e);
+      }
+
+      Set<Long> entityIds = new HashSet<>();
+      Map<List<SzRecordId>, JsonObject> paths = new HashMap<>();
+      String matrixText = new String(baos.toByteArray(), UTF_8);
+      for (String line : matrixText.split("\n")) {
+        JsonObject jsonObject = JsonUtilities.parseJsonObject(line);
+        JsonObject entity = JsonUtilities.getJsonObject(jsonObject, "entity");
+        if (entity != null) {
+          Long entityId = JsonUtilities.getLong(
+              JsonUtilities.getJsonObject(entity, "resolvedEntity"),
+              "entityId");
+          assertTrue(entityIds.add(entityId),
+                     "Entity sent more than once: " + entityId);
+          continue;
+        }
+        JsonObject path = JsonUtilities.getJsonObject(jsonObject, "path");
+        assertNotNull(path, "Unexpected line in entity path matrix: " + line);
+        SzRecordId from = SzRecordId.parse(path.getJsonObject("from"));
+        SzRecordId to = SzRecordId.parse(path.getJsonObject("to"));
+        assertNull(paths.put(List.of(from, to), path),
+                   "Pair sent more than once: " + from + " / " + to);
+      }
+
+      assertEquals(4, paths.size(), "Unexpected number of pairs: "
+          + paths.keySet());
+
+      Map<List<SzRecordId>, Integer> expectedLengths = Map.of(
+          List.of(ABC123, DEF890), 3,
+          List.of(ABC123, JKL456), 4,
+          List.of(MNO345, DEF890), 2,
+          List.of(MNO345, JKL456), 3);
+
+      expectedLengths.forEach((pair, expectedLength) -> {
+        JsonObject path = paths.get(pair);
+        assertNotNull(path, "Missing pair: " + pair);
+        JsonObject entityPath = JsonUtilities.getJsonObject(path, "entityPath");
+        assertNotNull(entityPath, "Missing entity path for pair: " + pair);
+        JsonArray pathIds = entityPath.getJsonArray("entityIds");
+        assertEquals(expectedLength, pathIds.size(),
+                     "Unexpected path length for pair: " + pair);
+        for (int index = 0; index < pathIds.size(); index++) {
+          long entityId = pathIds.getJsonNumber(index).longValue();
+          assertTrue(entityIds.contains(entityId),
+                     "Entity " + entityId + " in path for pair " + pair
+                         + " was not sent.");
+        }
+      });
+    });
+  }
+
+  @Test
+  public void getEntityNeighborsTest() {
+    this.performTest(() -> {
+      long entityId = this.getEntityIdForRecordId(ABC123);
+      long degree2Id = this.getEntityIdForRecordId(DEF890);
+      long degree3Id = this.getEntityIdForRecordId(JKL456);
+
+      String uriText = this.formatServerUri(
+          "entities/" + entityId + "/neighbors?maxDegrees=3");
+      MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+      queryParams.add("maxDegrees", "3");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText, queryParams);
+
+      SzEntityNeighborhoodResponse response
+          = this.entityGraphServices.getEntityNeighbors(
+              entityId, 3, 10000, false, uriInfo);
+
+      SzEntityNeighborhood neighborhood = response.getData();
+      assertEquals(entityId, neighborhood.getEntityId(),
+                   "Unexpected subject entity ID");
+      assertFalse(neighborhood.isTruncated(), "Unexpectedly truncated");
+
+      Map<Long, SzEntityNeighbor> neighbors = new HashMap<>();
+      for (SzEntityNeighbor neighbor : neighborhood.getNeighbors()) {
+        assertNull(neighbors.put(neighbor.getEntityId(), neighbor),
+                   "Neighbor found more than once: " + neighbor);
+        assertNotEquals(entityId, neighbor.getEntityId(),
+                        "Subject entity returned as a neighbor");
+      }
+      assertTrue(neighbors.containsKey(degree2Id),
+                 "Missing second-degree neighbor: " + degree2Id);
+      assertEquals(2, neighbors.get(degree2Id).getDegrees(),
+                   "Unexpected degrees for neighbor: " + degree2Id);
+      assertTrue(neighbors.containsKey(degree3Id),
+                 "Missing third-degree neighbor: " + degree3Id);
+      assertEquals(3, neighbors.get(degree3Id).getDegrees(),
+                   "Unexpected degrees for neighbor: " + degree3Id);
+
+      // the counts should agree with the neighbors
+      SzEntityNeighborhoodResponse countResponse
+          = this.entityGraphServices.getEntityNeighbors(
+              entityId, 3, 10000, true, uriInfo);
+      SzEntityNeighborhood counts = countResponse.getData();
+      assertNull(counts.getNeighbors(), "Neighbors returned for count only");
+      int total = 0;
+      for (int count : counts.getDegreeCounts().values()) {
+        total += count;
+      }
+      assertEquals(neighbors.size(), total,
+                   "Unexpected total of degree counts: "
+                       + counts.getDegreeCounts());
+    });
+  }
+
 }
@@ -0,0 +1,227 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzLoadThrottleBudget;
+import com.senzing.util.JsonUtilities;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+import static com.senzing.api.model.SzLoadThrottleScope.*;
+
+/**
+ * Tests the token buckets and concurrency semaphores of {@link LoadThrottle}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class LoadThrottleTest {
+  private static final long TIMEOUT = 10000L;
+
+  private LoadThrottle newLoadThrottle(String jsonText) {
+    return new LoadThrottle(JsonUtilities.parseJsonObject(jsonText));
+  }
+
+  private Future<LoadThrottle.Permit> acquireAsync(ExecutorService executor,
+                                                   LoadThrottle    throttle,
+                                                   String          dataSource,
+                                                   String          clientId)
+  {
+    return executor.submit(() -> throttle.acquire(dataSource, clientId));
+  }
+
+  private SzLoadThrottleBudget getBudget(LoadThrottle throttle, String key) {
+    for (SzLoadThrottleBudget budget : throttle.getBudgets()) {
+      if (budget.getKey().equals(key)) return budget;
+    }
+    return null;
+  }
+
+  @Test
+  public void testTokenBucketAllowsBurst() throws Exception {
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"dataSources\":{\"TEST\":{\"rate\":100}}}");
+
+    // the bucket starts with one second's worth of tokens
+    long start = System.nanoTime();
+    for (int index = 0; index < 50; index++) {
+      throttle.acquire("TEST", null).close();
+    }
+    long elapsed = MILLISECONDS.convert(System.nanoTime() - start,
+                                        TimeUnit.NANOSECONDS);
+    assertTrue(elapsed < 500L, "Burst within the bucket was throttled: "
+        + elapsed + "ms");
+  }
+
+  @Test
+  public void testTokenBucketLimitsRate() throws Exception {
+    double rate = 20.0;
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"dataSources\":{\"TEST\":{\"rate\":" + rate + "}}}");
+
+    // drain the initial burst, then each record must wait for a token
+    int recordCount = 40;
+    long start = System.nanoTime();
+    long waitNanos = 0L;
+    for (int index = 0; index < recordCount; index++) {
+      try (LoadThrottle.Permit permit = throttle.acquire("TEST", null)) {
+        waitNanos += permit.getWaitNanos();
+      }
+    }
+    long elapsed = MILLISECONDS.convert(System.nanoTime() - start,
+                                        TimeUnit.NANOSECONDS);
+    long expected = (long) (((recordCount - rate) / rate) * 1000.0);
+    assertTrue(elapsed >= expected - 100L,
+               "Records were admitted faster than the rate: " + elapsed
+                   + "ms for " + recordCount + " records");
+    assertTrue(waitNanos > 0L, "Permits did not report waiting");
+
+    SzLoadThrottleBudget budget = this.getBudget(throttle, "TEST");
+    assertEquals(DATA_SOURCE, budget.getScope(), "Unexpected budget scope");
+    assertEquals(rate, budget.getRateLimit(), "Unexpected rate limit");
+    assertTrue(budget.getThrottledCount() > 0L,
+               "Throttled records were not counted");
+    assertTrue(budget.getThrottledCount() <= recordCount - (long) rate,
+               "Records within the burst were counted as throttled: "
+                   + budget.getThrottledCount());
+  }
+
+  @Test
+  public void testSemaphoreLimitsConcurrency() throws Exception {
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"dataSources\":{\"TEST\":{\"concurrency\":2}}}");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      LoadThrottle.Permit first = throttle.acquire("TEST", null);
+      LoadThrottle.Permit second = throttle.acquire("TEST", null);
+      assertEquals(2, this.getBudget(throttle, "TEST").getInFlightCount(),
+                   "Unexpected in-flight count");
+
+      Future<LoadThrottle.Permit> third
+          = this.acquireAsync(executor, throttle, "TEST", null);
+      assertThrows(TimeoutException.class, () -> third.get(200L, MILLISECONDS),
+                   "Record admitted beyond the concurrency limit");
+
+      first.close();
+      LoadThrottle.Permit permit = third.get(TIMEOUT, MILLISECONDS);
+      assertEquals(2, this.getBudget(throttle, "TEST").getInFlightCount(),
+                   "Unexpected in-flight count after release");
+
+      // closing a permit again does not release another slot
+      first.close();
+      assertEquals(2, this.getBudget(throttle, "TEST").getInFlightCount(),
+                   "Closing a permit twice released another slot");
+
+      permit.close();
+      second.close();
+      SzLoadThrottleBudget budget = this.getBudget(throttle, "TEST");
+      assertEquals(0, budget.getInFlightCount(),
+                   "Permits not released when closed");
+      assertTrue(budget.getThrottledCount() >= 1L,
+                 "Waiting record was not counted as throttled");
+
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testClientBudgetBeforeDataSource() throws Exception {
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"dataSources\":{\"TEST\":{\"concurrency\":1}},"
+            + "\"clients\":{\"tenant-a\":{\"concurrency\":1}}}");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      LoadThrottle.Permit permit = throttle.acquire("TEST", "tenant-a");
+
+      // a blocked client does not hold the data source slot
+      Future<LoadThrottle.Permit> blocked
+          = this.acquireAsync(executor, throttle, "TEST", "tenant-a");
+      assertThrows(TimeoutException.class,
+                   () -> blocked.get(200L, MILLISECONDS),
+                   "Record admitted beyond the client concurrency limit");
+      assertEquals(1, this.getBudget(throttle, "TEST").getInFlightCount(),
+                   "Waiting client acquired the data source budget");
+
+      permit.close();
+      blocked.get(TIMEOUT, MILLISECONDS).close();
+
+      List<SzLoadThrottleBudget> budgets = throttle.getBudgets();
+      assertEquals(2, budgets.size(), "Unexpected budgets: " + budgets);
+      assertEquals(CLIENT, budgets.get(0).getScope(),
+                   "Client budget is not listed first");
+      assertEquals(DATA_SOURCE, budgets.get(1).getScope(),
+                   "Data source budget is not listed last");
+
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testUnlistedClientsSharePooledBudget() throws Exception {
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"clients\":{\"tenant-a\":{\"concurrency\":1},"
+            + "\"*\":{\"concurrency\":1}}}");
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      LoadThrottle.Permit permit = throttle.acquire("TEST", "tenant-b");
+
+      // another unlisted client waits on the same pooled budget
+      Future<LoadThrottle.Permit> blocked
+          = this.acquireAsync(executor, throttle, "TEST", "tenant-c");
+      assertThrows(TimeoutException.class,
+                   () -> blocked.get(200L, MILLISECONDS),
+                   "Unlisted clients do not share the pooled budget");
+
+      // a listed client has its own budget
+      throttle.acquire("TEST", "tenant-a").close();
+
+      permit.close();
+      blocked.get(TIMEOUT, MILLISECONDS).close();
+
+      for (int index = 0; index < 100; index++) {
+        throttle.acquire("TEST", "client-" + index).close();
+      }
+      List<SzLoadThrottleBudget> budgets = throttle.getBudgets();
+      assertEquals(2, budgets.size(),
+                   "Budgets grew with the unlisted clients: " + budgets);
+      assertNotNull(this.getBudget(throttle, LoadThrottle.DEFAULT_KEY),
+                    "Pooled budget not found");
+      assertNotNull(this.getBudget(throttle, "tenant-a"),
+                    "Listed client budget not found");
+
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testUnidentifiedClientNotThrottled() throws Exception {
+    LoadThrottle throttle = this.newLoadThrottle(
+        "{\"clients\":{\"*\":{\"concurrency\":1}}}");
+    LoadThrottle.Permit first = throttle.acquire("TEST", null);
+    LoadThrottle.Permit second = throttle.acquire("TEST", null);
+    first.close();
+    second.close();
+    assertEquals(Collections.emptyList(), throttle.getBudgets(),
+                 "Budget used for an unidentified client");
+  }
+
+  @Test
+  public void testInvalidLimits() {
+    assertThrows(IllegalArgumentException.class,
+                 () -> this.newLoadThrottle(
+                     "{\"dataSources\":{\"TEST\":{\"rate\":0}}}"));
+    assertThrows(IllegalArgumentException.class,
+                 () -> this.newLoadThrottle(
+                     "{\"clients\":{\"tenant-a\":{\"concurrency\":-1}}}"));
+    assertThrows(IllegalArgumentException.class,
+                 () -> this.newLoadThrottle("{\"clients\":[]}"));
+  }
+}
@@ -0,0 +1,140 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.SzBulkLoadPartition;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests the ordering, closing and aborting of {@link PartitionedDispatcher}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class PartitionedDispatcherTest {
+  private static final long TIMEOUT = 10000L;
+
+  private PartitionedDispatcher newDispatcher(int partitionCount) {
+    return new PartitionedDispatcher(
+        Executors.defaultThreadFactory(), "test", partitionCount);
+  }
+
+  @Test
+  public void testSameKeyInOrder() throws Exception {
+    PartitionedDispatcher dispatcher = this.newDispatcher(4);
+    Map<String, List<Integer>> executed = new ConcurrentHashMap<>();
+    for (int index = 0; index < 400; index++) {
+      String key = "key-" + (index % 10);
+      int value = index;
+      dispatcher.dispatch(key, partition -> executed.computeIfAbsent(
+          key, k -> Collections.synchronizedList(new ArrayList<>())).add(value));
+    }
+    dispatcher.close();
+
+    assertEquals(10, executed.size(), "Unexpected keys executed");
+    for (List<Integer> values : executed.values()) {
+      List<Integer> sorted = new ArrayList<>(values);
+      Collections.sort(sorted);
+      assertEquals(sorted, values, "Tasks for a key executed out of order");
+      assertEquals(40, values.size(), "Tasks for a key not all executed");
+    }
+    long dispatched = 0L;
+    for (SzBulkLoadPartition partition : dispatcher.getPartitions()) {
+      dispatched += partition.getRecordCount();
+      assertEquals(0, partition.getQueueDepth(),
+                   "Tasks remain queued after closing");
+    }
+    assertEquals(400L, dispatched, "Unexpected dispatched count");
+  }
+
+  @Test
+  public void testCloseExecutesQueuedTasks() throws Exception {
+    PartitionedDispatcher dispatcher = this.newDispatcher(1);
+    CountDownLatch gate = new CountDownLatch(1);
+    AtomicInteger executed = new AtomicInteger(0);
+    AtomicInteger discarded = new AtomicInteger(0);
+    dispatcher.dispatch(null, partition -> {
+      try {
+        gate.await();
+      } catch (InterruptedException ignore) {
+        // ignore
+      }
+      executed.incrementAndGet();
+    }, discarded::incrementAndGet);
+    for (int index = 0; index < 50; index++) {
+      dispatcher.dispatch(null, partition -> executed.incrementAndGet(),
+                          discarded::incrementAndGet);
+    }
+    gate.countDown();
+    dispatcher.close();
+
+    assertEquals(51, executed.get(), "Queued tasks not executed on close");
+    assertEquals(0, discarded.get(), "Tasks discarded on close");
+    assertEquals(0, dispatcher.abort(), "Abort after close discarded tasks");
+  }
+
+  @Test
+  public void testAbortDiscardsQueuedTasks() throws Exception {
+    PartitionedDispatcher dispatcher = this.newDispatcher(2);
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch gate = new CountDownLatch(1);
+    AtomicInteger executed = new AtomicInteger(0);
+    AtomicInteger discarded = new AtomicInteger(0);
+
+    // block both partitions with a task that is already executing
+    for (int index = 0; index < 2; index++) {
+      dispatcher.dispatch(null, partition -> {
+        started.countDown();
+        try {
+          gate.await();
+        } catch (InterruptedException ignore) {
+          // ignore
+        }
+        executed.incrementAndGet();
+      }, discarded::incrementAndGet);
+    }
+    assertTrue(started.await(TIMEOUT, MILLISECONDS),
+               "Blocking tasks did not start");
+
+    int queuedCount = 100;
+    for (int index = 0; index < queuedCount; index++) {
+      dispatcher.dispatch(null, partition -> executed.incrementAndGet(),
+                          discarded::incrementAndGet);
+    }
+
+    // abort from another thread since it waits on the executing tasks
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Integer> future = executor.submit(dispatcher::abort);
+      assertThrows(TimeoutException.class,
+                   () -> future.get(200L, MILLISECONDS),
+                   "Abort did not wait for the executing tasks");
+      assertEquals(queuedCount, discarded.get(),
+                   "Queued tasks not discarded before the executing tasks "
+                       + "completed");
+
+      gate.countDown();
+      assertEquals(queuedCount, future.get(TIMEOUT, MILLISECONDS),
+                   "Unexpected discarded count");
+      assertEquals(2, executed.get(),
+                   "Only the executing tasks should have completed");
+
+    } finally {
+      gate.countDown();
+      executor.shutdownNow();
+    }
+
+    assertThrows(IllegalStateException.class,
+                 () -> dispatcher.dispatch(null, partition -> { }),
+                 "Task dispatched after abort");
+    assertEquals(0, dispatcher.abort(), "Second abort discarded tasks");
+  }
+}
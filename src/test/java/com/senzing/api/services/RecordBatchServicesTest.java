@@ -0,0 +1,166 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.util.AccessToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.UriInfo;
+import java.io.File;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests <tt>POST /records/batch</tt> via {@link EntityDataServices} against
+ * a {@link StubApiProvider}.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class RecordBatchServicesTest extends AbstractServiceTest {
+  private static final String DATA_SOURCE = "TEST";
+
+  private static final int RECORD_COUNT = 20;
+
+  private StubApiProvider provider;
+
+  private AccessToken providerToken;
+
+  private EntityDataServices entityDataServices;
+
+  @BeforeAll
+  public void setup() {
+    this.entityDataServices = new EntityDataServices();
+  }
+
+  @BeforeEach
+  public void installProvider() {
+    this.provider = new StubApiProvider(DATA_SOURCE);
+    this.provider.setPublishingInfo(true);
+    this.providerToken = SzApiProvider.Factory.installProvider(this.provider);
+  }
+
+  @AfterEach
+  public void uninstallProvider() {
+    SzApiProvider.Factory.uninstallProvider(this.providerToken);
+  }
+
+  @AfterAll
+  public void teardown() {
+    this.getRepositoryDirectory().delete();
+  }
+
+  private String newBatchBody(int recordCount) {
+    StringBuilder sb = new StringBuilder();
+    for (int index = 0; index < recordCount; index++) {
+      sb.append("{\"DATA_SOURCE\":\"").append(DATA_SOURCE)
+          .append("\",\"RECORD_ID\":\"").append(index)
+          .append("\",\"NAME_FULL\":\"Joe Schmoe ").append(index)
+          .append("\"}\n");
+    }
+    return sb.toString();
+  }
+
+  private SzRecordBatch writeBatch(String batchBody, Integer parallelism) {
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("records/batch"));
+
+    return this.entityDataServices.writeRecordBatch(
+        null, parallelism, false, uriInfo, batchBody).getData();
+  }
+
+  @Test
+  public void testWriteBatch() {
+    SzRecordBatch batch = this.writeBatch(this.newBatchBody(RECORD_COUNT), null);
+    assertEquals(RECORD_COUNT, batch.getSucceededCount(),
+                 "Unexpected succeeded count");
+    assertEquals(0, batch.getUnchangedCount(), "Unexpected unchanged count");
+    assertEquals(0, batch.getFailedCount(), "Unexpected failed count");
+    assertEquals(RECORD_COUNT, this.provider.getAddedRecordIds().size(),
+                 "Unexpected number of records added");
+    assertEquals(RECORD_COUNT, this.provider.getPublishedInfo().size(),
+                 "INFO not published for every record");
+    assertEquals(RECORD_COUNT, batch.getAffectedEntities().size(),
+                 "Unexpected affected entities");
+  }
+
+  @Test
+  public void testUnchangedRecordsReported() throws Exception {
+    File hashFile = File.createTempFile("record-hashes-", ".db");
+    hashFile.deleteOnExit();
+    RecordHashStore hashStore = new RecordHashStore(hashFile);
+    try {
+      this.provider.setRecordHashStore(hashStore);
+      this.writeBatch(this.newBatchBody(RECORD_COUNT), null);
+      int addedCount = this.provider.getAddedRecordIds().size();
+      int publishedCount = this.provider.getPublishedInfo().size();
+
+      // write the same records again along with some new ones
+      String body = this.newBatchBody(RECORD_COUNT)
+          + "{\"DATA_SOURCE\":\"" + DATA_SOURCE
+          + "\",\"RECORD_ID\":\"NEW-1\",\"NAME_FULL\":\"Jane Doe\"}\n";
+      SzRecordBatch batch = this.writeBatch(body, null);
+
+      assertEquals(1, batch.getSucceededCount(),
+                   "Unchanged records counted as written");
+      assertEquals(RECORD_COUNT, batch.getUnchangedCount(),
+                   "Unexpected unchanged count");
+      assertEquals(0, batch.getFailedCount(), "Unexpected failed count");
+      List<SzBatchRecordResult> results = batch.getResults();
+      for (int index = 0; index < RECORD_COUNT; index++) {
+        assertTrue(results.get(index).isUnchanged(),
+                   "Record not marked unchanged: " + results.get(index));
+        assertEquals(200, results.get(index).getHttpStatusCode(),
+                     "Unexpected status for an unchanged record");
+      }
+      assertFalse(results.get(RECORD_COUNT).isUnchanged(),
+                  "Changed record marked unchanged");
+      assertEquals(addedCount + 1, this.provider.getAddedRecordIds().size(),
+                   "Unchanged records were written again");
+      assertEquals(publishedCount + 1, this.provider.getPublishedInfo().size(),
+                   "INFO published for unchanged records");
+
+    } finally {
+      this.provider.setRecordHashStore(null);
+      hashStore.close();
+      hashFile.delete();
+    }
+  }
+
+  @Test
+  public void testFailedGroupStillPublishesInfo() {
+    this.provider.getBrokenRecordIds().add("7");
+
+    WebApplicationException e = assertThrows(
+        WebApplicationException.class,
+        () -> this.writeBatch(this.newBatchBody(RECORD_COUNT), 2),
+        "Batch with a broken record did not fail");
+    assertEquals(500, e.getResponse().getStatus(),
+                 "Unexpected status for a broken record");
+
+    // the groups after the failed one are still written
+    List<String> addedIds = this.provider.getAddedRecordIds();
+    assertEquals(RECORD_COUNT - 1, addedIds.size(),
+                 "Other groups not written after the failure: " + addedIds);
+    assertFalse(addedIds.contains("7"), "Broken record was added");
+
+    // every record that was written has its INFO published
+    List<String> published = this.provider.getPublishedInfo();
+    assertEquals(addedIds.size(), published.size(),
+                 "INFO not published for the records that were written");
+    Set<String> publishedIds = new TreeSet<>();
+    for (String info : published) {
+      publishedIds.add(info.replaceAll(".*\"RECORD_ID\":\"([^\"]*)\".*", "$1"));
+    }
+    assertEquals(new TreeSet<>(addedIds), publishedIds,
+                 "INFO published for the wrong records");
+  }
+}
@@ -0,0 +1,120 @@
+package com.senzing.api.services;
+
+import com.senzing.api.model.*;
+import com.senzing.util.AccessToken;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.UriInfo;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.TestInstance.Lifecycle;
+
+/**
+ * Tests that the {@link RequestDeadline} of a request is carried onto the
+ * auxiliary threads used by a fan-out endpoint so that the engine work of an
+ * expired request is discarded rather than performed.
+ */
+@TestInstance(Lifecycle.PER_CLASS)
+@Execution(ExecutionMode.SAME_THREAD)
+public class RequestDeadlineFanOutTest extends AbstractServiceTest {
+  private static final String DATA_SOURCE = "TEST";
+
+  private static final int RECORD_COUNT = 20;
+
+  private StubApiProvider provider;
+
+  private AccessToken providerToken;
+
+  private EntityDataServices entityDataServices;
+
+  @BeforeAll
+  public void setup() {
+    this.entityDataServices = new EntityDataServices();
+  }
+
+  @BeforeEach
+  public void installProvider() {
+    this.provider = new StubApiProvider(DATA_SOURCE);
+    this.providerToken = SzApiProvider.Factory.installProvider(this.provider);
+  }
+
+  @AfterEach
+  public void uninstallProvider() {
+    RequestDeadline.setCurrent(null);
+    SzApiProvider.Factory.uninstallProvider(this.providerToken);
+  }
+
+  @AfterAll
+  public void teardown() {
+    this.getRepositoryDirectory().delete();
+  }
+
+  private SzRecordBatchResponse writeBatch() {
+    StringBuilder sb = new StringBuilder();
+    for (int index = 0; index < RECORD_COUNT; index++) {
+      sb.append("{\"DATA_SOURCE\":\"").append(DATA_SOURCE)
+          .append("\",\"RECORD_ID\":\"").append(index)
+          .append("\",\"NAME_FULL\":\"Joe Schmoe ").append(index)
+          .append("\"}\n");
+    }
+    UriInfo uriInfo = this.newProxyUriInfo(
+        this.formatServerUri("records/batch"));
+
+    return this.entityDataServices.writeRecordBatch(
+        null, null, false, uriInfo, sb.toString());
+  }
+
+  @Test
+  public void testDeadlineCarriedToBatchRecords() {
+    RequestDeadline.setCurrent(new RequestDeadline(60000L, null, null));
+
+    SzRecordBatch batch = this.writeBatch().getData();
+    assertEquals(RECORD_COUNT, batch.getSucceededCount(),
+                 "Unexpected succeeded count");
+    assertEquals(RECORD_COUNT, this.provider.getAddedRecordIds().size(),
+                 "Records not added with time remaining");
+    assertEquals(RECORD_COUNT, this.provider.getDeadlineTaskCount(),
+                 "Deadline not carried onto the auxiliary threads");
+    assertEquals(0, this.provider.getDiscardedTaskCount(),
+                 "Tasks discarded with time remaining");
+  }
+
+  @Test
+  public void testExpiredDeadlineDiscardsBatchRecords() throws Exception {
+    RequestDeadline.setCurrent(new RequestDeadline(1L, null, null));
+    Thread.sleep(20L);
+
+    WebApplicationException e = assertThrows(
+        WebApplicationException.class, this::writeBatch,
+        "Batch written after the deadline expired");
+    assertEquals(504, e.getResponse().getStatus(),
+                 "Unexpected status for an expired deadline");
+    assertEquals(0, this.provider.getAddedRecordIds().size(),
+                 "Records added after the deadline expired");
+    assertTrue(this.provider.getDiscardedTaskCount() > 0,
+               "Expired deadline not seen on the auxiliary threads");
+  }
+
+  @Test
+  public void testCancelledDeadlineDiscardsBatchRecords() {
+    RequestDeadline deadline = new RequestDeadline(null, null, null);
+    deadline.cancel();
+    RequestDeadline.setCurrent(deadline);
+
+    WebApplicationException e = assertThrows(
+        WebApplicationException.class, this::writeBatch,
+        "Batch written after the request was cancelled");
+    assertEquals(503, e.getResponse().getStatus(),
+                 "Unexpected status for a cancelled request");
+    assertEquals(0, this.provider.getAddedRecordIds().size(),
+                 "Records added after the request was cancelled");
+  }
+}
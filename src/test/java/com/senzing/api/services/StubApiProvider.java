@@ -0,0 +1,518 @@
+package com.senzing.api.services;
+
+import com.senzing.g2.engine.*;
+import com.senzing.util.AccessToken;
+import com.senzing.util.WorkerThreadPool;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Provides an {@link SzApiProvider} for tests that do not require a Senzing
+ * repository.  The {@link G2Engine} is a stub that records the records that
+ * are added and fails those whose record ID's are {@linkplain
+ * #getFailingRecordIds() marked as failing} or {@linkplain
+ * #getBrokenRecordIds() marked as broken}.  Adding a record can also be
+ * held until a {@linkplain #holdRecords() gate} is {@linkplain
+ * #releaseRecords() released}.  Like the server, tasks are discarded if the
+ * {@link RequestDeadline} of the calling thread has expired or been
+ * cancelled.
+ */
+public class StubApiProvider implements SzApiProvider {
+  /**
+   * The data sources that are recognized.
+   */
+  private final Set<String> dataSources;
+
+  /**
+   * The stub {@link G2Engine}.
+   */
+  private final G2Engine engineApi;
+
+  /**
+   * The record ID's of the records that were added in the order added.
+   */
+  private final Queue<String> addedRecordIds = new ConcurrentLinkedQueue<>();
+
+  /**
+   * The record ID's of the records that fail to be added.
+   */
+  private final Set<String> failingRecordIds
+      = Collections.synchronizedSet(new HashSet<>());
+
+  /**
+   * The record ID's of the records for which adding throws an exception.
+   */
+  private final Set<String> brokenRecordIds
+      = Collections.synchronizedSet(new HashSet<>());
+
+  /**
+   * The bodies of the INFO messages that were published in the order sent.
+   */
+  private final Queue<String> publishedInfo = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Flag indicating if there is an info sink to publish INFO messages.
+   */
+  private boolean publishingInfo = false;
+
+  /**
+   * The gate on which adding a record waits, or <tt>null</tt> if none.
+   */
+  private volatile CountDownLatch gate = null;
+
+  /**
+   * The number of records that have started to be added.
+   */
+  private volatile int startedCount = 0;
+
+  /**
+   * Flag indicating if prolonged operations are authorized.
+   */
+  private volatile boolean authorizing = true;
+
+  /**
+   * The {@link BulkLoadJobManager}, or <tt>null</tt> if none.
+   */
+  private volatile BulkLoadJobManager bulkLoadJobManager = null;
+
+  /**
+   * The bulk-load checkpoint directory, or <tt>null</tt> if none.
+   */
+  private volatile File checkpointDirectory = null;
+
+  /**
+   * The {@link LoadThrottle}, or <tt>null</tt> if none.
+   */
+  private volatile LoadThrottle loadThrottle = null;
+
+  /**
+   * The {@link RecordHashStore}, or <tt>null</tt> if none.
+   */
+  private volatile RecordHashStore recordHashStore = null;
+
+  /**
+   * The number of tasks executed with a {@link RequestDeadline}.
+   */
+  private final AtomicInteger deadlineTaskCount = new AtomicInteger(0);
+
+  /**
+   * The number of tasks discarded because their {@link RequestDeadline} had
+   * expired or been cancelled.
+   */
+  private final AtomicInteger discardedTaskCount = new AtomicInteger(0);
+
+  /**
+   * Constructs with the data sources that are recognized.
+   *
+   * @param dataSources The data sources that are recognized.
+   */
+  public StubApiProvider(String... dataSources) {
+    this.dataSources = new LinkedHashSet<>(Arrays.asList(dataSources));
+
+    InvocationHandler handler = (p, m, a) -> {
+      switch (m.getName()) {
+        case "addRecord":
+          return this.addRecord((String) a[1]);
+        case "addRecordWithInfo": {
+          int returnCode = this.addRecord((String) a[1]);
+          if (returnCode == 0) {
+            ((StringBuffer) a[5]).append(this.newInfo((String) a[0],
+                                                      (String) a[1]));
+          }
+          return returnCode;
+        }
+        case "getLastException":
+          return "Stub failure";
+        default:
+          Class<?> returnType = m.getReturnType();
+          if (returnType == Integer.TYPE) return 0;
+          if (returnType == Long.TYPE) return 0L;
+          if (returnType == Boolean.TYPE) return false;
+          return null;
+      }
+    };
+
+    ClassLoader loader = this.getClass().getClassLoader();
+    Class[] classes = { G2Engine.class };
+    this.engineApi = (G2Engine) Proxy.newProxyInstance(loader, classes, handler);
+  }
+
+  /**
+   * Adds the record with the specified record ID to the stub engine.
+   *
+   * @param recordId The record ID of the record.
+   * @return The return code for the native function.
+   * @throws InterruptedException If interrupted while waiting on the gate.
+   */
+  private int addRecord(String recordId) throws InterruptedException {
+    synchronized (this) {
+      this.startedCount++;
+      this.notifyAll();
+    }
+    CountDownLatch gate = this.gate;
+    if (gate != null) gate.await();
+    if (this.brokenRecordIds.contains(recordId)) {
+      throw new IllegalStateException("Stub broken for record: " + recordId);
+    }
+    if (this.failingRecordIds.contains(recordId)) return -2;
+    this.addedRecordIds.add(recordId);
+    return 0;
+  }
+
+  /**
+   * Creates the INFO message JSON text for adding the record with the
+   * specified data source and record ID, which affects the entity whose
+   * entity ID is the record's position in the order of records added.
+   *
+   * @param dataSource The data source of the record.
+   * @param recordId The record ID of the record.
+   * @return The INFO message JSON text.
+   */
+  private String newInfo(String dataSource, String recordId) {
+    return "{\"DATA_SOURCE\":\"" + dataSource + "\",\"RECORD_ID\":\""
+        + recordId + "\",\"AFFECTED_ENTITIES\":[{\"ENTITY_ID\":"
+        + this.addedRecordIds.size() + "}],\"INTERESTING_ENTITIES\":[]}";
+  }
+
+  /**
+   * Causes records that are subsequently added to wait until {@link
+   * #releaseRecords()} is called.
+   */
+  public void holdRecords() {
+    this.gate = new CountDownLatch(1);
+  }
+
+  /**
+   * Releases the records that are waiting to be added.
+   */
+  public void releaseRecords() {
+    CountDownLatch gate = this.gate;
+    this.gate = null;
+    if (gate != null) gate.countDown();
+  }
+
+  /**
+   * Waits for at least the specified number of records to start to be
+   * added.
+   *
+   * @param count   The number of records to wait for.
+   * @param timeout The maximum number of milliseconds to wait.
+   * @return <tt>true</tt> if the records started, otherwise <tt>false</tt>.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  public synchronized boolean awaitStarted(int count, long timeout)
+      throws InterruptedException
+  {
+    long end = System.currentTimeMillis() + timeout;
+    while (this.startedCount < count) {
+      long remaining = end - System.currentTimeMillis();
+      if (remaining <= 0L) return false;
+      this.wait(remaining);
+    }
+    return true;
+  }
+
+  /**
+   * Gets the record ID's of the records that were added in the order added.
+   *
+   * @return The {@link List} of record ID's.
+   */
+  public List<String> getAddedRecordIds() {
+    return new ArrayList<>(this.addedRecordIds);
+  }
+
+  /**
+   * Gets the modifiable {@link Set} of record ID's of the records that fail
+   * to be added.
+   *
+   * @return The {@link Set} of record ID's of the records that fail.
+   */
+  public Set<String> getFailingRecordIds() {
+    return this.failingRecordIds;
+  }
+
+  /**
+   * Gets the modifiable {@link Set} of record ID's of the records for which
+   * adding throws an unexpected exception.
+   *
+   * @return The {@link Set} of record ID's of the broken records.
+   */
+  public Set<String> getBrokenRecordIds() {
+    return this.brokenRecordIds;
+  }
+
+  /**
+   * Sets whether there is an info sink to which INFO messages are published.
+   *
+   * @param publishingInfo <tt>true</tt> if INFO messages are published,
+   *                       otherwise <tt>false</tt>.
+   */
+  public void setPublishingInfo(boolean publishingInfo) {
+    this.publishingInfo = publishingInfo;
+  }
+
+  /**
+   * Gets the bodies of the INFO messages that were published in the order
+   * they were sent.
+   *
+   * @return The {@link List} of INFO message bodies.
+   */
+  public List<String> getPublishedInfo() {
+    return new ArrayList<>(this.publishedInfo);
+  }
+
+  /**
+   * Sets whether prolonged operations are authorized.
+   *
+   * @param authorizing <tt>true</tt> if prolonged operations are authorized,
+   *                    otherwise <tt>false</tt>.
+   */
+  public void setAuthorizing(boolean authorizing) {
+    this.authorizing = authorizing;
+  }
+
+  /**
+   * Sets the {@link BulkLoadJobManager} to provide.
+   *
+   * @param jobManager The {@link BulkLoadJobManager}, or <tt>null</tt> if
+   *                   none.
+   */
+  public void setBulkLoadJobManager(BulkLoadJobManager jobManager) {
+    this.bulkLoadJobManager = jobManager;
+  }
+
+  /**
+   * Sets the bulk-load checkpoint directory to provide.
+   *
+   * @param directory The checkpoint directory, or <tt>null</tt> if none.
+   */
+  public void setBulkLoadCheckpointDirectory(File directory) {
+    this.checkpointDirectory = directory;
+  }
+
+  /**
+   * Sets the {@link LoadThrottle} to provide.
+   *
+   * @param loadThrottle The {@link LoadThrottle}, or <tt>null</tt> if none.
+   */
+  public void setLoadThrottle(LoadThrottle loadThrottle) {
+    this.loadThrottle = loadThrottle;
+  }
+
+  /**
+   * Sets the {@link RecordHashStore} to provide.
+   *
+   * @param hashStore The {@link RecordHashStore}, or <tt>null</tt> if none.
+   */
+  public void setRecordHashStore(RecordHashStore hashStore) {
+    this.recordHashStore = hashStore;
+  }
+
+  @Override
+  public String getDescription() {
+    return "Stub API Provider";
+  }
+
+  @Override
+  public G2Product getProductApi() {
+    return null;
+  }
+
+  @Override
+  public G2Engine getEngineApi() {
+    return this.engineApi;
+  }
+
+  @Override
+  public G2Config getConfigApi() {
+    return null;
+  }
+
+  @Override
+  public G2ConfigMgr getConfigMgrApi() {
+    return null;
+  }
+
+  @Override
+  public G2Diagnostic getDiagnosticApi() {
+    return null;
+  }
+
+  @Override
+  public String getApiProviderVersion() {
+    return "0.0.0";
+  }
+
+  @Override
+  public String getRestApiVersion() {
+    return "0.0.0";
+  }
+
+  @Override
+  public String getNativeApiVersion() {
+    return "0.0.0";
+  }
+
+  @Override
+  public String getNativeApiBuildVersion() {
+    return "0.0.0";
+  }
+
+  @Override
+  public String getNativeApiBuildNumber() {
+    return "0";
+  }
+
+  @Override
+  public Date getNativeApiBuildDate() {
+    return new Date(0L);
+  }
+
+  @Override
+  public String getConfigCompatibilityVersion() {
+    return "0";
+  }
+
+  @Override
+  public int getConcurrency() {
+    return 4;
+  }
+
+  @Override
+  public String getBasePath() {
+    return "/";
+  }
+
+  @Override
+  public int getWebSocketsMessageMaxSize() {
+    return 4096;
+  }
+
+  /**
+   * Gets the number of tasks executed with a {@link RequestDeadline}
+   * associated with the calling thread.
+   *
+   * @return The number of tasks executed with a {@link RequestDeadline}.
+   */
+  public int getDeadlineTaskCount() {
+    return this.deadlineTaskCount.get();
+  }
+
+  /**
+   * Gets the number of tasks discarded because their {@link RequestDeadline}
+   * had expired or been cancelled.
+   *
+   * @return The number of discarded tasks.
+   */
+  public int getDiscardedTaskCount() {
+    return this.discardedTaskCount.get();
+  }
+
+  @Override
+  public <T, E extends Exception> T executeInThread(
+      WorkerThreadPool.Task<T, E> task)
+      throws E
+  {
+    RequestDeadline deadline = RequestDeadline.getCurrent();
+    if (deadline != null) {
+      this.deadlineTaskCount.incrementAndGet();
+      if (deadline.isCancelled() || deadline.isExpired()) {
+        this.discardedTaskCount.incrementAndGet();
+        throw new WebApplicationException(
+            Response.status(deadline.isCancelled()
+                                ? Response.Status.SERVICE_UNAVAILABLE
+                                : Response.Status.GATEWAY_TIMEOUT).build());
+      }
+    }
+    return task.execute();
+  }
+
+  @Override
+  public AccessToken authorizeProlongedOperation() {
+    return (this.authorizing) ? new AccessToken() : null;
+  }
+
+  @Override
+  public void concludeProlongedOperation(AccessToken token) {
+    // do nothing
+  }
+
+  @Override
+  public Set<String> getDataSources(String... expectedDataSources) {
+    return Collections.unmodifiableSet(this.dataSources);
+  }
+
+  @Override
+  public String getAttributeClassForFeature(String featureType) {
+    return null;
+  }
+
+  @Override
+  public boolean isReadOnly() {
+    return false;
+  }
+
+  @Override
+  public boolean isAdminEnabled() {
+    return false;
+  }
+
+  @Override
+  public BulkLoadJobManager getBulkLoadJobManager() {
+    return this.bulkLoadJobManager;
+  }
+
+  @Override
+  public File getBulkLoadCheckpointDirectory() {
+    return this.checkpointDirectory;
+  }
+
+  @Override
+  public LoadThrottle getLoadThrottle() {
+    return this.loadThrottle;
+  }
+
+  @Override
+  public RecordHashStore getRecordHashStore() {
+    return this.recordHashStore;
+  }
+
+  @Override
+  public boolean hasInfoSink() {
+    return this.publishingInfo;
+  }
+
+  @Override
+  public SzMessageSink acquireInfoSink() {
+    if (!this.publishingInfo) return null;
+    return new SzMessageSink() {
+      @Override
+      public void send(SzMessage message, FailureHandler onFailure) {
+        publishedInfo.add(message.getBody());
+      }
+
+      @Override
+      public String getProviderType() {
+        return "STUB";
+      }
+
+      @Override
+      public Integer getMessageCount() {
+        return publishedInfo.size();
+      }
+    };
+  }
+
+  @Override
+  public void releaseInfoSink(SzMessageSink sink) {
+    // do nothing
+  }
+}
@@ -4,6 +4,7 @@ import com.senzing.api.model.*;
 import com.senzing.gen.api.invoker.ApiClient;
 import com.senzing.gen.api.services.EntityDataApi;
 import com.senzing.repomgr.RepositoryManager;
+import com.senzing.util.JsonUtilities;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -16,10 +17,17 @@ import org.junit.jupiter.params.provider.MethodSource;
 
 import javax.json.Json;
 import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
 import javax.json.JsonObjectBuilder;
 import javax.ws.rs.BadRequestException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 import java.util.*;
@@ -28,6 +36,7 @@ import static com.senzing.api.model.SzDetailLevel.*;
 import static com.senzing.api.model.SzFeatureMode.*;
 import static com.senzing.api.model.SzHttpMethod.GET;
 import static com.senzing.api.services.ResponseValidators.*;
+import static com.senzing.io.IOUtilities.UTF_8;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.TestInstance.Lifecycle;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
@@ -2595,4 +2604,111 @@ public class WhyServicesTest extends AbstractServiceTest {
                       + ") from why key (" + whyKey + "): " + testInfo);
     }
   }
+
+  @Test
+  public void whyBatchTest() {
+    this.performTest(() -> {
+      String uriText = this.formatServerUri("why/batch");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText);
+
+      String body = "{\"entities\":[" + ABC123 + "," + DEF456 + ","
+          + GHI789 + "]}";
+
+      Response response = this.whyServices.whyBatch(
+          false, null, false, VERBOSE, WITH_DUPLICATES, true, true, false,
+          uriInfo, body);
+
+      Set<Long> entityIds = new HashSet<>();
+      List<JsonObject> results = new LinkedList<>();
+      for (JsonObject jsonObject : this.readBatchLines(response)) {
+        JsonObject entity = JsonUtilities.getJsonObject(jsonObject, "entity");
+        if (entity != null) {
+          Long entityId = JsonUtilities.getLong(
+              JsonUtilities.getJsonObject(entity, "resolvedEntity"),
+              "entityId");
+          assertTrue(entityIds.add(entityId),
+                     "Entity sent more than once: " + entityId);
+          continue;
+        }
+        JsonObject why = JsonUtilities.getJsonObject(jsonObject, "why");
+        assertNotNull(why, "Unexpected line in why batch: " + jsonObject);
+        results.add(why);
+      }
+
+      assertEquals(3, results.size(), "Unexpected number of results: "
+          + results);
+      for (JsonObject why : results) {
+        assertNull(JsonUtilities.getString(why, "error"),
+                   "Unexpected error for pair: " + why);
+        JsonObject result = JsonUtilities.getJsonObject(why, "result");
+        assertNotNull(result, "Missing why result: " + why);
+        JsonObject matchInfo = JsonUtilities.getJsonObject(result, "matchInfo");
+        assertNotNull(matchInfo, "Missing match info: " + why);
+      }
+      assertTrue(entityIds.size() > 0, "No entities were sent");
+    });
+  }
+
+  @Test
+  public void whyBatchSummaryTest() {
+    this.performTest(() -> {
+      String uriText = this.formatServerUri("why/batch?summaryOnly=true");
+      MultivaluedMap<String, String> queryParams = new MultivaluedHashMap<>();
+      queryParams.add("summaryOnly", "true");
+      UriInfo uriInfo = this.newProxyUriInfo(uriText, queryParams);
+
+      SzRecordId missing = SzRecordId.FACTORY.create(PASSENGERS,
+                                                     "DOES_NOT_EXIST");
+      String body = "{\"pairs\":[[" + ABC123 + "," + DEF456 + "],["
+          + ABC123 + "," + missing + "],[" + ABC123 + "," + DEF456 + "]]}";
+
+      Response response = this.whyServices.whyBatch(
+          true, null, false, VERBOSE, WITH_DUPLICATES, true, true, false,
+          uriInfo, body);
+
+      List<JsonObject> lines = this.readBatchLines(response);
+      assertEquals(2, lines.size(), "Unexpected number of lines: " + lines);
+
+      int errorCount = 0;
+      for (JsonObject jsonObject : lines) {
+        JsonObject why = JsonUtilities.getJsonObject(jsonObject, "why");
+        assertNotNull(why, "Unexpected line in why batch: " + jsonObject);
+        assertNull(JsonUtilities.getJsonObject(why, "result"),
+                   "Unexpected full why result in summary: " + why);
+        if (JsonUtilities.getString(why, "error") != null) {
+          errorCount++;
+          continue;
+        }
+        assertNotNull(JsonUtilities.getLong(why, "entityId1"),
+                      "Missing first entity ID: " + why);
+        assertNotNull(JsonUtilities.getLong(why, "entityId2"),
+                      "Missing second entity ID: " + why);
+        assertNotNull(JsonUtilities.getString(why, "matchLevel"),
+                      "Missing match level: " + why);
+        assertNotNull(JsonUtilities.getJsonObject(why, "bestScores"),
+                      "Missing best scores: " + why);
+      }
+      assertEquals(1, errorCount, "Unexpected number of errors: " + lines);
+    });
+  }
+
+  private List<JsonObject> readBatchLines(Response response) {
+    assertEquals(200, response.getStatus(),
+                 "Unexpected status for why batch");
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try {
+      ((StreamingOutput) response.getEntity()).write(baos);
+    } catch (IOException e) {
+      fail("Failed to stream the why batch", e);
+    }
+
+    List<JsonObject> lines = new LinkedList<>();
+    String batchText = new String(baos.toByteArray(), UTF_8);
+    for (String line : batchText.split("\n")) {
+      if (line.trim().length() == 0) continue;
+      lines.add(JsonUtilities.parseJsonObject(line));
+    }
+    return lines;
+  }
 }